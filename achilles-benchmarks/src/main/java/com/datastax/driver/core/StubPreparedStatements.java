@@ -0,0 +1,49 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.driver.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.cassandra.cql3.ColumnIdentifier;
+import org.apache.cassandra.cql3.ColumnSpecification;
+import org.apache.cassandra.db.marshal.AbstractType;
+import org.apache.cassandra.transport.messages.ResultMessage;
+import org.apache.cassandra.utils.MD5Digest;
+
+/**
+ * Builds driver prepared statements without a Cassandra connection. The driver
+ * only creates them from the response to a PREPARE request, this class lives
+ * in the driver package to reach its package-private factory
+ */
+public class StubPreparedStatements {
+
+	public static PreparedStatement preparedStatement(String keyspace, String table, String query,
+			Map<String, AbstractType<?>> variableTypes) {
+		List<ColumnSpecification> variables = new ArrayList<ColumnSpecification>();
+		for (Entry<String, AbstractType<?>> entry : variableTypes.entrySet()) {
+			variables.add(new ColumnSpecification(keyspace, table, new ColumnIdentifier(entry.getKey(), true), entry
+					.getValue()));
+		}
+		ResultMessage.Prepared prepared = new ResultMessage.Prepared(MD5Digest.compute(query), variables);
+
+		// No table metadata, the statements have no routing key
+		return PreparedStatement.fromMessage(prepared, new Metadata(null), query, keyspace);
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.driver.core;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.cassandra.cql3.ColumnIdentifier;
+import org.apache.cassandra.cql3.ColumnSpecification;
+import org.apache.cassandra.db.marshal.AbstractType;
+
+/**
+ * Builds driver rows without a Cassandra connection. The driver only creates
+ * rows from network responses, this class lives in the driver package to reach
+ * its package-private factories
+ */
+public class StubRows {
+
+	public static ColumnDefinitions columnDefinitions(String keyspace, String table,
+			Map<String, AbstractType<?>> columnTypes) {
+		ColumnDefinitions.Definition[] definitions = new ColumnDefinitions.Definition[columnTypes.size()];
+		int i = 0;
+		for (Entry<String, AbstractType<?>> entry : columnTypes.entrySet()) {
+			ColumnSpecification spec = new ColumnSpecification(keyspace, table, new ColumnIdentifier(entry.getKey(),
+					true), entry.getValue());
+			definitions[i++] = ColumnDefinitions.Definition.fromTransportSpecification(spec);
+		}
+		return new ColumnDefinitions(definitions);
+	}
+
+	public static Row row(ColumnDefinitions columnDefinitions, List<ByteBuffer> values) {
+		return Row.fromData(columnDefinitions, values);
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import info.archinnov.achilles.benchmarks.entity.Address;
+import info.archinnov.achilles.benchmarks.entity.ClusteredBean;
+import info.archinnov.achilles.benchmarks.entity.ClusteredKey;
+import info.archinnov.achilles.benchmarks.entity.CollectionsBean;
+import info.archinnov.achilles.benchmarks.entity.Status;
+import info.archinnov.achilles.benchmarks.entity.WideBean;
+import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.CQLConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.parsing.EntityParser;
+import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
+import info.archinnov.achilles.json.DefaultObjectMapperFactory;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Entity metadata and sample entities shared by the benchmarks. Metadata is
+ * parsed by the regular EntityParser so the benchmarks run against the same
+ * property metas as a bootstrapped PersistenceManagerFactory
+ */
+public class BenchmarkEntities {
+
+	private static final EntityParser parser = new EntityParser();
+
+	public static ConfigurationContext configurationContext(Impl impl) {
+		Map<String, ConsistencyLevel> readLevels = new HashMap<String, ConsistencyLevel>();
+		Map<String, ConsistencyLevel> writeLevels = new HashMap<String, ConsistencyLevel>();
+		AchillesConsistencyLevelPolicy policy;
+		if (impl == Impl.THRIFT) {
+			policy = new ThriftConsistencyLevelPolicy(ConsistencyLevel.ONE, ConsistencyLevel.ONE, readLevels,
+					writeLevels);
+		} else {
+			policy = new CQLConsistencyLevelPolicy(ConsistencyLevel.ONE, ConsistencyLevel.ONE, readLevels,
+					writeLevels);
+		}
+
+		ConfigurationContext configContext = new ConfigurationContext();
+		configContext.setImpl(impl);
+		configContext.setConsistencyPolicy(policy);
+		configContext.setObjectMapperFactory(new DefaultObjectMapperFactory());
+		configContext.setInsertStrategy(InsertStrategy.ALL_FIELDS);
+		return configContext;
+	}
+
+	public static EntityMeta parse(ConfigurationContext configContext, Class<?> entityClass) {
+		return parser.parseEntity(new EntityParsingContext(configContext, entityClass));
+	}
+
+	public static WideBean wideBean() {
+		WideBean bean = new WideBean();
+		bean.setId(123456789L);
+		bean.setName("John DOO");
+		bean.setLabel("regular customer");
+		bean.setDescription("Customer account opened at the Paris branch, eligible for the premium offers");
+		bean.setEmail("john.doo@example.com");
+		bean.setVersion(42L);
+		bean.setAge(35);
+		bean.setScore(98.5);
+		bean.setRatio(0.75f);
+		bean.setActive(true);
+		bean.setExternalId(new UUID(0x1234567890abcdefL, 0xfedcba0987654321L));
+		bean.setCreated(new Date(1356998400000L));
+		bean.setUpdated(new Date(1372636800000L));
+		bean.setBalance(new BigDecimal("1234.56"));
+		bean.setStatus(Status.ACTIVE);
+		bean.setAddress(new Address("10 rue de Rivoli", "Paris", 75004));
+		return bean;
+	}
+
+	public static CollectionsBean collectionsBean() {
+		CollectionsBean bean = new CollectionsBean();
+		bean.setId(123456789L);
+		bean.setName("John DOO");
+
+		List<String> tags = new ArrayList<String>();
+		List<Address> addresses = new ArrayList<Address>();
+		Set<String> labels = new HashSet<String>();
+		Map<Integer, String> preferences = new HashMap<Integer, String>();
+		Map<String, Address> addressesByType = new HashMap<String, Address>();
+		for (int i = 0; i < 10; i++) {
+			tags.add("tag" + i);
+			labels.add("label" + i);
+			preferences.put(i, "preference" + i);
+		}
+		for (int i = 0; i < 3; i++) {
+			Address address = new Address(i + " avenue des Champs-Elysees", "Paris", 75008);
+			addresses.add(address);
+			addressesByType.put("type" + i, address);
+		}
+
+		bean.setTags(tags);
+		bean.setAddresses(addresses);
+		bean.setLabels(labels);
+		bean.setStatuses(new HashSet<Status>(Arrays.asList(Status.ACTIVE, Status.SUSPENDED)));
+		bean.setPreferences(preferences);
+		bean.setAddressesByType(addressesByType);
+		return bean;
+	}
+
+	public static ClusteredBean clusteredBean() {
+		ClusteredBean bean = new ClusteredBean();
+		bean.setId(new ClusteredKey(123456789L, "purchase", 12, new UUID(0x1234567890abcdefL, 0xfedcba0987654321L)));
+		bean.setValue("order #3456 shipped to the Paris branch");
+		return bean;
+	}
+}
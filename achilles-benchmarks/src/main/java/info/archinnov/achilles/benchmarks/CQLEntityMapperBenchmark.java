@@ -0,0 +1,73 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.benchmarks.BenchmarkEntities.*;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastax.driver.core.Row;
+
+/**
+ * Mapping of an eager SELECT row to an entity, including the driver
+ * deserialization of the columns
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CQLEntityMapperBenchmark {
+
+	@Param({ "WIDE", "COLLECTIONS", "CLUSTERED" })
+	public String shape;
+
+	private CQLEntityMapper mapper = new CQLEntityMapper();
+	private EntityMeta meta;
+	private Row row;
+	private Object entity;
+
+	@Setup
+	public void setUp() {
+		EntityShape entityShape = EntityShape.valueOf(shape);
+		meta = parse(configurationContext(Impl.CQL), entityShape.getEntityClass());
+		row = CQLRowFactory.eagerRow(CQLRowFactory.eagerColumnDefinitions(meta), meta, entityShape.newEntity());
+		entity = meta.instanciate();
+	}
+
+	@Benchmark
+	public Object setEagerPropertiesToEntity() {
+		mapper.setEagerPropertiesToEntity(row, meta, entity);
+		return entity;
+	}
+}
@@ -0,0 +1,165 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.cql.CQLTypeMapper.toCompatibleJavaType;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.cassandra.db.marshal.AbstractType;
+import org.apache.cassandra.db.marshal.BooleanType;
+import org.apache.cassandra.db.marshal.BytesType;
+import org.apache.cassandra.db.marshal.DateType;
+import org.apache.cassandra.db.marshal.DecimalType;
+import org.apache.cassandra.db.marshal.DoubleType;
+import org.apache.cassandra.db.marshal.FloatType;
+import org.apache.cassandra.db.marshal.InetAddressType;
+import org.apache.cassandra.db.marshal.Int32Type;
+import org.apache.cassandra.db.marshal.IntegerType;
+import org.apache.cassandra.db.marshal.ListType;
+import org.apache.cassandra.db.marshal.LongType;
+import org.apache.cassandra.db.marshal.MapType;
+import org.apache.cassandra.db.marshal.SetType;
+import org.apache.cassandra.db.marshal.UTF8Type;
+import org.apache.cassandra.db.marshal.UUIDType;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.StubRows;
+
+/**
+ * Builds the CQL row the eager SELECT of an entity would return. Values are
+ * encoded by the property metas then serialized like the native protocol does,
+ * so reading the row goes through the real driver deserialization
+ */
+public class CQLRowFactory {
+
+	static final String KEYSPACE = "achilles_benchmarks";
+
+	private static final Map<Class<?>, AbstractType<?>> cassandraTypes = new HashMap<Class<?>, AbstractType<?>>();
+
+	static {
+		cassandraTypes.put(String.class, UTF8Type.instance);
+		cassandraTypes.put(Long.class, LongType.instance);
+		cassandraTypes.put(Integer.class, Int32Type.instance);
+		cassandraTypes.put(Double.class, DoubleType.instance);
+		cassandraTypes.put(Float.class, FloatType.instance);
+		cassandraTypes.put(Boolean.class, BooleanType.instance);
+		cassandraTypes.put(UUID.class, UUIDType.instance);
+		cassandraTypes.put(Date.class, DateType.instance);
+		cassandraTypes.put(BigDecimal.class, DecimalType.instance);
+		cassandraTypes.put(BigInteger.class, IntegerType.instance);
+		cassandraTypes.put(InetAddress.class, InetAddressType.instance);
+		cassandraTypes.put(ByteBuffer.class, BytesType.instance);
+	}
+
+	/**
+	 * Column definitions of the eager SELECT, to be shared by all the rows
+	 * built for the entity like in a real result set
+	 */
+	public static ColumnDefinitions eagerColumnDefinitions(EntityMeta meta) {
+		Map<String, AbstractType<?>> columnTypes = new LinkedHashMap<String, AbstractType<?>>();
+		for (PropertyMeta pm : meta.getEagerMetas()) {
+			putColumnTypes(columnTypes, pm);
+		}
+		return StubRows.columnDefinitions(KEYSPACE, meta.getTableName(), columnTypes);
+	}
+
+	/**
+	 * Cassandra types of the columns mapped by the property, one per
+	 * component for an embedded id
+	 */
+	static void putColumnTypes(Map<String, AbstractType<?>> columnTypes, PropertyMeta pm) {
+		if (pm.isEmbeddedId()) {
+			List<String> componentNames = pm.getComponentNames();
+			List<Class<?>> componentClasses = pm.getComponentClasses();
+			for (int i = 0; i < componentNames.size(); i++) {
+				columnTypes.put(componentNames.get(i), typeFor(componentClasses.get(i)));
+			}
+		} else {
+			columnTypes.put(pm.getPropertyName(), typeFor(pm));
+		}
+	}
+
+	public static Row eagerRow(ColumnDefinitions columnDefinitions, EntityMeta meta, Object entity) {
+		List<ByteBuffer> values = new ArrayList<ByteBuffer>();
+		for (PropertyMeta pm : meta.getEagerMetas()) {
+			if (pm.isEmbeddedId()) {
+				List<Object> components = pm.encodeToComponents(pm.getValueFromField(entity));
+				List<Class<?>> componentClasses = pm.getComponentClasses();
+				for (int i = 0; i < components.size(); i++) {
+					values.add(serialize(typeFor(componentClasses.get(i)), components.get(i)));
+				}
+			} else {
+				values.add(serialize(typeFor(pm), encode(pm, pm.getValueFromField(entity))));
+			}
+		}
+		return StubRows.row(columnDefinitions, values);
+	}
+
+	private static Object encode(PropertyMeta pm, Object value) {
+		if (value == null) {
+			return null;
+		}
+		switch (pm.type()) {
+		case LIST:
+			return pm.encode((List<?>) value);
+		case SET:
+			return pm.encode((Set<?>) value);
+		case MAP:
+			return pm.encode((Map<?, ?>) value);
+		default:
+			return pm.encode(value);
+		}
+	}
+
+	private static AbstractType<?> typeFor(PropertyMeta pm) {
+		switch (pm.type()) {
+		case LIST:
+			return ListType.getInstance(typeFor(pm.getCassandraValueClass()));
+		case SET:
+			return SetType.getInstance(typeFor(pm.getCassandraValueClass()));
+		case MAP:
+			return MapType.getInstance(typeFor(pm.getCassandraKeyClass()), typeFor(pm.getCassandraValueClass()));
+		default:
+			return typeFor(pm.getCassandraValueClass());
+		}
+	}
+
+	private static AbstractType<?> typeFor(Class<?> valueClass) {
+		// Enums and custom objects are stored as text
+		return cassandraTypes.get(toCompatibleJavaType(valueClass));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer serialize(AbstractType<?> type, Object value) {
+		return value == null ? null : ((AbstractType<Object>) type).decompose(value);
+	}
+}
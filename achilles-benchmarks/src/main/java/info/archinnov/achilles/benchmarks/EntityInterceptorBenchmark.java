@@ -0,0 +1,99 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.benchmarks.BenchmarkEntities.*;
+import info.archinnov.achilles.benchmarks.entity.CollectionsBean;
+import info.archinnov.achilles.benchmarks.entity.WideBean;
+import info.archinnov.achilles.context.CQLPersistenceContext;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
+import info.archinnov.achilles.type.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Getter and setter dispatch through the EntityInterceptor of managed
+ * entities. All eager properties are already loaded, no query is issued
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityInterceptorBenchmark {
+
+	private CQLEntityProxifier proxifier = new CQLEntityProxifier();
+	private WideBean wideProxy;
+	private CollectionsBean collectionsProxy;
+
+	@Setup
+	public void setUp() {
+		ConfigurationContext configContext = configurationContext(Impl.CQL);
+		wideProxy = buildProxy(configContext, wideBean());
+		collectionsProxy = buildProxy(configContext, collectionsBean());
+	}
+
+	@Benchmark
+	public Long getPrimaryKey() {
+		return wideProxy.getId();
+	}
+
+	@Benchmark
+	public String getSimpleProperty() {
+		return wideProxy.getName();
+	}
+
+	@Benchmark
+	public WideBean setSimpleProperty() {
+		wideProxy.setName("Jane DOO");
+		return wideProxy;
+	}
+
+	@Benchmark
+	public List<String> getListProperty() {
+		return collectionsProxy.getTags();
+	}
+
+	@Benchmark
+	public Map<Integer, String> getMapProperty() {
+		return collectionsProxy.getPreferences();
+	}
+
+	private <T> T buildProxy(ConfigurationContext configContext, T entity) {
+		EntityMeta meta = parse(configContext, entity.getClass());
+		CQLPersistenceContext context = new CQLPersistenceContext(meta, configContext, null, null, entity,
+				OptionsBuilder.noOptions());
+		return proxifier.buildProxy(entity, context);
+	}
+}
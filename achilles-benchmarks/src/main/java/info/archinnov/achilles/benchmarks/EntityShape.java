@@ -0,0 +1,57 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import info.archinnov.achilles.benchmarks.entity.ClusteredBean;
+import info.archinnov.achilles.benchmarks.entity.CollectionsBean;
+import info.archinnov.achilles.benchmarks.entity.WideBean;
+
+/**
+ * Representative entity shapes, used as benchmark parameter
+ */
+public enum EntityShape {
+	WIDE(WideBean.class) {
+		@Override
+		public Object newEntity() {
+			return BenchmarkEntities.wideBean();
+		}
+	},
+	COLLECTIONS(CollectionsBean.class) {
+		@Override
+		public Object newEntity() {
+			return BenchmarkEntities.collectionsBean();
+		}
+	},
+	CLUSTERED(ClusteredBean.class) {
+		@Override
+		public Object newEntity() {
+			return BenchmarkEntities.clusteredBean();
+		}
+	};
+
+	private final Class<?> entityClass;
+
+	private EntityShape(Class<?> entityClass) {
+		this.entityClass = entityClass;
+	}
+
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+
+	public abstract Object newEntity();
+}
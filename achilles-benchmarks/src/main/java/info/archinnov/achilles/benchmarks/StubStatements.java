@@ -0,0 +1,58 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.benchmarks.CQLRowFactory.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.cassandra.db.marshal.AbstractType;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.StubPreparedStatements;
+
+/**
+ * Builds real driver prepared statements whose variables match the values
+ * bound by CQLPreparedStatementBinder, so that binding goes through the driver
+ * type checks and serialization like it does against a live Session
+ */
+public class StubStatements {
+
+	public static PreparedStatement insertStatement(EntityMeta meta, List<PropertyMeta> pms) {
+		Map<String, AbstractType<?>> variableTypes = new LinkedHashMap<String, AbstractType<?>>();
+		putColumnTypes(variableTypes, meta.getIdMeta());
+		for (PropertyMeta pm : pms) {
+			putColumnTypes(variableTypes, pm);
+		}
+		return StubPreparedStatements.preparedStatement(KEYSPACE, meta.getTableName(),
+				"INSERT INTO " + meta.getTableName(), variableTypes);
+	}
+
+	public static PreparedStatement updateStatement(EntityMeta meta, List<PropertyMeta> pms) {
+		Map<String, AbstractType<?>> variableTypes = new LinkedHashMap<String, AbstractType<?>>();
+		for (PropertyMeta pm : pms) {
+			putColumnTypes(variableTypes, pm);
+		}
+		putColumnTypes(variableTypes, meta.getIdMeta());
+		return StubPreparedStatements.preparedStatement(KEYSPACE, meta.getTableName(),
+				"UPDATE " + meta.getTableName(), variableTypes);
+	}
+}
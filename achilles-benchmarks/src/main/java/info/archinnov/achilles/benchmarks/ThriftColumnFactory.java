@@ -0,0 +1,84 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.COMPOSITE_SRZ;
+import info.archinnov.achilles.composite.ThriftCompositeFactory;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
+
+/**
+ * Builds the columns the eager slice of an entity row would return, named and
+ * encoded like ThriftPersisterImpl writes them. Column names go through a
+ * serialization round trip so they are decoded lazily like Hector results
+ */
+public class ThriftColumnFactory {
+
+	private static final ThriftCompositeFactory compositeFactory = new ThriftCompositeFactory();
+
+	public static List<Pair<Composite, String>> eagerColumns(EntityMeta meta, Object entity) {
+		List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+		for (PropertyMeta pm : meta.getEagerMetas()) {
+			Object value = pm.getValueFromField(entity);
+			if (value == null) {
+				continue;
+			}
+			switch (pm.type()) {
+			case SIMPLE:
+				columns.add(column(compositeFactory.createForBatchInsertSingleValue(pm), pm.forceEncodeToJSON(value)));
+				break;
+			case LIST:
+				int position = 0;
+				for (Object element : (List<?>) value) {
+					columns.add(column(compositeFactory.createForBatchInsertList(pm, position++),
+							pm.forceEncodeToJSON(element)));
+				}
+				break;
+			case SET:
+				for (Object element : (Set<?>) value) {
+					columns.add(column(compositeFactory.createForBatchInsertSetOrMap(pm, pm.forceEncodeToJSON(element)),
+							""));
+				}
+				break;
+			case MAP:
+				for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					columns.add(column(
+							compositeFactory.createForBatchInsertSetOrMap(pm, pm.forceEncodeToJSON(entry.getKey())),
+							pm.forceEncodeToJSON(entry.getValue())));
+				}
+				break;
+			default:
+				break;
+			}
+		}
+		return columns;
+	}
+
+	private static Pair<Composite, String> column(Composite name, String value) {
+		return Pair.create(COMPOSITE_SRZ.fromByteBuffer(COMPOSITE_SRZ.toByteBuffer(name)), value);
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.benchmarks.BenchmarkEntities.*;
+import info.archinnov.achilles.benchmarks.entity.ClusteredBean;
+import info.archinnov.achilles.benchmarks.entity.ClusteredKey;
+import info.archinnov.achilles.benchmarks.entity.CollectionsBean;
+import info.archinnov.achilles.benchmarks.entity.WideBean;
+import info.archinnov.achilles.composite.ThriftCompositeFactory;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.BoundingMode;
+import info.archinnov.achilles.type.OrderingMode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Composite column names built for writes, reads and slice queries
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThriftCompositeFactoryBenchmark {
+
+	private ThriftCompositeFactory factory = new ThriftCompositeFactory();
+
+	private PropertyMeta idMeta;
+	private PropertyMeta nameMeta;
+	private PropertyMeta tagsMeta;
+	private PropertyMeta labelsMeta;
+	private PropertyMeta embeddedIdMeta;
+
+	private ClusteredKey clusteredKey;
+	private List<Object> clusteringFrom;
+	private List<Object> clusteringTo;
+
+	@Setup
+	public void setUp() {
+		ConfigurationContext configContext = configurationContext(Impl.THRIFT);
+		EntityMeta wideMeta = parse(configContext, WideBean.class);
+		EntityMeta collectionsMeta = parse(configContext, CollectionsBean.class);
+		EntityMeta clusteredMeta = parse(configContext, ClusteredBean.class);
+
+		idMeta = wideMeta.getIdMeta();
+		nameMeta = wideMeta.getPropertyMetas().get("name");
+		tagsMeta = collectionsMeta.getPropertyMetas().get("tags");
+		labelsMeta = collectionsMeta.getPropertyMetas().get("labels");
+		embeddedIdMeta = clusteredMeta.getIdMeta();
+
+		clusteredKey = clusteredBean().getId();
+		clusteringFrom = embeddedIdMeta.encodeToComponents(Arrays.<Object> asList(clusteredKey.getUserId(),
+				clusteredKey.getCategory(), 10));
+		clusteringTo = embeddedIdMeta.encodeToComponents(Arrays.<Object> asList(clusteredKey.getUserId(),
+				clusteredKey.getCategory(), 20));
+	}
+
+	@Benchmark
+	public Composite createForBatchInsertSingleValue() {
+		return factory.createForBatchInsertSingleValue(nameMeta);
+	}
+
+	@Benchmark
+	public Composite createForBatchInsertList() {
+		return factory.createForBatchInsertList(tagsMeta, 7);
+	}
+
+	@Benchmark
+	public Composite createForBatchInsertSetOrMap() {
+		return factory.createForBatchInsertSetOrMap(labelsMeta, "label7");
+	}
+
+	@Benchmark
+	public Composite createBaseForGet() {
+		return factory.createBaseForGet(nameMeta);
+	}
+
+	@Benchmark
+	public Composite createRowKeyForCounter() {
+		return factory.createRowKeyForCounter(WideBean.class.getCanonicalName(), 123456789L, idMeta);
+	}
+
+	@Benchmark
+	public Composite createBaseForClusteredGet() {
+		return factory.createBaseForClusteredGet(clusteredKey, embeddedIdMeta);
+	}
+
+	@Benchmark
+	public Composite[] createForClusteredQuery() {
+		return factory.createForClusteredQuery(embeddedIdMeta, clusteringFrom, clusteringTo,
+				BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING);
+	}
+}
@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.benchmarks.BenchmarkEntities.*;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.ThriftEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping of the eager columns of an entity row to an entity. Clustered
+ * entities are stored as wide rows in Thrift and are not mapped this way
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThriftEntityMapperBenchmark {
+
+	@Param({ "WIDE", "COLLECTIONS" })
+	public String shape;
+
+	private ThriftEntityMapper mapper = new ThriftEntityMapper();
+	private EntityMeta meta;
+	private Object primaryKey;
+	private List<Pair<Composite, String>> columns;
+	private Object entity;
+
+	@Setup
+	public void setUp() {
+		EntityShape entityShape = EntityShape.valueOf(shape);
+		meta = parse(configurationContext(Impl.THRIFT), entityShape.getEntityClass());
+		Object sample = entityShape.newEntity();
+		primaryKey = meta.getPrimaryKey(sample);
+		columns = ThriftColumnFactory.eagerColumns(meta, sample);
+		entity = meta.instanciate();
+	}
+
+	@Benchmark
+	public Object setEagerPropertiesToEntity() {
+		mapper.setEagerPropertiesToEntity(primaryKey, columns, meta, entity);
+		return entity;
+	}
+}
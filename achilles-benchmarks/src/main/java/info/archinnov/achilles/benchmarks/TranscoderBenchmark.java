@@ -0,0 +1,126 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.benchmarks.BenchmarkEntities.*;
+import info.archinnov.achilles.benchmarks.entity.ClusteredBean;
+import info.archinnov.achilles.benchmarks.entity.CollectionsBean;
+import info.archinnov.achilles.benchmarks.entity.WideBean;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding of property values by the transcoders: JSON
+ * serialization of custom objects and of collections of them, the JSON
+ * encoding of native values used by Thrift, and @EmbeddedId components
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranscoderBenchmark {
+
+	private PropertyMeta addressMeta;
+	private PropertyMeta addressesMeta;
+	private PropertyMeta ageMeta;
+	private PropertyMeta embeddedIdMeta;
+
+	private WideBean wideBean = wideBean();
+	private CollectionsBean collectionsBean = collectionsBean();
+	private ClusteredBean clusteredBean = clusteredBean();
+
+	private Object encodedAddress;
+	private List<?> encodedAddresses;
+	private String encodedAge;
+	private List<Object> encodedComponents;
+
+	@Setup
+	public void setUp() {
+		ConfigurationContext configContext = configurationContext(Impl.CQL);
+		EntityMeta wideMeta = parse(configContext, WideBean.class);
+		EntityMeta collectionsMeta = parse(configContext, CollectionsBean.class);
+		EntityMeta clusteredMeta = parse(configContext, ClusteredBean.class);
+
+		addressMeta = wideMeta.getPropertyMetas().get("address");
+		addressesMeta = collectionsMeta.getPropertyMetas().get("addresses");
+		ageMeta = wideMeta.getPropertyMetas().get("age");
+		embeddedIdMeta = clusteredMeta.getIdMeta();
+
+		encodedAddress = addressMeta.encode(wideBean.getAddress());
+		encodedAddresses = (List<?>) addressesMeta.encode(collectionsBean.getAddresses());
+		encodedAge = ageMeta.forceEncodeToJSON(wideBean.getAge());
+		encodedComponents = embeddedIdMeta.encodeToComponents(clusteredBean.getId());
+	}
+
+	@Benchmark
+	public Object encodeJsonObject() {
+		return addressMeta.encode(wideBean.getAddress());
+	}
+
+	@Benchmark
+	public Object decodeJsonObject() {
+		return addressMeta.decode(encodedAddress);
+	}
+
+	@Benchmark
+	public Object encodeJsonList() {
+		return addressesMeta.encode(collectionsBean.getAddresses());
+	}
+
+	@Benchmark
+	public Object decodeJsonList() {
+		return addressesMeta.decode(encodedAddresses);
+	}
+
+	@Benchmark
+	public String forceEncodeToJSON() {
+		return ageMeta.forceEncodeToJSON(wideBean.getAge());
+	}
+
+	@Benchmark
+	public Object forceDecodeFromJSON() {
+		return ageMeta.forceDecodeFromJSON(encodedAge);
+	}
+
+	@Benchmark
+	public List<Object> encodeToComponents() {
+		return embeddedIdMeta.encodeToComponents(clusteredBean.getId());
+	}
+
+	@Benchmark
+	public Object decodeFromComponents() {
+		return embeddedIdMeta.decodeFromComponents(encodedComponents);
+	}
+}
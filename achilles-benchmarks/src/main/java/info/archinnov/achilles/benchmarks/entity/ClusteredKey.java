@@ -0,0 +1,84 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks.entity;
+
+import info.archinnov.achilles.annotations.Order;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+
+public class ClusteredKey {
+
+	@Order(1)
+	@Column
+	private Long userId;
+
+	@Order(2)
+	@Column
+	private String category;
+
+	@Order(3)
+	@Column
+	private Integer rank;
+
+	@Order(4)
+	@Column
+	private UUID eventId;
+
+	public ClusteredKey() {
+	}
+
+	public ClusteredKey(Long userId, String category, Integer rank, UUID eventId) {
+		this.userId = userId;
+		this.category = category;
+		this.rank = rank;
+		this.eventId = eventId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public void setCategory(String category) {
+		this.category = category;
+	}
+
+	public Integer getRank() {
+		return rank;
+	}
+
+	public void setRank(Integer rank) {
+		this.rank = rank;
+	}
+
+	public UUID getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(UUID eventId) {
+		this.eventId = eventId;
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks.entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Entity with list, set and map columns, of native, enum and JSON serialized
+ * elements
+ */
+@Entity
+public class CollectionsBean {
+
+	@Id
+	private Long id;
+
+	@Column
+	private String name;
+
+	@Column
+	private List<String> tags;
+
+	@Column
+	private List<Address> addresses;
+
+	@Column
+	private Set<String> labels;
+
+	@Column
+	private Set<Status> statuses;
+
+	@Column
+	private Map<Integer, String> preferences;
+
+	@Column
+	private Map<String, Address> addressesByType;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+
+	public List<Address> getAddresses() {
+		return addresses;
+	}
+
+	public void setAddresses(List<Address> addresses) {
+		this.addresses = addresses;
+	}
+
+	public Set<String> getLabels() {
+		return labels;
+	}
+
+	public void setLabels(Set<String> labels) {
+		this.labels = labels;
+	}
+
+	public Set<Status> getStatuses() {
+		return statuses;
+	}
+
+	public void setStatuses(Set<Status> statuses) {
+		this.statuses = statuses;
+	}
+
+	public Map<Integer, String> getPreferences() {
+		return preferences;
+	}
+
+	public void setPreferences(Map<Integer, String> preferences) {
+		this.preferences = preferences;
+	}
+
+	public Map<String, Address> getAddressesByType() {
+		return addressesByType;
+	}
+
+	public void setAddressesByType(Map<String, Address> addressesByType) {
+		this.addressesByType = addressesByType;
+	}
+}
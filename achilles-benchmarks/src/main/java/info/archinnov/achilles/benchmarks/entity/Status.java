@@ -14,8 +14,8 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package info.archinnov.achilles.context.execution;
+package info.archinnov.achilles.benchmarks.entity;
 
-public interface SafeExecutionContext<T> {
-	public T execute();
+public enum Status {
+	ACTIVE, SUSPENDED, CLOSED;
 }
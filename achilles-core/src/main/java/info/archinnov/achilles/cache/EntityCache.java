@@ -0,0 +1,165 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.cache;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Second-level cache of decoded entities, keyed by primary key. Only the eager fields are kept, lazy fields and
+ * counters are still loaded through the proxy. Snapshots are copied on the way in and on the way out, so that
+ * changes made on a returned entity never leak into the cache. Collections are copied, their elements are not.
+ * <br/>
+ * A load that misses the cache reads its generation first and hands it back to {@link #put(Object, Object, long)}.
+ * Every invalidation bumps the generation of the key, so a row read before a concurrent write is never cached
+ * after that write evicted the key. Rows written with a TTL are not cached until their TTL is over.
+ */
+public class EntityCache {
+	private static final Logger log = LoggerFactory.getLogger(EntityCache.class);
+
+	private static final int GENERATION_STRIPES = 1024;
+
+	private final EntityMeta entityMeta;
+	private final Cache<Object, Object> snapshots;
+	private final Cache<Object, Long> ttlDeadlines;
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+	public EntityCache(EntityMeta entityMeta, long maxSize, int ttl) {
+		this.entityMeta = entityMeta;
+		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats();
+		if (ttl > 0) {
+			builder.expireAfterWrite(ttl, TimeUnit.SECONDS);
+		}
+		this.snapshots = builder.build();
+		this.ttlDeadlines = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+	}
+
+	public <T> T get(Object primaryKey) {
+		Object snapshot = snapshots.getIfPresent(primaryKey);
+		if (snapshot == null) {
+			return null;
+		}
+		log.trace("Cache hit for entity {} with primary key {}", entityMeta.getClassName(), primaryKey);
+		return this.<T> copy(snapshot);
+	}
+
+	/**
+	 * Generation of the primary key, to be read before loading the entity and passed to
+	 * {@link #put(Object, Object, long)}
+	 */
+	public long generation(Object primaryKey) {
+		return generations.get(stripe(primaryKey));
+	}
+
+	/**
+	 * Cache the entity, unless the primary key has been invalidated since the given generation was read or the row
+	 * has been written with a TTL which is not over yet
+	 */
+	public void put(Object primaryKey, Object entity, long generation) {
+		if (generation(primaryKey) != generation || isWithinTtl(primaryKey)) {
+			log.trace("Not caching entity {} with primary key {}, it has been written since it was loaded",
+					entityMeta.getClassName(), primaryKey);
+			return;
+		}
+		snapshots.put(primaryKey, copy(entity));
+		if (generation(primaryKey) != generation) {
+			snapshots.invalidate(primaryKey);
+		}
+	}
+
+	public void invalidate(Object primaryKey) {
+		log.trace("Evicting entity {} with primary key {} from cache", entityMeta.getClassName(), primaryKey);
+		generations.incrementAndGet(stripe(primaryKey));
+		snapshots.invalidate(primaryKey);
+	}
+
+	/**
+	 * Invalidate the primary key of a row written with the given TTL, and keep it out of the cache until the TTL is
+	 * over
+	 */
+	public void invalidate(Object primaryKey, int ttl) {
+		ttlDeadlines.put(primaryKey, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttl));
+		invalidate(primaryKey);
+	}
+
+	public void invalidateAll() {
+		for (int i = 0; i < GENERATION_STRIPES; i++) {
+			generations.incrementAndGet(i);
+		}
+		snapshots.invalidateAll();
+	}
+
+	public long size() {
+		return snapshots.size();
+	}
+
+	public CacheStats stats() {
+		return snapshots.stats();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T copy(Object source) {
+		T copy = entityMeta.<T> instanciate();
+		for (PropertyMeta pm : entityMeta.getEagerMetas()) {
+			Object value = pm.getValueFromField(source);
+			if (value == null) {
+				continue;
+			} else if (value instanceof List) {
+				value = new ArrayList<Object>((List<Object>) value);
+			} else if (value instanceof Set) {
+				value = new LinkedHashSet<Object>((Set<Object>) value);
+			} else if (value instanceof Map) {
+				value = new LinkedHashMap<Object, Object>((Map<Object, Object>) value);
+			}
+			pm.setValueToField(copy, value);
+		}
+		return copy;
+	}
+
+	private boolean isWithinTtl(Object primaryKey) {
+		Long deadline = ttlDeadlines.getIfPresent(primaryKey);
+		if (deadline == null) {
+			return false;
+		} else if (deadline > System.currentTimeMillis()) {
+			return true;
+		}
+		ttlDeadlines.invalidate(primaryKey);
+		return false;
+	}
+
+	private int stripe(Object primaryKey) {
+		int hash = primaryKey.hashCode();
+		hash ^= (hash >>> 16);
+		return hash & (GENERATION_STRIPES - 1);
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.codec;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.json.DefaultObjectMapperFactory;
+import info.archinnov.achilles.json.ObjectReaderWriterCache;
+import info.archinnov.achilles.type.BinaryCodec;
+
+import java.nio.ByteBuffer;
+
+import org.codehaus.jackson.map.ObjectMapper;
+
+public class JacksonBinaryCodec implements BinaryCodec {
+
+	private ObjectReaderWriterCache jsonCodecs;
+
+	public JacksonBinaryCodec() {
+		this(new DefaultObjectMapperFactory().getMapper(Object.class));
+	}
+
+	public JacksonBinaryCodec(ObjectMapper objectMapper) {
+		this.jsonCodecs = new ObjectReaderWriterCache(objectMapper);
+	}
+
+	@Override
+	public ByteBuffer encode(Object value, Class<?> sourceType) {
+		try {
+			return ByteBuffer.wrap(jsonCodecs.writerFor(sourceType).writeValueAsBytes(value));
+		} catch (Exception e) {
+			throw new AchillesException("Error while encoding value '" + value + "'", e);
+		}
+	}
+
+	@Override
+	public <T> T decode(ByteBuffer bytes, Class<T> targetType) {
+		try {
+			if (bytes.hasArray()) {
+				return jsonCodecs.readerFor(targetType).<T> readValue(bytes.array(),
+						bytes.arrayOffset() + bytes.position(), bytes.remaining());
+			} else {
+				byte[] array = new byte[bytes.remaining()];
+				bytes.duplicate().get(array);
+				return jsonCodecs.readerFor(targetType).<T> readValue(array);
+			}
+		} catch (Exception e) {
+			throw new AchillesException("Error while decoding bytes to type '" + targetType.getCanonicalName() + "'",
+					e);
+		}
+	}
+}
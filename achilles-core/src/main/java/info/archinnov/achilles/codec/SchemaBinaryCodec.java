@@ -0,0 +1,269 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.codec;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.BinaryCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compact codec for plain beans. The fields of a class (hierarchy included, static and transient fields excluded)
+ * are written in field name order, without any field name or type tag, so both sides must share the same class
+ * definition. Supported field types are primitives and their wrappers, String, enums, Date, UUID, BigInteger,
+ * BigDecimal, byte[] and nested beans built of these types. Beans are written with the schema of their declared type,
+ * so instances of a subclass are rejected rather than losing their extra fields.
+ */
+public class SchemaBinaryCodec implements BinaryCodec {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final ConcurrentMap<Class<?>, Schema> schemas = new ConcurrentHashMap<Class<?>, Schema>();
+
+	@Override
+	public ByteBuffer encode(Object value, Class<?> sourceType) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try {
+			writeBean(new DataOutputStream(bytes), sourceType, value);
+		} catch (AchillesException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new AchillesException("Error while encoding value '" + value + "'", e);
+		}
+		return ByteBuffer.wrap(bytes.toByteArray());
+	}
+
+	@Override
+	public <T> T decode(ByteBuffer bytes, Class<T> targetType) {
+		ByteBuffer buffer = bytes.duplicate();
+		byte[] array = new byte[buffer.remaining()];
+		buffer.get(array);
+		try {
+			return targetType.cast(readBean(new DataInputStream(new ByteArrayInputStream(array)), targetType));
+		} catch (AchillesException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new AchillesException("Error while decoding bytes to type '" + targetType.getCanonicalName() + "'",
+					e);
+		}
+	}
+
+	private void writeBean(DataOutputStream out, Class<?> type, Object bean) throws Exception {
+		if (bean.getClass() != type) {
+			throw new AchillesException("Cannot encode instance of '" + bean.getClass().getCanonicalName()
+					+ "' with the schema of its declared type '" + type.getCanonicalName()
+					+ "', subclasses are not supported by the schema binary codec");
+		}
+		for (Field field : schemaFor(type).fields) {
+			Class<?> fieldType = field.getType();
+			Object value = field.get(bean);
+			if (fieldType.isPrimitive()) {
+				writeValue(out, fieldType, value);
+			} else if (value == null) {
+				out.writeBoolean(false);
+			} else {
+				out.writeBoolean(true);
+				writeValue(out, fieldType, value);
+			}
+		}
+	}
+
+	private Object readBean(DataInputStream in, Class<?> type) throws Exception {
+		Schema schema = schemaFor(type);
+		Object bean = schema.constructor.newInstance();
+		for (Field field : schema.fields) {
+			Class<?> fieldType = field.getType();
+			if (fieldType.isPrimitive() || in.readBoolean()) {
+				field.set(bean, readValue(in, fieldType));
+			}
+		}
+		return bean;
+	}
+
+	private void writeValue(DataOutputStream out, Class<?> type, Object value) throws Exception {
+		if (type == String.class) {
+			writeBytes(out, ((String) value).getBytes(UTF8));
+		} else if (type == int.class || type == Integer.class) {
+			out.writeInt((Integer) value);
+		} else if (type == long.class || type == Long.class) {
+			out.writeLong((Long) value);
+		} else if (type == boolean.class || type == Boolean.class) {
+			out.writeBoolean((Boolean) value);
+		} else if (type == double.class || type == Double.class) {
+			out.writeDouble((Double) value);
+		} else if (type == float.class || type == Float.class) {
+			out.writeFloat((Float) value);
+		} else if (type == short.class || type == Short.class) {
+			out.writeShort((Short) value);
+		} else if (type == byte.class || type == Byte.class) {
+			out.writeByte((Byte) value);
+		} else if (type == char.class || type == Character.class) {
+			out.writeChar((Character) value);
+		} else if (type == byte[].class) {
+			writeBytes(out, (byte[]) value);
+		} else if (type.isEnum()) {
+			writeBytes(out, ((Enum<?>) value).name().getBytes(UTF8));
+		} else if (type == Date.class) {
+			out.writeLong(((Date) value).getTime());
+		} else if (type == UUID.class) {
+			out.writeLong(((UUID) value).getMostSignificantBits());
+			out.writeLong(((UUID) value).getLeastSignificantBits());
+		} else if (type == BigInteger.class) {
+			writeBytes(out, ((BigInteger) value).toByteArray());
+		} else if (type == BigDecimal.class) {
+			out.writeInt(((BigDecimal) value).scale());
+			writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+		} else {
+			writeBean(out, type, value);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object readValue(DataInputStream in, Class<?> type) throws Exception {
+		if (type == String.class) {
+			return new String(readBytes(in), UTF8);
+		} else if (type == int.class || type == Integer.class) {
+			return in.readInt();
+		} else if (type == long.class || type == Long.class) {
+			return in.readLong();
+		} else if (type == boolean.class || type == Boolean.class) {
+			return in.readBoolean();
+		} else if (type == double.class || type == Double.class) {
+			return in.readDouble();
+		} else if (type == float.class || type == Float.class) {
+			return in.readFloat();
+		} else if (type == short.class || type == Short.class) {
+			return in.readShort();
+		} else if (type == byte.class || type == Byte.class) {
+			return in.readByte();
+		} else if (type == char.class || type == Character.class) {
+			return in.readChar();
+		} else if (type == byte[].class) {
+			return readBytes(in);
+		} else if (type.isEnum()) {
+			return Enum.valueOf((Class) type, new String(readBytes(in), UTF8));
+		} else if (type == Date.class) {
+			return new Date(in.readLong());
+		} else if (type == UUID.class) {
+			return new UUID(in.readLong(), in.readLong());
+		} else if (type == BigInteger.class) {
+			return new BigInteger(readBytes(in));
+		} else if (type == BigDecimal.class) {
+			int scale = in.readInt();
+			return new BigDecimal(new BigInteger(readBytes(in)), scale);
+		} else {
+			return readBean(in, type);
+		}
+	}
+
+	private void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		writeLength(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private byte[] readBytes(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	// Lengths are written as variable-length integers, 7 bits per byte
+	private void writeLength(DataOutputStream out, int length) throws IOException {
+		while ((length & ~0x7F) != 0) {
+			out.writeByte((length & 0x7F) | 0x80);
+			length >>>= 7;
+		}
+		out.writeByte(length);
+	}
+
+	private int readLength(DataInputStream in) throws IOException {
+		int length = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = in.readUnsignedByte();
+			length |= (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return length;
+	}
+
+	private Schema schemaFor(Class<?> type) {
+		Schema schema = schemas.get(type);
+		if (schema == null) {
+			schema = new Schema(type);
+			schemas.putIfAbsent(type, schema);
+		}
+		return schema;
+	}
+
+	private static class Schema {
+		private final Constructor<?> constructor;
+		private final List<Field> fields = new ArrayList<Field>();
+
+		private Schema(Class<?> type) {
+			if (type.isInterface() || type.isArray() || Modifier.isAbstract(type.getModifiers())
+					|| type.getName().startsWith("java.")) {
+				throw new AchillesException("Type '" + type.getCanonicalName()
+						+ "' is not supported by the schema binary codec");
+			}
+			try {
+				constructor = type.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			} catch (NoSuchMethodException e) {
+				throw new AchillesException("Type '" + type.getCanonicalName()
+						+ "' should have a default constructor to be decoded by the schema binary codec", e);
+			}
+			for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			Collections.sort(fields, new Comparator<Field>() {
+				@Override
+				public int compare(Field field1, Field field2) {
+					int compare = field1.getName().compareTo(field2.getName());
+					return compare != 0 ? compare : field1.getDeclaringClass().getName()
+							.compareTo(field2.getDeclaringClass().getName());
+				}
+			});
+		}
+	}
+}
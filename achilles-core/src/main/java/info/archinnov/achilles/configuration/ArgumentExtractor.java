@@ -20,14 +20,20 @@ package info.archinnov.achilles.configuration;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 import info.archinnov.achilles.json.DefaultObjectMapperFactory;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.metrics.MetricsListener;
+import info.archinnov.achilles.type.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
+import info.archinnov.achilles.validation.Validator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -53,6 +59,141 @@ public abstract class ArgumentExtractor {
 		}
 	}
 
+	public int initBulkFindChunkSize(Map<String, Object> configurationMap) {
+		Integer chunkSize = DEFAULT_BULK_FIND_CHUNK_SIZE;
+		if (configurationMap.containsKey(BULK_FIND_CHUNK_SIZE_PARAM)) {
+			chunkSize = (Integer) configurationMap.get(BULK_FIND_CHUNK_SIZE_PARAM);
+			Validator.validateTrue(chunkSize != null && chunkSize > 0, "%s property should be strictly positive",
+					BULK_FIND_CHUNK_SIZE_PARAM);
+		}
+		return chunkSize;
+	}
+
+	public Set<String> initCachedEntityClasses(Map<String, Object> configurationMap) {
+		Set<String> cachedClasses = new HashSet<String>();
+		String cachedClassesParameter = (String) configurationMap.get(ENTITY_CACHE_CLASSES_PARAM);
+		if (StringUtils.isNotBlank(cachedClassesParameter)) {
+			for (String className : StringUtils.split(cachedClassesParameter, ",")) {
+				cachedClasses.add(className.trim());
+			}
+		}
+		return cachedClasses;
+	}
+
+	public long initEntityCacheMaxSize(Map<String, Object> configurationMap) {
+		Long maxSize = DEFAULT_ENTITY_CACHE_MAX_SIZE;
+		if (configurationMap.containsKey(ENTITY_CACHE_MAX_SIZE_PARAM)) {
+			Number value = (Number) configurationMap.get(ENTITY_CACHE_MAX_SIZE_PARAM);
+			Validator.validateTrue(value != null && value.longValue() > 0, "%s property should be strictly positive",
+					ENTITY_CACHE_MAX_SIZE_PARAM);
+			maxSize = value.longValue();
+		}
+		return maxSize;
+	}
+
+	public int initEntityCacheTtl(Map<String, Object> configurationMap) {
+		Integer ttl = DEFAULT_ENTITY_CACHE_TTL;
+		if (configurationMap.containsKey(ENTITY_CACHE_TTL_PARAM)) {
+			ttl = (Integer) configurationMap.get(ENTITY_CACHE_TTL_PARAM);
+			Validator.validateTrue(ttl != null && ttl > 0, "%s property should be strictly positive",
+					ENTITY_CACHE_TTL_PARAM);
+		}
+		return ttl;
+	}
+
+	public boolean initCounterCoalescing(Map<String, Object> configurationMap) {
+		Boolean counterCoalescing = (Boolean) configurationMap.get(COUNTER_COALESCING_PARAM);
+		if (counterCoalescing != null) {
+			return counterCoalescing;
+		} else {
+			return false;
+		}
+	}
+
+	public long initCounterCoalescingInterval(Map<String, Object> configurationMap) {
+		Long interval = DEFAULT_COUNTER_COALESCING_INTERVAL;
+		if (configurationMap.containsKey(COUNTER_COALESCING_INTERVAL_PARAM)) {
+			Number value = (Number) configurationMap.get(COUNTER_COALESCING_INTERVAL_PARAM);
+			Validator.validateTrue(value != null && value.longValue() > 0, "%s property should be strictly positive",
+					COUNTER_COALESCING_INTERVAL_PARAM);
+			interval = value.longValue();
+		}
+		return interval;
+	}
+
+	public int initCounterCoalescingThreshold(Map<String, Object> configurationMap) {
+		Integer threshold = DEFAULT_COUNTER_COALESCING_THRESHOLD;
+		if (configurationMap.containsKey(COUNTER_COALESCING_THRESHOLD_PARAM)) {
+			threshold = (Integer) configurationMap.get(COUNTER_COALESCING_THRESHOLD_PARAM);
+			Validator.validateTrue(threshold != null && threshold > 0, "%s property should be strictly positive",
+					COUNTER_COALESCING_THRESHOLD_PARAM);
+		}
+		return threshold;
+	}
+
+	public int initSlicePrefetchDepth(Map<String, Object> configurationMap) {
+		Integer prefetchDepth = DEFAULT_SLICE_PREFETCH_DEPTH;
+		if (configurationMap.containsKey(SLICE_PREFETCH_DEPTH_PARAM)) {
+			prefetchDepth = (Integer) configurationMap.get(SLICE_PREFETCH_DEPTH_PARAM);
+			Validator.validateTrue(prefetchDepth != null && prefetchDepth >= 0, "%s property should be positive",
+					SLICE_PREFETCH_DEPTH_PARAM);
+		}
+		return prefetchDepth;
+	}
+
+	public boolean initMetricsEnabled(Map<String, Object> configurationMap) {
+		Boolean metricsEnabled = (Boolean) configurationMap.get(METRICS_ENABLED_PARAM);
+		if (metricsEnabled != null) {
+			return metricsEnabled;
+		} else {
+			return false;
+		}
+	}
+
+	public String initMetricsJmxDomain(Map<String, Object> configurationMap) {
+		String jmxDomain = (String) configurationMap.get(METRICS_JMX_DOMAIN_PARAM);
+		if (StringUtils.isBlank(jmxDomain)) {
+			return DEFAULT_METRICS_JMX_DOMAIN;
+		}
+		return jmxDomain;
+	}
+
+	public MetricsListener initMetricsListener(Map<String, Object> configurationMap) {
+		Object metricsListener = configurationMap.get(METRICS_LISTENER_PARAM);
+		Validator.validateTrue(metricsListener == null || metricsListener instanceof MetricsListener,
+				"%s property should be an instance of '%s'", METRICS_LISTENER_PARAM,
+				MetricsListener.class.getCanonicalName());
+		return (MetricsListener) metricsListener;
+	}
+
+	public InsertStrategy initInsertStrategy(Map<String, Object> configurationMap) {
+		Object insertStrategy = configurationMap.get(INSERT_STRATEGY_PARAM);
+		if (insertStrategy == null) {
+			return DEFAULT_INSERT_STRATEGY;
+		}
+		InsertStrategy strategy;
+		if (insertStrategy instanceof InsertStrategy) {
+			strategy = (InsertStrategy) insertStrategy;
+		} else {
+			try {
+				strategy = InsertStrategy.valueOf((String) insertStrategy);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("'" + insertStrategy + "' is not a valid Insert Strategy");
+			}
+		}
+		if (strategy == InsertStrategy.INHERIT) {
+			throw new IllegalArgumentException("'" + strategy + "' is not a valid global Insert Strategy");
+		}
+		return strategy;
+	}
+
+	public BinaryCodec initBinaryCodec(Map<String, Object> configurationMap) {
+		Object binaryCodec = configurationMap.get(BINARY_CODEC_PARAM);
+		Validator.validateTrue(binaryCodec == null || binaryCodec instanceof BinaryCodec,
+				"%s property should be an instance of '%s'", BINARY_CODEC_PARAM, BinaryCodec.class.getCanonicalName());
+		return (BinaryCodec) binaryCodec;
+	}
+
 	public ObjectMapperFactory initObjectMapperFactory(Map<String, Object> configurationMap) {
 		ObjectMapperFactory objectMapperFactory = (ObjectMapperFactory) configurationMap
 				.get(OBJECT_MAPPER_FACTORY_PARAM);
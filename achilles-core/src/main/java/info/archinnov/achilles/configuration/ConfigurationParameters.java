@@ -18,6 +18,7 @@
 package info.archinnov.achilles.configuration;
 
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
 public interface ConfigurationParameters {
 	String ENTITY_PACKAGES_PARAM = "achilles.entity.packages";
@@ -32,5 +33,33 @@ public interface ConfigurationParameters {
 
 	String FORCE_CF_CREATION_PARAM = "achilles.ddl.force.column.family.creation";
 
+	String BULK_FIND_CHUNK_SIZE_PARAM = "achilles.bulk.find.chunk.size";
+
+	String INSERT_STRATEGY_PARAM = "achilles.insert.strategy";
+
+	String BINARY_CODEC_PARAM = "achilles.binary.codec";
+
+	String ENTITY_CACHE_CLASSES_PARAM = "achilles.entity.cache.classes";
+	String ENTITY_CACHE_MAX_SIZE_PARAM = "achilles.entity.cache.max.size";
+	String ENTITY_CACHE_TTL_PARAM = "achilles.entity.cache.ttl";
+
+	String COUNTER_COALESCING_PARAM = "achilles.counter.coalescing";
+	String COUNTER_COALESCING_INTERVAL_PARAM = "achilles.counter.coalescing.interval";
+	String COUNTER_COALESCING_THRESHOLD_PARAM = "achilles.counter.coalescing.threshold";
+
+	String SLICE_PREFETCH_DEPTH_PARAM = "achilles.slice.iterator.prefetch.depth";
+
+	String METRICS_ENABLED_PARAM = "achilles.metrics.enabled";
+	String METRICS_JMX_DOMAIN_PARAM = "achilles.metrics.jmx.domain";
+	String METRICS_LISTENER_PARAM = "achilles.metrics.listener";
+
 	ConsistencyLevel DEFAULT_LEVEL = ConsistencyLevel.ONE;
+	int DEFAULT_BULK_FIND_CHUNK_SIZE = 100;
+	InsertStrategy DEFAULT_INSERT_STRATEGY = InsertStrategy.ALL_FIELDS;
+	long DEFAULT_ENTITY_CACHE_MAX_SIZE = 10000;
+	int DEFAULT_ENTITY_CACHE_TTL = 300;
+	long DEFAULT_COUNTER_COALESCING_INTERVAL = 1000;
+	int DEFAULT_COUNTER_COALESCING_THRESHOLD = 10000;
+	int DEFAULT_SLICE_PREFETCH_DEPTH = 0;
+	String DEFAULT_METRICS_JMX_DOMAIN = "info.archinnov.achilles";
 }
@@ -16,8 +16,16 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.metrics.MetricsListener;
+import info.archinnov.achilles.type.BinaryCodec;
+import info.archinnov.achilles.type.InsertStrategy;
+
+import java.util.HashSet;
+import java.util.Set;
 
 public class ConfigurationContext {
 	private boolean forceColumnFamilyCreation;
@@ -26,6 +34,34 @@ public class ConfigurationContext {
 
 	private ObjectMapperFactory objectMapperFactory;
 
+	private int bulkFindChunkSize = DEFAULT_BULK_FIND_CHUNK_SIZE;
+
+	private InsertStrategy insertStrategy = DEFAULT_INSERT_STRATEGY;
+
+	private BinaryCodec binaryCodec;
+
+	private Set<String> cachedEntityClasses = new HashSet<String>();
+
+	private long entityCacheMaxSize = DEFAULT_ENTITY_CACHE_MAX_SIZE;
+
+	private int entityCacheTtl = DEFAULT_ENTITY_CACHE_TTL;
+
+	private boolean counterCoalescing;
+
+	private long counterCoalescingInterval = DEFAULT_COUNTER_COALESCING_INTERVAL;
+
+	private int counterCoalescingThreshold = DEFAULT_COUNTER_COALESCING_THRESHOLD;
+
+	private int slicePrefetchDepth = DEFAULT_SLICE_PREFETCH_DEPTH;
+
+	private boolean metricsEnabled;
+
+	private String metricsJmxDomain = DEFAULT_METRICS_JMX_DOMAIN;
+
+	private MetricsListener metricsListener;
+
+	private AchillesMetrics metrics;
+
 	private Impl impl;
 
 	public boolean isForceColumnFamilyCreation() {
@@ -52,6 +88,121 @@ public class ConfigurationContext {
 		this.objectMapperFactory = objectMapperFactory;
 	}
 
+	public int getBulkFindChunkSize() {
+		return bulkFindChunkSize;
+	}
+
+	public void setBulkFindChunkSize(int bulkFindChunkSize) {
+		this.bulkFindChunkSize = bulkFindChunkSize;
+	}
+
+	public InsertStrategy getInsertStrategy() {
+		return insertStrategy;
+	}
+
+	public void setInsertStrategy(InsertStrategy insertStrategy) {
+		this.insertStrategy = insertStrategy;
+	}
+
+	public BinaryCodec getBinaryCodec() {
+		return binaryCodec;
+	}
+
+	public void setBinaryCodec(BinaryCodec binaryCodec) {
+		this.binaryCodec = binaryCodec;
+	}
+
+	public Set<String> getCachedEntityClasses() {
+		return cachedEntityClasses;
+	}
+
+	public void setCachedEntityClasses(Set<String> cachedEntityClasses) {
+		this.cachedEntityClasses = cachedEntityClasses;
+	}
+
+	public long getEntityCacheMaxSize() {
+		return entityCacheMaxSize;
+	}
+
+	public void setEntityCacheMaxSize(long entityCacheMaxSize) {
+		this.entityCacheMaxSize = entityCacheMaxSize;
+	}
+
+	public int getEntityCacheTtl() {
+		return entityCacheTtl;
+	}
+
+	public void setEntityCacheTtl(int entityCacheTtl) {
+		this.entityCacheTtl = entityCacheTtl;
+	}
+
+	public boolean isCounterCoalescing() {
+		return counterCoalescing;
+	}
+
+	public void setCounterCoalescing(boolean counterCoalescing) {
+		this.counterCoalescing = counterCoalescing;
+	}
+
+	public long getCounterCoalescingInterval() {
+		return counterCoalescingInterval;
+	}
+
+	public void setCounterCoalescingInterval(long counterCoalescingInterval) {
+		this.counterCoalescingInterval = counterCoalescingInterval;
+	}
+
+	public int getCounterCoalescingThreshold() {
+		return counterCoalescingThreshold;
+	}
+
+	public void setCounterCoalescingThreshold(int counterCoalescingThreshold) {
+		this.counterCoalescingThreshold = counterCoalescingThreshold;
+	}
+
+	public int getSlicePrefetchDepth() {
+		return slicePrefetchDepth;
+	}
+
+	public void setSlicePrefetchDepth(int slicePrefetchDepth) {
+		this.slicePrefetchDepth = slicePrefetchDepth;
+	}
+
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	public String getMetricsJmxDomain() {
+		return metricsJmxDomain;
+	}
+
+	public void setMetricsJmxDomain(String metricsJmxDomain) {
+		this.metricsJmxDomain = metricsJmxDomain;
+	}
+
+	public MetricsListener getMetricsListener() {
+		return metricsListener;
+	}
+
+	public void setMetricsListener(MetricsListener metricsListener) {
+		this.metricsListener = metricsListener;
+	}
+
+	/**
+	 * Metrics registry, or null when metrics are disabled
+	 */
+	public AchillesMetrics getMetrics() {
+		return metrics;
+	}
+
+	public void setMetrics(AchillesMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	public Impl getImpl() {
 		return impl;
 	}
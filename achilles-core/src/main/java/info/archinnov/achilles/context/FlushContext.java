@@ -16,10 +16,26 @@
  */
 package info.archinnov.achilles.context;
 
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.Map.Entry;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
 public abstract class FlushContext<T extends FlushContext<T>> {
 
+	protected SetMultimap<EntityCache, Object> pendingEvictions;
+
+	protected FlushContext() {
+		this(HashMultimap.<EntityCache, Object> create());
+	}
+
+	protected FlushContext(SetMultimap<EntityCache, Object> pendingEvictions) {
+		this.pendingEvictions = pendingEvictions;
+	}
+
 	public abstract void startBatch();
 
 	public abstract void flush();
@@ -36,6 +52,23 @@ public abstract class FlushContext<T extends FlushContext<T>> {
 
 	public abstract ConsistencyLevel getConsistencyLevel();
 
+	/**
+	 * Evict the entity again once the pending writes are sent or discarded. In
+	 * batch mode the writes are only sent at the end of the batch, so a find
+	 * in between would put the row back in the cache as it was before the
+	 * batch
+	 */
+	public void evictFromCacheOnFlush(EntityCache entityCache, Object primaryKey) {
+		pendingEvictions.put(entityCache, primaryKey);
+	}
+
+	protected void evictPendingFromCache() {
+		for (Entry<EntityCache, Object> entry : pendingEvictions.entries()) {
+			entry.getKey().invalidate(entry.getValue());
+		}
+		pendingEvictions.clear();
+	}
+
 	public static enum FlushType {
 		IMMEDIATE, BATCH
 	}
@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.context;
 
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.context.FlushContext.FlushType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -27,7 +28,9 @@ import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Optional;
@@ -45,6 +48,8 @@ public abstract class PersistenceContext {
 
 	protected Options options = OptionsBuilder.noOptions();
 	protected boolean loadEagerFields = true;
+	protected Map<String, Long> counterValues = new HashMap<String, Long>();
+	protected Long cacheGeneration;
 
 	private PersistenceContext(EntityMeta entityMeta, ConfigurationContext configContext, FlushContext<?> flushContext,
 			Class<?> entityClass, Options options) {
@@ -110,6 +115,82 @@ public abstract class PersistenceContext {
 		return entities;
 	}
 
+	/**
+	 * Return a copy of the cached entity, or null when the entity is not cached or an explicit consistency level is
+	 * requested
+	 */
+	public <T> T loadFromCache() {
+		if (entityMeta.isCached()) {
+			EntityCache entityCache = entityMeta.getEntityCache();
+			cacheGeneration = entityCache.generation(primaryKey);
+			if (!getConsistencyLevel().isPresent()) {
+				return entityCache.<T> get(primaryKey);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Cache the loaded entity, unless it has been written since {@link #loadFromCache()} was called
+	 */
+	public void putInCache(Object entity) {
+		if (entityMeta.isCached() && cacheGeneration != null) {
+			entityMeta.getEntityCache().put(primaryKey, entity, cacheGeneration);
+		}
+	}
+
+	public void evictFromCache() {
+		if (entityMeta.isCached()) {
+			Optional<Integer> ttlO = getTtt();
+			if (ttlO.isPresent()) {
+				entityMeta.getEntityCache().invalidate(primaryKey, ttlO.get());
+			} else {
+				entityMeta.getEntityCache().invalidate(primaryKey);
+			}
+			if (isBatchMode()) {
+				flushContext.evictFromCacheOnFlush(entityMeta.getEntityCache(), primaryKey);
+			}
+		}
+	}
+
+	/**
+	 * Keep the counter values loaded by a bulk counter read, so that they are
+	 * returned without round trip until the counter or the entity is
+	 * refreshed. Counters missing from the loaded values have never been
+	 * incremented and are kept as null
+	 */
+	public void cacheCounterValues(Map<String, Long> loadedValues) {
+		for (PropertyMeta pm : entityMeta.getAllMetasExceptIdMeta()) {
+			if (pm.isCounter()) {
+				counterValues.put(pm.getPropertyName(), loadedValues.get(pm.getPropertyName()));
+			}
+		}
+	}
+
+	public boolean hasCachedCounterValue(PropertyMeta counterMeta) {
+		return counterValues.containsKey(counterMeta.getPropertyName());
+	}
+
+	public Long getCachedCounterValue(PropertyMeta counterMeta) {
+		return counterValues.get(counterMeta.getPropertyName());
+	}
+
+	public void updateCachedCounterValue(PropertyMeta counterMeta, long delta) {
+		String propertyName = counterMeta.getPropertyName();
+		if (counterValues.containsKey(propertyName)) {
+			Long value = counterValues.get(propertyName);
+			counterValues.put(propertyName, value != null ? value + delta : delta);
+		}
+	}
+
+	public void evictCachedCounterValue(PropertyMeta counterMeta) {
+		counterValues.remove(counterMeta.getPropertyName());
+	}
+
+	public void evictCachedCounterValues() {
+		counterValues.clear();
+	}
+
 	public PropertyMeta getIdMeta() {
 		return entityMeta.getIdMeta();
 	}
@@ -0,0 +1,140 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Predicate;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+/**
+ * Client-side aggregation of counter increments. Deltas are summed per counter cell in a lock-free map and written
+ * as batched counter updates every flush interval, or as soon as the number of pending updates reaches the flush
+ * threshold. Counter writes are not idempotent, so the deltas of a failed flush are dropped rather than retried.
+ * 
+ * @param <K>
+ *            key identifying a counter cell and the consistency level to write it with
+ */
+public abstract class CounterCoalescer<K> {
+	private static final Logger log = LoggerFactory.getLogger(CounterCoalescer.class);
+
+	private final AtomicLongMap<K> pendingDeltas = AtomicLongMap.create();
+	private final AtomicInteger pendingUpdates = new AtomicInteger(0);
+	private final Object flushLock = new Object();
+	private final long flushInterval;
+	private final int flushThreshold;
+	private ScheduledExecutorService scheduler;
+
+	private final Runnable flushTask = new Runnable() {
+		@Override
+		public void run() {
+			try {
+				flush();
+			} catch (RuntimeException e) {
+				log.error("Error while flushing coalesced counter updates", e);
+			}
+		}
+	};
+
+	protected CounterCoalescer(long flushInterval, int flushThreshold) {
+		this.flushInterval = flushInterval;
+		this.flushThreshold = flushThreshold;
+	}
+
+	/**
+	 * Schedule the periodic flush on the given single-threaded scheduler
+	 */
+	public void start(ScheduledExecutorService scheduler) {
+		this.scheduler = scheduler;
+		scheduler.scheduleWithFixedDelay(flushTask, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+	}
+
+	public void add(K key, long delta) {
+		pendingDeltas.addAndGet(key, delta);
+		if (pendingUpdates.incrementAndGet() == flushThreshold) {
+			if (scheduler != null && !scheduler.isShutdown()) {
+				scheduler.execute(flushTask);
+			} else {
+				flush();
+			}
+		}
+	}
+
+	public long getPendingDelta(K key) {
+		return pendingDeltas.get(key);
+	}
+
+	/**
+	 * Drop the pending deltas of the counters matching the filter, so that the deltas of a removed entity are not
+	 * written after its counters are deleted. Waits for a running flush, whose deltas could otherwise land after the
+	 * deletion too
+	 */
+	protected void discardPendingDeltas(Predicate<K> filter) {
+		synchronized (flushLock) {
+			for (K key : pendingDeltas.asMap().keySet()) {
+				if (filter.apply(key)) {
+					pendingDeltas.remove(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drain the pending deltas and write them. Deltas added while the flush is running are kept for the next one
+	 */
+	public void flush() {
+		synchronized (flushLock) {
+			pendingUpdates.set(0);
+			Map<K, Long> deltas = new HashMap<K, Long>();
+			for (K key : pendingDeltas.asMap().keySet()) {
+				long delta = pendingDeltas.remove(key);
+				if (delta != 0L) {
+					deltas.put(key, delta);
+				}
+			}
+
+			if (!deltas.isEmpty()) {
+				log.debug("Flushing {} coalesced counter updates", deltas.size());
+				writeDeltas(deltas);
+			}
+		}
+	}
+
+	/**
+	 * Stop the periodic flush and drain the pending deltas
+	 */
+	public void shutdown() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+			try {
+				scheduler.awaitTermination(flushInterval, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		flush();
+	}
+
+	protected abstract void writeDeltas(Map<K, Long> deltas);
+}
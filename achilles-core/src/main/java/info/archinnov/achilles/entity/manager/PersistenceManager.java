@@ -16,20 +16,29 @@
  */
 package info.archinnov.achilles.entity.manager;
 
+import static info.archinnov.achilles.metrics.OperationType.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityInitializer;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityValidator;
+import info.archinnov.achilles.entity.operations.TableScanExecutor;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.metrics.OperationType;
+import info.archinnov.achilles.query.scan.ScanBuilder;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
 
 public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	protected static final Optional<Integer> NO_TTL = Optional.<Integer> absent();
@@ -48,6 +58,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	protected Map<Class<?>, EntityMeta> entityMetaMap;
 	protected AchillesConsistencyLevelPolicy consistencyPolicy;
 	protected ConfigurationContext configContext;
+	protected AchillesMetrics metrics;
 
 	protected EntityProxifier<CONTEXT> proxifier;
 	protected EntityValidator<CONTEXT> entityValidator;
@@ -58,6 +69,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		this.entityMetaMap = entityMetaMap;
 		this.configContext = configContext;
 		this.consistencyPolicy = configContext.getConsistencyPolicy();
+		this.metrics = configContext.getMetrics();
 	}
 
 	/**
@@ -84,6 +96,16 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		if (log.isDebugEnabled())
 			log.debug("Persisting entity '{}' with options {} ", entity, options);
 
+		long start = startOperation();
+		try {
+			CONTEXT context = initPersistenceContextForPersist(entity, options);
+			context.persist();
+		} finally {
+			stopEntityOperation(entity, PERSIST, start);
+		}
+	}
+
+	protected CONTEXT initPersistenceContextForPersist(Object entity, Options options) {
 		entityValidator.validateEntity(entity, entityMetaMap);
 
 		if (options.getTtl().isPresent()) {
@@ -94,8 +116,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 					"Then entity is already in 'managed' state. Please use the merge() method instead of persist()");
 		}
 
-		CONTEXT context = initPersistenceContext(entity, options);
-		context.persist();
+		return initPersistenceContext(entity, options);
 	}
 
 	/**
@@ -154,13 +175,21 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		if (log.isDebugEnabled()) {
 			log.debug("Merging entity '{}' with options {} ", proxifier.unwrap(entity), options);
 		}
+		long start = startOperation();
+		try {
+			CONTEXT context = initPersistenceContextForMerge(entity, options);
+			return context.<T> merge(entity);
+		} finally {
+			stopEntityOperation(entity, MERGE, start);
+		}
+	}
+
+	protected CONTEXT initPersistenceContextForMerge(Object entity, Options options) {
 		entityValidator.validateEntity(entity, entityMetaMap);
 		if (options.getTtl().isPresent()) {
 			entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
 		}
-		CONTEXT context = initPersistenceContext(entity, options);
-		return context.<T> merge(entity);
-
+		return initPersistenceContext(entity, options);
 	}
 
 	/**
@@ -186,15 +215,16 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	 *            Primary key
 	 */
 	public void removeById(Class<?> entityClass, Object primaryKey) {
-
-		Validator.validateNotNull(entityClass, "The entity class should not be null for removal by id");
-		Validator.validateNotNull(primaryKey, "The primary key should not be null for removal by id");
 		if (log.isDebugEnabled()) {
 			log.debug("Removing entity of type '{}' by its id '{}'", entityClass, primaryKey);
 		}
-		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.noOptions());
-		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
-		context.remove();
+		long start = startOperation();
+		try {
+			CONTEXT context = initPersistenceContextForRemoveById(entityClass, primaryKey, null);
+			context.remove();
+		} finally {
+			stopOperation(entityClass, REMOVE, start);
+		}
 	}
 
 	/**
@@ -209,10 +239,19 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		if (log.isDebugEnabled())
 			log.debug("Removing entity '{}' with write consistency level {}", proxifier.unwrap(entity), writeLevel);
 
+		long start = startOperation();
+		try {
+			CONTEXT context = initPersistenceContextForRemove(entity, writeLevel);
+			context.remove();
+		} finally {
+			stopEntityOperation(entity, REMOVE, start);
+		}
+	}
+
+	protected CONTEXT initPersistenceContextForRemove(Object entity, ConsistencyLevel writeLevel) {
 		entityValidator.validateEntity(entity, entityMetaMap);
 		proxifier.ensureProxy(entity);
-		CONTEXT context = initPersistenceContext(entity, OptionsBuilder.withConsistency(writeLevel));
-		context.remove();
+		return initPersistenceContext(entity, OptionsBuilder.withConsistency(writeLevel));
 	}
 
 	/**
@@ -225,14 +264,25 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	 *            Primary key
 	 */
 	public void removeById(Class<?> entityClass, Object primaryKey, ConsistencyLevel writeLevel) {
-		Validator.validateNotNull(entityClass, "The entity class should not be null for removal by id");
-		Validator.validateNotNull(primaryKey, "The primary key should not be null for removal by id");
 		if (log.isDebugEnabled())
 			log.debug("Removing entity of type '{}' by its id '{}'", entityClass, primaryKey);
 
+		long start = startOperation();
+		try {
+			CONTEXT context = initPersistenceContextForRemoveById(entityClass, primaryKey, writeLevel);
+			context.remove();
+		} finally {
+			stopOperation(entityClass, REMOVE, start);
+		}
+	}
+
+	protected CONTEXT initPersistenceContextForRemoveById(Class<?> entityClass, Object primaryKey,
+			ConsistencyLevel writeLevel) {
+		Validator.validateNotNull(entityClass, "The entity class should not be null for removal by id");
+		Validator.validateNotNull(primaryKey, "The primary key should not be null for removal by id");
 		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(writeLevel));
 		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
-		context.remove();
+		return context;
 	}
 
 	/**
@@ -267,9 +317,106 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 				readLevel);
 		Validator.validateNotNull(entityClass, "Entity class should not be null for find by id");
 		Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by id");
-		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(readLevel));
-		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
-		return context.<T> find(entityClass);
+		long start = startOperation();
+		try {
+			CONTEXT context = initPersistenceContext(entityClass, primaryKey,
+					OptionsBuilder.withConsistency(readLevel));
+			entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+			return context.<T> find(entityClass);
+		} finally {
+			stopOperation(entityClass, FIND, start);
+		}
+	}
+
+	/**
+	 * Find an entity and load the lazy properties of the given fetch groups with one extra query
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKey
+	 *            Primary key (Cassandra row key) of the entity to load
+	 * @param fetchGroup
+	 *            Fetch group declared with @Lazy(group = ...)
+	 * @param otherFetchGroups
+	 *            Other fetch groups to load along
+	 * @param entity
+	 *            Found entity or null if no entity is found
+	 */
+	public <T> T find(Class<T> entityClass, Object primaryKey, String fetchGroup, String... otherFetchGroups) {
+		log.debug("Find entity class '{}' with primary key {} and fetch group {}", entityClass, primaryKey,
+				fetchGroup);
+		T entity = find(entityClass, primaryKey, (ConsistencyLevel) null);
+		if (entity != null) {
+			EntityMeta entityMeta = entityMetaMap.get(entityClass);
+			List<PropertyMeta> groupMetas = new ArrayList<PropertyMeta>();
+			for (String group : Lists.asList(fetchGroup, otherFetchGroups)) {
+				groupMetas.addAll(entityMeta.getFetchGroup(group));
+			}
+			proxifier.getInterceptor(entity).loadProperties(groupMetas);
+		}
+		return entity;
+	}
+
+	/**
+	 * Find a list of entities by their primary keys.
+	 * 
+	 * Entities are fetched by chunks instead of one round trip per primary key
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKeys
+	 *            Primary keys of the entities to load
+	 * @return Found entities, in the order of the primary keys. Primary keys
+	 *         with no entity found are skipped
+	 */
+	public <T> List<T> find(Class<T> entityClass, Collection<?> primaryKeys) {
+		log.debug("Find entities of class '{}' with primary keys {}", entityClass, primaryKeys);
+		return find(entityClass, primaryKeys, null);
+	}
+
+	/**
+	 * Find a list of entities by their primary keys with the given Consistency
+	 * Level for read
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKeys
+	 *            Primary keys of the entities to load
+	 * @param readLevel
+	 *            Consistency Level for read
+	 * @return Found entities, in the order of the primary keys. Primary keys
+	 *         with no entity found are skipped
+	 */
+	public <T> List<T> find(final Class<T> entityClass, Collection<?> primaryKeys, ConsistencyLevel readLevel) {
+		log.debug("Find entities of class '{}' with primary keys {} and read consistency level {}", entityClass,
+				primaryKeys, readLevel);
+		Validator.validateNotNull(entityClass, "Entity class should not be null for find by ids");
+		Validator.validateNotNull(primaryKeys, "Entity primary keys should not be null for find by ids");
+
+		List<CONTEXT> contexts = new ArrayList<CONTEXT>(primaryKeys.size());
+		for (Object primaryKey : primaryKeys) {
+			Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by ids");
+			CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(readLevel));
+			entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+			contexts.add(context);
+		}
+
+		List<T> entities = new ArrayList<T>(contexts.size());
+		long start = startOperation();
+		try {
+			for (List<CONTEXT> chunk : Lists.partition(contexts, configContext.getBulkFindChunkSize())) {
+				List<T> loadedEntities = loadEntities(entityClass, chunk);
+				for (int i = 0; i < chunk.size(); i++) {
+					T entity = loadedEntities.get(i);
+					if (entity != null) {
+						entities.add(proxifier.buildProxy(entity, chunk.get(i)));
+					}
+				}
+			}
+		} finally {
+			stopOperation(entityClass, FIND, start);
+		}
+		return entities;
 	}
 
 	/**
@@ -344,10 +491,82 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		if (log.isDebugEnabled())
 			log.debug("Refreshing entity '{}' with read consistency level {}", proxifier.unwrap(entity), readLevel);
 
-		entityValidator.validateEntity(entity, entityMetaMap);
-		proxifier.ensureProxy(entity);
-		CONTEXT context = initPersistenceContext(entity, OptionsBuilder.withConsistency(readLevel));
-		context.refresh();
+		long start = startOperation();
+		try {
+			entityValidator.validateEntity(entity, entityMetaMap);
+			proxifier.ensureProxy(entity);
+			CONTEXT context = initPersistenceContext(entity, OptionsBuilder.withConsistency(readLevel));
+			context.refresh();
+		} finally {
+			stopEntityOperation(entity, FIND, start);
+		}
+	}
+
+	/**
+	 * Load the values of all the counters of a 'managed' entity with a single
+	 * query. Counter.get() then returns the loaded values without hitting
+	 * Cassandra, until the counter or the entity is refreshed
+	 * 
+	 * @param entity
+	 *            Managed entity
+	 */
+	public void loadCounters(Object entity) {
+		loadCounters(entity, null);
+	}
+
+	/**
+	 * Load the values of all the counters of a 'managed' entity with the given
+	 * Consistency Level for read
+	 * 
+	 * @param entity
+	 *            Managed entity
+	 * @param readLevel
+	 *            Consistency Level for read
+	 */
+	public void loadCounters(Object entity, ConsistencyLevel readLevel) {
+		loadCounters(Arrays.asList(entity), readLevel);
+	}
+
+	/**
+	 * Load the values of all the counters of a list of 'managed' entities.
+	 * 
+	 * Counters are fetched by chunks instead of one round trip per counter
+	 * 
+	 * @param entities
+	 *            Managed entities
+	 */
+	public <T> void loadCounters(List<T> entities) {
+		loadCounters(entities, null);
+	}
+
+	/**
+	 * Load the values of all the counters of a list of 'managed' entities with
+	 * the given Consistency Level for read
+	 * 
+	 * @param entities
+	 *            Managed entities
+	 * @param readLevel
+	 *            Consistency Level for read
+	 */
+	public <T> void loadCounters(List<T> entities, ConsistencyLevel readLevel) {
+		log.debug("Loading counters of entities {} with read consistency level {}", entities, readLevel);
+		Validator.validateNotNull(entities, "Entities should not be null for counters loading");
+
+		List<CONTEXT> contexts = new ArrayList<CONTEXT>(entities.size());
+		for (T entity : entities) {
+			entityValidator.validateEntity(entity, entityMetaMap);
+			proxifier.ensureProxy(entity);
+			contexts.add(proxifier.getInterceptor(entity).getContext());
+		}
+
+		long start = startOperation();
+		try {
+			for (List<CONTEXT> chunk : Lists.partition(contexts, configContext.getBulkFindChunkSize())) {
+				loadCounterValues(chunk, readLevel);
+			}
+		} finally {
+			stopEntityOperation(entities.isEmpty() ? null : entities.get(0), COUNTER, start);
+		}
 	}
 
 	/**
@@ -476,10 +695,65 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	 */
 	public abstract <T> SliceQueryBuilder<CONTEXT, T> sliceQuery(Class<T> entityClass);
 
+	/**
+	 * Create a new full table scan builder for entity of type T<br/>
+	 * <br/>
+	 * 
+	 * The token ring is split into sub-ranges which are scanned in parallel.
+	 * Clustered entities cannot be scanned, use sliceQuery() on each partition
+	 * instead
+	 * 
+	 * @param entityClass
+	 *            Entity class
+	 * @return ScanBuilder<T>
+	 */
+	public <T> ScanBuilder<CONTEXT, T> scan(Class<T> entityClass) {
+		log.debug("Scanning table of entity class '{}'", entityClass);
+		Validator.validateNotNull(entityClass, "Entity class should not be null for scan");
+		EntityMeta meta = entityMetaMap.get(entityClass);
+		Validator.validateNotNull(meta, "Cannot scan entity class '%s' because it is not managed by Achilles",
+				entityClass.getCanonicalName());
+		Validator.validateFalse(meta.isClusteredEntity(),
+				"Cannot scan clustered entity class '%s'. Please use sliceQuery() on each partition instead",
+				entityClass.getCanonicalName());
+		return new ScanBuilder<CONTEXT, T>(getTableScanExecutor(), entityClass, meta);
+	}
+
+	protected abstract TableScanExecutor<CONTEXT> getTableScanExecutor();
+
+	private long startOperation() {
+		return metrics == null ? 0L : metrics.startOperation();
+	}
+
+	private void stopOperation(Class<?> entityClass, OperationType type, long start) {
+		if (metrics != null) {
+			metrics.stopOperation(entityClass, type, start);
+		}
+	}
+
+	private void stopEntityOperation(Object entity, OperationType type, long start) {
+		if (metrics != null) {
+			metrics.stopOperation(entity == null ? null : proxifier.deriveBaseClass(entity), type, start);
+		}
+	}
+
 	protected abstract CONTEXT initPersistenceContext(Object entity, Options options);
 
 	protected abstract CONTEXT initPersistenceContext(Class<?> entityClass, Object primaryKey, Options options);
 
+	/**
+	 * Load raw entities for all the contexts in as few round trips as
+	 * possible. The returned list is aligned with the contexts, with null for
+	 * entities not found
+	 */
+	protected abstract <T> List<T> loadEntities(Class<T> entityClass, List<CONTEXT> contexts);
+
+	/**
+	 * Read the counters of all the contexts in as few round trips as possible
+	 * and cache their values in each context
+	 */
+	protected abstract void loadCounterValues(List<CONTEXT> contexts, ConsistencyLevel readLevel);
+
 	protected Map<Class<?>, EntityMeta> getEntityMetaMap() {
 		return entityMetaMap;
 	}
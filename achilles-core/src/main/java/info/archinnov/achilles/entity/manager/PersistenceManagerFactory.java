@@ -19,31 +19,42 @@ package info.archinnov.achilles.entity.manager;
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.counter.CounterCoalescer;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.parsing.EntityExplorer;
 import info.archinnov.achilles.entity.parsing.EntityParser;
 import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 import info.archinnov.achilles.validation.Validator;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 public abstract class PersistenceManagerFactory {
 	private static final Logger log = LoggerFactory.getLogger(PersistenceManagerFactory.class);
 
 	protected Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
 	protected ConfigurationContext configContext;
 	protected List<String> entityPackages;
+	protected CounterCoalescer<?> counterCoalescer;
 
 	private EntityParser entityParser = new EntityParser();
 	private EntityExplorer entityExplorer = new EntityExplorer();
+	private Thread shutdownHook;
+	private boolean closed = false;
 
 	protected PersistenceManagerFactory(Map<String, Object> configurationMap, ArgumentExtractor argumentExtractor) {
 		Validator.validateNotNull(configurationMap,
@@ -64,6 +75,7 @@ public abstract class PersistenceManagerFactory {
 		} catch (Exception e) {
 			throw new AchillesException("Exception during entity parsing : " + e.getMessage(), e);
 		}
+		initMetrics();
 
 		return hasSimpleCounter;
 	}
@@ -84,6 +96,107 @@ public abstract class PersistenceManagerFactory {
 		return hasSimpleCounter;
 	}
 
+	protected void initMetrics() {
+		if (configContext.isMetricsEnabled()) {
+			log.info("Enabling Achilles metrics, exposed in JMX domain '{}'", configContext.getMetricsJmxDomain());
+			AchillesMetrics metrics = new AchillesMetrics(configContext.getMetricsListener());
+			for (Entry<Class<?>, EntityMeta> entry : entityMetaMap.entrySet()) {
+				entry.getValue().setEntityMetrics(metrics.register(entry.getKey()));
+			}
+			metrics.registerMBeans(configContext.getMetricsJmxDomain());
+			configContext.setMetrics(metrics);
+		}
+	}
+
+	/**
+	 * Return the operation metrics, also exposed as JMX MBeans
+	 * 
+	 * @return metrics registry, or null when metrics are disabled
+	 */
+	public AchillesMetrics getMetrics() {
+		return configContext.getMetrics();
+	}
+
+	/**
+	 * Return the hit, miss and eviction statistics of the second-level cache of a cached entity
+	 * 
+	 * @param entityClass
+	 *            Entity class, annotated with @Cached or listed in the entity cache configuration
+	 * @return statistics of the entity cache
+	 */
+	public CacheStats getEntityCacheStats(Class<?> entityClass) {
+		EntityMeta entityMeta = entityMetaMap.get(entityClass);
+		Validator.validateNotNull(entityMeta, "The entity '%s' is not managed by Achilles", entityClass);
+		Validator.validateTrue(entityMeta.isCached(), "The entity '%s' is not cached", entityClass);
+		return entityMeta.getEntityCache().stats();
+	}
+
+	/**
+	 * Write the counter increments buffered by counter coalescing. Does nothing when counter coalescing is disabled
+	 */
+	public void flushCounters() {
+		if (counterCoalescer != null) {
+			counterCoalescer.flush();
+		}
+	}
+
+	/**
+	 * Write the buffered counter increments and release the resources held by this factory. The JVM shutdown hook
+	 * registered by the factory is removed. Neither the factory nor its persistence managers should be used
+	 * afterwards. Calling close() more than once has no effect
+	 */
+	public void close() {
+		if (markClosed()) {
+			log.info("Closing Achilles PersistenceManagerFactory");
+			if (shutdownHook != null) {
+				try {
+					Runtime.getRuntime().removeShutdownHook(shutdownHook);
+				} catch (IllegalStateException e) {
+					// The JVM is already shutting down and runs the hook
+				}
+			}
+			releaseResources();
+		}
+	}
+
+	/**
+	 * Release the resources of the factory when the JVM shuts down, unless close() is called before
+	 */
+	protected void registerShutdownHook() {
+		shutdownHook = new Thread("achilles-shutdown") {
+			@Override
+			public void run() {
+				if (markClosed()) {
+					releaseResources();
+				}
+			}
+		};
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	protected void releaseResources() {
+		if (counterCoalescer != null) {
+			counterCoalescer.shutdown();
+		}
+	}
+
+	private synchronized boolean markClosed() {
+		if (closed) {
+			return false;
+		}
+		closed = true;
+		return true;
+	}
+
+	protected void startCounterCoalescer(CounterCoalescer<?> coalescer) {
+		log.info("Starting counter coalescing, flushing every {} ms or every {} updates",
+				configContext.getCounterCoalescingInterval(), configContext.getCounterCoalescingThreshold());
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+				.setNameFormat("achilles-counter-coalescer-%d").setDaemon(true).build());
+		coalescer.start(scheduler);
+		this.counterCoalescer = coalescer;
+	}
+
 	protected abstract AchillesConsistencyLevelPolicy initConsistencyLevelPolicy(Map<String, Object> configurationMap,
 			ArgumentExtractor argumentExtractor);
 
@@ -93,6 +206,20 @@ public abstract class PersistenceManagerFactory {
 		configContext.setForceColumnFamilyCreation(argumentExtractor.initForceCFCreation(configurationMap));
 		configContext.setConsistencyPolicy(initConsistencyLevelPolicy(configurationMap, argumentExtractor));
 		configContext.setObjectMapperFactory(argumentExtractor.initObjectMapperFactory(configurationMap));
+		configContext.setBulkFindChunkSize(argumentExtractor.initBulkFindChunkSize(configurationMap));
+		configContext.setInsertStrategy(argumentExtractor.initInsertStrategy(configurationMap));
+		configContext.setBinaryCodec(argumentExtractor.initBinaryCodec(configurationMap));
+		configContext.setCachedEntityClasses(argumentExtractor.initCachedEntityClasses(configurationMap));
+		configContext.setEntityCacheMaxSize(argumentExtractor.initEntityCacheMaxSize(configurationMap));
+		configContext.setEntityCacheTtl(argumentExtractor.initEntityCacheTtl(configurationMap));
+		configContext.setCounterCoalescing(argumentExtractor.initCounterCoalescing(configurationMap));
+		configContext.setCounterCoalescingInterval(argumentExtractor.initCounterCoalescingInterval(configurationMap));
+		configContext.setCounterCoalescingThreshold(argumentExtractor
+				.initCounterCoalescingThreshold(configurationMap));
+		configContext.setSlicePrefetchDepth(argumentExtractor.initSlicePrefetchDepth(configurationMap));
+		configContext.setMetricsEnabled(argumentExtractor.initMetricsEnabled(configurationMap));
+		configContext.setMetricsJmxDomain(argumentExtractor.initMetricsJmxDomain(configurationMap));
+		configContext.setMetricsListener(argumentExtractor.initMetricsListener(configurationMap));
 
 		return configContext;
 	}
@@ -16,14 +16,20 @@
  */
 package info.archinnov.achilles.entity.metadata;
 
+import info.archinnov.achilles.cache.EntityCache;
+import info.archinnov.achilles.metrics.EntityMetrics;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
+import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import net.sf.cglib.reflect.FastConstructor;
+
 import org.apache.cassandra.utils.Pair;
 import org.apache.commons.lang.StringUtils;
 
@@ -49,6 +55,7 @@ public class EntityMeta {
 	private ReflectionInvoker invoker = new ReflectionInvoker();
 
 	private Class<?> entityClass;
+	private FastConstructor fastConstructor;
 	private String className;
 	private String tableName;
 	private Class<?> idClass;
@@ -63,6 +70,10 @@ public class EntityMeta {
 	private PropertyMeta firstMeta;
 	private List<PropertyMeta> allMetasExceptIdMeta;
 	private boolean clusteredCounter = false;
+	private InsertStrategy insertStrategy = InsertStrategy.ALL_FIELDS;
+	private EntityCache entityCache;
+	private EntityMetrics entityMetrics;
+	private Map<String, List<PropertyMeta>> fetchGroups;
 
 	public Object getPrimaryKey(Object entity) {
 		return idMeta.getPrimaryKey(entity);
@@ -82,7 +93,7 @@ public class EntityMeta {
 
 	@SuppressWarnings("unchecked")
 	public <T> T instanciate() {
-		return (T) invoker.instanciate(entityClass);
+		return (T) invoker.instanciate(entityClass, fastConstructor);
 	}
 
 	public boolean hasEmbeddedId() {
@@ -102,6 +113,14 @@ public class EntityMeta {
 		this.entityClass = entityClass;
 	}
 
+	public FastConstructor getFastConstructor() {
+		return fastConstructor;
+	}
+
+	public void setFastConstructor(FastConstructor fastConstructor) {
+		this.fastConstructor = fastConstructor;
+	}
+
 	public String getClassName() {
 		return className;
 	}
@@ -227,6 +246,52 @@ public class EntityMeta {
 		this.clusteredCounter = clusteredCounter;
 	}
 
+	public InsertStrategy getInsertStrategy() {
+		return insertStrategy;
+	}
+
+	public void setInsertStrategy(InsertStrategy insertStrategy) {
+		this.insertStrategy = insertStrategy;
+	}
+
+	public Map<String, List<PropertyMeta>> getFetchGroups() {
+		return fetchGroups;
+	}
+
+	public void setFetchGroups(Map<String, List<PropertyMeta>> fetchGroups) {
+		this.fetchGroups = fetchGroups;
+	}
+
+	public List<PropertyMeta> getFetchGroup(String fetchGroup) {
+		List<PropertyMeta> groupMetas = fetchGroups != null ? fetchGroups.get(fetchGroup) : null;
+		Validator.validateNotNull(groupMetas, "No fetch group '%s' is declared on entity '%s'", fetchGroup,
+				className);
+		return groupMetas;
+	}
+
+	public boolean isCached() {
+		return entityCache != null;
+	}
+
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * Metrics of the entity, or null when metrics are disabled
+	 */
+	public EntityMetrics getEntityMetrics() {
+		return entityMetrics;
+	}
+
+	public void setEntityMetrics(EntityMetrics entityMetrics) {
+		this.entityMetrics = entityMetrics;
+	}
+
 	public boolean isValueless() {
 		return propertyMetas.size() == 1;
 	}
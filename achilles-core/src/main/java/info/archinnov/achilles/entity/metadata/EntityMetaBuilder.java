@@ -18,7 +18,9 @@ package info.archinnov.achilles.entity.metadata;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.table.TableCreator.*;
+import info.archinnov.achilles.proxy.FastMethodCache;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
@@ -51,6 +53,7 @@ public class EntityMetaBuilder {
 	private String columnFamilyName;
 	private Map<String, PropertyMeta> propertyMetas;
 	private Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
+	private InsertStrategy insertStrategy = InsertStrategy.ALL_FIELDS;
 
 	public static EntityMetaBuilder entityMetaBuilder(PropertyMeta idMeta) {
 		return new EntityMetaBuilder(idMeta);
@@ -72,12 +75,16 @@ public class EntityMetaBuilder {
 		meta.setIdMeta(idMeta);
 		meta.setIdClass(idMeta.getValueClass());
 		meta.setEntityClass(entityClass);
+		if (entityClass != null) {
+			meta.setFastConstructor(FastMethodCache.forConstructor(entityClass));
+		}
 		meta.setClassName(className);
 		meta.setTableName(columnFamilyName);
 		meta.setPropertyMetas(Collections.unmodifiableMap(propertyMetas));
 		meta.setGetterMetas(Collections.unmodifiableMap(extractGetterMetas(propertyMetas)));
 		meta.setSetterMetas(Collections.unmodifiableMap(extractSetterMetas(propertyMetas)));
 		meta.setConsistencyLevels(consistencyLevels);
+		meta.setInsertStrategy(insertStrategy);
 
 		List<PropertyMeta> eagerMetas = FluentIterable.from(propertyMetas.values()).filter(eagerType).toImmutableList();
 
@@ -87,6 +94,7 @@ public class EntityMetaBuilder {
 		List<PropertyMeta> allMetasExceptIdMeta = FluentIterable.from(propertyMetas.values()).filter(excludeIdType)
 				.toImmutableList();
 		meta.setAllMetasExceptIdMeta(allMetasExceptIdMeta);
+		meta.setFetchGroups(Collections.unmodifiableMap(extractFetchGroups(propertyMetas)));
 
 		PropertyMeta firstMeta = allMetasExceptIdMeta.isEmpty() ? null : allMetasExceptIdMeta.get(0);
 		meta.setFirstMeta(firstMeta);
@@ -115,6 +123,20 @@ public class EntityMetaBuilder {
 		return setterMetas;
 	}
 
+	private Map<String, List<PropertyMeta>> extractFetchGroups(Map<String, PropertyMeta> propertyMetas) {
+		Map<String, List<PropertyMeta>> fetchGroups = new HashMap<String, List<PropertyMeta>>();
+		for (PropertyMeta propertyMeta : propertyMetas.values()) {
+			String fetchGroup = propertyMeta.getFetchGroup();
+			if (fetchGroup != null) {
+				if (!fetchGroups.containsKey(fetchGroup)) {
+					fetchGroups.put(fetchGroup, new ArrayList<PropertyMeta>());
+				}
+				fetchGroups.get(fetchGroup).add(propertyMeta);
+			}
+		}
+		return fetchGroups;
+	}
+
 	private List<Method> extractEagerGetters(List<PropertyMeta> eagerMetas) {
 		List<Method> eagerMethods = new ArrayList<Method>();
 		for (PropertyMeta propertyMeta : eagerMetas) {
@@ -148,4 +170,9 @@ public class EntityMetaBuilder {
 		this.consistencyLevels = consistencyLevels;
 		return this;
 	}
+
+	public EntityMetaBuilder insertStrategy(InsertStrategy insertStrategy) {
+		this.insertStrategy = insertStrategy;
+		return this;
+	}
 }
@@ -17,16 +17,22 @@
 package info.archinnov.achilles.entity.metadata;
 
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
+import info.archinnov.achilles.helper.PropertyHelper;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.type.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import net.sf.cglib.reflect.FastConstructor;
+import net.sf.cglib.reflect.FastMethod;
+
 import org.apache.cassandra.utils.Pair;
 
 import com.google.common.base.Objects;
@@ -40,11 +46,16 @@ public class PropertyMeta {
 	private Class<?> valueClass;
 	private Method getter;
 	private Method setter;
+	private FastMethod fastGetter;
+	private FastMethod fastSetter;
+	private FastConstructor fastConstructor;
 	private CounterProperties counterProperties;
 	private EmbeddedIdProperties embeddedIdProperties;
 	private Class<?> idClass;
 	private Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
 	private boolean timeUUID = false;
+	private BinaryCodec binaryCodec;
+	private String fetchGroup;
 	private DataTranscoder transcoder;
 	private ReflectionInvoker invoker = new ReflectionInvoker();
 
@@ -264,7 +275,7 @@ public class PropertyMeta {
 	}
 
 	public Object instanciate() {
-		return invoker.instanciate(valueClass);
+		return invoker.instanciate(valueClass, fastConstructor);
 	}
 
 	Object instanciateEmbeddedIdWithPartitionKey(List<Object> partitionComponents) {
@@ -278,33 +289,49 @@ public class PropertyMeta {
 	}
 
 	public Object getValueFromField(Object target) {
-		return invoker.getValueFromField(target, getter);
+		return invoker.getValueFromField(target, this);
 	}
 
 	public List<?> getListValueFromField(Object target) {
-		return invoker.getListValueFromField(target, getter);
+		return invoker.getListValueFromField(target, this);
 	}
 
 	public Set<?> getSetValueFromField(Object target) {
-		return invoker.getSetValueFromField(target, getter);
+		return invoker.getSetValueFromField(target, this);
 	}
 
 	public Map<?, ?> getMapValueFromField(Object target) {
-		return invoker.getMapValueFromField(target, getter);
+		return invoker.getMapValueFromField(target, this);
 	}
 
 	public void setValueToField(Object target, Object args) {
-		invoker.setValueToField(target, setter, args);
+		invoker.setValueToField(target, this, args);
 	}
 
 	public Class<?> getValueClassForTableCreation() {
 		if (timeUUID) {
 			return InternalTimeUUID.class;
 		} else {
-			return valueClass;
+			return getCassandraValueClass();
 		}
 	}
 
+	public Class<?> getKeyClassForTableCreation() {
+		return getCassandraKeyClass();
+	}
+
+	public Class<?> getCassandraValueClass() {
+		return isBinaryEncoded(valueClass) ? ByteBuffer.class : valueClass;
+	}
+
+	public Class<?> getCassandraKeyClass() {
+		return isBinaryEncoded(keyClass) ? ByteBuffer.class : keyClass;
+	}
+
+	private boolean isBinaryEncoded(Class<?> type) {
+		return binaryCodec != null && PropertyHelper.isBinaryEncodable(type);
+	}
+
 	// //////// Getters & setters
 	public PropertyType type() {
 		return type;
@@ -354,6 +381,30 @@ public class PropertyMeta {
 		this.setter = setter;
 	}
 
+	public FastMethod getFastGetter() {
+		return fastGetter;
+	}
+
+	public void setFastGetter(FastMethod fastGetter) {
+		this.fastGetter = fastGetter;
+	}
+
+	public FastMethod getFastSetter() {
+		return fastSetter;
+	}
+
+	public void setFastSetter(FastMethod fastSetter) {
+		this.fastSetter = fastSetter;
+	}
+
+	public FastConstructor getFastConstructor() {
+		return fastConstructor;
+	}
+
+	public void setFastConstructor(FastConstructor fastConstructor) {
+		this.fastConstructor = fastConstructor;
+	}
+
 	public EmbeddedIdProperties getEmbeddedIdProperties() {
 		return embeddedIdProperties;
 	}
@@ -414,6 +465,22 @@ public class PropertyMeta {
 		this.timeUUID = timeUUID;
 	}
 
+	public BinaryCodec getBinaryCodec() {
+		return binaryCodec;
+	}
+
+	public void setBinaryCodec(BinaryCodec binaryCodec) {
+		this.binaryCodec = binaryCodec;
+	}
+
+	public String getFetchGroup() {
+		return fetchGroup;
+	}
+
+	public void setFetchGroup(String fetchGroup) {
+		this.fetchGroup = fetchGroup;
+	}
+
 	@Override
 	public String toString() {
 		return Objects.toStringHelper(this.getClass()).add("type", type).add("entityClassName", entityClassName)
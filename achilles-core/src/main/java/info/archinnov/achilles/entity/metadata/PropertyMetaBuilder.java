@@ -22,10 +22,14 @@ import info.archinnov.achilles.entity.metadata.transcoding.ListTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.MapTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.SetTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.SimpleTranscoder;
+import info.archinnov.achilles.proxy.FastMethodCache;
+import info.archinnov.achilles.type.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.lang.reflect.Method;
 
+import net.sf.cglib.reflect.FastMethod;
+
 import org.apache.cassandra.utils.Pair;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.slf4j.Logger;
@@ -44,6 +48,7 @@ public class PropertyMetaBuilder {
 	private EmbeddedIdProperties embeddedIdProperties;
 	private Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
 	private boolean timeUUID = false;
+	private BinaryCodec binaryCodec;
 
 	public static PropertyMetaBuilder factory() {
 		return new PropertyMetaBuilder();
@@ -77,16 +82,26 @@ public class PropertyMetaBuilder {
 		meta.setValueClass(valueClass);
 		meta.setGetter(accessors[0]);
 		meta.setSetter(accessors[1]);
+		meta.setFastGetter(compile(accessors[0]));
+		meta.setFastSetter(compile(accessors[1]));
+		if (isCompound) {
+			meta.setFastConstructor(FastMethodCache.forConstructor(valueClass));
+		}
 		meta.setEmbeddedIdProperties(embeddedIdProperties);
 
 		meta.setCounterProperties(counterProperties);
 		meta.setConsistencyLevels(consistencyLevels);
 		meta.setTranscoder(determineTranscoder(isCompound));
 		meta.setTimeUUID(timeUUID);
+		meta.setBinaryCodec(binaryCodec);
 
 		return meta;
 	}
 
+	private FastMethod compile(Method accessor) {
+		return accessor != null ? FastMethodCache.forMethod(accessor) : null;
+	}
+
 	public PropertyMetaBuilder type(PropertyType type) {
 		this.type = type;
 		return this;
@@ -117,24 +132,30 @@ public class PropertyMetaBuilder {
 		return this;
 	}
 
+	public PropertyMetaBuilder binaryCodec(BinaryCodec binaryCodec) {
+		this.binaryCodec = binaryCodec;
+		return this;
+	}
+
 	private DataTranscoder determineTranscoder(boolean isCompound) {
 		switch (type) {
 		case EMBEDDED_ID:
 			return new CompoundTranscoder(objectMapper);
 		case ID:
 		case COUNTER:
+			return new SimpleTranscoder(objectMapper);
 		case SIMPLE:
 		case LAZY_SIMPLE:
-			return new SimpleTranscoder(objectMapper);
+			return new SimpleTranscoder(objectMapper, binaryCodec);
 		case LIST:
 		case LAZY_LIST:
-			return new ListTranscoder(objectMapper);
+			return new ListTranscoder(objectMapper, binaryCodec);
 		case SET:
 		case LAZY_SET:
-			return new SetTranscoder(objectMapper);
+			return new SetTranscoder(objectMapper, binaryCodec);
 		case MAP:
 		case LAZY_MAP:
-			return new MapTranscoder(objectMapper);
+			return new MapTranscoder(objectMapper, binaryCodec);
 
 		default:
 			return null;
@@ -19,8 +19,11 @@ package info.archinnov.achilles.entity.metadata.transcoding;
 import static info.archinnov.achilles.helper.PropertyHelper.*;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.json.ObjectReaderWriterCache;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.type.BinaryCodec;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,11 +32,17 @@ import org.codehaus.jackson.map.ObjectMapper;
 
 public abstract class AbstractTranscoder implements DataTranscoder {
 
-	protected ObjectMapper objectMapper;
+	protected ObjectReaderWriterCache jsonCodecs;
+	protected BinaryCodec binaryCodec;
 	protected ReflectionInvoker invoker = new ReflectionInvoker();
 
 	public AbstractTranscoder(ObjectMapper objectMapper) {
-		this.objectMapper = objectMapper;
+		this.jsonCodecs = new ObjectReaderWriterCache(objectMapper);
+	}
+
+	public AbstractTranscoder(ObjectMapper objectMapper, BinaryCodec binaryCodec) {
+		this(objectMapper);
+		this.binaryCodec = binaryCodec;
 	}
 
 	@Override
@@ -118,6 +127,8 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 			return entityValue;
 		} else if (sourceType.isEnum()) {
 			return ((Enum<?>) entityValue).name();
+		} else if (binaryCodec != null) {
+			return entityValue == null ? null : binaryCodec.encode(entityValue, sourceType);
 		} else {
 			return forceEncodeToJSON(entityValue);
 		}
@@ -129,6 +140,8 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 			return cassandraValue;
 		} else if (targetType.isEnum()) {
 			return Enum.valueOf((Class) targetType, (String) cassandraValue);
+		} else if (binaryCodec != null && cassandraValue instanceof ByteBuffer) {
+			return binaryCodec.decode(((ByteBuffer) cassandraValue).duplicate(), targetType);
 		} else if (cassandraValue instanceof String) {
 			return forceDecodeFromJSON((String) cassandraValue, targetType);
 		} else {
@@ -147,7 +160,7 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 			} else {
 				try {
 
-					return this.objectMapper.writeValueAsString(object);
+					return jsonCodecs.writerFor(object.getClass()).writeValueAsString(object);
 				} catch (Exception e) {
 					throw new AchillesException("Error while encoding value '" + object + "'", e);
 				}
@@ -168,7 +181,7 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 				result = (T) cassandraValue;
 			} else {
 				try {
-					return objectMapper.readValue(cassandraValue, targetType);
+					return jsonCodecs.readerFor(targetType).<T> readValue(cassandraValue);
 				} catch (Exception e) {
 					throw new AchillesException("Error while decoding value '" + cassandraValue + "' to type '"
 							+ targetType.getCanonicalName() + "'", e);
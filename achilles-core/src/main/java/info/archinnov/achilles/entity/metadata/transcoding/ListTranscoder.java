@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.metadata.transcoding;
 
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.BinaryCodec;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +30,10 @@ public class ListTranscoder extends SimpleTranscoder {
 		super(objectMapper);
 	}
 
+	public ListTranscoder(ObjectMapper objectMapper, BinaryCodec binaryCodec) {
+		super(objectMapper, binaryCodec);
+	}
+
 	@Override
 	public List<Object> encode(PropertyMeta pm, List<?> entityValue) {
 		List<Object> encoded = new ArrayList<Object>();
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.metadata.transcoding;
 
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.BinaryCodec;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +31,10 @@ public class MapTranscoder extends AbstractTranscoder {
 		super(objectMapper);
 	}
 
+	public MapTranscoder(ObjectMapper objectMapper, BinaryCodec binaryCodec) {
+		super(objectMapper, binaryCodec);
+	}
+
 	@Override
 	public Object encode(PropertyMeta pm, Object entityValue) {
 		return super.encodeInternal(pm.getValueClass(), entityValue);
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.metadata.transcoding;
 
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.BinaryCodec;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -29,6 +30,10 @@ public class SetTranscoder extends SimpleTranscoder {
 		super(objectMapper);
 	}
 
+	public SetTranscoder(ObjectMapper objectMapper, BinaryCodec binaryCodec) {
+		super(objectMapper, binaryCodec);
+	}
+
 	@Override
 	public Set<Object> encode(PropertyMeta pm, Set<?> entityValue) {
 		Set<Object> encoded = new HashSet<Object>();
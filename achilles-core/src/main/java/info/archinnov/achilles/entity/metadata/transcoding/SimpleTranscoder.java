@@ -18,6 +18,7 @@ package info.archinnov.achilles.entity.metadata.transcoding;
 
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.type.BinaryCodec;
 
 import org.codehaus.jackson.map.ObjectMapper;
 
@@ -29,6 +30,10 @@ public class SimpleTranscoder extends AbstractTranscoder {
 		super(objectMapper);
 	}
 
+	public SimpleTranscoder(ObjectMapper objectMapper, BinaryCodec binaryCodec) {
+		super(objectMapper, binaryCodec);
+	}
+
 	@Override
 	public Object encode(PropertyMeta pm, Object entityValue) {
 		return super.encodeInternal(pm.getValueClass(), entityValue);
@@ -59,6 +59,9 @@ public class EntityInitializer {
 
 		Set<PropertyMeta> toBeLoadedMetas = Sets.difference(allLazyMetas, alreadyLoadedMetas);
 
+		// Fetch all missing lazy columns at once rather than one getter at a time
+		interceptor.loadProperties(toBeLoadedMetas);
+
 		for (PropertyMeta propertyMeta : toBeLoadedMetas) {
 			Object value = propertyMeta.getValueFromField(entity);
 			if (propertyMeta.isCounter()) {
@@ -19,9 +19,16 @@ package info.archinnov.achilles.entity.operations;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 
+import java.util.List;
+
 public interface EntityLoader<CONTEXT extends PersistenceContext> {
 
 	public <T> T load(CONTEXT context, Class<T> entityClass);
 
 	public <V> void loadPropertyIntoObject(CONTEXT context, Object realObject, PropertyMeta propertyMeta);
+
+	/**
+	 * Load several lazy properties with a single query
+	 */
+	public void loadPropertiesIntoObject(CONTEXT context, Object realObject, List<PropertyMeta> propertyMetas);
 }
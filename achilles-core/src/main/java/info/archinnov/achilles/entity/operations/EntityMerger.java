@@ -21,6 +21,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.Merger;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
@@ -55,7 +56,8 @@ public abstract class EntityMerger<CONTEXT extends PersistenceContext> {
 
 			EntityInterceptor<CONTEXT, T> interceptor = proxifier.getInterceptor(entity);
 			Map<Method, PropertyMeta> dirtyMap = interceptor.getDirtyMap();
-			merger.merge(context, dirtyMap);
+			Map<Method, ElementChanges> changesMap = interceptor.getChangesMap();
+			merger.merge(context, dirtyMap, changesMap);
 			interceptor.setContext(context);
 			interceptor.setTarget(realObject);
 			proxy = entity;
@@ -26,9 +26,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +40,15 @@ import org.slf4j.LoggerFactory;
 public abstract class EntityProxifier<CONTEXT extends PersistenceContext> {
 	private static final Logger log = LoggerFactory.getLogger(EntityProxifier.class);
 
+	private static final ConcurrentMap<Class<?>, Factory> proxyFactories = new ConcurrentHashMap<Class<?>, Factory>();
+
+	private static final MethodInterceptor NO_INTERCEPTION = new MethodInterceptor() {
+		@Override
+		public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+			return proxy.invokeSuper(obj, args);
+		}
+	};
+
 	public Class<?> deriveBaseClass(Object entity) {
 		log.debug("Deriving base class for entity {} ", entity);
 
@@ -61,11 +74,31 @@ public abstract class EntityProxifier<CONTEXT extends PersistenceContext> {
 
 		log.debug("Build Cglib proxy for entity {} ", entity);
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(entity.getClass());
-		enhancer.setCallback(buildInterceptor(context, entity, alreadyLoaded));
+		Factory factory = getProxyFactory(entity.getClass());
+		return (T) factory.newInstance(buildInterceptor(context, entity, alreadyLoaded));
+	}
 
-		return (T) enhancer.create();
+	/**
+	 * The proxy class is generated once per entity class. The cached
+	 * instance is only used as a factory, its own callback does not intercept
+	 * anything
+	 */
+	private Factory getProxyFactory(Class<?> entityClass) {
+		Factory factory = proxyFactories.get(entityClass);
+		if (factory == null) {
+			log.debug("Generate Cglib proxy class for entity class {} ", entityClass);
+
+			Enhancer enhancer = new Enhancer();
+			enhancer.setSuperclass(entityClass);
+			enhancer.setCallback(NO_INTERCEPTION);
+			factory = (Factory) enhancer.create();
+
+			Factory existing = proxyFactories.putIfAbsent(entityClass, factory);
+			if (existing != null) {
+				factory = existing;
+			}
+		}
+		return factory;
 	}
 
 	@SuppressWarnings("unchecked")
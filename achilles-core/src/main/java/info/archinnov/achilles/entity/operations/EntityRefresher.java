@@ -50,9 +50,11 @@ public class EntityRefresher<CONTEXT extends PersistenceContext> {
 		EntityInterceptor<CONTEXT, Object> interceptor = proxifier.getInterceptor(entity);
 
 		interceptor.getDirtyMap().clear();
+		interceptor.getChangesMap().clear();
 		Set<Method> alreadyLoaded = interceptor.getAlreadyLoaded();
 		alreadyLoaded.clear();
 		alreadyLoaded.addAll(context.getEntityMeta().getEagerGetters());
+		interceptor.getContext().evictCachedCounterValues();
 
 		Object freshEntity = loader.load(context, context.getEntityClass());
 
@@ -17,6 +17,9 @@
 package info.archinnov.achilles.entity.operations;
 
 import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.metrics.EntityMetrics;
+import info.archinnov.achilles.metrics.OperationType;
 import info.archinnov.achilles.query.SliceQuery;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
@@ -50,6 +53,23 @@ public abstract class SliceQueryExecutor<CONTEXT extends PersistenceContext> {
 
 	protected abstract <T> CONTEXT buildNewContext(SliceQuery<T> sliceQuery, T clusteredEntity);
 
+	protected long startOperation(SliceQuery<?> sliceQuery) {
+		EntityMetrics metrics = getEntityMetrics(sliceQuery);
+		return metrics == null ? 0L : metrics.startOperation();
+	}
+
+	protected void stopOperation(SliceQuery<?> sliceQuery, long start) {
+		EntityMetrics metrics = getEntityMetrics(sliceQuery);
+		if (metrics != null) {
+			metrics.stopOperation(OperationType.SLICE, start);
+		}
+	}
+
+	private EntityMetrics getEntityMetrics(SliceQuery<?> sliceQuery) {
+		EntityMeta meta = sliceQuery.getMeta();
+		return meta == null ? null : meta.getEntityMetrics();
+	}
+
 	protected <T> Function<T, T> getProxyTransformer(final SliceQuery<T> sliceQuery, final List<Method> getters) {
 		return new Function<T, T>() {
 			@Override
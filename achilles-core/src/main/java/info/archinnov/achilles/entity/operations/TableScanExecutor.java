@@ -0,0 +1,107 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.query.scan.ScanQuery;
+import info.archinnov.achilles.query.scan.TokenPartitioner;
+import info.archinnov.achilles.query.scan.TokenRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+public abstract class TableScanExecutor<CONTEXT extends PersistenceContext> {
+	private static final Logger log = LoggerFactory.getLogger(TableScanExecutor.class);
+
+	public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	protected EntityProxifier<CONTEXT> proxifier;
+
+	protected TableScanExecutor(EntityProxifier<CONTEXT> proxifier) {
+		this.proxifier = proxifier;
+	}
+
+	public <T> void scan(final ScanQuery<T> query, ExecutorService executorService, final ScanConsumer<T> consumer) {
+		final TokenPartitioner partitioner = TokenPartitioner.fromClassName(describePartitioner(query));
+		List<TokenRange> ranges = partitioner.split(query.getSplits());
+		log.debug("Scanning table of entity {} over {} token ranges", query.getMeta().getClassName(), ranges.size());
+
+		boolean ownExecutor = executorService == null;
+		ExecutorService executor = ownExecutor ? newScanExecutor() : executorService;
+		List<Future<?>> futures = new ArrayList<Future<?>>(ranges.size());
+		try {
+			for (final TokenRange range : ranges) {
+				futures.add(executor.submit(new Runnable() {
+					@Override
+					public void run() {
+						log.trace("Scanning token range {} of entity {}", range, query.getMeta().getClassName());
+						scanRange(query, partitioner, range, consumer);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				Uninterruptibles.getUninterruptibly(future);
+			}
+		} catch (ExecutionException e) {
+			for (Future<?> future : futures) {
+				future.cancel(true);
+			}
+			throw new AchillesException(e.getCause());
+		} finally {
+			if (ownExecutor) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Scan one token range by batches of query.getBatchSize() entities and
+	 * pass each entity, proxified if the query is managed, to the consumer
+	 */
+	protected abstract <T> void scanRange(ScanQuery<T> query, TokenPartitioner partitioner, TokenRange range,
+			ScanConsumer<T> consumer);
+
+	protected abstract <T> String describePartitioner(ScanQuery<T> query);
+
+	protected abstract <T> CONTEXT buildNewContext(ScanQuery<T> query, T entity);
+
+	protected <T> T proxify(ScanQuery<T> query, T entity) {
+		if (!query.isManaged()) {
+			return entity;
+		}
+		CONTEXT context = buildNewContext(query, entity);
+		return proxifier.buildProxy(entity, context, Sets.newHashSet(query.getMeta().getEagerGetters()));
+	}
+
+	private ExecutorService newScanExecutor() {
+		return Executors.newFixedThreadPool(DEFAULT_PARALLELISM, new ThreadFactoryBuilder()
+				.setNameFormat("achilles-scan-%d").setDaemon(true).build());
+	}
+}
@@ -18,11 +18,12 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 
 import java.lang.reflect.Method;
 import java.util.Map;
 
 public interface Merger<CONTEXT extends PersistenceContext> {
 
-	public void merge(CONTEXT context, Map<Method, PropertyMeta> dirtyMap);
+	public void merge(CONTEXT context, Map<Method, PropertyMeta> dirtyMap, Map<Method, ElementChanges> changesMap);
 }
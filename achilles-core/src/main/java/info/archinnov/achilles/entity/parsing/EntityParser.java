@@ -17,6 +17,8 @@
 package info.archinnov.achilles.entity.parsing;
 
 import static info.archinnov.achilles.entity.metadata.EntityMetaBuilder.*;
+import info.archinnov.achilles.annotations.Cached;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
@@ -24,6 +26,7 @@ import info.archinnov.achilles.entity.parsing.context.PropertyParsingContext;
 import info.archinnov.achilles.entity.parsing.validator.EntityParsingValidator;
 import info.archinnov.achilles.helper.EntityIntrospector;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Field;
@@ -56,6 +59,8 @@ public class EntityParser {
 		Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels = introspector.findConsistencyLevels(entityClass,
 				context.getConfigurableCLPolicy());
 
+		InsertStrategy insertStrategy = introspector.findInsertStrategy(entityClass, context.getDefaultInsertStrategy());
+
 		context.setCurrentConsistencyLevels(consistencyLevels);
 		context.setCurrentColumnFamilyName(columnFamilyName);
 
@@ -92,8 +97,9 @@ public class EntityParser {
 		EntityMeta entityMeta = entityMetaBuilder(idMeta).entityClass(entityClass)
 				.className(entityClass.getCanonicalName()).columnFamilyName(columnFamilyName)
 				.propertyMetas(context.getPropertyMetas()).consistencyLevels(context.getCurrentConsistencyLevels())
-				.build();
+				.insertStrategy(insertStrategy).build();
 
+		initEntityCache(context, entityMeta);
 		saveConsistencyLevel(context, columnFamilyName, consistencyLevels);
 
 		log.trace("Entity meta built for entity class {} : {}", context.getCurrentEntityClass().getCanonicalName(),
@@ -117,6 +123,23 @@ public class EntityParser {
 		context.setCurrentObjectMapper(objectMapper);
 	}
 
+	private void initEntityCache(EntityParsingContext context, EntityMeta entityMeta) {
+		Class<?> entityClass = context.getCurrentEntityClass();
+		Cached cached = entityClass.getAnnotation(Cached.class);
+		if (cached != null || context.isCachedEntity()) {
+			Validator.validateFalse(entityMeta.isClusteredEntity(), "The clustered entity '%s' cannot be cached",
+					entityClass.getCanonicalName());
+
+			long maxSize = cached != null && cached.maxSize() > 0 ? cached.maxSize() : context
+					.getDefaultEntityCacheMaxSize();
+			int ttl = cached != null && cached.ttl() > 0 ? cached.ttl() : context.getDefaultEntityCacheTtl();
+
+			log.debug("Enable second-level cache for entity {} with max size {} and ttl {}s",
+					entityClass.getCanonicalName(), maxSize, ttl);
+			entityMeta.setEntityCache(new EntityCache(entityMeta, maxSize, ttl));
+		}
+	}
+
 	private void completeCounterPropertyMeta(EntityParsingContext context, PropertyMeta idMeta) {
 		for (PropertyMeta counterMeta : context.getCounterMetas()) {
 
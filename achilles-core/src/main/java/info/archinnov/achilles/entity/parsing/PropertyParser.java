@@ -18,6 +18,7 @@ package info.archinnov.achilles.entity.parsing;
 
 import static info.archinnov.achilles.entity.metadata.PropertyMetaBuilder.*;
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import info.archinnov.achilles.annotations.Codec;
 import info.archinnov.achilles.annotations.TimeUUID;
 import info.archinnov.achilles.entity.metadata.CounterProperties;
 import info.archinnov.achilles.entity.metadata.EmbeddedIdProperties;
@@ -27,6 +28,8 @@ import info.archinnov.achilles.entity.parsing.context.PropertyParsingContext;
 import info.archinnov.achilles.entity.parsing.validator.PropertyParsingValidator;
 import info.archinnov.achilles.helper.EntityIntrospector;
 import info.archinnov.achilles.helper.PropertyHelper;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.type.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.validation.Validator;
@@ -55,6 +58,7 @@ public class PropertyParser {
 	private EntityIntrospector entityIntrospector = new EntityIntrospector();
 	private PropertyParsingValidator validator = new PropertyParsingValidator();
 	private PropertyFilter filter = new PropertyFilter();
+	private ReflectionInvoker invoker = new ReflectionInvoker();
 
 	public PropertyMeta parse(PropertyParsingContext context) {
 		log.debug("Parsing property {} of entity class {}", context.getCurrentPropertyName(), context
@@ -85,6 +89,9 @@ public class PropertyParser {
 		} else {
 			propertyMeta = parseSimpleProperty(context);
 		}
+		if (propertyMeta.isLazy() && !propertyMeta.isCounter()) {
+			propertyMeta.setFetchGroup(propertyHelper.getFetchGroup(field));
+		}
 		context.getPropertyMetas().put(context.getCurrentPropertyName(), propertyMeta);
 		return propertyMeta;
 	}
@@ -125,6 +132,7 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName()).accessors(accessors)
 				.consistencyLevels(context.getCurrentConsistencyLevels()).timeuuid(timeUUID)
+				.binaryCodec(context.isPrimaryKey() ? null : inferBinaryCodec(context, field, field.getType()))
 				.build(Void.class, field.getType());
 
 		log.trace("Built simple property meta for property {} of entity class {} : {}", propertyMeta.getPropertyName(),
@@ -181,7 +189,7 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName())
 				.consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).timeuuid(timeUUID)
-				.build(Void.class, valueClass);
+				.binaryCodec(inferBinaryCodec(context, field, valueClass)).build(Void.class, valueClass);
 
 		log.trace("Built list property meta for property {} of entity class {} : {}", listMeta.getPropertyName(),
 				context.getCurrentEntityClass().getCanonicalName(), listMeta);
@@ -209,7 +217,7 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName())
 				.consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).timeuuid(timeUUID)
-				.build(Void.class, valueClass);
+				.binaryCodec(inferBinaryCodec(context, field, valueClass)).build(Void.class, valueClass);
 
 		log.trace("Built set property meta for property {} of  entity class {} : {}", setMeta.getPropertyName(),
 				context.getCurrentEntityClass().getCanonicalName(), setMeta);
@@ -238,7 +246,7 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName())
 				.consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).timeuuid(timeUUID)
-				.build(keyClass, valueClass);
+				.binaryCodec(inferBinaryCodec(context, field, keyClass, valueClass)).build(keyClass, valueClass);
 
 		log.trace("Built map property meta for property {} of entity class {} : {}", mapMeta.getPropertyName(), context
 				.getCurrentEntityClass().getCanonicalName(), mapMeta);
@@ -307,4 +315,20 @@ public class PropertyParser {
 		}
 		return timeUUID;
 	}
+
+	private BinaryCodec inferBinaryCodec(PropertyParsingContext context, Field field, Class<?>... valueClasses) {
+		BinaryCodec binaryCodec = context.getDefaultBinaryCodec();
+		Codec codec = field.getAnnotation(Codec.class);
+		if (codec != null) {
+			binaryCodec = invoker.instanciate(codec.value());
+		}
+		boolean binaryEncoded = false;
+		for (Class<?> valueClass : valueClasses) {
+			binaryEncoded |= PropertyHelper.isBinaryEncodable(valueClass);
+		}
+		Validator.validateBeanMappingFalse(binaryCodec != null && binaryEncoded && context.isThriftImpl(),
+				"Binary codecs are not supported by the Thrift implementation, field '%s' from class '%s'",
+				field.getName(), context.getCurrentEntityClass().getCanonicalName());
+		return binaryCodec;
+	}
 }
@@ -21,7 +21,9 @@ import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.ConfigurationContext.Impl;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.type.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -64,6 +66,22 @@ public class EntityParsingContext {
 		return configContext.getImpl() == Impl.THRIFT;
 	}
 
+	public boolean isCachedEntity() {
+		return configContext.getCachedEntityClasses().contains(currentEntityClass.getName());
+	}
+
+	public long getDefaultEntityCacheMaxSize() {
+		return configContext.getEntityCacheMaxSize();
+	}
+
+	public int getDefaultEntityCacheTtl() {
+		return configContext.getEntityCacheTtl();
+	}
+
+	public BinaryCodec getDefaultBinaryCodec() {
+		return configContext.getBinaryCodec();
+	}
+
 	public Class<?> getCurrentEntityClass() {
 		return currentEntityClass;
 	}
@@ -127,4 +145,8 @@ public class EntityParsingContext {
 	public AchillesConsistencyLevelPolicy getConfigurableCLPolicy() {
 		return configContext.getConsistencyPolicy();
 	}
+
+	public InsertStrategy getDefaultInsertStrategy() {
+		return configContext.getInsertStrategy();
+	}
 }
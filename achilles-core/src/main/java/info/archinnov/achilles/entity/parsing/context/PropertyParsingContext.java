@@ -19,6 +19,7 @@ package info.archinnov.achilles.entity.parsing.context;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.BinaryCodec;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -115,4 +116,12 @@ public class PropertyParsingContext {
 	public boolean isClusteredEntity() {
 		return context.isClusteredEntity();
 	}
+
+	public boolean isThriftImpl() {
+		return context.isThriftImpl();
+	}
+
+	public BinaryCodec getDefaultBinaryCodec() {
+		return context.getDefaultBinaryCodec();
+	}
 }
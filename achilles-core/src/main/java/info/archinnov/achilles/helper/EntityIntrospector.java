@@ -18,12 +18,14 @@ package info.archinnov.achilles.helper;
 
 import static info.archinnov.achilles.helper.LoggerHelper.fieldToStringFn;
 import info.archinnov.achilles.annotations.Consistency;
+import info.archinnov.achilles.annotations.Strategy;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.parsing.PropertyFilter;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
 import info.archinnov.achilles.table.TableNameNormalizer;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -173,6 +175,18 @@ public class EntityIntrospector {
 		return Pair.create(defaultGlobalRead, defaultGlobalWrite);
 	}
 
+	public <T> InsertStrategy findInsertStrategy(Class<T> entity, InsertStrategy defaultInsertStrategy) {
+		Strategy strategy = entity.getAnnotation(Strategy.class);
+		InsertStrategy insertStrategy = defaultInsertStrategy;
+		if (strategy != null && strategy.insert() != InsertStrategy.INHERIT) {
+			insertStrategy = strategy.insert();
+		}
+
+		log.trace("Found insert strategy {} for entity class {}", insertStrategy, entity.getCanonicalName());
+
+		return insertStrategy;
+	}
+
 	public List<Field> getInheritedPrivateFields(Class<?> type) {
 		log.debug("Find inherited private fields from hierarchy for entity class {}", type.getCanonicalName());
 
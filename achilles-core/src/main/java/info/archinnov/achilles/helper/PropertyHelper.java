@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.apache.cassandra.utils.Pair;
+import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -125,6 +126,14 @@ public class PropertyHelper {
 		return lazy;
 	}
 
+	public String getFetchGroup(Field field) {
+		Lazy lazy = field.getAnnotation(Lazy.class);
+		if (lazy != null && StringUtils.isNotBlank(lazy.group())) {
+			return lazy.group();
+		}
+		return null;
+	}
+
 	public boolean hasConsistencyAnnotation(Field field) {
 		log.debug("Check @Consistency annotation on field {} of class {}", field.getName(), field.getDeclaringClass()
 				.getCanonicalName());
@@ -140,6 +149,10 @@ public class PropertyHelper {
 		return allowedTypes.contains(valueClass);
 	}
 
+	public static boolean isBinaryEncodable(Class<?> valueClass) {
+		return valueClass != null && valueClass != Void.class && !valueClass.isEnum() && !isSupportedType(valueClass);
+	}
+
 	public <T> Pair<ConsistencyLevel, ConsistencyLevel> findConsistencyLevels(Field field,
 			AchillesConsistencyLevelPolicy policy) {
 		log.debug("Find consistency configuration for field {} of class {}", field.getName(), field.getDeclaringClass()
@@ -0,0 +1,63 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.json;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
+
+/**
+ * Type-bound ObjectReader/ObjectWriter instances of an ObjectMapper, created once per type. Readers and writers are
+ * immutable and thread-safe, and they hold their own copy of the mapper configuration, unlike
+ * ObjectMapper.readValue()/writeValueAsString() which copy it on each call. They still look up the root
+ * (de)serializer in the mapper caches on each call.
+ */
+public class ObjectReaderWriterCache {
+
+	private final ObjectMapper objectMapper;
+	private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<Class<?>, ObjectReader>();
+	private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+	public ObjectReaderWriterCache(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public ObjectReader readerFor(Class<?> type) {
+		ObjectReader reader = readers.get(type);
+		if (reader == null) {
+			reader = objectMapper.reader(type);
+			readers.putIfAbsent(type, reader);
+		}
+		return reader;
+	}
+
+	public ObjectWriter writerFor(Class<?> type) {
+		ObjectWriter writer = writers.get(type);
+		if (writer == null) {
+			writer = objectMapper.writerWithType(type);
+			writers.putIfAbsent(type, writer);
+		}
+		return writer;
+	}
+
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+}
@@ -0,0 +1,242 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Registry of the Achilles operation metrics.
+ * 
+ * Operations are timed per entity class and operation type, along with the
+ * number of statements they sent to Cassandra. Statements are counted per
+ * thread so nested operations are each charged their own statements. The
+ * recording is done with atomic counters and a per-thread array.
+ * 
+ * The metrics are exposed as JMX MBeans and can be bridged to an external
+ * registry with a {@link MetricsListener}
+ */
+public class AchillesMetrics implements AchillesMetricsMBean {
+	private static final Logger log = LoggerFactory.getLogger(AchillesMetrics.class);
+
+	private static final int MAX_NESTED_OPERATIONS = 8;
+	private static final int STATEMENTS = 0;
+	private static final int DEPTH = 1;
+	private static final int MARKS = 2;
+
+	private final Map<Class<?>, EntityMetrics> entityMetrics = new ConcurrentHashMap<Class<?>, EntityMetrics>();
+	private final Map<String, Cache<?, ?>> statementCaches = new ConcurrentHashMap<String, Cache<?, ?>>();
+	private final List<ObjectName> registeredNames = new CopyOnWriteArrayList<ObjectName>();
+	private final AtomicLong statements = new AtomicLong();
+	private final MetricsListener listener;
+
+	private final ThreadLocal<long[]> statementMarks = new ThreadLocal<long[]>() {
+		@Override
+		protected long[] initialValue() {
+			return new long[MARKS + MAX_NESTED_OPERATIONS];
+		}
+	};
+
+	public AchillesMetrics(MetricsListener listener) {
+		this.listener = listener;
+	}
+
+	public EntityMetrics register(Class<?> entityClass) {
+		EntityMetrics metrics = new EntityMetrics(this, entityClass);
+		entityMetrics.put(entityClass, metrics);
+		return metrics;
+	}
+
+	public EntityMetrics getEntityMetrics(Class<?> entityClass) {
+		return entityMetrics.get(entityClass);
+	}
+
+	public void registerStatementCache(String name, Cache<?, ?> cache) {
+		statementCaches.put(name, cache);
+	}
+
+	/**
+	 * Start timing an operation on the current thread
+	 * 
+	 * @return start time to pass to stopOperation()
+	 */
+	public long startOperation() {
+		long[] marks = statementMarks.get();
+		int depth = (int) marks[DEPTH]++;
+		if (depth < MAX_NESTED_OPERATIONS) {
+			marks[MARKS + depth] = marks[STATEMENTS];
+		}
+		return System.nanoTime();
+	}
+
+	public void stopOperation(Class<?> entityClass, OperationType type, long startNanos) {
+		EntityMetrics metrics = entityClass == null ? null : entityMetrics.get(entityClass);
+		stopOperation(metrics, entityClass, type, startNanos);
+	}
+
+	void stopOperation(EntityMetrics metrics, Class<?> entityClass, OperationType type, long startNanos) {
+		long durationNanos = System.nanoTime() - startNanos;
+		long[] marks = statementMarks.get();
+		int depth = (int) --marks[DEPTH];
+		long statements = 0;
+		if (depth < 0) {
+			marks[DEPTH] = 0;
+		} else if (depth < MAX_NESTED_OPERATIONS) {
+			statements = marks[STATEMENTS] - marks[MARKS + depth];
+		}
+
+		if (metrics != null) {
+			metrics.getOperation(type).record(durationNanos, statements);
+		}
+		if (listener != null) {
+			listener.onOperation(entityClass, type, durationNanos, statements);
+		}
+	}
+
+	/**
+	 * Count a statement sent to Cassandra by the current thread
+	 */
+	public void recordStatement() {
+		statements.incrementAndGet();
+		statementMarks.get()[STATEMENTS]++;
+	}
+
+	public void recordStatements(int count) {
+		statements.addAndGet(count);
+		statementMarks.get()[STATEMENTS] += count;
+	}
+
+	/**
+	 * Statements sent so far by the current thread
+	 */
+	public long getThreadStatements() {
+		return statementMarks.get()[STATEMENTS];
+	}
+
+	@Override
+	public long getStatements() {
+		return statements.get();
+	}
+
+	@Override
+	public long getRowsDecoded() {
+		long rows = 0;
+		for (EntityMetrics metrics : entityMetrics.values()) {
+			rows += metrics.getRowsDecoded();
+		}
+		return rows;
+	}
+
+	@Override
+	public long getLazyLoads() {
+		long lazyLoads = 0;
+		for (EntityMetrics metrics : entityMetrics.values()) {
+			lazyLoads += metrics.getLazyLoads();
+		}
+		return lazyLoads;
+	}
+
+	@Override
+	public long getStatementCacheHits() {
+		return statementCacheStats().hitCount();
+	}
+
+	@Override
+	public long getStatementCacheMisses() {
+		return statementCacheStats().missCount();
+	}
+
+	@Override
+	public double getStatementCacheHitRate() {
+		return statementCacheStats().hitRate();
+	}
+
+	public CacheStats statementCacheStats() {
+		CacheStats stats = new CacheStats(0, 0, 0, 0, 0, 0);
+		for (Cache<?, ?> cache : statementCaches.values()) {
+			stats = stats.plus(cache.stats());
+		}
+		return stats;
+	}
+
+	public Collection<EntityMetrics> getAllEntityMetrics() {
+		return new ArrayList<EntityMetrics>(entityMetrics.values());
+	}
+
+	/**
+	 * Register the global, per entity and per operation MBeans in the platform
+	 * MBean server under the given domain
+	 */
+	public void registerMBeans(String domain) {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			registerMBean(server, this, new ObjectName(domain + ":type=Metrics"));
+			for (EntityMetrics metrics : entityMetrics.values()) {
+				String entityName = metrics.getEntityClass().getCanonicalName();
+				registerMBean(server, metrics, new ObjectName(domain + ":type=EntityMetrics,entity=" + entityName));
+				for (OperationType type : OperationType.values()) {
+					registerMBean(server, metrics.getOperation(type), new ObjectName(domain
+							+ ":type=OperationMetrics,entity=" + entityName + ",operation=" + type.label()));
+				}
+			}
+		} catch (JMException e) {
+			throw new AchillesException("Cannot register the Achilles metrics MBeans : " + e.getMessage(), e);
+		}
+	}
+
+	public void unregisterMBeans() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		for (ObjectName name : registeredNames) {
+			try {
+				server.unregisterMBean(name);
+			} catch (JMException e) {
+				log.warn("Cannot unregister the MBean {}", name, e);
+			}
+		}
+		registeredNames.clear();
+	}
+
+	private void registerMBean(MBeanServer server, Object mbean, ObjectName name) throws JMException {
+		try {
+			server.registerMBean(mbean, name);
+			registeredNames.add(name);
+		} catch (InstanceAlreadyExistsException e) {
+			log.warn("The MBean {} is already registered, please set a distinct '{}' for each "
+					+ "PersistenceManagerFactory", name, METRICS_JMX_DOMAIN_PARAM);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of one entity class. Kept by its EntityMeta so that the mapping and
+ * proxy code can record without any lookup
+ */
+public class EntityMetrics implements EntityMetricsMBean {
+
+	private final AchillesMetrics registry;
+	private final Class<?> entityClass;
+	private final OperationMetrics[] operations;
+	private final AtomicLong rowsDecoded = new AtomicLong();
+	private final AtomicLong lazyLoads = new AtomicLong();
+
+	public EntityMetrics(AchillesMetrics registry, Class<?> entityClass) {
+		this.registry = registry;
+		this.entityClass = entityClass;
+		this.operations = new OperationMetrics[OperationType.values().length];
+		for (int i = 0; i < operations.length; i++) {
+			operations[i] = new OperationMetrics();
+		}
+	}
+
+	public long startOperation() {
+		return registry.startOperation();
+	}
+
+	public void stopOperation(OperationType type, long startNanos) {
+		registry.stopOperation(this, entityClass, type, startNanos);
+	}
+
+	public OperationMetrics getOperation(OperationType type) {
+		return operations[type.ordinal()];
+	}
+
+	public void recordRowDecoded() {
+		rowsDecoded.incrementAndGet();
+	}
+
+	public void recordLazyLoad() {
+		lazyLoads.incrementAndGet();
+	}
+
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+
+	@Override
+	public long getRowsDecoded() {
+		return rowsDecoded.get();
+	}
+
+	@Override
+	public long getLazyLoads() {
+		return lazyLoads.get();
+	}
+}
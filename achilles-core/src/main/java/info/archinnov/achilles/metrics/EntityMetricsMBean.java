@@ -14,8 +14,11 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package info.archinnov.achilles.context.execution;
+package info.archinnov.achilles.metrics;
 
-public interface SafeVoidExecutionContext {
-	public void execute();
+public interface EntityMetricsMBean {
+
+	long getRowsDecoded();
+
+	long getLazyLoads();
 }
@@ -0,0 +1,100 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power-of-two microsecond buckets. Recording
+ * a latency only increments atomic counters and never allocates. Percentiles
+ * are approximated by the upper bound of the bucket they fall in
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Bucket 0 holds latencies under 1 µs, bucket i latencies in [2^(i-1),
+	 * 2^i) µs. The last bucket also holds everything above
+	 */
+	static final int BUCKETS = 40;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	public void record(long durationNanos) {
+		long nanos = Math.max(durationNanos, 0L);
+		buckets.incrementAndGet(bucketFor(nanos));
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public double getMeanMicros() {
+		long total = count.get();
+		return total == 0 ? 0 : (double) totalNanos.get() / total / 1000;
+	}
+
+	public long getMaxMicros() {
+		return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+	}
+
+	/**
+	 * @param quantile
+	 *            between 0 and 1, e.g. 0.99 for the 99th percentile
+	 * @return upper bound in microseconds of the bucket holding the quantile,
+	 *         never above the maximum recorded latency
+	 */
+	public long getPercentileMicros(double quantile) {
+		long total = 0;
+		long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = buckets.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(quantile * total);
+		long seen = 0;
+		int bucket = 0;
+		while (bucket < BUCKETS - 1) {
+			seen += snapshot[bucket];
+			if (seen >= rank) {
+				break;
+			}
+			bucket++;
+		}
+		return Math.min(1L << bucket, getMaxMicros());
+	}
+
+	static int bucketFor(long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+	}
+}
@@ -0,0 +1,38 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+/**
+ * Hook to bridge Achilles operation timings into an external metrics registry.
+ * 
+ * The listener is called synchronously by the thread which ran the operation,
+ * so it should only record the values and return
+ */
+public interface MetricsListener {
+
+	/**
+	 * @param entityClass
+	 *            Entity class of the operation
+	 * @param type
+	 *            Operation type
+	 * @param durationNanos
+	 *            Duration of the operation in nanoseconds
+	 * @param statements
+	 *            Number of statements sent to Cassandra by the operation
+	 */
+	void onOperation(Class<?> entityClass, OperationType type, long durationNanos, long statements);
+}
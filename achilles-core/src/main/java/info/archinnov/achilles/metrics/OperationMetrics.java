@@ -0,0 +1,80 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies and statement count of one operation type for one entity class
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+	private final AtomicLong statements = new AtomicLong();
+
+	public void record(long durationNanos, long statementCount) {
+		latencies.record(durationNanos);
+		if (statementCount > 0) {
+			statements.addAndGet(statementCount);
+		}
+	}
+
+	public LatencyHistogram getLatencies() {
+		return latencies;
+	}
+
+	@Override
+	public long getCount() {
+		return latencies.getCount();
+	}
+
+	@Override
+	public double getMeanLatencyMicros() {
+		return latencies.getMeanMicros();
+	}
+
+	@Override
+	public long getMaxLatencyMicros() {
+		return latencies.getMaxMicros();
+	}
+
+	@Override
+	public long getLatencyP50Micros() {
+		return latencies.getPercentileMicros(0.50);
+	}
+
+	@Override
+	public long getLatencyP95Micros() {
+		return latencies.getPercentileMicros(0.95);
+	}
+
+	@Override
+	public long getLatencyP99Micros() {
+		return latencies.getPercentileMicros(0.99);
+	}
+
+	@Override
+	public long getStatements() {
+		return statements.get();
+	}
+
+	@Override
+	public double getStatementsPerOperation() {
+		long count = latencies.getCount();
+		return count == 0 ? 0 : (double) statements.get() / count;
+	}
+}
@@ -17,16 +17,20 @@
 package info.archinnov.achilles.proxy;
 
 import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.proxy.wrapper.builder.ListWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.MapWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.SetWrapperBuilder;
 import info.archinnov.achilles.type.Counter;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +55,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 	protected Map<Method, PropertyMeta> getterMetas;
 	protected Map<Method, PropertyMeta> setterMetas;
 	protected Map<Method, PropertyMeta> dirtyMap;
+	protected Map<Method, ElementChanges> changesMap;
 	protected Set<Method> alreadyLoaded;
 	protected CONTEXT context;
 
@@ -85,10 +90,17 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 
 		// Load fields into target object
 		if (!propertyMeta.isCounter() && !this.alreadyLoaded.contains(method)) {
-			log.trace("Loading property {}", propertyMeta.getPropertyName());
+			if (propertyMeta.getFetchGroup() != null) {
+				log.trace("Loading fetch group {}", propertyMeta.getFetchGroup());
 
-			loader.loadPropertyIntoObject(context, target, propertyMeta);
-			alreadyLoaded.add(method);
+				loadProperties(context.getEntityMeta().getFetchGroup(propertyMeta.getFetchGroup()));
+			} else {
+				log.trace("Loading property {}", propertyMeta.getPropertyName());
+
+				loader.loadPropertyIntoObject(context, target, propertyMeta);
+				alreadyLoaded.add(method);
+				recordLazyLoad();
+			}
 		}
 
 		log.trace("Invoking getter {} on real object", method.getName());
@@ -109,7 +121,8 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 
 				@SuppressWarnings("unchecked")
 				List<Object> list = (List<Object>) rawValue;
-				result = ListWrapperBuilder.builder(context, list).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
+				result = ListWrapperBuilder.builder(context, list).dirtyMap(dirtyMap).changesMap(changesMap)
+						.setter(propertyMeta.getSetter())
 						.propertyMeta(this.getPropertyMetaByProperty(method)).proxifier(proxifier).build();
 			}
 			break;
@@ -121,7 +134,8 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 
 				@SuppressWarnings("unchecked")
 				Set<Object> set = (Set<Object>) rawValue;
-				result = SetWrapperBuilder.builder(context, set).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
+				result = SetWrapperBuilder.builder(context, set).dirtyMap(dirtyMap).changesMap(changesMap)
+						.setter(propertyMeta.getSetter())
 						.propertyMeta(this.getPropertyMetaByProperty(method)).proxifier(proxifier).build();
 			}
 			break;
@@ -135,7 +149,8 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 				Map<Object, Object> map = (Map<Object, Object>) rawValue;
 				result = MapWrapperBuilder
 						//
-						.builder(context, map).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
+						.builder(context, map).dirtyMap(dirtyMap).changesMap(changesMap)
+						.setter(propertyMeta.getSetter())
 						.propertyMeta(this.getPropertyMetaByProperty(method)).proxifier(proxifier).build();
 			}
 			break;
@@ -149,6 +164,37 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		return result;
 	}
 
+	/**
+	 * Load the given lazy properties which are not loaded yet with a single query
+	 */
+	public void loadProperties(Collection<PropertyMeta> propertyMetas) {
+		List<PropertyMeta> toBeLoaded = new ArrayList<PropertyMeta>();
+		for (PropertyMeta propertyMeta : propertyMetas) {
+			if (!propertyMeta.isCounter() && !alreadyLoaded.contains(propertyMeta.getGetter())) {
+				toBeLoaded.add(propertyMeta);
+			}
+		}
+
+		if (toBeLoaded.size() == 1) {
+			loader.loadPropertyIntoObject(context, target, toBeLoaded.get(0));
+			recordLazyLoad();
+		} else if (toBeLoaded.size() > 1) {
+			loader.loadPropertiesIntoObject(context, target, toBeLoaded);
+			recordLazyLoad();
+		}
+
+		for (PropertyMeta propertyMeta : toBeLoaded) {
+			alreadyLoaded.add(propertyMeta.getGetter());
+		}
+	}
+
+	private void recordLazyLoad() {
+		EntityMeta entityMeta = context.getEntityMeta();
+		if (entityMeta != null && entityMeta.getEntityMetrics() != null) {
+			entityMeta.getEntityMetrics().recordLazyLoad();
+		}
+	}
+
 	protected abstract Counter buildCounterWrapper(PropertyMeta propertyMeta);
 
 	private Object interceptSetter(Method method, Object[] args, MethodProxy proxy) throws Throwable {
@@ -169,6 +215,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		log.trace("Flaging property {}", propertyMeta.getPropertyName());
 
 		dirtyMap.put(method, propertyMeta);
+		changesMap.remove(method);
 		result = proxy.invoke(target, args);
 		return result;
 	}
@@ -177,6 +224,10 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		return dirtyMap;
 	}
 
+	public Map<Method, ElementChanges> getChangesMap() {
+		return changesMap;
+	}
+
 	public Set<Method> getAlreadyLoaded() {
 		return alreadyLoaded;
 	}
@@ -213,6 +264,10 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		this.dirtyMap = dirtyMap;
 	}
 
+	void setChangesMap(Map<Method, ElementChanges> changesMap) {
+		this.changesMap = changesMap;
+	}
+
 	void setAlreadyLoaded(Set<Method> lazyLoaded) {
 		this.alreadyLoaded = lazyLoaded;
 	}
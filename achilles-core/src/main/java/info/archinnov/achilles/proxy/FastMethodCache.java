@@ -0,0 +1,110 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastConstructor;
+import net.sf.cglib.reflect.FastMethod;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Optional;
+
+/**
+ * Compiles getters, setters and default constructors into generated bytecode (cglib FastClass) once per
+ * class/method so that property access does not go through reflective Method.invoke() on every call.
+ * Members which cannot be compiled (non-public, abstract classes...) are flagged as absent and invoked
+ * reflectively.
+ */
+public class FastMethodCache {
+	private static final Logger log = LoggerFactory.getLogger(FastMethodCache.class);
+
+	private static final Class<?>[] NO_PARAMETER = new Class<?>[0];
+
+	private static final ConcurrentMap<Class<?>, Optional<FastClass>> fastClasses =
+			new ConcurrentHashMap<Class<?>, Optional<FastClass>>();
+	private static final ConcurrentMap<Method, Optional<FastMethod>> fastMethods =
+			new ConcurrentHashMap<Method, Optional<FastMethod>>();
+
+	private FastMethodCache() {
+	}
+
+	public static void compile(Method... methods) {
+		for (Method method : methods) {
+			if (method != null) {
+				forMethod(method);
+			}
+		}
+	}
+
+	public static FastMethod forMethod(Method method) {
+		Optional<FastMethod> fastMethod = fastMethods.get(method);
+		if (fastMethod == null) {
+			fastMethod = compileMethod(method);
+			fastMethods.putIfAbsent(method, fastMethod);
+		}
+		return fastMethod.orNull();
+	}
+
+	public static FastConstructor forConstructor(Class<?> type) {
+		Optional<FastClass> fastClass = forClass(type);
+		if (fastClass.isPresent() && fastClass.get().getIndex(NO_PARAMETER) >= 0) {
+			return fastClass.get().getConstructor(NO_PARAMETER);
+		}
+		return null;
+	}
+
+	private static Optional<FastMethod> compileMethod(Method method) {
+		Optional<FastClass> fastClass = forClass(method.getDeclaringClass());
+		if (fastClass.isPresent() && Modifier.isPublic(method.getModifiers())
+				&& fastClass.get().getIndex(method.getName(), method.getParameterTypes()) >= 0) {
+			log.trace("Compiled accessor {} of class {}", method.getName(), method.getDeclaringClass()
+					.getCanonicalName());
+			return Optional.of(fastClass.get().getMethod(method));
+		}
+		return Optional.absent();
+	}
+
+	private static Optional<FastClass> forClass(Class<?> type) {
+		Optional<FastClass> fastClass = fastClasses.get(type);
+		if (fastClass == null) {
+			fastClass = compileClass(type);
+			fastClasses.putIfAbsent(type, fastClass);
+		}
+		return fastClass;
+	}
+
+	private static Optional<FastClass> compileClass(Class<?> type) {
+		int modifiers = type.getModifiers();
+		if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(modifiers)
+				|| Modifier.isPrivate(modifiers)) {
+			return Optional.absent();
+		}
+		try {
+			return Optional.of(FastClass.create(type));
+		} catch (RuntimeException e) {
+			log.debug("Cannot compile fast class for {}, falling back to reflection", type.getCanonicalName(), e);
+			return Optional.absent();
+		}
+	}
+}
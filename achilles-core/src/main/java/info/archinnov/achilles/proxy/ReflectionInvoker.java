@@ -24,6 +24,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import net.sf.cglib.reflect.FastConstructor;
+import net.sf.cglib.reflect.FastMethod;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +41,7 @@ public class ReflectionInvoker {
 
 		if (entity != null) {
 			try {
-				return getter.invoke(entity);
+				return invoke(getter, idMeta.getFastGetter(), entity);
 			} catch (Exception e) {
 				throw new AchillesException("Cannot get primary key value by invoking getter '" + getter.getName()
 						+ "' of type '" + getter.getDeclaringClass().getCanonicalName() + "' from entity '" + entity
@@ -52,7 +55,7 @@ public class ReflectionInvoker {
 		if (idMeta.isEmbeddedId()) {
 			Method partitionKeyGetter = idMeta.getPartitionKeyGetter();
 			try {
-				return partitionKeyGetter.invoke(compoundKey);
+				return invoke(partitionKeyGetter, FastMethodCache.forMethod(partitionKeyGetter), compoundKey);
 			} catch (Exception e) {
 				throw new AchillesException("Cannot get partition key value by invoking getter '"
 						+ partitionKeyGetter.getName() + "' of type '"
@@ -63,7 +66,15 @@ public class ReflectionInvoker {
 		return null;
 	}
 
+	public Object getValueFromField(Object target, PropertyMeta pm) {
+		return getValueFromField(target, pm.getGetter(), pm.getFastGetter());
+	}
+
 	public Object getValueFromField(Object target, Method getter) {
+		return getValueFromField(target, getter, FastMethodCache.forMethod(getter));
+	}
+
+	private Object getValueFromField(Object target, Method getter, FastMethod fastGetter) {
 		log.trace("Get value with getter {} from instance {} of class {}", getter.getName(), target, getter
 				.getDeclaringClass().getCanonicalName());
 
@@ -71,7 +82,7 @@ public class ReflectionInvoker {
 
 		if (target != null) {
 			try {
-				value = getter.invoke(target);
+				value = invoke(getter, fastGetter, target);
 			} catch (Exception e) {
 				throw new AchillesException("Cannot invoke '" + getter.getName() + "' of type '"
 						+ getter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e);
@@ -82,25 +93,33 @@ public class ReflectionInvoker {
 		return value;
 	}
 
-	public List<?> getListValueFromField(Object target, Method getter) {
-		return (List<?>) getValueFromField(target, getter);
+	public List<?> getListValueFromField(Object target, PropertyMeta pm) {
+		return (List<?>) getValueFromField(target, pm);
+	}
+
+	public Set<?> getSetValueFromField(Object target, PropertyMeta pm) {
+		return (Set<?>) getValueFromField(target, pm);
 	}
 
-	public Set<?> getSetValueFromField(Object target, Method getter) {
-		return (Set<?>) getValueFromField(target, getter);
+	public Map<?, ?> getMapValueFromField(Object target, PropertyMeta pm) {
+		return (Map<?, ?>) getValueFromField(target, pm);
 	}
 
-	public Map<?, ?> getMapValueFromField(Object target, Method getter) {
-		return (Map<?, ?>) getValueFromField(target, getter);
+	public void setValueToField(Object target, PropertyMeta pm, Object args) {
+		setValueToField(target, pm.getSetter(), pm.getFastSetter(), args);
 	}
 
 	public void setValueToField(Object target, Method setter, Object args) {
+		setValueToField(target, setter, FastMethodCache.forMethod(setter), args);
+	}
+
+	private void setValueToField(Object target, Method setter, FastMethod fastSetter, Object args) {
 		log.trace("Set value with setter {} to instance {} of class {} with {}", setter.getName(), target, setter
 				.getDeclaringClass().getCanonicalName(), args);
 
 		if (target != null) {
 			try {
-				setter.invoke(target, args);
+				invoke(setter, fastSetter, target, args);
 			} catch (Exception e) {
 				throw new AchillesException("Cannot invoke '" + setter.getName() + "' of type '"
 						+ setter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e);
@@ -109,9 +128,14 @@ public class ReflectionInvoker {
 	}
 
 	public <T> T instanciate(Class<T> entityClass) {
+		return instanciate(entityClass, FastMethodCache.forConstructor(entityClass));
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T instanciate(Class<T> entityClass, FastConstructor fastConstructor) {
 		T newInstance;
 		try {
-			newInstance = entityClass.newInstance();
+			newInstance = fastConstructor != null ? (T) fastConstructor.newInstance() : entityClass.newInstance();
 		} catch (Exception e) {
 			throw new AchillesException(
 					"Cannot instanciate entity from class '" + entityClass.getCanonicalName() + "'", e);
@@ -121,8 +145,7 @@ public class ReflectionInvoker {
 
 	public Object instanciateEmbeddedIdWithPartitionComponents(PropertyMeta idMeta, List<Object> partitionComponents) {
 
-		Class<?> valueClass = idMeta.getValueClass();
-		Object newInstance = instanciate(valueClass);
+		Object newInstance = instanciate(idMeta.getValueClass(), idMeta.getFastConstructor());
 		List<Method> setters = idMeta.getPartitionComponentSetters();
 
 		for (int i = 0; i < setters.size(); i++) {
@@ -132,4 +155,11 @@ public class ReflectionInvoker {
 		}
 		return newInstance;
 	}
+
+	private Object invoke(Method method, FastMethod fastMethod, Object target, Object... args) throws Exception {
+		if (fastMethod != null) {
+			return fastMethod.invoke(target, args);
+		}
+		return method.invoke(target, args);
+	}
 }
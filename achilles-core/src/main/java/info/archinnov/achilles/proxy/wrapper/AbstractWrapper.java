@@ -25,6 +25,7 @@ import java.util.Map;
 
 public abstract class AbstractWrapper {
 	protected Map<Method, PropertyMeta> dirtyMap;
+	protected Map<Method, ElementChanges> changesMap;
 	protected Method setter;
 	protected PropertyMeta propertyMeta;
 	protected EntityProxifier<PersistenceContext> proxifier;
@@ -38,6 +39,14 @@ public abstract class AbstractWrapper {
 		this.dirtyMap = dirtyMap;
 	}
 
+	public Map<Method, ElementChanges> getChangesMap() {
+		return changesMap;
+	}
+
+	public void setChangesMap(Map<Method, ElementChanges> changesMap) {
+		this.changesMap = changesMap;
+	}
+
 	public void setSetter(Method setter) {
 		this.setter = setter;
 	}
@@ -50,6 +59,27 @@ public abstract class AbstractWrapper {
 		if (!dirtyMap.containsKey(setter)) {
 			dirtyMap.put(setter, propertyMeta);
 		}
+		if (changesMap != null) {
+			changesMap.remove(setter);
+		}
+	}
+
+	/**
+	 * Return the element changes to update for the property, or null when the
+	 * property is already marked for a full rewrite
+	 */
+	protected ElementChanges elementChanges() {
+		if (changesMap == null) {
+			markDirty();
+			return null;
+		}
+		if (!dirtyMap.containsKey(setter)) {
+			ElementChanges changes = new ElementChanges();
+			dirtyMap.put(setter, propertyMeta);
+			changesMap.put(setter, changes);
+			return changes;
+		}
+		return changesMap.get(setter);
 	}
 
 	public void setProxifier(EntityProxifier<PersistenceContext> proxifier) {
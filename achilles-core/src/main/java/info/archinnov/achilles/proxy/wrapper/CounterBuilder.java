@@ -54,6 +54,16 @@ public class CounterBuilder {
 			throw new UnsupportedOperationException("This method is not meant to be called");
 		}
 
+		@Override
+		public Long getWithPendingDeltas() {
+			return value;
+		}
+
+		@Override
+		public void refresh() {
+			throw new UnsupportedOperationException("This method is not meant to be called");
+		}
+
 		@Override
 		public void incr() {
 			throw new UnsupportedOperationException("This method is not meant to be called");
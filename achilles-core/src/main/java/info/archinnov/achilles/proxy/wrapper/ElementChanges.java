@@ -0,0 +1,111 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy.wrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Element-level changes recorded by the collection and map wrappers of a
+ * dirty property.
+ * 
+ * A dirty property without any ElementChanges has to be rewritten entirely
+ */
+public class ElementChanges {
+	private final Set<Object> addedElements = new LinkedHashSet<Object>();
+	private final Set<Object> removedElements = new LinkedHashSet<Object>();
+	private final List<Object> appendedElements = new ArrayList<Object>();
+	private final List<Object> prependedElements = new ArrayList<Object>();
+	private final Map<Integer, Object> elementsAtIndex = new TreeMap<Integer, Object>();
+	private final Map<Object, Object> putEntries = new LinkedHashMap<Object, Object>();
+	private final Set<Object> removedKeys = new LinkedHashSet<Object>();
+
+	public void addElement(Object element) {
+		removedElements.remove(element);
+		addedElements.add(element);
+	}
+
+	public void removeElement(Object element) {
+		addedElements.remove(element);
+		removedElements.add(element);
+	}
+
+	public void appendElement(Object element) {
+		appendedElements.add(element);
+	}
+
+	public void prependElement(Object element) {
+		prependedElements.add(0, element);
+	}
+
+	public void setElementAtIndex(int index, Object element) {
+		elementsAtIndex.put(index, element);
+	}
+
+	public void setAppendedElement(int position, Object element) {
+		appendedElements.set(position, element);
+	}
+
+	public void putEntry(Object key, Object value) {
+		removedKeys.remove(key);
+		putEntries.put(key, value);
+	}
+
+	public void removeEntry(Object key) {
+		putEntries.remove(key);
+		removedKeys.add(key);
+	}
+
+	public Set<Object> getAddedElements() {
+		return addedElements;
+	}
+
+	public Set<Object> getRemovedElements() {
+		return removedElements;
+	}
+
+	public List<Object> getAppendedElements() {
+		return appendedElements;
+	}
+
+	public List<Object> getPrependedElements() {
+		return prependedElements;
+	}
+
+	public Map<Integer, Object> getElementsAtIndex() {
+		return elementsAtIndex;
+	}
+
+	public Map<Object, Object> getPutEntries() {
+		return putEntries;
+	}
+
+	public Set<Object> getRemovedKeys() {
+		return removedKeys;
+	}
+
+	public boolean isEmpty() {
+		return addedElements.isEmpty() && removedElements.isEmpty() && appendedElements.isEmpty()
+				&& prependedElements.isEmpty() && elementsAtIndex.isEmpty() && putEntries.isEmpty()
+				&& removedKeys.isEmpty();
+	}
+}
@@ -45,8 +45,8 @@ public class EntryIteratorWrapper extends AbstractWrapper implements Iterator<En
 		if (entry != null) {
 			log.trace("Build wrapper for next entry of property {} of entity class {}", propertyMeta.getPropertyName(),
 					propertyMeta.getEntityClassName());
-			result = MapEntryWrapperBuilder.builder(context, entry).dirtyMap(dirtyMap).setter(setter)
-					.propertyMeta(propertyMeta).proxifier(proxifier).build();
+			result = MapEntryWrapperBuilder.builder(context, entry).dirtyMap(dirtyMap).changesMap(changesMap)
+					.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
 		}
 		return result;
 	}
@@ -33,4 +33,14 @@ public class KeySetWrapper extends SetWrapper {
 	public boolean addAll(Collection<?> arg0) {
 		throw new UnsupportedOperationException("This method is not supported for a key set");
 	}
+
+	@Override
+	protected void markElementsRemoved(Collection<?> keys) {
+		ElementChanges changes = elementChanges();
+		if (changes != null) {
+			for (Object key : keys) {
+				changes.removeEntry(key);
+			}
+		}
+	}
 }
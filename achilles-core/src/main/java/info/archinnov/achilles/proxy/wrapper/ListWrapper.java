@@ -19,6 +19,7 @@ package info.archinnov.achilles.proxy.wrapper;
 import info.archinnov.achilles.proxy.wrapper.builder.ListIteratorWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.ListWrapperBuilder;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.ListIterator;
@@ -29,6 +30,8 @@ import org.slf4j.LoggerFactory;
 public class ListWrapper extends CollectionWrapper implements List<Object> {
 	private static final Logger log = LoggerFactory.getLogger(ListWrapper.class);
 
+	private boolean subList = false;
+
 	public ListWrapper(List<Object> target) {
 		super(target);
 	}
@@ -37,17 +40,32 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 	public void add(int index, Object arg1) {
 		log.trace("Mark list property {} of entity class {} dirty upon element addition at index {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), index);
-		((List<Object>) super.target).add(index, proxifier.unwrap(arg1));
-		super.markDirty();
+		int sizeBefore = super.target.size();
+		Object element = proxifier.unwrap(arg1);
+		((List<Object>) super.target).add(index, element);
+
+		if (index == sizeBefore) {
+			this.markElementsAdded(Arrays.asList(element));
+		} else if (index == 0) {
+			this.markElementPrepended(element);
+		} else {
+			super.markDirty();
+		}
 	}
 
 	@Override
 	public boolean addAll(int arg0, Collection<? extends Object> arg1) {
-		boolean result = ((List<Object>) super.target).addAll(arg0, proxifier.unwrap(arg1));
+		int sizeBefore = super.target.size();
+		Collection<? extends Object> elements = proxifier.unwrap(arg1);
+		boolean result = ((List<Object>) super.target).addAll(arg0, elements);
 		if (result) {
 			log.trace("Mark list property {} of entity class {} dirty upon elements addition",
 					propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-			super.markDirty();
+			if (arg0 == sizeBefore) {
+				this.markElementsAdded(elements);
+			} else {
+				super.markDirty();
+			}
 		}
 		return result;
 	}
@@ -78,8 +96,8 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 
 		return ListIteratorWrapperBuilder
 				//
-				.builder(context, target).dirtyMap(dirtyMap).setter(setter).propertyMeta(propertyMeta)
-				.proxifier(proxifier).build();
+				.builder(context, target).dirtyMap(dirtyMap).changesMap(changesMap)
+				.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
 	}
 
 	@Override
@@ -91,8 +109,8 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 
 		return ListIteratorWrapperBuilder
 				//
-				.builder(context, target).dirtyMap(dirtyMap).setter(setter).propertyMeta(propertyMeta)
-				.proxifier(proxifier).build();
+				.builder(context, target).dirtyMap(dirtyMap).changesMap(changesMap)
+				.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
 	}
 
 	@Override
@@ -110,8 +128,9 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 		log.trace("Mark list property {} of entity class {} dirty upon element set at index {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
 
-		Object result = ((List<Object>) super.target).set(index, proxifier.unwrap(arg1));
-		super.markDirty();
+		Object element = proxifier.unwrap(arg1);
+		Object result = ((List<Object>) super.target).set(index, element);
+		this.markElementSet(index, element);
 		return result;
 	}
 
@@ -122,10 +141,14 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 		log.trace("Build sublist wrapper for list property {} of entity class {} between index {} and {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), from, to);
 
-		return ListWrapperBuilder
+		ListWrapper subListWrapper = ListWrapperBuilder
 				//
-				.builder(context, target).dirtyMap(dirtyMap).setter(setter).propertyMeta(propertyMeta)
-				.proxifier(proxifier).build();
+				.builder(context, target).dirtyMap(dirtyMap).changesMap(changesMap)
+				.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
+
+		// Indexes of a sub list do not match the ones of the list property
+		subListWrapper.subList = true;
+		return subListWrapper;
 	}
 
 	@Override
@@ -133,4 +156,47 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 		return ((List<Object>) super.target);
 	}
 
+	@Override
+	protected void markElementsAdded(Collection<?> elements) {
+		if (subList) {
+			super.markDirty();
+		} else {
+			ElementChanges changes = elementChanges();
+			if (changes != null) {
+				for (Object element : elements) {
+					changes.appendElement(element);
+				}
+			}
+		}
+	}
+
+	private void markElementPrepended(Object element) {
+		if (subList) {
+			super.markDirty();
+		} else {
+			ElementChanges changes = elementChanges();
+			if (changes != null) {
+				changes.prependElement(element);
+			}
+		}
+	}
+
+	private void markElementSet(int index, Object element) {
+		if (subList) {
+			super.markDirty();
+		} else {
+			ElementChanges changes = elementChanges();
+			if (changes != null) {
+				List<Object> appended = changes.getAppendedElements();
+				int originalSize = super.target.size() - appended.size();
+				if (!changes.getPrependedElements().isEmpty()) {
+					super.markDirty();
+				} else if (index < originalSize) {
+					changes.setElementAtIndex(index, element);
+				} else {
+					changes.setAppendedElement(index - originalSize, element);
+				}
+			}
+		}
+	}
 }
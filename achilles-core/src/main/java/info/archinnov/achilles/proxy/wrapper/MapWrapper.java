@@ -66,7 +66,7 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 					propertyMeta.getEntityClassName());
 
 			EntrySetWrapper wrapperSet = EntrySetWrapperBuilder.builder(context, targetEntrySet).dirtyMap(dirtyMap)
-					.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
+					.changesMap(changesMap).setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
 			targetEntrySet = wrapperSet;
 		}
 		return targetEntrySet;
@@ -92,7 +92,7 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 					propertyMeta.getEntityClassName());
 
 			KeySetWrapper keySetWrapper = KeySetWrapperBuilder.builder(context, keySet).dirtyMap(dirtyMap)
-					.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
+					.changesMap(changesMap).setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
 			keySet = keySetWrapper;
 		}
 		return keySet;
@@ -103,8 +103,12 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 		log.trace("Mark map property {} of entity class {} dirty upon new value {} addition for key {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), value, key);
 
-		Object result = this.target.put(key, proxifier.unwrap(value));
-		this.markDirty();
+		Object unwrapped = proxifier.unwrap(value);
+		Object result = this.target.put(key, unwrapped);
+		ElementChanges changes = elementChanges();
+		if (changes != null) {
+			changes.putEntry(key, unwrapped);
+		}
 		return result;
 	}
 
@@ -119,7 +123,12 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
 
 		this.target.putAll(map);
-		this.markDirty();
+		ElementChanges changes = elementChanges();
+		if (changes != null) {
+			for (Entry<Object, Object> entry : map.entrySet()) {
+				changes.putEntry(entry.getKey(), entry.getValue());
+			}
+		}
 	}
 
 	@Override
@@ -128,7 +137,10 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 		if (this.target.containsKey(unproxy)) {
 			log.trace("Mark map property {} of entity class {} dirty upon removal of value havo,g key {}",
 					propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), key);
-			this.markDirty();
+			ElementChanges changes = elementChanges();
+			if (changes != null) {
+				changes.removeEntry(unproxy);
+			}
 		}
 		return this.target.remove(unproxy);
 	}
@@ -148,8 +160,8 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 
 			ValueCollectionWrapper collectionWrapper = ValueCollectionWrapperBuilder
 					//
-					.builder(context, values).dirtyMap(dirtyMap).setter(setter).propertyMeta(propertyMeta)
-					.proxifier(proxifier).build();
+					.builder(context, values).dirtyMap(dirtyMap).changesMap(changesMap)
+					.setter(setter).propertyMeta(propertyMeta).proxifier(proxifier).build();
 			values = collectionWrapper;
 		}
 		return values;
@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.proxy.wrapper;
 
+import java.util.Collection;
 import java.util.Set;
 
 public class SetWrapper extends CollectionWrapper implements Set<Object> {
@@ -28,4 +29,24 @@ public class SetWrapper extends CollectionWrapper implements Set<Object> {
 	public Set<Object> getTarget() {
 		return ((Set<Object>) super.target);
 	}
+
+	@Override
+	protected void markElementsAdded(Collection<?> elements) {
+		ElementChanges changes = elementChanges();
+		if (changes != null) {
+			for (Object element : elements) {
+				changes.addElement(element);
+			}
+		}
+	}
+
+	@Override
+	protected void markElementsRemoved(Collection<?> elements) {
+		ElementChanges changes = elementChanges();
+		if (changes != null) {
+			for (Object element : elements) {
+				changes.removeElement(element);
+			}
+		}
+	}
 }
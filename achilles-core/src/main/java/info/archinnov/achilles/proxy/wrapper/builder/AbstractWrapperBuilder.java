@@ -20,6 +20,7 @@ import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.proxy.wrapper.AbstractWrapper;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.Map;
 @SuppressWarnings("unchecked")
 public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T>> {
 	private Map<Method, PropertyMeta> dirtyMap;
+	private Map<Method, ElementChanges> changesMap;
 	private Method setter;
 	private PropertyMeta propertyMeta;
 	private EntityProxifier<PersistenceContext> proxifier;
@@ -37,6 +39,11 @@ public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T>
 		return (T) this;
 	}
 
+	public T changesMap(Map<Method, ElementChanges> changesMap) {
+		this.changesMap = changesMap;
+		return (T) this;
+	}
+
 	public T setter(Method setter) {
 		this.setter = setter;
 		return (T) this;
@@ -60,6 +67,7 @@ public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T>
 
 	public void build(AbstractWrapper wrapper) {
 		wrapper.setDirtyMap(dirtyMap);
+		wrapper.setChangesMap(changesMap);
 		wrapper.setSetter(setter);
 		wrapper.setPropertyMeta(propertyMeta);
 		wrapper.setProxifier(proxifier);
@@ -0,0 +1,124 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.operations.TableScanExecutor;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.validation.Validator;
+
+import java.util.concurrent.ExecutorService;
+
+public class ScanBuilder<CONTEXT extends PersistenceContext, T> {
+
+	private TableScanExecutor<CONTEXT> scanExecutor;
+	private Class<T> entityClass;
+	private EntityMeta meta;
+	private int splits = TableScanExecutor.DEFAULT_PARALLELISM * 4;
+	private int batchSize = ScanQuery.DEFAULT_BATCH_SIZE;
+	private ConsistencyLevel consistencyLevel;
+	private ExecutorService executorService;
+	private boolean managed = true;
+
+	public ScanBuilder(TableScanExecutor<CONTEXT> scanExecutor, Class<T> entityClass, EntityMeta meta) {
+		this.scanExecutor = scanExecutor;
+		this.entityClass = entityClass;
+		this.meta = meta;
+	}
+
+	/**
+	 * Number of token sub-ranges the ring is split into. Each sub-range is
+	 * scanned by one task of the executor
+	 * 
+	 * @param splits
+	 *            Number of token sub-ranges
+	 * @return ScanBuilder<CONTEXT, T>
+	 */
+	public ScanBuilder<CONTEXT, T> splits(int splits) {
+		Validator.validateTrue(splits > 0, "The number of splits for scan should be strictly positive");
+		this.splits = splits;
+		return this;
+	}
+
+	/**
+	 * Number of entities fetched per query within a token sub-range
+	 * 
+	 * @param batchSize
+	 *            Batch size
+	 * @return ScanBuilder<CONTEXT, T>
+	 */
+	public ScanBuilder<CONTEXT, T> batchSize(int batchSize) {
+		Validator.validateTrue(batchSize > 0, "The batch size for scan should be strictly positive");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Consistency level for read. Defaults to the read consistency level of
+	 * the entity
+	 * 
+	 * @param consistencyLevel
+	 *            Consistency Level for read
+	 * @return ScanBuilder<CONTEXT, T>
+	 */
+	public ScanBuilder<CONTEXT, T> consistencyLevel(ConsistencyLevel consistencyLevel) {
+		Validator.validateNotNull(consistencyLevel, "ConsistencyLevel for scan should not be null");
+		this.consistencyLevel = consistencyLevel;
+		return this;
+	}
+
+	/**
+	 * Executor scanning the token sub-ranges. It is not shut down at the end
+	 * of the scan. Without executor, a pool of one thread per available
+	 * processor is created for the scan and shut down afterwards
+	 * 
+	 * @param executorService
+	 *            Executor service
+	 * @return ScanBuilder<CONTEXT, T>
+	 */
+	public ScanBuilder<CONTEXT, T> executor(ExecutorService executorService) {
+		Validator.validateNotNull(executorService, "Executor service for scan should not be null");
+		this.executorService = executorService;
+		return this;
+	}
+
+	/**
+	 * Return raw entities, not 'managed' by Achilles
+	 * 
+	 * @return ScanBuilder<CONTEXT, T>
+	 */
+	public ScanBuilder<CONTEXT, T> raw() {
+		this.managed = false;
+		return this;
+	}
+
+	/**
+	 * Scan the whole table and pass every entity to the consumer. Block until
+	 * all token sub-ranges are scanned. If the scan of a sub-range fails, the
+	 * remaining ones are cancelled and the failure is raised
+	 * 
+	 * @param consumer
+	 *            Thread-safe entity consumer
+	 */
+	public void forEach(ScanConsumer<T> consumer) {
+		Validator.validateNotNull(consumer, "Consumer for scan should not be null");
+		ConsistencyLevel readLevel = consistencyLevel != null ? consistencyLevel : meta.getReadConsistencyLevel();
+		ScanQuery<T> query = new ScanQuery<T>(entityClass, meta, splits, batchSize, readLevel, managed);
+		scanExecutor.scan(query, executorService, consumer);
+	}
+}
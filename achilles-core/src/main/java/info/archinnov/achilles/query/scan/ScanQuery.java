@@ -0,0 +1,65 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+public class ScanQuery<T> {
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private Class<T> entityClass;
+	private EntityMeta meta;
+	private int splits;
+	private int batchSize;
+	private ConsistencyLevel consistencyLevel;
+	private boolean managed;
+
+	public ScanQuery(Class<T> entityClass, EntityMeta meta, int splits, int batchSize,
+			ConsistencyLevel consistencyLevel, boolean managed) {
+		this.entityClass = entityClass;
+		this.meta = meta;
+		this.splits = splits;
+		this.batchSize = batchSize;
+		this.consistencyLevel = consistencyLevel;
+		this.managed = managed;
+	}
+
+	public Class<T> getEntityClass() {
+		return entityClass;
+	}
+
+	public EntityMeta getMeta() {
+		return meta;
+	}
+
+	public int getSplits() {
+		return splits;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public ConsistencyLevel getConsistencyLevel() {
+		return consistencyLevel;
+	}
+
+	public boolean isManaged() {
+		return managed;
+	}
+}
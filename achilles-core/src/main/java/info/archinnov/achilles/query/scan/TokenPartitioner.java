@@ -0,0 +1,85 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hash partitioners whose token ring can be split for a full table scan
+ */
+public enum TokenPartitioner {
+	MURMUR3("org.apache.cassandra.dht.Murmur3Partitioner", BigInteger.valueOf(Long.MIN_VALUE), BigInteger
+			.valueOf(Long.MAX_VALUE)), //
+	RANDOM("org.apache.cassandra.dht.RandomPartitioner", BigInteger.valueOf(-1), BigInteger.valueOf(2).pow(127));
+
+	private final String className;
+	private final BigInteger minToken;
+	private final BigInteger maxToken;
+
+	private TokenPartitioner(String className, BigInteger minToken, BigInteger maxToken) {
+		this.className = className;
+		this.minToken = minToken;
+		this.maxToken = maxToken;
+	}
+
+	public static TokenPartitioner fromClassName(String partitionerClassName) {
+		for (TokenPartitioner partitioner : values()) {
+			if (partitioner.className.equals(partitionerClassName)) {
+				return partitioner;
+			}
+		}
+		throw new AchillesException("Cannot scan tables of a cluster using the partitioner '" + partitionerClassName
+				+ "'. Only Murmur3Partitioner and RandomPartitioner are supported");
+	}
+
+	/**
+	 * Split the whole ring into contiguous token ranges of equal width
+	 * 
+	 * @param splits
+	 *            Number of token ranges
+	 * @return List<TokenRange> token ranges, in ring order
+	 */
+	public List<TokenRange> split(int splits) {
+		Validator.validateTrue(splits > 0, "The number of token range splits should be strictly positive");
+		BigInteger width = maxToken.subtract(minToken).divide(BigInteger.valueOf(splits));
+		List<TokenRange> ranges = new ArrayList<TokenRange>(splits);
+		BigInteger start = minToken;
+		for (int i = 0; i < splits; i++) {
+			BigInteger end = i == splits - 1 ? maxToken : start.add(width);
+			ranges.add(new TokenRange(start, end));
+			start = end;
+		}
+		return ranges;
+	}
+
+	/**
+	 * Convert a token to the Java type of the tokens of this partitioner:
+	 * Long for Murmur3Partitioner, BigInteger for RandomPartitioner
+	 */
+	public Object toTokenValue(BigInteger token) {
+		return this == MURMUR3 ? token.longValue() : token;
+	}
+
+	public BigInteger fromTokenValue(Object tokenValue) {
+		return this == MURMUR3 ? BigInteger.valueOf((Long) tokenValue) : (BigInteger) tokenValue;
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.cache;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import com.google.common.cache.CacheStats;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityCacheTest {
+
+	@Mock
+	private EntityMeta entityMeta;
+
+	private EntityCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+		ReflectionInvoker invoker = new ReflectionInvoker();
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID)
+				.accessors().invoker(invoker).build();
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(SIMPLE).accessors().invoker(invoker).build();
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(LIST).accessors().invoker(invoker).build();
+
+		when(entityMeta.instanciate()).thenAnswer(new Answer<CompleteBean>() {
+			@Override
+			public CompleteBean answer(InvocationOnMock invocation) {
+				return new CompleteBean();
+			}
+		});
+		when(entityMeta.getEagerMetas()).thenReturn(Arrays.asList(idMeta, nameMeta, friendsMeta));
+
+		cache = new EntityCache(entityMeta, 2, 0);
+	}
+
+	@Test
+	public void should_return_copy_of_cached_entity() throws Exception {
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(10L).name("name").addFriends("foo").buid();
+
+		cache.put(10L, entity, cache.generation(10L));
+		entity.setName("changed");
+		entity.getFriends().add("bar");
+
+		CompleteBean actual = cache.get(10L);
+
+		assertThat(actual).isNotSameAs(entity);
+		assertThat(actual.getId()).isEqualTo(10L);
+		assertThat(actual.getName()).isEqualTo("name");
+		assertThat(actual.getFriends()).containsExactly("foo");
+		assertThat(actual.getLabel()).isNull();
+
+		actual.getFriends().add("qux");
+		assertThat(cache.<CompleteBean> get(10L).getFriends()).containsExactly("foo");
+	}
+
+	@Test
+	public void should_return_null_when_not_cached() throws Exception {
+		assertThat(cache.get(10L)).isNull();
+	}
+
+	@Test
+	public void should_invalidate_entity() throws Exception {
+		cache.put(10L, CompleteBeanTestBuilder.builder().id(10L).buid(), cache.generation(10L));
+
+		cache.invalidate(10L);
+
+		assertThat(cache.get(10L)).isNull();
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_record_stats() throws Exception {
+		cache.put(10L, CompleteBeanTestBuilder.builder().id(10L).buid(), cache.generation(10L));
+		cache.put(11L, CompleteBeanTestBuilder.builder().id(11L).buid(), cache.generation(11L));
+		cache.put(12L, CompleteBeanTestBuilder.builder().id(12L).buid(), cache.generation(12L));
+
+		cache.get(12L);
+		cache.get(13L);
+
+		CacheStats stats = cache.stats();
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(stats.missCount()).isEqualTo(1);
+		assertThat(stats.evictionCount()).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_not_put_entity_loaded_before_invalidation() throws Exception {
+		long generation = cache.generation(10L);
+
+		cache.invalidate(10L);
+		cache.put(10L, CompleteBeanTestBuilder.builder().id(10L).name("stale").buid(), generation);
+
+		assertThat(cache.get(10L)).isNull();
+	}
+
+	@Test
+	public void should_put_entity_loaded_after_invalidation() throws Exception {
+		cache.invalidate(10L);
+		cache.put(10L, CompleteBeanTestBuilder.builder().id(10L).name("fresh").buid(), cache.generation(10L));
+
+		assertThat(cache.<CompleteBean> get(10L).getName()).isEqualTo("fresh");
+	}
+
+	@Test
+	public void should_not_cache_entity_written_with_ttl_until_ttl_is_over() throws Exception {
+		cache.invalidate(10L, 3600);
+		cache.put(10L, CompleteBeanTestBuilder.builder().id(10L).buid(), cache.generation(10L));
+
+		assertThat(cache.get(10L)).isNull();
+
+		cache.invalidate(11L, 0);
+		cache.put(11L, CompleteBeanTestBuilder.builder().id(11L).buid(), cache.generation(11L));
+
+		assertThat(cache.get(11L)).isNotNull();
+	}
+
+	@Test
+	public void should_never_keep_stale_entity_when_invalidated_while_loading() throws Exception {
+		final AtomicReference<String> storedName = new AtomicReference<String>("name0");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 1; i <= 2000; i++) {
+				final String newName = "name" + i;
+				final CountDownLatch start = new CountDownLatch(1);
+
+				Future<?> loader = executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						start.await();
+						long generation = cache.generation(10L);
+						CompleteBean loaded = CompleteBeanTestBuilder.builder().id(10L).name(storedName.get()).buid();
+						cache.put(10L, loaded, generation);
+						return null;
+					}
+				});
+				Future<?> writer = executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						start.await();
+						storedName.set(newName);
+						cache.invalidate(10L);
+						return null;
+					}
+				});
+				start.countDown();
+				loader.get();
+				writer.get();
+
+				CompleteBean cached = cache.get(10L);
+				if (cached != null) {
+					assertThat(cached.getName()).isEqualTo(newName);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.codec;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class JacksonBinaryCodecTest {
+
+	private JacksonBinaryCodec codec = new JacksonBinaryCodec();
+
+	@Test
+	public void should_encode_and_decode_bean() throws Exception {
+		UserBean bean = new UserBean();
+		bean.setUserId(10L);
+		bean.setName("name");
+
+		ByteBuffer bytes = codec.encode(bean, UserBean.class);
+		UserBean decoded = codec.decode(bytes, UserBean.class);
+
+		assertThat(decoded.getUserId()).isEqualTo(10L);
+		assertThat(decoded.getName()).isEqualTo("name");
+	}
+
+	@Test
+	public void should_decode_from_buffer_position() throws Exception {
+		UserBean bean = new UserBean();
+		bean.setName("name");
+		ByteBuffer encoded = codec.encode(bean, UserBean.class);
+		ByteBuffer buffer = ByteBuffer.allocate(encoded.remaining() + 2);
+		buffer.put((byte) 0).put((byte) 0).put(encoded);
+		buffer.position(2);
+
+		UserBean decoded = codec.decode(buffer, UserBean.class);
+
+		assertThat(decoded.getName()).isEqualTo("name");
+		assertThat(buffer.position()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.codec;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.json.DefaultObjectMapperFactory;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SchemaBinaryCodecTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private SchemaBinaryCodec codec = new SchemaBinaryCodec();
+
+	@Test
+	public void should_encode_and_decode_bean() throws Exception {
+		Bean bean = new Bean();
+		bean.count = 10;
+		bean.name = "name";
+		bean.level = ConsistencyLevel.QUORUM;
+		bean.date = new Date();
+		bean.uuid = UUID.randomUUID();
+		bean.amount = new BigDecimal("12.345");
+		bean.nested = new Nested();
+		bean.nested.flag = true;
+
+		Bean decoded = codec.decode(codec.encode(bean, Bean.class), Bean.class);
+
+		assertThat(decoded.count).isEqualTo(10);
+		assertThat(decoded.name).isEqualTo("name");
+		assertThat(decoded.level).isSameAs(ConsistencyLevel.QUORUM);
+		assertThat(decoded.date).isEqualTo(bean.date);
+		assertThat(decoded.uuid).isEqualTo(bean.uuid);
+		assertThat(decoded.amount).isEqualTo(bean.amount);
+		assertThat(decoded.nested.flag).isTrue();
+	}
+
+	@Test
+	public void should_keep_null_fields() throws Exception {
+		Bean bean = new Bean();
+		bean.count = 3;
+
+		Bean decoded = codec.decode(codec.encode(bean, Bean.class), Bean.class);
+
+		assertThat(decoded.count).isEqualTo(3);
+		assertThat(decoded.name).isNull();
+		assertThat(decoded.nested).isNull();
+	}
+
+	@Test
+	public void should_encode_more_compactly_than_json() throws Exception {
+		Bean bean = new Bean();
+		bean.count = 10;
+		bean.name = "name";
+		bean.uuid = UUID.randomUUID();
+
+		ByteBuffer bytes = codec.encode(bean, Bean.class);
+		String json = new DefaultObjectMapperFactory().getMapper(Bean.class).writeValueAsString(bean);
+
+		assertThat(bytes.remaining()).isLessThan(json.length());
+	}
+
+	@Test
+	public void should_exception_when_type_not_supported() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Type 'java.lang.Thread' is not supported by the schema binary codec");
+
+		codec.encode(new Thread(), Thread.class);
+	}
+
+	@Test
+	public void should_exception_when_encoding_subclass_of_declared_type() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot encode instance of '" + SubBean.class.getCanonicalName()
+				+ "' with the schema of its declared type '" + Bean.class.getCanonicalName() + "'");
+
+		codec.encode(new SubBean(), Bean.class);
+	}
+
+	@Test
+	public void should_exception_when_encoding_subclass_of_nested_field_type() throws Exception {
+		Bean bean = new Bean();
+		bean.nested = new SubNested();
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot encode instance of '" + SubNested.class.getCanonicalName()
+				+ "' with the schema of its declared type '" + Nested.class.getCanonicalName() + "'");
+
+		codec.encode(bean, Bean.class);
+	}
+
+	public static class Bean {
+		public int count;
+		public String name;
+		public ConsistencyLevel level;
+		public Date date;
+		public UUID uuid;
+		public BigDecimal amount;
+		public Nested nested;
+	}
+
+	public static class Nested {
+		public boolean flag;
+	}
+
+	public static class SubBean extends Bean {
+		public String extra;
+	}
+
+	public static class SubNested extends Nested {
+		public String extra;
+	}
+}
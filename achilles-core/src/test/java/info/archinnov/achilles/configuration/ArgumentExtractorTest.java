@@ -20,8 +20,13 @@ import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.codec.SchemaBinaryCodec;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.metrics.MetricsListener;
+import info.archinnov.achilles.type.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -103,6 +108,170 @@ public class ArgumentExtractorTest {
 		assertThat(actual).isTrue();
 	}
 
+	@Test
+	public void should_init_default_counter_coalescing_settings() throws Exception {
+		doCallRealMethod().when(extractor).initCounterCoalescing(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingInterval(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingThreshold(configMap);
+
+		assertThat(extractor.initCounterCoalescing(configMap)).isFalse();
+		assertThat(extractor.initCounterCoalescingInterval(configMap)).isEqualTo(DEFAULT_COUNTER_COALESCING_INTERVAL);
+		assertThat(extractor.initCounterCoalescingThreshold(configMap)).isEqualTo(DEFAULT_COUNTER_COALESCING_THRESHOLD);
+	}
+
+	@Test
+	public void should_init_counter_coalescing_settings() throws Exception {
+		configMap.put(COUNTER_COALESCING_PARAM, true);
+		configMap.put(COUNTER_COALESCING_INTERVAL_PARAM, 200);
+		configMap.put(COUNTER_COALESCING_THRESHOLD_PARAM, 50);
+		doCallRealMethod().when(extractor).initCounterCoalescing(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingInterval(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingThreshold(configMap);
+
+		assertThat(extractor.initCounterCoalescing(configMap)).isTrue();
+		assertThat(extractor.initCounterCoalescingInterval(configMap)).isEqualTo(200L);
+		assertThat(extractor.initCounterCoalescingThreshold(configMap)).isEqualTo(50);
+	}
+
+	@Test
+	public void should_exception_when_counter_coalescing_threshold_not_positive() throws Exception {
+		configMap.put(COUNTER_COALESCING_THRESHOLD_PARAM, 0);
+		doCallRealMethod().when(extractor).initCounterCoalescingThreshold(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(COUNTER_COALESCING_THRESHOLD_PARAM + " property should be strictly positive");
+
+		extractor.initCounterCoalescingThreshold(configMap);
+	}
+
+	@Test
+	public void should_init_slice_prefetch_depth() throws Exception {
+		doCallRealMethod().when(extractor).initSlicePrefetchDepth(configMap);
+		assertThat(extractor.initSlicePrefetchDepth(configMap)).isEqualTo(DEFAULT_SLICE_PREFETCH_DEPTH);
+
+		configMap.put(SLICE_PREFETCH_DEPTH_PARAM, 2);
+		assertThat(extractor.initSlicePrefetchDepth(configMap)).isEqualTo(2);
+	}
+
+	@Test
+	public void should_exception_when_slice_prefetch_depth_negative() throws Exception {
+		configMap.put(SLICE_PREFETCH_DEPTH_PARAM, -1);
+		doCallRealMethod().when(extractor).initSlicePrefetchDepth(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(SLICE_PREFETCH_DEPTH_PARAM + " property should be positive");
+
+		extractor.initSlicePrefetchDepth(configMap);
+	}
+
+	@Test
+	public void should_init_metrics_parameters() throws Exception {
+		doCallRealMethod().when(extractor).initMetricsEnabled(configMap);
+		doCallRealMethod().when(extractor).initMetricsJmxDomain(configMap);
+		assertThat(extractor.initMetricsEnabled(configMap)).isFalse();
+		assertThat(extractor.initMetricsJmxDomain(configMap)).isEqualTo(DEFAULT_METRICS_JMX_DOMAIN);
+
+		configMap.put(METRICS_ENABLED_PARAM, true);
+		configMap.put(METRICS_JMX_DOMAIN_PARAM, "my.app.achilles");
+		assertThat(extractor.initMetricsEnabled(configMap)).isTrue();
+		assertThat(extractor.initMetricsJmxDomain(configMap)).isEqualTo("my.app.achilles");
+	}
+
+	@Test
+	public void should_exception_when_metrics_listener_of_wrong_type() throws Exception {
+		configMap.put(METRICS_LISTENER_PARAM, "listener");
+		doCallRealMethod().when(extractor).initMetricsListener(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("achilles.metrics.listener property should be an instance of '"
+				+ MetricsListener.class.getCanonicalName() + "'");
+
+		extractor.initMetricsListener(configMap);
+	}
+
+	@Test
+	public void should_init_default_bulk_find_chunk_size() throws Exception {
+		doCallRealMethod().when(extractor).initBulkFindChunkSize(configMap);
+
+		assertThat(extractor.initBulkFindChunkSize(configMap)).isEqualTo(DEFAULT_BULK_FIND_CHUNK_SIZE);
+	}
+
+	@Test
+	public void should_exception_when_bulk_find_chunk_size_not_positive() throws Exception {
+		configMap.put(BULK_FIND_CHUNK_SIZE_PARAM, 0);
+		doCallRealMethod().when(extractor).initBulkFindChunkSize(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(BULK_FIND_CHUNK_SIZE_PARAM + " property should be strictly positive");
+
+		extractor.initBulkFindChunkSize(configMap);
+	}
+
+	@Test
+	public void should_init_cached_entity_classes() throws Exception {
+		configMap.put(ENTITY_CACHE_CLASSES_PARAM, "my.entity.User, my.entity.Config");
+		doCallRealMethod().when(extractor).initCachedEntityClasses(configMap);
+
+		assertThat(extractor.initCachedEntityClasses(configMap)).containsOnly("my.entity.User", "my.entity.Config");
+	}
+
+	@Test
+	public void should_init_default_entity_cache_settings() throws Exception {
+		doCallRealMethod().when(extractor).initEntityCacheMaxSize(configMap);
+		doCallRealMethod().when(extractor).initEntityCacheTtl(configMap);
+
+		assertThat(extractor.initEntityCacheMaxSize(configMap)).isEqualTo(DEFAULT_ENTITY_CACHE_MAX_SIZE);
+		assertThat(extractor.initEntityCacheTtl(configMap)).isEqualTo(DEFAULT_ENTITY_CACHE_TTL);
+	}
+
+	@Test
+	public void should_exception_when_entity_cache_ttl_not_positive() throws Exception {
+		configMap.put(ENTITY_CACHE_TTL_PARAM, 0);
+		doCallRealMethod().when(extractor).initEntityCacheTtl(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(ENTITY_CACHE_TTL_PARAM + " property should be strictly positive");
+
+		extractor.initEntityCacheTtl(configMap);
+	}
+
+	@Test
+	public void should_init_default_insert_strategy() throws Exception {
+		doCallRealMethod().when(extractor).initInsertStrategy(configMap);
+
+		assertThat(extractor.initInsertStrategy(configMap)).isEqualTo(InsertStrategy.ALL_FIELDS);
+	}
+
+	@Test
+	public void should_init_insert_strategy_from_string() throws Exception {
+		configMap.put(INSERT_STRATEGY_PARAM, "NOT_NULL_FIELDS");
+		doCallRealMethod().when(extractor).initInsertStrategy(configMap);
+
+		assertThat(extractor.initInsertStrategy(configMap)).isEqualTo(InsertStrategy.NOT_NULL_FIELDS);
+	}
+
+	@Test
+	public void should_exception_when_invalid_insert_strategy() throws Exception {
+		configMap.put(INSERT_STRATEGY_PARAM, "wrong_value");
+		doCallRealMethod().when(extractor).initInsertStrategy(configMap);
+
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("'wrong_value' is not a valid Insert Strategy");
+
+		extractor.initInsertStrategy(configMap);
+	}
+
+	@Test
+	public void should_exception_when_inherit_as_global_insert_strategy() throws Exception {
+		configMap.put(INSERT_STRATEGY_PARAM, "INHERIT");
+		doCallRealMethod().when(extractor).initInsertStrategy(configMap);
+
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("'INHERIT' is not a valid global Insert Strategy");
+
+		extractor.initInsertStrategy(configMap);
+	}
+
 	@Test
 	public void should_init_default_object_factory_mapper() throws Exception {
 		doCallRealMethod().when(extractor).initObjectMapperFactory(configMap);
@@ -224,4 +393,33 @@ public class ArgumentExtractorTest {
 
 		assertThat(consistencyMap).isEmpty();
 	}
+
+	@Test
+	public void should_init_binary_codec() throws Exception {
+		BinaryCodec binaryCodec = new SchemaBinaryCodec();
+		configMap.put(BINARY_CODEC_PARAM, binaryCodec);
+
+		doCallRealMethod().when(extractor).initBinaryCodec(configMap);
+
+		assertThat(extractor.initBinaryCodec(configMap)).isSameAs(binaryCodec);
+	}
+
+	@Test
+	public void should_return_null_binary_codec_when_no_parameter() throws Exception {
+		doCallRealMethod().when(extractor).initBinaryCodec(configMap);
+
+		assertThat(extractor.initBinaryCodec(configMap)).isNull();
+	}
+
+	@Test
+	public void should_exception_when_binary_codec_of_wrong_type() throws Exception {
+		configMap.put(BINARY_CODEC_PARAM, "codec");
+		doCallRealMethod().when(extractor).initBinaryCodec(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("achilles.binary.codec property should be an instance of '"
+				+ BinaryCodec.class.getCanonicalName() + "'");
+
+		extractor.initBinaryCodec(configMap);
+	}
 }
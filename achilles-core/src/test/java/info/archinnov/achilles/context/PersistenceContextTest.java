@@ -19,14 +19,27 @@ package info.archinnov.achilles.context;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.context.FlushContext.FlushType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PersistenceContextTest {
@@ -97,4 +110,144 @@ public class PersistenceContextTest {
 
 		verify(flushContext).endBatch();
 	}
+
+	@Test
+	public void should_load_from_cache() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		Object entity = new Object();
+		prepareCache(entityCache);
+		when(entityCache.get(10L)).thenReturn(entity);
+
+		assertThat(context.loadFromCache()).isSameAs(entity);
+	}
+
+	@Test
+	public void should_put_in_cache_with_generation_read_on_load() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		Object entity = new Object();
+		prepareCache(entityCache);
+		doCallRealMethod().when(context).putInCache(any());
+		when(entityCache.generation(10L)).thenReturn(3L);
+
+		context.loadFromCache();
+		context.putInCache(entity);
+
+		verify(entityCache).put(10L, entity, 3L);
+	}
+
+	@Test
+	public void should_not_put_in_cache_when_not_loaded_from_cache() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		prepareCache(entityCache);
+		doCallRealMethod().when(context).putInCache(any());
+
+		context.putInCache(new Object());
+
+		verify(entityCache, never()).put(any(), any(), anyLong());
+	}
+
+	@Test
+	public void should_not_load_from_cache_when_consistency_level_is_set() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		prepareCache(entityCache);
+		when(flushContext.getConsistencyLevel()).thenReturn(ConsistencyLevel.QUORUM);
+
+		assertThat(context.loadFromCache()).isNull();
+		verify(entityCache, never()).get(any());
+	}
+
+	@Test
+	public void should_evict_from_cache() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		prepareCache(entityCache);
+		doCallRealMethod().when(context).evictFromCache();
+		when(context.getTtt()).thenReturn(Optional.<Integer> absent());
+
+		context.evictFromCache();
+
+		verify(entityCache).invalidate(10L);
+		verify(flushContext, never()).evictFromCacheOnFlush(any(EntityCache.class), any());
+	}
+
+	@Test
+	public void should_evict_from_cache_with_ttl() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		prepareCache(entityCache);
+		doCallRealMethod().when(context).evictFromCache();
+		when(context.getTtt()).thenReturn(Optional.fromNullable(10));
+
+		context.evictFromCache();
+
+		verify(entityCache).invalidate(10L, 10);
+	}
+
+	@Test
+	public void should_evict_from_cache_again_on_flush_in_batch_mode() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		prepareCache(entityCache);
+		doCallRealMethod().when(context).evictFromCache();
+		doCallRealMethod().when(context).isBatchMode();
+		when(flushContext.type()).thenReturn(FlushType.BATCH);
+		when(context.getTtt()).thenReturn(Optional.<Integer> absent());
+
+		context.evictFromCache();
+
+		verify(entityCache).invalidate(10L);
+		verify(flushContext).evictFromCacheOnFlush(entityCache, 10L);
+	}
+
+	@Test
+	public void should_cache_counter_values() throws Exception {
+		PropertyMeta countMeta = prepareCounterCache();
+		PropertyMeta otherMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("other")
+				.type(PropertyType.COUNTER).build();
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.valueClass(String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+		when(entityMeta.getAllMetasExceptIdMeta()).thenReturn(Arrays.asList(countMeta, otherMeta, nameMeta));
+
+		context.cacheCounterValues(ImmutableMap.of("count", 10L));
+
+		assertThat(context.hasCachedCounterValue(countMeta)).isTrue();
+		assertThat(context.getCachedCounterValue(countMeta)).isEqualTo(10L);
+		assertThat(context.hasCachedCounterValue(otherMeta)).isTrue();
+		assertThat(context.getCachedCounterValue(otherMeta)).isNull();
+		assertThat(context.hasCachedCounterValue(nameMeta)).isFalse();
+	}
+
+	@Test
+	public void should_update_and_evict_cached_counter_value() throws Exception {
+		PropertyMeta countMeta = prepareCounterCache();
+		PropertyMeta otherMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("other")
+				.type(PropertyType.COUNTER).build();
+		when(entityMeta.getAllMetasExceptIdMeta()).thenReturn(Arrays.asList(countMeta));
+		context.cacheCounterValues(ImmutableMap.of("count", 10L));
+
+		context.updateCachedCounterValue(countMeta, -3L);
+		context.updateCachedCounterValue(otherMeta, 5L);
+
+		assertThat(context.getCachedCounterValue(countMeta)).isEqualTo(7L);
+		assertThat(context.hasCachedCounterValue(otherMeta)).isFalse();
+
+		context.evictCachedCounterValue(countMeta);
+		assertThat(context.hasCachedCounterValue(countMeta)).isFalse();
+	}
+
+	private PropertyMeta prepareCounterCache() throws Exception {
+		Whitebox.setInternalState(context, "counterValues", new HashMap<String, Long>());
+		doCallRealMethod().when(context).cacheCounterValues(any(Map.class));
+		doCallRealMethod().when(context).hasCachedCounterValue(any(PropertyMeta.class));
+		doCallRealMethod().when(context).getCachedCounterValue(any(PropertyMeta.class));
+		doCallRealMethod().when(context).updateCachedCounterValue(any(PropertyMeta.class), anyLong());
+		doCallRealMethod().when(context).evictCachedCounterValue(any(PropertyMeta.class));
+		return PropertyMetaTestBuilder.valueClass(Long.class).field("count").type(PropertyType.COUNTER).build();
+	}
+
+	private void prepareCache(EntityCache entityCache) {
+		doCallRealMethod().when(context).setPrimaryKey(any());
+		doCallRealMethod().when(context).loadFromCache();
+		doCallRealMethod().when(context).getConsistencyLevel();
+		context.setPrimaryKey(10L);
+		when(entityMeta.isCached()).thenReturn(true);
+		when(entityMeta.getEntityCache()).thenReturn(entityCache);
+	}
 }
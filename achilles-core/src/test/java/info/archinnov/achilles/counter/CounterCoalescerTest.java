@@ -0,0 +1,125 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.base.Predicates;
+
+public class CounterCoalescerTest {
+
+	private TestCoalescer coalescer = new TestCoalescer(1000, 3);
+
+	@Test
+	public void should_aggregate_deltas_per_key() throws Exception {
+		coalescer.add("a", 1L);
+		coalescer.add("a", 5L);
+		coalescer.add("b", -2L);
+
+		assertThat(coalescer.flushed).hasSize(1);
+		assertThat(coalescer.flushed.get(0)).hasSize(2);
+		assertThat(coalescer.flushed.get(0).get("a")).isEqualTo(6L);
+		assertThat(coalescer.flushed.get(0).get("b")).isEqualTo(-2L);
+	}
+
+	@Test
+	public void should_expose_pending_delta_until_flushed() throws Exception {
+		coalescer.add("a", 4L);
+		coalescer.add("a", -1L);
+
+		assertThat(coalescer.getPendingDelta("a")).isEqualTo(3L);
+		assertThat(coalescer.getPendingDelta("b")).isEqualTo(0L);
+
+		coalescer.flush();
+
+		assertThat(coalescer.getPendingDelta("a")).isEqualTo(0L);
+		assertThat(coalescer.flushed).hasSize(1);
+	}
+
+	@Test
+	public void should_not_write_when_deltas_cancel_out() throws Exception {
+		coalescer.add("a", 2L);
+		coalescer.add("a", -2L);
+
+		coalescer.flush();
+
+		assertThat(coalescer.flushed).isEmpty();
+	}
+
+	@Test
+	public void should_discard_pending_deltas_matching_filter() throws Exception {
+		coalescer.add("a", 2L);
+		coalescer.add("b", 5L);
+
+		coalescer.discardPendingDeltas(Predicates.equalTo("a"));
+		coalescer.flush();
+
+		assertThat(coalescer.flushed).hasSize(1);
+		assertThat(coalescer.flushed.get(0)).hasSize(1);
+		assertThat(coalescer.flushed.get(0).get("b")).isEqualTo(5L);
+	}
+
+	@Test
+	public void should_submit_threshold_flush_to_scheduler() throws Exception {
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		coalescer.start(scheduler);
+
+		coalescer.add("a", 1L);
+		coalescer.add("a", 1L);
+		coalescer.add("a", 1L);
+
+		verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(1000L), eq(1000L),
+				eq(TimeUnit.MILLISECONDS));
+		verify(scheduler).execute(any(Runnable.class));
+		assertThat(coalescer.flushed).isEmpty();
+	}
+
+	@Test
+	public void should_drain_pending_deltas_on_shutdown() throws Exception {
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		coalescer.start(scheduler);
+		coalescer.add("a", 7L);
+
+		coalescer.shutdown();
+
+		verify(scheduler).shutdown();
+		assertThat(coalescer.flushed).hasSize(1);
+		assertThat(coalescer.flushed.get(0).get("a")).isEqualTo(7L);
+	}
+
+	private static class TestCoalescer extends CounterCoalescer<String> {
+		private List<Map<String, Long>> flushed = new ArrayList<Map<String, Long>>();
+
+		private TestCoalescer(long flushInterval, int flushThreshold) {
+			super(flushInterval, flushThreshold);
+		}
+
+		@Override
+		protected void writeDeltas(Map<String, Long> deltas) {
+			flushed.add(deltas);
+		}
+	}
+}
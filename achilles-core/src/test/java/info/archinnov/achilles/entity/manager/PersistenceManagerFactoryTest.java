@@ -43,6 +43,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PersistenceManagerFactoryTest {
@@ -157,4 +158,41 @@ public class PersistenceManagerFactoryTest {
 		assertThat(builtContext.getObjectMapperFactory()).isSameAs(mapperFactory);
 	}
 
+	@Test
+	public void should_release_resources_only_once_on_close() throws Exception {
+		doCallRealMethod().when(pmf).close();
+
+		pmf.close();
+		pmf.close();
+
+		verify(pmf, times(1)).releaseResources();
+	}
+
+	@Test
+	public void should_remove_shutdown_hook_on_close() throws Exception {
+		doCallRealMethod().when(pmf).registerShutdownHook();
+		doCallRealMethod().when(pmf).close();
+
+		pmf.registerShutdownHook();
+		Thread shutdownHook = Whitebox.getInternalState(pmf, "shutdownHook");
+		pmf.close();
+		shutdownHook.run();
+
+		assertThat(Runtime.getRuntime().removeShutdownHook(shutdownHook)).isFalse();
+		verify(pmf, times(1)).releaseResources();
+	}
+
+	@Test
+	public void should_release_resources_from_shutdown_hook() throws Exception {
+		doCallRealMethod().when(pmf).registerShutdownHook();
+		doCallRealMethod().when(pmf).close();
+
+		pmf.registerShutdownHook();
+		Thread shutdownHook = Whitebox.getInternalState(pmf, "shutdownHook");
+		Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		shutdownHook.run();
+		pmf.close();
+
+		verify(pmf, times(1)).releaseResources();
+	}
 }
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -30,6 +31,8 @@ import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.entity.operations.EntityValidator;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.EntityInterceptor;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -52,6 +55,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
 import com.google.common.collect.Sets;
 
@@ -253,6 +257,55 @@ public class PersistenceManagerTest {
 		assertThat(options.getTimestamp().isPresent()).isFalse();
 	}
 
+	@Test
+	public void should_find_with_fetch_groups() throws Exception {
+		doCallRealMethod().when(manager).find(CompleteBean.class, primaryKey, "profile", "social");
+		when(manager.find(CompleteBean.class, primaryKey, (ConsistencyLevel) null)).thenReturn(entity);
+
+		PropertyMeta nameMeta = new PropertyMeta();
+		PropertyMeta friendsMeta = new PropertyMeta();
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		when(entityMeta.getFetchGroup("profile")).thenReturn(Arrays.asList(nameMeta));
+		when(entityMeta.getFetchGroup("social")).thenReturn(Arrays.asList(friendsMeta));
+		EntityInterceptor<PersistenceContext, CompleteBean> interceptor = mock(EntityInterceptor.class);
+		when(proxifier.getInterceptor(entity)).thenReturn(interceptor);
+
+		CompleteBean bean = manager.find(CompleteBean.class, primaryKey, "profile", "social");
+
+		assertThat(bean).isSameAs(entity);
+		verify(interceptor).loadProperties(Arrays.asList(nameMeta, friendsMeta));
+	}
+
+	@Test
+	public void should_find_by_primary_keys_in_chunks() throws Exception {
+		doCallRealMethod().when(manager).find(eq(CompleteBean.class), anyCollectionOf(Long.class));
+		doCallRealMethod().when(manager).find(eq(CompleteBean.class), anyCollectionOf(Long.class),
+				any(ConsistencyLevel.class));
+
+		ConfigurationContext configContext = new ConfigurationContext();
+		configContext.setBulkFindChunkSize(2);
+		Whitebox.setInternalState(manager, ConfigurationContext.class, configContext);
+
+		PersistenceContext context2 = mock(PersistenceContext.class);
+		PersistenceContext context3 = mock(PersistenceContext.class);
+		when(manager.initPersistenceContext(eq(CompleteBean.class), eq(12L), any(Options.class))).thenReturn(context2);
+		when(manager.initPersistenceContext(eq(CompleteBean.class), eq(13L), any(Options.class))).thenReturn(context3);
+
+		CompleteBean entity3 = new CompleteBean();
+		CompleteBean proxy = new CompleteBean();
+		CompleteBean proxy3 = new CompleteBean();
+		when(manager.loadEntities(CompleteBean.class, Arrays.asList(context, context2))).thenReturn(
+				Arrays.<CompleteBean> asList(entity, null));
+		when(manager.loadEntities(CompleteBean.class, Arrays.asList(context3))).thenReturn(Arrays.asList(entity3));
+		when(proxifier.buildProxy(entity, context)).thenReturn(proxy);
+		when(proxifier.buildProxy(entity3, context3)).thenReturn(proxy3);
+
+		List<CompleteBean> found = manager.find(CompleteBean.class, Arrays.asList(primaryKey, 12L, 13L), ONE);
+
+		assertThat(found).containsExactly(proxy, proxy3);
+		assertThat(optionsCaptor.getValue().getConsistencyLevel().get()).isSameAs(ONE);
+	}
+
 	@Test
 	public void should_find() throws Exception {
 		doCallRealMethod().when(manager).find(CompleteBean.class, primaryKey);
@@ -475,6 +528,18 @@ public class PersistenceManagerTest {
 		assertThat(actual).isSameAs(entities);
 	}
 
+	@Test
+	public void should_exception_when_scanning_clustered_entity() throws Exception {
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		when(entityMeta.isClusteredEntity()).thenReturn(true);
+		doCallRealMethod().when(manager).scan(CompleteBean.class);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot scan clustered entity class '" + CompleteBean.class.getCanonicalName() + "'");
+
+		manager.scan(CompleteBean.class);
+	}
+
 	private void forceMethodCallsOnMock() {
 		doCallRealMethod().when(manager).setInitializer(initializer);
 		manager.setInitializer(initializer);
@@ -487,5 +552,11 @@ public class PersistenceManagerTest {
 
 		doCallRealMethod().when(manager).setEntityMetaMap(entityMetaMap);
 		manager.setEntityMetaMap(entityMetaMap);
+
+		doCallRealMethod().when(manager).initPersistenceContextForPersist(any(), any(Options.class));
+		doCallRealMethod().when(manager).initPersistenceContextForMerge(any(), any(Options.class));
+		doCallRealMethod().when(manager).initPersistenceContextForRemove(any(), any(ConsistencyLevel.class));
+		doCallRealMethod().when(manager).initPersistenceContextForRemoveById(any(Class.class), any(),
+				any(ConsistencyLevel.class));
 	}
 }
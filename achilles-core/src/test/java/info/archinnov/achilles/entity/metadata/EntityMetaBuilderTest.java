@@ -68,6 +68,7 @@ public class EntityMetaBuilderTest {
 				.columnFamilyName("cfName").propertyMetas(propertyMetas).build();
 
 		assertThat((Class) meta.getEntityClass()).isEqualTo(CompleteBean.class);
+		assertThat(meta.getFastConstructor().newInstance()).isInstanceOf(CompleteBean.class);
 		assertThat(meta.getClassName()).isEqualTo("Bean");
 		assertThat(meta.getTableName()).isEqualTo("cfName");
 		assertThat(meta.getIdMeta()).isSameAs(idMeta);
@@ -109,6 +110,31 @@ public class EntityMetaBuilderTest {
 		assertThat(meta.getTableName()).isEqualTo("toto");
 	}
 
+	@Test
+	public void should_build_meta_with_fetch_groups() throws Exception {
+
+		Map<String, PropertyMeta> propertyMetas = new HashMap<String, PropertyMeta>();
+		PropertyMeta nameMeta = new PropertyMeta();
+		nameMeta.setType(LAZY_SIMPLE);
+		nameMeta.setFetchGroup("profile");
+		PropertyMeta labelMeta = new PropertyMeta();
+		labelMeta.setType(LAZY_SIMPLE);
+		labelMeta.setFetchGroup("profile");
+		PropertyMeta friendsMeta = new PropertyMeta();
+		friendsMeta.setType(LAZY_LIST);
+		propertyMetas.put("name", nameMeta);
+		propertyMetas.put("label", labelMeta);
+		propertyMetas.put("friends", friendsMeta);
+
+		when((Class) idMeta.getValueClass()).thenReturn(Long.class);
+
+		EntityMeta meta = entityMetaBuilder(idMeta).className("Bean").propertyMetas(propertyMetas)
+				.columnFamilyName("toto").build();
+
+		assertThat(meta.getFetchGroups()).hasSize(1);
+		assertThat(meta.getFetchGroup("profile")).containsOnly(nameMeta, labelMeta);
+	}
+
 	@Test
 	public void should_build_meta_with_consistency_levels() throws Exception {
 		Map<String, PropertyMeta> propertyMetas = new HashMap<String, PropertyMeta>();
@@ -19,9 +19,11 @@ package info.archinnov.achilles.entity.metadata;
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.cassandra.utils.Pair;
@@ -166,4 +168,13 @@ public class EntityMetaTest {
 		assertThat(meta.hasEmbeddedId()).isTrue();
 
 	}
+
+	@Test(expected = AchillesException.class)
+	public void should_exception_when_fetch_group_not_declared() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setClassName("Bean");
+		meta.setFetchGroups(new HashMap<String, List<PropertyMeta>>());
+
+		meta.getFetchGroup("unknown");
+	}
 }
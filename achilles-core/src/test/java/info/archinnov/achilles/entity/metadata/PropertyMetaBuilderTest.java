@@ -63,6 +63,9 @@ public class PropertyMetaBuilderTest {
 		assertThat(built.getReadConsistencyLevel()).isEqualTo(ONE);
 		assertThat(built.getWriteConsistencyLevel()).isEqualTo(ALL);
 		assertThat(built.getTranscoder()).isInstanceOf(SimpleTranscoder.class);
+		assertThat(built.getFastGetter().getJavaMethod()).isEqualTo(accessors[0]);
+		assertThat(built.getFastSetter().getJavaMethod()).isEqualTo(accessors[1]);
+		assertThat(built.getFastConstructor()).isNull();
 	}
 
 	@Test
@@ -84,6 +87,7 @@ public class PropertyMetaBuilderTest {
 		assertThat(built.getReadConsistencyLevel()).isEqualTo(ONE);
 		assertThat(built.getWriteConsistencyLevel()).isEqualTo(ALL);
 		assertThat(built.getTranscoder()).isInstanceOf(CompoundTranscoder.class);
+		assertThat(built.getFastConstructor().newInstance()).isInstanceOf(EmbeddedKey.class);
 	}
 
 	@Test
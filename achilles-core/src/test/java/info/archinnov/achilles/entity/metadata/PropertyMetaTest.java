@@ -20,15 +20,18 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.codec.SchemaBinaryCodec;
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.SimpleTranscoder;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.test.parser.entity.EmbeddedKey;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -503,7 +506,7 @@ public class PropertyMetaTest {
 		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name").accessors()
 				.type(SIMPLE).invoker(invoker).build();
 
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn("name");
+		when(invoker.getValueFromField(entity, pm)).thenReturn("name");
 
 		assertThat(pm.getValueFromField(entity)).isEqualTo("name");
 	}
@@ -518,7 +521,7 @@ public class PropertyMetaTest {
 		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends").accessors()
 				.type(LIST).invoker(invoker).build();
 
-		when((List<String>) invoker.getListValueFromField(entity, pm.getGetter())).thenReturn(friends);
+		when((List<String>) invoker.getListValueFromField(entity, pm)).thenReturn(friends);
 
 		assertThat((List<String>) pm.getListValueFromField(entity)).containsExactly("foo", "bar");
 	}
@@ -533,7 +536,7 @@ public class PropertyMetaTest {
 		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers").accessors()
 				.type(SET).invoker(invoker).build();
 
-		when((Set<String>) invoker.getSetValueFromField(entity, pm.getGetter())).thenReturn(followers);
+		when((Set<String>) invoker.getSetValueFromField(entity, pm)).thenReturn(followers);
 
 		assertThat((Set<String>) pm.getSetValueFromField(entity)).containsOnly("George", "Paul");
 	}
@@ -548,7 +551,7 @@ public class PropertyMetaTest {
 		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, String.class).field("preferences")
 				.accessors().type(MAP).invoker(invoker).build();
 
-		when((Map<Integer, String>) invoker.getMapValueFromField(entity, pm.getGetter())).thenReturn(preferences);
+		when((Map<Integer, String>) invoker.getMapValueFromField(entity, pm)).thenReturn(preferences);
 
 		Map<Integer, String> actual = (Map<Integer, String>) pm.getMapValueFromField(entity);
 
@@ -565,7 +568,7 @@ public class PropertyMetaTest {
 
 		pm.setValueToField(entity, "name");
 
-		verify(invoker).setValueToField(entity, pm.getSetter(), "name");
+		verify(invoker).setValueToField(entity, pm, "name");
 	}
 
 	@Test
@@ -612,4 +615,25 @@ public class PropertyMetaTest {
 
 		assertThat(pm.isComponentTimeUUID("comp1")).isFalse();
 	}
+
+	@Test
+	public void should_store_custom_types_as_blob_when_binary_codec() throws Exception {
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.keyValueClass(UserBean.class, UserBean.class).type(MAP)
+				.build();
+		propertyMeta.setBinaryCodec(new SchemaBinaryCodec());
+
+		assertThat((Object) propertyMeta.getValueClassForTableCreation()).isEqualTo(ByteBuffer.class);
+		assertThat((Object) propertyMeta.getKeyClassForTableCreation()).isEqualTo(ByteBuffer.class);
+		assertThat((Object) propertyMeta.getValueClass()).isEqualTo(UserBean.class);
+	}
+
+	@Test
+	public void should_not_store_supported_types_as_blob_when_binary_codec() throws Exception {
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.keyValueClass(Integer.class, ConsistencyLevel.class)
+				.type(MAP).build();
+		propertyMeta.setBinaryCodec(new SchemaBinaryCodec());
+
+		assertThat((Object) propertyMeta.getValueClassForTableCreation()).isEqualTo(ConsistencyLevel.class);
+		assertThat((Object) propertyMeta.getKeyClassForTableCreation()).isEqualTo(Integer.class);
+	}
 }
@@ -22,11 +22,14 @@ import static org.mockito.Mockito.*;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.json.ObjectReaderWriterCache;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.test.parser.entity.EmbeddedKey;
+import info.archinnov.achilles.type.BinaryCodec;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +37,8 @@ import java.util.Map;
 import java.util.Set;
 
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -59,6 +64,12 @@ public class AbstractTranscoderTest {
 	@Mock
 	private ObjectMapper objectMapper;
 
+	@Mock
+	private ObjectReader reader;
+
+	@Mock
+	private ObjectWriter writer;
+
 	@Mock
 	private ReflectionInvoker invoker;
 
@@ -67,7 +78,9 @@ public class AbstractTranscoderTest {
 
 	@Before
 	public void setUp() {
-		Whitebox.setInternalState(transcoder, ObjectMapper.class, objectMapper);
+		Whitebox.setInternalState(transcoder, ObjectReaderWriterCache.class, new ObjectReaderWriterCache(objectMapper));
+		when(objectMapper.reader(any(Class.class))).thenReturn(reader);
+		when(objectMapper.writerWithType(any(Class.class))).thenReturn(writer);
 		Whitebox.setInternalState(transcoder, ReflectionInvoker.class, invoker);
 	}
 
@@ -89,7 +102,7 @@ public class AbstractTranscoderTest {
 	@Test
 	public void should_encode_unsopported_type_to_json() throws Exception {
 		UserBean bean = new UserBean();
-		when(objectMapper.writeValueAsString(bean)).thenReturn("json_bean");
+		when(writer.writeValueAsString(bean)).thenReturn("json_bean");
 		Object actual = transcoder.encodeInternal(UserBean.class, bean);
 
 		assertThat(actual).isEqualTo("json_bean");
@@ -112,7 +125,7 @@ public class AbstractTranscoderTest {
 	@Test
 	public void should_decode_unsopported_type_to_json() throws Exception {
 		UserBean bean = new UserBean();
-		when(objectMapper.readValue("json_bean", UserBean.class)).thenReturn(bean);
+		when(reader.readValue("json_bean")).thenReturn(bean);
 		Object actual = transcoder.decodeInternal(UserBean.class, "json_bean");
 
 		assertThat(actual).isEqualTo(bean);
@@ -276,7 +289,7 @@ public class AbstractTranscoderTest {
 
 	@Test
 	public void should_force_encode_to_json_object_type() throws Exception {
-		when(objectMapper.writeValueAsString(10L)).thenReturn("10");
+		when(writer.writeValueAsString(10L)).thenReturn("10");
 
 		assertThat(transcoder.forceEncodeToJSON(10L)).isEqualTo("10");
 	}
@@ -295,7 +308,7 @@ public class AbstractTranscoderTest {
 
 	@Test
 	public void should_exception_when_error_on_force_encode_to_json() throws Exception {
-		doThrow(new RuntimeException()).when(objectMapper).writeValueAsString(11L);
+		doThrow(new RuntimeException()).when(writer).writeValueAsString(11L);
 
 		exception.expect(AchillesException.class);
 		exception.expectMessage("Error while encoding value '11'");
@@ -305,14 +318,14 @@ public class AbstractTranscoderTest {
 
 	@Test
 	public void should_force_decode_from_json_object_type() throws Exception {
-		when(objectMapper.readValue("10", Long.class)).thenReturn(10L);
+		when(reader.readValue("10")).thenReturn(10L);
 
 		assertThat(transcoder.forceDecodeFromJSON("10", Long.class)).isEqualTo(10L);
 	}
 
 	@Test
 	public void should_exception_when_error_on_force_decode_from_json() throws Exception {
-		doThrow(new RuntimeException()).when(objectMapper).readValue("11", Long.class);
+		doThrow(new RuntimeException()).when(reader).readValue("11");
 
 		exception.expect(AchillesException.class);
 		exception.expectMessage("Error while decoding value '11' to type 'java.lang.Long'");
@@ -331,4 +344,53 @@ public class AbstractTranscoderTest {
 
 		assertThat(transcoder.forceDecodeFromJSON(null, Long.class)).isNull();
 	}
+
+	@Test
+	public void should_encode_custom_type_with_binary_codec() throws Exception {
+		BinaryCodec binaryCodec = mock(BinaryCodec.class);
+		Whitebox.setInternalState(transcoder, "binaryCodec", binaryCodec);
+		UserBean bean = new UserBean();
+		ByteBuffer bytes = ByteBuffer.wrap(new byte[] { 1, 2 });
+		when(binaryCodec.encode(bean, UserBean.class)).thenReturn(bytes);
+
+		Object actual = transcoder.encodeInternal(UserBean.class, bean);
+
+		assertThat(actual).isSameAs(bytes);
+		verifyZeroInteractions(objectMapper);
+	}
+
+	@Test
+	public void should_not_encode_supported_type_with_binary_codec() throws Exception {
+		BinaryCodec binaryCodec = mock(BinaryCodec.class);
+		Whitebox.setInternalState(transcoder, "binaryCodec", binaryCodec);
+
+		assertThat(transcoder.encodeInternal(String.class, "value")).isEqualTo("value");
+		verifyZeroInteractions(binaryCodec);
+	}
+
+	@Test
+	public void should_decode_bytes_with_binary_codec() throws Exception {
+		BinaryCodec binaryCodec = mock(BinaryCodec.class);
+		Whitebox.setInternalState(transcoder, "binaryCodec", binaryCodec);
+		UserBean bean = new UserBean();
+		ByteBuffer bytes = ByteBuffer.wrap(new byte[] { 1, 2 });
+		when(binaryCodec.decode(bytes, UserBean.class)).thenReturn(bean);
+
+		Object actual = transcoder.decodeInternal(UserBean.class, bytes);
+
+		assertThat(actual).isSameAs(bean);
+	}
+
+	@Test
+	public void should_decode_legacy_json_with_binary_codec() throws Exception {
+		BinaryCodec binaryCodec = mock(BinaryCodec.class);
+		Whitebox.setInternalState(transcoder, "binaryCodec", binaryCodec);
+		UserBean bean = new UserBean();
+		when(reader.readValue("{}")).thenReturn(bean);
+
+		Object actual = transcoder.decodeInternal(UserBean.class, "{}");
+
+		assertThat(actual).isSameAs(bean);
+		verifyZeroInteractions(binaryCodec);
+	}
 }
@@ -106,7 +106,8 @@ public class EntityInitializerTest {
 
 		initializer.initializeEntity(bean, entityMeta, interceptor);
 
-		verify(invoker).getValueFromField(bean, followersMeta.getGetter());
+		verify(interceptor).loadProperties(Sets.newHashSet(followersMeta));
+		verify(invoker).getValueFromField(bean, followersMeta);
 	}
 
 	@Test
@@ -132,14 +133,14 @@ public class EntityInitializerTest {
 		entityMeta.setGetterMetas(getterMetas);
 
 		when(interceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
-		when(invoker.getValueFromField(bean, counterMeta.getGetter())).thenReturn(CounterBuilder.incr(10L));
+		when(invoker.getValueFromField(bean, counterMeta)).thenReturn(CounterBuilder.incr(10L));
 		when(proxifier.getRealObject(bean)).thenReturn(bean);
 
 		initializer.initializeEntity(bean, entityMeta, interceptor);
 
 		ArgumentCaptor<Counter> counterCaptor = ArgumentCaptor.forClass(Counter.class);
 
-		verify(invoker).setValueToField(eq(bean), eq(counterMeta.getSetter()), counterCaptor.capture());
+		verify(invoker).setValueToField(eq(bean), eq(counterMeta), counterCaptor.capture());
 
 		assertThat(counterCaptor.getValue().get()).isEqualTo(10L);
 	}
@@ -167,14 +168,14 @@ public class EntityInitializerTest {
 		entityMeta.setGetterMetas(getterMetas);
 
 		when(interceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
-		when(invoker.getValueFromField(bean, counterMeta.getGetter())).thenReturn(CounterBuilder.incr(10L));
+		when(invoker.getValueFromField(bean, counterMeta)).thenReturn(CounterBuilder.incr(10L));
 		when(proxifier.getRealObject(bean)).thenReturn(bean);
 
 		initializer.initializeEntity(bean, entityMeta, interceptor);
 
 		ArgumentCaptor<Counter> counterCaptor = ArgumentCaptor.forClass(Counter.class);
 
-		verify(invoker).setValueToField(eq(bean), eq(counterMeta.getSetter()), counterCaptor.capture());
+		verify(invoker).setValueToField(eq(bean), eq(counterMeta), counterCaptor.capture());
 
 		assertThat(counterCaptor.getValue().get()).isEqualTo(10L);
 	}
@@ -24,6 +24,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.Merger;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -74,6 +75,8 @@ public class EntityMergerTest {
 
 	private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
 
+	private Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+
 	@SuppressWarnings("unchecked")
 	@Before
 	public void setUp() {
@@ -95,6 +98,7 @@ public class EntityMergerTest {
 		when(proxifier.getRealObject(entity)).thenReturn(entity);
 		when(proxifier.getInterceptor(entity)).thenReturn(interceptor);
 		when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
+		when(interceptor.getChangesMap()).thenReturn(changesMap);
 
 		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, UserBean.class).field("user").type(SIMPLE)
 				.accessors().build();
@@ -107,7 +111,7 @@ public class EntityMergerTest {
 
 		assertThat(actual).isSameAs(entity);
 		verify(context).setEntity(entity);
-		verify(merger).merge(context, dirtyMap);
+		verify(merger).merge(context, dirtyMap, changesMap);
 
 		verify(interceptor).setContext(context);
 		verify(interceptor).setTarget(entity);
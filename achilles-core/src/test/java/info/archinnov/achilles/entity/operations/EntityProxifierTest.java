@@ -113,6 +113,26 @@ public class EntityProxifierTest {
 		assertThat(factory.getCallback(0)).isInstanceOf(EntityInterceptor.class);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_reuse_proxy_class_for_same_entity_class() throws Exception {
+		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().buid();
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().buid();
+		EntityInterceptor<PersistenceContext, CompleteBean> interceptor2 = mock(EntityInterceptor.class);
+		when(proxifier.buildInterceptor(eq(context), eq(entity), any(HashSet.class))).thenReturn(interceptor);
+		when(proxifier.buildInterceptor(eq(context), eq(entity2), any(HashSet.class))).thenReturn(interceptor2);
+		doCallRealMethod().when(proxifier).buildProxy(any(CompleteBean.class), eq(context));
+		doCallRealMethod().when(proxifier).buildProxy(any(CompleteBean.class), eq(context), any(HashSet.class));
+
+		CompleteBean proxy = proxifier.buildProxy(entity, context);
+		CompleteBean proxy2 = proxifier.buildProxy(entity2, context);
+
+		assertThat(proxy2).isNotSameAs(proxy);
+		assertThat((Object) proxy2.getClass()).isSameAs(proxy.getClass());
+		assertThat(((Factory) proxy).getCallback(0)).isSameAs(interceptor);
+		assertThat(((Factory) proxy2).getCallback(0)).isSameAs(interceptor2);
+	}
+
 	@Test
 	public void should_build_null_proxy() throws Exception {
 		doCallRealMethod().when(proxifier).buildProxy(null, context);
@@ -23,6 +23,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.helper.EntityIntrospector;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
@@ -62,6 +63,9 @@ public class EntityRefresherTest {
 	@Mock
 	private Map<Method, PropertyMeta> dirtyMap;
 
+	@Mock
+	private Map<Method, ElementChanges> changesMap;
+
 	@Mock
 	private Set<Method> alreadyLoaded;
 
@@ -81,7 +85,9 @@ public class EntityRefresherTest {
 
 		when(jpaEntityInterceptor.getTarget()).thenReturn(bean);
 		when(jpaEntityInterceptor.getDirtyMap()).thenReturn(dirtyMap);
+		when(jpaEntityInterceptor.getChangesMap()).thenReturn(changesMap);
 		when(jpaEntityInterceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
+		when(jpaEntityInterceptor.getContext()).thenReturn(context);
 		when(context.getEntityMeta()).thenReturn(entityMeta);
 		when(entityMeta.getEagerGetters()).thenReturn(eagerGetters);
 		when(loader.load(context, CompleteBean.class)).thenReturn(bean);
@@ -89,8 +95,10 @@ public class EntityRefresherTest {
 		entityRefresher.refresh(context);
 
 		verify(dirtyMap).clear();
+		verify(changesMap).clear();
 		verify(alreadyLoaded).clear();
 		verify(alreadyLoaded).addAll(eagerGetters);
+		verify(context).evictCachedCounterValues();
 		verify(jpaEntityInterceptor).setTarget(bean);
 	}
 
@@ -107,7 +115,9 @@ public class EntityRefresherTest {
 
 		when(jpaEntityInterceptor.getTarget()).thenReturn(bean);
 		when(jpaEntityInterceptor.getDirtyMap()).thenReturn(dirtyMap);
+		when(jpaEntityInterceptor.getChangesMap()).thenReturn(changesMap);
 		when(jpaEntityInterceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
+		when(jpaEntityInterceptor.getContext()).thenReturn(context);
 		when(context.getEntityMeta()).thenReturn(entityMeta);
 		when(entityMeta.getEagerGetters()).thenReturn(eagerGetters);
 		when(loader.load(context, CompleteBean.class)).thenReturn(null);
@@ -0,0 +1,143 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.query.scan.ScanQuery;
+import info.archinnov.achilles.query.scan.TokenPartitioner;
+import info.archinnov.achilles.query.scan.TokenRange;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TableScanExecutorTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private EntityProxifier<PersistenceContext> proxifier;
+
+	@Mock
+	private PersistenceContext context;
+
+	private EntityMeta meta = new EntityMeta();
+
+	private List<TokenRange> scannedRanges = Collections.synchronizedList(new ArrayList<TokenRange>());
+
+	private List<CompleteBean> consumed = Collections.synchronizedList(new ArrayList<CompleteBean>());
+
+	private ScanConsumer<CompleteBean> consumer = new ScanConsumer<CompleteBean>() {
+		@Override
+		public void consume(CompleteBean entity) {
+			consumed.add(entity);
+		}
+	};
+
+	private RuntimeException failure;
+
+	private TableScanExecutor<PersistenceContext> executor;
+
+	@Before
+	public void setUp() {
+		meta.setClassName(CompleteBean.class.getCanonicalName());
+		meta.setEagerGetters(new ArrayList<Method>());
+
+		executor = new TableScanExecutor<PersistenceContext>(proxifier) {
+			@Override
+			protected <T> void scanRange(ScanQuery<T> query, TokenPartitioner partitioner, TokenRange range,
+					ScanConsumer<T> consumer) {
+				if (failure != null) {
+					throw failure;
+				}
+				scannedRanges.add(range);
+				consumer.consume(proxify(query, query.getMeta().<T> instanciate()));
+			}
+
+			@Override
+			protected <T> String describePartitioner(ScanQuery<T> query) {
+				return "org.apache.cassandra.dht.Murmur3Partitioner";
+			}
+
+			@Override
+			protected <T> PersistenceContext buildNewContext(ScanQuery<T> query, T entity) {
+				return context;
+			}
+		};
+	}
+
+	@Test
+	public void should_scan_all_token_ranges_with_own_executor() throws Exception {
+		meta.setEntityClass(CompleteBean.class);
+		ScanQuery<CompleteBean> query = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 3, 10,
+				ConsistencyLevel.ONE, false);
+
+		executor.scan(query, null, consumer);
+
+		assertThat(new HashSet<TokenRange>(scannedRanges)).isEqualTo(
+				new HashSet<TokenRange>(TokenPartitioner.MURMUR3.split(3)));
+		assertThat(consumed).hasSize(3);
+		verifyZeroInteractions(proxifier);
+	}
+
+	@Test
+	public void should_proxify_managed_entities() throws Exception {
+		meta.setEntityClass(CompleteBean.class);
+		ScanQuery<CompleteBean> query = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 1, 10,
+				ConsistencyLevel.ONE, true);
+		CompleteBean proxy = new CompleteBean();
+		when(proxifier.buildProxy(any(CompleteBean.class), eq(context), eq(new HashSet<Method>()))).thenReturn(proxy);
+
+		executor.scan(query, MoreExecutors.sameThreadExecutor(), consumer);
+
+		assertThat(consumed).containsExactly(proxy);
+	}
+
+	@Test
+	public void should_raise_failure_of_a_token_range() throws Exception {
+		meta.setEntityClass(CompleteBean.class);
+		ScanQuery<CompleteBean> query = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 2, 10,
+				ConsistencyLevel.ONE, false);
+		failure = new RuntimeException("test");
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("test");
+
+		executor.scan(query, MoreExecutors.sameThreadExecutor(), consumer);
+	}
+}
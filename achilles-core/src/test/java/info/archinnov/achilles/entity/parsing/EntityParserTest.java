@@ -28,14 +28,17 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 import info.archinnov.achilles.table.TableCreator;
 import info.archinnov.achilles.test.parser.entity.Bean;
+import info.archinnov.achilles.test.parser.entity.BeanWithBareStrategy;
 import info.archinnov.achilles.test.parser.entity.BeanWithClusteredId;
 import info.archinnov.achilles.test.parser.entity.BeanWithColumnFamilyName;
 import info.archinnov.achilles.test.parser.entity.BeanWithDuplicatedColumnName;
 import info.archinnov.achilles.test.parser.entity.BeanWithNoId;
 import info.archinnov.achilles.test.parser.entity.BeanWithSimpleCounter;
+import info.archinnov.achilles.test.parser.entity.CachedBean;
 import info.archinnov.achilles.test.parser.entity.ChildBean;
 import info.archinnov.achilles.test.parser.entity.ClusteredEntity;
 import info.archinnov.achilles.test.parser.entity.ClusteredEntityWithNotSupportedPropertyType;
@@ -43,6 +46,7 @@ import info.archinnov.achilles.test.parser.entity.ClusteredEntityWithTwoProperti
 import info.archinnov.achilles.test.parser.entity.EmbeddedKey;
 import info.archinnov.achilles.test.parser.entity.UserBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.util.Map;
 
@@ -56,6 +60,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.collect.Sets;
+
 @RunWith(MockitoJUnitRunner.class)
 public class EntityParserTest {
 
@@ -96,6 +102,59 @@ public class EntityParserTest {
 		when(policy.getDefaultGlobalWriteConsistencyLevel()).thenReturn(ConsistencyLevel.ALL);
 	}
 
+	@Test
+	public void should_parse_entity_with_global_insert_strategy() throws Exception {
+		configContext.setInsertStrategy(InsertStrategy.NOT_NULL_FIELDS);
+
+		initEntityParsingContext(Bean.class);
+		EntityMeta meta = parser.parseEntity(entityContext);
+
+		assertThat(meta.getInsertStrategy()).isEqualTo(InsertStrategy.NOT_NULL_FIELDS);
+	}
+
+	@Test
+	public void should_keep_global_insert_strategy_for_bare_strategy_annotation() throws Exception {
+		configContext.setInsertStrategy(InsertStrategy.NOT_NULL_FIELDS);
+
+		initEntityParsingContext(BeanWithBareStrategy.class);
+		EntityMeta meta = parser.parseEntity(entityContext);
+
+		assertThat(meta.getInsertStrategy()).isEqualTo(InsertStrategy.NOT_NULL_FIELDS);
+	}
+
+	@Test
+	public void should_parse_cached_entity() throws Exception {
+		configContext.setEntityCacheTtl(60);
+
+		initEntityParsingContext(CachedBean.class);
+		EntityMeta meta = parser.parseEntity(entityContext);
+
+		assertThat(meta.isCached()).isTrue();
+		assertThat(meta.getEntityCache().size()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_parse_entity_cached_by_configuration() throws Exception {
+		configContext.setCachedEntityClasses(Sets.newHashSet(Bean.class.getName()));
+
+		initEntityParsingContext(Bean.class);
+		EntityMeta meta = parser.parseEntity(entityContext);
+
+		assertThat(meta.isCached()).isTrue();
+	}
+
+	@Test
+	public void should_exception_when_clustered_entity_is_cached() throws Exception {
+		configContext.setCachedEntityClasses(Sets.newHashSet(ClusteredEntity.class.getName()));
+		initEntityParsingContext(ClusteredEntity.class);
+
+		expectedEx.expect(AchillesException.class);
+		expectedEx.expectMessage("The clustered entity '" + ClusteredEntity.class.getCanonicalName()
+				+ "' cannot be cached");
+
+		parser.parseEntity(entityContext);
+	}
+
 	@Test
 	public void should_parse_entity() throws Exception {
 
@@ -108,6 +167,7 @@ public class EntityParserTest {
 		assertThat(meta.getIdMeta().getPropertyName()).isEqualTo("id");
 		assertThat((Class<Long>) meta.getIdClass()).isEqualTo(Long.class);
 		assertThat(meta.getPropertyMetas()).hasSize(7);
+		assertThat(meta.getInsertStrategy()).isEqualTo(InsertStrategy.ALL_FIELDS);
 
 		PropertyMeta id = meta.getPropertyMetas().get("id");
 		PropertyMeta name = meta.getPropertyMetas().get("name");
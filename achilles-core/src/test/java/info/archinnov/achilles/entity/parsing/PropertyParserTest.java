@@ -22,8 +22,10 @@ import static org.mockito.Mockito.*;
 import info.archinnov.achilles.annotations.Consistency;
 import info.archinnov.achilles.annotations.Lazy;
 import info.archinnov.achilles.annotations.TimeUUID;
+import info.archinnov.achilles.codec.JacksonBinaryCodec;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
 import info.archinnov.achilles.entity.metadata.EmbeddedIdProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
@@ -31,6 +33,7 @@ import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
 import info.archinnov.achilles.entity.parsing.context.PropertyParsingContext;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
 import info.archinnov.achilles.test.parser.entity.EmbeddedKey;
+import info.archinnov.achilles.test.parser.entity.UserBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Counter;
 
@@ -409,6 +412,28 @@ public class PropertyParserTest {
 		assertThat(meta.type().isLazy()).isTrue();
 	}
 
+	@Test
+	public void should_parse_lazy_with_fetch_group() throws Exception {
+		@SuppressWarnings("unused")
+		class Test {
+			@Column
+			@Lazy(group = "social")
+			private List<String> friends;
+
+			public List<String> getFriends() {
+				return friends;
+			}
+
+			public void setFriends(List<String> friends) {
+				this.friends = friends;
+			}
+		}
+		PropertyParsingContext context = newContext(Test.class, Test.class.getDeclaredField("friends"));
+		PropertyMeta meta = parser.parse(context);
+		assertThat(meta.type().isLazy()).isTrue();
+		assertThat(meta.getFetchGroup()).isEqualTo("social");
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Test
 	public void should_parse_list() throws Exception {
@@ -533,6 +558,56 @@ public class PropertyParserTest {
 		assertThat((Class<Map>) meta.getSetter().getParameterTypes()[0]).isEqualTo(Map.class);
 	}
 
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void should_not_reject_default_binary_codec_for_native_property_with_thrift() throws Exception {
+		@SuppressWarnings("unused")
+		class Test {
+			@Column
+			private List<String> friends;
+
+			public List<String> getFriends() {
+				return friends;
+			}
+
+			public void setFriends(List<String> friends) {
+				this.friends = friends;
+			}
+		}
+		configContext.setImpl(Impl.THRIFT);
+		configContext.setBinaryCodec(new JacksonBinaryCodec());
+		PropertyParsingContext context = newContext(Test.class, Test.class.getDeclaredField("friends"));
+
+		PropertyMeta meta = parser.parse(context);
+
+		assertThat((Class) meta.getCassandraValueClass()).isEqualTo(String.class);
+	}
+
+	@Test
+	public void should_exception_when_binary_codec_used_with_thrift() throws Exception {
+		@SuppressWarnings("unused")
+		class Test {
+			@Column
+			private Map<Integer, UserBean> users;
+
+			public Map<Integer, UserBean> getUsers() {
+				return users;
+			}
+
+			public void setUsers(Map<Integer, UserBean> users) {
+				this.users = users;
+			}
+		}
+		configContext.setImpl(Impl.THRIFT);
+		configContext.setBinaryCodec(new JacksonBinaryCodec());
+		PropertyParsingContext context = newContext(Test.class, Test.class.getDeclaredField("users"));
+
+		expectedEx.expect(AchillesBeanMappingException.class);
+		expectedEx.expectMessage("Binary codecs are not supported by the Thrift implementation, field 'users'");
+
+		parser.parse(context);
+	}
+
 	private <T> PropertyParsingContext newContext(Class<T> entityClass, Field field) {
 		entityContext = new EntityParsingContext(configContext, entityClass);
 
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.annotations.Consistency;
+import info.archinnov.achilles.annotations.Strategy;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -28,6 +29,7 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.parser.entity.BeanWithColumnFamilyName;
 import info.archinnov.achilles.test.parser.entity.ChildBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -364,6 +366,35 @@ public class EntityIntrospectorTest {
 		assertThat(levels.right).isEqualTo(ONE);
 	}
 
+	@Test
+	public void should_find_insert_strategy_from_annotation() throws Exception {
+		@Strategy(insert = InsertStrategy.NOT_NULL_FIELDS)
+		class Test {
+		}
+
+		assertThat(introspector.findInsertStrategy(Test.class, InsertStrategy.ALL_FIELDS)).isEqualTo(
+				InsertStrategy.NOT_NULL_FIELDS);
+	}
+
+	@Test
+	public void should_find_default_insert_strategy_when_annotation_has_no_insert() throws Exception {
+		@Strategy
+		class Test {
+		}
+
+		assertThat(introspector.findInsertStrategy(Test.class, InsertStrategy.NOT_NULL_FIELDS)).isEqualTo(
+				InsertStrategy.NOT_NULL_FIELDS);
+	}
+
+	@Test
+	public void should_find_default_insert_strategy() throws Exception {
+		class Test {
+		}
+
+		assertThat(introspector.findInsertStrategy(Test.class, InsertStrategy.NOT_NULL_FIELDS)).isEqualTo(
+				InsertStrategy.NOT_NULL_FIELDS);
+	}
+
 	@Test
 	public void should_get_defaul_global_read_consistency_from_config() throws Exception {
 		when(policy.getDefaultGlobalReadConsistencyLevel()).thenReturn(LOCAL_QUORUM);
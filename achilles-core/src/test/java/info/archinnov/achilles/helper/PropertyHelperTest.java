@@ -111,6 +111,21 @@ public class PropertyHelperTest {
 		assertThat(helper.isLazy(field)).isTrue();
 	}
 
+	@Test
+	public void should_find_fetch_group() throws Exception {
+
+		class Test {
+			@Lazy(group = "profile")
+			private String name;
+
+			@Lazy
+			private String label;
+		}
+
+		assertThat(helper.getFetchGroup(Test.class.getDeclaredField("name"))).isEqualTo("profile");
+		assertThat(helper.getFetchGroup(Test.class.getDeclaredField("label"))).isNull();
+	}
+
 	@Test
 	public void should_check_consistency_annotation() throws Exception {
 		class Test {
@@ -0,0 +1,58 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.json;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObjectReaderWriterCacheTest {
+
+	private ObjectMapper objectMapper;
+
+	private ObjectReaderWriterCache cache;
+
+	@Before
+	public void setUp() {
+		objectMapper = spy(new ObjectMapper());
+		cache = new ObjectReaderWriterCache(objectMapper);
+	}
+
+	@Test
+	public void should_resolve_reader_once_per_type() throws Exception {
+		ObjectReader reader = cache.readerFor(Long.class);
+
+		assertThat(cache.readerFor(Long.class)).isSameAs(reader);
+		assertThat(cache.readerFor(String.class)).isNotSameAs(reader);
+		verify(objectMapper, times(1)).reader(Long.class);
+		assertThat(reader.<Long> readValue("10")).isEqualTo(10L);
+	}
+
+	@Test
+	public void should_resolve_writer_once_per_type() throws Exception {
+		ObjectWriter writer = cache.writerFor(Long.class);
+
+		assertThat(cache.writerFor(Long.class)).isSameAs(writer);
+		verify(objectMapper, times(1)).writerWithType(Long.class);
+		assertThat(writer.writeValueAsString(10L)).isEqualTo("10");
+	}
+}
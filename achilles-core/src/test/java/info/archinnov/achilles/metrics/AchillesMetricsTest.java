@@ -0,0 +1,164 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+import static info.archinnov.achilles.metrics.OperationType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verify;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AchillesMetricsTest {
+
+	@Mock
+	private MetricsListener listener;
+
+	private AchillesMetrics metrics;
+
+	private EntityMetrics entityMetrics;
+
+	@Before
+	public void setUp() {
+		metrics = new AchillesMetrics(listener);
+		entityMetrics = metrics.register(CompleteBean.class);
+	}
+
+	@Test
+	public void should_record_operation_with_statements() throws Exception {
+		long start = entityMetrics.startOperation();
+		metrics.recordStatement();
+		metrics.recordStatements(2);
+		entityMetrics.stopOperation(FIND, start);
+
+		OperationMetrics find = entityMetrics.getOperation(FIND);
+		assertThat(find.getCount()).isEqualTo(1);
+		assertThat(find.getStatements()).isEqualTo(3);
+		assertThat(find.getStatementsPerOperation()).isEqualTo(3.0);
+		assertThat(entityMetrics.getOperation(PERSIST).getCount()).isEqualTo(0);
+		assertThat(metrics.getStatements()).isEqualTo(3);
+		verify(listener).onOperation(eq(CompleteBean.class), eq(FIND), anyLong(), eq(3L));
+	}
+
+	@Test
+	public void should_charge_nested_operations_their_own_statements() throws Exception {
+		EntityMetrics userMetrics = metrics.register(UserBean.class);
+
+		long outer = entityMetrics.startOperation();
+		metrics.recordStatement();
+
+		long inner = userMetrics.startOperation();
+		metrics.recordStatements(2);
+		userMetrics.stopOperation(COUNTER, inner);
+
+		metrics.recordStatement();
+		entityMetrics.stopOperation(PERSIST, outer);
+
+		assertThat(userMetrics.getOperation(COUNTER).getStatements()).isEqualTo(2);
+		assertThat(entityMetrics.getOperation(PERSIST).getStatements()).isEqualTo(4);
+		assertThat(metrics.getThreadStatements()).isEqualTo(4);
+	}
+
+	@Test
+	public void should_notify_listener_for_unregistered_entity() throws Exception {
+		long start = metrics.startOperation();
+		metrics.stopOperation(UserBean.class, REMOVE, start);
+
+		verify(listener).onOperation(eq(UserBean.class), eq(REMOVE), anyLong(), eq(0L));
+		assertThat(metrics.getEntityMetrics(UserBean.class)).isNull();
+	}
+
+	@Test
+	public void should_not_fail_on_unbalanced_stop() throws Exception {
+		metrics.stopOperation(CompleteBean.class, FIND, System.nanoTime());
+
+		long start = metrics.startOperation();
+		metrics.recordStatement();
+		metrics.stopOperation(CompleteBean.class, FIND, start);
+
+		assertThat(entityMetrics.getOperation(FIND).getCount()).isEqualTo(2);
+		assertThat(entityMetrics.getOperation(FIND).getStatements()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_sum_rows_and_lazy_loads() throws Exception {
+		EntityMetrics userMetrics = metrics.register(UserBean.class);
+
+		entityMetrics.recordRowDecoded();
+		entityMetrics.recordRowDecoded();
+		userMetrics.recordRowDecoded();
+		userMetrics.recordLazyLoad();
+
+		assertThat(entityMetrics.getRowsDecoded()).isEqualTo(2);
+		assertThat(metrics.getRowsDecoded()).isEqualTo(3);
+		assertThat(metrics.getLazyLoads()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_aggregate_statement_cache_stats() throws Exception {
+		Cache<String, String> dynamicCache = CacheBuilder.newBuilder().recordStats().build();
+		Cache<String, String> queryCache = CacheBuilder.newBuilder().recordStats().build();
+		metrics.registerStatementCache("dynamic", dynamicCache);
+		metrics.registerStatementCache("query", queryCache);
+
+		dynamicCache.put("a", "a");
+		dynamicCache.getIfPresent("a");
+		dynamicCache.getIfPresent("a");
+		queryCache.getIfPresent("b");
+
+		assertThat(metrics.getStatementCacheHits()).isEqualTo(2);
+		assertThat(metrics.getStatementCacheMisses()).isEqualTo(1);
+		assertThat(metrics.getStatementCacheHitRate()).isEqualTo(2.0 / 3);
+	}
+
+	@Test
+	public void should_register_and_unregister_mbeans() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		String domain = "info.archinnov.achilles.test.metrics";
+		ObjectName global = new ObjectName(domain + ":type=Metrics");
+		ObjectName find = new ObjectName(domain + ":type=OperationMetrics,entity="
+				+ CompleteBean.class.getCanonicalName() + ",operation=find");
+
+		metrics.registerMBeans(domain);
+		try {
+			assertThat(server.isRegistered(global)).isTrue();
+			assertThat(server.isRegistered(find)).isTrue();
+			assertThat(server.getAttribute(global, "Statements")).isEqualTo(0L);
+		} finally {
+			metrics.unregisterMBeans();
+		}
+
+		assertThat(server.isRegistered(global)).isFalse();
+		assertThat(server.isRegistered(find)).isFalse();
+	}
+}
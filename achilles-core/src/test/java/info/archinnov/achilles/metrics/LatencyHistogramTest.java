@@ -0,0 +1,59 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.metrics;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	private LatencyHistogram histogram = new LatencyHistogram();
+
+	@Test
+	public void should_find_bucket_by_power_of_two_micros() throws Exception {
+		assertThat(LatencyHistogram.bucketFor(500)).isEqualTo(0);
+		assertThat(LatencyHistogram.bucketFor(1000)).isEqualTo(1);
+		assertThat(LatencyHistogram.bucketFor(3000)).isEqualTo(2);
+		assertThat(LatencyHistogram.bucketFor(4000)).isEqualTo(3);
+		assertThat(LatencyHistogram.bucketFor(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+	}
+
+	@Test
+	public void should_record_latencies() throws Exception {
+		for (int i = 0; i < 99; i++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getMaxMicros()).isEqualTo(10000);
+		assertThat(histogram.getMeanMicros()).isEqualTo(199.0);
+		assertThat(histogram.getPercentileMicros(0.5)).isEqualTo(128);
+		assertThat(histogram.getPercentileMicros(0.99)).isEqualTo(128);
+		assertThat(histogram.getPercentileMicros(1.0)).isEqualTo(10000);
+	}
+
+	@Test
+	public void should_return_zero_when_empty() throws Exception {
+		assertThat(histogram.getCount()).isEqualTo(0);
+		assertThat(histogram.getMeanMicros()).isEqualTo(0.0);
+		assertThat(histogram.getPercentileMicros(0.99)).isEqualTo(0);
+	}
+}
@@ -20,11 +20,13 @@ import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.proxy.wrapper.ListWrapper;
 import info.archinnov.achilles.proxy.wrapper.MapWrapper;
 import info.archinnov.achilles.proxy.wrapper.SetWrapper;
@@ -35,8 +37,10 @@ import info.archinnov.achilles.type.Counter;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -51,6 +55,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.collect.ImmutableMap;
+
 @RunWith(MockitoJUnitRunner.class)
 public class EntityInterceptorTest {
 	@Rule
@@ -80,6 +86,8 @@ public class EntityInterceptorTest {
 	private Map<Method, PropertyMeta> setterMetas = new HashMap<Method, PropertyMeta>();
 	private Set<Method> alreadyLoaded = new HashSet<Method>();
 	private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+
+	private Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
 	private CompleteBean bean;
 	private Long key = RandomUtils.nextLong();
 	private Object rawValue = "raw";
@@ -119,6 +127,10 @@ public class EntityInterceptorTest {
 		doCallRealMethod().when(interceptor).setDirtyMap(dirtyMap);
 		interceptor.setDirtyMap(dirtyMap);
 
+		changesMap.clear();
+		doCallRealMethod().when(interceptor).setChangesMap(changesMap);
+		interceptor.setChangesMap(changesMap);
+
 		doCallRealMethod().when(interceptor).setPersister(persister);
 		interceptor.setPersister(persister);
 
@@ -183,6 +195,48 @@ public class EntityInterceptorTest {
 		verifyZeroInteractions(loader);
 	}
 
+	@Test
+	public void should_load_whole_fetch_group_when_getting_lazy_property() throws Throwable {
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.accessors().type(PropertyType.LAZY_SIMPLE).build();
+		nameMeta.setFetchGroup("profile");
+		PropertyMeta labelMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("label")
+				.accessors().type(PropertyType.LAZY_SIMPLE).build();
+		labelMeta.setFetchGroup("profile");
+
+		EntityMeta entityMeta = new EntityMeta();
+		entityMeta.setFetchGroups(ImmutableMap.<String, List<PropertyMeta>> of("profile",
+				Arrays.asList(nameMeta, labelMeta)));
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		doCallRealMethod().when(interceptor).loadProperties(anyCollectionOf(PropertyMeta.class));
+
+		getterMetas.put(nameMeta.getGetter(), nameMeta);
+		when(proxy.invoke(bean, args)).thenReturn(rawValue);
+		Object actual = interceptor.intercept(bean, nameMeta.getGetter(), args, proxy);
+
+		assertThat(actual).isEqualTo(rawValue);
+		verify(loader).loadPropertiesIntoObject(context, bean, Arrays.asList(nameMeta, labelMeta));
+		assertThat(alreadyLoaded).containsOnly(nameMeta.getGetter(), labelMeta.getGetter());
+	}
+
+	@Test
+	public void should_only_load_properties_not_already_loaded() throws Throwable {
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.accessors().type(PropertyType.LAZY_SIMPLE).build();
+		PropertyMeta labelMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("label")
+				.accessors().type(PropertyType.LAZY_SIMPLE).build();
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Counter.class).field("count")
+				.accessors().type(PropertyType.COUNTER).build();
+		doCallRealMethod().when(interceptor).loadProperties(anyCollectionOf(PropertyMeta.class));
+
+		alreadyLoaded.add(nameMeta.getGetter());
+		interceptor.loadProperties(Arrays.asList(nameMeta, labelMeta, counterMeta));
+
+		verify(loader).loadPropertyIntoObject(context, bean, labelMeta);
+		verifyNoMoreInteractions(loader);
+		assertThat(alreadyLoaded).containsOnly(nameMeta.getGetter(), labelMeta.getGetter());
+	}
+
 	@Test
 	public void should_return_simple_property() throws Throwable {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
@@ -365,6 +419,19 @@ public class EntityInterceptorTest {
 		assertThat(actual).isSameAs(rawValue);
 	}
 
+	@Test
+	public void should_discard_element_changes_when_setting_collection() throws Throwable {
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class)
+				.field("friends").accessors().type(PropertyType.LIST).build();
+		setterMetas.put(propertyMeta.getSetter(), propertyMeta);
+		changesMap.put(propertyMeta.getSetter(), new ElementChanges());
+
+		interceptor.intercept(bean, propertyMeta.getSetter(), args, proxy);
+
+		assertThat(dirtyMap).containsKey(propertyMeta.getSetter());
+		assertThat(changesMap).isEmpty();
+	}
+
 	@Test
 	public void should_set_lazy_value() throws Throwable {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
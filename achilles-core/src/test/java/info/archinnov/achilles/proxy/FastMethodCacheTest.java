@@ -0,0 +1,72 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.parser.entity.EmbeddedKey;
+
+import java.lang.reflect.Method;
+
+import net.sf.cglib.reflect.FastConstructor;
+import net.sf.cglib.reflect.FastMethod;
+
+import org.apache.cassandra.utils.Pair;
+import org.junit.Test;
+
+public class FastMethodCacheTest {
+
+	@Test
+	public void should_compile_public_getter_and_setter() throws Exception {
+		Method getter = CompleteBean.class.getDeclaredMethod("getName");
+		Method setter = CompleteBean.class.getDeclaredMethod("setName", String.class);
+		CompleteBean bean = new CompleteBean();
+
+		FastMethodCache.compile(getter, setter);
+
+		FastMethodCache.forMethod(setter).invoke(bean, new Object[] { "name" });
+		FastMethod fastGetter = FastMethodCache.forMethod(getter);
+
+		assertThat(fastGetter.invoke(bean, new Object[0])).isEqualTo("name");
+		assertThat(FastMethodCache.forMethod(getter)).isSameAs(fastGetter);
+	}
+
+	@Test
+	public void should_not_compile_non_public_method() throws Exception {
+		Method method = Bean.class.getDeclaredMethod("getHidden");
+
+		assertThat(FastMethodCache.forMethod(method)).isNull();
+	}
+
+	@Test
+	public void should_compile_default_constructor() throws Exception {
+		FastConstructor fastConstructor = FastMethodCache.forConstructor(EmbeddedKey.class);
+
+		assertThat(fastConstructor.newInstance()).isInstanceOf(EmbeddedKey.class);
+	}
+
+	@Test
+	public void should_not_compile_constructor_when_no_default_one() throws Exception {
+		assertThat(FastMethodCache.forConstructor(Pair.class)).isNull();
+	}
+
+	public static class Bean {
+		String getHidden() {
+			return "hidden";
+		}
+	}
+}
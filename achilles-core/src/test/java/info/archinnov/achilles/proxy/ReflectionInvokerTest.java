@@ -18,6 +18,7 @@ package info.archinnov.achilles.proxy;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.AchillesException;
@@ -31,6 +32,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import net.sf.cglib.reflect.FastConstructor;
+
 import org.apache.cassandra.utils.Pair;
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Rule;
@@ -109,10 +112,11 @@ public class ReflectionInvokerTest {
 	public void should_get_value_from_list_field() throws Exception {
 		CompleteBean bean = new CompleteBean();
 		bean.setFriends(Arrays.asList("foo", "bar"));
-		Method getter = CompleteBean.class.getDeclaredMethod("getFriends");
+		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).type(LIST).field("friends")
+				.accessors().build();
 
 		@SuppressWarnings("unchecked")
-		List<String> value = (List<String>) invoker.getListValueFromField(bean, getter);
+		List<String> value = (List<String>) invoker.getListValueFromField(bean, pm);
 		assertThat(value).containsExactly("foo", "bar");
 	}
 
@@ -120,10 +124,11 @@ public class ReflectionInvokerTest {
 	public void should_get_value_from_set_field() throws Exception {
 		CompleteBean bean = new CompleteBean();
 		bean.setFollowers(Sets.newHashSet("foo", "bar"));
-		Method getter = CompleteBean.class.getDeclaredMethod("getFollowers");
+		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).type(SET).field("followers")
+				.accessors().build();
 
 		@SuppressWarnings("unchecked")
-		Set<String> value = (Set<String>) invoker.getSetValueFromField(bean, getter);
+		Set<String> value = (Set<String>) invoker.getSetValueFromField(bean, pm);
 		assertThat(value).containsOnly("foo", "bar");
 	}
 
@@ -131,13 +136,28 @@ public class ReflectionInvokerTest {
 	public void should_get_value_from_map_field() throws Exception {
 		CompleteBean bean = new CompleteBean();
 		bean.setPreferences(ImmutableMap.of(1, "FR"));
-		Method getter = CompleteBean.class.getDeclaredMethod("getPreferences");
+		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, String.class).type(MAP)
+				.field("preferences").accessors().build();
 
 		@SuppressWarnings("unchecked")
-		Map<Integer, String> value = (Map<Integer, String>) invoker.getMapValueFromField(bean, getter);
+		Map<Integer, String> value = (Map<Integer, String>) invoker.getMapValueFromField(bean, pm);
 		assertThat(value).containsKey(1).containsValue("FR");
 	}
 
+	@Test
+	public void should_get_and_set_value_with_compiled_accessors() throws Exception {
+		CompleteBean bean = new CompleteBean();
+		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).type(SIMPLE).field("name")
+				.accessors().build();
+		pm.setFastGetter(FastMethodCache.forMethod(pm.getGetter()));
+		pm.setFastSetter(FastMethodCache.forMethod(pm.getSetter()));
+
+		invoker.setValueToField(bean, pm, "name");
+
+		assertThat(bean.getName()).isEqualTo("name");
+		assertThat(invoker.getValueFromField(bean, pm)).isEqualTo("name");
+	}
+
 	@Test
 	public void should_get_primary_key() throws Exception {
 		Long id = RandomUtils.nextLong();
@@ -215,6 +235,22 @@ public class ReflectionInvokerTest {
 		assertThat(actual.getName()).isNull();
 	}
 
+	@Test
+	public void should_instanciate_entity_with_resolved_fast_constructor() throws Exception {
+		FastConstructor fastConstructor = mock(FastConstructor.class);
+		EmbeddedKey embeddedKey = new EmbeddedKey();
+		when(fastConstructor.newInstance()).thenReturn(embeddedKey);
+
+		assertThat(invoker.instanciate(EmbeddedKey.class, fastConstructor)).isSameAs(embeddedKey);
+	}
+
+	@Test
+	public void should_instanciate_entity_reflectively_without_fast_constructor() throws Exception {
+		EmbeddedKey actual = invoker.instanciate(EmbeddedKey.class, null);
+
+		assertThat(actual).isNotNull();
+	}
+
 	@Test
 	public void should_instanciate_embedded_id_with_partition_key_using_default_constructor() throws Exception {
 		Long partitionKey = RandomUtils.nextLong();
@@ -27,6 +27,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -151,6 +152,70 @@ public class ListWrapperTest {
 		verify(dirtyMap).put(setter, propertyMeta);
 	}
 
+	@Test
+	public void should_record_appended_and_prepended_elements() throws Exception {
+		ArrayList<String> target = new ArrayList<String>(Arrays.asList("a", "b"));
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		ListWrapper listWrapper = prepareListWrapper(target, changesMap);
+		when(proxifier.unwrap("c")).thenReturn("c");
+		when(proxifier.unwrap("d")).thenReturn("d");
+		when(proxifier.unwrap("z")).thenReturn("z");
+
+		listWrapper.add("c");
+		listWrapper.add(3, "d");
+		listWrapper.add(0, "z");
+
+		assertThat(target).containsExactly("z", "a", "b", "c", "d");
+		assertThat(changesMap.get(setter).getAppendedElements()).containsExactly("c", "d");
+		assertThat(changesMap.get(setter).getPrependedElements()).containsExactly("z");
+	}
+
+	@Test
+	public void should_record_elements_set_at_index() throws Exception {
+		ArrayList<String> target = new ArrayList<String>(Arrays.asList("a", "b"));
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		ListWrapper listWrapper = prepareListWrapper(target, changesMap);
+		when(proxifier.unwrap("c")).thenReturn("c");
+		when(proxifier.unwrap("d")).thenReturn("d");
+		when(proxifier.unwrap("e")).thenReturn("e");
+
+		listWrapper.add("c");
+		listWrapper.set(1, "d");
+		listWrapper.set(2, "e");
+
+		ElementChanges changes = changesMap.get(setter);
+		assertThat(changes.getElementsAtIndex()).hasSize(1);
+		assertThat(changes.getElementsAtIndex().get(1)).isEqualTo("d");
+		assertThat(changes.getAppendedElements()).containsExactly("e");
+	}
+
+	@Test
+	public void should_discard_element_changes_on_removal() throws Exception {
+		ArrayList<String> target = new ArrayList<String>(Arrays.asList("a", "b"));
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		ListWrapper listWrapper = prepareListWrapper(target, changesMap);
+		when(proxifier.unwrap("c")).thenReturn("c");
+
+		listWrapper.add("c");
+		listWrapper.remove(0);
+
+		assertThat(changesMap).isEmpty();
+		assertThat(listWrapper.getDirtyMap()).containsKey(setter);
+	}
+
+	@Test
+	public void should_not_record_element_changes_from_sub_list() throws Exception {
+		ArrayList<String> target = new ArrayList<String>(Arrays.asList("a", "b", "c"));
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		List<Object> subListWrapper = prepareListWrapper(target, changesMap).subList(0, 1);
+		when(proxifier.unwrap("d")).thenReturn("d");
+
+		subListWrapper.add("d");
+
+		assertThat(target).containsExactly("a", "d", "b", "c");
+		assertThat(changesMap).isEmpty();
+	}
+
 	@Test
 	public void should_get_target() throws Exception {
 		ArrayList<String> target = new ArrayList<String>();
@@ -167,4 +232,11 @@ public class ListWrapperTest {
 		listWrapper.setProxifier(proxifier);
 		return listWrapper;
 	}
+
+	private ListWrapper prepareListWrapper(List<String> target, Map<Method, ElementChanges> changesMap) {
+		ListWrapper listWrapper = prepareListWrapper(target);
+		listWrapper.setDirtyMap(new HashMap<Method, PropertyMeta>());
+		listWrapper.setChangesMap(changesMap);
+		return listWrapper;
+	}
 }
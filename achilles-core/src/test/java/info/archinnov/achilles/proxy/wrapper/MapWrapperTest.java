@@ -261,6 +261,38 @@ public class MapWrapperTest {
 		verify(dirtyMap, never()).put(setter, propertyMeta);
 	}
 
+	@Test
+	public void should_record_put_and_removed_entries() throws Exception {
+		Map<Integer, String> target = prepareMap();
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		MapWrapper wrapper = prepareMapWrapper(target, changesMap);
+		when(proxifier.unwrap("Lyon")).thenReturn("Lyon");
+		when(proxifier.unwrap(1)).thenReturn(1);
+		when(proxifier.unwrap(2)).thenReturn(2);
+
+		wrapper.put(4, "Lyon");
+		wrapper.remove(1);
+		wrapper.keySet().remove(2);
+
+		ElementChanges changes = changesMap.get(setter);
+		assertThat(changes.getPutEntries()).hasSize(1);
+		assertThat(changes.getPutEntries().get(4)).isEqualTo("Lyon");
+		assertThat(changes.getRemovedKeys()).containsOnly(1, 2);
+	}
+
+	@Test
+	public void should_discard_element_changes_on_clear() throws Exception {
+		Map<Integer, String> target = prepareMap();
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		MapWrapper wrapper = prepareMapWrapper(target, changesMap);
+
+		wrapper.put(4, "Lyon");
+		wrapper.clear();
+
+		assertThat(changesMap).isEmpty();
+		assertThat(wrapper.getDirtyMap()).containsKey(setter);
+	}
+
 	private Map<Integer, String> prepareMap() {
 		Map<Integer, String> map = new HashMap<Integer, String>();
 		map.put(1, "FR");
@@ -278,4 +310,11 @@ public class MapWrapperTest {
 		wrapper.setProxifier(proxifier);
 		return wrapper;
 	}
+
+	private MapWrapper prepareMapWrapper(Map<Integer, String> target, Map<Method, ElementChanges> changesMap) {
+		MapWrapper wrapper = prepareMapWrapper(target);
+		wrapper.setDirtyMap(new HashMap<Method, PropertyMeta>());
+		wrapper.setChangesMap(changesMap);
+		return wrapper;
+	}
 }
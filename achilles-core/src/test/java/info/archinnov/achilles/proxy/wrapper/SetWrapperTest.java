@@ -17,8 +17,17 @@
 package info.archinnov.achilles.proxy.wrapper;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Test;
@@ -33,4 +42,29 @@ public class SetWrapperTest {
 		assertThat(setWrapper.getTarget()).isSameAs(target);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_record_added_and_removed_elements() throws Exception {
+		Set<Object> target = new HashSet<Object>(Arrays.<Object> asList("a", "b"));
+		Method setter = CompleteBean.class.getDeclaredMethod("setFollowers", Set.class);
+		Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+		EntityProxifier<PersistenceContext> proxifier = mock(EntityProxifier.class);
+		when(proxifier.unwrap("a")).thenReturn("a");
+		when(proxifier.unwrap("c")).thenReturn("c");
+
+		SetWrapper setWrapper = new SetWrapper(target);
+		setWrapper.setDirtyMap(new HashMap<Method, PropertyMeta>());
+		setWrapper.setChangesMap(changesMap);
+		setWrapper.setSetter(setter);
+		setWrapper.setPropertyMeta(mock(PropertyMeta.class));
+		setWrapper.setProxifier(proxifier);
+
+		setWrapper.add("c");
+		setWrapper.remove("a");
+
+		assertThat(target).containsOnly("b", "c");
+		assertThat(changesMap.get(setter).getAddedElements()).containsExactly("c");
+		assertThat(changesMap.get(setter).getRemovedElements()).containsExactly("a");
+	}
+
 }
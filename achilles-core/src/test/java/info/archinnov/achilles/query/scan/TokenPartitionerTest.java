@@ -0,0 +1,83 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import static info.archinnov.achilles.query.scan.TokenPartitioner.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TokenPartitionerTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Test
+	public void should_find_partitioner_from_class_name() throws Exception {
+		assertThat(TokenPartitioner.fromClassName("org.apache.cassandra.dht.Murmur3Partitioner")).isSameAs(MURMUR3);
+		assertThat(TokenPartitioner.fromClassName("org.apache.cassandra.dht.RandomPartitioner")).isSameAs(RANDOM);
+	}
+
+	@Test
+	public void should_exception_when_ordered_partitioner() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot scan tables of a cluster using the partitioner "
+				+ "'org.apache.cassandra.dht.ByteOrderedPartitioner'");
+
+		TokenPartitioner.fromClassName("org.apache.cassandra.dht.ByteOrderedPartitioner");
+	}
+
+	@Test
+	public void should_split_murmur3_ring_into_contiguous_ranges() throws Exception {
+		List<TokenRange> ranges = MURMUR3.split(4);
+
+		assertThat(ranges).hasSize(4);
+		assertThat(ranges.get(0).getStart()).isEqualTo(BigInteger.valueOf(Long.MIN_VALUE));
+		assertThat(ranges.get(3).getEnd()).isEqualTo(BigInteger.valueOf(Long.MAX_VALUE));
+		for (int i = 1; i < ranges.size(); i++) {
+			assertThat(ranges.get(i).getStart()).isEqualTo(ranges.get(i - 1).getEnd());
+		}
+	}
+
+	@Test
+	public void should_split_random_ring_into_one_range() throws Exception {
+		List<TokenRange> ranges = RANDOM.split(1);
+
+		assertThat(ranges).containsExactly(new TokenRange(BigInteger.valueOf(-1), BigInteger.valueOf(2).pow(127)));
+	}
+
+	@Test
+	public void should_convert_token_values() throws Exception {
+		assertThat(MURMUR3.toTokenValue(BigInteger.TEN)).isEqualTo(10L);
+		assertThat(RANDOM.toTokenValue(BigInteger.TEN)).isEqualTo(BigInteger.TEN);
+		assertThat(MURMUR3.fromTokenValue(10L)).isEqualTo(BigInteger.TEN);
+	}
+
+	@Test
+	public void should_exception_when_no_split() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("The number of token range splits should be strictly positive");
+
+		MURMUR3.split(0);
+	}
+}
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.configuration;
 
 import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.Map;
@@ -134,4 +135,36 @@ public class CQLArgumentExtractor extends ArgumentExtractor {
 		return nativeSession;
 	}
 
+	public BatchType initBatchType(Map<String, Object> configurationMap) {
+		BatchType batchType = DEFAULT_BATCH_TYPE;
+		if (configurationMap.containsKey(BATCH_TYPE)) {
+			batchType = (BatchType) configurationMap.get(BATCH_TYPE);
+			Validator.validateNotNull(batchType, "%s property should not be null", BATCH_TYPE);
+			Validator.validateFalse(batchType == BatchType.COUNTER,
+					"%s property cannot be set to %s, counter batches are detected automatically", BATCH_TYPE,
+					BatchType.COUNTER.name());
+		}
+		return batchType;
+	}
+
+	public int initBatchMaxSize(Map<String, Object> configurationMap) {
+		Integer batchMaxSize = DEFAULT_BATCH_MAX_SIZE;
+		if (configurationMap.containsKey(BATCH_MAX_SIZE)) {
+			batchMaxSize = (Integer) configurationMap.get(BATCH_MAX_SIZE);
+			Validator.validateTrue(batchMaxSize != null && batchMaxSize > 0, "%s property should be strictly positive",
+					BATCH_MAX_SIZE);
+		}
+		return batchMaxSize;
+	}
+
+
+	public int initAsyncMaxInFlight(Map<String, Object> configurationMap) {
+		Integer asyncMaxInFlight = DEFAULT_ASYNC_MAX_IN_FLIGHT;
+		if (configurationMap.containsKey(ASYNC_MAX_IN_FLIGHT)) {
+			asyncMaxInFlight = (Integer) configurationMap.get(ASYNC_MAX_IN_FLIGHT);
+			Validator.validateTrue(asyncMaxInFlight != null && asyncMaxInFlight > 0,
+					"%s property should be strictly positive", ASYNC_MAX_IN_FLIGHT);
+		}
+		return asyncMaxInFlight;
+	}
 }
@@ -16,6 +16,8 @@
  */
 package info.archinnov.achilles.configuration;
 
+import info.archinnov.achilles.type.BatchType;
+
 public interface CQLConfigurationParameters {
 	String CLUSTER_PARAM = "achilles.cassandra.cluster";
 	String NATIVE_SESSION_PARAM = "achilles.cassandra.native.session";
@@ -32,4 +34,11 @@ public interface CQLConfigurationParameters {
 	String DISABLE_METRICS = "achilles.cassandra.disable.metrics";
 	String SSL_ENABLED = "achilles.cassandra.ssl.enabled";
 	String SSL_OPTIONS = "achilles.cassandra.ssl.options";
+	String BATCH_TYPE = "achilles.cassandra.batch.type";
+	String BATCH_MAX_SIZE = "achilles.cassandra.batch.max.size";
+	String ASYNC_MAX_IN_FLIGHT = "achilles.cassandra.async.max.in.flight";
+
+	BatchType DEFAULT_BATCH_TYPE = BatchType.LOGGED;
+	int DEFAULT_BATCH_MAX_SIZE = 100;
+	int DEFAULT_ASYNC_MAX_IN_FLIGHT = 256;
 }
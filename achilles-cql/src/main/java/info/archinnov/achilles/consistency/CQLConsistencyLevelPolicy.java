@@ -28,64 +28,4 @@ public class CQLConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy {
 		super(defaultGlobalReadConsistencyLevel, defaultGlobalWriteConsistencyLevel, readCfConsistencyLevels,
 				writeCfConsistencyLevels);
 	}
-
-	@Override
-	public void loadConsistencyLevelForRead(String columnFamily) {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void loadConsistencyLevelForWrite(String columnFamily) {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void reinitDefaultConsistencyLevels() {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void reinitCurrentConsistencyLevels() {
-		// TODO Auto-generated method stub
-	}
-
-	@Override
-	public ConsistencyLevel getCurrentReadLevel() {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
-	@Override
-	public void setCurrentReadLevel(ConsistencyLevel readLevel) {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void removeCurrentReadLevel() {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public ConsistencyLevel getCurrentWriteLevel() {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
-	@Override
-	public void setCurrentWriteLevel(ConsistencyLevel writeLevel) {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void removeCurrentWriteLevel() {
-		// TODO Auto-generated method stub
-
-	}
-
 }
@@ -17,16 +17,21 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.consistency.CQLConsistencyConvertor.getCQLLevel;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.cassandra.utils.Pair;
+
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Statement;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.ListenableFuture;
 
 public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<T>> extends FlushContext<T> {
 	protected CQLDaoContext daoContext;
@@ -42,7 +47,8 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
 	}
 
 	protected CQLAbstractFlushContext(CQLDaoContext daoContext, List<BoundStatementWrapper> boundStatementWrappers,
-			ConsistencyLevel consistencyLevel) {
+			SetMultimap<EntityCache, Object> pendingEvictions, ConsistencyLevel consistencyLevel) {
+		super(pendingEvictions);
 		this.boundStatementWrappers = boundStatementWrappers;
 		this.daoContext = daoContext;
 		this.consistencyLevel = consistencyLevel;
@@ -53,6 +59,7 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
 		boundStatementWrappers.clear();
 		statements.clear();
 		consistencyLevel = null;
+		evictPendingFromCache();
 	}
 
 	protected void doFlush() {
@@ -68,6 +75,27 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
 
 	}
 
+	protected ListenableFuture<List<ResultSet>> doFlushAsync() {
+		List<Pair<Query, Object[]>> queries = new ArrayList<Pair<Query, Object[]>>();
+		for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+			queries.add(Pair.<Query, Object[]> create(wrapper.getBs(), wrapper.getValues()));
+		}
+		for (Statement statement : statements) {
+			queries.add(Pair.<Query, Object[]> create(statement, new Object[0]));
+		}
+
+		cleanUp();
+		return daoContext.executeAsyncInOrder(queries);
+	}
+
+	/**
+	 * Execute all pending statements without waiting for their completion.
+	 * Statements are still applied in the order they were pushed
+	 * 
+	 * @return a future failing as soon as one of the statements fails
+	 */
+	public abstract ListenableFuture<List<ResultSet>> flushAsync();
+
 	public void pushBoundStatement(BoundStatementWrapper bsWrapper, ConsistencyLevel writeConsistencyLevel) {
 		BoundStatement boundStatement = bsWrapper.getBs();
 		if (consistencyLevel != null) {
@@ -16,24 +16,46 @@
  */
 package info.archinnov.achilles.context;
 
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.lang.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
 public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatchingFlushContext> {
 	private static final Logger log = LoggerFactory.getLogger(CQLBatchingFlushContext.class);
 
-	public CQLBatchingFlushContext(CQLDaoContext daoContext, ConsistencyLevel consistencyLevel) {
+	private BatchType batchType;
+	private int batchMaxSize;
+
+	public CQLBatchingFlushContext(CQLDaoContext daoContext, ConsistencyLevel consistencyLevel, BatchType batchType,
+			int batchMaxSize) {
 		super(daoContext, consistencyLevel);
+		this.batchType = batchType;
+		this.batchMaxSize = batchMaxSize;
 	}
 
 	private CQLBatchingFlushContext(CQLDaoContext daoContext, List<BoundStatementWrapper> boundStatementWrappers,
-			ConsistencyLevel consistencyLevel) {
-		super(daoContext, boundStatementWrappers, consistencyLevel);
+			SetMultimap<EntityCache, Object> pendingEvictions, ConsistencyLevel consistencyLevel,
+			BatchType batchType, int batchMaxSize) {
+		super(daoContext, boundStatementWrappers, pendingEvictions, consistencyLevel);
+		this.batchType = batchType;
+		this.batchMaxSize = batchMaxSize;
 	}
 
 	@Override
@@ -47,12 +69,77 @@ public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatching
 		log.debug("Flush called but do nothing. Flushing is done only at the end of the batch");
 	}
 
+	/**
+	 * Like {@link #flush()}, keep the statements for the end of the batch and
+	 * return an already completed future
+	 */
+	@Override
+	public ListenableFuture<List<ResultSet>> flushAsync() {
+		log.debug("Flush called but do nothing. Flushing is done only at the end of the batch");
+		return Futures.immediateFuture(Collections.<ResultSet> emptyList());
+	}
+
 	@Override
 	public void endBatch() {
 		log.debug("Ending current batch");
 		doFlush();
 	}
 
+	/**
+	 * Group pending bound statements into native CQL batches.
+	 * 
+	 * A new batch is started when the current one reaches the max batch size,
+	 * when counter and non-counter statements would be mixed, when the
+	 * consistency level changes or when a row already written in the current
+	 * batch is written again. Statements in a batch share the same timestamp
+	 * so splitting on the row keeps the original write ordering
+	 */
+	@Override
+	protected void doFlush() {
+		List<BoundStatementWrapper> currentBatch = new ArrayList<BoundStatementWrapper>();
+		Set<List<Object>> rowKeys = new HashSet<List<Object>>();
+		for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+			if (!currentBatch.isEmpty() && !canJoinBatch(currentBatch, rowKeys, wrapper)) {
+				executeBatch(currentBatch);
+				currentBatch = new ArrayList<BoundStatementWrapper>();
+				rowKeys.clear();
+			}
+			currentBatch.add(wrapper);
+			if (wrapper.getRowKey() != null) {
+				rowKeys.add(wrapper.getRowKey());
+			}
+		}
+		if (!currentBatch.isEmpty()) {
+			executeBatch(currentBatch);
+		}
+
+		for (Statement statement : statements) {
+			daoContext.execute(statement);
+		}
+
+		cleanUp();
+	}
+
+	private boolean canJoinBatch(List<BoundStatementWrapper> currentBatch, Set<List<Object>> rowKeys,
+			BoundStatementWrapper wrapper) {
+		BoundStatementWrapper first = currentBatch.get(0);
+		return currentBatch.size() < batchMaxSize
+				&& first.isCounter() == wrapper.isCounter()
+				&& ObjectUtils.equals(first.getBs().getConsistencyLevel(), wrapper.getBs().getConsistencyLevel())
+				&& (wrapper.getRowKey() == null || !rowKeys.contains(wrapper.getRowKey()));
+	}
+
+	private void executeBatch(List<BoundStatementWrapper> currentBatch) {
+		if (currentBatch.size() == 1) {
+			BoundStatementWrapper wrapper = currentBatch.get(0);
+			daoContext.execute(wrapper.getBs(), wrapper.getValues());
+		} else {
+			BatchType type = currentBatch.get(0).isCounter() ? BatchType.COUNTER : batchType;
+			log.debug("Executing {} batch of {} statements", type.name(), currentBatch.size());
+			daoContext.executeBatch(type, currentBatch);
+		}
+	}
+
 	@Override
 	public FlushType type() {
 		return FlushType.BATCH;
@@ -60,7 +147,8 @@ public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatching
 
 	@Override
 	public CQLBatchingFlushContext duplicate() {
-		return new CQLBatchingFlushContext(daoContext, boundStatementWrappers, consistencyLevel);
+		return new CQLBatchingFlushContext(daoContext, boundStatementWrappers, pendingEvictions, consistencyLevel,
+				batchType, batchMaxSize);
 	}
 
 }
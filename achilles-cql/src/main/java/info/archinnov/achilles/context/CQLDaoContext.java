@@ -17,22 +17,39 @@
 package info.archinnov.achilles.context;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
+import static info.archinnov.achilles.consistency.CQLConsistencyConvertor.getCQLLevel;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.*;
+import static info.archinnov.achilles.statement.cache.CacheType.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
+import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.CQLStatementGenerator;
 import info.archinnov.achilles.statement.cache.CacheManager;
+import info.archinnov.achilles.statement.cache.CacheType;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementBinder;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.cassandra.utils.Pair;
+import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,19 +57,29 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
+import com.google.common.collect.FluentIterable;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 
 public class CQLDaoContext {
 	public static final String ACHILLES_DML_STATEMENT = "ACHILLES_DML_STATEMENT";
 
+	private static final Logger log = LoggerFactory.getLogger(CQLDaoContext.class);
 	private static final Logger dmlLogger = LoggerFactory.getLogger(ACHILLES_DML_STATEMENT);
+	private static final long DEFAULT_ASYNC_PERMIT_TIMEOUT_MILLIS = 10000;
 
 	private Map<Class<?>, PreparedStatement> insertPSs;
 	private Cache<StatementCacheKey, PreparedStatement> dynamicPSCache;
@@ -60,7 +87,13 @@ public class CQLDaoContext {
 	private Map<Class<?>, Map<String, PreparedStatement>> removePSs;
 	private Map<CQLQueryType, PreparedStatement> counterQueryMap;
 	private Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueryMap;
+	private Cache<String, PreparedStatement> batchPSCache;
+	private Cache<String, PreparedStatement> queryPSCache;
+	private Semaphore asyncPermits;
+	private long asyncPermitTimeoutMillis = DEFAULT_ASYNC_PERMIT_TIMEOUT_MILLIS;
 	private Session session;
+	private CQLCounterCoalescer counterCoalescer;
+	private AchillesMetrics metrics;
 
 	private CQLPreparedStatementBinder binder = new CQLPreparedStatementBinder();
 	private CacheManager cacheManager = new CacheManager();
@@ -70,13 +103,18 @@ public class CQLDaoContext {
 			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache,
 			Map<Class<?>, PreparedStatement> selectEagerPSs, Map<Class<?>, Map<String, PreparedStatement>> removePSs,
 			Map<CQLQueryType, PreparedStatement> counterQueryMap,
-			Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueryMap, Session session) {
+			Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueryMap,
+			Cache<String, PreparedStatement> batchPSCache, Cache<String, PreparedStatement> queryPSCache,
+			Semaphore asyncPermits, Session session) {
 		this.insertPSs = insertPSs;
 		this.dynamicPSCache = dynamicPSCache;
 		this.selectEagerPSs = selectEagerPSs;
 		this.removePSs = removePSs;
 		this.counterQueryMap = counterQueryMap;
 		this.clusteredCounterQueryMap = clusteredCounterQueryMap;
+		this.batchPSCache = batchPSCache;
+		this.queryPSCache = queryPSCache;
+		this.asyncPermits = asyncPermits;
 		this.session = session;
 	}
 
@@ -86,18 +124,25 @@ public class CQLDaoContext {
 		Optional<Integer> ttlO = context.getTtt();
 		Optional<Long> timestampO = context.getTimestamp();
 		ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
-		if (ttlO.isPresent() || timestampO.isPresent()) {
+		boolean notNullFields = entityMeta.getInsertStrategy() == InsertStrategy.NOT_NULL_FIELDS;
+		if (timestampO.isPresent()) {
+			// Timestamps change on every write, there is no point in preparing them
 			Insert insert = statementGenerator.generateInsert(context.getEntity(), entityMeta);
 			Insert.Options options = null;
 
-			if (ttlO.isPresent() && timestampO.isPresent())
+			if (ttlO.isPresent())
 				options = insert.using(ttl(ttlO.get())).and(timestamp(timestampO.get()));
-			else if (ttlO.isPresent())
-				options = insert.using(ttl(ttlO.get()));
-			else if (timestampO.isPresent())
+			else
 				options = insert.using(timestamp(timestampO.get()));
 
 			context.pushStatement(options, writeLevel);
+		} else if (ttlO.isPresent() || notNullFields) {
+			Object entity = context.getEntity();
+			List<PropertyMeta> pms = notNullFields ? extractNotNullFields(entityMeta, entity)
+					: extractNonCounterFields(entityMeta);
+			PreparedStatement ps = cacheManager.getCacheForFieldsInsert(session, dynamicPSCache, context, pms, ttlO);
+			BoundStatementWrapper bsWrapper = binder.bindForInsert(ps, entityMeta, pms, entity);
+			context.pushBoundStatement(bsWrapper, writeLevel);
 		} else {
 			PreparedStatement ps = insertPSs.get(entityClass);
 			BoundStatementWrapper bsWrapper = binder.bindForInsert(ps, entityMeta, context.getEntity());
@@ -105,30 +150,93 @@ public class CQLDaoContext {
 		}
 	}
 
+	private List<PropertyMeta> extractNonCounterFields(EntityMeta entityMeta) {
+		return FluentIterable.from(entityMeta.getAllMetasExceptIdMeta()).filter(PropertyType.excludeCounterType)
+				.toImmutableList();
+	}
+
+	private List<PropertyMeta> extractNotNullFields(EntityMeta entityMeta, Object entity) {
+		List<PropertyMeta> pms = new ArrayList<PropertyMeta>();
+		for (PropertyMeta pm : entityMeta.getAllMetasExceptIdMeta()) {
+			if (!pm.isCounter() && pm.getValueFromField(entity) != null) {
+				pms.add(pm);
+			}
+		}
+		return pms;
+	}
+
 	public void pushUpdateStatement(CQLPersistenceContext context, List<PropertyMeta> pms) {
 		EntityMeta entityMeta = context.getEntityMeta();
 		Optional<Integer> ttlO = context.getTtt();
 		Optional<Long> timestampO = context.getTimestamp();
 		ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
-		if (ttlO.isPresent() || timestampO.isPresent()) {
+		if (timestampO.isPresent()) {
 			Assignments update = statementGenerator.generateUpdateFields(context.getEntity(), entityMeta, pms);
 			Update.Options options = null;
 
-			if (ttlO.isPresent() && timestampO.isPresent())
+			if (ttlO.isPresent())
 				options = update.using(ttl(ttlO.get())).and(timestamp(timestampO.get()));
-			else if (ttlO.isPresent())
-				options = update.using(ttl(ttlO.get()));
-			else if (timestampO.isPresent())
+			else
 				options = update.using(timestamp(timestampO.get()));
 
 			context.pushStatement(options, writeLevel);
 		} else {
-			PreparedStatement ps = cacheManager.getCacheForFieldsUpdate(session, dynamicPSCache, context, pms);
+			PreparedStatement ps = cacheManager.getCacheForFieldsUpdate(session, dynamicPSCache, context, pms, ttlO);
 			BoundStatementWrapper bsWrapper = binder.bindForUpdate(ps, entityMeta, pms, context.getEntity());
 			context.pushBoundStatement(bsWrapper, writeLevel);
 		}
 	}
 
+	public void pushCollectionUpdateStatements(CQLPersistenceContext context, PropertyMeta pm, ElementChanges changes) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
+		Object entity = context.getEntity();
+
+		for (Entry<Integer, Object> elementAtIndex : changes.getElementsAtIndex().entrySet()) {
+			PreparedStatement ps = cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm,
+					SET_ELEMENT_AT_INDEX);
+			context.pushBoundStatement(binder.bindForCollectionUpdate(ps, entityMeta, entity,
+					elementAtIndex.getKey(), pm.encode(elementAtIndex.getValue())), writeLevel);
+		}
+
+		Object addedValues = null;
+		if (!changes.getAppendedElements().isEmpty()) {
+			addedValues = pm.encode(changes.getAppendedElements());
+		} else if (!changes.getAddedElements().isEmpty()) {
+			addedValues = pm.encode(changes.getAddedElements());
+		} else if (!changes.getPutEntries().isEmpty()) {
+			addedValues = pm.encode(changes.getPutEntries());
+		}
+		if (addedValues != null) {
+			PreparedStatement ps = cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm,
+					ADD_ELEMENTS);
+			context.pushBoundStatement(binder.bindForCollectionUpdate(ps, entityMeta, entity, addedValues), writeLevel);
+		}
+
+		if (!changes.getPrependedElements().isEmpty()) {
+			PreparedStatement ps = cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm,
+					PREPEND_ELEMENTS);
+			context.pushBoundStatement(
+					binder.bindForCollectionUpdate(ps, entityMeta, entity, pm.encode(changes.getPrependedElements())),
+					writeLevel);
+		}
+
+		if (!changes.getRemovedElements().isEmpty()) {
+			PreparedStatement ps = cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm,
+					REMOVE_ELEMENTS);
+			context.pushBoundStatement(
+					binder.bindForCollectionUpdate(ps, entityMeta, entity, pm.encode(changes.getRemovedElements())),
+					writeLevel);
+		}
+
+		for (Object removedKey : changes.getRemovedKeys()) {
+			PreparedStatement ps = cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm,
+					REMOVE_ENTRY);
+			context.pushBoundStatement(binder.bindForCollectionUpdate(ps, entityMeta, entity, pm.encodeKey(removedKey)),
+					writeLevel);
+		}
+	}
+
 	public Row loadProperty(CQLPersistenceContext context, PropertyMeta pm) {
 		PreparedStatement ps = cacheManager.getCacheForFieldSelect(session, dynamicPSCache, context, pm);
 		ConsistencyLevel readLevel = getReadConsistencyLevel(context, pm);
@@ -136,6 +244,13 @@ public class CQLDaoContext {
 		return returnFirstRowOrNull(rows);
 	}
 
+	public Row loadProperties(CQLPersistenceContext context, List<PropertyMeta> pms) {
+		PreparedStatement ps = cacheManager.getCacheForFieldsSelect(session, dynamicPSCache, context, pms);
+		ConsistencyLevel readLevel = getReadConsistencyLevel(context, pms.get(0));
+		List<Row> rows = executeReadWithConsistency(context, ps, readLevel);
+		return returnFirstRowOrNull(rows);
+	}
+
 	public void bindForRemoval(CQLPersistenceContext context, String tableName) {
 		EntityMeta entityMeta = context.getEntityMeta();
 		Class<?> entityClass = context.getEntityClass();
@@ -178,6 +293,21 @@ public class CQLDaoContext {
 		context.executeImmediateWithConsistency(bsWrapper, consistencyLevel);
 	}
 
+	/**
+	 * Bind a simple or clustered counter increment, the delta being negative
+	 * for decrements
+	 */
+	public BoundStatementWrapper bindForCounterUpdate(EntityMeta meta, PropertyMeta counterMeta, Object primaryKey,
+			Long delta) {
+		if (meta.isClusteredCounter()) {
+			PreparedStatement ps = clusteredCounterQueryMap.get(meta.getEntityClass()).get(INCR);
+			return binder.bindForClusteredCounterIncrementDecrement(ps, meta, counterMeta, primaryKey, delta);
+		} else {
+			PreparedStatement ps = counterQueryMap.get(INCR);
+			return binder.bindForSimpleCounterIncrementDecrement(ps, meta, counterMeta, primaryKey, delta);
+		}
+	}
+
 	public Row getSimpleCounter(CQLPersistenceContext context, PropertyMeta counterMeta,
 			ConsistencyLevel consistencyLevel) {
 		PreparedStatement ps = counterQueryMap.get(SELECT);
@@ -242,6 +372,28 @@ public class CQLDaoContext {
 		context.pushBoundStatement(bsWrapper, writeLevel);
 	}
 
+	/**
+	 * Read all the counters of an entity with a single query: the whole
+	 * partition of the entity in the Achilles counter table, or the counter
+	 * column of a clustered counter entity
+	 */
+	public ResultSetFuture loadCountersAsync(CQLPersistenceContext context, ConsistencyLevel readLevel) {
+		EntityMeta meta = context.getEntityMeta();
+		BoundStatementWrapper bsWrapper;
+		if (meta.isClusteredCounter()) {
+			PreparedStatement ps = clusteredCounterQueryMap.get(meta.getEntityClass()).get(SELECT);
+			bsWrapper = binder.bindForClusteredCounterSelect(ps, meta, meta.getFirstMeta(), context.getPrimaryKey());
+		} else {
+			PreparedStatement ps = counterQueryMap.get(SELECT_ALL);
+			bsWrapper = binder.bindForSimpleCounterSelectAll(ps, meta, context.getPrimaryKey());
+		}
+
+		ConsistencyLevel consistencyLevel = readLevel != null ? readLevel : getReadConsistencyLevel(context, meta);
+		BoundStatement bs = bsWrapper.getBs();
+		bs.setConsistencyLevel(getCQLLevel(consistencyLevel));
+		return executeAsync(bs, bsWrapper.getValues());
+	}
+
 	public Row eagerLoadEntity(CQLPersistenceContext context) {
 		EntityMeta meta = context.getEntityMeta();
 		Class<?> entityClass = context.getEntityClass();
@@ -252,6 +404,18 @@ public class CQLDaoContext {
 		return returnFirstRowOrNull(rows);
 	}
 
+	public ResultSetFuture eagerLoadEntityAsync(CQLPersistenceContext context) {
+		EntityMeta meta = context.getEntityMeta();
+		PreparedStatement ps = selectEagerPSs.get(context.getEntityClass());
+
+		ConsistencyLevel readLevel = getReadConsistencyLevel(context, meta);
+		BoundStatementWrapper bsWrapper = binder.bindStatementWithOnlyPKInWhereClause(ps, meta,
+				context.getPrimaryKey());
+		BoundStatement bs = bsWrapper.getBs();
+		bs.setConsistencyLevel(getCQLLevel(readLevel));
+		return executeAsync(bs, bsWrapper.getValues());
+	}
+
 	private List<Row> executeReadWithConsistency(CQLPersistenceContext context, PreparedStatement ps,
 			ConsistencyLevel readLevel) {
 		EntityMeta entityMeta = context.getEntityMeta();
@@ -271,9 +435,198 @@ public class CQLDaoContext {
 
 	public ResultSet execute(Query query, Object... boundValues) {
 		logDMLStatement(query, boundValues);
+		recordStatement();
 		return session.execute(query);
 	}
 
+	/**
+	 * Execute the query asynchronously.
+	 * 
+	 * The caller waits when the maximum number of in-flight asynchronous
+	 * queries is reached, until one of them completes or for at most
+	 * {@value #DEFAULT_ASYNC_PERMIT_TIMEOUT_MILLIS} ms. It should not be called
+	 * from the callback of another asynchronous query, which runs on the
+	 * driver thread completing the queries holding the permits
+	 */
+	public ResultSetFuture executeAsync(Query query, Object... boundValues) {
+		acquireAsyncPermit();
+		ResultSetFuture future;
+		try {
+			future = sendAsync(query, boundValues);
+		} catch (RuntimeException e) {
+			asyncPermits.release();
+			throw e;
+		}
+		Futures.addCallback(future, new FutureCallback<ResultSet>() {
+			@Override
+			public void onSuccess(ResultSet resultSet) {
+				asyncPermits.release();
+			}
+
+			@Override
+			public void onFailure(Throwable throwable) {
+				asyncPermits.release();
+				log.error("Asynchronous execution of a query failed", throwable);
+			}
+		}, MoreExecutors.sameThreadExecutor());
+		return future;
+	}
+
+	/**
+	 * Execute the queries asynchronously one after the other, each query
+	 * being sent once the previous one has succeeded so that they are
+	 * applied in order. The whole chain holds a single in-flight permit
+	 * 
+	 * @return a future failing with the first failed query, the following
+	 *         queries are not sent
+	 */
+	public ListenableFuture<List<ResultSet>> executeAsyncInOrder(List<Pair<Query, Object[]>> queries) {
+		acquireAsyncPermit();
+		SettableFuture<List<ResultSet>> result = SettableFuture.create();
+		result.addListener(new Runnable() {
+			@Override
+			public void run() {
+				asyncPermits.release();
+			}
+		}, MoreExecutors.sameThreadExecutor());
+		executeNext(queries.iterator(), new ArrayList<ResultSet>(queries.size()), result);
+		return result;
+	}
+
+	private void executeNext(final Iterator<Pair<Query, Object[]>> queries, final List<ResultSet> resultSets,
+			final SettableFuture<List<ResultSet>> result) {
+		if (!queries.hasNext()) {
+			result.set(resultSets);
+			return;
+		}
+		Pair<Query, Object[]> query = queries.next();
+		ResultSetFuture future;
+		try {
+			future = sendAsync(query.left, query.right);
+		} catch (RuntimeException e) {
+			result.setException(e);
+			return;
+		}
+		Futures.addCallback(future, new FutureCallback<ResultSet>() {
+			@Override
+			public void onSuccess(ResultSet resultSet) {
+				resultSets.add(resultSet);
+				executeNext(queries, resultSets, result);
+			}
+
+			@Override
+			public void onFailure(Throwable throwable) {
+				log.error("Asynchronous execution of a query failed", throwable);
+				result.setException(throwable);
+			}
+		}, MoreExecutors.sameThreadExecutor());
+	}
+
+	private ResultSetFuture sendAsync(Query query, Object... boundValues) {
+		logDMLStatement(query, boundValues);
+		recordStatement();
+		return session.executeAsync(query);
+	}
+
+	private void acquireAsyncPermit() {
+		boolean acquired;
+		try {
+			acquired = asyncPermits.tryAcquire(asyncPermitTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AchillesException("Interrupted while waiting for an asynchronous query slot", e);
+		}
+		if (!acquired) {
+			throw new AchillesException("No asynchronous query slot became available within "
+					+ asyncPermitTimeoutMillis + " ms, the maximum number of in-flight queries is reached");
+		}
+	}
+
+	public ResultSet executeBatch(BatchType batchType, List<BoundStatementWrapper> bsWrappers) {
+		StringBuilder batchQuery = new StringBuilder(batchType.asString());
+		List<Object> values = new ArrayList<Object>();
+		for (BoundStatementWrapper bsWrapper : bsWrappers) {
+			String queryString = bsWrapper.getBs().preparedStatement().getQueryString().trim();
+			batchQuery.append(" ").append(StringUtils.removeEnd(queryString, ";")).append(";");
+			values.addAll(Arrays.asList(bsWrapper.getValues()));
+		}
+		batchQuery.append(" APPLY BATCH");
+
+		String batchQueryString = batchQuery.toString();
+		PreparedStatement ps = batchPSCache.getIfPresent(batchQueryString);
+		if (ps == null) {
+			ps = session.prepare(batchQueryString);
+			batchPSCache.put(batchQueryString, ps);
+		}
+
+		Object[] boundValues = values.toArray(new Object[values.size()]);
+		BoundStatement bs = ps.bind(boundValues);
+		bs.setConsistencyLevel(bsWrappers.get(0).getBs().getConsistencyLevel());
+		return execute(bs, boundValues);
+	}
+
+	/**
+	 * Execute a user supplied query string.
+	 * 
+	 * Without bound values the query is sent as a simple statement. Otherwise
+	 * it is prepared once, cached by query string, and bound on every call
+	 */
+	public ResultSet executeQuery(String queryString, Object... boundValues) {
+		if (boundValues.length == 0) {
+			return execute(new SimpleStatement(queryString));
+		}
+		BoundStatement bs = prepareQuery(queryString).bind(boundValues);
+		return execute(bs, boundValues);
+	}
+
+	/**
+	 * Execute a token range scan query, prepared once and cached by query
+	 * string
+	 */
+	public ResultSet executeScanQuery(String queryString, ConsistencyLevel readLevel, Object... boundValues) {
+		BoundStatement bs = prepareQuery(queryString).bind(boundValues);
+		bs.setConsistencyLevel(getCQLLevel(readLevel));
+		return execute(bs, boundValues);
+	}
+
+	public String describePartitioner() {
+		return session.execute(new SimpleStatement("SELECT partitioner FROM system.local")).one()
+				.getString("partitioner");
+	}
+
+	private PreparedStatement prepareQuery(String queryString) {
+		PreparedStatement ps = queryPSCache.getIfPresent(queryString);
+		if (ps == null) {
+			ps = session.prepare(queryString);
+			queryPSCache.put(queryString, ps);
+		}
+		return ps;
+	}
+
+	public <T> ResultSet executeSliceQuery(CQLSliceQuery<T> sliceQuery, Statement statement, CacheType type,
+			Object... boundValues) {
+		PreparedStatement ps = prepareSliceQuery(sliceQuery, statement, type);
+		return bindAndExecuteSliceQuery(sliceQuery, ps, boundValues);
+	}
+
+	public <T> PreparedStatement prepareSliceQuery(CQLSliceQuery<T> sliceQuery, Statement statement, CacheType type) {
+		return cacheManager.getCacheForSliceQuery(session, dynamicPSCache, sliceQuery, statement, type);
+	}
+
+	public <T> ResultSet bindAndExecuteSliceQuery(CQLSliceQuery<T> sliceQuery, PreparedStatement ps,
+			Object... boundValues) {
+		BoundStatement bs = ps.bind(boundValues);
+		bs.setConsistencyLevel(sliceQuery.getConsistencyLevel());
+		return execute(bs, boundValues);
+	}
+
+	public <T> ResultSetFuture bindAndExecuteSliceQueryAsync(CQLSliceQuery<T> sliceQuery, PreparedStatement ps,
+			Object... boundValues) {
+		BoundStatement bs = ps.bind(boundValues);
+		bs.setConsistencyLevel(sliceQuery.getConsistencyLevel());
+		return executeAsync(bs, boundValues);
+	}
+
 	public PreparedStatement prepare(Statement statement) {
 		return session.prepare(statement.getQueryString());
 	}
@@ -282,10 +635,32 @@ public class CQLDaoContext {
 		BoundStatement bs = ps.bind(params);
 
 		logDMLStatement(bs);
+		recordStatement();
 		return session.execute(bs);
 
 	}
 
+	/**
+	 * Count the statements sent to Cassandra and expose the hit rate of the
+	 * prepared statement caches
+	 */
+	public void enableMetrics(AchillesMetrics metrics) {
+		this.metrics = metrics;
+		metrics.registerStatementCache("dynamic", dynamicPSCache);
+		metrics.registerStatementCache("batch", batchPSCache);
+		metrics.registerStatementCache("query", queryPSCache);
+	}
+
+	public AchillesMetrics getMetrics() {
+		return metrics;
+	}
+
+	private void recordStatement() {
+		if (metrics != null) {
+			metrics.recordStatement();
+		}
+	}
+
 	public Session getSession() {
 		return session;
 	}
@@ -345,4 +720,11 @@ public class CQLDaoContext {
 		return consistency;
 	}
 
+	public CQLCounterCoalescer getCounterCoalescer() {
+		return counterCoalescer;
+	}
+
+	public void setCounterCoalescer(CQLCounterCoalescer counterCoalescer) {
+		this.counterCoalescer = counterCoalescer;
+	}
 }
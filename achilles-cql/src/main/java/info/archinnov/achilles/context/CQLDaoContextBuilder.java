@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*;
 import static info.archinnov.achilles.entity.metadata.EntityMeta.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
@@ -24,6 +25,7 @@ import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
@@ -36,6 +38,7 @@ public class CQLDaoContextBuilder {
 	private static final Integer PREPARED_STATEMENT_LRU_CACHE_SIZE = 5000;
 	private CQLPreparedStatementGenerator queryGenerator = new CQLPreparedStatementGenerator();
 	private Session session;
+	private int asyncMaxInFlight = DEFAULT_ASYNC_MAX_IN_FLIGHT;
 
 	private Function<EntityMeta, PreparedStatement> insertPSTransformer = new Function<EntityMeta, PreparedStatement>() {
 		@Override
@@ -74,6 +77,11 @@ public class CQLDaoContextBuilder {
 		this.session = session;
 	}
 
+	public CQLDaoContextBuilder asyncMaxInFlight(int asyncMaxInFlight) {
+		this.asyncMaxInFlight = asyncMaxInFlight;
+		return this;
+	}
+
 	public CQLDaoContext build(Map<Class<?>, EntityMeta> entityMetaMap, boolean hasSimpleCounter) {
 		Map<Class<?>, PreparedStatement> insertPSMap = new HashMap<Class<?>, PreparedStatement>(Maps.transformValues(
 				Maps.filterValues(entityMetaMap, excludeClusteredCounterFilter), insertPSTransformer));
@@ -85,7 +93,7 @@ public class CQLDaoContextBuilder {
 				Maps.transformValues(entityMetaMap, removePSTransformer));
 
 		Cache<StatementCacheKey, PreparedStatement> dynamicPSCache = CacheBuilder.newBuilder()
-				.maximumSize(PREPARED_STATEMENT_LRU_CACHE_SIZE).build();
+				.maximumSize(PREPARED_STATEMENT_LRU_CACHE_SIZE).recordStats().build();
 
 		Map<CQLQueryType, PreparedStatement> counterQueryMap;
 		if (hasSimpleCounter) {
@@ -98,7 +106,13 @@ public class CQLDaoContextBuilder {
 				Maps.transformValues(Maps.filterValues(entityMetaMap, clusteredCounterFilter),
 						clusteredCounterTransformer));
 
+		Cache<String, PreparedStatement> batchPSCache = CacheBuilder.newBuilder()
+				.maximumSize(PREPARED_STATEMENT_LRU_CACHE_SIZE).recordStats().build();
+
+		Cache<String, PreparedStatement> queryPSCache = CacheBuilder.newBuilder()
+				.maximumSize(PREPARED_STATEMENT_LRU_CACHE_SIZE).recordStats().build();
+
 		return new CQLDaoContext(insertPSMap, dynamicPSCache, selectEagerPSMap, removePSMap, counterQueryMap,
-				clusteredCounterQueriesMap, session);
+				clusteredCounterQueriesMap, batchPSCache, queryPSCache, new Semaphore(asyncMaxInFlight), session);
 	}
 }
@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.context;
 
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
@@ -24,6 +25,10 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.ResultSet;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.ListenableFuture;
+
 public class CQLImmediateFlushContext extends CQLAbstractFlushContext<CQLImmediateFlushContext> {
 	private static final Logger log = LoggerFactory.getLogger(CQLImmediateFlushContext.class);
 
@@ -32,8 +37,8 @@ public class CQLImmediateFlushContext extends CQLAbstractFlushContext<CQLImmedia
 	}
 
 	private CQLImmediateFlushContext(CQLDaoContext daoContext, List<BoundStatementWrapper> boundStatementWrappers,
-			ConsistencyLevel consistencyLevel) {
-		super(daoContext, boundStatementWrappers, consistencyLevel);
+			SetMultimap<EntityCache, Object> pendingEvictions, ConsistencyLevel consistencyLevel) {
+		super(daoContext, boundStatementWrappers, pendingEvictions, consistencyLevel);
 	}
 
 	@Override
@@ -54,6 +59,12 @@ public class CQLImmediateFlushContext extends CQLAbstractFlushContext<CQLImmedia
 		doFlush();
 	}
 
+	@Override
+	public ListenableFuture<List<ResultSet>> flushAsync() {
+		log.debug("Flush asynchronously all pending statements");
+		return doFlushAsync();
+	}
+
 	@Override
 	public FlushType type() {
 		return FlushType.IMMEDIATE;
@@ -61,6 +72,6 @@ public class CQLImmediateFlushContext extends CQLAbstractFlushContext<CQLImmedia
 
 	@Override
 	public CQLImmediateFlushContext duplicate() {
-		return new CQLImmediateFlushContext(daoContext, boundStatementWrappers, consistencyLevel);
+		return new CQLImmediateFlushContext(daoContext, boundStatementWrappers, pendingEvictions, consistencyLevel);
 	}
 }
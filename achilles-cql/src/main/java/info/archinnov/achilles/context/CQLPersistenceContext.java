@@ -17,6 +17,7 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.counter.AchillesCounter.*;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityLoader;
@@ -26,6 +27,8 @@ import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
+import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
@@ -34,8 +37,13 @@ import java.util.List;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.google.common.base.Functions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
 public class CQLPersistenceContext extends PersistenceContext {
 	private CQLDaoContext daoContext;
@@ -74,10 +82,22 @@ public class CQLPersistenceContext extends PersistenceContext {
 		return daoContext.eagerLoadEntity(this);
 	}
 
+	public ResultSetFuture eagerLoadEntityAsync() {
+		return daoContext.eagerLoadEntityAsync(this);
+	}
+
+	public ResultSetFuture loadCountersAsync(ConsistencyLevel readLevel) {
+		return daoContext.loadCountersAsync(this, readLevel);
+	}
+
 	public Row loadProperty(PropertyMeta pm) {
 		return daoContext.loadProperty(this, pm);
 	}
 
+	public Row loadProperties(List<PropertyMeta> pms) {
+		return daoContext.loadProperties(this, pms);
+	}
+
 	public void pushInsertStatement() {
 		daoContext.pushInsertStatement(this);
 	}
@@ -86,6 +106,10 @@ public class CQLPersistenceContext extends PersistenceContext {
 		daoContext.pushUpdateStatement(this, pms);
 	}
 
+	public void pushCollectionUpdateStatements(PropertyMeta pm, ElementChanges changes) {
+		daoContext.pushCollectionUpdateStatements(this, pm, changes);
+	}
+
 	public void bindForRemoval(String tableName) {
 		daoContext.bindForRemoval(this, tableName);
 	}
@@ -140,8 +164,35 @@ public class CQLPersistenceContext extends PersistenceContext {
 		daoContext.bindForClusteredCounterDelete(this, entityMeta, counterMeta, primaryKey);
 	}
 
-	public ResultSet bindAndExecute(PreparedStatement ps, Object... params) {
-		return daoContext.bindAndExecute(ps, params);
+	// Counter coalescing
+	public boolean isCounterCoalescing() {
+		return daoContext.getCounterCoalescer() != null;
+	}
+
+	public void coalesceCounterUpdate(PropertyMeta counterMeta, Long delta, ConsistencyLevel consistency) {
+		daoContext.getCounterCoalescer().add(entityMeta, counterMeta, primaryKey, consistency, delta);
+	}
+
+	public long getPendingCounterDelta(PropertyMeta counterMeta) {
+		CQLCounterCoalescer counterCoalescer = daoContext.getCounterCoalescer();
+		return counterCoalescer != null ? counterCoalescer.getPendingDelta(entityMeta, counterMeta, primaryKey) : 0L;
+	}
+
+	public void discardPendingCounterDeltas() {
+		CQLCounterCoalescer counterCoalescer = daoContext.getCounterCoalescer();
+		if (counterCoalescer != null) {
+			counterCoalescer.discardPendingDeltas(entityMeta, primaryKey);
+		}
+	}
+
+	public <T> ResultSet bindAndExecuteSliceQuery(CQLSliceQuery<T> sliceQuery, PreparedStatement ps,
+			Object... boundValues) {
+		return daoContext.bindAndExecuteSliceQuery(sliceQuery, ps, boundValues);
+	}
+
+	public <T> ResultSetFuture bindAndExecuteSliceQueryAsync(CQLSliceQuery<T> sliceQuery, PreparedStatement ps,
+			Object... boundValues) {
+		return daoContext.bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues);
 	}
 
 	public void pushBoundStatement(BoundStatementWrapper bsWrapper, ConsistencyLevel writeLevel) {
@@ -162,12 +213,14 @@ public class CQLPersistenceContext extends PersistenceContext {
 	public void persist() {
 		persister.persist(this);
 		flush();
+		evictFromCache();
 	}
 
 	@Override
 	public <T> T merge(T entity) {
 		T merged = merger.merge(this, entity);
 		flush();
+		evictFromCache();
 		return merged;
 	}
 
@@ -175,6 +228,40 @@ public class CQLPersistenceContext extends PersistenceContext {
 	public void remove() {
 		persister.remove(this);
 		flush();
+		evictFromCache();
+	}
+
+	public ListenableFuture<List<ResultSet>> persistAsync() {
+		persister.persist(this);
+		return evictFromCacheOnCompletion(flushContext.flushAsync());
+	}
+
+	public <T> ListenableFuture<T> mergeAsync(T entity) {
+		T merged = merger.merge(this, entity);
+		ListenableFuture<List<ResultSet>> future = evictFromCacheOnCompletion(flushContext.flushAsync());
+		return Futures.transform(future, Functions.constant(merged));
+	}
+
+	public ListenableFuture<List<ResultSet>> removeAsync() {
+		persister.remove(this);
+		return evictFromCacheOnCompletion(flushContext.flushAsync());
+	}
+
+	/**
+	 * Evict the cached entity right away, then again once the writes are applied, so that a find racing with the
+	 * asynchronous flush cannot leave a stale snapshot behind
+	 */
+	private <V> ListenableFuture<V> evictFromCacheOnCompletion(ListenableFuture<V> future) {
+		if (entityMeta.isCached()) {
+			evictFromCache();
+			future.addListener(new Runnable() {
+				@Override
+				public void run() {
+					evictFromCache();
+				}
+			}, MoreExecutors.sameThreadExecutor());
+		}
+		return future;
 	}
 
 	@Override
@@ -195,6 +282,7 @@ public class CQLPersistenceContext extends PersistenceContext {
 
 	@Override
 	public void refresh() throws AchillesStaleObjectStateException {
+		evictFromCache();
 		refresher.refresh(this);
 	}
 
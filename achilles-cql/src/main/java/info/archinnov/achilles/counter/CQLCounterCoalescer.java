@@ -0,0 +1,154 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import static info.archinnov.achilles.consistency.CQLConsistencyConvertor.getCQLLevel;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.BatchType;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+
+public class CQLCounterCoalescer extends CounterCoalescer<CQLCounterCoalescer.CounterKey> {
+
+	private CQLDaoContext daoContext;
+	private int batchMaxSize;
+
+	public CQLCounterCoalescer(CQLDaoContext daoContext, long flushInterval, int flushThreshold, int batchMaxSize) {
+		super(flushInterval, flushThreshold);
+		this.daoContext = daoContext;
+		this.batchMaxSize = batchMaxSize;
+	}
+
+	public void add(EntityMeta entityMeta, PropertyMeta counterMeta, Object primaryKey, ConsistencyLevel writeLevel,
+			long delta) {
+		add(new CounterKey(entityMeta, counterMeta, primaryKey, writeLevel), delta);
+	}
+
+	/**
+	 * Sum of the deltas pending for a counter, whatever the consistency level they will be written with
+	 */
+	public long getPendingDelta(EntityMeta entityMeta, PropertyMeta counterMeta, Object primaryKey) {
+		long pendingDelta = getPendingDelta(new CounterKey(entityMeta, counterMeta, primaryKey, null));
+		for (ConsistencyLevel writeLevel : ConsistencyLevel.values()) {
+			pendingDelta += getPendingDelta(new CounterKey(entityMeta, counterMeta, primaryKey, writeLevel));
+		}
+		return pendingDelta;
+	}
+
+	/**
+	 * Drop the pending deltas of all the counters of an entity, whatever the consistency level they would be written
+	 * with
+	 */
+	public void discardPendingDeltas(EntityMeta entityMeta, Object primaryKey) {
+		final Class<?> entityClass = entityMeta.getEntityClass();
+		final Object encodedKey = CounterKey.encodeKey(entityMeta, primaryKey);
+		discardPendingDeltas(new Predicate<CounterKey>() {
+			@Override
+			public boolean apply(CounterKey key) {
+				return Objects.equal(entityClass, key.entityMeta.getEntityClass())
+						&& Objects.equal(encodedKey, key.encodedKey);
+			}
+		});
+	}
+
+	@Override
+	protected void writeDeltas(Map<CounterKey, Long> deltas) {
+		Map<ConsistencyLevel, List<BoundStatementWrapper>> updatesByLevel;
+		updatesByLevel = new HashMap<ConsistencyLevel, List<BoundStatementWrapper>>();
+		for (Entry<CounterKey, Long> entry : deltas.entrySet()) {
+			CounterKey key = entry.getKey();
+			BoundStatementWrapper bsWrapper = daoContext.bindForCounterUpdate(key.entityMeta, key.counterMeta,
+					key.primaryKey, entry.getValue());
+			if (key.writeLevel != null) {
+				bsWrapper.getBs().setConsistencyLevel(getCQLLevel(key.writeLevel));
+			}
+			if (!updatesByLevel.containsKey(key.writeLevel)) {
+				updatesByLevel.put(key.writeLevel, new ArrayList<BoundStatementWrapper>());
+			}
+			updatesByLevel.get(key.writeLevel).add(bsWrapper);
+		}
+
+		for (List<BoundStatementWrapper> updates : updatesByLevel.values()) {
+			for (List<BoundStatementWrapper> batch : Lists.partition(updates, batchMaxSize)) {
+				if (batch.size() == 1) {
+					BoundStatementWrapper bsWrapper = batch.get(0);
+					daoContext.execute(bsWrapper.getBs(), bsWrapper.getValues());
+				} else {
+					daoContext.executeBatch(BatchType.COUNTER, batch);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Counter cell of an entity and write consistency level. Compound primary keys are compared on their encoded
+	 * components, so that distinct instances of the same key share their pending delta
+	 */
+	public static class CounterKey {
+		private final EntityMeta entityMeta;
+		private final PropertyMeta counterMeta;
+		private final Object primaryKey;
+		private final Object encodedKey;
+		private final ConsistencyLevel writeLevel;
+
+		public CounterKey(EntityMeta entityMeta, PropertyMeta counterMeta, Object primaryKey,
+				ConsistencyLevel writeLevel) {
+			this.entityMeta = entityMeta;
+			this.counterMeta = counterMeta;
+			this.primaryKey = primaryKey;
+			this.writeLevel = writeLevel;
+			this.encodedKey = encodeKey(entityMeta, primaryKey);
+		}
+
+		private static Object encodeKey(EntityMeta entityMeta, Object primaryKey) {
+			PropertyMeta idMeta = entityMeta.getIdMeta();
+			return idMeta.isEmbeddedId() ? idMeta.encodeToComponents(primaryKey) : primaryKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(entityMeta.getEntityClass(), counterMeta.getPropertyName(), encodedKey,
+					writeLevel);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CounterKey other = (CounterKey) obj;
+			return Objects.equal(entityMeta.getEntityClass(), other.entityMeta.getEntityClass())
+					&& Objects.equal(counterMeta.getPropertyName(), other.counterMeta.getPropertyName())
+					&& Objects.equal(encodedKey, other.encodedKey) && writeLevel == other.writeLevel;
+		}
+	}
+}
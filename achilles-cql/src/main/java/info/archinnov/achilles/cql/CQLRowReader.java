@@ -0,0 +1,212 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.cql;
+
+import com.datastax.driver.core.Row;
+
+public abstract class CQLRowReader {
+
+	public static final CQLRowReader BOOLEAN = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getBool(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getBool(name);
+		}
+	};
+
+	public static final CQLRowReader INT = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getInt(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getInt(name);
+		}
+	};
+
+	public static final CQLRowReader LONG = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getLong(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getLong(name);
+		}
+	};
+
+	public static final CQLRowReader DATE = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getDate(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getDate(name);
+		}
+	};
+
+	public static final CQLRowReader FLOAT = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getFloat(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getFloat(name);
+		}
+	};
+
+	public static final CQLRowReader DOUBLE = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getDouble(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getDouble(name);
+		}
+	};
+
+	public static final CQLRowReader BYTES = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getBytes(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getBytes(name);
+		}
+	};
+
+	public static final CQLRowReader STRING = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getString(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getString(name);
+		}
+	};
+
+	public static final CQLRowReader VARINT = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getVarint(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getVarint(name);
+		}
+	};
+
+	public static final CQLRowReader DECIMAL = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getDecimal(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getDecimal(name);
+		}
+	};
+
+	public static final CQLRowReader UUID = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getUUID(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getUUID(name);
+		}
+	};
+
+	public static final CQLRowReader INET = new CQLRowReader() {
+		@Override
+		public Object read(Row row, int index) {
+			return row.getInet(index);
+		}
+
+		@Override
+		public Object read(Row row, String name) {
+			return row.getInet(name);
+		}
+	};
+
+	public static CQLRowReader listOf(final Class<?> elementClass) {
+		return new CQLRowReader() {
+			@Override
+			public Object read(Row row, int index) {
+				return row.getList(index, elementClass);
+			}
+
+			@Override
+			public Object read(Row row, String name) {
+				return row.getList(name, elementClass);
+			}
+		};
+	}
+
+	public static CQLRowReader setOf(final Class<?> elementClass) {
+		return new CQLRowReader() {
+			@Override
+			public Object read(Row row, int index) {
+				return row.getSet(index, elementClass);
+			}
+
+			@Override
+			public Object read(Row row, String name) {
+				return row.getSet(name, elementClass);
+			}
+		};
+	}
+
+	public static CQLRowReader mapOf(final Class<?> keyClass, final Class<?> valueClass) {
+		return new CQLRowReader() {
+			@Override
+			public Object read(Row row, int index) {
+				return row.getMap(index, keyClass, valueClass);
+			}
+
+			@Override
+			public Object read(Row row, String name) {
+				return row.getMap(name, keyClass, valueClass);
+			}
+		};
+	}
+
+	public abstract Object read(Row row, int index);
+
+	public abstract Object read(Row row, String name);
+}
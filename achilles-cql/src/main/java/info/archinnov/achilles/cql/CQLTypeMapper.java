@@ -18,11 +18,9 @@ package info.archinnov.achilles.cql;
 
 import static com.datastax.driver.core.DataType.Name.*;
 import info.archinnov.achilles.entity.metadata.InternalTimeUUID;
-import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.helper.PropertyHelper;
 import info.archinnov.achilles.type.Counter;
 
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
@@ -36,13 +34,12 @@ import java.util.UUID;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
-import com.datastax.driver.core.Row;
 
 public class CQLTypeMapper {
 
 	private static final Map<Class<?>, Name> java2CQL = new HashMap<Class<?>, Name>();
 	private static final Map<Name, Class<?>> cql2Java = new HashMap<Name, Class<?>>();
-	private static final Map<Class<?>, Method> rowPropertyInvoker = new HashMap<Class<?>, Method>();
+	private static final Map<Class<?>, CQLRowReader> rowReaders = new HashMap<Class<?>, CQLRowReader>();
 
 	static {
 		java2CQL.put(String.class, TEXT);
@@ -89,40 +86,23 @@ public class CQLTypeMapper {
 		cql2Java.put(MAP, Map.class);
 		cql2Java.put(CUSTOM, ByteBuffer.class);
 
-		try {
-			rowPropertyInvoker.put(Boolean.class, Row.class.getDeclaredMethod("getBool", String.class));
-			rowPropertyInvoker.put(boolean.class, Row.class.getDeclaredMethod("getBool", String.class));
-
-			rowPropertyInvoker.put(Integer.class, Row.class.getDeclaredMethod("getInt", String.class));
-			rowPropertyInvoker.put(int.class, Row.class.getDeclaredMethod("getInt", String.class));
-
-			rowPropertyInvoker.put(Long.class, Row.class.getDeclaredMethod("getLong", String.class));
-			rowPropertyInvoker.put(long.class, Row.class.getDeclaredMethod("getLong", String.class));
-
-			rowPropertyInvoker.put(Date.class, Row.class.getDeclaredMethod("getDate", String.class));
-
-			rowPropertyInvoker.put(Float.class, Row.class.getDeclaredMethod("getFloat", String.class));
-			rowPropertyInvoker.put(float.class, Row.class.getDeclaredMethod("getFloat", String.class));
-
-			rowPropertyInvoker.put(Double.class, Row.class.getDeclaredMethod("getDouble", String.class));
-			rowPropertyInvoker.put(double.class, Row.class.getDeclaredMethod("getDouble", String.class));
-
-			rowPropertyInvoker.put(ByteBuffer.class, Row.class.getDeclaredMethod("getBytes", String.class));
-
-			rowPropertyInvoker.put(String.class, Row.class.getDeclaredMethod("getString", String.class));
-
-			rowPropertyInvoker.put(BigInteger.class, Row.class.getDeclaredMethod("getVarint", String.class));
-
-			rowPropertyInvoker.put(BigDecimal.class, Row.class.getDeclaredMethod("getDecimal", String.class));
-
-			rowPropertyInvoker.put(UUID.class, Row.class.getDeclaredMethod("getUUID", String.class));
-
-			rowPropertyInvoker.put(InetAddress.class, Row.class.getDeclaredMethod("getInet", String.class));
-
-		} catch (Exception e) {
-			throw new AchillesException("Cannot find getter in '" + Row.class.getCanonicalName() + "' ", e);
-		}
-
+		rowReaders.put(Boolean.class, CQLRowReader.BOOLEAN);
+		rowReaders.put(boolean.class, CQLRowReader.BOOLEAN);
+		rowReaders.put(Integer.class, CQLRowReader.INT);
+		rowReaders.put(int.class, CQLRowReader.INT);
+		rowReaders.put(Long.class, CQLRowReader.LONG);
+		rowReaders.put(long.class, CQLRowReader.LONG);
+		rowReaders.put(Date.class, CQLRowReader.DATE);
+		rowReaders.put(Float.class, CQLRowReader.FLOAT);
+		rowReaders.put(float.class, CQLRowReader.FLOAT);
+		rowReaders.put(Double.class, CQLRowReader.DOUBLE);
+		rowReaders.put(double.class, CQLRowReader.DOUBLE);
+		rowReaders.put(ByteBuffer.class, CQLRowReader.BYTES);
+		rowReaders.put(String.class, CQLRowReader.STRING);
+		rowReaders.put(BigInteger.class, CQLRowReader.VARINT);
+		rowReaders.put(BigDecimal.class, CQLRowReader.DECIMAL);
+		rowReaders.put(UUID.class, CQLRowReader.UUID);
+		rowReaders.put(InetAddress.class, CQLRowReader.INET);
 	}
 
 	public static DataType.Name toCQLType(Class<?> javaType) {
@@ -140,14 +120,14 @@ public class CQLTypeMapper {
 		return cql2Java.get(cqlType);
 	}
 
-	public static Method getRowMethod(Class<?> javaType) {
-		Method method = rowPropertyInvoker.get(javaType);
+	public static CQLRowReader getRowReader(Class<?> javaType) {
+		CQLRowReader reader = rowReaders.get(javaType);
 
 		// Custom object will be JSON serialized
-		if (method == null) {
-			method = rowPropertyInvoker.get(String.class);
+		if (reader == null) {
+			reader = CQLRowReader.STRING;
 		}
-		return method;
+		return reader;
 	}
 
 	public static Class<?> toCompatibleJavaType(Class<?> originalClass) {
@@ -19,21 +19,49 @@ package info.archinnov.achilles.entity;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.helper.EntityMapper;
+import info.archinnov.achilles.metrics.EntityMetrics;
 import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class CQLEntityMapper extends EntityMapper {
 
 	private CQLRowMethodInvoker cqlRowInvoker = new CQLRowMethodInvoker();
 
+	private static final int MAX_SHARED_MAPPINGS = 10000;
+
+	/**
+	 * Mappings shared by all the mappers, keyed by the kind of mapping, the entity meta and the ordered column names,
+	 * so that result sets of different queries with the same columns reuse one mapping
+	 */
+	private static final Cache<List<Object>, CQLRowMapping> sharedMappings = CacheBuilder.newBuilder()
+			.maximumSize(MAX_SHARED_MAPPINGS).build();
+
+	private Cache<ColumnDefinitions, CQLRowMapping> eagerMappings = CacheBuilder.newBuilder().weakKeys().build();
+	private Cache<ColumnDefinitions, CQLRowMapping> columnMappings = CacheBuilder.newBuilder().weakKeys().build();
+
 	public void setEagerPropertiesToEntity(Row row, EntityMeta entityMeta, Object entity) {
-		for (PropertyMeta pm : entityMeta.getEagerMetas()) {
-			setPropertyToEntity(row, pm, entity);
+		if (row != null) {
+			ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
+			CQLRowMapping mapping = eagerMappings.getIfPresent(columnDefinitions);
+			if (mapping == null || !mapping.isMappingFor(entityMeta)) {
+				List<Object> key = mappingKey("eager", entityMeta, columnDefinitions);
+				mapping = sharedMappings.getIfPresent(key);
+				if (mapping == null) {
+					mapping = CQLRowMapping.forEagerProperties(entityMeta, columnDefinitions);
+					sharedMappings.put(key, mapping);
+				}
+				eagerMappings.put(columnDefinitions, mapping);
+			}
+			mapping.mapRow(row, entity, true);
+			recordRowDecoded(entityMeta);
 		}
 	}
 
@@ -57,21 +85,37 @@ public class CQLEntityMapper extends EntityMapper {
 		T entity = null;
 		ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
 		if (columnDefinitions != null) {
-			entity = meta.<T> instanciate();
-			for (Definition column : columnDefinitions) {
-				String columnName = column.getName();
-				PropertyMeta pm = propertiesMap.get(columnName);
-				if (pm != null) {
-					Object value = cqlRowInvoker.invokeOnRowForFields(row, pm);
-					pm.setValueToField(entity, value);
+			CQLRowMapping mapping = columnMappings.getIfPresent(columnDefinitions);
+			if (mapping == null || !mapping.isMappingFor(meta)) {
+				List<Object> key = mappingKey("columns", meta, columnDefinitions);
+				mapping = sharedMappings.getIfPresent(key);
+				if (mapping == null) {
+					mapping = CQLRowMapping.forColumns(meta, columnDefinitions, propertiesMap);
+					sharedMappings.put(key, mapping);
 				}
+				columnMappings.put(columnDefinitions, mapping);
 			}
-			PropertyMeta idMeta = meta.getIdMeta();
-			if (idMeta.isEmbeddedId()) {
-				Object compoundKey = cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, idMeta, isEntityManaged);
-				idMeta.setValueToField(entity, compoundKey);
-			}
+			entity = meta.<T> instanciate();
+			mapping.mapRow(row, entity, isEntityManaged);
+			recordRowDecoded(meta);
 		}
 		return entity;
 	}
+
+	private List<Object> mappingKey(String kind, EntityMeta entityMeta, ColumnDefinitions columnDefinitions) {
+		List<Object> key = new ArrayList<Object>(columnDefinitions.size() + 2);
+		key.add(kind);
+		key.add(entityMeta);
+		for (int i = 0; i < columnDefinitions.size(); i++) {
+			key.add(columnDefinitions.getName(i));
+		}
+		return key;
+	}
+
+	private void recordRowDecoded(EntityMeta entityMeta) {
+		EntityMetrics metrics = entityMeta.getEntityMetrics();
+		if (metrics != null) {
+			metrics.recordRowDecoded();
+		}
+	}
 }
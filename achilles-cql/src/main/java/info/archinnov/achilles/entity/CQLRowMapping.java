@@ -0,0 +1,204 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.cql.CQLTypeMapper.*;
+import info.archinnov.achilles.cql.CQLRowReader;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+public class CQLRowMapping {
+
+	private final EntityMeta meta;
+	private final PropertyMeta[] propertyMetas;
+	private final int[] indexes;
+	private final CQLRowReader[] readers;
+
+	private final PropertyMeta embeddedIdMeta;
+	private final int[] componentIndexes;
+	private final CQLRowReader[] componentReaders;
+
+	public static CQLRowMapping forEagerProperties(EntityMeta meta, ColumnDefinitions columnDefinitions) {
+		List<PropertyMeta> columnMetas = new ArrayList<PropertyMeta>();
+		List<Integer> columnIndexes = new ArrayList<Integer>();
+		PropertyMeta embeddedIdMeta = null;
+
+		for (PropertyMeta pm : meta.getEagerMetas()) {
+			if (pm.isEmbeddedId()) {
+				embeddedIdMeta = pm;
+			} else if (isMappable(pm) && columnDefinitions.contains(pm.getPropertyName())) {
+				columnMetas.add(pm);
+				columnIndexes.add(columnDefinitions.getIndexOf(pm.getPropertyName()));
+			}
+		}
+		return new CQLRowMapping(meta, columnMetas, columnIndexes, embeddedIdMeta, columnDefinitions);
+	}
+
+	public static CQLRowMapping forColumns(EntityMeta meta, ColumnDefinitions columnDefinitions,
+			Map<String, PropertyMeta> propertiesMap) {
+		List<PropertyMeta> columnMetas = new ArrayList<PropertyMeta>();
+		List<Integer> columnIndexes = new ArrayList<Integer>();
+
+		for (int i = 0; i < columnDefinitions.size(); i++) {
+			PropertyMeta pm = propertiesMap.get(columnDefinitions.getName(i));
+			if (pm != null && isMappable(pm)) {
+				columnMetas.add(pm);
+				columnIndexes.add(i);
+			}
+		}
+		PropertyMeta idMeta = meta.getIdMeta();
+		PropertyMeta embeddedIdMeta = idMeta.isEmbeddedId() ? idMeta : null;
+		return new CQLRowMapping(meta, columnMetas, columnIndexes, embeddedIdMeta, columnDefinitions);
+	}
+
+	private CQLRowMapping(EntityMeta meta, List<PropertyMeta> columnMetas, List<Integer> columnIndexes,
+			PropertyMeta embeddedIdMeta, ColumnDefinitions columnDefinitions) {
+		this.meta = meta;
+		this.propertyMetas = columnMetas.toArray(new PropertyMeta[columnMetas.size()]);
+		this.indexes = new int[columnIndexes.size()];
+		this.readers = new CQLRowReader[columnMetas.size()];
+		for (int i = 0; i < propertyMetas.length; i++) {
+			indexes[i] = columnIndexes.get(i);
+			readers[i] = readerFor(propertyMetas[i]);
+		}
+
+		this.embeddedIdMeta = embeddedIdMeta;
+		if (embeddedIdMeta != null) {
+			List<String> componentNames = embeddedIdMeta.getComponentNames();
+			List<Class<?>> componentClasses = embeddedIdMeta.getComponentClasses();
+			componentIndexes = new int[componentNames.size()];
+			componentReaders = new CQLRowReader[componentNames.size()];
+			for (int i = 0; i < componentNames.size(); i++) {
+				String componentName = componentNames.get(i);
+				componentIndexes[i] = columnDefinitions.contains(componentName) ? columnDefinitions
+						.getIndexOf(componentName) : -1;
+				componentReaders[i] = getRowReader(componentClasses.get(i));
+			}
+		} else {
+			componentIndexes = null;
+			componentReaders = null;
+		}
+	}
+
+	public boolean isMappingFor(EntityMeta entityMeta) {
+		return meta == entityMeta;
+	}
+
+	public void mapRow(Row row, Object entity, boolean isManagedEntity) {
+		for (int i = 0; i < propertyMetas.length; i++) {
+			int index = indexes[i];
+			if (!row.isNull(index)) {
+				PropertyMeta pm = propertyMetas[i];
+				pm.setValueToField(entity, readProperty(row, pm, index, readers[i]));
+			}
+		}
+		if (embeddedIdMeta != null) {
+			embeddedIdMeta.setValueToField(entity, readCompoundPrimaryKey(row, isManagedEntity));
+		}
+	}
+
+	private Object readProperty(Row row, PropertyMeta pm, int index, CQLRowReader reader) {
+		try {
+			Object rawValue = reader.read(row, index);
+			switch (pm.type()) {
+			case LIST:
+			case LAZY_LIST:
+				return pm.decode((List<?>) rawValue);
+			case SET:
+			case LAZY_SET:
+				return pm.decode((Set<?>) rawValue);
+			case MAP:
+			case LAZY_MAP:
+				return pm.decode((Map<?, ?>) rawValue);
+			default:
+				return pm.decode(rawValue);
+			}
+		} catch (Exception e) {
+			throw new AchillesException("Cannot retrieve property '" + pm.getPropertyName() + "' for entity class '"
+					+ pm.getEntityClassName() + "' from CQL Row", e);
+		}
+	}
+
+	private Object readCompoundPrimaryKey(Row row, boolean isManagedEntity) {
+		Object[] rawValues = new Object[componentIndexes.length];
+		try {
+			for (int i = 0; i < componentIndexes.length; i++) {
+				int index = componentIndexes[i];
+				if (index >= 0 && !row.isNull(index)) {
+					rawValues[i] = componentReaders[i].read(row, index);
+				}
+			}
+			if (isManagedEntity) {
+				List<String> componentNames = embeddedIdMeta.getComponentNames();
+				for (int i = 0; i < rawValues.length; i++) {
+					Validator.validateNotNull(rawValues[i],
+							"Error, the component '%s' from @EmbeddedId class '%s' cannot be found in Cassandra",
+							componentNames.get(i), embeddedIdMeta.getValueClass());
+				}
+			}
+			return embeddedIdMeta.decodeFromComponents(Arrays.asList(rawValues));
+		} catch (Exception e) {
+			throw new AchillesException("Cannot retrieve compound primary key for entity class '"
+					+ embeddedIdMeta.getEntityClassName() + "' from CQL Row", e);
+		}
+	}
+
+	private static boolean isMappable(PropertyMeta pm) {
+		switch (pm.type()) {
+		case ID:
+		case SIMPLE:
+		case LAZY_SIMPLE:
+		case LIST:
+		case LAZY_LIST:
+		case SET:
+		case LAZY_SET:
+		case MAP:
+		case LAZY_MAP:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private static CQLRowReader readerFor(PropertyMeta pm) {
+		switch (pm.type()) {
+		case LIST:
+		case LAZY_LIST:
+			return CQLRowReader.listOf(toCompatibleJavaType(pm.getCassandraValueClass()));
+		case SET:
+		case LAZY_SET:
+			return CQLRowReader.setOf(toCompatibleJavaType(pm.getCassandraValueClass()));
+		case MAP:
+		case LAZY_MAP:
+			return CQLRowReader.mapOf(toCompatibleJavaType(pm.getCassandraKeyClass()),
+					toCompatibleJavaType(pm.getCassandraValueClass()));
+		default:
+			return getRowReader(pm.getCassandraValueClass());
+		}
+	}
+}
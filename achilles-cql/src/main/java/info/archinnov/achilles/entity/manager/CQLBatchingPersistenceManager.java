@@ -24,6 +24,7 @@ import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 
@@ -39,9 +40,9 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 	private CQLBatchingFlushContext flushContext;
 
 	CQLBatchingPersistenceManager(Map<Class<?>, EntityMeta> entityMetaMap, CQLPersistenceContextFactory contextFactory,
-			CQLDaoContext daoContext, ConfigurationContext configContext) {
+			CQLDaoContext daoContext, ConfigurationContext configContext, BatchType batchType, int batchMaxSize) {
 		super(entityMetaMap, contextFactory, daoContext, configContext);
-		this.flushContext = new CQLBatchingFlushContext(daoContext, null);
+		this.flushContext = new CQLBatchingFlushContext(daoContext, null, batchType, batchMaxSize);
 	}
 
 	/**
@@ -65,6 +66,9 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 	/**
 	 * End an existing batch and flush all the pending statements.
 	 * 
+	 * Pending statements are sent as native CQL batches, split according to
+	 * the configured batch max size
+	 * 
 	 * Do nothing if there is no pending statement
 	 * 
 	 */
@@ -22,27 +22,45 @@ import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.operations.CQLEntityLoader;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
 import info.archinnov.achilles.entity.operations.CQLSliceQueryExecutor;
+import info.archinnov.achilles.entity.operations.CQLTableScanExecutor;
 import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.query.cql.CQLNativeQueryBuilder;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryValidator;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.OptionsBuilder;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
+import com.google.common.base.Function;
+import com.google.common.base.Functions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceContext> {
+	private static final Logger log = LoggerFactory.getLogger(CQLPersistenceManager.class);
+	private static final Function<Object, Void> TO_VOID = Functions.constant(null);
+
 	private CQLCompoundKeyValidator compoundKeyValidator = new CQLCompoundKeyValidator();
 	private CQLSliceQueryExecutor sliceQueryExecutor;
+	private CQLTableScanExecutor tableScanExecutor;
 	private CQLPersistenceContextFactory contextFactory;
 	protected CQLDaoContext daoContext;
 
 	private CQLTypedQueryValidator typedQueryValidator = new CQLTypedQueryValidator();
+	private CQLEntityLoader loader = new CQLEntityLoader();
 
 	protected CQLPersistenceManager(Map<Class<?>, EntityMeta> entityMetaMap, //
 			CQLPersistenceContextFactory contextFactory, CQLDaoContext daoContext, ConfigurationContext configContext) {
@@ -52,6 +70,127 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 		super.entityValidator = new EntityValidator<CQLPersistenceContext>(proxifier);
 		this.contextFactory = contextFactory;
 		this.sliceQueryExecutor = new CQLSliceQueryExecutor(contextFactory, configContext, daoContext);
+		this.tableScanExecutor = new CQLTableScanExecutor(contextFactory, daoContext);
+	}
+
+	/**
+	 * Persist an entity asynchronously.
+	 * 
+	 * Errors are reported through the returned future, use
+	 * Futures.addCallback() to be notified
+	 * 
+	 * @param entity
+	 *            Entity to be persisted
+	 * @return future holding the persisted entity
+	 */
+	public <T> ListenableFuture<T> persistAsync(T entity) {
+		return persistAsync(entity, OptionsBuilder.noOptions());
+	}
+
+	/**
+	 * Persist an entity asynchronously with the given options.
+	 * 
+	 * @param entity
+	 *            Entity to be persisted
+	 * @param Options
+	 *            options for consistency level, ttl and timestamp
+	 * @return future holding the persisted entity
+	 */
+	public <T> ListenableFuture<T> persistAsync(T entity, Options options) {
+		if (log.isDebugEnabled())
+			log.debug("Persisting asynchronously entity '{}' with options {} ", entity, options);
+
+		CQLPersistenceContext context = initPersistenceContextForPersist(entity, options);
+		return Futures.transform(context.persistAsync(), Functions.constant(entity));
+	}
+
+	/**
+	 * Merge an entity asynchronously.
+	 * 
+	 * @param entity
+	 *            Entity to be merged
+	 * @return future holding the merged entity or a new proxified entity
+	 */
+	public <T> ListenableFuture<T> mergeAsync(T entity) {
+		return mergeAsync(entity, OptionsBuilder.noOptions());
+	}
+
+	/**
+	 * Merge an entity asynchronously with the given options.
+	 * 
+	 * @param entity
+	 *            Entity to be merged
+	 * @param Options
+	 *            options for consistency level, ttl and timestamp
+	 * @return future holding the merged entity or a new proxified entity
+	 */
+	public <T> ListenableFuture<T> mergeAsync(T entity, Options options) {
+		if (log.isDebugEnabled())
+			log.debug("Merging asynchronously entity '{}' with options {} ", proxifier.unwrap(entity), options);
+
+		CQLPersistenceContext context = initPersistenceContextForMerge(entity, options);
+		return context.mergeAsync(entity);
+	}
+
+	/**
+	 * Remove an entity asynchronously.
+	 * 
+	 * @param entity
+	 *            Entity to be removed
+	 */
+	public ListenableFuture<Void> removeAsync(Object entity) {
+		return removeAsync(entity, null);
+	}
+
+	/**
+	 * Remove an entity asynchronously with the given Consistency Level for
+	 * write.
+	 * 
+	 * @param entity
+	 *            Entity to be removed
+	 * @param writeLevel
+	 *            Consistency Level for write
+	 */
+	public ListenableFuture<Void> removeAsync(Object entity, ConsistencyLevel writeLevel) {
+		if (log.isDebugEnabled())
+			log.debug("Removing asynchronously entity '{}' with write consistency level {}", proxifier.unwrap(entity),
+					writeLevel);
+
+		CQLPersistenceContext context = initPersistenceContextForRemove(entity, writeLevel);
+		return toVoid(context.removeAsync());
+	}
+
+	/**
+	 * Remove an entity asynchronously by its id.
+	 * 
+	 * @param entityClass
+	 *            Entity class
+	 * 
+	 * @param primaryKey
+	 *            Primary key
+	 */
+	public ListenableFuture<Void> removeByIdAsync(Class<?> entityClass, Object primaryKey) {
+		return removeByIdAsync(entityClass, primaryKey, null);
+	}
+
+	/**
+	 * Remove an entity asynchronously by its id with the given Consistency
+	 * Level for write.
+	 * 
+	 * @param entityClass
+	 *            Entity class
+	 * 
+	 * @param primaryKey
+	 *            Primary key
+	 * @param writeLevel
+	 *            Consistency Level for write
+	 */
+	public ListenableFuture<Void> removeByIdAsync(Class<?> entityClass, Object primaryKey, ConsistencyLevel writeLevel) {
+		if (log.isDebugEnabled())
+			log.debug("Removing asynchronously entity of type '{}' by its id '{}'", entityClass, primaryKey);
+
+		CQLPersistenceContext context = initPersistenceContextForRemoveById(entityClass, primaryKey, writeLevel);
+		return toVoid(context.removeAsync());
 	}
 
 	@Override
@@ -61,6 +200,11 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 				meta);
 	}
 
+	@Override
+	protected CQLTableScanExecutor getTableScanExecutor() {
+		return tableScanExecutor;
+	}
+
 	/**
 	 * Return a CQL native query builder
 	 * 
@@ -68,11 +212,15 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 	 *            native CQL query string, including limit, ttl and consistency
 	 *            options
 	 * 
+	 * @param boundValues
+	 *            values bound to the '?' markers of the query string. When
+	 *            present, the query is prepared once and cached
+	 * 
 	 * @return CQLNativeQueryBuilder
 	 */
-	public CQLNativeQueryBuilder nativeQuery(String queryString) {
+	public CQLNativeQueryBuilder nativeQuery(String queryString, Object... boundValues) {
 		Validator.validateNotBlank(queryString, "The query string for native query should not be blank");
-		return new CQLNativeQueryBuilder(daoContext, queryString);
+		return new CQLNativeQueryBuilder(daoContext, queryString, boundValues);
 	}
 
 	/**
@@ -87,9 +235,13 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 	 *            native CQL query string, including limit, ttl and consistency
 	 *            options
 	 * 
+	 * @param boundValues
+	 *            values bound to the '?' markers of the query string. When
+	 *            present, the query is prepared once and cached
+	 * 
 	 * @return CQLTypedQueryBuilder<T>
 	 */
-	public <T> CQLTypedQueryBuilder<T> typedQuery(Class<T> entityClass, String queryString) {
+	public <T> CQLTypedQueryBuilder<T> typedQuery(Class<T> entityClass, String queryString, Object... boundValues) {
 		Validator.validateNotNull(entityClass, "The entityClass for typed query should not be null");
 		Validator.validateNotBlank(queryString, "The query string for typed query should not be blank");
 		Validator.validateTrue(entityMetaMap.containsKey(entityClass),
@@ -98,7 +250,8 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 
 		EntityMeta meta = entityMetaMap.get(entityClass);
 		typedQueryValidator.validateTypedQuery(entityClass, queryString, meta);
-		return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, true);
+		return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, true,
+				boundValues);
 	}
 
 	/**
@@ -114,9 +267,13 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 	 *            native CQL query string, including limit, ttl and consistency
 	 *            options
 	 * 
+	 * @param boundValues
+	 *            values bound to the '?' markers of the query string. When
+	 *            present, the query is prepared once and cached
+	 * 
 	 * @return CQLTypedQueryBuilder<T>
 	 */
-	public <T> CQLTypedQueryBuilder<T> rawTypedQuery(Class<T> entityClass, String queryString) {
+	public <T> CQLTypedQueryBuilder<T> rawTypedQuery(Class<T> entityClass, String queryString, Object... boundValues) {
 		Validator.validateNotNull(entityClass, "The entityClass for typed query should not be null");
 		Validator.validateNotBlank(queryString, "The query string for typed query should not be blank");
 		Validator.validateTrue(entityMetaMap.containsKey(entityClass),
@@ -125,7 +282,8 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 
 		EntityMeta meta = entityMetaMap.get(entityClass);
 		typedQueryValidator.validateRawTypedQuery(entityClass, queryString, meta);
-		return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, false);
+		return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, false,
+				boundValues);
 	}
 
 	@Override
@@ -138,6 +296,20 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 		return contextFactory.newContext(entityClass, primaryKey, options);
 	}
 
+	@Override
+	protected <T> List<T> loadEntities(Class<T> entityClass, List<CQLPersistenceContext> contexts) {
+		return loader.load(contexts, entityClass);
+	}
+
+	@Override
+	protected void loadCounterValues(List<CQLPersistenceContext> contexts, ConsistencyLevel readLevel) {
+		loader.loadCounters(contexts, readLevel);
+	}
+
+	private ListenableFuture<Void> toVoid(ListenableFuture<List<ResultSet>> future) {
+		return Futures.transform(future, TO_VOID);
+	}
+
 	public Session getNativeSession() {
 		return daoContext.getSession();
 	}
@@ -26,7 +26,9 @@ import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.context.CQLDaoContextBuilder;
 import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
 import info.archinnov.achilles.table.CQLTableCreator;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.Map;
@@ -43,6 +45,8 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 	private Session session;
 	private CQLDaoContext daoContext;
 	private CQLPersistenceContextFactory contextFactory;
+	private BatchType batchType;
+	private int batchMaxSize;
 
 	/**
 	 * Create a new CQLPersistenceManagerFactory with a configuration map
@@ -58,6 +62,8 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 		CQLArgumentExtractor extractor = new CQLArgumentExtractor();
 		cluster = extractor.initCluster(configurationMap);
 		session = extractor.initSession(cluster, configurationMap);
+		batchType = extractor.initBatchType(configurationMap);
+		batchMaxSize = extractor.initBatchMaxSize(configurationMap);
 
 		boolean hasSimpleCounter = false;
 		if (configurationMap.containsKey(ENTITY_PACKAGES_PARAM)) {
@@ -67,9 +73,21 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 		new CQLTableCreator(cluster, session, (String) configurationMap.get(KEYSPACE_NAME_PARAM))
 				.validateOrCreateTables(entityMetaMap, configContext, hasSimpleCounter);
 
-		daoContext = CQLDaoContextBuilder.builder(session).build(entityMetaMap, hasSimpleCounter);
+		daoContext = CQLDaoContextBuilder.builder(session)
+				.asyncMaxInFlight(extractor.initAsyncMaxInFlight(configurationMap))
+				.build(entityMetaMap, hasSimpleCounter);
+		if (configContext.getMetrics() != null) {
+			daoContext.enableMetrics(configContext.getMetrics());
+		}
+		if (configContext.isCounterCoalescing()) {
+			CQLCounterCoalescer coalescer = new CQLCounterCoalescer(daoContext,
+					configContext.getCounterCoalescingInterval(), configContext.getCounterCoalescingThreshold(),
+					batchMaxSize);
+			daoContext.setCounterCoalescer(coalescer);
+			startCounterCoalescer(coalescer);
+		}
 		contextFactory = new CQLPersistenceContextFactory(daoContext, configContext, entityMetaMap);
-		registerShutdownHook(cluster);
+		registerShutdownHook();
 	}
 
 	/**
@@ -93,7 +111,8 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 	 * @return a new state-full PersistenceManager
 	 */
 	public CQLBatchingPersistenceManager createBatchingPersistenceManager() {
-		return new CQLBatchingPersistenceManager(entityMetaMap, contextFactory, daoContext, configContext);
+		return new CQLBatchingPersistenceManager(entityMetaMap, contextFactory, daoContext, configContext,
+				batchType, batchMaxSize);
 	}
 
 	@Override
@@ -112,12 +131,9 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 				readConsistencyMap, writeConsistencyMap);
 	}
 
-	private void registerShutdownHook(final Cluster cluster) {
-		Runtime.getRuntime().addShutdownHook(new Thread() {
-			@Override
-			public void run() {
-				cluster.shutdown();
-			}
-		});
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		cluster.shutdown();
 	}
 }
@@ -16,13 +16,19 @@
  */
 package info.archinnov.achilles.entity.operations;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.excludeCounterType;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.CQLLoaderImpl;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.List;
+
+import com.google.common.collect.FluentIterable;
+
 public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext> {
 	private CQLLoaderImpl loaderImpl = new CQLLoaderImpl();
 
@@ -48,6 +54,24 @@ public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext> {
 		return entity;
 	}
 
+	public <T> List<T> load(List<CQLPersistenceContext> contexts, Class<T> entityClass) {
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+
+		List<T> entities = loaderImpl.eagerLoadEntities(contexts, entityClass);
+		for (int i = 0; i < entities.size(); i++) {
+			T entity = entities.get(i);
+			if (entity != null) {
+				CQLPersistenceContext context = contexts.get(i);
+				context.getEntityMeta().getIdMeta().setValueToField(entity, context.getPrimaryKey());
+			}
+		}
+		return entities;
+	}
+
+	public void loadCounters(List<CQLPersistenceContext> contexts, ConsistencyLevel readLevel) {
+		loaderImpl.loadCounters(contexts, readLevel);
+	}
+
 	@Override
 	public <V> void loadPropertyIntoObject(CQLPersistenceContext context, Object realObject, PropertyMeta pm) {
 		PropertyType type = pm.type();
@@ -56,4 +80,12 @@ public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext> {
 		}
 	}
 
+	@Override
+	public void loadPropertiesIntoObject(CQLPersistenceContext context, Object realObject, List<PropertyMeta> pms) {
+		List<PropertyMeta> columnMetas = FluentIterable.from(pms).filter(excludeCounterType).toImmutableList();
+		if (!columnMetas.isEmpty()) {
+			loaderImpl.loadPropertiesIntoEntity(context, columnMetas, realObject);
+		}
+	}
+
 }
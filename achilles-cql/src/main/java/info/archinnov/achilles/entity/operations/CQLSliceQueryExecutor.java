@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.entity.operations;
 
+import static info.archinnov.achilles.statement.cache.CacheType.*;
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.context.CQLPersistenceContextFactory;
@@ -33,8 +34,8 @@ import java.util.Iterator;
 import java.util.List;
 
 import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.Query;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
 import com.google.common.collect.Lists;
 
 public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceContext> {
@@ -43,6 +44,7 @@ public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceCont
 	private CQLEntityMapper mapper = new CQLEntityMapper();
 	private CQLDaoContext daoContext;
 	private CQLPersistenceContextFactory contextFactory;
+	private int prefetchDepth;
 
 	public CQLSliceQueryExecutor(CQLPersistenceContextFactory contextFactory, ConfigurationContext configContext,
 			CQLDaoContext daoContext) {
@@ -50,6 +52,7 @@ public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceCont
 		this.contextFactory = contextFactory;
 		this.daoContext = daoContext;
 		defaultReadLevel = configContext.getConsistencyPolicy().getDefaultGlobalReadConsistencyLevel();
+		prefetchDepth = configContext.getSlicePrefetchDepth();
 	}
 
 	@Override
@@ -59,14 +62,20 @@ public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceCont
 
 		List<T> clusteredEntities = new ArrayList<T>();
 
-		CQLSliceQuery<T> cqlSliceQuery = new CQLSliceQuery<T>(sliceQuery, defaultReadLevel);
-		Query query = generator.generateSelectSliceQuery(cqlSliceQuery, cqlSliceQuery.getLimit());
-		List<Row> rows = daoContext.execute(query).all();
-
-		for (Row row : rows) {
-			T clusteredEntity = meta.<T> instanciate();
-			mapper.setEagerPropertiesToEntity(row, meta, clusteredEntity);
-			clusteredEntities.add(clusteredEntity);
+		long start = startOperation(sliceQuery);
+		try {
+			CQLSliceQuery<T> cqlSliceQuery = new CQLSliceQuery<T>(sliceQuery, defaultReadLevel);
+			Statement statement = generator.generateSelectSliceQuery(cqlSliceQuery, cqlSliceQuery.getLimit());
+			List<Row> rows = daoContext.executeSliceQuery(cqlSliceQuery, statement, SLICE_QUERY_SELECT,
+					cqlSliceQuery.getBoundValuesForSelect()).all();
+
+			for (Row row : rows) {
+				T clusteredEntity = meta.<T> instanciate();
+				mapper.setEagerPropertiesToEntity(row, meta, clusteredEntity);
+				clusteredEntities.add(clusteredEntity);
+			}
+		} finally {
+			stopOperation(sliceQuery, start);
 		}
 
 		return Lists.transform(clusteredEntities, getProxyTransformer(sliceQuery, meta.getEagerGetters()));
@@ -76,19 +85,33 @@ public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceCont
 	public <T> Iterator<T> iterator(SliceQuery<T> sliceQuery) {
 
 		CQLSliceQuery<T> cqlSliceQuery = new CQLSliceQuery<T>(sliceQuery, defaultReadLevel);
-		Query query = generator.generateSelectSliceQuery(cqlSliceQuery, cqlSliceQuery.getBatchSize());
-		Iterator<Row> iterator = daoContext.execute(query).iterator();
-		PreparedStatement ps = generator.generateIteratorSliceQuery(cqlSliceQuery, daoContext);
+		Statement statement = generator.generateSelectSliceQuery(cqlSliceQuery, cqlSliceQuery.getBatchSize());
+		Iterator<Row> iterator;
+		long start = startOperation(sliceQuery);
+		try {
+			iterator = daoContext.executeSliceQuery(cqlSliceQuery, statement, SLICE_QUERY_SELECT,
+					cqlSliceQuery.getBoundValuesForSelect()).iterator();
+		} finally {
+			stopOperation(sliceQuery, start);
+		}
+		Statement iteratorStatement = generator.generateIteratorSliceQuery(cqlSliceQuery);
+		PreparedStatement ps = daoContext.prepareSliceQuery(cqlSliceQuery, iteratorStatement, SLICE_QUERY_ITERATOR);
 		CQLPersistenceContext context = buildContextForQuery(sliceQuery);
-		return new CQLSliceQueryIterator<T>(cqlSliceQuery, context, iterator, ps);
+		return new CQLSliceQueryIterator<T>(cqlSliceQuery, context, iterator, ps, prefetchDepth);
 	}
 
 	@Override
 	public <T> void remove(SliceQuery<T> sliceQuery) {
 		CQLSliceQuery<T> cqlSliceQuery = new CQLSliceQuery<T>(sliceQuery, defaultReadLevel);
 		cqlSliceQuery.validateSliceQueryForRemove();
-		Query query = generator.generateRemoveSliceQuery(cqlSliceQuery);
-		daoContext.execute(query);
+		Statement statement = generator.generateRemoveSliceQuery(cqlSliceQuery);
+		long start = startOperation(sliceQuery);
+		try {
+			daoContext.executeSliceQuery(cqlSliceQuery, statement, SLICE_QUERY_DELETE,
+					cqlSliceQuery.getBoundValuesForDelete());
+		} finally {
+			stopOperation(sliceQuery, start);
+		}
 	}
 
 	@Override
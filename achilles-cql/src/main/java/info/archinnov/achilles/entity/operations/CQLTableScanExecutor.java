@@ -0,0 +1,80 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import static info.archinnov.achilles.query.scan.TokenPartitioner.MURMUR3;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.context.CQLPersistenceContext;
+import info.archinnov.achilles.context.CQLPersistenceContextFactory;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.query.scan.ScanQuery;
+import info.archinnov.achilles.query.scan.TokenPartitioner;
+import info.archinnov.achilles.query.scan.TokenRange;
+import info.archinnov.achilles.statement.CQLStatementGenerator;
+
+import java.util.List;
+
+import com.datastax.driver.core.Row;
+
+public class CQLTableScanExecutor extends TableScanExecutor<CQLPersistenceContext> {
+
+	private CQLStatementGenerator generator = new CQLStatementGenerator();
+	private CQLEntityMapper mapper = new CQLEntityMapper();
+	private CQLDaoContext daoContext;
+	private CQLPersistenceContextFactory contextFactory;
+
+	public CQLTableScanExecutor(CQLPersistenceContextFactory contextFactory, CQLDaoContext daoContext) {
+		super(new CQLEntityProxifier());
+		this.contextFactory = contextFactory;
+		this.daoContext = daoContext;
+	}
+
+	@Override
+	protected <T> void scanRange(ScanQuery<T> query, TokenPartitioner partitioner, TokenRange range,
+			ScanConsumer<T> consumer) {
+		EntityMeta meta = query.getMeta();
+		String queryString = generator.generateScanQuery(meta, query.getBatchSize());
+		Object startToken = partitioner.toTokenValue(range.getStart());
+		Object endToken = partitioner.toTokenValue(range.getEnd());
+
+		List<Row> rows;
+		do {
+			rows = daoContext.executeScanQuery(queryString, query.getConsistencyLevel(), startToken, endToken).all();
+			for (Row row : rows) {
+				T entity = meta.<T> instanciate();
+				mapper.setEagerPropertiesToEntity(row, meta, entity);
+				consumer.consume(proxify(query, entity));
+			}
+			if (!rows.isEmpty()) {
+				Row lastRow = rows.get(rows.size() - 1);
+				startToken = partitioner == MURMUR3 ? lastRow.getLong(0) : lastRow.getVarint(0);
+			}
+		} while (rows.size() == query.getBatchSize() && !Thread.currentThread().isInterrupted());
+	}
+
+	@Override
+	protected <T> String describePartitioner(ScanQuery<T> query) {
+		return daoContext.describePartitioner();
+	}
+
+	@Override
+	protected <T> CQLPersistenceContext buildNewContext(ScanQuery<T> query, T entity) {
+		return contextFactory.newContext(entity);
+	}
+}
@@ -16,12 +16,19 @@
  */
 package info.archinnov.achilles.entity.operations.impl;
 
+import static info.archinnov.achilles.counter.AchillesCounter.*;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.CQLEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 
 public class CQLLoaderImpl {
@@ -41,17 +48,87 @@ public class CQLLoaderImpl {
 				entity = entityMeta.<T> instanciate();
 			}
 		} else {
+			entity = context.<T> loadFromCache();
+			if (entity != null) {
+				return entity;
+			}
 			Row row = context.eagerLoadEntity();
 			if (row != null) {
 				entity = entityMeta.<T> instanciate();
 				mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+				context.putInCache(entity);
 			}
 		}
 		return entity;
 	}
 
+	/**
+	 * Fire all select queries asynchronously then map the rows. Clustered
+	 * counters are loaded one by one
+	 */
+	public <T> List<T> eagerLoadEntities(List<CQLPersistenceContext> contexts, Class<T> entityClass) {
+		EntityMeta entityMeta = contexts.get(0).getEntityMeta();
+		List<T> entities = new ArrayList<T>(contexts.size());
+
+		if (entityMeta.isClusteredCounter()) {
+			for (CQLPersistenceContext context : contexts) {
+				entities.add(eagerLoadEntity(context, entityClass));
+			}
+		} else {
+			List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(contexts.size());
+			for (CQLPersistenceContext context : contexts) {
+				futures.add(context.eagerLoadEntityAsync());
+			}
+			for (ResultSetFuture future : futures) {
+				T entity = null;
+				Row row = future.getUninterruptibly().one();
+				if (row != null) {
+					entity = entityMeta.<T> instanciate();
+					mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+				}
+				entities.add(entity);
+			}
+		}
+		return entities;
+	}
+
 	public void loadPropertyIntoEntity(CQLPersistenceContext context, PropertyMeta pm, Object entity) {
 		Row row = context.loadProperty(pm);
 		mapper.setPropertyToEntity(row, pm, entity);
 	}
+
+	public void loadPropertiesIntoEntity(CQLPersistenceContext context, List<PropertyMeta> pms, Object entity) {
+		Row row = context.loadProperties(pms);
+		for (PropertyMeta pm : pms) {
+			mapper.setPropertyToEntity(row, pm, entity);
+		}
+	}
+
+	/**
+	 * Fire one counter query per entity asynchronously then cache the values
+	 * in each context
+	 */
+	public void loadCounters(List<CQLPersistenceContext> contexts, ConsistencyLevel readLevel) {
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(contexts.size());
+		for (CQLPersistenceContext context : contexts) {
+			futures.add(context.loadCountersAsync(readLevel));
+		}
+		for (int i = 0; i < contexts.size(); i++) {
+			CQLPersistenceContext context = contexts.get(i);
+			EntityMeta entityMeta = context.getEntityMeta();
+			Map<String, Long> counterValues = new HashMap<String, Long>();
+			if (entityMeta.isClusteredCounter()) {
+				String counterName = entityMeta.getFirstMeta().getPropertyName();
+				Row row = futures.get(i).getUninterruptibly().one();
+				if (row != null) {
+					counterValues.put(counterName, row.getLong(counterName));
+				}
+			} else {
+				for (Row row : futures.get(i).getUninterruptibly()) {
+					counterValues.put(row.getString(CQL_COUNTER_PROPERTY_NAME), row.getLong(CQL_COUNTER_VALUE));
+				}
+			}
+			context.cacheCounterValues(counterValues);
+		}
+	}
 }
@@ -18,6 +18,7 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -25,17 +26,38 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 public class CQLMergerImpl implements Merger<CQLPersistenceContext> {
 	private PropertyMetaComparator comparator = new PropertyMetaComparator();
 
 	@Override
-	public void merge(CQLPersistenceContext context, Map<Method, PropertyMeta> dirtyMap) {
+	public void merge(CQLPersistenceContext context, Map<Method, PropertyMeta> dirtyMap,
+			Map<Method, ElementChanges> changesMap) {
 		if (dirtyMap.size() > 0) {
-			List<PropertyMeta> sortedDirtyMetas = new ArrayList<PropertyMeta>(dirtyMap.values());
-			Collections.sort(sortedDirtyMetas, comparator);
-			context.pushUpdateStatement(sortedDirtyMetas);
+			// Element changes are not applied with TTL or timestamp, the whole
+			// collection is then rewritten with these options
+			boolean applyChanges = !context.getTtt().isPresent() && !context.getTimestamp().isPresent();
+
+			List<PropertyMeta> sortedDirtyMetas = new ArrayList<PropertyMeta>();
+			for (Entry<Method, PropertyMeta> entry : dirtyMap.entrySet()) {
+				PropertyMeta pm = entry.getValue();
+				ElementChanges changes = changesMap.get(entry.getKey());
+				if (changes != null && applyChanges) {
+					if (!changes.isEmpty()) {
+						context.pushCollectionUpdateStatements(pm, changes);
+					}
+				} else {
+					sortedDirtyMetas.add(pm);
+				}
+			}
+
+			if (sortedDirtyMetas.size() > 0) {
+				Collections.sort(sortedDirtyMetas, comparator);
+				context.pushUpdateStatement(sortedDirtyMetas);
+			}
 			dirtyMap.clear();
+			changesMap.clear();
 		}
 	}
 
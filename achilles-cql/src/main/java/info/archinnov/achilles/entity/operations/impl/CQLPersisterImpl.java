@@ -70,6 +70,7 @@ public class CQLPersisterImpl {
 	public void remove(CQLPersistenceContext context) {
 		EntityMeta entityMeta = context.getEntityMeta();
 		if (entityMeta.isClusteredCounter()) {
+			context.discardPendingCounterDeltas();
 			context.bindForClusteredCounterRemoval(entityMeta.getFirstMeta());
 		} else {
 			context.bindForRemoval(entityMeta.getTableName());
@@ -82,6 +83,9 @@ public class CQLPersisterImpl {
 
 		List<PropertyMeta> allMetas = entityMeta.getAllMetasExceptIdMeta();
 		Collection<PropertyMeta> proxyMetas = filter(allMetas, counterType);
+		if (!proxyMetas.isEmpty()) {
+			context.discardPendingCounterDeltas();
+		}
 		for (PropertyMeta pm : proxyMetas) {
 			context.bindForSimpleCounterRemoval(pm);
 		}
@@ -22,6 +22,7 @@ import static org.apache.commons.lang.StringUtils.*;
 import info.archinnov.achilles.entity.manager.CQLPersistenceManager;
 import info.archinnov.achilles.entity.manager.CQLPersistenceManagerFactory;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.type.BatchType;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -59,6 +60,10 @@ public class CQLPersistenceManagerFactoryBean extends AbstractFactoryBean<CQLPer
 	private Boolean sslEnabled;
 	private SSLOptions sslOptions;
 
+	private BatchType batchType;
+	private Integer batchMaxSize;
+	private Integer asyncMaxInFlight;
+
 	private ObjectMapperFactory objectMapperFactory;
 	private ObjectMapper objectMapper;
 
@@ -69,6 +74,10 @@ public class CQLPersistenceManagerFactoryBean extends AbstractFactoryBean<CQLPer
 
 	private boolean forceColumnFamilyCreation = false;
 
+	private Integer bulkFindChunkSize;
+
+	private String insertStrategy;
+
 	protected void initialize() {
 		Map<String, Object> configMap = new HashMap<String, Object>();
 
@@ -90,8 +99,20 @@ public class CQLPersistenceManagerFactoryBean extends AbstractFactoryBean<CQLPer
 
 		fillConsistencyLevels(configMap);
 
+		fillBatch(configMap);
+
+		fillAsync(configMap);
+
 		configMap.put(FORCE_CF_CREATION_PARAM, forceColumnFamilyCreation);
 
+		if (bulkFindChunkSize != null) {
+			configMap.put(BULK_FIND_CHUNK_SIZE_PARAM, bulkFindChunkSize);
+		}
+
+		if (StringUtils.isNotBlank(insertStrategy)) {
+			configMap.put(INSERT_STRATEGY_PARAM, insertStrategy);
+		}
+
 		CQLPersistenceManagerFactory pmf = new CQLPersistenceManagerFactory(configMap);
 		manager = pmf.createPersistenceManager();
 	}
@@ -190,6 +211,21 @@ public class CQLPersistenceManagerFactoryBean extends AbstractFactoryBean<CQLPer
 		}
 	}
 
+	private void fillBatch(Map<String, Object> configMap) {
+		if (batchType != null) {
+			configMap.put(BATCH_TYPE, batchType);
+		}
+		if (batchMaxSize != null) {
+			configMap.put(BATCH_MAX_SIZE, batchMaxSize);
+		}
+	}
+
+	private void fillAsync(Map<String, Object> configMap) {
+		if (asyncMaxInFlight != null) {
+			configMap.put(ASYNC_MAX_IN_FLIGHT, asyncMaxInFlight);
+		}
+	}
+
 	public void setContactPoints(String contactPoints) {
 		this.contactPoints = contactPoints;
 	}
@@ -258,6 +294,14 @@ public class CQLPersistenceManagerFactoryBean extends AbstractFactoryBean<CQLPer
 		this.forceColumnFamilyCreation = forceColumnFamilyCreation;
 	}
 
+	public void setBulkFindChunkSize(Integer bulkFindChunkSize) {
+		this.bulkFindChunkSize = bulkFindChunkSize;
+	}
+
+	public void setInsertStrategy(String insertStrategy) {
+		this.insertStrategy = insertStrategy;
+	}
+
 	public void setObjectMapperFactory(ObjectMapperFactory objectMapperFactory) {
 		this.objectMapperFactory = objectMapperFactory;
 	}
@@ -282,6 +326,18 @@ public class CQLPersistenceManagerFactoryBean extends AbstractFactoryBean<CQLPer
 		this.consistencyLevelWriteMap = consistencyLevelWriteMap;
 	}
 
+	public void setBatchType(BatchType batchType) {
+		this.batchType = batchType;
+	}
+
+	public void setBatchMaxSize(Integer batchMaxSize) {
+		this.batchMaxSize = batchMaxSize;
+	}
+
+	public void setAsyncMaxInFlight(Integer asyncMaxInFlight) {
+		this.asyncMaxInFlight = asyncMaxInFlight;
+	}
+
 	@Override
 	public Class<?> getObjectType() {
 		return CQLPersistenceManager.class;
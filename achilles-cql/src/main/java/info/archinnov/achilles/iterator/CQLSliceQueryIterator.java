@@ -24,12 +24,17 @@ import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 import info.archinnov.achilles.query.slice.CQLSliceQuery;
 
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
+import com.google.common.collect.Lists;
 
 public class CQLSliceQueryIterator<T> implements Iterator<T> {
 
+	private CQLSliceQuery<T> sliceQuery;
 	private CQLPersistenceContext context;
 	private Iterator<Row> iterator;
 	private String varyingComponentName;
@@ -40,12 +45,27 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
 	private int batchSize;
 	private int count = 0;
 
+	private int prefetchDepth;
+	private List<Row> currentPage;
+	private LinkedList<Page> prefetchedPages = new LinkedList<Page>();
+
 	private CQLEntityMapper mapper = new CQLEntityMapper();
 	private CQLRowMethodInvoker cqlInvoker = new CQLRowMethodInvoker();
 	private CQLEntityProxifier proxifier = new CQLEntityProxifier();
 
 	public CQLSliceQueryIterator(CQLSliceQuery<T> sliceQuery, CQLPersistenceContext context, Iterator<Row> iterator,
 			PreparedStatement ps) {
+		this(sliceQuery, context, iterator, ps, 0);
+	}
+
+	/**
+	 * With a strictly positive prefetch depth, up to prefetchDepth next
+	 * batches are requested asynchronously while the current batch is being
+	 * consumed
+	 */
+	public CQLSliceQueryIterator(CQLSliceQuery<T> sliceQuery, CQLPersistenceContext context, Iterator<Row> iterator,
+			PreparedStatement ps, int prefetchDepth) {
+		this.sliceQuery = sliceQuery;
 		this.context = context;
 		this.iterator = iterator;
 		this.ps = ps;
@@ -53,12 +73,21 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
 		this.varyingComponentName = sliceQuery.getVaryingComponentName();
 		this.varyingComponentClass = sliceQuery.getVaryingComponentClass();
 		this.batchSize = sliceQuery.getBatchSize();
+		this.prefetchDepth = prefetchDepth;
+		if (prefetchDepth > 0) {
+			this.currentPage = Lists.newArrayList(iterator);
+			this.iterator = currentPage.iterator();
+		}
 	}
 
 	@Override
 	public boolean hasNext() {
+		if (prefetchDepth > 0) {
+			return hasNextWithPrefetch();
+		}
 		if (!iterator.hasNext() && count == batchSize) {
-			iterator = context.bindAndExecute(ps, lastVaryingComponentValue).iterator();
+			Object[] boundValues = sliceQuery.getBoundValuesForIterator(lastVaryingComponentValue);
+			iterator = context.bindAndExecuteSliceQuery(sliceQuery, ps, boundValues).iterator();
 			count = 0;
 		}
 		return iterator.hasNext();
@@ -80,9 +109,74 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
 		throw new UnsupportedOperationException("Cannot remove clustered entity with iterator");
 	}
 
+	/**
+	 * Stop the iteration and cancel all the batches prefetched so far
+	 */
+	public void cancel() {
+		for (Page page : prefetchedPages) {
+			page.future.cancel(true);
+		}
+		prefetchedPages.clear();
+		currentPage = Lists.newArrayList();
+		iterator = currentPage.iterator();
+		count = 0;
+	}
+
+	private boolean hasNextWithPrefetch() {
+		prefetchNextPages();
+		while (!iterator.hasNext() && !prefetchedPages.isEmpty()) {
+			currentPage = prefetchedPages.poll().rows();
+			iterator = currentPage.iterator();
+			prefetchNextPages();
+		}
+		return iterator.hasNext();
+	}
+
+	private void prefetchNextPages() {
+		while (prefetchedPages.size() < prefetchDepth) {
+			List<Row> lastPage = prefetchedPages.isEmpty() ? currentPage : prefetchedPages.getLast().rowsIfDone();
+			if (lastPage == null || lastPage.size() < batchSize) {
+				// Either the last requested batch is still in flight or the
+				// slice is exhausted
+				return;
+			}
+			Row lastRow = lastPage.get(lastPage.size() - 1);
+			Object lastValue = cqlInvoker.invokeOnRowForType(lastRow, varyingComponentClass, varyingComponentName);
+			Object[] boundValues = sliceQuery.getBoundValuesForIterator(lastValue);
+			prefetchedPages.add(new Page(context.bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues)));
+		}
+	}
+
 	private T proxify(T clusteredEntity) {
 		CQLPersistenceContext duplicate = context.duplicate(clusteredEntity);
 		return proxifier.buildProxy(clusteredEntity, duplicate);
 	}
 
+	private static class Page {
+		private final ResultSetFuture future;
+		private List<Row> rows;
+
+		private Page(ResultSetFuture future) {
+			this.future = future;
+		}
+
+		private List<Row> rows() {
+			if (rows == null) {
+				rows = future.getUninterruptibly().all();
+			}
+			return rows;
+		}
+
+		private List<Row> rowsIfDone() {
+			if (rows == null && future.isDone()) {
+				try {
+					return rows();
+				} catch (RuntimeException e) {
+					// Raised to the caller when the batch is consumed
+					return null;
+				}
+			}
+			return rows;
+		}
+	}
 }
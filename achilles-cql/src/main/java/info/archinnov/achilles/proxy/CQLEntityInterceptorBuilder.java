@@ -19,6 +19,7 @@ package info.archinnov.achilles.proxy;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
@@ -74,6 +75,7 @@ public class CQLEntityInterceptorBuilder<T> {
 		}
 		interceptor.setAlreadyLoaded(alreadyLoaded);
 		interceptor.setDirtyMap(new HashMap<Method, PropertyMeta>());
+		interceptor.setChangesMap(new HashMap<Method, ElementChanges>());
 		interceptor.setPrimaryKey(context.getPrimaryKey());
 
 		return interceptor;
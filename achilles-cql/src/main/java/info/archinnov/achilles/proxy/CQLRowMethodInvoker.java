@@ -27,7 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import com.datastax.driver.core.ColumnDefinitions.Definition;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.Row;
 
 public class CQLRowMethodInvoker {
@@ -38,22 +38,22 @@ public class CQLRowMethodInvoker {
 			switch (pm.type()) {
 			case LIST:
 			case LAZY_LIST:
-				value = invokeOnRowForList(row, pm, propertyName, pm.getValueClass());
+				value = invokeOnRowForList(row, pm, propertyName, pm.getCassandraValueClass());
 				break;
 			case SET:
 			case LAZY_SET:
-				value = invokeOnRowForSet(row, pm, propertyName, pm.getValueClass());
+				value = invokeOnRowForSet(row, pm, propertyName, pm.getCassandraValueClass());
 				break;
 			case MAP:
 			case LAZY_MAP:
-				Class<?> keyClass = pm.getKeyClass();
-				Class<?> valueClass = pm.getValueClass();
+				Class<?> keyClass = pm.getCassandraKeyClass();
+				Class<?> valueClass = pm.getCassandraValueClass();
 				value = invokeOnRowForMap(row, pm, propertyName, keyClass, valueClass);
 				break;
 			case ID:
 			case SIMPLE:
 			case LAZY_SIMPLE:
-				value = invokeOnRowForProperty(row, pm, propertyName, pm.getValueClass());
+				value = invokeOnRowForProperty(row, pm, propertyName, pm.getCassandraValueClass());
 				break;
 			default:
 				break;
@@ -68,14 +68,14 @@ public class CQLRowMethodInvoker {
 		List<Object> rawValues = new ArrayList<Object>(Collections.nCopies(componentNames.size(), null));
 
 		try {
-			for (Definition column : row.getColumnDefinitions()) {
-				String columnName = column.getName();
-				int index = componentNames.indexOf(columnName);
-				Object rawValue = null;
-				if (index >= 0) {
-					Class<?> componentClass = componentClasses.get(index);
-					rawValue = getRowMethod(componentClass).invoke(row, columnName);
-					rawValues.set(index, rawValue);
+			ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
+			for (int i = 0; i < componentNames.size(); i++) {
+				String componentName = componentNames.get(i);
+				if (columnDefinitions.contains(componentName)) {
+					int index = columnDefinitions.getIndexOf(componentName);
+					if (!row.isNull(index)) {
+						rawValues.set(i, getRowReader(componentClasses.get(i)).read(row, index));
+					}
 				}
 			}
 			if (isManagedEntity) {
@@ -94,7 +94,7 @@ public class CQLRowMethodInvoker {
 
 	public Object invokeOnRowForProperty(Row row, PropertyMeta pm, String propertyName, Class<?> valueClass) {
 		try {
-			Object rawValue = getRowMethod(valueClass).invoke(row, propertyName);
+			Object rawValue = getRowReader(valueClass).read(row, propertyName);
 			return pm.decode(rawValue);
 		} catch (Exception e) {
 			throw new AchillesException("Cannot retrieve property '" + propertyName + "' for entity class '"
@@ -136,7 +136,7 @@ public class CQLRowMethodInvoker {
 
 	public Object invokeOnRowForType(Row row, Class<?> type, String name) {
 		try {
-			return getRowMethod(type).invoke(row, name);
+			return getRowReader(type).read(row, name);
 		} catch (Exception e) {
 			throw new AchillesException("Cannot retrieve column '" + name + "' of type '" + type.getCanonicalName()
 					+ "' from CQL Row", e);
@@ -18,6 +18,8 @@ package info.archinnov.achilles.proxy.wrapper;
 
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.metrics.EntityMetrics;
+import info.archinnov.achilles.metrics.OperationType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Counter;
 
@@ -26,96 +28,135 @@ public class CQLCounterWrapper implements Counter {
 	private CQLPersistenceContext context;
 	private PropertyMeta counterMeta;
 	private boolean clusteredCounter;
+	private EntityMetrics metrics;
 
 	public CQLCounterWrapper(CQLPersistenceContext context, PropertyMeta counterMeta) {
 		this.context = context;
 		this.counterMeta = counterMeta;
 		this.clusteredCounter = context.getEntityMeta().isClusteredCounter();
+		this.metrics = context.getEntityMeta().getEntityMetrics();
 	}
 
 	@Override
 	public Long get() {
-		ConsistencyLevel readLevel = getReadRuntimeConsistencyIfPossible();
-		if (clusteredCounter)
-			return context.getClusteredCounter(counterMeta, readLevel);
-		else
-			return context.getSimpleCounter(counterMeta, readLevel);
+		if (context.hasCachedCounterValue(counterMeta))
+			return context.getCachedCounterValue(counterMeta);
+
+		return get(getReadRuntimeConsistencyIfPossible());
 	}
 
 	@Override
 	public Long get(ConsistencyLevel readLevel) {
-		if (clusteredCounter)
-			return context.getClusteredCounter(counterMeta, readLevel);
-		else
-			return context.getSimpleCounter(counterMeta, readLevel);
+		long start = startOperation();
+		try {
+			if (clusteredCounter)
+				return context.getClusteredCounter(counterMeta, readLevel);
+			else
+				return context.getSimpleCounter(counterMeta, readLevel);
+		} finally {
+			stopOperation(start);
+		}
+	}
+
+	@Override
+	public Long getWithPendingDeltas() {
+		Long value = get();
+		long pendingDelta = context.getPendingCounterDelta(counterMeta);
+		if (value == null) {
+			return pendingDelta != 0L ? pendingDelta : null;
+		}
+		return value + pendingDelta;
+	}
+
+	@Override
+	public void refresh() {
+		context.evictCachedCounterValue(counterMeta);
 	}
 
 	@Override
 	public void incr() {
-		ConsistencyLevel writeLevel = getWriteRuntimeConsistencyIfPossible();
-		if (clusteredCounter)
-			context.incrementClusteredCounter(counterMeta, 1L, writeLevel);
-		else
-			context.incrementSimpleCounter(counterMeta, 1L, writeLevel);
+		increment(1L, getWriteRuntimeConsistencyIfPossible());
 	}
 
 	@Override
 	public void incr(ConsistencyLevel writeLevel) {
-		if (clusteredCounter)
-			context.incrementClusteredCounter(counterMeta, 1L, writeLevel);
-		else
-			context.incrementSimpleCounter(counterMeta, 1L, writeLevel);
+		increment(1L, writeLevel);
 	}
 
 	@Override
 	public void incr(Long increment) {
-		ConsistencyLevel writeLevel = getWriteRuntimeConsistencyIfPossible();
-		if (clusteredCounter)
-			context.incrementClusteredCounter(counterMeta, increment, writeLevel);
-		else
-			context.incrementSimpleCounter(counterMeta, increment, writeLevel);
+		increment(increment, getWriteRuntimeConsistencyIfPossible());
 	}
 
 	@Override
 	public void incr(Long increment, ConsistencyLevel writeLevel) {
-		if (clusteredCounter)
-			context.incrementClusteredCounter(counterMeta, increment, writeLevel);
-		else
-			context.incrementSimpleCounter(counterMeta, increment, writeLevel);
+		increment(increment, writeLevel);
 	}
 
 	@Override
 	public void decr() {
-		ConsistencyLevel writeLevel = getWriteRuntimeConsistencyIfPossible();
-		if (clusteredCounter)
-			context.decrementClusteredCounter(counterMeta, 1L, writeLevel);
-		else
-			context.decrementSimpleCounter(counterMeta, 1L, writeLevel);
+		decrement(1L, getWriteRuntimeConsistencyIfPossible());
 	}
 
 	@Override
 	public void decr(ConsistencyLevel writeLevel) {
-		if (clusteredCounter)
-			context.decrementClusteredCounter(counterMeta, 1L, writeLevel);
-		else
-			context.decrementSimpleCounter(counterMeta, 1L, writeLevel);
+		decrement(1L, writeLevel);
 	}
 
 	@Override
 	public void decr(Long decrement) {
-		ConsistencyLevel writeLevel = getWriteRuntimeConsistencyIfPossible();
-		if (clusteredCounter)
-			context.decrementClusteredCounter(counterMeta, decrement, writeLevel);
-		else
-			context.decrementSimpleCounter(counterMeta, decrement, writeLevel);
+		decrement(decrement, getWriteRuntimeConsistencyIfPossible());
 	}
 
 	@Override
 	public void decr(Long decrement, ConsistencyLevel writeLevel) {
-		if (clusteredCounter)
-			context.decrementClusteredCounter(counterMeta, decrement, writeLevel);
-		else
-			context.decrementSimpleCounter(counterMeta, decrement, writeLevel);
+		decrement(decrement, writeLevel);
+	}
+
+	private void increment(Long increment, ConsistencyLevel writeLevel) {
+		if (context.isCounterCoalescing()) {
+			context.coalesceCounterUpdate(counterMeta, increment, writeLevel);
+			context.evictCachedCounterValue(counterMeta);
+		} else {
+			long start = startOperation();
+			try {
+				if (clusteredCounter)
+					context.incrementClusteredCounter(counterMeta, increment, writeLevel);
+				else
+					context.incrementSimpleCounter(counterMeta, increment, writeLevel);
+			} finally {
+				stopOperation(start);
+			}
+			context.updateCachedCounterValue(counterMeta, increment);
+		}
+	}
+
+	private void decrement(Long decrement, ConsistencyLevel writeLevel) {
+		if (context.isCounterCoalescing()) {
+			context.coalesceCounterUpdate(counterMeta, -decrement, writeLevel);
+			context.evictCachedCounterValue(counterMeta);
+		} else {
+			long start = startOperation();
+			try {
+				if (clusteredCounter)
+					context.decrementClusteredCounter(counterMeta, decrement, writeLevel);
+				else
+					context.decrementSimpleCounter(counterMeta, decrement, writeLevel);
+			} finally {
+				stopOperation(start);
+			}
+			context.updateCachedCounterValue(counterMeta, -decrement);
+		}
+	}
+
+	private long startOperation() {
+		return metrics == null ? 0L : metrics.startOperation();
+	}
+
+	private void stopOperation(long start) {
+		if (metrics != null) {
+			metrics.stopOperation(OperationType.COUNTER, start);
+		}
 	}
 
 	private ConsistencyLevel getReadRuntimeConsistencyIfPossible() {
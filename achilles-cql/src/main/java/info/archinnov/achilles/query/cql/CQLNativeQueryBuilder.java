@@ -19,22 +19,34 @@ package info.archinnov.achilles.query.cql;
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.operations.CQLNativeQueryMapper;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
+import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
 
 public class CQLNativeQueryBuilder {
 
 	private CQLDaoContext daoContext;
 	private String queryString;
+	private Object[] boundValues;
 
 	private CQLNativeQueryMapper mapper = new CQLNativeQueryMapper();
 
-	public CQLNativeQueryBuilder(CQLDaoContext daoContext, String queryString) {
+	private Function<Row, Map<String, Object>> rowMapper = new Function<Row, Map<String, Object>>() {
+		@Override
+		public Map<String, Object> apply(Row row) {
+			return mapper.mapRow(row);
+		}
+	};
+
+	public CQLNativeQueryBuilder(CQLDaoContext daoContext, String queryString, Object... boundValues) {
 		this.daoContext = daoContext;
 		this.queryString = queryString;
+		this.boundValues = boundValues;
 	}
 
 	/**
@@ -46,7 +58,7 @@ public class CQLNativeQueryBuilder {
 	 * @return List<Map<String, Object>>
 	 */
 	public List<Map<String, Object>> get() {
-		List<Row> rows = daoContext.execute(new SimpleStatement(queryString)).all();
+		List<Row> rows = daoContext.executeQuery(queryString, boundValues).all();
 		return mapper.mapRows(rows);
 	}
 
@@ -58,11 +70,19 @@ public class CQLNativeQueryBuilder {
 	 * @return Map<String, Object>
 	 */
 	public Map<String, Object> first() {
-		List<Row> rows = daoContext.execute(new SimpleStatement(queryString)).all();
-		List<Map<String, Object>> result = mapper.mapRows(rows);
-		if (result.isEmpty())
-			return null;
-		else
-			return result.get(0);
+		Row row = daoContext.executeQuery(queryString, boundValues).one();
+		return row == null ? null : mapper.mapRow(row);
+	}
+
+	/**
+	 * Return an iterator over found rows. Each row is converted into a
+	 * (column name, column value) map only when it is reached, so large result
+	 * sets are never copied into a list of maps
+	 * 
+	 * @return Iterator<Map<String, Object>>
+	 */
+	public Iterator<Map<String, Object>> iterator() {
+		Iterator<Row> rows = daoContext.executeQuery(queryString, boundValues).iterator();
+		return Iterators.filter(Iterators.transform(rows, rowMapper), Predicates.notNull());
 	}
 }
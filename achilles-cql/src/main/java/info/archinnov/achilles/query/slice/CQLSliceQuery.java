@@ -65,6 +65,27 @@ public class CQLSliceQuery<T> {
 		return lastEndComp;
 	}
 
+	public Object[] getBoundValuesForSelect() {
+		List<Object> boundValues = new ArrayList<Object>(fixedComponents);
+		if (lastStartComp != null)
+			boundValues.add(lastStartComp);
+		if (lastEndComp != null)
+			boundValues.add(lastEndComp);
+		return boundValues.toArray();
+	}
+
+	public Object[] getBoundValuesForIterator(Object lastVaryingComponentValue) {
+		List<Object> boundValues = new ArrayList<Object>(fixedComponents);
+		boundValues.add(lastVaryingComponentValue);
+		if (lastEndComp != null)
+			boundValues.add(lastEndComp);
+		return boundValues.toArray();
+	}
+
+	public Object[] getBoundValuesForDelete() {
+		return fixedComponents.toArray();
+	}
+
 	public int getLimit() {
 		return sliceQuery.getLimit();
 	}
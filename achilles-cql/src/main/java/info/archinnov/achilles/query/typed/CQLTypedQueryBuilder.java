@@ -23,12 +23,15 @@ import info.archinnov.achilles.entity.CQLEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
+import info.archinnov.achilles.metrics.EntityMetrics;
+import info.archinnov.achilles.metrics.OperationType;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,7 +40,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
+import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
 
 public class CQLTypedQueryBuilder<T> {
 
@@ -47,7 +52,8 @@ public class CQLTypedQueryBuilder<T> {
 
 	private Class<T> entityClass;
 	private CQLDaoContext daoContext;
-	private String normalizedQuery;
+	private String queryString;
+	private Object[] boundValues;
 	private Map<String, PropertyMeta> propertiesMap;
 	private EntityMeta meta;
 	private CQLPersistenceContextFactory contextFactory;
@@ -59,10 +65,11 @@ public class CQLTypedQueryBuilder<T> {
 	private CQLEntityProxifier proxifier = new CQLEntityProxifier();
 
 	public CQLTypedQueryBuilder(Class<T> entityClass, CQLDaoContext daoContext, String queryString, EntityMeta meta,
-			CQLPersistenceContextFactory contextFactory, boolean managed) {
+			CQLPersistenceContextFactory contextFactory, boolean managed, Object... boundValues) {
 		this.entityClass = entityClass;
 		this.daoContext = daoContext;
-		this.normalizedQuery = queryString.toLowerCase();
+		this.queryString = queryString;
+		this.boundValues = boundValues;
 		this.meta = meta;
 		this.contextFactory = contextFactory;
 		this.managed = managed;
@@ -84,19 +91,48 @@ public class CQLTypedQueryBuilder<T> {
 	 */
 	public List<T> get() {
 		List<T> result = new ArrayList<T>();
-		List<Row> rows = daoContext.execute(new SimpleStatement(normalizedQuery)).all();
-		for (Row row : rows) {
-			T entity = mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertiesMap, managed);
-			if (entity != null) {
-				if (managed) {
-					entity = buildProxy(entity);
+		long start = startOperation();
+		try {
+			List<Row> rows = daoContext.executeQuery(queryString, boundValues).all();
+			for (Row row : rows) {
+				T entity = mapRow(row);
+				if (entity != null) {
+					result.add(entity);
 				}
-				result.add(entity);
 			}
+		} finally {
+			stopOperation(start);
 		}
 		return result;
 	}
 
+	/**
+	 * Executes the query and returns an iterator over entities
+	 * 
+	 * Each CQL row is mapped to an entity only when the iterator reaches it,
+	 * so large result sets are never copied into a list of entities. Null or
+	 * empty rows are skipped
+	 * 
+	 * @return Iterator<T> iterator over found entities
+	 * 
+	 */
+	public Iterator<T> iterator() {
+		Iterator<Row> rows;
+		long start = startOperation();
+		try {
+			rows = daoContext.executeQuery(queryString, boundValues).iterator();
+		} finally {
+			stopOperation(start);
+		}
+		Iterator<T> entities = Iterators.transform(rows, new Function<Row, T>() {
+			@Override
+			public T apply(Row row) {
+				return mapRow(row);
+			}
+		});
+		return Iterators.filter(entities, Predicates.notNull());
+	}
+
 	/**
 	 * Executes the query and returns first entity
 	 * 
@@ -107,13 +143,31 @@ public class CQLTypedQueryBuilder<T> {
 	 * 
 	 */
 	public T getFirst() {
-		T entity = null;
-		Row row = daoContext.execute(new SimpleStatement(normalizedQuery)).one();
-		if (row != null) {
-			entity = mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertiesMap, managed);
-			if (entity != null && managed) {
-				entity = buildProxy(entity);
-			}
+		long start = startOperation();
+		try {
+			Row row = daoContext.executeQuery(queryString, boundValues).one();
+			return row == null ? null : mapRow(row);
+		} finally {
+			stopOperation(start);
+		}
+	}
+
+	private long startOperation() {
+		EntityMetrics metrics = meta.getEntityMetrics();
+		return metrics == null ? 0L : metrics.startOperation();
+	}
+
+	private void stopOperation(long start) {
+		EntityMetrics metrics = meta.getEntityMetrics();
+		if (metrics != null) {
+			metrics.stopOperation(OperationType.TYPED_QUERY, start);
+		}
+	}
+
+	private T mapRow(Row row) {
+		T entity = mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertiesMap, managed);
+		if (entity != null && managed) {
+			entity = buildProxy(entity);
 		}
 		return entity;
 	}
@@ -128,6 +182,7 @@ public class CQLTypedQueryBuilder<T> {
 	}
 
 	private void determineAlreadyLoadedSet() {
+		String normalizedQuery = queryString.toLowerCase();
 		if (normalizedQuery.contains(SELECT_STAR)) {
 			alreadyLoaded = new HashSet<Method>(meta.getEagerGetters());
 		} else {
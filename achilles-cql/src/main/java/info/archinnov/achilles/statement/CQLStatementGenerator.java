@@ -17,21 +17,19 @@
 package info.archinnov.achilles.statement;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
-import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.prepared.CQLSliceQueryPreparedStatementGenerator;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.Query;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -44,42 +42,33 @@ import com.google.common.collect.FluentIterable;
 
 public class CQLStatementGenerator {
 
-	private CQLSliceQueryStatementGenerator sliceQueryGenerator = new CQLSliceQueryStatementGenerator();
 	private CQLSliceQueryPreparedStatementGenerator sliceQueryPreparedGenerator = new CQLSliceQueryPreparedStatementGenerator();
 
-	public <T> Query generateSelectSliceQuery(CQLSliceQuery<T> sliceQuery, int limit) {
+	public <T> Statement generateSelectSliceQuery(CQLSliceQuery<T> sliceQuery, int limit) {
 		EntityMeta meta = sliceQuery.getMeta();
 
 		Select select = generateSelectEntity(meta);
 		select = select.limit(limit);
 		select.orderBy(sliceQuery.getCQLOrdering());
 
-		Statement where = sliceQueryGenerator.generateWhereClauseForSelectSliceQuery(sliceQuery, select);
-
-		return where.setConsistencyLevel(sliceQuery.getConsistencyLevel());
+		return sliceQueryPreparedGenerator.generateWhereClauseForSelectSliceQuery(sliceQuery, select);
 	}
 
-	public <T> PreparedStatement generateIteratorSliceQuery(CQLSliceQuery<T> sliceQuery, CQLDaoContext daoContext) {
+	public <T> Statement generateIteratorSliceQuery(CQLSliceQuery<T> sliceQuery) {
 		EntityMeta meta = sliceQuery.getMeta();
 
 		Select select = generateSelectEntity(meta);
 		select = select.limit(sliceQuery.getLimit());
 		select.orderBy(sliceQuery.getCQLOrdering());
 
-		Statement where = sliceQueryPreparedGenerator.generateWhereClauseForIteratorSliceQuery(sliceQuery, select);
-
-		PreparedStatement preparedStatement = daoContext.prepare(where);
-		preparedStatement.setConsistencyLevel(sliceQuery.getConsistencyLevel());
-		return preparedStatement;
+		return sliceQueryPreparedGenerator.generateWhereClauseForIteratorSliceQuery(sliceQuery, select);
 	}
 
-	public <T> Query generateRemoveSliceQuery(CQLSliceQuery<T> sliceQuery) {
+	public <T> Statement generateRemoveSliceQuery(CQLSliceQuery<T> sliceQuery) {
 		EntityMeta meta = sliceQuery.getMeta();
 
 		Delete delete = QueryBuilder.delete().from(meta.getTableName());
-		Statement where = sliceQueryGenerator.generateWhereClauseForDeleteSliceQuery(sliceQuery, delete);
-
-		return where.setConsistencyLevel(sliceQuery.getConsistencyLevel());
+		return sliceQueryPreparedGenerator.generateWhereClauseForDeleteSliceQuery(sliceQuery, delete);
 	}
 
 	public Select generateSelectEntity(EntityMeta entityMeta) {
@@ -98,6 +87,22 @@ public class CQLStatementGenerator {
 		return select.from(entityMeta.getTableName());
 	}
 
+	/**
+	 * Select eager properties over a token range, the token of the partition
+	 * key being the first selected column
+	 */
+	public String generateScanQuery(EntityMeta entityMeta, int batchSize) {
+		String token = "token(" + entityMeta.getIdMeta().getPropertyName() + ")";
+		StringBuilder query = new StringBuilder("SELECT ").append(token);
+		for (PropertyMeta pm : entityMeta.getEagerMetas()) {
+			query.append(",").append(pm.getPropertyName());
+		}
+		query.append(" FROM ").append(entityMeta.getTableName());
+		query.append(" WHERE ").append(token).append(" > ? AND ").append(token).append(" <= ?");
+		query.append(" LIMIT ").append(batchSize);
+		return query.toString();
+	}
+
 	public Insert generateInsert(Object entity, EntityMeta entityMeta) {
 		PropertyMeta idMeta = entityMeta.getIdMeta();
 		Insert insert = insertInto(entityMeta.getTableName());
@@ -109,8 +114,12 @@ public class CQLStatementGenerator {
 		List<PropertyMeta> fieldMetas = new ArrayList<PropertyMeta>(nonProxyMetas);
 		fieldMetas.remove(idMeta);
 
+		boolean skipNullFields = entityMeta.getInsertStrategy() == InsertStrategy.NOT_NULL_FIELDS;
 		for (PropertyMeta pm : fieldMetas) {
 			Object value = pm.getValueFromField(entity);
+			if (value == null && skipNullFields) {
+				continue;
+			}
 			value = encodeValueForCassandra(pm, value);
 			insert.value(pm.getPropertyName(), value);
 		}
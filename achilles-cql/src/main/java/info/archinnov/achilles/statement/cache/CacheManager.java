@@ -19,6 +19,7 @@ package info.archinnov.achilles.statement.cache;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 
 import java.util.HashSet;
@@ -27,7 +28,9 @@ import java.util.Set;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
@@ -57,17 +60,79 @@ public class CacheManager {
 		return ps;
 	}
 
-	public PreparedStatement getCacheForFieldsUpdate(Session session,
+	public PreparedStatement getCacheForFieldsSelect(Session session,
 			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context,
 			List<PropertyMeta> pms) {
 		Class<?> entityClass = context.getEntityClass();
 		EntityMeta entityMeta = context.getEntityMeta();
 		Set<String> fields = new HashSet<String>(Collections2.transform(pms, propertyExtractor));
-		StatementCacheKey cacheKey = new StatementCacheKey(CacheType.UPDATE_FIELDS, entityMeta.getTableName(), fields,
+		StatementCacheKey cacheKey = new StatementCacheKey(CacheType.SELECT_FIELDS, entityMeta.getTableName(), fields,
 				entityClass);
 		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
 		if (ps == null) {
-			ps = generator.prepareUpdateFields(session, entityMeta, pms);
+			ps = generator.prepareSelectFieldsPS(session, entityMeta, pms);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	public PreparedStatement getCacheForFieldsInsert(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context,
+			List<PropertyMeta> pms, Optional<Integer> ttlO) {
+		Class<?> entityClass = context.getEntityClass();
+		EntityMeta entityMeta = context.getEntityMeta();
+		Set<String> fields = new HashSet<String>(Collections2.transform(pms, propertyExtractor));
+		StatementCacheKey cacheKey = new StatementCacheKey(CacheType.INSERT_FIELDS, entityMeta.getTableName(), fields,
+				entityClass, ttlO.orNull());
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = generator.prepareInsertPS(session, entityMeta, pms, ttlO);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	public PreparedStatement getCacheForFieldsUpdate(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context,
+			List<PropertyMeta> pms, Optional<Integer> ttlO) {
+		Class<?> entityClass = context.getEntityClass();
+		EntityMeta entityMeta = context.getEntityMeta();
+		Set<String> fields = new HashSet<String>(Collections2.transform(pms, propertyExtractor));
+		StatementCacheKey cacheKey = new StatementCacheKey(CacheType.UPDATE_FIELDS, entityMeta.getTableName(), fields,
+				entityClass, ttlO.orNull());
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = generator.prepareUpdateFields(session, entityMeta, pms, ttlO);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	public PreparedStatement getCacheForCollectionUpdate(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context,
+			PropertyMeta pm, CacheType type) {
+		Class<?> entityClass = context.getEntityClass();
+		EntityMeta entityMeta = context.getEntityMeta();
+		StatementCacheKey cacheKey = new StatementCacheKey(type, entityMeta.getTableName(),
+				Sets.newHashSet(pm.getPropertyName()), entityClass);
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = generator.prepareCollectionUpdate(session, entityMeta, pm, type);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	public PreparedStatement getCacheForSliceQuery(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLSliceQuery<?> sliceQuery,
+			Statement statement, CacheType type) {
+		// The query string only has bind markers, it identifies the slice shape
+		String queryString = statement.getQueryString();
+		StatementCacheKey cacheKey = new StatementCacheKey(type, sliceQuery.getMeta().getTableName(),
+				Sets.newHashSet(queryString), sliceQuery.getEntityClass());
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = session.prepare(queryString);
 			dynamicPSCache.put(cacheKey, ps);
 		}
 		return ps;
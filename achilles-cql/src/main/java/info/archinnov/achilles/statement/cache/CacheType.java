@@ -17,5 +17,5 @@
 package info.archinnov.achilles.statement.cache;
 
 public enum CacheType {
-	SELECT_FIELD, UPDATE_FIELDS
+	SELECT_FIELD, SELECT_FIELDS, INSERT_FIELDS, UPDATE_FIELDS, ADD_ELEMENTS, REMOVE_ELEMENTS, PREPEND_ELEMENTS, SET_ELEMENT_AT_INDEX, REMOVE_ENTRY, SLICE_QUERY_SELECT, SLICE_QUERY_ITERATOR, SLICE_QUERY_DELETE
 }
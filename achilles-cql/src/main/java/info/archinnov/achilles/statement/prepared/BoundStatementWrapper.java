@@ -16,6 +16,8 @@
  */
 package info.archinnov.achilles.statement.prepared;
 
+import java.util.List;
+
 import com.datastax.driver.core.BoundStatement;
 
 public class BoundStatementWrapper {
@@ -24,11 +26,22 @@ public class BoundStatementWrapper {
 
 	private Object[] values;
 
+	private List<Object> rowKey;
+
+	private boolean counter = false;
+
 	public BoundStatementWrapper(BoundStatement bs, Object[] values) {
 		this.bs = bs;
 		this.values = values;
 	}
 
+	public BoundStatementWrapper(BoundStatement bs, Object[] values, List<Object> rowKey, boolean counter) {
+		this.bs = bs;
+		this.values = values;
+		this.rowKey = rowKey;
+		this.counter = counter;
+	}
+
 	public BoundStatement getBs() {
 		return bs;
 	}
@@ -37,4 +50,16 @@ public class BoundStatementWrapper {
 		return values;
 	}
 
+	/**
+	 * Table name followed by the encoded primary key components of the
+	 * targeted row. Null when the statement is not bound to a single row
+	 */
+	public List<Object> getRowKey() {
+		return rowKey;
+	}
+
+	public boolean isCounter() {
+		return counter;
+	}
+
 }
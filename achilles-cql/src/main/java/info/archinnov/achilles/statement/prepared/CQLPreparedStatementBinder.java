@@ -22,6 +22,7 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.AchillesException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,16 +36,20 @@ import com.google.common.collect.FluentIterable;
 public class CQLPreparedStatementBinder {
 
 	public BoundStatementWrapper bindForInsert(PreparedStatement ps, EntityMeta entityMeta, Object entity) {
-		List<Object> values = new ArrayList<Object>();
-		Object primaryKey = entityMeta.getPrimaryKey(entity);
-		values.addAll(bindPrimaryKey(primaryKey, entityMeta.getIdMeta()));
-
 		List<PropertyMeta> nonProxyMetas = FluentIterable.from(entityMeta.getAllMetasExceptIdMeta())
 				.filter(PropertyType.excludeCounterType).toImmutableList();
 
-		List<PropertyMeta> fieldMetas = new ArrayList<PropertyMeta>(nonProxyMetas);
+		return bindForInsert(ps, entityMeta, nonProxyMetas, entity);
+	}
+
+	public BoundStatementWrapper bindForInsert(PreparedStatement ps, EntityMeta entityMeta, List<PropertyMeta> pms,
+			Object entity) {
+		List<Object> values = new ArrayList<Object>();
+		Object primaryKey = entityMeta.getPrimaryKey(entity);
+		List<Object> primaryKeyValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
+		values.addAll(primaryKeyValues);
 
-		for (PropertyMeta pm : fieldMetas) {
+		for (PropertyMeta pm : pms) {
 			Object value = pm.getValueFromField(entity);
 			value = encodeValueForCassandra(pm, value);
 			values.add(value);
@@ -53,7 +58,7 @@ public class CQLPreparedStatementBinder {
 		Object[] boundValues = new Object[values.size()];
 		BoundStatement bs = ps.bind(values.toArray(boundValues));
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, buildRowKey(entityMeta, primaryKeyValues), false);
 	}
 
 	public BoundStatementWrapper bindForUpdate(PreparedStatement ps, EntityMeta entityMeta, List<PropertyMeta> pms,
@@ -65,12 +70,26 @@ public class CQLPreparedStatementBinder {
 			values.add(value);
 		}
 		Object primaryKey = entityMeta.getPrimaryKey(entity);
-		values.addAll(bindPrimaryKey(primaryKey, entityMeta.getIdMeta()));
+		List<Object> primaryKeyValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
+		values.addAll(primaryKeyValues);
 
 		Object[] boundValues = new Object[values.size()];
 		BoundStatement bs = ps.bind(values.toArray(boundValues));
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, buildRowKey(entityMeta, primaryKeyValues), false);
+	}
+
+	public BoundStatementWrapper bindForCollectionUpdate(PreparedStatement ps, EntityMeta entityMeta, Object entity,
+			Object... encodedValues) {
+		List<Object> values = new ArrayList<Object>(Arrays.asList(encodedValues));
+		Object primaryKey = entityMeta.getPrimaryKey(entity);
+		List<Object> primaryKeyValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
+		values.addAll(primaryKeyValues);
+
+		Object[] boundValues = new Object[values.size()];
+		BoundStatement bs = ps.bind(values.toArray(boundValues));
+
+		return new BoundStatementWrapper(bs, boundValues, buildRowKey(entityMeta, primaryKeyValues), false);
 	}
 
 	public BoundStatementWrapper bindStatementWithOnlyPKInWhereClause(PreparedStatement ps, EntityMeta entityMeta,
@@ -81,7 +100,7 @@ public class CQLPreparedStatementBinder {
 		Object[] boundValues = new Object[values.size()];
 		BoundStatement bs = ps.bind(values.toArray(boundValues));
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, buildRowKey(entityMeta, values), false);
 	}
 
 	public BoundStatementWrapper bindForSimpleCounterIncrementDecrement(PreparedStatement ps, EntityMeta entityMeta,
@@ -91,7 +110,7 @@ public class CQLPreparedStatementBinder {
 
 		BoundStatement bs = ps.bind(boundValues);
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, null, true);
 
 	}
 
@@ -102,11 +121,19 @@ public class CQLPreparedStatementBinder {
 		return new BoundStatementWrapper(bs, boundValues);
 	}
 
+	public BoundStatementWrapper bindForSimpleCounterSelectAll(PreparedStatement ps, EntityMeta entityMeta,
+			Object primaryKey) {
+		String primaryKeyAsString = entityMeta.getIdMeta().forceEncodeToJSON(primaryKey);
+		Object[] boundValues = new Object[] { entityMeta.getClassName(), primaryKeyAsString };
+		BoundStatement bs = ps.bind(boundValues);
+		return new BoundStatementWrapper(bs, boundValues);
+	}
+
 	public BoundStatementWrapper bindForSimpleCounterDelete(PreparedStatement ps, EntityMeta entityMeta,
 			PropertyMeta pm, Object primaryKey) {
 		Object[] boundValues = extractValuesForSimpleCounterBinding(entityMeta, pm, primaryKey);
 		BoundStatement bs = ps.bind(boundValues);
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, null, true);
 	}
 
 	public BoundStatementWrapper bindForClusteredCounterIncrementDecrement(PreparedStatement ps, EntityMeta entityMeta,
@@ -116,7 +143,7 @@ public class CQLPreparedStatementBinder {
 
 		BoundStatement bs = ps.bind(keys);
 
-		return new BoundStatementWrapper(bs, keys);
+		return new BoundStatementWrapper(bs, keys, null, true);
 	}
 
 	public BoundStatementWrapper bindForClusteredCounterSelect(PreparedStatement ps, EntityMeta entityMeta,
@@ -135,7 +162,7 @@ public class CQLPreparedStatementBinder {
 		Object[] boundValues = primarykeys.toArray(new Object[primarykeys.size()]);
 		BoundStatement bs = ps.bind(boundValues);
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, null, true);
 	}
 
 	private List<Object> bindPrimaryKey(Object primaryKey, PropertyMeta idMeta) {
@@ -148,6 +175,13 @@ public class CQLPreparedStatementBinder {
 		return values;
 	}
 
+	private List<Object> buildRowKey(EntityMeta entityMeta, List<Object> primaryKeyValues) {
+		List<Object> rowKey = new ArrayList<Object>(primaryKeyValues.size() + 1);
+		rowKey.add(entityMeta.getTableName());
+		rowKey.addAll(primaryKeyValues);
+		return rowKey;
+	}
+
 	private Object encodeValueForCassandra(PropertyMeta pm, Object value) {
 		if (value != null) {
 			switch (pm.type()) {
@@ -24,6 +24,7 @@ import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.statement.cache.CacheType;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,23 +41,32 @@ import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
+import com.google.common.base.Optional;
 import com.google.common.collect.FluentIterable;
 
 public class CQLPreparedStatementGenerator {
 	public PreparedStatement prepareInsertPS(Session session, EntityMeta entityMeta) {
-		PropertyMeta idMeta = entityMeta.getIdMeta();
-		Insert insert = insertInto(entityMeta.getTableName());
-		prepareInsertPrimaryKey(idMeta, insert);
-
 		List<PropertyMeta> nonProxyMetas = FluentIterable.from(entityMeta.getAllMetasExceptIdMeta())
 				.filter(PropertyType.excludeCounterType).toImmutableList();
 
 		List<PropertyMeta> fieldMetas = new ArrayList<PropertyMeta>(nonProxyMetas);
-		fieldMetas.remove(idMeta);
+		fieldMetas.remove(entityMeta.getIdMeta());
 
-		for (PropertyMeta pm : fieldMetas) {
+		return prepareInsertPS(session, entityMeta, fieldMetas, Optional.<Integer> absent());
+	}
+
+	public PreparedStatement prepareInsertPS(Session session, EntityMeta entityMeta, List<PropertyMeta> pms,
+			Optional<Integer> ttlO) {
+		PropertyMeta idMeta = entityMeta.getIdMeta();
+		Insert insert = insertInto(entityMeta.getTableName());
+		prepareInsertPrimaryKey(idMeta, insert);
+
+		for (PropertyMeta pm : pms) {
 			insert.value(pm.getPropertyName(), bindMarker());
 		}
+		if (ttlO.isPresent()) {
+			insert.using(ttl(ttlO.get()));
+		}
 		return session.prepare(insert.getQueryString());
 	}
 
@@ -92,9 +102,29 @@ public class CQLPreparedStatementGenerator {
 		}
 	}
 
-	public PreparedStatement prepareUpdateFields(Session session, EntityMeta entityMeta, List<PropertyMeta> pms) {
+	public PreparedStatement prepareSelectFieldsPS(Session session, EntityMeta entityMeta, List<PropertyMeta> pms) {
+		PropertyMeta idMeta = entityMeta.getIdMeta();
+
+		Selection select = select();
+		for (PropertyMeta pm : pms) {
+			if (pm.isCounter()) {
+				throw new IllegalArgumentException("Cannot prepare statement for property '" + pm.getPropertyName()
+						+ "' of entity '" + entityMeta.getClassName() + "' because it is a counter type");
+			}
+			select = prepareSelectField(pm, select);
+		}
+		Select from = select.from(entityMeta.getTableName());
+		Statement statement = prepareWhereClauseForSelect(idMeta, from);
+		return session.prepare(statement.getQueryString());
+	}
+
+	public PreparedStatement prepareUpdateFields(Session session, EntityMeta entityMeta, List<PropertyMeta> pms,
+			Optional<Integer> ttlO) {
 		PropertyMeta idMeta = entityMeta.getIdMeta();
 		Update update = update(entityMeta.getTableName());
+		if (ttlO.isPresent()) {
+			update.using(ttl(ttlO.get()));
+		}
 
 		int i = 0;
 		Assignments assignments = null;
@@ -110,6 +140,41 @@ public class CQLPreparedStatementGenerator {
 		return session.prepare(statement.getQueryString());
 	}
 
+	public PreparedStatement prepareCollectionUpdate(Session session, EntityMeta entityMeta, PropertyMeta pm,
+			CacheType type) {
+		String tableName = entityMeta.getTableName();
+		String column = pm.getPropertyName();
+
+		StringBuilder query = new StringBuilder();
+		switch (type) {
+		case ADD_ELEMENTS:
+			query.append("UPDATE ").append(tableName);
+			query.append(" SET ").append(column).append("=").append(column).append("+?");
+			break;
+		case REMOVE_ELEMENTS:
+			query.append("UPDATE ").append(tableName);
+			query.append(" SET ").append(column).append("=").append(column).append("-?");
+			break;
+		case PREPEND_ELEMENTS:
+			query.append("UPDATE ").append(tableName);
+			query.append(" SET ").append(column).append("=?+").append(column);
+			break;
+		case SET_ELEMENT_AT_INDEX:
+			query.append("UPDATE ").append(tableName);
+			query.append(" SET ").append(column).append("[?]=?");
+			break;
+		case REMOVE_ENTRY:
+			query.append("DELETE ").append(column).append("[?]");
+			query.append(" FROM ").append(tableName);
+			break;
+		default:
+			throw new IllegalArgumentException("Cannot prepare collection update statement of type '" + type.name()
+					+ "' for property '" + column + "' of entity '" + entityMeta.getClassName() + "'");
+		}
+		appendWhereClauseForPrimaryKey(entityMeta.getIdMeta(), query);
+		return session.prepare(query.toString());
+	}
+
 	public PreparedStatement prepareSelectEagerPS(Session session, EntityMeta entityMeta) {
 		PropertyMeta idMeta = entityMeta.getIdMeta();
 
@@ -148,6 +213,13 @@ public class CQLPreparedStatementGenerator {
 		select.append("AND ").append(CQL_COUNTER_PRIMARY_KEY).append(" = ? ");
 		select.append("AND ").append(CQL_COUNTER_PROPERTY_NAME).append(" = ?");
 
+		StringBuilder selectAll = new StringBuilder();
+		selectAll.append("SELECT ").append(CQL_COUNTER_PROPERTY_NAME).append(", ");
+		selectAll.append(CQL_COUNTER_VALUE).append(" ");
+		selectAll.append("FROM ").append(CQL_COUNTER_TABLE).append(" ");
+		selectAll.append("WHERE ").append(CQL_COUNTER_FQCN).append(" = ? ");
+		selectAll.append("AND ").append(CQL_COUNTER_PRIMARY_KEY).append(" = ?");
+
 		StringBuilder delete = new StringBuilder();
 		delete.append("DELETE FROM ").append(CQL_COUNTER_TABLE).append(" ");
 		delete.append("WHERE ").append(CQL_COUNTER_FQCN).append(" = ? ");
@@ -158,6 +230,7 @@ public class CQLPreparedStatementGenerator {
 		counterPSMap.put(INCR, session.prepare(incr.toString()));
 		counterPSMap.put(DECR, session.prepare(decr.toString()));
 		counterPSMap.put(SELECT, session.prepare(select.toString()));
+		counterPSMap.put(SELECT_ALL, session.prepare(selectAll.toString()));
 		counterPSMap.put(DELETE, session.prepare(delete.toString()));
 
 		return counterPSMap;
@@ -190,6 +263,23 @@ public class CQLPreparedStatementGenerator {
 		return clusteredCounterPSMap;
 	}
 
+	private void appendWhereClauseForPrimaryKey(PropertyMeta idMeta, StringBuilder query) {
+		query.append(" WHERE ");
+		if (idMeta.isEmbeddedId()) {
+			int i = 0;
+			for (String clusteredId : idMeta.getComponentNames()) {
+				if (i > 0) {
+					query.append(" AND ");
+				}
+				query.append(clusteredId).append("=?");
+				i++;
+			}
+		} else {
+			query.append(idMeta.getPropertyName()).append("=?");
+		}
+		query.append(";");
+	}
+
 	private Selection prepareSelectField(PropertyMeta pm, Selection select) {
 		if (pm.isEmbeddedId()) {
 			for (String component : pm.getComponentNames()) {
@@ -24,11 +24,88 @@ import info.archinnov.achilles.type.OrderingMode;
 import java.util.List;
 
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Select.Where;
 
 public class CQLSliceQueryPreparedStatementGenerator {
 
+	public <T> Statement generateWhereClauseForSelectSliceQuery(CQLSliceQuery<T> sliceQuery, Select select) {
+
+		Where where = select.where();
+		List<Object> fixedComponents = sliceQuery.getFixedComponents();
+		List<String> componentNames = sliceQuery.getComponentNames();
+		String varyingComponentName = sliceQuery.getVaryingComponentName();
+		OrderingMode ordering = sliceQuery.getAchillesOrdering();
+
+		boolean hasStart = sliceQuery.getLastStartComponent() != null;
+		boolean hasEnd = sliceQuery.getLastEndComponent() != null;
+
+		for (int i = 0; i < fixedComponents.size(); i++) {
+			where.and(eq(componentNames.get(i), bindMarker()));
+		}
+
+		if (ordering == ASCENDING) {
+
+			switch (sliceQuery.getBounding()) {
+			case INCLUSIVE_BOUNDS:
+				if (hasStart)
+					where.and(gte(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(lte(varyingComponentName, bindMarker()));
+				break;
+			case EXCLUSIVE_BOUNDS:
+				if (hasStart)
+					where.and(gt(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(lt(varyingComponentName, bindMarker()));
+				break;
+			case INCLUSIVE_START_BOUND_ONLY:
+				if (hasStart)
+					where.and(gte(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(lt(varyingComponentName, bindMarker()));
+				break;
+			case INCLUSIVE_END_BOUND_ONLY:
+				if (hasStart)
+					where.and(gt(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(lte(varyingComponentName, bindMarker()));
+				break;
+			}
+		} else // ordering == DESCENDING
+		{
+			switch (sliceQuery.getBounding()) {
+			case INCLUSIVE_BOUNDS:
+				if (hasStart)
+					where.and(lte(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(gte(varyingComponentName, bindMarker()));
+				break;
+			case EXCLUSIVE_BOUNDS:
+				if (hasStart)
+					where.and(lt(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(gt(varyingComponentName, bindMarker()));
+				break;
+			case INCLUSIVE_START_BOUND_ONLY:
+				if (hasStart)
+					where.and(lte(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(gt(varyingComponentName, bindMarker()));
+				break;
+			case INCLUSIVE_END_BOUND_ONLY:
+				if (hasStart)
+					where.and(lt(varyingComponentName, bindMarker()));
+				if (hasEnd)
+					where.and(gte(varyingComponentName, bindMarker()));
+				break;
+			}
+
+		}
+		return where;
+	}
+
 	public <T> Statement generateWhereClauseForIteratorSliceQuery(CQLSliceQuery<T> sliceQuery, Select select) {
 
 		Where where = select.where();
@@ -38,23 +115,23 @@ public class CQLSliceQueryPreparedStatementGenerator {
 		OrderingMode ordering = sliceQuery.getAchillesOrdering();
 
 		for (int i = 0; i < fixedComponents.size(); i++) {
-			where.and(eq(componentNames.get(i), fixedComponents.get(i)));
+			where.and(eq(componentNames.get(i), bindMarker()));
 		}
 
-		Object lastEndComp = sliceQuery.getLastEndComponent();
+		boolean hasEnd = sliceQuery.getLastEndComponent() != null;
 		if (ordering == ASCENDING) {
 			switch (sliceQuery.getBounding()) {
 			case INCLUSIVE_BOUNDS:
 			case INCLUSIVE_END_BOUND_ONLY:
 				where.and(gt(varyingComponentName, bindMarker()));
-				if (lastEndComp != null)
-					where.and(lte(varyingComponentName, lastEndComp));
+				if (hasEnd)
+					where.and(lte(varyingComponentName, bindMarker()));
 				break;
 			case EXCLUSIVE_BOUNDS:
 			case INCLUSIVE_START_BOUND_ONLY:
 				where.and(gt(varyingComponentName, bindMarker()));
-				if (lastEndComp != null)
-					where.and(lt(varyingComponentName, lastEndComp));
+				if (hasEnd)
+					where.and(lt(varyingComponentName, bindMarker()));
 				break;
 			}
 		} else // ordering == DESCENDING
@@ -63,18 +140,30 @@ public class CQLSliceQueryPreparedStatementGenerator {
 			case INCLUSIVE_BOUNDS:
 			case INCLUSIVE_END_BOUND_ONLY:
 				where.and(lt(varyingComponentName, bindMarker()));
-				if (lastEndComp != null)
-					where.and(gte(varyingComponentName, lastEndComp));
+				if (hasEnd)
+					where.and(gte(varyingComponentName, bindMarker()));
 				break;
 			case EXCLUSIVE_BOUNDS:
 			case INCLUSIVE_START_BOUND_ONLY:
 				where.and(lt(varyingComponentName, bindMarker()));
-				if (lastEndComp != null)
-					where.and(gt(varyingComponentName, lastEndComp));
+				if (hasEnd)
+					where.and(gt(varyingComponentName, bindMarker()));
 				break;
 			}
 
 		}
 		return where;
 	}
+
+	public <T> Statement generateWhereClauseForDeleteSliceQuery(CQLSliceQuery<T> sliceQuery, Delete delete) {
+		List<Object> fixedComponents = sliceQuery.getFixedComponents();
+		List<String> componentNames = sliceQuery.getComponentNames();
+
+		Delete.Where where = delete.where();
+
+		for (int i = 0; i < fixedComponents.size(); i++) {
+			where.and(eq(componentNames.get(i), bindMarker()));
+		}
+		return where;
+	}
 }
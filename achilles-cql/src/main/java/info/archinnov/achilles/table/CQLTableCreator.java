@@ -112,7 +112,7 @@ public class CQLTableCreator extends TableCreator {
 		CQLTableBuilder builder = CQLTableBuilder.createTable(tableName);
 		for (PropertyMeta pm : entityMeta.getAllMetasExceptIdMeta()) {
 			String propertyName = pm.getPropertyName();
-			Class<?> keyClass = pm.getKeyClass();
+			Class<?> keyClass = pm.getKeyClassForTableCreation();
 			Class<?> valueClass = pm.getValueClassForTableCreation();
 			switch (pm.type()) {
 			case SIMPLE:
@@ -129,7 +129,7 @@ public class CQLTableCreator extends TableCreator {
 				break;
 			case MAP:
 			case LAZY_MAP:
-				builder.addMap(propertyName, keyClass, pm.getValueClass());
+				builder.addMap(propertyName, keyClass, valueClass);
 				break;
 			default:
 				break;
@@ -187,7 +187,7 @@ public class CQLTableValidator {
 					"Column '%s' of table '%s' of type '%s' should be of type '%s' indeed", columnName, tableName,
 					realType, Name.MAP);
 
-			Name expectedMapKeyType = toCQLType(pm.getKeyClass());
+			Name expectedMapKeyType = toCQLType(pm.getKeyClassForTableCreation());
 			Name realMapKeyType = columnMetadata.getType().getTypeArguments().get(0).getName();
 			Name realMapValueType = columnMetadata.getType().getTypeArguments().get(1).getName();
 			Validator.validateTableTrue(realMapKeyType == expectedMapKeyType,
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.BatchType;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -140,4 +141,62 @@ public class CQLArgumentExtractorTest {
 
 		assertThat(actual).isSameAs(session);
 	}
+
+	@Test
+	public void should_init_default_batch_parameters() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+
+		assertThat(extractor.initBatchType(params)).isSameAs(DEFAULT_BATCH_TYPE);
+		assertThat(extractor.initBatchMaxSize(params)).isEqualTo(DEFAULT_BATCH_MAX_SIZE);
+	}
+
+	@Test
+	public void should_init_batch_parameters() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(BATCH_TYPE, BatchType.UNLOGGED);
+		params.put(BATCH_MAX_SIZE, 50);
+
+		assertThat(extractor.initBatchType(params)).isSameAs(BatchType.UNLOGGED);
+		assertThat(extractor.initBatchMaxSize(params)).isEqualTo(50);
+	}
+
+	@Test
+	public void should_exception_when_counter_batch_type() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(BATCH_TYPE, BatchType.COUNTER);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(BATCH_TYPE + " property cannot be set to COUNTER");
+
+		extractor.initBatchType(params);
+	}
+
+	@Test
+	public void should_exception_when_batch_max_size_not_positive() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(BATCH_MAX_SIZE, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(BATCH_MAX_SIZE + " property should be strictly positive");
+
+		extractor.initBatchMaxSize(params);
+	}
+
+	@Test
+	public void should_init_default_async_max_in_flight() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+
+		assertThat(extractor.initAsyncMaxInFlight(params)).isEqualTo(DEFAULT_ASYNC_MAX_IN_FLIGHT);
+	}
+
+	@Test
+	public void should_exception_when_async_max_in_flight_not_positive() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(ASYNC_MAX_IN_FLIGHT, -1);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(ASYNC_MAX_IN_FLIGHT + " property should be strictly positive");
+
+		extractor.initAsyncMaxInFlight(params);
+	}
 }
@@ -18,20 +18,37 @@ package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.context.FlushContext.FlushType;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.BatchType;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Query;
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.ListenableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLBatchingFlushContextTest {
 
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
 	private CQLBatchingFlushContext context;
 
 	@Mock
@@ -43,9 +60,12 @@ public class CQLBatchingFlushContextTest {
 	@Mock
 	private Query query;
 
+	@Captor
+	private ArgumentCaptor<List<BoundStatementWrapper>> batchCaptor;
+
 	@Before
 	public void setUp() {
-		context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM);
+		context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM, BatchType.UNLOGGED, 2);
 	}
 
 	@Test
@@ -67,6 +87,18 @@ public class CQLBatchingFlushContextTest {
 		assertThat(context.boundStatementWrappers).containsExactly(bsWrapper);
 	}
 
+	@Test
+	public void should_keep_statements_for_end_of_batch_when_flushing_async() throws Exception {
+		context.boundStatementWrappers.add(bsWrapper);
+
+		ListenableFuture<List<ResultSet>> future = context.flushAsync();
+
+		assertThat(future.isDone()).isTrue();
+		assertThat(future.get()).isEmpty();
+		assertThat(context.boundStatementWrappers).containsExactly(bsWrapper);
+		verifyZeroInteractions(daoContext);
+	}
+
 	@Test
 	public void should_end_batch() throws Exception {
 		context.boundStatementWrappers.add(bsWrapper);
@@ -77,6 +109,33 @@ public class CQLBatchingFlushContextTest {
 		assertThat(context.consistencyLevel).isNull();
 	}
 
+	@Test
+	public void should_evict_written_entities_from_cache_at_end_of_batch() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		context.boundStatementWrappers.add(bsWrapper);
+		context.evictFromCacheOnFlush(entityCache, 10L);
+
+		context.flush();
+		verifyZeroInteractions(entityCache);
+
+		context.endBatch();
+
+		verify(entityCache).invalidate(10L);
+		assertThat(context.pendingEvictions.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void should_evict_written_entities_from_cache_on_clean_up() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		context.boundStatementWrappers.add(bsWrapper);
+		context.evictFromCacheOnFlush(entityCache, 10L);
+
+		context.cleanUp();
+
+		verify(entityCache).invalidate(10L);
+		verifyZeroInteractions(daoContext);
+	}
+
 	@Test
 	public void should_get_type() throws Exception {
 		assertThat(context.type()).isSameAs(FlushType.BATCH);
@@ -90,5 +149,75 @@ public class CQLBatchingFlushContextTest {
 
 		assertThat(duplicate.boundStatementWrappers).containsOnly(bsWrapper);
 		assertThat(duplicate.consistencyLevel).isSameAs(EACH_QUORUM);
+		assertThat(duplicate.pendingEvictions).isSameAs(context.pendingEvictions);
+	}
+
+	@Test
+	public void should_group_statements_in_batches_of_max_size() throws Exception {
+		BoundStatementWrapper wrapper1 = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 1L);
+		BoundStatementWrapper wrapper2 = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 2L);
+		BoundStatementWrapper wrapper3 = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 3L);
+		context.boundStatementWrappers.addAll(Arrays.asList(wrapper1, wrapper2, wrapper3));
+
+		context.endBatch();
+
+		verify(daoContext).executeBatch(eq(BatchType.UNLOGGED), batchCaptor.capture());
+		verify(daoContext).execute(wrapper3.getBs(), wrapper3.getValues());
+		assertThat(batchCaptor.getValue()).containsExactly(wrapper1, wrapper2);
+		assertThat(context.boundStatementWrappers).isEmpty();
+	}
+
+	@Test
+	public void should_not_mix_counter_and_non_counter_statements() throws Exception {
+		context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM, BatchType.LOGGED, 10);
+		BoundStatementWrapper wrapper1 = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 1L);
+		BoundStatementWrapper wrapper2 = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 2L);
+		BoundStatementWrapper counter1 = buildWrapper(true, ConsistencyLevel.ONE);
+		BoundStatementWrapper counter2 = buildWrapper(true, ConsistencyLevel.ONE);
+		context.boundStatementWrappers.addAll(Arrays.asList(wrapper1, wrapper2, counter1, counter2));
+
+		context.endBatch();
+
+		verify(daoContext).executeBatch(eq(BatchType.LOGGED), batchCaptor.capture());
+		verify(daoContext).executeBatch(eq(BatchType.COUNTER), batchCaptor.capture());
+		assertThat(batchCaptor.getAllValues().get(0)).containsExactly(wrapper1, wrapper2);
+		assertThat(batchCaptor.getAllValues().get(1)).containsExactly(counter1, counter2);
+	}
+
+	@Test
+	public void should_start_new_batch_when_same_row_is_written_twice() throws Exception {
+		context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM, BatchType.LOGGED, 10);
+		BoundStatementWrapper insert = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 1L);
+		BoundStatementWrapper other = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 2L);
+		BoundStatementWrapper update = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 1L);
+		context.boundStatementWrappers.addAll(Arrays.asList(insert, other, update));
+
+		context.endBatch();
+
+		verify(daoContext).executeBatch(eq(BatchType.LOGGED), batchCaptor.capture());
+		verify(daoContext).execute(update.getBs(), update.getValues());
+		assertThat(batchCaptor.getValue()).containsExactly(insert, other);
+	}
+
+	@Test
+	public void should_start_new_batch_when_consistency_level_changes() throws Exception {
+		context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM, BatchType.LOGGED, 10);
+		BoundStatementWrapper wrapper1 = buildWrapper(false, ConsistencyLevel.ONE, "Tweet", 1L);
+		BoundStatementWrapper wrapper2 = buildWrapper(false, ConsistencyLevel.QUORUM, "Tweet", 2L);
+
+		context.boundStatementWrappers.addAll(Arrays.asList(wrapper1, wrapper2));
+
+		context.endBatch();
+
+		verify(daoContext).execute(wrapper1.getBs(), wrapper1.getValues());
+		verify(daoContext).execute(wrapper2.getBs(), wrapper2.getValues());
+		verify(daoContext, never()).executeBatch(any(BatchType.class), anyListOf(BoundStatementWrapper.class));
+	}
+
+	private BoundStatementWrapper buildWrapper(boolean counter, ConsistencyLevel consistencyLevel, Object... rowKey) {
+		BoundStatement bs = mock(BoundStatement.class);
+		when(bs.getConsistencyLevel()).thenReturn(consistencyLevel);
+		List<Object> key = counter ? null : Arrays.asList(rowKey);
+		return new BoundStatementWrapper(bs, new Object[] { rowKey }, key, counter);
 	}
 }
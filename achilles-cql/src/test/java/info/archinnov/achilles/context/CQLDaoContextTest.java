@@ -16,6 +16,8 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static info.archinnov.achilles.statement.cache.CacheType.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +25,8 @@ import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
+import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.CQLStatementGenerator;
 import info.archinnov.achilles.statement.cache.CacheManager;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
@@ -31,12 +35,18 @@ import info.archinnov.achilles.statement.prepared.CQLPreparedStatementBinder;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.InsertStrategy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 import org.apache.cassandra.utils.Pair;
 import org.apache.commons.lang.math.RandomUtils;
@@ -47,6 +57,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -54,7 +65,9 @@ import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
@@ -67,6 +80,7 @@ import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLDaoContextTest {
@@ -85,6 +99,12 @@ public class CQLDaoContextTest {
 	@Mock
 	private Cache<StatementCacheKey, PreparedStatement> dynamicPSCache;
 
+	@Mock
+	private Cache<String, PreparedStatement> batchPSCache;
+
+	@Mock
+	private Cache<String, PreparedStatement> queryPSCache;
+
 	@Mock
 	private Map<Class<?>, PreparedStatement> selectEagerPSs;
 
@@ -139,12 +159,17 @@ public class CQLDaoContextTest {
 
 	private Object[] boundValues = new Object[1];
 
+	private Semaphore asyncPermits = new Semaphore(2);
+
 	@Before
 	public void setUp() {
 		Whitebox.setInternalState(daoContext, CQLPreparedStatementBinder.class, binder);
 		Whitebox.setInternalState(daoContext, CacheManager.class, cacheManager);
 		Whitebox.setInternalState(daoContext, "insertPSs", insertPSs);
-		Whitebox.setInternalState(daoContext, Cache.class, dynamicPSCache);
+		Whitebox.setInternalState(daoContext, "dynamicPSCache", dynamicPSCache);
+		Whitebox.setInternalState(daoContext, "batchPSCache", batchPSCache);
+		Whitebox.setInternalState(daoContext, "queryPSCache", queryPSCache);
+		Whitebox.setInternalState(daoContext, "asyncPermits", asyncPermits);
 		Whitebox.setInternalState(daoContext, "selectEagerPSs", selectEagerPSs);
 		Whitebox.setInternalState(daoContext, "removePSs", removePSs);
 		Whitebox.setInternalState(daoContext, "counterQueryMap", counterQueryMap);
@@ -181,22 +206,56 @@ public class CQLDaoContextTest {
 		verify(context).pushBoundStatement(bsWrapper, ALL);
 	}
 
+	@Test
+	public void should_push_insert_of_not_null_fields() throws Exception {
+		PropertyMeta nameMeta = mock(PropertyMeta.class);
+		PropertyMeta ageMeta = mock(PropertyMeta.class);
+		PropertyMeta counterMeta = mock(PropertyMeta.class);
+		List<PropertyMeta> notNullMetas = Arrays.asList(nameMeta);
+
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta, ageMeta, counterMeta));
+		entityMeta.setInsertStrategy(InsertStrategy.NOT_NULL_FIELDS);
+		entityMeta.setConsistencyLevels(Pair.create(ONE, ALL));
+
+		when(context.getTtt()).thenReturn(Optional.<Integer> absent());
+		when(context.getTimestamp()).thenReturn(Optional.<Long> absent());
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> absent());
+		when(nameMeta.getValueFromField(entity)).thenReturn("name");
+		when(ageMeta.getValueFromField(entity)).thenReturn(null);
+		when(counterMeta.isCounter()).thenReturn(true);
+		when(cacheManager.getCacheForFieldsInsert(session, dynamicPSCache, context, notNullMetas,
+				Optional.<Integer> absent())).thenReturn(ps);
+		when(binder.bindForInsert(ps, entityMeta, notNullMetas, entity)).thenReturn(bsWrapper);
+
+		daoContext.pushInsertStatement(context);
+
+		verify(context).pushBoundStatement(bsWrapper, ALL);
+		verify(insertPSs, never()).get(CompleteBean.class);
+	}
+
 	@Test
 	public void should_push_insert_with_ttl() throws Exception {
-		int ttl = 115;
-		when(context.getTtt()).thenReturn(Optional.<Integer> fromNullable(ttl));
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.valueClass(String.class).field("name").type(SIMPLE).build();
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").type(COUNTER)
+				.build();
+		List<PropertyMeta> pms = Arrays.asList(nameMeta);
+
+		Optional<Integer> ttlO = Optional.fromNullable(115);
+		when(context.getTtt()).thenReturn(ttlO);
 		when(context.getTimestamp()).thenReturn(Optional.<Long> fromNullable(null));
 		when(context.getEntity()).thenReturn(entity);
 		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
 
 		entityMeta.setConsistencyLevels(Pair.create(ONE, ALL));
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta, counterMeta));
 
-		when(statementGenerator.generateInsert(entity, entityMeta)).thenReturn(insert);
-		when(insert.using(usingCaptor.capture())).thenReturn(insertOptions);
+		when(cacheManager.getCacheForFieldsInsert(session, dynamicPSCache, context, pms, ttlO)).thenReturn(ps);
+		when(binder.bindForInsert(ps, entityMeta, pms, entity)).thenReturn(bsWrapper);
 
 		daoContext.pushInsertStatement(context);
-		verify(context).pushStatement(insertOptions, ALL);
-		assertThat(Whitebox.getInternalState(usingCaptor.getValue(), "value")).isEqualTo(new Long(ttl));
+
+		verify(context).pushBoundStatement(bsWrapper, ALL);
+		verifyZeroInteractions(statementGenerator);
 	}
 
 	@Test
@@ -248,7 +307,8 @@ public class CQLDaoContextTest {
 		List<PropertyMeta> pms = Arrays.asList(nameMeta, ageMeta);
 		when(context.getTtt()).thenReturn(Optional.<Integer> absent());
 		when(context.getTimestamp()).thenReturn(Optional.<Long> fromNullable(null));
-		when(cacheManager.getCacheForFieldsUpdate(session, dynamicPSCache, context, pms)).thenReturn(ps);
+		when(cacheManager.getCacheForFieldsUpdate(session, dynamicPSCache, context, pms, Optional.<Integer> absent()))
+				.thenReturn(ps);
 		when(binder.bindForUpdate(ps, entityMeta, pms, entity)).thenReturn(bsWrapper);
 		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
 
@@ -257,6 +317,69 @@ public class CQLDaoContextTest {
 
 	}
 
+	@Test
+	public void should_push_collection_update_statements() throws Exception {
+		PropertyMeta pm = mock(PropertyMeta.class);
+		ElementChanges changes = new ElementChanges();
+		changes.setElementAtIndex(1, "a");
+		changes.appendElement("b");
+		changes.prependElement("c");
+
+		when(context.getEntity()).thenReturn(entity);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
+		when(pm.encode("a")).thenReturn("a");
+		when(pm.encode(Arrays.<Object> asList("b"))).thenReturn(Arrays.<Object> asList("b"));
+		when(pm.encode(Arrays.<Object> asList("c"))).thenReturn(Arrays.<Object> asList("c"));
+
+		PreparedStatement setPs = mock(PreparedStatement.class);
+		PreparedStatement appendPs = mock(PreparedStatement.class);
+		PreparedStatement prependPs = mock(PreparedStatement.class);
+		BoundStatementWrapper setWrapper = mock(BoundStatementWrapper.class);
+		BoundStatementWrapper appendWrapper = mock(BoundStatementWrapper.class);
+		BoundStatementWrapper prependWrapper = mock(BoundStatementWrapper.class);
+
+		when(cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm, SET_ELEMENT_AT_INDEX))
+				.thenReturn(setPs);
+		when(cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm, ADD_ELEMENTS)).thenReturn(
+				appendPs);
+		when(cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm, PREPEND_ELEMENTS))
+				.thenReturn(prependPs);
+		when(binder.bindForCollectionUpdate(setPs, entityMeta, entity, 1, "a")).thenReturn(setWrapper);
+		when(binder.bindForCollectionUpdate(appendPs, entityMeta, entity, Arrays.<Object> asList("b"))).thenReturn(
+				appendWrapper);
+		when(binder.bindForCollectionUpdate(prependPs, entityMeta, entity, Arrays.<Object> asList("c")))
+				.thenReturn(prependWrapper);
+
+		daoContext.pushCollectionUpdateStatements(context, pm, changes);
+
+		InOrder inOrder = inOrder(context);
+		inOrder.verify(context).pushBoundStatement(setWrapper, EACH_QUORUM);
+		inOrder.verify(context).pushBoundStatement(appendWrapper, EACH_QUORUM);
+		inOrder.verify(context).pushBoundStatement(prependWrapper, EACH_QUORUM);
+	}
+
+	@Test
+	public void should_push_map_entry_removal_statements() throws Exception {
+		PropertyMeta pm = mock(PropertyMeta.class);
+		ElementChanges changes = new ElementChanges();
+		changes.removeEntry(1);
+		changes.removeEntry(2);
+
+		when(context.getEntity()).thenReturn(entity);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
+		when(pm.encodeKey(1)).thenReturn(1);
+		when(pm.encodeKey(2)).thenReturn(2);
+		when(cacheManager.getCacheForCollectionUpdate(session, dynamicPSCache, context, pm, REMOVE_ENTRY)).thenReturn(
+				ps);
+		when(binder.bindForCollectionUpdate(ps, entityMeta, entity, 1)).thenReturn(bsWrapper);
+		when(binder.bindForCollectionUpdate(ps, entityMeta, entity, 2)).thenReturn(bsWrapper);
+
+		daoContext.pushCollectionUpdateStatements(context, pm, changes);
+
+		verify(context, times(2)).pushBoundStatement(bsWrapper, EACH_QUORUM);
+		verify(cacheManager, never()).getCacheForCollectionUpdate(session, dynamicPSCache, context, pm, ADD_ELEMENTS);
+	}
+
 	@Test
 	public void should_push_update_with_ttl() throws Exception {
 		PropertyMeta nameMeta = PropertyMetaTestBuilder.valueClass(String.class).field("name").build();
@@ -265,18 +388,18 @@ public class CQLDaoContextTest {
 
 		List<PropertyMeta> pms = Arrays.asList(nameMeta, ageMeta);
 
-		int ttl = 15465;
-		when(context.getTtt()).thenReturn(Optional.<Integer> fromNullable(ttl));
+		Optional<Integer> ttlO = Optional.fromNullable(15465);
+		when(context.getTtt()).thenReturn(ttlO);
 		when(context.getTimestamp()).thenReturn(Optional.<Long> fromNullable(null));
 		when(context.getEntity()).thenReturn(entity);
 		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
-
-		when(statementGenerator.generateUpdateFields(entity, entityMeta, pms)).thenReturn(update);
-		when(update.using(usingCaptor.capture())).thenReturn(updateOptions);
+		when(cacheManager.getCacheForFieldsUpdate(session, dynamicPSCache, context, pms, ttlO)).thenReturn(ps);
+		when(binder.bindForUpdate(ps, entityMeta, pms, entity)).thenReturn(bsWrapper);
 
 		daoContext.pushUpdateStatement(context, pms);
-		verify(context).pushStatement(updateOptions, EACH_QUORUM);
-		assertThat(Whitebox.getInternalState(usingCaptor.getValue(), "value")).isEqualTo(new Long(ttl));
+
+		verify(context).pushBoundStatement(bsWrapper, EACH_QUORUM);
+		verifyZeroInteractions(statementGenerator);
 	}
 
 	@Test
@@ -367,6 +490,23 @@ public class CQLDaoContextTest {
 
 	}
 
+	@Test
+	public void should_eager_load_entity_asynchronously() throws Exception {
+		entityMeta.setConsistencyLevels(Pair.create(LOCAL_QUORUM, LOCAL_QUORUM));
+		when(selectEagerPSs.get(CompleteBean.class)).thenReturn(ps);
+		when(binder.bindStatementWithOnlyPKInWhereClause(ps, entityMeta, entity.getId())).thenReturn(bsWrapper);
+		when(bsWrapper.getBs()).thenReturn(bs);
+		when(bsWrapper.getValues()).thenReturn(new Object[] { entity.getId() });
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(bs)).thenReturn(future);
+
+		assertThat(daoContext.eagerLoadEntityAsync(context)).isSameAs(future);
+
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.LOCAL_QUORUM);
+	}
+
 	@Test
 	public void should_load_property() throws Exception {
 		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name")
@@ -385,6 +525,27 @@ public class CQLDaoContextTest {
 		assertThat(actual).isSameAs(row);
 	}
 
+	@Test
+	public void should_load_properties() throws Exception {
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.valueClass(String.class).field("name")
+				.consistencyLevels(Pair.create(ONE, ALL)).build();
+		PropertyMeta labelMeta = PropertyMetaTestBuilder.valueClass(String.class).field("label")
+				.consistencyLevels(Pair.create(ONE, ALL)).build();
+		List<PropertyMeta> pms = Arrays.asList(nameMeta, labelMeta);
+
+		when(cacheManager.getCacheForFieldsSelect(session, dynamicPSCache, context, pms)).thenReturn(ps);
+
+		when(binder.bindStatementWithOnlyPKInWhereClause(ps, entityMeta, entity.getId())).thenReturn(bsWrapper);
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+		when(resultSet.all()).thenReturn(Arrays.asList(row));
+		when(context.executeImmediateWithConsistency(bsWrapper, EACH_QUORUM)).thenReturn(resultSet);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
+		Row actual = daoContext.loadProperties(context, pms);
+
+		assertThat(actual).isSameAs(row);
+	}
+
 	@Test
 	public void should_return_null_when_loading_property() throws Exception {
 		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name")
@@ -486,6 +647,39 @@ public class CQLDaoContextTest {
 		assertThat(actual).isSameAs(row);
 	}
 
+	@Test
+	public void should_load_all_simple_counters_asynchronously() throws Exception {
+		entityMeta.setClusteredCounter(false);
+		when(counterQueryMap.get(CQLQueryType.SELECT_ALL)).thenReturn(ps);
+		when(binder.bindForSimpleCounterSelectAll(ps, entityMeta, entity.getId())).thenReturn(bsWrapper);
+		when(bsWrapper.getValues()).thenReturn(new Object[] { entity.getId() });
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(bs)).thenReturn(future);
+
+		assertThat(daoContext.loadCountersAsync(context, null)).isSameAs(future);
+
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.ONE);
+	}
+
+	@Test
+	public void should_load_clustered_counter_asynchronously_with_consistency() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").build();
+		entityMeta.setClusteredCounter(true);
+		entityMeta.setFirstMeta(counterMeta);
+		clusteredCounterQueryMap.put(CompleteBean.class, ImmutableMap.of(CQLQueryType.SELECT, ps));
+		when(binder.bindForClusteredCounterSelect(ps, entityMeta, counterMeta, entity.getId())).thenReturn(bsWrapper);
+		when(bsWrapper.getValues()).thenReturn(new Object[] { entity.getId() });
+		when(bs.preparedStatement()).thenReturn(ps);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(bs)).thenReturn(future);
+
+		assertThat(daoContext.loadCountersAsync(context, LOCAL_QUORUM)).isSameAs(future);
+
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.LOCAL_QUORUM);
+	}
+
 	@Test
 	public void should_bind_simple_counter_delete() throws Exception {
 		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name")
@@ -573,6 +767,28 @@ public class CQLDaoContextTest {
 		verify(context).executeImmediateWithConsistency(bsWrapper, EACH_QUORUM);
 	}
 
+	@Test
+	public void should_bind_for_coalesced_counter_update() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").build();
+		entityMeta.setClusteredCounter(false);
+		when(counterQueryMap.get(CQLQueryType.INCR)).thenReturn(ps);
+		when(binder.bindForSimpleCounterIncrementDecrement(ps, entityMeta, counterMeta, entity.getId(), -3L))
+				.thenReturn(bsWrapper);
+
+		assertThat(daoContext.bindForCounterUpdate(entityMeta, counterMeta, entity.getId(), -3L)).isSameAs(bsWrapper);
+	}
+
+	@Test
+	public void should_bind_for_coalesced_clustered_counter_update() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").build();
+		entityMeta.setClusteredCounter(true);
+		clusteredCounterQueryMap.put(CompleteBean.class, ImmutableMap.of(CQLQueryType.INCR, ps));
+		when(binder.bindForClusteredCounterIncrementDecrement(ps, entityMeta, counterMeta, entity.getId(), 4L))
+				.thenReturn(bsWrapper);
+
+		assertThat(daoContext.bindForCounterUpdate(entityMeta, counterMeta, entity.getId(), 4L)).isSameAs(bsWrapper);
+	}
+
 	@Test
 	public void should_get_clustered_counter() throws Exception {
 		PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count")
@@ -634,4 +850,231 @@ public class CQLDaoContextTest {
 
 		assertThat(daoContext.bindAndExecute(ps, 11L, "a")).isSameAs(rs);
 	}
+
+	@Test
+	public void should_execute_query_string_without_bound_values() throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		ArgumentCaptor<SimpleStatement> statementCaptor = ArgumentCaptor.forClass(SimpleStatement.class);
+		when(session.execute(statementCaptor.capture())).thenReturn(rs);
+
+		assertThat(daoContext.executeQuery("SELECT * FROM test")).isSameAs(rs);
+
+		assertThat(statementCaptor.getValue().getQueryString()).isEqualTo("SELECT * FROM test");
+		verifyZeroInteractions(queryPSCache);
+	}
+
+	@Test
+	public void should_prepare_and_cache_query_string_with_bound_values() throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		String query = "SELECT * FROM test WHERE id=?";
+		when(queryPSCache.getIfPresent(query)).thenReturn(null);
+		when(session.prepare(query)).thenReturn(ps);
+		when(ps.bind(11L)).thenReturn(bs);
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(session.execute(bs)).thenReturn(rs);
+
+		assertThat(daoContext.executeQuery(query, 11L)).isSameAs(rs);
+
+		verify(queryPSCache).put(query, ps);
+	}
+
+	@Test
+	public void should_bind_cached_query_string() throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		String query = "SELECT * FROM test WHERE id=?";
+		when(queryPSCache.getIfPresent(query)).thenReturn(ps);
+		when(ps.bind(11L)).thenReturn(bs);
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(session.execute(bs)).thenReturn(rs);
+
+		assertThat(daoContext.executeQuery(query, 11L)).isSameAs(rs);
+
+		verify(session, never()).prepare(query);
+	}
+
+	@Test
+	public void should_execute_slice_query_with_cached_prepared_statement() throws Exception {
+		CQLSliceQuery<CompleteBean> sliceQuery = mock(CQLSliceQuery.class);
+		Statement statement = mock(Statement.class);
+		ResultSet rs = mock(ResultSet.class);
+
+		when(cacheManager.getCacheForSliceQuery(session, dynamicPSCache, sliceQuery, statement, SLICE_QUERY_SELECT))
+				.thenReturn(ps);
+		when(ps.bind(11L, "a")).thenReturn(bs);
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(sliceQuery.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.LOCAL_QUORUM);
+		when(session.execute(bs)).thenReturn(rs);
+
+		assertThat(daoContext.executeSliceQuery(sliceQuery, statement, SLICE_QUERY_SELECT, 11L, "a")).isSameAs(rs);
+
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.LOCAL_QUORUM);
+		verify(ps, never()).setConsistencyLevel(any(com.datastax.driver.core.ConsistencyLevel.class));
+	}
+
+	@Test
+	public void should_prepare_and_execute_batch() throws Exception {
+		BoundStatement bs1 = mock(BoundStatement.class);
+		BoundStatement bs2 = mock(BoundStatement.class);
+		PreparedStatement ps1 = mock(PreparedStatement.class);
+		PreparedStatement ps2 = mock(PreparedStatement.class);
+		when(bs1.preparedStatement()).thenReturn(ps1);
+		when(bs2.preparedStatement()).thenReturn(ps2);
+		when(bs1.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+		when(ps1.getQueryString()).thenReturn("INSERT INTO table(id,name) VALUES (?,?);");
+		when(ps2.getQueryString()).thenReturn("DELETE FROM table WHERE id=?");
+
+		String batchQuery = "BEGIN UNLOGGED BATCH INSERT INTO table(id,name) VALUES (?,?); DELETE FROM table WHERE id=?; APPLY BATCH";
+		when(session.prepare(batchQuery)).thenReturn(ps);
+		when(ps.bind(11L, "name", 12L)).thenReturn(bs);
+		when(bs.preparedStatement()).thenReturn(ps);
+		ResultSet rs = mock(ResultSet.class);
+		when(session.execute(bs)).thenReturn(rs);
+
+		List<BoundStatementWrapper> wrappers = Arrays.asList(new BoundStatementWrapper(bs1,
+				new Object[] { 11L, "name" }), new BoundStatementWrapper(bs2, new Object[] { 12L }));
+
+		assertThat(daoContext.executeBatch(BatchType.UNLOGGED, wrappers)).isSameAs(rs);
+
+		verify(batchPSCache).put(batchQuery, ps);
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+	}
+
+	@Test
+	public void should_execute_batch_with_cached_prepared_statement() throws Exception {
+		BoundStatement bs1 = mock(BoundStatement.class);
+		PreparedStatement ps1 = mock(PreparedStatement.class);
+		when(bs1.preparedStatement()).thenReturn(ps1);
+		when(ps1.getQueryString()).thenReturn("UPDATE counter SET value = value + ? WHERE id=?");
+
+		String batchQuery = "BEGIN COUNTER BATCH UPDATE counter SET value = value + ? WHERE id=?; UPDATE counter SET value = value + ? WHERE id=?; APPLY BATCH";
+		when(batchPSCache.getIfPresent(batchQuery)).thenReturn(ps);
+		when(ps.bind(1L, 10L, 2L, 11L)).thenReturn(bs);
+		when(bs.preparedStatement()).thenReturn(ps);
+
+		List<BoundStatementWrapper> wrappers = Arrays.asList(
+				new BoundStatementWrapper(bs1, new Object[] { 1L, 10L }), new BoundStatementWrapper(bs1,
+						new Object[] { 2L, 11L }));
+
+		daoContext.executeBatch(BatchType.COUNTER, wrappers);
+
+		verify(session, never()).prepare(batchQuery);
+		verify(session).execute(bs);
+	}
+
+	@Test
+	public void should_execute_async_and_release_permit_on_success() throws Exception {
+		when(bs.preparedStatement()).thenReturn(ps);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(bs)).thenReturn(future);
+		when(future.get()).thenReturn(mock(ResultSet.class));
+		ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		assertThat(daoContext.executeAsync(bs, 11L)).isSameAs(future);
+		assertThat(asyncPermits.availablePermits()).isEqualTo(1);
+
+		verify(future).addListener(listenerCaptor.capture(), any(Executor.class));
+		listenerCaptor.getValue().run();
+
+		assertThat(asyncPermits.availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_release_permit_when_async_execution_fails() throws Exception {
+		when(bs.preparedStatement()).thenReturn(ps);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(bs)).thenReturn(future);
+		when(future.get()).thenThrow(new ExecutionException(new RuntimeException("test")));
+		ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		daoContext.executeAsync(bs);
+
+		verify(future).addListener(listenerCaptor.capture(), any(Executor.class));
+		listenerCaptor.getValue().run();
+
+		assertThat(asyncPermits.availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_release_permit_when_async_submission_fails() throws Exception {
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(session.executeAsync(bs)).thenThrow(new RuntimeException("test"));
+
+		exception.expect(RuntimeException.class);
+		try {
+			daoContext.executeAsync(bs);
+		} finally {
+			assertThat(asyncPermits.availablePermits()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void should_fail_fast_when_no_async_permit_is_available() throws Exception {
+		Whitebox.setInternalState(daoContext, "asyncPermits", new Semaphore(0));
+		Whitebox.setInternalState(daoContext, "asyncPermitTimeoutMillis", 10L);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("No asynchronous query slot became available within 10 ms");
+
+		daoContext.executeAsync(bs);
+	}
+
+	@Test
+	public void should_execute_async_in_order_with_one_permit() throws Exception {
+		BoundStatement bs2 = mock(BoundStatement.class);
+		ResultSetFuture future1 = mock(ResultSetFuture.class);
+		ResultSetFuture future2 = mock(ResultSetFuture.class);
+		ResultSet resultSet1 = mock(ResultSet.class);
+		ResultSet resultSet2 = mock(ResultSet.class);
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(bs2.preparedStatement()).thenReturn(ps);
+		when(session.executeAsync(bs)).thenReturn(future1);
+		when(session.executeAsync(bs2)).thenReturn(future2);
+		when(future1.get()).thenReturn(resultSet1);
+		when(future2.get()).thenReturn(resultSet2);
+		ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		List<Pair<Query, Object[]>> queries = new ArrayList<Pair<Query, Object[]>>();
+		queries.add(Pair.<Query, Object[]> create(bs, new Object[] { 11L }));
+		queries.add(Pair.<Query, Object[]> create(bs2, new Object[] { 12L }));
+
+		ListenableFuture<List<ResultSet>> result = daoContext.executeAsyncInOrder(queries);
+
+		assertThat(asyncPermits.availablePermits()).isEqualTo(1);
+		verify(session, never()).executeAsync(bs2);
+
+		verify(future1).addListener(listenerCaptor.capture(), any(Executor.class));
+		listenerCaptor.getValue().run();
+
+		assertThat(result.isDone()).isFalse();
+		verify(session).executeAsync(bs2);
+
+		verify(future2).addListener(listenerCaptor.capture(), any(Executor.class));
+		listenerCaptor.getValue().run();
+
+		assertThat(result.get()).containsExactly(resultSet1, resultSet2);
+		assertThat(asyncPermits.availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_stop_async_chain_on_first_failure() throws Exception {
+		BoundStatement bs2 = mock(BoundStatement.class);
+		ResultSetFuture future1 = mock(ResultSetFuture.class);
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(session.executeAsync(bs)).thenReturn(future1);
+		when(future1.get()).thenThrow(new ExecutionException(new RuntimeException("test")));
+		ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		List<Pair<Query, Object[]>> queries = new ArrayList<Pair<Query, Object[]>>();
+		queries.add(Pair.<Query, Object[]> create(bs, new Object[0]));
+		queries.add(Pair.<Query, Object[]> create(bs2, new Object[0]));
+
+		ListenableFuture<List<ResultSet>> result = daoContext.executeAsyncInOrder(queries);
+
+		verify(future1).addListener(listenerCaptor.capture(), any(Executor.class));
+		listenerCaptor.getValue().run();
+
+		assertThat(result.isDone()).isTrue();
+		verify(session, never()).executeAsync(bs2);
+		assertThat(asyncPermits.availablePermits()).isEqualTo(2);
+	}
 }
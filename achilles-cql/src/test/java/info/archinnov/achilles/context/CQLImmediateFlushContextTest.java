@@ -25,9 +25,12 @@ import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
@@ -36,6 +39,8 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLImmediateFlushContextTest {
@@ -57,6 +62,9 @@ public class CQLImmediateFlushContextTest {
 	@Mock
 	private Query query;
 
+	@Captor
+	private ArgumentCaptor<List<Pair<Query, Object[]>>> queriesCaptor;
+
 	@Before
 	public void setUp() {
 		context = new CQLImmediateFlushContext(daoContext, null);
@@ -162,4 +170,31 @@ public class CQLImmediateFlushContextTest {
 	public void should_exception_when_calling_end_batch() throws Exception {
 		context.endBatch();
 	}
+
+	@Test
+	public void should_flush_async() throws Exception {
+		List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
+		boundStatementWrappers.add(bsWrapper);
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(statement);
+		Whitebox.setInternalState(context, "boundStatementWrappers", boundStatementWrappers);
+		Whitebox.setInternalState(context, "statements", statements);
+
+		Object[] values = new Object[] { 11L };
+		when(bsWrapper.getValues()).thenReturn(values);
+		ListenableFuture<List<ResultSet>> chainFuture = SettableFuture.create();
+		when(daoContext.executeAsyncInOrder(queriesCaptor.capture())).thenReturn(chainFuture);
+
+		ListenableFuture<List<ResultSet>> future = context.flushAsync();
+
+		assertThat(future).isSameAs(chainFuture);
+		List<Pair<Query, Object[]>> queries = queriesCaptor.getValue();
+		assertThat(queries).hasSize(2);
+		assertThat(queries.get(0).left).isSameAs(bs);
+		assertThat(queries.get(0).right).isSameAs(values);
+		assertThat(queries.get(1).left).isSameAs(statement);
+		assertThat(queries.get(1).right).isEmpty();
+		assertThat(boundStatementWrappers).isEmpty();
+		assertThat(statements).isEmpty();
+	}
 }
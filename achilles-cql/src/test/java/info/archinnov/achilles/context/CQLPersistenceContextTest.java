@@ -32,6 +32,7 @@ import info.archinnov.achilles.entity.operations.EntityInitializer;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.proxy.EntityInterceptor;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
@@ -55,6 +56,8 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLPersistenceContextTest {
@@ -148,6 +151,15 @@ public class CQLPersistenceContextTest {
 		assertThat(context.loadProperty(idMeta)).isSameAs(row);
 	}
 
+	@Test
+	public void should_load_properties() throws Exception {
+		Row row = mock(Row.class);
+		List<PropertyMeta> pms = Arrays.asList(idMeta);
+		when(daoContext.loadProperties(context, pms)).thenReturn(row);
+
+		assertThat(context.loadProperties(pms)).isSameAs(row);
+	}
+
 	@Test
 	public void should_bind_for_insert() throws Exception {
 		context.pushInsertStatement();
@@ -171,12 +183,13 @@ public class CQLPersistenceContextTest {
 	}
 
 	@Test
-	public void should_bind_and_execute() throws Exception {
+	public void should_bind_and_execute_slice_query() throws Exception {
+		CQLSliceQuery<CompleteBean> sliceQuery = mock(CQLSliceQuery.class);
 		PreparedStatement ps = mock(PreparedStatement.class);
 		ResultSet rs = mock(ResultSet.class);
 
-		when(daoContext.bindAndExecute(ps, 11L, "a")).thenReturn(rs);
-		ResultSet actual = context.bindAndExecute(ps, 11L, "a");
+		when(daoContext.bindAndExecuteSliceQuery(sliceQuery, ps, 11L, "a")).thenReturn(rs);
+		ResultSet actual = context.bindAndExecuteSliceQuery(sliceQuery, ps, 11L, "a");
 
 		assertThat(actual).isSameAs(rs);
 	}
@@ -357,6 +370,33 @@ public class CQLPersistenceContextTest {
 		verify(flushContext).flush();
 	}
 
+	@Test
+	public void should_persist_async() throws Exception {
+		ListenableFuture<List<ResultSet>> future = Futures.immediateFuture(null);
+		when(flushContext.flushAsync()).thenReturn(future);
+
+		assertThat(context.persistAsync()).isSameAs(future);
+		verify(persister).persist(context);
+	}
+
+	@Test
+	public void should_merge_async() throws Exception {
+		when(merger.merge(context, entity)).thenReturn(entity);
+		ListenableFuture<List<ResultSet>> future = Futures.immediateFuture(null);
+		when(flushContext.flushAsync()).thenReturn(future);
+
+		assertThat(context.mergeAsync(entity).get()).isSameAs(entity);
+	}
+
+	@Test
+	public void should_remove_async() throws Exception {
+		ListenableFuture<List<ResultSet>> future = Futures.immediateFuture(null);
+		when(flushContext.flushAsync()).thenReturn(future);
+
+		assertThat(context.removeAsync()).isSameAs(future);
+		verify(persister).remove(context);
+	}
+
 	@Test
 	public void should_find() throws Exception {
 		when(loader.load(context, CompleteBean.class)).thenReturn(entity);
@@ -0,0 +1,133 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
+import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.BatchType;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.BoundStatement;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CQLCounterCoalescerTest {
+
+	private CQLCounterCoalescer coalescer;
+
+	@Mock
+	private CQLDaoContext daoContext;
+
+	@Mock
+	private BoundStatementWrapper bsWrapper;
+
+	@Mock
+	private BoundStatement bs;
+
+	@Captor
+	private ArgumentCaptor<List<BoundStatementWrapper>> batchCaptor;
+
+	private EntityMeta entityMeta = new EntityMeta();
+
+	private PropertyMeta counterMeta;
+
+	private Object[] boundValues = new Object[] { 1L };
+
+	@Before
+	public void setUp() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID)
+				.accessors().build();
+		counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("count").type(COUNTER)
+				.build();
+		entityMeta.setEntityClass(CompleteBean.class);
+		entityMeta.setIdMeta(idMeta);
+
+		coalescer = new CQLCounterCoalescer(daoContext, 1000, 1000, 2);
+		when(bsWrapper.getBs()).thenReturn(bs);
+		when(bsWrapper.getValues()).thenReturn(boundValues);
+	}
+
+	@Test
+	public void should_sum_pending_deltas_over_consistency_levels() throws Exception {
+		coalescer.add(entityMeta, counterMeta, 10L, null, 2L);
+		coalescer.add(entityMeta, counterMeta, 10L, QUORUM, 3L);
+		coalescer.add(entityMeta, counterMeta, 11L, null, 7L);
+
+		assertThat(coalescer.getPendingDelta(entityMeta, counterMeta, 10L)).isEqualTo(5L);
+		assertThat(coalescer.getPendingDelta(entityMeta, counterMeta, 11L)).isEqualTo(7L);
+	}
+
+	@Test
+	public void should_discard_pending_deltas_of_entity_over_consistency_levels() throws Exception {
+		coalescer.add(entityMeta, counterMeta, 10L, null, 2L);
+		coalescer.add(entityMeta, counterMeta, 10L, QUORUM, 3L);
+		coalescer.add(entityMeta, counterMeta, 11L, null, 7L);
+
+		coalescer.discardPendingDeltas(entityMeta, 10L);
+
+		assertThat(coalescer.getPendingDelta(entityMeta, counterMeta, 10L)).isEqualTo(0L);
+		assertThat(coalescer.getPendingDelta(entityMeta, counterMeta, 11L)).isEqualTo(7L);
+	}
+
+	@Test
+	public void should_execute_single_update_without_batch() throws Exception {
+		when(daoContext.bindForCounterUpdate(entityMeta, counterMeta, 10L, 3L)).thenReturn(bsWrapper);
+
+		coalescer.add(entityMeta, counterMeta, 10L, null, 1L);
+		coalescer.add(entityMeta, counterMeta, 10L, null, 2L);
+		coalescer.flush();
+
+		verify(daoContext).execute(bs, boundValues);
+		verify(daoContext, never()).executeBatch(any(BatchType.class), anyListOf(BoundStatementWrapper.class));
+		verifyZeroInteractions(bs);
+	}
+
+	@Test
+	public void should_batch_updates_by_consistency_level() throws Exception {
+		when(daoContext.bindForCounterUpdate(eq(entityMeta), eq(counterMeta), any(), anyLong())).thenReturn(
+				bsWrapper);
+
+		coalescer.add(entityMeta, counterMeta, 10L, ONE, 1L);
+		coalescer.add(entityMeta, counterMeta, 11L, ONE, 1L);
+		coalescer.add(entityMeta, counterMeta, 12L, ONE, 1L);
+		coalescer.add(entityMeta, counterMeta, 10L, QUORUM, 1L);
+		coalescer.flush();
+
+		verify(daoContext).executeBatch(eq(BatchType.COUNTER), batchCaptor.capture());
+		assertThat(batchCaptor.getValue()).hasSize(2);
+		verify(daoContext, times(2)).execute(bs, boundValues);
+		verify(bs, times(3)).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.ONE);
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+	}
+}
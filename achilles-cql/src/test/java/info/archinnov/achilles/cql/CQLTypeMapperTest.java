@@ -25,7 +25,6 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.Counter;
 
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
@@ -106,9 +105,9 @@ public class CQLTypeMapperTest {
 		Row row = mock(Row.class);
 		when(row.getString("name")).thenReturn("value");
 
-		Method method = getRowMethod(String.class);
+		CQLRowReader reader = getRowReader(String.class);
 
-		assertThat(method.invoke(row, "name")).isEqualTo("value");
+		assertThat(reader.read(row, "name")).isEqualTo("value");
 	}
 
 	@Test
@@ -116,9 +115,19 @@ public class CQLTypeMapperTest {
 		Row row = mock(Row.class);
 		when(row.getString("object")).thenReturn("object_value");
 
-		Method method = getRowMethod(UserBean.class);
+		CQLRowReader reader = getRowReader(UserBean.class);
 
-		assertThat(method.invoke(row, "object")).isEqualTo("object_value");
+		assertThat(reader.read(row, "object")).isEqualTo("object_value");
+	}
+
+	@Test
+	public void should_get_long_value_from_row_by_index() throws Exception {
+		Row row = mock(Row.class);
+		when(row.getLong(2)).thenReturn(10L);
+
+		CQLRowReader reader = getRowReader(long.class);
+
+		assertThat(reader.read(row, 2)).isEqualTo(10L);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -22,6 +22,7 @@ import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
@@ -35,26 +36,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.cassandra.cql3.ColumnIdentifier;
-import org.apache.cassandra.cql3.ColumnSpecification;
-import org.apache.cassandra.db.marshal.LongType;
-import org.apache.cassandra.db.marshal.UTF8Type;
 import org.apache.commons.lang.math.RandomUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.Row;
 import com.google.common.collect.ImmutableMap;
 
+@SuppressWarnings({ "rawtypes", "unchecked" })
 @RunWith(MockitoJUnitRunner.class)
 public class CQLEntityMapperTest {
 
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
 	@InjectMocks
 	private CQLEntityMapper entityMapper;
 
@@ -73,23 +74,25 @@ public class CQLEntityMapperTest {
 	@Mock
 	private EntityMeta entityMeta;
 
-	private Definition def1;
-	private Definition def2;
-
 	private CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().buid();
 
 	@Test
 	public void should_set_eager_properties_to_entity() throws Exception {
 		PropertyMeta pm = mock(PropertyMeta.class);
 		when(pm.isEmbeddedId()).thenReturn(false);
+		when(pm.type()).thenReturn(SIMPLE);
 		when(pm.getPropertyName()).thenReturn("name");
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
+		when(pm.decode((Object) "value")).thenReturn("value");
 
 		List<PropertyMeta> eagerMetas = Arrays.asList(pm);
 
 		when(entityMeta.getEagerMetas()).thenReturn(eagerMetas);
-
-		when(row.isNull("name")).thenReturn(false);
-		when(cqlRowInvoker.invokeOnRowForFields(row, pm)).thenReturn("value");
+		when(row.getColumnDefinitions()).thenReturn(columnDefs);
+		when(columnDefs.contains("name")).thenReturn(true);
+		when(columnDefs.getIndexOf("name")).thenReturn(1);
+		when(row.isNull(1)).thenReturn(false);
+		when(row.getString(1)).thenReturn("value");
 
 		entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
 
@@ -100,18 +103,79 @@ public class CQLEntityMapperTest {
 	public void should_set_null_to_entity_when_no_value_from_row() throws Exception {
 		PropertyMeta pm = mock(PropertyMeta.class);
 		when(pm.isEmbeddedId()).thenReturn(false);
+		when(pm.type()).thenReturn(SIMPLE);
 		when(pm.getPropertyName()).thenReturn("name");
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
 
 		List<PropertyMeta> eagerMetas = Arrays.asList(pm);
 
 		when(entityMeta.getEagerMetas()).thenReturn(eagerMetas);
-
-		when(row.isNull("name")).thenReturn(true);
+		when(row.getColumnDefinitions()).thenReturn(columnDefs);
+		when(columnDefs.contains("name")).thenReturn(true);
+		when(columnDefs.getIndexOf("name")).thenReturn(0);
+		when(row.isNull(0)).thenReturn(true);
 
 		entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
 
 		verify(pm, never()).setValueToField(eq(entity), any());
-		verifyZeroInteractions(cqlRowInvoker);
+		verify(row, never()).getString(0);
+	}
+
+	@Test
+	public void should_resolve_column_indexes_once_per_column_definitions() throws Exception {
+		PropertyMeta pm = mock(PropertyMeta.class);
+		when(pm.isEmbeddedId()).thenReturn(false);
+		when(pm.type()).thenReturn(SIMPLE);
+		when(pm.getPropertyName()).thenReturn("name");
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
+
+		Row otherRow = mock(Row.class);
+		when(entityMeta.getEagerMetas()).thenReturn(Arrays.asList(pm));
+		when(row.getColumnDefinitions()).thenReturn(columnDefs);
+		when(otherRow.getColumnDefinitions()).thenReturn(columnDefs);
+		when(columnDefs.contains("name")).thenReturn(true);
+		when(columnDefs.getIndexOf("name")).thenReturn(0);
+		when(row.getString(0)).thenReturn("value1");
+		when(otherRow.getString(0)).thenReturn("value2");
+
+		entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+		entityMapper.setEagerPropertiesToEntity(otherRow, entityMeta, entity);
+
+		verify(columnDefs, times(1)).getIndexOf("name");
+		verify(pm).decode((Object) "value1");
+		verify(pm).decode((Object) "value2");
+	}
+
+	@Test
+	public void should_reuse_mapping_for_result_sets_with_same_columns() throws Exception {
+		PropertyMeta pm = mock(PropertyMeta.class);
+		when(pm.isEmbeddedId()).thenReturn(false);
+		when(pm.type()).thenReturn(SIMPLE);
+		when(pm.getPropertyName()).thenReturn("name");
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
+
+		Row otherRow = mock(Row.class);
+		ColumnDefinitions otherColumnDefs = mock(ColumnDefinitions.class);
+		when(entityMeta.getEagerMetas()).thenReturn(Arrays.asList(pm));
+		when(row.getColumnDefinitions()).thenReturn(columnDefs);
+		when(otherRow.getColumnDefinitions()).thenReturn(otherColumnDefs);
+		for (ColumnDefinitions defs : Arrays.asList(columnDefs, otherColumnDefs)) {
+			when(defs.size()).thenReturn(2);
+			when(defs.getName(0)).thenReturn("id");
+			when(defs.getName(1)).thenReturn("name");
+			when(defs.contains("name")).thenReturn(true);
+			when(defs.getIndexOf("name")).thenReturn(1);
+		}
+		when(row.getString(1)).thenReturn("value1");
+		when(otherRow.getString(1)).thenReturn("value2");
+
+		entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+		new CQLEntityMapper().setEagerPropertiesToEntity(otherRow, entityMeta, entity);
+
+		verify(columnDefs).getIndexOf("name");
+		verify(otherColumnDefs, never()).getIndexOf("name");
+		verify(pm).decode((Object) "value1");
+		verify(pm).decode((Object) "value2");
 	}
 
 	@Test
@@ -133,7 +197,7 @@ public class CQLEntityMapperTest {
 
 		entityMapper.setPropertyToEntity(row, pm, entity);
 
-		verify(invoker).setValueToField(entity, pm.getSetter(), embeddedKey);
+		verify(invoker).setValueToField(entity, pm, embeddedKey);
 	}
 
 	@Test
@@ -143,26 +207,25 @@ public class CQLEntityMapperTest {
 		PropertyMeta valueMeta = mock(PropertyMeta.class);
 
 		when(idMeta.isEmbeddedId()).thenReturn(false);
+		when(idMeta.type()).thenReturn(ID);
+		when((Class) idMeta.getCassandraValueClass()).thenReturn(Long.class);
+		when(idMeta.decode((Object) id)).thenReturn(id);
+		when(valueMeta.type()).thenReturn(SIMPLE);
+		when((Class) valueMeta.getCassandraValueClass()).thenReturn(String.class);
+		when(valueMeta.decode((Object) "value")).thenReturn("value");
 
 		Map<String, PropertyMeta> propertiesMap = ImmutableMap.of("id", idMeta, "value", valueMeta);
 
-		ColumnIdentifier iden1 = new ColumnIdentifier(UTF8Type.instance.decompose("id"), UTF8Type.instance);
-		ColumnSpecification spec1 = new ColumnSpecification("keyspace", "id", iden1, LongType.instance);
-
-		ColumnIdentifier iden2 = new ColumnIdentifier(UTF8Type.instance.decompose("value"), UTF8Type.instance);
-		ColumnSpecification spec2 = new ColumnSpecification("keyspace", "value", iden2, UTF8Type.instance);
-
-		def1 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec1);
-		def2 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec2);
-
 		when(row.getColumnDefinitions()).thenReturn(columnDefs);
-		when(columnDefs.iterator()).thenReturn(Arrays.asList(def1, def2).iterator());
+		when(columnDefs.size()).thenReturn(3);
+		when(columnDefs.getName(0)).thenReturn("id");
+		when(columnDefs.getName(1)).thenReturn("unmapped");
+		when(columnDefs.getName(2)).thenReturn("value");
+		when(row.getLong(0)).thenReturn(id);
+		when(row.getString(2)).thenReturn("value");
 
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
 		when(entityMeta.instanciate()).thenReturn(entity);
-		when(cqlRowInvoker.invokeOnRowForFields(row, idMeta)).thenReturn(id);
-		when(cqlRowInvoker.invokeOnRowForFields(row, valueMeta)).thenReturn("value");
-		when(entityMeta.instanciate()).thenReturn(entity);
 
 		CompleteBean actual = entityMapper.mapRowToEntityWithPrimaryKey(CompleteBean.class, entityMeta, row,
 				propertiesMap, true);
@@ -170,23 +233,32 @@ public class CQLEntityMapperTest {
 		assertThat(actual).isSameAs(entity);
 		verify(idMeta).setValueToField(entity, id);
 		verify(valueMeta).setValueToField(entity, "value");
+		verify(row, never()).getString(1);
 	}
 
 	@Test
 	public void should_map_row_to_entity_with_primary_key() throws Exception {
 		ClusteredEntity entity = new ClusteredEntity();
 		EmbeddedKey embeddedKey = new EmbeddedKey();
+		Long userId = RandomUtils.nextLong();
 		PropertyMeta idMeta = mock(PropertyMeta.class);
 
 		when(idMeta.isEmbeddedId()).thenReturn(true);
+		when(idMeta.getComponentNames()).thenReturn(Arrays.asList("userid", "name"));
+		when(idMeta.getComponentClasses()).thenReturn(Arrays.<Class<?>> asList(Long.class, String.class));
+		when(idMeta.decodeFromComponents(Arrays.<Object> asList(userId, "name"))).thenReturn(embeddedKey);
 
 		Map<String, PropertyMeta> propertiesMap = new HashMap<String, PropertyMeta>();
 
 		when(row.getColumnDefinitions()).thenReturn(columnDefs);
-		when(columnDefs.iterator()).thenReturn(Arrays.<Definition> asList().iterator());
+		when(columnDefs.contains("userid")).thenReturn(true);
+		when(columnDefs.getIndexOf("userid")).thenReturn(0);
+		when(columnDefs.contains("name")).thenReturn(true);
+		when(columnDefs.getIndexOf("name")).thenReturn(1);
+		when(row.getLong(0)).thenReturn(userId);
+		when(row.getString(1)).thenReturn("name");
 		when(entityMeta.instanciate()).thenReturn(entity);
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
-		when(cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, idMeta, true)).thenReturn(embeddedKey);
 
 		ClusteredEntity actual = entityMapper.mapRowToEntityWithPrimaryKey(ClusteredEntity.class, entityMeta, row,
 				propertiesMap, true);
@@ -195,6 +267,28 @@ public class CQLEntityMapperTest {
 		verify(idMeta).setValueToField(entity, embeddedKey);
 	}
 
+	@Test
+	public void should_exception_when_compound_primary_key_component_missing_for_managed_entity()
+			throws Exception {
+		PropertyMeta idMeta = mock(PropertyMeta.class);
+
+		when(idMeta.isEmbeddedId()).thenReturn(true);
+		when(idMeta.getComponentNames()).thenReturn(Arrays.asList("userid"));
+		when(idMeta.getComponentClasses()).thenReturn(Arrays.<Class<?>> asList(Long.class));
+		when(idMeta.getEntityClassName()).thenReturn("ClusteredEntity");
+
+		when(row.getColumnDefinitions()).thenReturn(columnDefs);
+		when(columnDefs.contains("userid")).thenReturn(false);
+		when(entityMeta.instanciate()).thenReturn(new ClusteredEntity());
+		when(entityMeta.getIdMeta()).thenReturn(idMeta);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot retrieve compound primary key for entity class 'ClusteredEntity' from CQL Row");
+
+		entityMapper.mapRowToEntityWithPrimaryKey(ClusteredEntity.class, entityMeta, row,
+				new HashMap<String, PropertyMeta>(), true);
+	}
+
 	@Test
 	public void should_not_map_row_to_entity_with_primary_key_when_entity_null() {
 		ClusteredEntity actual = entityMapper.mapRowToEntityWithPrimaryKey(ClusteredEntity.class, entityMeta, row,
@@ -0,0 +1,130 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import com.google.common.collect.ImmutableMap;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+@RunWith(MockitoJUnitRunner.class)
+public class CQLRowMappingTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private EntityMeta meta;
+
+	@Mock
+	private PropertyMeta pm;
+
+	@Mock
+	private Row row;
+
+	@Mock
+	private ColumnDefinitions columnDefs;
+
+	private CompleteBean entity = new CompleteBean();
+
+	@Before
+	public void setUp() {
+		when(pm.getPropertyName()).thenReturn("friends");
+		when(meta.getEagerMetas()).thenReturn(Arrays.asList(pm));
+		when(columnDefs.contains("friends")).thenReturn(true);
+		when(columnDefs.getIndexOf("friends")).thenReturn(2);
+	}
+
+	@Test
+	public void should_map_list_property_by_index() throws Exception {
+		List<String> friends = Arrays.asList("bob", "alice");
+		when(pm.type()).thenReturn(LIST);
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
+		when(row.getList(2, String.class)).thenReturn(friends);
+		when(pm.decode(friends)).thenReturn((List) friends);
+
+		CQLRowMapping.forEagerProperties(meta, columnDefs).mapRow(row, entity, true);
+
+		verify(pm).setValueToField(entity, friends);
+	}
+
+	@Test
+	public void should_map_map_property_by_index() throws Exception {
+		Map<Integer, String> preferences = ImmutableMap.of(1, "FR");
+		when(pm.type()).thenReturn(MAP);
+		when((Class) pm.getCassandraKeyClass()).thenReturn(Integer.class);
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
+		when(row.getMap(2, Integer.class, String.class)).thenReturn(preferences);
+		when(pm.decode(preferences)).thenReturn((Map) preferences);
+
+		CQLRowMapping.forEagerProperties(meta, columnDefs).mapRow(row, entity, true);
+
+		verify(pm).setValueToField(entity, preferences);
+	}
+
+	@Test
+	public void should_skip_property_absent_from_column_definitions() throws Exception {
+		when(pm.type()).thenReturn(SIMPLE);
+		when(columnDefs.contains("friends")).thenReturn(false);
+
+		CQLRowMapping.forEagerProperties(meta, columnDefs).mapRow(row, entity, true);
+
+		verifyZeroInteractions(row);
+		verify(pm, never()).setValueToField(any(), any());
+	}
+
+	@Test
+	public void should_skip_counter_property() throws Exception {
+		when(pm.type()).thenReturn(COUNTER);
+
+		CQLRowMapping.forEagerProperties(meta, columnDefs).mapRow(row, entity, true);
+
+		verifyZeroInteractions(row);
+	}
+
+	@Test
+	public void should_exception_when_cannot_read_property() throws Exception {
+		when(pm.type()).thenReturn(SIMPLE);
+		when(pm.getEntityClassName()).thenReturn("CompleteBean");
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
+		when(row.getString(2)).thenThrow(new RuntimeException());
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot retrieve property 'friends' for entity class 'CompleteBean' from CQL Row");
+
+		CQLRowMapping.forEagerProperties(meta, columnDefs).mapRow(row, entity, true);
+	}
+}
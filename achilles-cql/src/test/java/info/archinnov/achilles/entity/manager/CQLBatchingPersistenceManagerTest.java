@@ -26,6 +26,7 @@ import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.test.integration.entity.CompleteBean;
+import info.archinnov.achilles.type.BatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.OptionsBuilder;
 
@@ -72,7 +73,8 @@ public class CQLBatchingPersistenceManagerTest {
 	@Before
 	public void setUp() {
 		when(configContext.getConsistencyPolicy()).thenReturn(consistencyPolicy);
-		manager = new CQLBatchingPersistenceManager(null, contextFactory, daoContext, configContext);
+		manager = new CQLBatchingPersistenceManager(null, contextFactory, daoContext, configContext, BatchType.LOGGED,
+				100);
 		Whitebox.setInternalState(manager, CQLBatchingFlushContext.class, flushContext);
 	}
 
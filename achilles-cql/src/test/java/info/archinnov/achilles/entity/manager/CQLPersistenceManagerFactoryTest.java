@@ -20,12 +20,17 @@ import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+import com.datastax.driver.core.Cluster;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLPersistenceManagerFactoryTest {
@@ -46,4 +51,18 @@ public class CQLPersistenceManagerFactoryTest {
 		CQLPersistenceManager manager = pmf.createPersistenceManager();
 		assertThat(manager).isNotNull();
 	}
+
+	@Test
+	public void should_flush_counters_and_shutdown_cluster_on_close() throws Exception {
+		Cluster cluster = mock(Cluster.class);
+		CQLCounterCoalescer coalescer = mock(CQLCounterCoalescer.class);
+		Whitebox.setInternalState(pmf, Cluster.class, cluster);
+		Whitebox.setInternalState(pmf, "counterCoalescer", coalescer);
+
+		pmf.close();
+
+		InOrder inOrder = inOrder(coalescer, cluster);
+		inOrder.verify(coalescer).shutdown();
+		inOrder.verify(cluster).shutdown();
+	}
 }
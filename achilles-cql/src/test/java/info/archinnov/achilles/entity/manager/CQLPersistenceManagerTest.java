@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.manager;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.compound.CompoundKeyValidator;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
@@ -27,8 +28,11 @@ import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.operations.CQLEntityLoader;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
+import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.entity.operations.SliceQueryExecutor;
+import info.archinnov.achilles.proxy.CQLEntityInterceptor;
 import info.archinnov.achilles.query.cql.CQLNativeQueryBuilder;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryBuilder;
@@ -37,9 +41,12 @@ import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -49,8 +56,11 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLPersistenceManagerTest {
@@ -77,6 +87,12 @@ public class CQLPersistenceManagerTest {
 	@Mock
 	private CQLTypedQueryValidator typedQueryValidator;
 
+	@Mock
+	private EntityValidator<CQLPersistenceContext> entityValidator;
+
+	@Mock
+	private CQLPersistenceContext context;
+
 	private Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
 
 	private EntityMeta meta;
@@ -107,6 +123,7 @@ public class CQLPersistenceManagerTest {
 		Whitebox.setInternalState(manager, CQLTypedQueryValidator.class, typedQueryValidator);
 
 		manager.setEntityMetaMap(entityMetaMap);
+		manager.setEntityValidator(entityValidator);
 		entityMetaMap.put(CompleteBean.class, meta);
 	}
 
@@ -155,6 +172,14 @@ public class CQLPersistenceManagerTest {
 		assertThat(Whitebox.getInternalState(builder, String.class)).isEqualTo("queryString");
 	}
 
+	@Test
+	public void should_return_native_query_builder_with_bound_values() throws Exception {
+		CQLNativeQueryBuilder builder = manager.nativeQuery("SELECT * FROM test WHERE id=?", 11L);
+
+		assertThat(Whitebox.getInternalState(builder, String.class)).isEqualTo("SELECT * FROM test WHERE id=?");
+		assertThat(Arrays.asList((Object[]) Whitebox.getInternalState(builder, Object[].class))).containsOnly(11L);
+	}
+
 	@Test
 	public void should_return_typed_query_builder() throws Exception {
 
@@ -165,10 +190,21 @@ public class CQLPersistenceManagerTest {
 		verify(typedQueryValidator).validateTypedQuery(CompleteBean.class, "queryString", meta);
 
 		assertThat(Whitebox.getInternalState(builder, CQLDaoContext.class)).isSameAs(daoContext);
-		assertThat(Whitebox.getInternalState(builder, String.class)).isEqualTo("querystring");
+		assertThat(Whitebox.getInternalState(builder, String.class)).isEqualTo("queryString");
 		assertThat(Whitebox.getInternalState(builder, Class.class)).isEqualTo(CompleteBean.class);
 	}
 
+	@Test
+	public void should_return_typed_query_builder_with_bound_values() throws Exception {
+
+		CQLTypedQueryBuilder<CompleteBean> builder = manager.typedQuery(CompleteBean.class,
+				"SELECT id FROM CompleteBean WHERE id=?", 11L);
+
+		verify(typedQueryValidator).validateTypedQuery(CompleteBean.class, "SELECT id FROM CompleteBean WHERE id=?",
+				meta);
+		assertThat(Arrays.asList((Object[]) Whitebox.getInternalState(builder, Object[].class))).containsOnly(11L);
+	}
+
 	@Test
 	public void should_return_raw_typed_query_builder() throws Exception {
 
@@ -179,7 +215,7 @@ public class CQLPersistenceManagerTest {
 		verify(typedQueryValidator).validateRawTypedQuery(CompleteBean.class, "queryString", meta);
 
 		assertThat(Whitebox.getInternalState(builder, CQLDaoContext.class)).isSameAs(daoContext);
-		assertThat(Whitebox.getInternalState(builder, String.class)).isEqualTo("querystring");
+		assertThat(Whitebox.getInternalState(builder, String.class)).isEqualTo("queryString");
 		assertThat(Whitebox.getInternalState(builder, Class.class)).isEqualTo(CompleteBean.class);
 	}
 
@@ -192,4 +228,71 @@ public class CQLPersistenceManagerTest {
 
 		assertThat(actual).isSameAs(session);
 	}
+
+	@Test
+	public void should_persist_async() throws Exception {
+		ListenableFuture<List<ResultSet>> future = Futures.immediateFuture(null);
+		when(contextFactory.newContext(eq(entity), any(Options.class))).thenReturn(context);
+		when(context.persistAsync()).thenReturn(future);
+
+		CompleteBean persisted = manager.persistAsync(entity).get();
+
+		assertThat(persisted).isSameAs(entity);
+		verify(entityValidator).validateEntity(entity, entityMetaMap);
+	}
+
+	@Test
+	public void should_merge_async() throws Exception {
+		ListenableFuture<CompleteBean> future = Futures.immediateFuture(entity);
+		when(contextFactory.newContext(eq(entity), any(Options.class))).thenReturn(context);
+		when(context.mergeAsync(entity)).thenReturn(future);
+
+		assertThat(manager.mergeAsync(entity)).isSameAs(future);
+		verify(entityValidator).validateEntity(entity, entityMetaMap);
+	}
+
+	@Test
+	public void should_remove_async() throws Exception {
+		ListenableFuture<List<ResultSet>> future = Futures.immediateFuture(null);
+		when(contextFactory.newContext(eq(entity), any(Options.class))).thenReturn(context);
+		when(context.removeAsync()).thenReturn(future);
+
+		assertThat(manager.removeAsync(entity).get()).isNull();
+		verify(proxifier).ensureProxy(entity);
+	}
+
+	@Test
+	public void should_remove_by_id_async() throws Exception {
+		ListenableFuture<List<ResultSet>> future = Futures.immediateFuture(null);
+		when(contextFactory.newContext(eq(CompleteBean.class), eq(entity.getId()), any(Options.class))).thenReturn(
+				context);
+		when(context.getIdMeta()).thenReturn(idMeta);
+		when(context.removeAsync()).thenReturn(future);
+
+		assertThat(manager.removeByIdAsync(CompleteBean.class, entity.getId()).get()).isNull();
+		verify(entityValidator).validatePrimaryKey(idMeta, entity.getId());
+	}
+
+	@Test
+	public void should_load_counters_by_chunks() throws Exception {
+		CQLEntityLoader loader = mock(CQLEntityLoader.class);
+		Whitebox.setInternalState(manager, CQLEntityLoader.class, loader);
+		CQLEntityInterceptor<CompleteBean> interceptor = mock(CQLEntityInterceptor.class);
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().buid();
+		CQLPersistenceContext context2 = mock(CQLPersistenceContext.class);
+		CQLEntityInterceptor<CompleteBean> interceptor2 = mock(CQLEntityInterceptor.class);
+
+		when(configContext.getBulkFindChunkSize()).thenReturn(1);
+		when(proxifier.getInterceptor(entity)).thenReturn(interceptor);
+		when(proxifier.getInterceptor(entity2)).thenReturn(interceptor2);
+		when(interceptor.getContext()).thenReturn(context);
+		when(interceptor2.getContext()).thenReturn(context2);
+
+		manager.loadCounters(Arrays.asList(entity, entity2), ConsistencyLevel.QUORUM);
+
+		verify(entityValidator).validateEntity(entity, entityMetaMap);
+		verify(proxifier).ensureProxy(entity2);
+		verify(loader).loadCounters(Arrays.asList(context), ConsistencyLevel.QUORUM);
+		verify(loader).loadCounters(Arrays.asList(context2), ConsistencyLevel.QUORUM);
+	}
 }
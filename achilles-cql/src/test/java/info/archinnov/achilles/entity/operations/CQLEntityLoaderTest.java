@@ -28,6 +28,9 @@ import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.Counter;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -82,13 +85,26 @@ public class CQLEntityLoaderTest {
 	public void should_load_lazy_entity() throws Exception {
 
 		when(context.isLoadEagerFields()).thenReturn(false);
-		when(invoker.instanciate(CompleteBean.class)).thenReturn(entity);
+		when(invoker.instanciate(CompleteBean.class, null)).thenReturn(entity);
 
 		CompleteBean actual = loader.load(context, CompleteBean.class);
 
 		assertThat(actual).isSameAs(entity);
 
-		verify(invoker).setValueToField(actual, idMeta.getSetter(), primaryKey);
+		verify(invoker).setValueToField(actual, idMeta, primaryKey);
+	}
+
+	@Test
+	public void should_load_many_entities() throws Exception {
+		CQLPersistenceContext context2 = mock(CQLPersistenceContext.class);
+		List<CQLPersistenceContext> contexts = Arrays.asList(context, context2);
+		when(loaderImpl.eagerLoadEntities(contexts, CompleteBean.class)).thenReturn(
+				Arrays.<CompleteBean> asList(entity, null));
+
+		List<CompleteBean> actual = loader.load(contexts, CompleteBean.class);
+
+		assertThat(actual).containsExactly(entity, null);
+		verify(invoker).setValueToField(entity, idMeta, primaryKey);
 	}
 
 	@Test
@@ -100,7 +116,7 @@ public class CQLEntityLoaderTest {
 
 		assertThat(actual).isSameAs(entity);
 
-		verify(invoker).setValueToField(actual, idMeta.getSetter(), primaryKey);
+		verify(invoker).setValueToField(actual, idMeta, primaryKey);
 	}
 
 	@Test
@@ -124,4 +140,14 @@ public class CQLEntityLoaderTest {
 
 		verifyZeroInteractions(loaderImpl);
 	}
+
+	@Test
+	public void should_load_properties_into_object_except_counters() throws Exception {
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.valueClass(String.class).type(LAZY_SIMPLE).build();
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Counter.class).type(COUNTER).build();
+
+		loader.loadPropertiesIntoObject(context, entity, Arrays.asList(nameMeta, counterMeta));
+
+		verify(loaderImpl).loadPropertiesIntoEntity(context, Arrays.asList(nameMeta), entity);
+	}
 }
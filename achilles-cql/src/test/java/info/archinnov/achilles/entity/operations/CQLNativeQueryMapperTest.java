@@ -186,6 +186,13 @@ public class CQLNativeQueryMapperTest {
 		verifyZeroInteractions(cqlRowInvoker);
 	}
 
+	@Test
+	public void should_return_null_when_mapping_row_without_column() throws Exception {
+		when(row.getColumnDefinitions()).thenReturn(null);
+
+		assertThat(mapper.mapRow(row)).isNull();
+	}
+
 	@Test
 	public void should_return_empty_list_when_no_row() throws Exception {
 		List<Map<String, Object>> result = mapper.mapRows(new ArrayList<Row>());
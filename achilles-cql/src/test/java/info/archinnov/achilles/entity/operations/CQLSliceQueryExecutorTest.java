@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.entity.operations;
 
+import static info.archinnov.achilles.statement.cache.CacheType.*;
 import static info.archinnov.achilles.type.BoundingMode.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static info.archinnov.achilles.type.OrderingMode.*;
@@ -49,12 +50,15 @@ import org.junit.runner.RunWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.Query;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLSliceQueryExecutorTest {
@@ -121,6 +125,12 @@ public class CQLSliceQueryExecutorTest {
 
 		when(idMeta.getComponentNames()).thenReturn(Arrays.asList("id", "name"));
 		when(idMeta.getComponentClasses()).thenReturn(Arrays.<Class<?>> asList(Long.class, String.class));
+		when(idMeta.encodeToComponents(anyListOf(Object.class))).thenAnswer(new Answer<List<Object>>() {
+			@Override
+			public List<Object> answer(InvocationOnMock invocation) throws Throwable {
+				return (List<Object>) invocation.getArguments()[0];
+			}
+		});
 
 		sliceQuery = new SliceQuery<ClusteredEntity>(ClusteredEntity.class, meta, partitionComponents, clusteringsFrom,
 				clusteringsTo, ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit, batchSize, true);
@@ -130,14 +140,17 @@ public class CQLSliceQueryExecutorTest {
 	@Test
 	public void should_get_clustered_entities() throws Exception {
 
-		Query query = mock(Query.class);
-		when(generator.generateSelectSliceQuery(anySliceQuery(), eq(limit))).thenReturn(query);
+		Statement statement = mock(Statement.class);
+		when(generator.generateSelectSliceQuery(anySliceQuery(), eq(limit))).thenReturn(statement);
 
 		Row row = mock(Row.class);
 		List<Row> rows = Arrays.asList(row);
-		when(daoContext.execute(query).all()).thenReturn(rows);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(daoContext.executeSliceQuery(anySliceQuery(), eq(statement), eq(SLICE_QUERY_SELECT), eq(partitionKey),
+				eq("name1"), eq("name2"))).thenReturn(resultSet);
+		when(resultSet.all()).thenReturn(rows);
 
-		when(invoker.instanciate(ClusteredEntity.class)).thenReturn(entity);
+		when(invoker.instanciate(ClusteredEntity.class, null)).thenReturn(entity);
 		when(contextFactory.newContext(entity)).thenReturn(context);
 		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
 
@@ -147,12 +160,18 @@ public class CQLSliceQueryExecutorTest {
 
 	@Test
 	public void should_create_iterator_for_clustered_entities() throws Exception {
-		Query query = mock(Query.class);
-		when(generator.generateSelectSliceQuery(anySliceQuery(), eq(limit))).thenReturn(query);
-		when(daoContext.execute(query).iterator()).thenReturn(iterator);
-
+		Statement statement = mock(Statement.class);
+		when(generator.generateSelectSliceQuery(anySliceQuery(), eq(batchSize))).thenReturn(statement);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(daoContext.executeSliceQuery(anySliceQuery(), eq(statement), eq(SLICE_QUERY_SELECT), eq(partitionKey),
+				eq("name1"), eq("name2"))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(iterator);
+
+		Statement iteratorStatement = mock(Statement.class);
 		PreparedStatement ps = mock(PreparedStatement.class);
-		when(generator.generateIteratorSliceQuery(anySliceQuery(), eq(daoContext))).thenReturn(ps);
+		when(generator.generateIteratorSliceQuery(anySliceQuery())).thenReturn(iteratorStatement);
+		when(daoContext.prepareSliceQuery(anySliceQuery(), eq(iteratorStatement), eq(SLICE_QUERY_ITERATOR)))
+				.thenReturn(ps);
 		when(contextFactory.newContextForSliceQuery(ClusteredEntity.class, partitionComponents, LOCAL_QUORUM))
 				.thenReturn(context);
 
@@ -160,6 +179,8 @@ public class CQLSliceQueryExecutorTest {
 
 		assertThat(iter).isNotNull();
 		assertThat(iter).isInstanceOf(CQLSliceQueryIterator.class);
+		assertThat(Whitebox.getInternalState(iter, Iterator.class)).isSameAs(iterator);
+		assertThat(Whitebox.getInternalState(iter, PreparedStatement.class)).isSameAs(ps);
 	}
 
 	@Test
@@ -168,12 +189,12 @@ public class CQLSliceQueryExecutorTest {
 				Arrays.<Object> asList(), Arrays.<Object> asList(), ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit,
 				batchSize, false);
 
-		Query query = mock(Query.class);
-		when(generator.generateRemoveSliceQuery(anySliceQuery())).thenReturn(query);
+		Statement statement = mock(Statement.class);
+		when(generator.generateRemoveSliceQuery(anySliceQuery())).thenReturn(statement);
 
 		executor.remove(sliceQuery);
 
-		verify(daoContext).execute(query);
+		verify(daoContext).executeSliceQuery(anySliceQuery(), eq(statement), eq(SLICE_QUERY_DELETE), eq(partitionKey));
 
 	}
 
@@ -0,0 +1,196 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import static info.archinnov.achilles.query.scan.TokenPartitioner.*;
+import static info.archinnov.achilles.type.ConsistencyLevel.ONE;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.context.CQLPersistenceContext;
+import info.archinnov.achilles.context.CQLPersistenceContextFactory;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.query.scan.ScanQuery;
+import info.archinnov.achilles.query.scan.TokenRange;
+import info.archinnov.achilles.statement.CQLStatementGenerator;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.powermock.reflect.Whitebox;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CQLTableScanExecutorTest {
+
+	private CQLTableScanExecutor executor;
+
+	@Mock
+	private CQLPersistenceContextFactory contextFactory;
+
+	@Mock
+	private CQLDaoContext daoContext;
+
+	@Mock
+	private CQLStatementGenerator generator;
+
+	@Mock
+	private CQLEntityMapper mapper;
+
+	@Mock
+	private CQLEntityProxifier proxifier;
+
+	@Mock
+	private EntityMeta meta;
+
+	@Mock
+	private ScanConsumer<CompleteBean> consumer;
+
+	private TokenRange range = new TokenRange(BigInteger.valueOf(-100), BigInteger.valueOf(100));
+
+	private ScanQuery<CompleteBean> rawQuery;
+
+	@Before
+	public void setUp() {
+		executor = new CQLTableScanExecutor(contextFactory, daoContext);
+		Whitebox.setInternalState(executor, CQLStatementGenerator.class, generator);
+		Whitebox.setInternalState(executor, CQLEntityMapper.class, mapper);
+		Whitebox.setInternalState(executor, "proxifier", proxifier);
+
+		when(meta.instanciate()).thenAnswer(new Answer<CompleteBean>() {
+			@Override
+			public CompleteBean answer(InvocationOnMock invocation) {
+				return new CompleteBean();
+			}
+		});
+		when(generator.generateScanQuery(meta, 2)).thenReturn("scan");
+		rawQuery = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 4, 2, ONE, false);
+	}
+
+	@Test
+	public void should_scan_range_over_several_pages_continuing_from_last_token() throws Exception {
+		Row row1 = murmur3Row(-50L), row2 = murmur3Row(-10L), row3 = murmur3Row(40L);
+		ResultSet page1 = resultSet(row1, row2);
+		ResultSet page2 = resultSet(row3);
+		when(daoContext.executeScanQuery("scan", ONE, -100L, 100L)).thenReturn(page1);
+		when(daoContext.executeScanQuery("scan", ONE, -10L, 100L)).thenReturn(page2);
+
+		executor.scanRange(rawQuery, MURMUR3, range, consumer);
+
+		InOrder inOrder = inOrder(daoContext, mapper);
+		inOrder.verify(daoContext).executeScanQuery("scan", ONE, -100L, 100L);
+		inOrder.verify(mapper).setEagerPropertiesToEntity(eq(row1), eq(meta), any(CompleteBean.class));
+		inOrder.verify(mapper).setEagerPropertiesToEntity(eq(row2), eq(meta), any(CompleteBean.class));
+		inOrder.verify(daoContext).executeScanQuery("scan", ONE, -10L, 100L);
+		inOrder.verify(mapper).setEagerPropertiesToEntity(eq(row3), eq(meta), any(CompleteBean.class));
+		verify(consumer, times(3)).consume(any(CompleteBean.class));
+		verifyNoMoreInteractions(daoContext);
+	}
+
+	@Test
+	public void should_stop_on_empty_page_after_full_page() throws Exception {
+		Row row1 = murmur3Row(-50L), row2 = murmur3Row(-10L);
+		ResultSet page1 = resultSet(row1, row2);
+		ResultSet page2 = resultSet();
+		when(daoContext.executeScanQuery("scan", ONE, -100L, 100L)).thenReturn(page1);
+		when(daoContext.executeScanQuery("scan", ONE, -10L, 100L)).thenReturn(page2);
+
+		executor.scanRange(rawQuery, MURMUR3, range, consumer);
+
+		verify(daoContext).executeScanQuery("scan", ONE, -100L, 100L);
+		verify(daoContext).executeScanQuery("scan", ONE, -10L, 100L);
+		verifyNoMoreInteractions(daoContext);
+		verify(consumer, times(2)).consume(any(CompleteBean.class));
+	}
+
+	@Test
+	public void should_scan_empty_range_with_one_query() throws Exception {
+		ResultSet page = resultSet();
+		when(daoContext.executeScanQuery("scan", ONE, -100L, 100L)).thenReturn(page);
+
+		executor.scanRange(rawQuery, MURMUR3, range, consumer);
+
+		verify(daoContext).executeScanQuery("scan", ONE, -100L, 100L);
+		verifyNoMoreInteractions(daoContext);
+		verifyZeroInteractions(consumer, mapper);
+	}
+
+	@Test
+	public void should_continue_from_varint_token_with_random_partitioner() throws Exception {
+		Row row1 = mock(Row.class), row2 = mock(Row.class);
+		when(row1.getVarint(0)).thenReturn(BigInteger.valueOf(-20));
+		when(row2.getVarint(0)).thenReturn(BigInteger.valueOf(30));
+		ResultSet page1 = resultSet(row1, row2);
+		ResultSet page2 = resultSet();
+		when(daoContext.executeScanQuery("scan", ONE, BigInteger.valueOf(-100), BigInteger.valueOf(100))).thenReturn(
+				page1);
+		when(daoContext.executeScanQuery("scan", ONE, BigInteger.valueOf(30), BigInteger.valueOf(100))).thenReturn(
+				page2);
+
+		executor.scanRange(rawQuery, RANDOM, range, consumer);
+
+		verify(daoContext).executeScanQuery("scan", ONE, BigInteger.valueOf(30), BigInteger.valueOf(100));
+		verify(consumer, times(2)).consume(any(CompleteBean.class));
+	}
+
+	@Test
+	public void should_pass_proxified_entities_when_managed() throws Exception {
+		ScanQuery<CompleteBean> managedQuery = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 4, 2, ONE, true);
+		Row row = murmur3Row(-50L);
+		ResultSet page = resultSet(row);
+		CQLPersistenceContext context = mock(CQLPersistenceContext.class);
+		CompleteBean proxy = new CompleteBean();
+		List<Method> eagerGetters = Collections.emptyList();
+		when(meta.getEagerGetters()).thenReturn(eagerGetters);
+		when(daoContext.executeScanQuery("scan", ONE, -100L, 100L)).thenReturn(page);
+		when(contextFactory.newContext(any(CompleteBean.class))).thenReturn(context);
+		when(proxifier.buildProxy(any(CompleteBean.class), eq(context), any(Set.class))).thenReturn(proxy);
+
+		executor.scanRange(managedQuery, MURMUR3, range, consumer);
+
+		verify(consumer).consume(proxy);
+	}
+
+	private Row murmur3Row(long token) {
+		Row row = mock(Row.class);
+		when(row.getLong(0)).thenReturn(token);
+		return row;
+	}
+
+	private ResultSet resultSet(Row... rows) {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.all()).thenReturn(Arrays.asList(rows));
+		return resultSet;
+	}
+}
@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.entity.operations.impl;
 
+import static info.archinnov.achilles.counter.AchillesCounter.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,6 +33,8 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,8 +50,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLLoaderImplTest {
@@ -108,6 +114,88 @@ public class CQLLoaderImplTest {
 		assertThat(actual).isInstanceOf(CompleteBean.class);
 
 		verify(mapper).setEagerPropertiesToEntity(row, entityMeta, actual);
+		verify(context).putInCache(actual);
+	}
+
+	@Test
+	public void should_eager_load_entity_from_cache() throws Exception {
+		CompleteBean entity = new CompleteBean();
+		when(context.loadFromCache()).thenReturn(entity);
+
+		CompleteBean actual = loaderImpl.eagerLoadEntity(context, CompleteBean.class);
+
+		assertThat(actual).isSameAs(entity);
+		verify(context, never()).eagerLoadEntity();
+		verifyZeroInteractions(mapper);
+	}
+
+	@Test
+	public void should_eager_load_many_entities_asynchronously() throws Exception {
+		CQLPersistenceContext context2 = mock(CQLPersistenceContext.class);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		ResultSetFuture future2 = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		ResultSet resultSet2 = mock(ResultSet.class);
+		CompleteBean entity = new CompleteBean();
+
+		when(context.eagerLoadEntityAsync()).thenReturn(future);
+		when(context2.eagerLoadEntityAsync()).thenReturn(future2);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(future2.getUninterruptibly()).thenReturn(resultSet2);
+		when(resultSet.one()).thenReturn(row);
+		when(resultSet2.one()).thenReturn(null);
+		when(entityMeta.instanciate()).thenReturn(entity);
+
+		List<CompleteBean> actual = loaderImpl.eagerLoadEntities(Arrays.asList(context, context2), CompleteBean.class);
+
+		assertThat(actual).containsExactly(entity, null);
+		verify(mapper).setEagerPropertiesToEntity(row, entityMeta, entity);
+	}
+
+	@Test
+	public void should_load_counters_of_many_entities_asynchronously() throws Exception {
+		CQLPersistenceContext context2 = mock(CQLPersistenceContext.class);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		ResultSetFuture future2 = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		ResultSet resultSet2 = mock(ResultSet.class);
+		Row row2 = mock(Row.class);
+
+		when(context2.getEntityMeta()).thenReturn(entityMeta);
+		when(context.loadCountersAsync(QUORUM)).thenReturn(future);
+		when(context2.loadCountersAsync(QUORUM)).thenReturn(future2);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(future2.getUninterruptibly()).thenReturn(resultSet2);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row2).iterator());
+		when(resultSet2.iterator()).thenReturn(Collections.<Row> emptyList().iterator());
+		when(row.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("count");
+		when(row.getLong(CQL_COUNTER_VALUE)).thenReturn(10L);
+		when(row2.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("version");
+		when(row2.getLong(CQL_COUNTER_VALUE)).thenReturn(3L);
+
+		loaderImpl.loadCounters(Arrays.asList(context, context2), QUORUM);
+
+		verify(context).cacheCounterValues(ImmutableMap.of("count", 10L, "version", 3L));
+		verify(context2).cacheCounterValues(Collections.<String, Long> emptyMap());
+	}
+
+	@Test
+	public void should_load_clustered_counter() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("count")
+				.type(PropertyType.COUNTER).build();
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(entityMeta.isClusteredCounter()).thenReturn(true);
+		when(entityMeta.getFirstMeta()).thenReturn(counterMeta);
+		when(context.loadCountersAsync(null)).thenReturn(future);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(resultSet.one()).thenReturn(row);
+		when(row.getLong("count")).thenReturn(7L);
+
+		loaderImpl.loadCounters(Arrays.asList(context), null);
+
+		verify(context).cacheCounterValues(ImmutableMap.of("count", 7L));
 	}
 
 	@Test
@@ -185,4 +273,21 @@ public class CQLLoaderImplTest {
 
 		verify(mapper).setPropertyToEntity(row, pm, entity);
 	}
+
+	@Test
+	public void should_load_properties_into_entity() throws Exception {
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.LAZY_SIMPLE).build();
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(PropertyType.LAZY_LIST).build();
+		List<PropertyMeta> pms = Arrays.asList(nameMeta, friendsMeta);
+
+		CompleteBean entity = new CompleteBean();
+		when(context.loadProperties(pms)).thenReturn(row);
+
+		loaderImpl.loadPropertiesIntoEntity(context, pms, entity);
+
+		verify(mapper).setPropertyToEntity(row, nameMeta, entity);
+		verify(mapper).setPropertyToEntity(row, friendsMeta, entity);
+	}
 }
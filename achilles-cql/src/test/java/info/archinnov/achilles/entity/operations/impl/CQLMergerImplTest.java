@@ -23,6 +23,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityMerger;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -41,6 +42,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.base.Optional;
+
 @RunWith(MockitoJUnitRunner.class)
 public class CQLMergerImplTest {
 	@InjectMocks
@@ -65,10 +68,14 @@ public class CQLMergerImplTest {
 
 	private PropertyMeta idMeta;
 
+	private Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+
 	@Before
 	public void setUp() throws Exception {
 		when(context.getEntity()).thenReturn(entity);
 		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(context.getTtt()).thenReturn(Optional.<Integer> absent());
+		when(context.getTimestamp()).thenReturn(Optional.<Long> absent());
 
 		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors().build();
 	}
@@ -81,7 +88,7 @@ public class CQLMergerImplTest {
 		dirtyMap.put(idMeta.getGetter(), idMeta);
 		dirtyMap.put(ageMeta.getGetter(), ageMeta);
 
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		assertThat(dirtyMap).isEmpty();
 
@@ -90,10 +97,52 @@ public class CQLMergerImplTest {
 		assertThat(pmCaptor.getValue()).containsExactly(ageMeta, idMeta);
 	}
 
+	@Test
+	public void should_push_element_changes() throws Exception {
+		PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age").accessors()
+				.build();
+		PropertyMeta followersMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class)
+				.field("followers").accessors().build();
+		ElementChanges changes = new ElementChanges();
+		changes.addElement("George");
+
+		Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+		dirtyMap.put(ageMeta.getSetter(), ageMeta);
+		dirtyMap.put(followersMeta.getSetter(), followersMeta);
+		changesMap.put(followersMeta.getSetter(), changes);
+
+		mergerImpl.merge(context, dirtyMap, changesMap);
+
+		verify(context).pushCollectionUpdateStatements(followersMeta, changes);
+		verify(context).pushUpdateStatement(pmCaptor.capture());
+		assertThat(pmCaptor.getValue()).containsExactly(ageMeta);
+		assertThat(dirtyMap).isEmpty();
+		assertThat(changesMap).isEmpty();
+	}
+
+	@Test
+	public void should_rewrite_whole_collection_when_ttl() throws Exception {
+		PropertyMeta followersMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class)
+				.field("followers").accessors().build();
+		ElementChanges changes = new ElementChanges();
+		changes.addElement("George");
+
+		Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+		dirtyMap.put(followersMeta.getSetter(), followersMeta);
+		changesMap.put(followersMeta.getSetter(), changes);
+		when(context.getTtt()).thenReturn(Optional.fromNullable(10));
+
+		mergerImpl.merge(context, dirtyMap, changesMap);
+
+		verify(context, never()).pushCollectionUpdateStatements(followersMeta, changes);
+		verify(context).pushUpdateStatement(pmCaptor.capture());
+		assertThat(pmCaptor.getValue()).containsExactly(followersMeta);
+	}
+
 	@Test
 	public void should_not_merge_when_empty_dirty_map() throws Exception {
 		Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verifyZeroInteractions(context);
 	}
@@ -42,6 +42,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -97,7 +98,7 @@ public class CQLPersisterImplTest {
 		Counter counter = CounterBuilder.incr();
 
 		when(context.getFirstMeta()).thenReturn(counterMeta);
-		when(invoker.getValueFromField(entity, counterMeta.getGetter())).thenReturn(counter);
+		when(invoker.getValueFromField(entity, counterMeta)).thenReturn(counter);
 
 		persisterImpl.persistClusteredCounter(context);
 
@@ -110,7 +111,7 @@ public class CQLPersisterImplTest {
 				.accessors().invoker(invoker).build();
 
 		when(context.getFirstMeta()).thenReturn(counterMeta);
-		when(invoker.getValueFromField(entity, counterMeta.getGetter())).thenReturn(null);
+		when(invoker.getValueFromField(entity, counterMeta)).thenReturn(null);
 
 		exception.expect(IllegalStateException.class);
 		exception.expectMessage("Cannot insert clustered counter entity '" + entity
@@ -124,7 +125,7 @@ public class CQLPersisterImplTest {
 		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("count")
 				.accessors().invoker(invoker).build();
 
-		when(invoker.getValueFromField(entity, counterMeta.getGetter())).thenReturn(CounterBuilder.incr(12L));
+		when(invoker.getValueFromField(entity, counterMeta)).thenReturn(CounterBuilder.incr(12L));
 
 		persisterImpl.persistCounters(context, Sets.newHashSet(counterMeta));
 
@@ -136,7 +137,7 @@ public class CQLPersisterImplTest {
 		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("count")
 				.accessors().invoker(invoker).build();
 
-		when(invoker.getValueFromField(entity, counterMeta.getGetter())).thenReturn(null);
+		when(invoker.getValueFromField(entity, counterMeta)).thenReturn(null);
 
 		persisterImpl.persistCounters(context, Sets.newHashSet(counterMeta));
 
@@ -152,6 +153,7 @@ public class CQLPersisterImplTest {
 		persisterImpl.remove(context);
 
 		verify(context).bindForRemoval("table");
+		verify(context, never()).discardPendingCounterDeltas();
 	}
 
 	@Test
@@ -164,7 +166,9 @@ public class CQLPersisterImplTest {
 
 		persisterImpl.remove(context);
 
-		verify(context).bindForClusteredCounterRemoval(counterMeta);
+		InOrder inOrder = inOrder(context);
+		inOrder.verify(context).discardPendingCounterDeltas();
+		inOrder.verify(context).bindForClusteredCounterRemoval(counterMeta);
 	}
 
 	@Test
@@ -177,6 +181,8 @@ public class CQLPersisterImplTest {
 
 		persisterImpl.removeLinkedCounters(context);
 
-		verify(context).bindForSimpleCounterRemoval(counterMeta);
+		InOrder inOrder = inOrder(context);
+		inOrder.verify(context).discardPendingCounterDeltas();
+		inOrder.verify(context).bindForSimpleCounterRemoval(counterMeta);
 	}
 }
@@ -17,6 +17,8 @@
 package info.archinnov.achilles.iterator;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.CQLEntityMapper;
@@ -27,17 +29,21 @@ import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.test.mapping.entity.ClusteredEntity;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -98,13 +104,18 @@ public class CQLSliceQueryIteratorTest {
 	@Test
 	public void should_reload_data_when_end_of_batch_size() throws Exception {
 		Whitebox.setInternalState(sliceIterator, "count", batchSize);
+		Whitebox.setInternalState(sliceIterator, "lastVaryingComponentValue", "name3");
 		when(iterator.hasNext()).thenReturn(false);
 
-		when(context.bindAndExecute(ps, "name").iterator()).thenReturn(iterator);
+		Object[] boundValues = new Object[] { 11L, "name3" };
+		when(sliceQuery.getBoundValuesForIterator("name3")).thenReturn(boundValues);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(context.bindAndExecuteSliceQuery(sliceQuery, ps, boundValues)).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(iterator);
 
 		assertThat(sliceIterator.hasNext()).isFalse();
 
-		verify(context).bindAndExecute(ps, "name");
+		verify(context).bindAndExecuteSliceQuery(sliceQuery, ps, boundValues);
 	}
 
 	@Test
@@ -126,7 +137,7 @@ public class CQLSliceQueryIteratorTest {
 		when(iterator.next()).thenReturn(row);
 
 		when(cqlInvoker.invokeOnRowForType(row, String.class, "name")).thenReturn("name1");
-		when(invoker.instanciate(ClusteredEntity.class)).thenReturn(entity);
+		when(invoker.instanciate(ClusteredEntity.class, null)).thenReturn(entity);
 
 		when(context.duplicate(entity)).thenReturn(context);
 		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
@@ -142,4 +153,100 @@ public class CQLSliceQueryIteratorTest {
 	public void should_exception_when_calling_remove() throws Exception {
 		sliceIterator.remove();
 	}
+
+	@Test
+	public void should_prefetch_next_batches_asynchronously() throws Exception {
+		Row row1 = mock(Row.class), row2 = mock(Row.class), row3 = mock(Row.class);
+		Row row4 = mock(Row.class), row5 = mock(Row.class);
+		ResultSetFuture future1 = mockPage(true, row3, row4);
+		ResultSetFuture future2 = mockPage(true, row5);
+		Object[] boundValues1 = new Object[] { 11L, "name2" };
+		Object[] boundValues2 = new Object[] { 11L, "name4" };
+
+		when(sliceQuery.getBatchSize()).thenReturn(2);
+		when(cqlInvoker.invokeOnRowForType(row2, String.class, "name")).thenReturn("name2");
+		when(cqlInvoker.invokeOnRowForType(row4, String.class, "name")).thenReturn("name4");
+		when(sliceQuery.getBoundValuesForIterator("name2")).thenReturn(boundValues1);
+		when(sliceQuery.getBoundValuesForIterator("name4")).thenReturn(boundValues2);
+		when(context.bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues1)).thenReturn(future1);
+		when(context.bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues2)).thenReturn(future2);
+
+		ClusteredEntity entity = new ClusteredEntity();
+		meta.setEntityClass(ClusteredEntity.class);
+		Whitebox.setInternalState(meta, ReflectionInvoker.class, invoker);
+		when(invoker.instanciate(ClusteredEntity.class, null)).thenReturn(entity);
+		when(proxifier.buildProxy(eq(entity), any(CQLPersistenceContext.class))).thenReturn(entity);
+
+		sliceIterator = buildPrefetchingIterator(2, row1, row2);
+
+		assertThat(sliceIterator.hasNext()).isTrue();
+		verify(context).bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues1);
+		verify(context).bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues2);
+
+		int count = 0;
+		while (sliceIterator.hasNext()) {
+			sliceIterator.next();
+			count++;
+		}
+		assertThat(count).isEqualTo(5);
+		verify(context, times(2)).bindAndExecuteSliceQueryAsync(eq(sliceQuery), eq(ps), Matchers.<Object> anyVararg());
+	}
+
+	@Test
+	public void should_not_prefetch_beyond_batch_in_flight() throws Exception {
+		Row row1 = mock(Row.class), row2 = mock(Row.class);
+		ResultSetFuture future = mockPage(false);
+		Object[] boundValues = new Object[] { 11L, "name2" };
+
+		when(sliceQuery.getBatchSize()).thenReturn(2);
+		when(cqlInvoker.invokeOnRowForType(row2, String.class, "name")).thenReturn("name2");
+		when(sliceQuery.getBoundValuesForIterator("name2")).thenReturn(boundValues);
+		when(context.bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues)).thenReturn(future);
+
+		sliceIterator = buildPrefetchingIterator(3, row1, row2);
+
+		assertThat(sliceIterator.hasNext()).isTrue();
+		assertThat(sliceIterator.hasNext()).isTrue();
+
+		verify(context).bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues);
+		verify(future, never()).getUninterruptibly();
+	}
+
+	@Test
+	public void should_cancel_prefetched_batches() throws Exception {
+		Row row1 = mock(Row.class), row2 = mock(Row.class);
+		ResultSetFuture future = mockPage(false);
+		Object[] boundValues = new Object[] { 11L, "name2" };
+
+		when(sliceQuery.getBatchSize()).thenReturn(2);
+		when(cqlInvoker.invokeOnRowForType(row2, String.class, "name")).thenReturn("name2");
+		when(sliceQuery.getBoundValuesForIterator("name2")).thenReturn(boundValues);
+		when(context.bindAndExecuteSliceQueryAsync(sliceQuery, ps, boundValues)).thenReturn(future);
+
+		sliceIterator = buildPrefetchingIterator(1, row1, row2);
+		assertThat(sliceIterator.hasNext()).isTrue();
+
+		sliceIterator.cancel();
+
+		verify(future).cancel(true);
+		assertThat(sliceIterator.hasNext()).isFalse();
+	}
+
+	private CQLSliceQueryIterator<ClusteredEntity> buildPrefetchingIterator(int prefetchDepth, Row... rows) {
+		CQLSliceQueryIterator<ClusteredEntity> prefetchingIterator = new CQLSliceQueryIterator<ClusteredEntity>(
+				sliceQuery, context, Arrays.asList(rows).iterator(), ps, prefetchDepth);
+		Whitebox.setInternalState(prefetchingIterator, "mapper", mapper);
+		Whitebox.setInternalState(prefetchingIterator, "cqlInvoker", cqlInvoker);
+		Whitebox.setInternalState(prefetchingIterator, "proxifier", proxifier);
+		return prefetchingIterator;
+	}
+
+	private ResultSetFuture mockPage(boolean done, Row... rows) {
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(future.isDone()).thenReturn(done);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(resultSet.all()).thenReturn(Arrays.asList(rows));
+		return future;
+	}
 }
@@ -76,6 +76,8 @@ public class CQLRowMethodInvokerTest {
 		when(pm.getPropertyName()).thenReturn("property");
 		when((Class) pm.getKeyClass()).thenReturn(Integer.class);
 		when((Class) pm.getValueClass()).thenReturn(String.class);
+		when((Class) pm.getCassandraKeyClass()).thenReturn(Integer.class);
+		when((Class) pm.getCassandraValueClass()).thenReturn(String.class);
 		when(row.isNull("property")).thenReturn(false);
 		when(pm.getComponentNames()).thenReturn(compNames);
 		when(pm.getComponentClasses()).thenReturn(compClasses);
@@ -260,4 +260,78 @@ public class CQLCounterWrapperTest {
 		wrapper.decr(counterValue, EACH_QUORUM);
 		verify(context).decrementClusteredCounter(counterMeta, counterValue, EACH_QUORUM);
 	}
+
+	@Test
+	public void should_coalesce_increment_and_decrement() throws Exception {
+		when(context.getEntityMeta().isClusteredCounter()).thenReturn(false);
+		when(context.isCounterCoalescing()).thenReturn(true);
+		wrapper = new CQLCounterWrapper(context, counterMeta);
+
+		wrapper.incr(5L);
+		wrapper.decr(2L, QUORUM);
+
+		verify(context).coalesceCounterUpdate(counterMeta, 5L, ONE);
+		verify(context).coalesceCounterUpdate(counterMeta, -2L, QUORUM);
+		verify(context, never()).incrementSimpleCounter(any(PropertyMeta.class), anyLong(),
+				any(ConsistencyLevel.class));
+	}
+
+	@Test
+	public void should_evict_cached_counter_value_when_coalescing() throws Exception {
+		when(context.getEntityMeta().isClusteredCounter()).thenReturn(false);
+		when(context.isCounterCoalescing()).thenReturn(true);
+		wrapper = new CQLCounterWrapper(context, counterMeta);
+
+		wrapper.incr(5L);
+		wrapper.decr(2L);
+
+		verify(context, times(2)).evictCachedCounterValue(counterMeta);
+		verify(context, never()).updateCachedCounterValue(any(PropertyMeta.class), anyLong());
+	}
+
+	@Test
+	public void should_get_counter_with_pending_deltas() throws Exception {
+		when(context.getEntityMeta().isClusteredCounter()).thenReturn(false);
+		wrapper = new CQLCounterWrapper(context, counterMeta);
+
+		when(context.getSimpleCounter(counterMeta, ONE)).thenReturn(10L);
+		when(context.getPendingCounterDelta(counterMeta)).thenReturn(3L);
+
+		assertThat(wrapper.get()).isEqualTo(10L);
+		assertThat(wrapper.getWithPendingDeltas()).isEqualTo(13L);
+	}
+
+	@Test
+	public void should_get_cached_counter_value() throws Exception {
+		when(context.getEntityMeta().isClusteredCounter()).thenReturn(false);
+		wrapper = new CQLCounterWrapper(context, counterMeta);
+
+		when(context.hasCachedCounterValue(counterMeta)).thenReturn(true);
+		when(context.getCachedCounterValue(counterMeta)).thenReturn(12L);
+
+		assertThat(wrapper.get()).isEqualTo(12L);
+		verify(context, never()).getSimpleCounter(any(PropertyMeta.class), any(ConsistencyLevel.class));
+	}
+
+	@Test
+	public void should_update_cached_counter_value_on_increment() throws Exception {
+		when(context.getEntityMeta().isClusteredCounter()).thenReturn(false);
+		wrapper = new CQLCounterWrapper(context, counterMeta);
+
+		wrapper.incr(5L);
+		wrapper.decr(2L);
+
+		verify(context).updateCachedCounterValue(counterMeta, 5L);
+		verify(context).updateCachedCounterValue(counterMeta, -2L);
+	}
+
+	@Test
+	public void should_refresh_cached_counter_value() throws Exception {
+		when(context.getEntityMeta().isClusteredCounter()).thenReturn(false);
+		wrapper = new CQLCounterWrapper(context, counterMeta);
+
+		wrapper.refresh();
+
+		verify(context).evictCachedCounterValue(counterMeta);
+	}
 }
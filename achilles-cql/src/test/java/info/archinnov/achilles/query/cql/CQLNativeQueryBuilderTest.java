@@ -17,13 +17,13 @@
 package info.archinnov.achilles.query.cql;
 
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.operations.CQLNativeQueryMapper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +38,6 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLNativeQueryBuilderTest {
@@ -60,13 +59,14 @@ public class CQLNativeQueryBuilderTest {
 	@Before
 	public void setUp() {
 		Whitebox.setInternalState(query, String.class, queryString);
+		Whitebox.setInternalState(query, "boundValues", new Object[] {});
 		Whitebox.setInternalState(query, CQLNativeQueryMapper.class, mapper);
 	}
 
 	@Test
 	public void should_get() throws Exception {
 		List<Row> rows = Arrays.asList(row);
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
+		when(daoContext.executeQuery(queryString).all()).thenReturn(rows);
 
 		List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
 		when(mapper.mapRows(rows)).thenReturn(result);
@@ -77,31 +77,58 @@ public class CQLNativeQueryBuilderTest {
 	}
 
 	@Test
-	public void should_get_one() throws Exception {
-
+	public void should_get_with_bound_values() throws Exception {
+		Whitebox.setInternalState(query, "boundValues", new Object[] { 11L, "name" });
 		List<Row> rows = Arrays.asList(row);
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
+		when(daoContext.executeQuery(queryString, 11L, "name").all()).thenReturn(rows);
 
 		List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
-		Map<String, Object> line = new LinkedHashMap<String, Object>();
-		result.add(line);
 		when(mapper.mapRows(rows)).thenReturn(result);
 
+		List<Map<String, Object>> actual = query.get();
+
+		assertThat(actual).isSameAs(result);
+	}
+
+	@Test
+	public void should_get_one() throws Exception {
+		when(daoContext.executeQuery(queryString).one()).thenReturn(row);
+
+		Map<String, Object> line = new LinkedHashMap<String, Object>();
+		when(mapper.mapRow(row)).thenReturn(line);
+
 		Map<String, Object> actual = query.first();
 		assertThat(actual).isSameAs(line);
+		verify(mapper, never()).mapRows(anyListOf(Row.class));
 	}
 
 	@Test
 	public void should_return_null_when_no_row() throws Exception {
-
-		List<Row> rows = Arrays.asList(row);
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
-
-		List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
-		when(mapper.mapRows(rows)).thenReturn(result);
+		when(daoContext.executeQuery(queryString).one()).thenReturn(null);
 
 		Map<String, Object> actual = query.first();
 		assertThat(actual).isNull();
+		verifyZeroInteractions(mapper);
 	}
 
+	@Test
+	public void should_map_rows_lazily_with_iterator() throws Exception {
+		Row row2 = mock(Row.class);
+		Row emptyRow = mock(Row.class);
+		when(daoContext.executeQuery(queryString).iterator()).thenReturn(Arrays.asList(row, emptyRow, row2).iterator());
+
+		Map<String, Object> line1 = new LinkedHashMap<String, Object>();
+		Map<String, Object> line2 = new LinkedHashMap<String, Object>();
+		when(mapper.mapRow(row)).thenReturn(line1);
+		when(mapper.mapRow(emptyRow)).thenReturn(null);
+		when(mapper.mapRow(row2)).thenReturn(line2);
+
+		Iterator<Map<String, Object>> iterator = query.iterator();
+
+		verifyZeroInteractions(mapper);
+		assertThat(iterator.next()).isSameAs(line1);
+		verify(mapper, never()).mapRow(row2);
+		assertThat(iterator.next()).isSameAs(line2);
+		assertThat(iterator.hasNext()).isFalse();
+	}
 }
@@ -140,6 +140,36 @@ public class CQLSliceQueryTest {
 		assertThat(cqlSliceQuery.getLastEndComponent()).isEqualTo(12.0);
 	}
 
+	@Test
+	public void should_get_bound_values_for_select() throws Exception {
+		when(sliceQuery.getClusteringsFrom()).thenReturn(Arrays.<Object> asList(11L, "a", 11.0));
+		when(sliceQuery.getClusteringsTo()).thenReturn(Arrays.<Object> asList(11L, "a", 12.0));
+
+		cqlSliceQuery = new CQLSliceQuery<ClusteredEntity>(sliceQuery, EACH_QUORUM);
+
+		assertThat(Arrays.asList(cqlSliceQuery.getBoundValuesForSelect())).containsExactly(11L, "a", 11.0, 12.0);
+	}
+
+	@Test
+	public void should_get_bound_values_for_iterator() throws Exception {
+		when(sliceQuery.getClusteringsFrom()).thenReturn(Arrays.<Object> asList(11L, "a", 11.0));
+		when(sliceQuery.getClusteringsTo()).thenReturn(Arrays.<Object> asList(11L, "a", 12.0));
+
+		cqlSliceQuery = new CQLSliceQuery<ClusteredEntity>(sliceQuery, EACH_QUORUM);
+
+		assertThat(Arrays.asList(cqlSliceQuery.getBoundValuesForIterator(11.5))).containsExactly(11L, "a", 11.5, 12.0);
+	}
+
+	@Test
+	public void should_get_bound_values_for_iterator_without_end() throws Exception {
+		when(sliceQuery.getClusteringsFrom()).thenReturn(Arrays.<Object> asList(11L, "a", 11.0));
+		when(sliceQuery.getClusteringsTo()).thenReturn(Arrays.<Object> asList(11L, "a"));
+
+		cqlSliceQuery = new CQLSliceQuery<ClusteredEntity>(sliceQuery, EACH_QUORUM);
+
+		assertThat(Arrays.asList(cqlSliceQuery.getBoundValuesForIterator(11.5))).containsExactly(11L, "a", 11.5);
+	}
+
 	@Test
 	public void should_get_limit() throws Exception {
 		when(sliceQuery.getLimit()).thenReturn(99);
@@ -35,6 +35,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,7 +51,6 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLTypedQueryBuilderTest {
@@ -98,7 +98,7 @@ public class CQLTypedQueryBuilderTest {
 		String queryString = "select * from test";
 		initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+		when(daoContext.executeQuery(queryString).all()).thenReturn(Arrays.asList(row));
 		when(
 				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
 						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(entity);
@@ -128,7 +128,7 @@ public class CQLTypedQueryBuilderTest {
 		String queryString = " select id, name   from  test";
 		initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+		when(daoContext.executeQuery(queryString).all()).thenReturn(Arrays.asList(row));
 		when(
 				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
 						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(entity);
@@ -145,9 +145,10 @@ public class CQLTypedQueryBuilderTest {
 	@Test
 	public void should_get_all_skipping_null_entity() throws Exception {
 		EntityMeta meta = buildEntityMeta();
-		initBuilder("select * from test", meta, meta.getPropertyMetas(), true);
+		String queryString = "select * from test";
+		initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+		when(daoContext.executeQuery(queryString).all()).thenReturn(Arrays.asList(row));
 		when(
 				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
 						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(null);
@@ -166,7 +167,7 @@ public class CQLTypedQueryBuilderTest {
 		String queryString = "select * from test";
 		initBuilder(queryString, meta, propertyMetas, false);
 
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+		when(daoContext.executeQuery(queryString).all()).thenReturn(Arrays.asList(row));
 		when(mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertyMetas, false)).thenReturn(entity);
 
 		List<CompleteBean> actual = builder.get();
@@ -189,7 +190,7 @@ public class CQLTypedQueryBuilderTest {
 		String queryString = "select id from test";
 		initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-		when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
+		when(daoContext.executeQuery(queryString).one()).thenReturn(row);
 		when(
 				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
 						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(entity);
@@ -214,7 +215,7 @@ public class CQLTypedQueryBuilderTest {
 		String queryString = "select id from test";
 		initBuilder(queryString, meta, meta.getPropertyMetas(), false);
 
-		when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
+		when(daoContext.executeQuery(queryString).one()).thenReturn(row);
 		when(
 				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
 						Mockito.<Map<String, PropertyMeta>> any(), eq(false))).thenReturn(entity);
@@ -231,7 +232,7 @@ public class CQLTypedQueryBuilderTest {
 		EntityMeta meta = buildEntityMeta();
 		String queryString = "select id from test";
 		initBuilder(queryString, meta, meta.getPropertyMetas(), false);
-		when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(null);
+		when(daoContext.executeQuery(queryString).one()).thenReturn(null);
 		CompleteBean actual = builder.getFirst();
 
 		assertThat(actual).isNull();
@@ -245,7 +246,7 @@ public class CQLTypedQueryBuilderTest {
 		EntityMeta meta = buildEntityMeta();
 		String queryString = "select id from test";
 		initBuilder(queryString, meta, meta.getPropertyMetas(), false);
-		when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
+		when(daoContext.executeQuery(queryString).one()).thenReturn(row);
 		when(
 				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
 						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(null);
@@ -257,6 +258,50 @@ public class CQLTypedQueryBuilderTest {
 		verifyZeroInteractions(contextFactory, proxifier);
 	}
 
+	@Test
+	public void should_get_with_bound_values_and_original_query_case() throws Exception {
+		EntityMeta meta = mock(EntityMeta.class);
+		Map<String, PropertyMeta> propertyMetas = new HashMap<String, PropertyMeta>();
+
+		String queryString = "SELECT * FROM test WHERE id=? AND name=?";
+		builder = new CQLTypedQueryBuilder<CompleteBean>(entityClass, daoContext, queryString, meta, contextFactory,
+				false, 11L, "John");
+		Whitebox.setInternalState(builder, Map.class, propertyMetas);
+		Whitebox.setInternalState(builder, CQLEntityMapper.class, mapper);
+
+		when(daoContext.executeQuery(queryString, 11L, "John").all()).thenReturn(Arrays.asList(row));
+		when(mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertyMetas, false)).thenReturn(entity);
+
+		List<CompleteBean> actual = builder.get();
+
+		assertThat(actual).containsExactly(entity);
+	}
+
+	@Test
+	public void should_iterate_over_managed_entities_lazily() throws Exception {
+		EntityMeta meta = buildEntityMeta();
+		String queryString = "select * from test";
+		initBuilder(queryString, meta, meta.getPropertyMetas(), true);
+
+		Row emptyRow = mock(Row.class);
+		CompleteBean entity2 = new CompleteBean();
+		when(daoContext.executeQuery(queryString).iterator()).thenReturn(Arrays.asList(row, emptyRow).iterator());
+		when(
+				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(row),
+						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(entity);
+		when(
+				mapper.mapRowToEntityWithPrimaryKey(eq(entityClass), eq(meta), eq(emptyRow),
+						Mockito.<Map<String, PropertyMeta>> any(), eq(true))).thenReturn(null);
+		when(contextFactory.newContext(entity)).thenReturn(context);
+		when(proxifier.buildProxy(eq(entity), eq(context), Mockito.<Set<Method>> any())).thenReturn(entity2);
+
+		Iterator<CompleteBean> iterator = builder.iterator();
+
+		verifyZeroInteractions(mapper, proxifier);
+		assertThat(iterator.next()).isSameAs(entity2);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
 	private EntityMeta buildEntityMeta(PropertyMeta... pms) {
 		EntityMeta meta = new EntityMeta();
 		Map<String, PropertyMeta> propertyMetas = new HashMap<String, PropertyMeta>();
@@ -20,7 +20,6 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
@@ -32,6 +31,7 @@ import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.ClusteredEntity;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.parser.entity.EmbeddedKey;
+import info.archinnov.achilles.type.InsertStrategy;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -39,15 +39,12 @@ import java.util.Arrays;
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 
-import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.Statement;
@@ -64,23 +61,14 @@ public class CQLStatementGeneratorTest {
 	@InjectMocks
 	private CQLStatementGenerator generator;
 
-	@Mock
-	private CQLSliceQueryStatementGenerator sliceQueryGenerator;
-
 	@Mock
 	private CQLSliceQueryPreparedStatementGenerator sliceQueryPreparedGenerator;
 
 	@Mock
 	private CQLSliceQuery<ClusteredEntity> sliceQuery;
 
-	@Mock
-	private CQLDaoContext daoContext;
-
 	private ReflectionInvoker invoker = new ReflectionInvoker();
 
-	@Captor
-	private ArgumentCaptor<Statement> statementCaptor;
-
 	@Test
 	public void should_create_select_statement_for_entity_simple_id() throws Exception {
 		EntityMeta meta = prepareEntityMeta("id");
@@ -100,14 +88,23 @@ public class CQLStatementGeneratorTest {
 		assertThat(select.getQueryString()).isEqualTo("SELECT id,a,b,age,name,label FROM table;");
 	}
 
+	@Test
+	public void should_generate_token_range_scan_query() throws Exception {
+		EntityMeta meta = prepareEntityMeta("id");
+
+		String query = generator.generateScanQuery(meta, 100);
+
+		assertThat(query).isEqualTo(
+				"SELECT token(id),id,age,name,label FROM table WHERE token(id) > ? AND token(id) <= ? LIMIT 100");
+	}
+
 	@Test
 	public void should_generate_slice_select_query() throws Exception {
 		EntityMeta meta = prepareEntityMeta("id", "comp1", "comp2");
 		when(sliceQuery.getMeta()).thenReturn(meta);
 		when(sliceQuery.getCQLOrdering()).thenReturn(QueryBuilder.desc("comp1"));
-		when(sliceQuery.getConsistencyLevel()).thenReturn(ConsistencyLevel.EACH_QUORUM);
-		when(sliceQueryGenerator.generateWhereClauseForSelectSliceQuery(eq(sliceQuery), any(Select.class))).thenAnswer(
-				new Answer<Statement>() {
+		when(sliceQueryPreparedGenerator.generateWhereClauseForSelectSliceQuery(eq(sliceQuery), any(Select.class)))
+				.thenAnswer(new Answer<Statement>() {
 
 					@Override
 					public Statement answer(InvocationOnMock invocation) throws Throwable {
@@ -115,9 +112,9 @@ public class CQLStatementGeneratorTest {
 					}
 				});
 
-		Query query = generator.generateSelectSliceQuery(sliceQuery, 98);
+		Statement statement = generator.generateSelectSliceQuery(sliceQuery, 98);
 
-		assertThat(query.toString()).isEqualTo(
+		assertThat(statement.getQueryString()).isEqualTo(
 				"SELECT id,comp1,comp2,age,name,label FROM table WHERE fake='fake' ORDER BY comp1 DESC LIMIT 98;");
 	}
 
@@ -127,7 +124,6 @@ public class CQLStatementGeneratorTest {
 		when(sliceQuery.getMeta()).thenReturn(meta);
 		when(sliceQuery.getLimit()).thenReturn(99);
 		when(sliceQuery.getCQLOrdering()).thenReturn(QueryBuilder.desc("comp1"));
-		when(sliceQuery.getConsistencyLevel()).thenReturn(ConsistencyLevel.EACH_QUORUM);
 		when(sliceQueryPreparedGenerator.generateWhereClauseForIteratorSliceQuery(eq(sliceQuery), any(Select.class)))
 				.thenAnswer(new Answer<Statement>() {
 
@@ -136,18 +132,11 @@ public class CQLStatementGeneratorTest {
 						return buildFakeWhereForSelect((Select) invocation.getArguments()[1]);
 					}
 				});
-		PreparedStatement ps = mock(PreparedStatement.class);
-
-		when(daoContext.prepare(statementCaptor.capture())).thenReturn(ps);
-
-		PreparedStatement actual = generator.generateIteratorSliceQuery(sliceQuery, daoContext);
 
-		assertThat(actual).isSameAs(ps);
+		Statement statement = generator.generateIteratorSliceQuery(sliceQuery);
 
-		assertThat(statementCaptor.getValue().getQueryString()).isEqualTo(
+		assertThat(statement.getQueryString()).isEqualTo(
 				"SELECT id,comp1,comp2,age,name,label FROM table WHERE fake='fake' ORDER BY comp1 DESC LIMIT 99;");
-
-		verify(ps).setConsistencyLevel(ConsistencyLevel.EACH_QUORUM);
 	}
 
 	@Test
@@ -156,17 +145,17 @@ public class CQLStatementGeneratorTest {
 		meta.setTableName("table");
 
 		when(sliceQuery.getMeta()).thenReturn(meta);
-		when(sliceQueryGenerator.generateWhereClauseForDeleteSliceQuery(eq(sliceQuery), any(Delete.class))).thenAnswer(
-				new Answer<Statement>() {
+		when(sliceQueryPreparedGenerator.generateWhereClauseForDeleteSliceQuery(eq(sliceQuery), any(Delete.class)))
+				.thenAnswer(new Answer<Statement>() {
 					@Override
 					public Statement answer(InvocationOnMock invocation) throws Throwable {
 						return buildFakeWhereForDelete((Delete) invocation.getArguments()[1]);
 					}
 				});
 
-		Query query = generator.generateRemoveSliceQuery(sliceQuery);
+		Statement statement = generator.generateRemoveSliceQuery(sliceQuery);
 
-		assertThat(query.toString()).isEqualTo("DELETE  FROM table WHERE fake='fake';");
+		assertThat(statement.getQueryString()).isEqualTo("DELETE  FROM table WHERE fake='fake';");
 	}
 
 	@Test
@@ -201,6 +190,32 @@ public class CQLStatementGeneratorTest {
 
 	}
 
+	@Test
+	public void should_generate_insert_skipping_null_fields() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
+				.type(ID).invoker(invoker).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.accessors().type(SIMPLE).invoker(invoker).build();
+
+		PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age").accessors()
+				.type(SIMPLE).invoker(invoker).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta, ageMeta));
+		meta.setIdMeta(idMeta);
+		meta.setInsertStrategy(InsertStrategy.NOT_NULL_FIELDS);
+
+		Long id = RandomUtils.nextLong();
+		Long age = RandomUtils.nextLong();
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(id).age(age).buid();
+
+		Insert insert = generator.generateInsert(entity, meta);
+
+		assertThat(insert.getQueryString()).isEqualTo("INSERT INTO table(id,age) VALUES (" + id + "," + age + ");");
+	}
+
 	@Test
 	public void should_generate_insert_for_clustered_id() throws Exception {
 		Method idGetter = ClusteredEntity.class.getDeclaredMethod("getId");
@@ -22,8 +22,10 @@ import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.ClusteredEntity;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
 import java.util.Arrays;
@@ -39,6 +41,8 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -125,6 +129,33 @@ public class CacheManagerTest {
 		verify(cache).put(cacheKey, ps);
 	}
 
+	@Test
+	public void should_generate_select_fields_prepared_statement_when_not_found_in_cache() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.LAZY_SIMPLE).build();
+
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(PropertyType.LAZY_LIST).build();
+
+		List<PropertyMeta> pms = Arrays.asList(nameMeta, friendsMeta);
+
+		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+		when(generator.prepareSelectFieldsPS(session, meta, pms)).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForFieldsSelect(session, cache, context, pms);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.SELECT_FIELDS);
+		assertThat(cacheKey.getFields()).containsOnly("name", "friends");
+		verify(cache).put(cacheKey, ps);
+	}
+
 	@Test
 	public void should_get_cache_for_fields_update() throws Exception {
 		EntityMeta meta = new EntityMeta();
@@ -141,7 +172,7 @@ public class CacheManagerTest {
 		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(ps);
 
 		PreparedStatement actual = manager.getCacheForFieldsUpdate(session, cache, context,
-				Arrays.asList(nameMeta, ageMeta));
+				Arrays.asList(nameMeta, ageMeta), Optional.<Integer> absent());
 
 		assertThat(actual).isSameAs(ps);
 		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
@@ -151,6 +182,55 @@ public class CacheManagerTest {
 		assertThat(cacheKey.getFields()).containsOnly("name", "age");
 	}
 
+	@Test
+	public void should_generate_collection_update_prepared_statement_when_not_found_in_cache() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+
+		PropertyMeta followersMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class)
+				.field("followers").type(PropertyType.SET).build();
+
+		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+		when(generator.prepareCollectionUpdate(session, meta, followersMeta, CacheType.ADD_ELEMENTS)).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForCollectionUpdate(session, cache, context, followersMeta,
+				CacheType.ADD_ELEMENTS);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.ADD_ELEMENTS);
+		assertThat(cacheKey.getFields()).containsOnly("followers");
+		verify(cache).put(cacheKey, ps);
+	}
+
+	@Test
+	public void should_generate_insert_prepared_statement_when_not_found_in_cache() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+
+		List<PropertyMeta> pms = Arrays.asList(nameMeta);
+
+		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+		Optional<Integer> ttlO = Optional.fromNullable(10);
+		when(generator.prepareInsertPS(session, meta, pms, ttlO)).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForFieldsInsert(session, cache, context, pms, ttlO);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.INSERT_FIELDS);
+		assertThat(cacheKey.getFields()).containsOnly("name");
+		assertThat(cacheKey.getTtl()).isEqualTo(10);
+		verify(cache).put(cacheKey, ps);
+	}
+
 	@Test
 	public void should_generate_update_prepared_statement_when_not_found_in_cache() throws Exception {
 		EntityMeta meta = new EntityMeta();
@@ -167,9 +247,10 @@ public class CacheManagerTest {
 		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
 		when(context.getEntityMeta()).thenReturn(meta);
 		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
-		when(generator.prepareUpdateFields(session, meta, pms)).thenReturn(ps);
+		when(generator.prepareUpdateFields(session, meta, pms, Optional.<Integer> absent())).thenReturn(ps);
 
-		PreparedStatement actual = manager.getCacheForFieldsUpdate(session, cache, context, pms);
+		PreparedStatement actual = manager.getCacheForFieldsUpdate(session, cache, context, pms,
+				Optional.<Integer> absent());
 
 		assertThat(actual).isSameAs(ps);
 		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
@@ -178,4 +259,46 @@ public class CacheManagerTest {
 		assertThat(cacheKey.getType()).isEqualTo(CacheType.UPDATE_FIELDS);
 		assertThat(cacheKey.getFields()).containsOnly("name", "age");
 	}
+
+	@Test
+	public void should_prepare_and_cache_slice_query_statement() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		CQLSliceQuery<ClusteredEntity> sliceQuery = mock(CQLSliceQuery.class);
+		Statement statement = mock(Statement.class);
+
+		when(sliceQuery.getMeta()).thenReturn(meta);
+		when(sliceQuery.getEntityClass()).thenReturn(ClusteredEntity.class);
+		when(statement.getQueryString()).thenReturn("SELECT * FROM table WHERE id=? AND name>?;");
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+		when(session.prepare("SELECT * FROM table WHERE id=? AND name>?;")).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForSliceQuery(session, cache, sliceQuery, statement,
+				CacheType.SLICE_QUERY_ITERATOR);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.SLICE_QUERY_ITERATOR);
+		assertThat(cacheKey.getTableName()).isEqualTo("table");
+		assertThat(cacheKey.getFields()).containsExactly("SELECT * FROM table WHERE id=? AND name>?;");
+		verify(cache).put(cacheKey, ps);
+	}
+
+	@Test
+	public void should_get_slice_query_statement_from_cache() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		CQLSliceQuery<ClusteredEntity> sliceQuery = mock(CQLSliceQuery.class);
+		Statement statement = mock(Statement.class);
+
+		when(sliceQuery.getMeta()).thenReturn(meta);
+		when(statement.getQueryString()).thenReturn("DELETE  FROM table WHERE id=?;");
+		when(cache.getIfPresent(any(StatementCacheKey.class))).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForSliceQuery(session, cache, sliceQuery, statement,
+				CacheType.SLICE_QUERY_DELETE);
+
+		assertThat(actual).isSameAs(ps);
+		verifyZeroInteractions(session);
+	}
 }
@@ -101,8 +101,8 @@ public class CQLPreparedStatementBinderTest {
 		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta, ageMeta, counterMeta));
 
 		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-		when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-		when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(age);
+		when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+		when(invoker.getValueFromField(entity, ageMeta)).thenReturn(age);
 
 		when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
 		when(transcoder.encode(nameMeta, name)).thenReturn(name);
@@ -134,8 +134,8 @@ public class CQLPreparedStatementBinderTest {
 		long primaryKey = RandomUtils.nextLong();
 		String name = "name";
 		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-		when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-		when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(null);
+		when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+		when(invoker.getValueFromField(entity, ageMeta)).thenReturn(null);
 
 		when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
 		when(transcoder.encode(nameMeta, name)).thenReturn(name);
@@ -180,10 +180,10 @@ public class CQLPreparedStatementBinderTest {
 		EmbeddedKey embeddedKey = new EmbeddedKey(userId, name);
 
 		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(embeddedKey);
-		when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(age);
-		when(invoker.getValueFromField(entity, friendsMeta.getGetter())).thenReturn(friends);
-		when(invoker.getValueFromField(entity, followersMeta.getGetter())).thenReturn(followers);
-		when(invoker.getValueFromField(entity, preferencesMeta.getGetter())).thenReturn(preferences);
+		when(invoker.getValueFromField(entity, ageMeta)).thenReturn(age);
+		when(invoker.getValueFromField(entity, friendsMeta)).thenReturn(friends);
+		when(invoker.getValueFromField(entity, followersMeta)).thenReturn(followers);
+		when(invoker.getValueFromField(entity, preferencesMeta)).thenReturn(preferences);
 
 		when(transcoder.encodeToComponents(idMeta, embeddedKey)).thenReturn(Arrays.<Object> asList(userId, name));
 		when(transcoder.encode(ageMeta, age)).thenReturn(age);
@@ -235,8 +235,8 @@ public class CQLPreparedStatementBinderTest {
 		String name = "name";
 
 		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-		when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-		when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(age);
+		when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+		when(invoker.getValueFromField(entity, ageMeta)).thenReturn(age);
 
 		when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
 		when(transcoder.encode(nameMeta, name)).thenReturn(name);
@@ -250,6 +250,27 @@ public class CQLPreparedStatementBinderTest {
 		assertThat(Arrays.asList(actual.getValues())).containsExactly(name, age, primaryKey);
 	}
 
+	@Test
+	public void should_bind_for_collection_update() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
+				.type(ID).transcoder(transcoder).invoker(invoker).build();
+
+		entityMeta.setIdMeta(idMeta);
+
+		long primaryKey = RandomUtils.nextLong();
+		List<String> appended = Arrays.asList("a", "b");
+
+		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
+		when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
+		when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+
+		BoundStatementWrapper actual = binder.bindForCollectionUpdate(ps, entityMeta, entity, appended);
+
+		assertThat(actual.getBs()).isSameAs(bs);
+		assertThat(Arrays.asList(actual.getValues())).containsExactly(appended, primaryKey);
+		assertThat(actual.isCounter()).isFalse();
+	}
+
 	@Test
 	public void should_bind_for_simple_counter_increment_decrement() throws Exception {
 		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
@@ -25,6 +25,7 @@ import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.statement.cache.CacheType;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 
 import java.util.ArrayList;
@@ -44,6 +45,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -89,6 +91,46 @@ public class CQLPreparedStatementGeneratorTest {
 		assertThat(queryCaptor.getValue()).isEqualTo("INSERT INTO table(id,name) VALUES (?,?);");
 	}
 
+	@Test
+	public void should_prepare_insert_ps_for_fields() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age")
+				.type(PropertyType.SIMPLE).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setIdMeta(idMeta);
+		meta.setTableName("table");
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareInsertPS(session, meta, Arrays.asList(ageMeta),
+				Optional.<Integer> absent());
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("INSERT INTO table(id,age) VALUES (?,?);");
+	}
+
+	@Test
+	public void should_prepare_insert_ps_with_ttl() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age")
+				.type(PropertyType.SIMPLE).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setIdMeta(idMeta);
+		meta.setTableName("table");
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareInsertPS(session, meta, Arrays.asList(ageMeta),
+				Optional.fromNullable(3600));
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("INSERT INTO table(id,age) VALUES (?,?) USING TTL 3600;");
+	}
+
 	@Test
 	public void should_prepare_insert_ps_with_clustered_id() throws Exception {
 		List<PropertyMeta> allMetas = new ArrayList<PropertyMeta>();
@@ -134,6 +176,31 @@ public class CQLPreparedStatementGeneratorTest {
 		assertThat(queryCaptor.getValue()).isEqualTo("SELECT name FROM table WHERE id=?;");
 	}
 
+	@Test
+	public void should_prepare_select_fields_ps() throws Exception {
+
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.LAZY_SIMPLE).build();
+
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(PropertyType.LAZY_LIST).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareSelectFieldsPS(session, meta, Arrays.asList(nameMeta, friendsMeta));
+
+		assertThat(actual).isSameAs(ps);
+
+		assertThat(queryCaptor.getValue()).isEqualTo("SELECT name,friends FROM table WHERE id=?;");
+	}
+
 	@Test
 	public void should_prepare_select_field_ps_for_clustered_id() throws Exception {
 
@@ -171,13 +238,35 @@ public class CQLPreparedStatementGeneratorTest {
 
 		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
 
-		PreparedStatement actual = generator.prepareUpdateFields(session, meta, Arrays.asList(nameMeta, ageMeta));
+		PreparedStatement actual = generator.prepareUpdateFields(session, meta, Arrays.asList(nameMeta, ageMeta),
+				Optional.<Integer> absent());
 
 		assertThat(actual).isSameAs(ps);
 
 		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET name=?,age=? WHERE id=?;");
 	}
 
+	@Test
+	public void should_prepare_update_fields_with_ttl_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareUpdateFields(session, meta, Arrays.asList(nameMeta),
+				Optional.fromNullable(3600));
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table USING TTL 3600 SET name=? WHERE id=?;");
+	}
+
 	@Test
 	public void should_prepare_update_fields_with_clustered_id_ps() throws Exception {
 
@@ -196,13 +285,57 @@ public class CQLPreparedStatementGeneratorTest {
 
 		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
 
-		PreparedStatement actual = generator.prepareUpdateFields(session, meta, Arrays.asList(nameMeta, ageMeta));
+		PreparedStatement actual = generator.prepareUpdateFields(session, meta, Arrays.asList(nameMeta, ageMeta),
+				Optional.<Integer> absent());
 
 		assertThat(actual).isSameAs(ps);
 
 		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET name=?,age=? WHERE id=? AND a=? AND b=?;");
 	}
 
+	@Test
+	public void should_prepare_collection_add_elements_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta followersMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class)
+				.field("followers").type(PropertyType.SET).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareCollectionUpdate(session, meta, followersMeta,
+				CacheType.ADD_ELEMENTS);
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET followers=followers+? WHERE id=?;");
+	}
+
+	@Test
+	public void should_prepare_collection_remove_entry_with_clustered_id_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.compNames("id", "a", "b").type(PropertyType.EMBEDDED_ID).build();
+
+		PropertyMeta preferencesMeta = PropertyMetaTestBuilder.completeBean(Integer.class, String.class)
+				.field("preferences").type(PropertyType.MAP).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareCollectionUpdate(session, meta, preferencesMeta,
+				CacheType.REMOVE_ENTRY);
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo(
+				"DELETE preferences[?] FROM table WHERE id=? AND a=? AND b=?;");
+	}
+
 	@Test
 	public void should_exception_when_preparing_select_for_counter_type() throws Exception {
 
@@ -342,20 +475,22 @@ public class CQLPreparedStatementGeneratorTest {
 		PreparedStatement incrPs = mock(PreparedStatement.class);
 		PreparedStatement decrPs = mock(PreparedStatement.class);
 		PreparedStatement selectPs = mock(PreparedStatement.class);
+		PreparedStatement selectAllPs = mock(PreparedStatement.class);
 		PreparedStatement deletePs = mock(PreparedStatement.class);
 
-		when(session.prepare(queryCaptor.capture())).thenReturn(incrPs, decrPs, selectPs, deletePs);
+		when(session.prepare(queryCaptor.capture())).thenReturn(incrPs, decrPs, selectPs, selectAllPs, deletePs);
 
 		Map<CQLQueryType, PreparedStatement> actual = generator.prepareSimpleCounterQueryMap(session);
 
 		assertThat(actual.get(INCR)).isSameAs(incrPs);
 		assertThat(actual.get(DECR)).isSameAs(decrPs);
 		assertThat(actual.get(SELECT)).isSameAs(selectPs);
+		assertThat(actual.get(SELECT_ALL)).isSameAs(selectAllPs);
 		assertThat(actual.get(DELETE)).isSameAs(deletePs);
 
 		List<String> queries = queryCaptor.getAllValues();
 
-		assertThat(queries).hasSize(4);
+		assertThat(queries).hasSize(5);
 		assertThat(queries.get(0)).isEqualTo(
 				"UPDATE " + CQL_COUNTER_TABLE + " SET " + CQL_COUNTER_VALUE + " = " + CQL_COUNTER_VALUE + " + ? WHERE "
 						+ CQL_COUNTER_FQCN + " = ? AND " + CQL_COUNTER_PRIMARY_KEY + " = ? AND "
@@ -368,6 +503,9 @@ public class CQLPreparedStatementGeneratorTest {
 				"SELECT " + CQL_COUNTER_VALUE + " FROM " + CQL_COUNTER_TABLE + " WHERE " + CQL_COUNTER_FQCN
 						+ " = ? AND " + CQL_COUNTER_PRIMARY_KEY + " = ? AND " + CQL_COUNTER_PROPERTY_NAME + " = ?");
 		assertThat(queries.get(3)).isEqualTo(
+				"SELECT " + CQL_COUNTER_PROPERTY_NAME + ", " + CQL_COUNTER_VALUE + " FROM " + CQL_COUNTER_TABLE
+						+ " WHERE " + CQL_COUNTER_FQCN + " = ? AND " + CQL_COUNTER_PRIMARY_KEY + " = ?");
+		assertThat(queries.get(4)).isEqualTo(
 				"DELETE FROM " + CQL_COUNTER_TABLE + " WHERE " + CQL_COUNTER_FQCN + " = ? AND "
 						+ CQL_COUNTER_PRIMARY_KEY + " = ? AND " + CQL_COUNTER_PROPERTY_NAME + " = ?");
 
@@ -34,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
@@ -52,9 +53,196 @@ public class CQLSliceQueryPreparedStatementGeneratorTest {
 	@Before
 	public void setUp() {
 		when(sliceQuery.getComponentNames()).thenReturn(componentNames);
+		when(sliceQuery.getVaryingComponentName()).thenReturn("c");
 	}
 
-	// /////////////////////// ASCENDING
+	// /////////////////////// SELECT ASCENDING
+	@Test
+	public void should_generate_where_clause_when_same_number_of_components_ascending() throws Exception {
+		when(sliceQuery.getAchillesOrdering()).thenReturn(ASCENDING);
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+		when(sliceQuery.getLastStartComponent()).thenReturn(1);
+		when(sliceQuery.getLastEndComponent()).thenReturn(2);
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
+		Statement statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>=? AND c<=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>? AND c<?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>=? AND c<?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>? AND c<=?;");
+
+	}
+
+	@Test
+	public void should_generate_where_clause_when_more_components_for_start_ascending() throws Exception {
+		when(sliceQuery.getAchillesOrdering()).thenReturn(ASCENDING);
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+		when(sliceQuery.getLastStartComponent()).thenReturn(1);
+		when(sliceQuery.getLastEndComponent()).thenReturn(null);
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
+		Statement statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
+
+	}
+
+	@Test
+	public void should_generate_where_clause_when_more_components_for_end_ascending() throws Exception {
+		when(sliceQuery.getAchillesOrdering()).thenReturn(ASCENDING);
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+		when(sliceQuery.getLastStartComponent()).thenReturn(null);
+		when(sliceQuery.getLastEndComponent()).thenReturn(2);
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
+		Statement statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<=?;");
+
+	}
+
+	// /////////////////////// SELECT DESCENDING
+	@Test
+	public void should_generate_where_clause_when_same_number_of_components_descending() throws Exception {
+		when(sliceQuery.getAchillesOrdering()).thenReturn(DESCENDING);
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+		when(sliceQuery.getLastStartComponent()).thenReturn(2);
+		when(sliceQuery.getLastEndComponent()).thenReturn(1);
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
+		Statement statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<=? AND c>=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<? AND c>?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<=? AND c>?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<? AND c>=?;");
+
+	}
+
+	@Test
+	public void should_generate_where_clause_when_more_components_for_start_descending() throws Exception {
+		when(sliceQuery.getAchillesOrdering()).thenReturn(DESCENDING);
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+		when(sliceQuery.getLastStartComponent()).thenReturn(2);
+		when(sliceQuery.getLastEndComponent()).thenReturn(null);
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
+		Statement statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
+
+	}
+
+	@Test
+	public void should_generate_where_clause_when_more_components_for_end_descending() throws Exception {
+		when(sliceQuery.getAchillesOrdering()).thenReturn(DESCENDING);
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+		when(sliceQuery.getLastStartComponent()).thenReturn(null);
+		when(sliceQuery.getLastEndComponent()).thenReturn(1);
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
+		Statement statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>=?;");
+
+		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
+
+		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
+		statement = generator.generateWhereClauseForSelectSliceQuery(sliceQuery, buildFakeSelect());
+		assertThat(statement.getQueryString()).isEqualTo(
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>=?;");
+
+	}
+
+	@Test
+	public void should_generate_where_clause_for_delete() throws Exception {
+		when(sliceQuery.getFixedComponents()).thenReturn(Arrays.<Object> asList(11L, uuid1, "author"));
+
+		Statement statement = generator.generateWhereClauseForDeleteSliceQuery(sliceQuery, buildFakeDelete());
+
+		assertThat(statement.getQueryString()).isEqualTo(
+				"DELETE  FROM table WHERE id=? AND a=? AND b=?;");
+	}
+
+	// /////////////////////// ITERATOR ASCENDING
 	@Test
 	public void should_generate_iterator_where_clause_for_ascending() throws Exception {
 		when(sliceQuery.getAchillesOrdering()).thenReturn(ASCENDING);
@@ -65,22 +253,22 @@ public class CQLSliceQueryPreparedStatementGeneratorTest {
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
 		Statement statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>? AND c<=2;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>? AND c<=?;");
 
 		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>? AND c<2;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>? AND c<?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>? AND c<2;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>? AND c<?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>? AND c<=2;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>? AND c<=?;");
 	}
 
 	@Test
@@ -93,25 +281,25 @@ public class CQLSliceQueryPreparedStatementGeneratorTest {
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
 		Statement statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
 
 		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c>?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c>?;");
 	}
 
-	// /////////////////////// DESCENDING
+	// /////////////////////// ITERATOR DESCENDING
 	@Test
 	public void should_generate_iterator_where_clause_for_descending() throws Exception {
 		when(sliceQuery.getAchillesOrdering()).thenReturn(DESCENDING);
@@ -122,22 +310,22 @@ public class CQLSliceQueryPreparedStatementGeneratorTest {
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
 		Statement statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<? AND c>=1;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<? AND c>=?;");
 
 		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<? AND c>1;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<? AND c>?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<? AND c>1;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<? AND c>?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<? AND c>=1;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<? AND c>=?;");
 	}
 
 	@Test
@@ -150,26 +338,30 @@ public class CQLSliceQueryPreparedStatementGeneratorTest {
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_BOUNDS);
 		Statement statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
 
 		when(sliceQuery.getBounding()).thenReturn(EXCLUSIVE_BOUNDS);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_START_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
 
 		when(sliceQuery.getBounding()).thenReturn(INCLUSIVE_END_BOUND_ONLY);
 		statement = generator.generateWhereClauseForIteratorSliceQuery(sliceQuery, buildFakeSelect());
 		assertThat(statement.getQueryString()).isEqualTo(
-				"SELECT test FROM table WHERE id=11 AND a=" + uuid1 + " AND b='author' AND c<?;");
+				"SELECT test FROM table WHERE id=? AND a=? AND b=? AND c<?;");
 	}
 
 	private Select buildFakeSelect() {
 		Select select = QueryBuilder.select("test").from("table");
 		return select;
 	}
+
+	private Delete buildFakeDelete() {
+		return QueryBuilder.delete().from("table");
+	}
 }
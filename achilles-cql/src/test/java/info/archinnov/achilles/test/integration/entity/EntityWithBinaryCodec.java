@@ -0,0 +1,113 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensimport javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+ce with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.test.integration.entity;
+
+import info.archinnov.achilles.annotations.Codec;
+import info.archinnov.achilles.codec.JacksonBinaryCodec;
+import info.archinnov.achilles.codec.SchemaBinaryCodec;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class EntityWithBinaryCodec {
+
+	public static final String TABLE_NAME = "EntityWithBinaryCodec";
+
+	@Id
+	private Long id;
+
+	@Codec(SchemaBinaryCodec.class)
+	@Column
+	private Address address;
+
+	@Codec(JacksonBinaryCodec.class)
+	@Column
+	private List<Address> previousAddresses;
+
+	@Codec(SchemaBinaryCodec.class)
+	@Column
+	private Map<Integer, Address> addressesByFloor;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Address getAddress() {
+		return address;
+	}
+
+	public void setAddress(Address address) {
+		this.address = address;
+	}
+
+	public List<Address> getPreviousAddresses() {
+		return previousAddresses;
+	}
+
+	public void setPreviousAddresses(List<Address> previousAddresses) {
+		this.previousAddresses = previousAddresses;
+	}
+
+	public Map<Integer, Address> getAddressesByFloor() {
+		return addressesByFloor;
+	}
+
+	public void setAddressesByFloor(Map<Integer, Address> addressesByFloor) {
+		this.addressesByFloor = addressesByFloor;
+	}
+
+	public static class Address {
+		private String street;
+
+		private int number;
+
+		public Address() {
+		}
+
+		public Address(String street, int number) {
+			this.street = street;
+			this.number = number;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+
+		public int getNumber() {
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+	}
+}
@@ -25,6 +25,7 @@ import info.archinnov.achilles.entity.manager.CQLPersistenceManagerFactory;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.junit.AchillesInternalCQLResource;
 import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.proxy.wrapper.CounterBuilder;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.test.builders.TweetTestBuilder;
 import info.archinnov.achilles.test.builders.UserTestBuilder;
@@ -35,6 +36,7 @@ import info.archinnov.achilles.test.integration.entity.User;
 import info.archinnov.achilles.test.integration.utils.CassandraLogAsserter;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang.math.RandomUtils;
@@ -247,6 +249,33 @@ public class BatchModeIT {
 		logAsserter.assertConsistencyLevels(ONE, ONE);
 	}
 
+	@Test
+	public void should_batch_many_entities_in_native_batches() throws Exception {
+		CQLBatchingPersistenceManager batchEm = pmf.createBatchingPersistenceManager();
+		batchEm.startBatch();
+
+		List<Tweet> tweets = new ArrayList<Tweet>();
+		for (int i = 0; i < 250; i++) {
+			Tweet tweet = TweetTestBuilder.tweet().randomId().content("tweet" + i).buid();
+			tweets.add(tweet);
+			batchEm.persist(tweet);
+		}
+
+		CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("name").version(CounterBuilder.incr(5L))
+				.buid();
+		batchEm.persist(bean);
+		batchEm.removeById(Tweet.class, tweets.get(0).getId());
+
+		batchEm.endBatch();
+
+		assertThat(manager.find(Tweet.class, tweets.get(0).getId())).isNull();
+		for (Tweet tweet : tweets.subList(1, tweets.size())) {
+			assertThat(manager.find(Tweet.class, tweet.getId()).getContent()).isEqualTo(tweet.getContent());
+		}
+		assertThat(manager.find(CompleteBean.class, bean.getId()).getVersion().get()).isEqualTo(5L);
+		assertThatBatchContextHasBeenReset(batchEm);
+	}
+
 	private void assertThatBatchContextHasBeenReset(CQLBatchingPersistenceManager batchEm) {
 		CQLBatchingFlushContext flushContext = Whitebox.getInternalState(batchEm, CQLBatchingFlushContext.class);
 		Optional<ConsistencyLevel> consistencyLevel = Whitebox.getInternalState(flushContext, "consistencyLevel");
@@ -0,0 +1,101 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.test.integration.tests;
+
+import static info.archinnov.achilles.test.integration.entity.EntityWithBinaryCodec.TABLE_NAME;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.manager.CQLPersistenceManager;
+import info.archinnov.achilles.junit.AchillesInternalCQLResource;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.test.integration.entity.EntityWithBinaryCodec;
+import info.archinnov.achilles.test.integration.entity.EntityWithBinaryCodec.Address;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+public class BinaryCodecIT {
+
+	@Rule
+	public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, TABLE_NAME);
+
+	private CQLPersistenceManager manager = resource.getPersistenceManager();
+
+	@Test
+	public void should_persist_and_find_binary_encoded_properties() throws Exception {
+		Long id = RandomUtils.nextLong();
+		EntityWithBinaryCodec entity = new EntityWithBinaryCodec();
+		entity.setId(id);
+		entity.setAddress(new Address("Champs Elysees", 10));
+		entity.setPreviousAddresses(Arrays.asList(new Address("Rue de Rivoli", 3), new Address("Rue Cler", 45)));
+		entity.setAddressesByFloor(ImmutableMap.of(1, new Address("Avenue Foch", 1)));
+
+		manager.persist(entity);
+
+		EntityWithBinaryCodec found = manager.find(EntityWithBinaryCodec.class, id);
+
+		assertThat(found.getAddress().getStreet()).isEqualTo("Champs Elysees");
+		assertThat(found.getAddress().getNumber()).isEqualTo(10);
+		assertThat(found.getPreviousAddresses()).hasSize(2);
+		assertThat(found.getPreviousAddresses().get(1).getStreet()).isEqualTo("Rue Cler");
+		assertThat(found.getAddressesByFloor().get(1).getStreet()).isEqualTo("Avenue Foch");
+	}
+
+	@Test
+	public void should_store_binary_encoded_properties_as_blobs() throws Exception {
+		Long id = RandomUtils.nextLong();
+		EntityWithBinaryCodec entity = new EntityWithBinaryCodec();
+		entity.setId(id);
+		entity.setAddress(new Address("Champs Elysees", 10));
+
+		manager.persist(entity);
+
+		Map<String, Object> row = manager.nativeQuery("SELECT address FROM " + TABLE_NAME + " WHERE id=?", id)
+				.first();
+
+		assertThat(row.get("address")).isInstanceOf(ByteBuffer.class);
+	}
+
+	@Test
+	public void should_update_binary_encoded_properties() throws Exception {
+		Long id = RandomUtils.nextLong();
+		EntityWithBinaryCodec entity = new EntityWithBinaryCodec();
+		entity.setId(id);
+		entity.setAddress(new Address("Champs Elysees", 10));
+		entity.setPreviousAddresses(Lists.newArrayList(new Address("Rue de Rivoli", 3)));
+
+		entity = manager.merge(entity);
+		entity.setAddress(new Address("Boulevard Saint Germain", 20));
+		entity.getPreviousAddresses().add(new Address("Rue Cler", 45));
+		manager.merge(entity);
+
+		EntityWithBinaryCodec found = manager.find(EntityWithBinaryCodec.class, id);
+		List<Address> previousAddresses = found.getPreviousAddresses();
+
+		assertThat(found.getAddress().getStreet()).isEqualTo("Boulevard Saint Germain");
+		assertThat(previousAddresses).hasSize(2);
+		assertThat(previousAddresses.get(1).getNumber()).isEqualTo(45);
+	}
+}
@@ -87,6 +87,35 @@ public class DirtyCheckIT {
 		assertThat(friends.get(2)).isEqualTo("bar");
 	}
 
+	@Test
+	public void should_dirty_check_list_element_prepend_and_set() throws Exception {
+		bean.getFriends().set(1, "qux");
+		bean.getFriends().add(0, "baz");
+		bean.getFriends().add("quux");
+
+		manager.merge(bean);
+
+		Row row = session.execute("select friends from CompleteBean where id=" + bean.getId()).one();
+
+		List<String> friends = row.getList("friends", String.class);
+
+		assertThat(friends).containsExactly("baz", "foo", "qux", "quux");
+	}
+
+	@Test
+	public void should_dirty_check_set_element_add_and_remove() throws Exception {
+		bean.getFollowers().add("John");
+		bean.getFollowers().remove("George");
+
+		manager.merge(bean);
+
+		Row row = session.execute("select followers from CompleteBean where id=" + bean.getId()).one();
+
+		Set<String> followers = row.getSet("followers", String.class);
+
+		assertThat(followers).containsOnly("Paul", "John");
+	}
+
 	@Test
 	public void should_dirty_check_list_element_add_all() throws Exception {
 		bean.getFriends().addAll(Arrays.asList("qux", "baz"));
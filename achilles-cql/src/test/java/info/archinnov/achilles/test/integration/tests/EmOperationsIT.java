@@ -29,6 +29,7 @@ import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.integration.entity.Tweet;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -137,6 +138,25 @@ public class EmOperationsIT {
 		assertThat(found).isInstanceOf(Factory.class);
 	}
 
+	@Test
+	public void should_find_many_by_primary_keys() throws Exception {
+		CompleteBean bean1 = CompleteBeanTestBuilder.builder().randomId().name("John").buid();
+		CompleteBean bean2 = CompleteBeanTestBuilder.builder().randomId().name("Helen").buid();
+
+		manager.persist(bean1);
+		manager.persist(bean2);
+
+		List<CompleteBean> found = manager.find(CompleteBean.class,
+				Arrays.asList(bean2.getId(), RandomUtils.nextLong(), bean1.getId()));
+
+		assertThat(found).hasSize(2);
+		assertThat(found.get(0)).isInstanceOf(Factory.class);
+		assertThat(found.get(0).getId()).isEqualTo(bean2.getId());
+		assertThat(found.get(0).getName()).isEqualTo("Helen");
+		assertThat(found.get(1).getId()).isEqualTo(bean1.getId());
+		assertThat(found.get(1).getName()).isEqualTo("John");
+	}
+
 	@Test
 	public void should_find_lazy_simple() throws Exception {
 		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("Jonathan").label("label").buid();
@@ -294,6 +314,28 @@ public class EmOperationsIT {
 		assertThat(rows).isEmpty();
 	}
 
+	@Test
+	public void should_persist_merge_and_remove_async() throws Exception {
+		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L)
+				.addFriends("foo", "bar").buid();
+
+		manager.persistAsync(entity).get();
+
+		CompleteBean found = manager.find(CompleteBean.class, entity.getId());
+		assertThat(found.getName()).isEqualTo("DuyHai");
+
+		found.setName("Jonathan");
+		CompleteBean merged = manager.mergeAsync(found).get();
+
+		assertThat(merged).isSameAs(found);
+		Row row = session.execute("select name from completebean where id = " + entity.getId()).one();
+		assertThat(row.getString("name")).isEqualTo("Jonathan");
+
+		manager.removeAsync(merged).get();
+
+		assertThat(manager.find(CompleteBean.class, entity.getId())).isNull();
+	}
+
 	@Test
 	public void should_remove_by_id() throws Exception {
 		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L)
@@ -0,0 +1,91 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.test.integration.tests;
+
+import static info.archinnov.achilles.test.integration.entity.CachedUser.TABLE_NAME;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.manager.CQLPersistenceManager;
+import info.archinnov.achilles.entity.manager.CQLPersistenceManagerFactory;
+import info.archinnov.achilles.junit.AchillesInternalCQLResource;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.test.integration.entity.CachedUser;
+
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
+
+public class EntityCacheIT {
+
+	@Rule
+	public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, TABLE_NAME);
+
+	private CQLPersistenceManagerFactory pmf = resource.getPersistenceManagerFactory();
+
+	private CQLPersistenceManager manager = resource.getPersistenceManager();
+
+	@Test
+	public void should_serve_second_find_from_cache() throws Exception {
+		CachedUser user = buildUser("DuyHai");
+		manager.persist(user);
+
+		CacheStats before = pmf.getEntityCacheStats(CachedUser.class);
+
+		CachedUser first = manager.find(CachedUser.class, user.getId());
+		first.getRoles().add("admin");
+		CachedUser second = manager.find(CachedUser.class, user.getId());
+
+		CacheStats stats = pmf.getEntityCacheStats(CachedUser.class).minus(before);
+		assertThat(stats.missCount()).isEqualTo(1);
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getName()).isEqualTo("DuyHai");
+		assertThat(second.getRoles()).containsExactly("user");
+	}
+
+	@Test
+	public void should_evict_cached_entity_on_merge() throws Exception {
+		CachedUser user = manager.merge(buildUser("DuyHai"));
+		manager.find(CachedUser.class, user.getId());
+
+		user.setName("Julien");
+		manager.merge(user);
+
+		assertThat(manager.find(CachedUser.class, user.getId()).getName()).isEqualTo("Julien");
+	}
+
+	@Test
+	public void should_evict_cached_entity_on_remove() throws Exception {
+		CachedUser user = buildUser("DuyHai");
+		manager.persist(user);
+		manager.find(CachedUser.class, user.getId());
+
+		manager.removeById(CachedUser.class, user.getId());
+
+		assertThat(manager.find(CachedUser.class, user.getId())).isNull();
+	}
+
+	private CachedUser buildUser(String name) {
+		CachedUser user = new CachedUser();
+		user.setId(RandomUtils.nextLong());
+		user.setName(name);
+		user.setRoles(Lists.newArrayList("user"));
+		return user;
+	}
+}
@@ -33,6 +33,7 @@ import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.type.OptionsBuilder;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -107,6 +108,40 @@ public class QueryIT {
 		assertThat(count).isEqualTo(1L);
 	}
 
+	@Test
+	public void should_return_rows_for_native_query_with_bound_values() throws Exception {
+		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L).buid();
+
+		manager.persist(entity);
+
+		String nativeQuery = "SELECT name,age_in_years FROM CompleteBean WHERE id=?";
+
+		Map<String, Object> row = manager.nativeQuery(nativeQuery, entity.getId()).first();
+		Map<String, Object> again = manager.nativeQuery(nativeQuery, entity.getId()).first();
+
+		assertThat(row.get("name")).isEqualTo("DuyHai");
+		assertThat(row.get("age_in_years")).isEqualTo(35L);
+		assertThat(again).isEqualTo(row);
+	}
+
+	@Test
+	public void should_iterate_over_rows_for_native_query() throws Exception {
+		CompleteBean entity1 = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().name("John DOO").buid();
+
+		manager.persist(entity1);
+		manager.persist(entity2);
+
+		String nativeQuery = "SELECT name FROM CompleteBean WHERE id IN(?,?)";
+
+		Iterator<Map<String, Object>> iterator = manager.nativeQuery(nativeQuery, entity1.getId(), entity2.getId())
+				.iterator();
+
+		assertThat(iterator.next().get("name")).isEqualTo("DuyHai");
+		assertThat(iterator.next().get("name")).isEqualTo("John DOO");
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
 	@Test
 	public void should_return_ttl_and_timestamp_for_native_query() throws Exception {
 		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(32L).buid();
@@ -452,6 +487,42 @@ public class QueryIT {
 		}
 	}
 
+	@Test
+	public void should_return_entity_for_typed_query_with_bound_values() throws Exception {
+		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L)
+				.addFriends("foo", "bar").buid();
+
+		manager.persist(entity);
+
+		String queryString = "SELECT id,name,friends FROM CompleteBean WHERE id=?";
+		CompleteBean actual = manager.typedQuery(CompleteBean.class, queryString, entity.getId()).getFirst();
+
+		assertThat(actual.getId()).isEqualTo(entity.getId());
+		assertThat(actual.getName()).isEqualTo("DuyHai");
+		assertThat(actual.getFriends()).containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void should_iterate_over_entities_for_typed_query() throws Exception {
+		CompleteBean entity1 = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().name("John DOO").buid();
+
+		manager.persist(entity1);
+		manager.persist(entity2);
+
+		String queryString = "SELECT id,name FROM CompleteBean WHERE id IN(?,?)";
+		Iterator<CompleteBean> iterator = manager.typedQuery(CompleteBean.class, queryString, entity1.getId(),
+				entity2.getId()).iterator();
+
+		CompleteBean found1 = iterator.next();
+		CompleteBean found2 = iterator.next();
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(Factory.class.isAssignableFrom(found1.getClass())).isTrue();
+		assertThat(found1.getName()).isEqualTo("DuyHai");
+		assertThat(found2.getName()).isEqualTo("John DOO");
+	}
+
 	@Test
 	public void should_return_first_entity_for_typed_query_with_simple_select() throws Exception {
 		CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L)
@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.test.integration.tests;
+
+import static org.fest.assertions.api.Assertions.*;
+import info.archinnov.achilles.entity.manager.CQLPersistenceManager;
+import info.archinnov.achilles.junit.AchillesInternalCQLResource;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.test.integration.entity.CompleteBean;
+import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.Multiset;
+
+public class TableScanIT {
+
+	private static final int ENTITY_COUNT = 50;
+
+	@Rule
+	public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, "CompleteBean");
+
+	private CQLPersistenceManager manager = resource.getPersistenceManager();
+
+	@Test
+	public void should_scan_every_entity_exactly_once_over_several_splits() throws Exception {
+		Set<Long> insertedIds = new HashSet<Long>();
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("name" + i).buid();
+			manager.persist(entity);
+			insertedIds.add(entity.getId());
+		}
+
+		final Multiset<Long> scannedIds = ConcurrentHashMultiset.create();
+		manager.scan(CompleteBean.class).splits(8).batchSize(3).raw().forEach(new ScanConsumer<CompleteBean>() {
+			@Override
+			public void consume(CompleteBean entity) {
+				scannedIds.add(entity.getId());
+			}
+		});
+
+		assertThat(scannedIds.elementSet()).isEqualTo(insertedIds);
+		assertThat(scannedIds).hasSize(ENTITY_COUNT);
+	}
+
+	@Test
+	public void should_scan_empty_table() throws Exception {
+		final Multiset<Long> scannedIds = ConcurrentHashMultiset.create();
+		manager.scan(CompleteBean.class).splits(4).batchSize(3).raw().forEach(new ScanConsumer<CompleteBean>() {
+			@Override
+			public void consume(CompleteBean entity) {
+				scannedIds.add(entity.getId());
+			}
+		});
+
+		assertThat(scannedIds).isEmpty();
+	}
+}
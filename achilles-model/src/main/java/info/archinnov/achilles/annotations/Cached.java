@@ -0,0 +1,48 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+/**
+ * <p>
+ * Keep a snapshot of the entity eager fields in a second-level cache, so that repeated finds by primary key
+ * do not hit Cassandra. Writes through Achilles evict the cached snapshot
+ * </p>
+ */
+public @interface Cached {
+	/**
+	 * <p>
+	 * Maximum number of entities kept in the cache. 0 falls back to the global configuration
+	 * </p>
+	 */
+	long maxSize() default 0;
+
+	/**
+	 * <p>
+	 * Time to live of a cached entity, in seconds. 0 falls back to the global configuration
+	 * </p>
+	 */
+	int ttl() default 0;
+}
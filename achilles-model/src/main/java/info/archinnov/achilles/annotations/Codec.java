@@ -0,0 +1,41 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.annotations;
+
+import info.archinnov.achilles.type.BinaryCodec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Documented
+public @interface Codec {
+	/**
+	 * <p>
+	 * Binary codec used to store the non natively supported values of this
+	 * property (value, list/set elements, map keys and values) in blob columns
+	 * instead of JSON text. The codec class should have a public default
+	 * constructor. Overrides the codec set globally with
+	 * "achilles.binary.codec"
+	 * </p>
+	 */
+	Class<? extends BinaryCodec> value();
+}
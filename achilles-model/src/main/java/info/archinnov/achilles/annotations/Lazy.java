@@ -33,4 +33,12 @@ public @interface Lazy {
 	 * and returned on subsequent invocation
 	 * </p>
 	 */
+
+	/**
+	 * <p>
+	 * Fetch group of the property. All lazy properties of a group are loaded
+	 * together at the first access to any of them
+	 * </p>
+	 */
+	String group() default "";
 }
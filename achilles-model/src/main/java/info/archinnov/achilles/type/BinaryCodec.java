@@ -0,0 +1,43 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.type;
+
+import java.nio.ByteBuffer;
+
+public interface BinaryCodec {
+	/**
+	 * Encode a non natively supported value into bytes, stored in a blob column
+	 * 
+	 * @param value
+	 *            value to encode, never null
+	 * @param sourceType
+	 *            declared type of the value, the one given back to decode. The value may be an instance of a subclass
+	 * @return encoded bytes
+	 */
+	public ByteBuffer encode(Object value, Class<?> sourceType);
+
+	/**
+	 * Decode bytes read from a blob column back into a value
+	 * 
+	 * @param bytes
+	 *            encoded bytes, never null
+	 * @param targetType
+	 *            type of the value to decode
+	 * @return decoded value
+	 */
+	public <T> T decode(ByteBuffer bytes, Class<T> targetType);
+}
@@ -21,6 +21,19 @@ public interface Counter {
 
 	public Long get(ConsistencyLevel readLevel);
 
+	/**
+	 * Counter value read from Cassandra plus the local increments not flushed
+	 * yet when counter coalescing is enabled. <br/>
+	 * Without counter coalescing, this is the same as get()
+	 */
+	public Long getWithPendingDeltas();
+
+	/**
+	 * Discard the value loaded by a bulk counter read, so that the next get()
+	 * reads it again from Cassandra
+	 */
+	public void refresh();
+
 	public void incr();
 
 	public void incr(ConsistencyLevel writeLevel);
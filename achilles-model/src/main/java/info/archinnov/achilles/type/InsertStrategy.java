@@ -0,0 +1,36 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.type;
+
+public enum InsertStrategy {
+	/**
+	 * Write all the columns of the entity, null values included
+	 */
+	ALL_FIELDS,
+
+	/**
+	 * Write only the columns having a non null value, sparing one tombstone per null column. Columns of an
+	 * existing row are not reset when the matching property is null
+	 */
+	NOT_NULL_FIELDS,
+
+	/**
+	 * Only valid in {@link info.archinnov.achilles.annotations.Strategy}: keep the insert strategy of the global
+	 * configuration
+	 */
+	INHERIT;
+}
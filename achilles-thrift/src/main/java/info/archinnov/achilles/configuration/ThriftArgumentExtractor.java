@@ -63,4 +63,14 @@ public class ThriftArgumentExtractor extends ArgumentExtractor {
 		keyspace.setConsistencyLevelPolicy(consistencyPolicy);
 		return keyspace;
 	}
+
+	public int initBatchMaxSize(Map<String, Object> configurationMap) {
+		Integer batchMaxSize = DEFAULT_BATCH_MAX_SIZE;
+		if (configurationMap.containsKey(BATCH_MAX_SIZE_PARAM)) {
+			batchMaxSize = (Integer) configurationMap.get(BATCH_MAX_SIZE_PARAM);
+			Validator.validateTrue(batchMaxSize != null && batchMaxSize > 0, "%s property should be strictly positive",
+					BATCH_MAX_SIZE_PARAM);
+		}
+		return batchMaxSize;
+	}
 }
@@ -25,4 +25,8 @@ public interface ThriftConfigurationParameters extends ConfigurationParameters {
 	String CLUSTER_PARAM = "achilles.cassandra.cluster";
 	String KEYSPACE_PARAM = "achilles.cassandra.keyspace";
 
+	String BATCH_MAX_SIZE_PARAM = "achilles.cassandra.batch.max.size";
+
+	int DEFAULT_BATCH_MAX_SIZE = 1000;
+
 }
@@ -16,56 +16,91 @@
  */
 package info.archinnov.achilles.context;
 
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.counter.AchillesCounter;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
-import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import me.prettyprint.hector.api.mutation.Mutator;
 
-import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.collect.SetMultimap;
+
 public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushContext<T>> extends FlushContext<T> {
 	protected static final Logger log = LoggerFactory.getLogger(ThriftAbstractFlushContext.class);
 
 	protected ThriftDaoContext thriftDaoContext;
-	protected ThriftConsistencyContext consistencyContext;
+	protected AchillesMetrics metrics;
 
-	protected Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap = new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>();
-	protected boolean hasCustomConsistencyLevels = false;
+	protected Map<ConsistencyLevel, Mutator<Object>> mutatorMap = new HashMap<ConsistencyLevel, Mutator<Object>>();
+	protected List<Mutator<Object>> mutators = new ArrayList<Mutator<Object>>();
+	protected Map<ConsistencyLevel, Mutator<Object>> counterMutatorMap = new HashMap<ConsistencyLevel, Mutator<Object>>();
+	protected List<Mutator<Object>> counterMutators = new ArrayList<Mutator<Object>>();
 	protected ConsistencyLevel consistencyLevel;
 
-	protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext, AchillesConsistencyLevelPolicy policy,
+	protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext, AchillesMetrics metrics,
 			ConsistencyLevel consistencyLevel) {
 		this.thriftDaoContext = thriftDaoContext;
-		this.consistencyContext = new ThriftConsistencyContext(policy, consistencyLevel);
+		this.metrics = metrics;
+		this.consistencyLevel = consistencyLevel;
 	}
 
-	protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext,
-			ThriftConsistencyContext consistencyContext,
-			Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap, boolean hasCustomConsistencyLevels) {
+	protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext, AchillesMetrics metrics,
+			Map<ConsistencyLevel, Mutator<Object>> mutatorMap, List<Mutator<Object>> mutators,
+			Map<ConsistencyLevel, Mutator<Object>> counterMutatorMap, List<Mutator<Object>> counterMutators,
+			SetMultimap<EntityCache, Object> pendingEvictions, ConsistencyLevel consistencyLevel) {
+		super(pendingEvictions);
 		this.thriftDaoContext = thriftDaoContext;
-		this.consistencyContext = consistencyContext;
+		this.metrics = metrics;
 		this.mutatorMap = mutatorMap;
-		this.hasCustomConsistencyLevels = hasCustomConsistencyLevels;
+		this.mutators = mutators;
+		this.counterMutatorMap = counterMutatorMap;
+		this.counterMutators = counterMutators;
+		this.consistencyLevel = consistencyLevel;
 	}
 
+	/**
+	 * Each mutator is sent as a single batch_mutate spanning all the column
+	 * families written with its consistency level. Regular mutations carry
+	 * their own timestamp so the apply order of the mutators does not matter
+	 * and they are executed in parallel.
+	 * 
+	 * Counter mutations have no timestamp, a counter removal followed by an
+	 * increment does not give the same result when applied the other way
+	 * round. Counter mutators are therefore executed one after the other, in
+	 * creation order, once all the regular mutators are applied
+	 */
 	protected void doFlush() {
 		log.debug("Execute mutations flush");
 		try {
-			for (Entry<String, Pair<Mutator<Object>, ThriftAbstractDao>> entry : mutatorMap.entrySet()) {
-				ThriftAbstractDao dao = entry.getValue().right;
-				Mutator<?> mutator = entry.getValue().left;
-				dao.executeMutator(mutator);
+			List<Mutator<Object>> pendingMutators = filterPending(mutators);
+			List<Mutator<Object>> pendingCounterMutators = filterPending(counterMutators);
+
+			if (metrics != null) {
+				metrics.recordStatements(pendingMutators.size() + pendingCounterMutators.size());
+			}
+
+			if (pendingMutators.size() == 1) {
+				execute(pendingMutators.get(0));
+			} else if (pendingMutators.size() > 1) {
+				executeInParallel(pendingMutators);
+			}
+			for (Mutator<Object> counterMutator : pendingCounterMutators) {
+				execute(counterMutator);
 			}
 		} finally {
 			cleanUp();
@@ -75,72 +110,99 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
 	@Override
 	public void cleanUp() {
 		log.debug("Cleaning up flush context");
-		consistencyContext.reinitConsistencyLevels();
-		hasCustomConsistencyLevels = false;
 		mutatorMap.clear();
+		mutators.clear();
+		counterMutatorMap.clear();
+		counterMutators.clear();
+		evictPendingFromCache();
 	}
 
 	@Override
 	public void setConsistencyLevel(ConsistencyLevel consistencyLevel) {
-		hasCustomConsistencyLevels = true;
-		consistencyContext.setConsistencyLevel(consistencyLevel);
-	}
-
-	public void reinitConsistencyLevels() {
-		if (!hasCustomConsistencyLevels) {
-			consistencyContext.reinitConsistencyLevels();
-		}
+		this.consistencyLevel = consistencyLevel;
 	}
 
 	public Mutator<Object> getEntityMutator(String tableName) {
 		Mutator<Object> mutator = null;
-		if (mutatorMap.containsKey(tableName)) {
-			mutator = mutatorMap.get(tableName).left;
-		} else {
-			ThriftGenericEntityDao entityDao = thriftDaoContext.findEntityDao(tableName);
-
-			if (entityDao != null) {
-				mutator = entityDao.buildMutator();
-				mutatorMap.put(tableName, Pair.<Mutator<Object>, ThriftAbstractDao> create(mutator, entityDao));
-			}
+		ThriftGenericEntityDao entityDao = thriftDaoContext.findEntityDao(tableName);
+		if (entityDao != null) {
+			mutator = getMutator(entityDao, mutatorMap, mutators);
 		}
 		return mutator;
 	}
 
 	public Mutator<Object> getWideRowMutator(String tableName) {
 		Mutator<Object> mutator = null;
-		if (mutatorMap.containsKey(tableName)) {
-			mutator = mutatorMap.get(tableName).left;
-		} else {
-			ThriftGenericWideRowDao columnFamilyDao = thriftDaoContext.findWideRowDao(tableName);
-
-			if (columnFamilyDao != null) {
-				mutator = columnFamilyDao.buildMutator();
-				mutatorMap.put(tableName, Pair.<Mutator<Object>, ThriftAbstractDao> create(mutator, columnFamilyDao));
-			}
+		ThriftGenericWideRowDao columnFamilyDao = thriftDaoContext.findWideRowDao(tableName);
+		if (columnFamilyDao != null) {
+			mutator = getMutator(columnFamilyDao, mutatorMap, mutators);
 		}
 		return mutator;
 	}
 
 	public Mutator<Object> getCounterMutator() {
-		Mutator<Object> mutator = null;
-		if (mutatorMap.containsKey(AchillesCounter.THRIFT_COUNTER_CF)) {
-			mutator = mutatorMap.get(AchillesCounter.THRIFT_COUNTER_CF).left;
-		} else {
-			ThriftCounterDao thriftCounterDao = thriftDaoContext.getCounterDao();
-			mutator = thriftCounterDao.buildMutator();
-			mutatorMap.put(AchillesCounter.THRIFT_COUNTER_CF,
-					Pair.<Mutator<Object>, ThriftAbstractDao> create(mutator, thriftCounterDao));
+		return getMutator(thriftDaoContext.getCounterDao(), counterMutatorMap, counterMutators);
+	}
+
+	@Override
+	public ConsistencyLevel getConsistencyLevel() {
+		return consistencyLevel;
+	}
+
+	private Mutator<Object> getMutator(ThriftAbstractDao dao, Map<ConsistencyLevel, Mutator<Object>> mutatorMap,
+			List<Mutator<Object>> mutators) {
+		ConsistencyLevel writeLevel = dao.getWriteLevel(Optional.fromNullable(consistencyLevel));
+		Mutator<Object> mutator = mutatorMap.get(writeLevel);
+		if (mutator == null || mutator.getPendingMutationCount() >= thriftDaoContext.getBatchMaxSize()) {
+			log.trace("Create new mutator with consistency level {}", writeLevel);
+			mutator = dao.buildSharedMutator(Optional.fromNullable(writeLevel));
+			mutatorMap.put(writeLevel, mutator);
+			mutators.add(mutator);
 		}
 		return mutator;
 	}
 
-	public ThriftConsistencyContext getConsistencyContext() {
-		return consistencyContext;
+	private List<Mutator<Object>> filterPending(List<Mutator<Object>> mutators) {
+		List<Mutator<Object>> pendingMutators = new ArrayList<Mutator<Object>>();
+		for (Mutator<Object> mutator : mutators) {
+			if (mutator.getPendingMutationCount() > 0) {
+				pendingMutators.add(mutator);
+			}
+		}
+		return pendingMutators;
 	}
 
-	@Override
-	public ConsistencyLevel getConsistencyLevel() {
-		return consistencyContext.getConsistencyLevel();
+	private void execute(Mutator<Object> mutator) {
+		log.trace("Execute batch mutation of {} mutations", mutator.getPendingMutationCount());
+		mutator.execute();
+	}
+
+	private void executeInParallel(List<Mutator<Object>> pendingMutators) {
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		for (final Mutator<Object> mutator : pendingMutators) {
+			futures.add(thriftDaoContext.getFlushExecutor().submit(new Runnable() {
+				@Override
+				public void run() {
+					execute(mutator);
+				}
+			}));
+		}
+
+		Throwable failure = null;
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				failure = failure == null ? e.getCause() : failure;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failure = failure == null ? e : failure;
+			}
+		}
+
+		if (failure != null) {
+			Throwables.propagateIfPossible(failure);
+			throw new AchillesException(failure);
+		}
 	}
 }
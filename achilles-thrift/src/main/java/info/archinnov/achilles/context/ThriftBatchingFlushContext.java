@@ -17,36 +17,42 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.context.FlushContext.FlushType.BATCH;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.cache.EntityCache;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.List;
 import java.util.Map;
 
 import me.prettyprint.hector.api.mutation.Mutator;
 
-import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.SetMultimap;
+
 public class ThriftBatchingFlushContext extends ThriftAbstractFlushContext<ThriftBatchingFlushContext> {
 
 	private static final Logger log = LoggerFactory.getLogger(ThriftImmediateFlushContext.class);
 
-	public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext, AchillesConsistencyLevelPolicy policy,
+	public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext, AchillesMetrics metrics,
 			ConsistencyLevel consistencyLevel) {
-		super(thriftDaoContext, policy, consistencyLevel);
+		super(thriftDaoContext, metrics, consistencyLevel);
 	}
 
-	public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext, ThriftConsistencyContext consistencyContext,
-			Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap, boolean hasCustomConsistencyLevels) {
-		super(thriftDaoContext, consistencyContext, mutatorMap, hasCustomConsistencyLevels);
+	public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext, AchillesMetrics metrics,
+			Map<ConsistencyLevel, Mutator<Object>> mutatorMap, List<Mutator<Object>> mutators,
+			Map<ConsistencyLevel, Mutator<Object>> counterMutatorMap, List<Mutator<Object>> counterMutators,
+			SetMultimap<EntityCache, Object> pendingEvictions, ConsistencyLevel consistencyLevel) {
+		super(thriftDaoContext, metrics, mutatorMap, mutators, counterMutatorMap, counterMutators, pendingEvictions,
+				consistencyLevel);
 	}
 
 	@Override
 	public void startBatch() {
 		log.debug("Starting a new batch");
 		super.cleanUp();
+		consistencyLevel = null;
 	}
 
 	@Override
@@ -57,8 +63,11 @@ public class ThriftBatchingFlushContext extends ThriftAbstractFlushContext<Thrif
 	@Override
 	public void endBatch() {
 		log.debug("Ending current batch");
-		consistencyContext.setConsistencyLevel();
-		doFlush();
+		try {
+			doFlush();
+		} finally {
+			consistencyLevel = null;
+		}
 	}
 
 	@Override
@@ -69,7 +78,7 @@ public class ThriftBatchingFlushContext extends ThriftAbstractFlushContext<Thrif
 
 	@Override
 	public ThriftBatchingFlushContext duplicate() {
-		return new ThriftBatchingFlushContext(thriftDaoContext, consistencyContext, mutatorMap,
-				hasCustomConsistencyLevels);
+		return new ThriftBatchingFlushContext(thriftDaoContext, metrics, mutatorMap, mutators, counterMutatorMap,
+				counterMutators, pendingEvictions, consistencyLevel);
 	}
 }
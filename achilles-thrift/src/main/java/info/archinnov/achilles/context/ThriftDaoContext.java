@@ -16,22 +16,40 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.configuration.ThriftConfigurationParameters.DEFAULT_BATCH_MAX_SIZE;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.MoreExecutors;
 
 public class ThriftDaoContext {
 	private final Map<String, ThriftGenericEntityDao> entityDaosMap;
 	private final Map<String, ThriftGenericWideRowDao> wideRowDaosMap;
 	private final ThriftCounterDao thriftCounterDao;
+	private final int batchMaxSize;
+	private final ExecutorService flushExecutor;
+	private ThriftCounterCoalescer counterCoalescer;
+	private ExecutorService slicePrefetchExecutor;
 
 	public ThriftDaoContext(Map<String, ThriftGenericEntityDao> entityDaosMap,
 			Map<String, ThriftGenericWideRowDao> wideRowDaosMap, ThriftCounterDao thriftCounterDao) {
+		this(entityDaosMap, wideRowDaosMap, thriftCounterDao, DEFAULT_BATCH_MAX_SIZE, MoreExecutors
+				.sameThreadExecutor());
+	}
+
+	public ThriftDaoContext(Map<String, ThriftGenericEntityDao> entityDaosMap,
+			Map<String, ThriftGenericWideRowDao> wideRowDaosMap, ThriftCounterDao thriftCounterDao, int batchMaxSize,
+			ExecutorService flushExecutor) {
 		this.entityDaosMap = entityDaosMap;
 		this.wideRowDaosMap = wideRowDaosMap;
 		this.thriftCounterDao = thriftCounterDao;
+		this.batchMaxSize = batchMaxSize;
+		this.flushExecutor = flushExecutor;
 	}
 
 	public ThriftCounterDao getCounterDao() {
@@ -45,4 +63,28 @@ public class ThriftDaoContext {
 	public ThriftGenericWideRowDao findWideRowDao(String columnFamilyName) {
 		return wideRowDaosMap.get(columnFamilyName);
 	}
+
+	public int getBatchMaxSize() {
+		return batchMaxSize;
+	}
+
+	public ExecutorService getFlushExecutor() {
+		return flushExecutor;
+	}
+
+	public ThriftCounterCoalescer getCounterCoalescer() {
+		return counterCoalescer;
+	}
+
+	public void setCounterCoalescer(ThriftCounterCoalescer counterCoalescer) {
+		this.counterCoalescer = counterCoalescer;
+	}
+
+	public ExecutorService getSlicePrefetchExecutor() {
+		return slicePrefetchExecutor;
+	}
+
+	public void setSlicePrefetchExecutor(ExecutorService slicePrefetchExecutor) {
+		this.slicePrefetchExecutor = slicePrefetchExecutor;
+	}
 }
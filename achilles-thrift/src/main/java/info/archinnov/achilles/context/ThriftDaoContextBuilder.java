@@ -24,6 +24,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
@@ -37,7 +38,8 @@ public class ThriftDaoContextBuilder {
 	private ThriftDaoFactory daoFactory = new ThriftDaoFactory();
 
 	public ThriftDaoContext buildDao(Cluster cluster, Keyspace keyspace, Map<Class<?>, EntityMeta> entityMetaMap,
-			ConfigurationContext configContext, boolean hasSimpleCounter) {
+			ConfigurationContext configContext, boolean hasSimpleCounter, int batchMaxSize,
+			ExecutorService flushExecutor) {
 
 		Map<String, ThriftGenericEntityDao> entityDaosMap = new HashMap<String, ThriftGenericEntityDao>();
 		Map<String, ThriftGenericWideRowDao> wideRowDaosMap = new HashMap<String, ThriftGenericWideRowDao>();
@@ -55,6 +57,6 @@ public class ThriftDaoContextBuilder {
 						wideRowDaosMap);
 			}
 		}
-		return new ThriftDaoContext(entityDaosMap, wideRowDaosMap, thriftCounterDao);
+		return new ThriftDaoContext(entityDaosMap, wideRowDaosMap, thriftCounterDao, batchMaxSize, flushExecutor);
 	}
 }
@@ -17,29 +17,34 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.context.FlushContext.FlushType.*;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.cache.EntityCache;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.List;
 import java.util.Map;
 
 import me.prettyprint.hector.api.mutation.Mutator;
 
-import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.SetMultimap;
+
 public class ThriftImmediateFlushContext extends ThriftAbstractFlushContext<ThriftImmediateFlushContext> {
 	private static final Logger log = LoggerFactory.getLogger(ThriftImmediateFlushContext.class);
 
-	public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext, AchillesConsistencyLevelPolicy policy,
+	public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext, AchillesMetrics metrics,
 			ConsistencyLevel consistencyLevel) {
-		super(thriftDaoContext, policy, consistencyLevel);
+		super(thriftDaoContext, metrics, consistencyLevel);
 	}
 
-	public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext, ThriftConsistencyContext consistencyContext,
-			Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap, boolean hasCustomConsistencyLevels) {
-		super(thriftDaoContext, consistencyContext, mutatorMap, hasCustomConsistencyLevels);
+	public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext, AchillesMetrics metrics,
+			Map<ConsistencyLevel, Mutator<Object>> mutatorMap, List<Mutator<Object>> mutators,
+			Map<ConsistencyLevel, Mutator<Object>> counterMutatorMap, List<Mutator<Object>> counterMutators,
+			SetMultimap<EntityCache, Object> pendingEvictions, ConsistencyLevel consistencyLevel) {
+		super(thriftDaoContext, metrics, mutatorMap, mutators, counterMutatorMap, counterMutators, pendingEvictions,
+				consistencyLevel);
 	}
 
 	@Override
@@ -67,7 +72,7 @@ public class ThriftImmediateFlushContext extends ThriftAbstractFlushContext<Thri
 
 	@Override
 	public ThriftImmediateFlushContext duplicate() {
-		return new ThriftImmediateFlushContext(thriftDaoContext, consistencyContext, mutatorMap,
-				hasCustomConsistencyLevels);
+		return new ThriftImmediateFlushContext(thriftDaoContext, metrics, mutatorMap, mutators, counterMutatorMap,
+				counterMutators, pendingEvictions, consistencyLevel);
 	}
 }
@@ -16,7 +16,8 @@
  */
 package info.archinnov.achilles.context;
 
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
+import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -28,8 +29,11 @@ import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.proxy.EntityInterceptor;
-import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+
+import java.util.concurrent.ExecutorService;
+
+import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.mutation.Mutator;
 
 import org.slf4j.Logger;
@@ -91,50 +95,29 @@ public class ThriftPersistenceContext extends PersistenceContext {
 
 	@Override
 	public void persist() {
-		flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				persister.persist(ThriftPersistenceContext.this);
-				flush();
-				return null;
-			}
-		});
+		persister.persist(this);
+		flush();
+		evictFromCache();
 	}
 
 	@Override
-	public <T> T merge(final T entity) {
-
-		return flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(new SafeExecutionContext<T>() {
-			@Override
-			public T execute() {
-				T merged = merger.<T> merge(ThriftPersistenceContext.this, entity);
-				flush();
-				return merged;
-			}
-		});
-
+	public <T> T merge(T entity) {
+		T merged = merger.<T> merge(this, entity);
+		flush();
+		evictFromCache();
+		return merged;
 	}
 
 	@Override
 	public void remove() {
-		flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				persister.remove(ThriftPersistenceContext.this);
-				flush();
-				return null;
-			}
-		});
+		persister.remove(this);
+		flush();
+		evictFromCache();
 	}
 
 	@Override
-	public <T> T find(final Class<T> entityClass) {
-		T entity = flushContext.getConsistencyContext().executeWithReadConsistencyLevel(new SafeExecutionContext<T>() {
-			@Override
-			public T execute() {
-				return loader.<T> load(ThriftPersistenceContext.this, entityClass);
-			}
-		});
+	public <T> T find(Class<T> entityClass) {
+		T entity = loader.<T> load(this, entityClass);
 
 		if (entity != null) {
 			entity = proxifier.buildProxy(entity, this);
@@ -150,44 +133,18 @@ public class ThriftPersistenceContext extends PersistenceContext {
 
 	@Override
 	public void refresh() throws AchillesStaleObjectStateException {
-		flushContext.getConsistencyContext().executeWithReadConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				try {
-					refresher.refresh(ThriftPersistenceContext.this);
-				} catch (AchillesStaleObjectStateException e) {
-					throw new RuntimeException(e);
-				}
-				return null;
-			}
-		});
-
+		evictFromCache();
+		refresher.refresh(this);
 	}
 
 	@Override
-	public <T> T initialize(final T entity) {
+	public <T> T initialize(T entity) {
 		log.debug("Force lazy fields initialization for entity {}", entity);
-		final EntityInterceptor<ThriftPersistenceContext, T> interceptor = proxifier.getInterceptor(entity);
-
-		flushContext.getConsistencyContext().executeWithReadConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				initializer.initializeEntity(entity, entityMeta, interceptor);
-				return null;
-			}
-		});
-
+		EntityInterceptor<ThriftPersistenceContext, T> interceptor = proxifier.getInterceptor(entity);
+		initializer.initializeEntity(entity, entityMeta, interceptor);
 		return entity;
 	}
 
-	public <T> T executeWithReadConsistencyLevel(SafeExecutionContext<T> context, ConsistencyLevel readLevel) {
-		return flushContext.getConsistencyContext().executeWithReadConsistencyLevel(context, readLevel);
-	}
-
-	public <T> T executeWithWriteConsistencyLevel(SafeExecutionContext<T> context, ConsistencyLevel writeLevel) {
-		return flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(context, writeLevel);
-	}
-
 	public boolean isValueless() {
 		return entityMeta.isValueless();
 	}
@@ -204,6 +161,21 @@ public class ThriftPersistenceContext extends PersistenceContext {
 		return daoContext.getCounterDao();
 	}
 
+	public ThriftCounterCoalescer getCounterCoalescer() {
+		return daoContext.getCounterCoalescer();
+	}
+
+	public void discardPendingCounterDeltas(ThriftAbstractDao counterDao, Object rowKey, Composite columnName) {
+		ThriftCounterCoalescer counterCoalescer = daoContext.getCounterCoalescer();
+		if (counterCoalescer != null) {
+			counterCoalescer.discardPendingDeltas(counterDao, rowKey, columnName);
+		}
+	}
+
+	public ExecutorService getSlicePrefetchExecutor() {
+		return daoContext.getSlicePrefetchExecutor();
+	}
+
 	public Mutator<Object> getEntityMutator(String tableName) {
 		return flushContext.getEntityMutator(tableName);
 	}
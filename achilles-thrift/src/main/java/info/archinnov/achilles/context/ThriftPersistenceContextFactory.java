@@ -86,8 +86,8 @@ public class ThriftPersistenceContextFactory implements PersistenceContextFactor
 	}
 
 	private ThriftImmediateFlushContext buildImmediateFlushContext(Options options) {
-		return new ThriftImmediateFlushContext(daoContext, configContext.getConsistencyPolicy(), options
-				.getConsistencyLevel().orNull());
+		return new ThriftImmediateFlushContext(daoContext, configContext.getMetrics(), options.getConsistencyLevel()
+				.orNull());
 	}
 
 }
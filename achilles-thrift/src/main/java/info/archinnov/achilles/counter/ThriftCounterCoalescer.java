@@ -0,0 +1,137 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.COMPOSITE_SRZ;
+import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import me.prettyprint.cassandra.model.HCounterColumnImpl;
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+
+public class ThriftCounterCoalescer extends CounterCoalescer<ThriftCounterCoalescer.CounterKey> {
+
+	private int batchMaxSize;
+
+	public ThriftCounterCoalescer(long flushInterval, int flushThreshold, int batchMaxSize) {
+		super(flushInterval, flushThreshold);
+		this.batchMaxSize = batchMaxSize;
+	}
+
+	public void add(ThriftAbstractDao counterDao, Object rowKey, Composite columnName,
+			Optional<ConsistencyLevel> writeLevelO, long delta) {
+		add(new CounterKey(counterDao, rowKey, columnName, counterDao.getWriteLevel(writeLevelO)), delta);
+	}
+
+	public long getPendingDelta(ThriftAbstractDao counterDao, Object rowKey, Composite columnName) {
+		long pendingDelta = getPendingDelta(new CounterKey(counterDao, rowKey, columnName, null));
+		for (ConsistencyLevel writeLevel : ConsistencyLevel.values()) {
+			pendingDelta += getPendingDelta(new CounterKey(counterDao, rowKey, columnName, writeLevel));
+		}
+		return pendingDelta;
+	}
+
+	/**
+	 * Drop the pending deltas of a counter column, whatever the consistency level they would be written with
+	 */
+	public void discardPendingDeltas(final ThriftAbstractDao counterDao, final Object rowKey,
+			final Composite columnName) {
+		discardPendingDeltas(new Predicate<CounterKey>() {
+			@Override
+			public boolean apply(CounterKey key) {
+				return Objects.equal(counterDao.getColumnFamily(), key.counterDao.getColumnFamily())
+						&& Objects.equal(rowKey, key.rowKey) && Objects.equal(columnName, key.columnName);
+			}
+		});
+	}
+
+	@Override
+	protected void writeDeltas(Map<CounterKey, Long> deltas) {
+		Map<ConsistencyLevel, List<Entry<CounterKey, Long>>> updatesByLevel;
+		updatesByLevel = new HashMap<ConsistencyLevel, List<Entry<CounterKey, Long>>>();
+		for (Entry<CounterKey, Long> entry : deltas.entrySet()) {
+			ConsistencyLevel writeLevel = entry.getKey().writeLevel;
+			if (!updatesByLevel.containsKey(writeLevel)) {
+				updatesByLevel.put(writeLevel, new ArrayList<Entry<CounterKey, Long>>());
+			}
+			updatesByLevel.get(writeLevel).add(entry);
+		}
+
+		for (Entry<ConsistencyLevel, List<Entry<CounterKey, Long>>> levelUpdates : updatesByLevel.entrySet()) {
+			Optional<ConsistencyLevel> writeLevelO = Optional.fromNullable(levelUpdates.getKey());
+			for (List<Entry<CounterKey, Long>> batch : Lists.partition(levelUpdates.getValue(), batchMaxSize)) {
+				ThriftAbstractDao dao = batch.get(0).getKey().counterDao;
+				Mutator<Object> mutator = dao.buildSharedMutator(writeLevelO);
+				for (Entry<CounterKey, Long> update : batch) {
+					CounterKey key = update.getKey();
+					mutator.addCounter(key.rowKey, key.counterDao.getColumnFamily(),
+							new HCounterColumnImpl<Composite>(key.columnName, update.getValue(), COMPOSITE_SRZ));
+				}
+				dao.executeMutator(mutator);
+			}
+		}
+	}
+
+	/**
+	 * Counter column of a row in a counter column family, with its write consistency level
+	 */
+	public static class CounterKey {
+		private final ThriftAbstractDao counterDao;
+		private final Object rowKey;
+		private final Composite columnName;
+		private final ConsistencyLevel writeLevel;
+
+		public CounterKey(ThriftAbstractDao counterDao, Object rowKey, Composite columnName,
+				ConsistencyLevel writeLevel) {
+			this.counterDao = counterDao;
+			this.rowKey = rowKey;
+			this.columnName = columnName;
+			this.writeLevel = writeLevel;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(counterDao.getColumnFamily(), rowKey, columnName, writeLevel);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CounterKey other = (CounterKey) obj;
+			return Objects.equal(counterDao.getColumnFamily(), other.counterDao.getColumnFamily())
+					&& Objects.equal(rowKey, other.rowKey) && Objects.equal(columnName, other.columnName)
+					&& writeLevel == other.writeLevel;
+		}
+	}
+}
@@ -16,25 +16,36 @@
  */
 package info.archinnov.achilles.dao;
 
+import static info.archinnov.achilles.consistency.ThriftConsistencyConvertor.getHectorLevel;
 import static info.archinnov.achilles.logger.ThriftLoggerHelper.*;
 import static me.prettyprint.hector.api.factory.HFactory.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.counter.AchillesCounter;
 import info.archinnov.achilles.iterator.ThriftCounterSliceIterator;
 import info.archinnov.achilles.iterator.ThriftSliceIterator;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.serializer.ThriftRowKeySerializer;
 import info.archinnov.achilles.serializer.ThriftSerializerTypeInferer;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
+import me.prettyprint.cassandra.model.ConfigurableConsistencyLevel;
+import me.prettyprint.cassandra.model.ExecutingKeyspace;
 import me.prettyprint.cassandra.model.HCounterColumnImpl;
 import me.prettyprint.cassandra.model.thrift.ThriftCounterColumnQuery;
+import me.prettyprint.cassandra.service.FailoverPolicy;
 import me.prettyprint.hector.api.Cluster;
+import me.prettyprint.hector.api.HConsistencyLevel;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.Serializer;
 import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.CounterRows;
 import me.prettyprint.hector.api.beans.HColumn;
 import me.prettyprint.hector.api.beans.HCounterColumn;
 import me.prettyprint.hector.api.beans.Rows;
@@ -52,6 +63,7 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 public abstract class ThriftAbstractDao {
 	public static final String LOGGER_NAME = "ACHILLES_DAO";
@@ -63,6 +75,9 @@ public abstract class ThriftAbstractDao {
 	protected String columnFamily;
 	protected AchillesConsistencyLevelPolicy policy;
 	protected Pair<?, ?> rowkeyAndValueClasses;
+	protected AchillesMetrics metrics;
+
+	private final ConcurrentMap<ConsistencyLevel, Keyspace> keyspacesByLevel = Maps.newConcurrentMap();
 
 	public static int DEFAULT_LENGTH = 100;
 
@@ -81,15 +96,6 @@ public abstract class ThriftAbstractDao {
 		this.rowkeyAndValueClasses = rowkeyAndValueClasses;
 	}
 
-	private <T> T reinitConsistencyLevels(SafeExecutionContext<T> context) {
-		log.trace("Execute safely and reinit consistency level in thread {}", Thread.currentThread());
-		try {
-			return context.execute();
-		} finally {
-			this.policy.reinitDefaultConsistencyLevels();
-		}
-	}
-
 	protected <V> Function<HColumn<Composite, V>, V> getHColumnToValueFn() {
 		return new Function<HColumn<Composite, V>, V>()
 
@@ -129,41 +135,42 @@ public abstract class ThriftAbstractDao {
 		mutator.addInsertion(key, columnFamily, column);
 	}
 
-	public <K, V> V getValue(final K key, final Composite name) {
+	public <K, V> V getValue(K key, Composite name) {
+		return this.<K, V> getValue(key, name, Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K, V> V getValue(K key, Composite name, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace("Get value from column family {} with key {} and column name {}", columnFamily, key, format(name));
 		}
 
 		V result = null;
-		HColumn<Composite, V> column = getColumn(key, name);
+		HColumn<Composite, V> column = getColumn(key, name, readLevelO);
 		if (column != null) {
 			result = column.getValue();
 		}
 		return result;
 	}
 
-	public <K, V> HColumn<Composite, V> getColumn(final K key, final Composite name) {
+	public <K, V> HColumn<Composite, V> getColumn(K key, Composite name, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace("Get column from column family {} with key {} and column name {}", columnFamily, key,
 					format(name));
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<HColumn<Composite, V>>() {
-			@Override
-			public HColumn<Composite, V> execute() {
-				return HFactory
-						.createColumnQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-								ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
-						.setName(name).execute().get();
-			}
-		});
+		return HFactory
+				.createColumnQuery(readKeyspace(readLevelO), this.<K> rowSrz(), columnNameSerializer, this.<V> valSrz())
+				.setColumnFamily(columnFamily).setKey(key).setName(name).execute().get();
 	}
 
 	public <K, V> void setValue(K key, Composite name, V value) {
+		this.setValue(key, name, value, Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K, V> void setValue(K key, Composite name, V value, Optional<ConsistencyLevel> writeLevelO) {
 		log.trace("Set value {} to column family {} with key {} , column name {}", value, columnFamily, key, name);
 
-		Mutator<K> mutator = HFactory.createMutator(keyspace, this.<K> rowSrz());
+		Mutator<K> mutator = this.buildMutator(writeLevelO);
 		this.setValueBatch(key, name, value, Optional.<Integer> absent(), Optional.<Long> absent(), mutator);
 		this.executeMutator(mutator);
 	}
@@ -221,132 +228,128 @@ public abstract class ThriftAbstractDao {
 		}
 	}
 
-	public <K, V> List<V> findValuesRange(final K key, final Composite start, final Composite end,
-			final boolean reverse, final int count) {
+	public <K, V> List<V> findValuesRange(K key, Composite start, Composite end, boolean reverse, int count,
+			Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Find {} values slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		List<HColumn<Composite, V>> columns = reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>() {
-			@Override
-			public List<HColumn<Composite, V>> execute() {
-				return createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-						ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
-						.setRange(start, end, reverse, count).execute().get().getColumns();
-			}
-		});
+		List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
+				.setRange(start, end, reverse, count).execute().get().getColumns();
 		return Lists.transform(columns, this.<V> getHColumnToValueFn());
 	}
 
-	public <K, V> List<Pair<Composite, V>> findColumnsRange(final K key, final Composite start, final Composite end,
-			final boolean reverse, final int count) {
+	public <K, V> List<Pair<Composite, V>> findColumnsRange(K key, Composite start, Composite end, boolean reverse,
+			int count) {
+		return this.<K, V> findColumnsRange(key, start, end, reverse, count, Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K, V> List<Pair<Composite, V>> findColumnsRange(K key, Composite start, Composite end, boolean reverse,
+			int count, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Find {} columns slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		List<HColumn<Composite, V>> columns = reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>() {
-			@Override
-			public List<HColumn<Composite, V>> execute() {
-				return createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-						ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
-						.setRange(start, end, reverse, count).execute().get().getColumns();
-			}
-		});
+		List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
+				.setRange(start, end, reverse, count).execute().get().getColumns();
 		return Lists.transform(columns, this.<V> getHColumnToPairFn());
 	}
 
-	public <K, V> List<HColumn<Composite, V>> findRawColumnsRange(final K key, final Composite start,
-			final Composite end, final int count, final boolean reverse) {
+	public <K, V> List<Pair<Composite, V>> findColumns(K key, List<Composite> columnNames,
+			Optional<ConsistencyLevel> readLevelO) {
+		if (log.isTraceEnabled()) {
+			log.trace("Find {} columns by name from column family {} with key {}", columnNames.size(), columnFamily,
+					key);
+		}
+		List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
+				.setColumnNames(columnNames.toArray(new Composite[columnNames.size()])).execute().get().getColumns();
+		return Lists.transform(columns, this.<V> getHColumnToPairFn());
+	}
+
+	public <K, V> List<HColumn<Composite, V>> findRawColumnsRange(K key, Composite start, Composite end, int count,
+			boolean reverse, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Find raw {} columns slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>() {
-			@Override
-			public List<HColumn<Composite, V>> execute() {
-				List<HColumn<Composite, V>> columns = createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-						columnNameSerializer, ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily)
-						.setKey(key).setRange(start, end, reverse, count).execute().get().getColumns();
-
-				return columns;
-			}
-		});
+		return createSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(), columnNameSerializer, this.<V> valSrz())
+				.setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count).execute().get()
+				.getColumns();
 	}
 
-	public <K, V> List<HCounterColumn<Composite>> findCounterColumnsRange(final K key, final Composite start,
-			final Composite end, final int count, final boolean reverse) {
+	public <K, V> List<HCounterColumn<Composite>> findCounterColumnsRange(K key, Composite start, Composite end,
+			int count, boolean reverse, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Find {} counter columns slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<List<HCounterColumn<Composite>>>() {
-			@Override
-			public List<HCounterColumn<Composite>> execute() {
-				return HFactory
-						.createCounterSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer)
-						.setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count).execute().get()
-						.getColumns();
-			}
-		});
+		return HFactory.createCounterSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(), columnNameSerializer)
+				.setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count).execute().get()
+				.getColumns();
 	}
 
 	public <K, V> ThriftSliceIterator<K, V> getColumnsIterator(K key, Composite start, Composite end, boolean reverse,
-			int length) {
+			int length, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Get columns slice iterator within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {} by batch of {} elements",
 					format(start), format(end), columnFamily, key, reverse, length);
 		}
 
-		SliceQuery<K, Composite, V> query = createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-				columnNameSerializer, ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key);
+		SliceQuery<K, Composite, V> query = createSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key);
 
-		return new ThriftSliceIterator<K, V>(policy, columnFamily, query, start, end, reverse, length);
+		return new ThriftSliceIterator<K, V>(columnFamily, query, start, end, reverse, length);
 	}
 
 	public <K, V> ThriftCounterSliceIterator<K> getCounterColumnsIterator(K key, Composite start, Composite end,
-			boolean reverse, int length) {
+			boolean reverse, int length, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Get counter columns slice iterator within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {} by batch of {} elements",
 					format(start), format(end), columnFamily, key, reverse, length);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		SliceCounterQuery<K, Composite> query = createCounterSliceQuery(keyspace, this.<K> rowSrz(),
+		SliceCounterQuery<K, Composite> query = createCounterSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(),
 				columnNameSerializer).setColumnFamily(columnFamily).setKey(key);
 
-		return new ThriftCounterSliceIterator<K>(policy, columnFamily, query, start, end, reverse, length);
+		return new ThriftCounterSliceIterator<K>(columnFamily, query, start, end, reverse, length);
 	}
 
-	public <K, V> Rows<K, Composite, V> multiGetSliceRange(final List<K> keys, final Composite start,
-			final Composite end, final boolean reverse, final int size) {
+	public <K, V> Rows<K, Composite, V> multiGetSliceRange(List<K> keys, Composite start, Composite end,
+			boolean reverse, int size, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace(
 					"Multi get columns slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {} by batch of {} elements; for property {}",
 					format(start), format(end), columnFamily, StringUtils.join(keys, ","), reverse, size);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<Rows<K, Composite, V>>() {
-			@Override
-			public Rows<K, Composite, V> execute() {
-				return HFactory
-						.createMultigetSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-								ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKeys(keys)
-						.setRange(start, end, reverse, size).execute().get();
-			}
-		});
+		return HFactory
+				.createMultigetSliceQuery(readKeyspace(readLevelO), this.<K> rowSrz(), columnNameSerializer,
+						this.<V> valSrz()).setColumnFamily(columnFamily).setKeys(keys)
+				.setRange(start, end, reverse, size).execute().get();
+	}
+
+	public <K> CounterRows<K, Composite> multiGetCounterSliceRange(List<K> keys, Composite start, Composite end,
+			boolean reverse, int size, Optional<ConsistencyLevel> readLevelO) {
+		if (log.isTraceEnabled()) {
+			log.trace(
+					"Multi get counter columns slice within range having inclusive start/end {}/{} column names from column family {} with keys {} and reverse {} by batch of {} elements",
+					format(start), format(end), columnFamily, StringUtils.join(keys, ","), reverse, size);
+		}
+
+		return HFactory
+				.createMultigetSliceCounterQuery(readKeyspace(readLevelO), this.<K> rowSrz(), columnNameSerializer)
+				.setColumnFamily(columnFamily).setKeys(keys).setRange(start, end, reverse, size).execute().get();
 	}
 
 	public <K> void removeRowBatch(K key, Mutator<K> mutator) {
@@ -356,34 +359,46 @@ public abstract class ThriftAbstractDao {
 	}
 
 	public <K> void incrementCounter(K key, Composite name, Long value) {
+		this.incrementCounter(key, name, value, Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K> void incrementCounter(K key, Composite name, Long value, Optional<ConsistencyLevel> writeLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace("Incrementing counter column {} with key {} from column family {} by {}", format(name), key,
 					columnFamily, value);
 		}
-		Mutator<K> mutator = buildMutator();
+		Mutator<K> mutator = buildMutator(writeLevelO);
 		mutator.addCounter(key, columnFamily, new HCounterColumnImpl<Composite>(name, value,
 				ThriftSerializerUtils.COMPOSITE_SRZ));
 		executeMutator(mutator);
 	}
 
 	public <K> void decrementCounter(K key, Composite name, Long value) {
+		this.decrementCounter(key, name, value, Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K> void decrementCounter(K key, Composite name, Long value, Optional<ConsistencyLevel> writeLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace("Decrementing counter column {} with key {} from column family {} by {}", format(name), key,
 					columnFamily, value);
 		}
-		Mutator<K> mutator = buildMutator();
+		Mutator<K> mutator = buildMutator(writeLevelO);
 		mutator.addCounter(key, columnFamily, new HCounterColumnImpl<Composite>(name, value * -1L,
 				ThriftSerializerUtils.COMPOSITE_SRZ));
 		executeMutator(mutator);
 	}
 
 	public <K> Long getCounterValue(K key, Composite name) {
+		return this.getCounterValue(key, name, Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K> Long getCounterValue(K key, Composite name, Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace("Get counter value column {} with key {} from column family {}", format(name), key, columnFamily);
 		}
 
 		Long counterValue = null;
-		HCounterColumn<Composite> counterColumn = getCounterColumn(key, name);
+		HCounterColumn<Composite> counterColumn = getCounterColumn(key, name, readLevelO);
 		if (counterColumn != null) {
 			counterValue = counterColumn.getValue();
 		}
@@ -391,21 +406,16 @@ public abstract class ThriftAbstractDao {
 		return counterValue;
 	}
 
-	public <K> HCounterColumn<Composite> getCounterColumn(K key, Composite name) {
+	public <K> HCounterColumn<Composite> getCounterColumn(K key, Composite name,
+			Optional<ConsistencyLevel> readLevelO) {
 		if (log.isTraceEnabled()) {
 			log.trace("Get counter  column {} with key {} from column family {}", format(name), key, columnFamily);
 		}
 
-		final CounterQuery<K, Composite> counter = new ThriftCounterColumnQuery<K, Composite>(keyspace,
+		CounterQuery<K, Composite> counter = new ThriftCounterColumnQuery<K, Composite>(readKeyspace(readLevelO),
 				this.<K> rowSrz(), columnNameSerializer).setColumnFamily(columnFamily).setKey(key).setName(name);
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<HCounterColumn<Composite>>() {
-			@Override
-			public HCounterColumn<Composite> execute() {
-				return counter.execute().get();
-			}
-		});
+		return counter.execute().get();
 	}
 
 	public <K> void removeCounterBatch(K key, Composite name, Mutator<K> mutator) {
@@ -419,18 +429,7 @@ public abstract class ThriftAbstractDao {
 
 	public <K> void removeCounterRowBatch(K key, Mutator<K> mutator) {
 		log.trace("Remove counter row as batch mutation with key {} from column family {}", key, columnFamily);
-
-		SliceCounterQuery<K, Composite> query = HFactory
-				.createCounterSliceQuery(keyspace, this.<K> rowSrz(), columnNameSerializer)
-				.setColumnFamily(columnFamily).setKey(key);
-
-		ThriftCounterSliceIterator<K> iterator = new ThriftCounterSliceIterator<K>(policy, columnFamily, query,
-				(Composite) null, (Composite) null, false, DEFAULT_LENGTH);
-
-		while (iterator.hasNext()) {
-			HCounterColumn<Composite> counterCol = iterator.next();
-			mutator.deleteCounter(key, columnFamily, counterCol.getName(), columnNameSerializer);
-		}
+		mutator.addCounterDeletion(key, columnFamily);
 	}
 
 	public <K> void truncate() {
@@ -442,21 +441,108 @@ public abstract class ThriftAbstractDao {
 	}
 
 	public <K> Mutator<K> buildMutator() {
-		return HFactory.createMutator(this.keyspace, this.<K> rowSrz());
+		return buildMutator(Optional.<ConsistencyLevel> absent());
+	}
+
+	public <K> Mutator<K> buildMutator(Optional<ConsistencyLevel> writeLevelO) {
+		return HFactory.createMutator(writeKeyspace(writeLevelO), this.<K> rowSrz());
 	}
 
-	public <K> void executeMutator(final Mutator<K> mutator) {
-		log.trace("Execute safely mutator with {} mutations for column family {}", mutator.getPendingMutationCount(),
+	/**
+	 * Mutator accepting row keys of any type, to group in a single
+	 * batch_mutate the mutations of several column families written with the
+	 * same consistency level
+	 */
+	public Mutator<Object> buildSharedMutator(Optional<ConsistencyLevel> writeLevelO) {
+		return HFactory.createMutator(writeKeyspace(writeLevelO), ThriftRowKeySerializer.get());
+	}
+
+	public <K> void executeMutator(Mutator<K> mutator) {
+		log.trace("Execute mutator with {} mutations for column family {}", mutator.getPendingMutationCount(),
 				columnFamily);
+		recordStatement();
+		mutator.execute();
+	}
 
-		this.policy.loadConsistencyLevelForWrite(this.columnFamily);
-		reinitConsistencyLevels(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				mutator.execute();
-				return null;
+	public String describePartitioner() {
+		return cluster.describePartitioner();
+	}
+
+	/**
+	 * Keyspace for one read query. Each call is counted as one statement
+	 */
+	protected Keyspace readKeyspace(Optional<ConsistencyLevel> readLevelO) {
+		recordStatement();
+		return keyspaceFor(readLevelO.or(Optional.fromNullable(policy.getConsistencyLevelForRead(columnFamily))));
+	}
+
+	protected Keyspace writeKeyspace(Optional<ConsistencyLevel> writeLevelO) {
+		return keyspaceFor(Optional.fromNullable(getWriteLevel(writeLevelO)));
+	}
+
+	public ConsistencyLevel getWriteLevel(Optional<ConsistencyLevel> writeLevelO) {
+		return writeLevelO.or(Optional.fromNullable(policy.getConsistencyLevelForWrite(columnFamily))).orNull();
+	}
+
+	/**
+	 * Keyspace executing queries and mutations with the given consistency
+	 * level, or the shared keyspace when no level is provided. One keyspace
+	 * view is created per level and shared by all the operations of this DAO,
+	 * so that no consistency state is bound to the calling thread. Views keep
+	 * the failover policy and the credentials of the shared keyspace.
+	 */
+	protected Keyspace keyspaceFor(Optional<ConsistencyLevel> consistencyLevelO) {
+		if (!consistencyLevelO.isPresent()) {
+			return keyspace;
+		}
+
+		ConsistencyLevel consistencyLevel = consistencyLevelO.get();
+		Keyspace keyspaceForLevel = keyspacesByLevel.get(consistencyLevel);
+		if (keyspaceForLevel == null) {
+			HConsistencyLevel hectorLevel = getHectorLevel(consistencyLevel);
+			ConfigurableConsistencyLevel levelPolicy = new ConfigurableConsistencyLevel();
+			levelPolicy.setDefaultReadConsistencyLevel(hectorLevel);
+			levelPolicy.setDefaultWriteConsistencyLevel(hectorLevel);
+
+			log.trace("Create keyspace view with consistency level {} for column family {}", consistencyLevel,
+					columnFamily);
+			keyspacesByLevel.putIfAbsent(consistencyLevel, HFactory.createKeyspace(keyspace.getKeyspaceName(), cluster,
+					levelPolicy, this.<FailoverPolicy> keyspaceSetting("failoverPolicy"),
+					this.<Map<String, String>> keyspaceSetting("credentials")));
+			keyspaceForLevel = keyspacesByLevel.get(consistencyLevel);
+		}
+		return keyspaceForLevel;
+	}
+
+	/**
+	 * Hector does not expose the failover policy and the credentials of a
+	 * keyspace. Read them from the shared keyspace, or fall back to the
+	 * defaults of the cluster when it is not an {@link ExecutingKeyspace}
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T keyspaceSetting(String fieldName) {
+		if (keyspace instanceof ExecutingKeyspace) {
+			try {
+				Field field = ExecutingKeyspace.class.getDeclaredField(fieldName);
+				field.setAccessible(true);
+				return (T) field.get(keyspace);
+			} catch (Exception e) {
+				log.warn("Cannot read {} of keyspace {}, using the cluster default", fieldName,
+						keyspace.getKeyspaceName(), e);
 			}
-		});
+		}
+		return (T) ("failoverPolicy".equals(fieldName) ? FailoverPolicy.ON_FAIL_TRY_ALL_AVAILABLE : cluster
+				.getCredentials());
+	}
+
+	private void recordStatement() {
+		if (metrics != null) {
+			metrics.recordStatement();
+		}
+	}
+
+	public void setMetrics(AchillesMetrics metrics) {
+		this.metrics = metrics;
 	}
 
 	public String getColumnFamily() {
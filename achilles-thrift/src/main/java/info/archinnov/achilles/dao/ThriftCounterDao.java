@@ -16,16 +16,30 @@
  */
 package info.archinnov.achilles.dao;
 
-import static info.archinnov.achilles.serializer.ThriftSerializerUtils.COMPOSITE_SRZ;
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.counter.AchillesCounter;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.CounterRow;
+import me.prettyprint.hector.api.beans.HCounterColumn;
 
 import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Optional;
+
 public class ThriftCounterDao extends ThriftAbstractDao {
 	private static final Logger log = LoggerFactory.getLogger(ThriftCounterDao.class);
 
@@ -36,4 +50,32 @@ public class ThriftCounterDao extends ThriftAbstractDao {
 		columnNameSerializer = COMPOSITE_SRZ;
 		log.debug("Initializing CounterDao with Composite key serializer, DynamicComposite comparator and Long value serializer ");
 	}
+
+	/**
+	 * Fetch all the counters of several rows with a single multiget. The
+	 * returned list is aligned with the row keys, each map holding the counter
+	 * values by property name
+	 */
+	public <K> List<Map<String, Long>> fetchCounters(List<K> keys, Optional<ConsistencyLevel> readLevelO) {
+		log.trace("Fetching all counters for {} rows in column family {} ", keys.size(), columnFamily);
+
+		// Row keys are composites, compare them on their serialized form
+		Serializer<K> keySrz = this.<K> rowSrz();
+		Map<ByteBuffer, Map<String, Long>> countersByKey = new HashMap<ByteBuffer, Map<String, Long>>();
+		for (CounterRow<K, Composite> row : this.<K> multiGetCounterSliceRange(keys, null, null, false,
+				Integer.MAX_VALUE, readLevelO)) {
+			Map<String, Long> counters = new HashMap<String, Long>();
+			for (HCounterColumn<Composite> column : row.getColumnSlice().getColumns()) {
+				counters.put(column.getName().get(0, STRING_SRZ), column.getValue());
+			}
+			countersByKey.put(keySrz.toByteBuffer(row.getKey()), counters);
+		}
+
+		List<Map<String, Long>> counters = new ArrayList<Map<String, Long>>(keys.size());
+		for (K key : keys) {
+			Map<String, Long> rowCounters = countersByKey.get(keySrz.toByteBuffer(key));
+			counters.add(rowCounters != null ? rowCounters : new HashMap<String, Long>());
+		}
+		return counters;
+	}
 }
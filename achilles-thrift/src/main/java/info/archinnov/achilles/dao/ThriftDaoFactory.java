@@ -61,6 +61,7 @@ public class ThriftDaoFactory {
 				tableName, //
 				configContext.getConsistencyPolicy(), //
 				Pair.create(partitionKeyClass, String.class));
+		entityDao.setMetrics(configContext.getMetrics());
 		entityDaosMap.put(tableName, entityDao);
 		log.debug("Build entity dao for column family {}", tableName);
 	}
@@ -99,6 +100,7 @@ public class ThriftDaoFactory {
 					tableName, consistencyPolicy, //
 					Pair.create(partitionKeyClass, String.class));
 		}
+		dao.setMetrics(configContext.getMetrics());
 		wideRowDaosMap.put(tableName, dao);
 		log.debug("Build clustered entity dao for column family {}", tableName);
 	}
@@ -106,6 +108,7 @@ public class ThriftDaoFactory {
 	public ThriftCounterDao createCounterDao(Cluster cluster, Keyspace keyspace, ConfigurationContext configContext) {
 		ThriftCounterDao counterDao = new ThriftCounterDao(cluster, keyspace, configContext.getConsistencyPolicy(), //
 				Pair.create(Composite.class, Long.class));
+		counterDao.setMetrics(configContext.getMetrics());
 		log.debug("Build achillesCounterCF dao");
 
 		return counterDao;
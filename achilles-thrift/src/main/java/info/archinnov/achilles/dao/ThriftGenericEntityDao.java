@@ -18,9 +18,11 @@ package info.archinnov.achilles.dao;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,13 +31,17 @@ import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.OrderedRows;
 import me.prettyprint.hector.api.beans.Row;
 import me.prettyprint.hector.api.beans.Rows;
+import me.prettyprint.hector.api.factory.HFactory;
 
 import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Optional;
+
 public class ThriftGenericEntityDao extends ThriftAbstractDao {
 	private static final Logger log = LoggerFactory.getLogger(ThriftGenericEntityDao.class);
 
@@ -65,20 +71,21 @@ public class ThriftGenericEntityDao extends ThriftAbstractDao {
 
 	}
 
-	public <K> List<Pair<Composite, String>> eagerFetchEntity(K key) {
+	public <K> List<Pair<Composite, String>> eagerFetchEntity(K key, Optional<ConsistencyLevel> readLevelO) {
 		log.trace("Eager fetching properties for column family {} ", columnFamily);
 
 		return this.findColumnsRange(key, startCompositeForEagerFetch, endCompositeForEagerFetch, false,
-				Integer.MAX_VALUE);
+				Integer.MAX_VALUE, readLevelO);
 	}
 
-	public <K> Map<K, List<Pair<Composite, String>>> eagerFetchEntities(List<K> keys) {
+	public <K> Map<K, List<Pair<Composite, String>>> eagerFetchEntities(List<K> keys,
+			Optional<ConsistencyLevel> readLevelO) {
 		log.trace("Eager fetching properties for multiple entities in column family {} ", columnFamily);
 
 		Map<K, List<Pair<Composite, String>>> map = new HashMap<K, List<Pair<Composite, String>>>();
 
 		Rows<K, Composite, String> rows = this.multiGetSliceRange(keys, startCompositeForEagerFetch,
-				endCompositeForEagerFetch, false, Integer.MAX_VALUE);
+				endCompositeForEagerFetch, false, Integer.MAX_VALUE, readLevelO);
 
 		for (Row<K, Composite, String> row : rows) {
 			List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
@@ -92,6 +99,36 @@ public class ThriftGenericEntityDao extends ThriftAbstractDao {
 		return map;
 	}
 
+	/**
+	 * Eager fetch up to count entities of a token range. The start token is
+	 * excluded and the end token included. To fetch the next entities of the
+	 * range, pass the last fetched key as start key and no start token; this
+	 * key is then returned again as first row
+	 */
+	public <K> Map<K, List<Pair<Composite, String>>> eagerFetchEntitiesInTokenRange(K startKey, String startToken,
+			String endToken, int count, Optional<ConsistencyLevel> readLevelO) {
+		log.trace("Eager fetching properties of {} entities in column family {} for token range ({},{}]", count,
+				columnFamily, startKey != null ? startKey : startToken, endToken);
+
+		Map<K, List<Pair<Composite, String>>> map = new LinkedHashMap<K, List<Pair<Composite, String>>>();
+
+		OrderedRows<K, Composite, String> rows = HFactory
+				.createRangeSlicesQuery(readKeyspace(readLevelO), this.<K> rowSrz(), columnNameSerializer, STRING_SRZ)
+				.setColumnFamily(columnFamily).setTokens(startKey, startToken, endToken)
+				.setRange(startCompositeForEagerFetch, endCompositeForEagerFetch, false, Integer.MAX_VALUE)
+				.setRowCount(count).execute().get();
+
+		for (Row<K, Composite, String> row : rows) {
+			List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+			for (HColumn<Composite, String> column : row.getColumnSlice().getColumns()) {
+				columns.add(Pair.create(column.getName(), column.getValue()));
+			}
+			map.put(row.getKey(), columns);
+		}
+
+		return map;
+	}
+
 	private void initComposites() {
 		startCompositeForEagerFetch = new Composite();
 		startCompositeForEagerFetch.addComponent(0, START_EAGER, ComponentEquality.EQUAL);
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SR
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.helper.EntityMapper;
+import info.archinnov.achilles.metrics.EntityMetrics;
 
 import java.util.HashMap;
 import java.util.List;
@@ -81,6 +82,11 @@ public class ThriftEntityMapper extends EntityMapper {
 		}
 
 		setMultiValuesProperties(entity, listProperties, setProperties, mapProperties, propertyMetas);
+
+		EntityMetrics metrics = entityMeta.getEntityMetrics();
+		if (metrics != null) {
+			metrics.recordRowDecoded();
+		}
 	}
 
 	public <T> T initClusteredEntity(Class<T> entityClass, EntityMeta meta, Object embeddedId) {
@@ -41,7 +41,7 @@ public class ThriftBatchingPersistenceManager extends ThriftPersistenceManager {
 			ThriftPersistenceContextFactory contextFactory, ThriftDaoContext daoContext,
 			ConfigurationContext configContext) {
 		super(entityMetaMap, contextFactory, daoContext, configContext);
-		this.flushContext = new ThriftBatchingFlushContext(daoContext, consistencyPolicy, null);
+		this.flushContext = new ThriftBatchingFlushContext(daoContext, configContext.getMetrics(), null);
 	}
 
 	/**
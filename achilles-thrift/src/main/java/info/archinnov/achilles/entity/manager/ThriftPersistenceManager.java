@@ -23,11 +23,15 @@ import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.operations.EntityValidator;
+import info.archinnov.achilles.entity.operations.ThriftEntityLoader;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
 import info.archinnov.achilles.entity.operations.ThriftSliceQueryExecutor;
+import info.archinnov.achilles.entity.operations.ThriftTableScanExecutor;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -39,7 +43,9 @@ public class ThriftPersistenceManager extends PersistenceManager<ThriftPersisten
 	protected ThriftDaoContext daoContext;
 	protected ThriftPersistenceContextFactory contextFactory;
 	private ThriftSliceQueryExecutor sliceQueryExecutor;
+	private ThriftTableScanExecutor tableScanExecutor;
 	private ThriftCompoundKeyValidator compoundKeyValidator = new ThriftCompoundKeyValidator();
+	private ThriftEntityLoader loader = new ThriftEntityLoader();
 
 	/**
 	 * Create a new ThriftPersistenceManager with a configuration map
@@ -57,6 +63,7 @@ public class ThriftPersistenceManager extends PersistenceManager<ThriftPersisten
 		super.proxifier = new ThriftEntityProxifier();
 		super.entityValidator = new EntityValidator<ThriftPersistenceContext>(super.proxifier);
 		this.sliceQueryExecutor = new ThriftSliceQueryExecutor(contextFactory, configContext);
+		this.tableScanExecutor = new ThriftTableScanExecutor(contextFactory, daoContext);
 	}
 
 	/**
@@ -74,6 +81,11 @@ public class ThriftPersistenceManager extends PersistenceManager<ThriftPersisten
 				entityClass, meta);
 	}
 
+	@Override
+	protected ThriftTableScanExecutor getTableScanExecutor() {
+		return tableScanExecutor;
+	}
+
 	@Override
 	protected ThriftPersistenceContext initPersistenceContext(Class<?> entityClass, Object primaryKey, Options options) {
 		return contextFactory.newContext(entityClass, primaryKey, options);
@@ -84,6 +96,16 @@ public class ThriftPersistenceManager extends PersistenceManager<ThriftPersisten
 		return contextFactory.newContext(entity, options);
 	}
 
+	@Override
+	protected <T> List<T> loadEntities(Class<T> entityClass, List<ThriftPersistenceContext> contexts) {
+		return loader.load(contexts, entityClass);
+	}
+
+	@Override
+	protected void loadCounterValues(List<ThriftPersistenceContext> contexts, ConsistencyLevel readLevel) {
+		loader.loadCounters(contexts, readLevel);
+	}
+
 	protected void setThriftDaoContext(ThriftDaoContext thriftDaoContext) {
 		this.daoContext = thriftDaoContext;
 	}
@@ -25,12 +25,18 @@ import info.archinnov.achilles.context.ConfigurationContext.Impl;
 import info.archinnov.achilles.context.ThriftDaoContext;
 import info.archinnov.achilles.context.ThriftDaoContextBuilder;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.table.ThriftColumnFamilyCreator;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
@@ -38,10 +44,15 @@ import me.prettyprint.hector.api.Keyspace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 public class ThriftPersistenceManagerFactory extends PersistenceManagerFactory {
 
 	private static final Logger log = LoggerFactory.getLogger(ThriftPersistenceManagerFactory.class);
 
+	private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
+	private static final int EXECUTOR_QUEUE_SIZE_PER_THREAD = 16;
+
 	private Cluster cluster;
 	private Keyspace keyspace;
 
@@ -75,8 +86,19 @@ public class ThriftPersistenceManagerFactory extends PersistenceManagerFactory {
 		boolean hasSimpleCounter = bootstrap();
 		new ThriftColumnFamilyCreator(cluster, keyspace).validateOrCreateTables(entityMetaMap, configContext,
 				hasSimpleCounter);
+		int batchMaxSize = thriftArgumentExtractor.initBatchMaxSize(configurationMap);
 		daoContext = new ThriftDaoContextBuilder().buildDao(cluster, keyspace, entityMetaMap, configContext,
-				hasSimpleCounter);
+				hasSimpleCounter, batchMaxSize, buildFlushExecutor());
+		if (configContext.isCounterCoalescing()) {
+			ThriftCounterCoalescer coalescer = new ThriftCounterCoalescer(configContext.getCounterCoalescingInterval(),
+					configContext.getCounterCoalescingThreshold(), batchMaxSize);
+			daoContext.setCounterCoalescer(coalescer);
+			startCounterCoalescer(coalescer);
+			registerShutdownHook();
+		}
+		if (configContext.getSlicePrefetchDepth() > 0) {
+			daoContext.setSlicePrefetchExecutor(buildSlicePrefetchExecutor());
+		}
 		contextFactory = new ThriftPersistenceContextFactory(daoContext, configContext, entityMetaMap);
 
 	}
@@ -125,6 +147,39 @@ public class ThriftPersistenceManagerFactory extends PersistenceManagerFactory {
 		return policy;
 	}
 
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		daoContext.getFlushExecutor().shutdown();
+		if (daoContext.getSlicePrefetchExecutor() != null) {
+			daoContext.getSlicePrefetchExecutor().shutdown();
+		}
+	}
+
+	private ExecutorService buildFlushExecutor() {
+		return buildBoundedExecutor("achilles-thrift-flush-%d");
+	}
+
+	private ExecutorService buildSlicePrefetchExecutor() {
+		return buildBoundedExecutor("achilles-thrift-prefetch-%d");
+	}
+
+	/**
+	 * One thread per processor at most, with a bounded queue of pending
+	 * tasks. When the queue is full the submitting thread runs the task
+	 * itself, so a burst of flushes slows the callers down instead of
+	 * spawning threads without limit
+	 */
+	private ExecutorService buildBoundedExecutor(String nameFormat) {
+		int poolSize = Runtime.getRuntime().availableProcessors();
+		ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, EXECUTOR_KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(poolSize * EXECUTOR_QUEUE_SIZE_PER_THREAD),
+				threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	protected void setThriftDaoContext(ThriftDaoContext thriftDaoContext) {
 		this.daoContext = thriftDaoContext;
 	}
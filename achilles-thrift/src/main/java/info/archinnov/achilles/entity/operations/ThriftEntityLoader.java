@@ -16,16 +16,25 @@
  */
 package info.archinnov.achilles.entity.operations;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.excludeCounterType;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.ThriftLoaderImpl;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.FluentIterable;
+
 public class ThriftEntityLoader implements EntityLoader<ThriftPersistenceContext> {
 	private static final Logger log = LoggerFactory.getLogger(ThriftEntityLoader.class);
 
@@ -60,6 +69,37 @@ public class ThriftEntityLoader implements EntityLoader<ThriftPersistenceContext
 		return entity;
 	}
 
+	/**
+	 * Load all entities with a single multiget. Clustered entities are loaded
+	 * one by one
+	 */
+	public <T> List<T> load(List<ThriftPersistenceContext> contexts, Class<T> entityClass) {
+		EntityMeta entityMeta = contexts.get(0).getEntityMeta();
+		List<T> entities;
+		if (entityMeta.isClusteredEntity()) {
+			entities = new ArrayList<T>(contexts.size());
+			for (ThriftPersistenceContext context : contexts) {
+				entities.add(load(context, entityClass));
+			}
+		} else {
+			try {
+				entities = loaderImpl.load(contexts, entityClass);
+			} catch (Exception e) {
+				throw new AchillesException("Error when loading entities of type '" + entityClass.getCanonicalName()
+						+ "'. Cause : " + e.getMessage(), e);
+			}
+		}
+		return entities;
+	}
+
+	public void loadCounters(List<ThriftPersistenceContext> contexts, ConsistencyLevel readLevel) {
+		try {
+			loaderImpl.loadCounters(contexts, readLevel);
+		} catch (Exception e) {
+			throw new AchillesException("Error when loading counters. Cause : " + e.getMessage(), e);
+		}
+	}
+
 	@Override
 	public <V> void loadPropertyIntoObject(ThriftPersistenceContext context, Object realObject,
 			PropertyMeta propertyMeta) {
@@ -90,6 +130,26 @@ public class ThriftEntityLoader implements EntityLoader<ThriftPersistenceContext
 		propertyMeta.setValueToField(realObject, value);
 	}
 
+	@Override
+	public void loadPropertiesIntoObject(ThriftPersistenceContext context, Object realObject,
+			List<PropertyMeta> propertyMetas) {
+		log.debug("Loading properties {} into entity of class {} with primary key {}", propertyMetas, context
+				.getEntityClass().getCanonicalName(), context.getPrimaryKey());
+
+		List<PropertyMeta> columnMetas = FluentIterable.from(propertyMetas).filter(excludeCounterType)
+				.toImmutableList();
+		if (context.isClusteredEntity()) {
+			for (PropertyMeta propertyMeta : columnMetas) {
+				loadPropertyIntoObject(context, realObject, propertyMeta);
+			}
+		} else if (!columnMetas.isEmpty()) {
+			Map<PropertyMeta, Object> values = loaderImpl.loadProperties(context, columnMetas);
+			for (Entry<PropertyMeta, Object> entry : values.entrySet()) {
+				entry.getKey().setValueToField(realObject, entry.getValue());
+			}
+		}
+	}
+
 	protected Object loadPrimaryKey(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		return loaderImpl.loadSimpleProperty(context, propertyMeta);
 	}
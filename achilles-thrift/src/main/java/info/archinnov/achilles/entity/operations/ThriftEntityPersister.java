@@ -20,11 +20,13 @@ import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.ThriftPersisterImpl;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,6 +83,30 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
 		}
 	}
 
+	public void persistElementChanges(ThriftPersistenceContext context, PropertyMeta propertyMeta,
+			ElementChanges changes) {
+		log.debug("Persisting element changes of property {} of entity {}", propertyMeta.getPropertyName(),
+				context.getEntity());
+		switch (propertyMeta.type()) {
+		case LIST:
+		case LAZY_LIST:
+			persistListElementChanges(context, propertyMeta, changes);
+			break;
+		case SET:
+		case LAZY_SET:
+			persisterImpl.batchPersistSet(changes.getAddedElements(), context, propertyMeta);
+			persisterImpl.batchRemoveSetOrMapElements(changes.getRemovedElements(), context, propertyMeta);
+			break;
+		case MAP:
+		case LAZY_MAP:
+			persisterImpl.batchPersistMap(changes.getPutEntries(), context, propertyMeta);
+			persisterImpl.batchRemoveSetOrMapElements(changes.getRemovedKeys(), context, propertyMeta);
+			break;
+		default:
+			break;
+		}
+	}
+
 	@Override
 	public void remove(ThriftPersistenceContext context) {
 		log.debug("Removing entity of class {} and primary key {} ", context.getEntityClass().getCanonicalName(),
@@ -112,6 +138,19 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
 		}
 	}
 
+	private void persistListElementChanges(ThriftPersistenceContext context, PropertyMeta propertyMeta,
+			ElementChanges changes) {
+		List<?> list = propertyMeta.getListValueFromField(context.getEntity());
+		List<Object> appended = changes.getAppendedElements();
+		int originalSize = list.size() - appended.size();
+
+		Map<Integer, Object> elementsByIndex = new TreeMap<Integer, Object>(changes.getElementsAtIndex());
+		for (int i = 0; i < appended.size(); i++) {
+			elementsByIndex.put(originalSize + i, appended.get(i));
+		}
+		persisterImpl.batchPersistListElements(elementsByIndex, context, propertyMeta);
+	}
+
 	private void batchPersistSetProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		Set<?> set = propertyMeta.getSetValueFromField(context.getEntity());
 		if (set != null) {
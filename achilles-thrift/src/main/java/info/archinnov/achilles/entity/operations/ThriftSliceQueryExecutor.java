@@ -24,6 +24,7 @@ import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.ThriftQueryExecutorImpl;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.iterator.ThriftAbstractSliceIterator;
 import info.archinnov.achilles.iterator.ThriftClusteredEntityIterator;
 import info.archinnov.achilles.iterator.ThriftCounterClusteredEntityIterator;
 import info.archinnov.achilles.iterator.ThriftCounterSliceIterator;
@@ -49,12 +50,14 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
 	private ClusteredEntityFactory factory = new ClusteredEntityFactory();
 	private ThriftQueryExecutorImpl executorImpl = new ThriftQueryExecutorImpl();
 	private ThriftPersistenceContextFactory contextFactory;
+	private int prefetchDepth;
 
 	public ThriftSliceQueryExecutor(ThriftPersistenceContextFactory contextFactory, ConfigurationContext configContext) {
 		super(new ThriftEntityProxifier());
 		this.contextFactory = contextFactory;
 		this.consistencyPolicy = configContext.getConsistencyPolicy();
 		defaultReadLevel = consistencyPolicy.getDefaultGlobalReadConsistencyLevel();
+		prefetchDepth = configContext.getSlicePrefetchDepth();
 	}
 
 	@Override
@@ -64,19 +67,25 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
 				.getGetter());
 		PropertyType type = context.isValueless() ? PropertyType.SIMPLE : context.getFirstMeta().type();
 		List<T> clusteredEntities = null;
-		switch (type) {
-		case SIMPLE:
-			List<HColumn<Composite, Object>> hColumns = executorImpl.findColumns(sliceQuery, context);
-			clusteredEntities = factory.buildClusteredEntities(sliceQuery.getEntityClass(), context, hColumns);
-			break;
-		case COUNTER:
-			List<HCounterColumn<Composite>> hCounterColumns = executorImpl.findCounterColumns(sliceQuery, context);
-			clusteredEntities = factory.buildCounterClusteredEntities(sliceQuery.getEntityClass(), context,
-					hCounterColumns);
-			break;
-		default:
-			throw new AchillesException("Cannot get entities for clustered value of type '" + type.name()
-					+ "' and clustered entity class '" + sliceQuery.getEntityClass().getCanonicalName() + "'");
+		long start = startOperation(sliceQuery);
+		try {
+			switch (type) {
+			case SIMPLE:
+				List<HColumn<Composite, Object>> hColumns = executorImpl.findColumns(sliceQuery, context);
+				clusteredEntities = factory.buildClusteredEntities(sliceQuery.getEntityClass(), context, hColumns);
+				break;
+			case COUNTER:
+				List<HCounterColumn<Composite>> hCounterColumns = executorImpl.findCounterColumns(sliceQuery,
+						context);
+				clusteredEntities = factory.buildCounterClusteredEntities(sliceQuery.getEntityClass(), context,
+						hCounterColumns);
+				break;
+			default:
+				throw new AchillesException("Cannot get entities for clustered value of type '" + type.name()
+						+ "' and clustered entity class '" + sliceQuery.getEntityClass().getCanonicalName() + "'");
+			}
+		} finally {
+			stopOperation(sliceQuery, start);
 		}
 
 		return Lists.transform(clusteredEntities, getProxyTransformer(sliceQuery, getters));
@@ -91,10 +100,12 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
 		switch (type) {
 		case SIMPLE:
 			ThriftSliceIterator<Object, Object> columnsIterator = executorImpl.getColumnsIterator(sliceQuery, context);
+			enablePrefetch(columnsIterator, context);
 			return new ThriftClusteredEntityIterator<T>(entityClass, columnsIterator, context);
 		case COUNTER:
 			ThriftCounterSliceIterator<Object> counterColumnsIterator = executorImpl.getCounterColumnsIterator(
 					sliceQuery, context);
+			enablePrefetch(counterColumnsIterator, context);
 			return new ThriftCounterClusteredEntityIterator<T>(entityClass, counterColumnsIterator, context);
 		default:
 			throw new AchillesException("Cannot get iterator for clustered value of type '" + type.name()
@@ -102,27 +113,40 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
 		}
 	}
 
+	private void enablePrefetch(ThriftAbstractSliceIterator<?> sliceIterator, ThriftPersistenceContext context) {
+		if (prefetchDepth > 0) {
+			sliceIterator.prefetch(context.getSlicePrefetchExecutor(), prefetchDepth);
+		}
+	}
+
 	@Override
 	public <T> void remove(final SliceQuery<T> sliceQuery) {
 		ThriftPersistenceContext context = buildContextForQuery(sliceQuery);
 		PropertyType type = context.isValueless() ? PropertyType.SIMPLE : context.getFirstMeta().type();
 
-		if (sliceQuery.hasNoComponent() && sliceQuery.isLimitSet() == false) {
-			executorImpl.removeRow(sliceQuery.getPartitionComponents(), context, sliceQuery.getConsistencyLevel());
-		} else {
-			switch (type) {
-			case SIMPLE:
-				List<HColumn<Composite, Object>> hColumns = executorImpl.findColumns(sliceQuery, context);
-				executorImpl.removeColumns(hColumns, sliceQuery.getConsistencyLevel(), context);
-				break;
-			case COUNTER:
-				List<HCounterColumn<Composite>> hCounterColumns = executorImpl.findCounterColumns(sliceQuery, context);
-				executorImpl.removeCounterColumns(hCounterColumns, sliceQuery.getConsistencyLevel(), context);
-				break;
-			default:
-				throw new AchillesException("Cannot remove clustered value of type '" + type.name()
-						+ "' and clustered entity class '" + sliceQuery.getEntityClass().getCanonicalName() + "'");
+		long start = startOperation(sliceQuery);
+		try {
+			if (sliceQuery.hasNoComponent() && sliceQuery.isLimitSet() == false) {
+				executorImpl.removeRow(sliceQuery.getPartitionComponents(), context, sliceQuery.getConsistencyLevel());
+			} else {
+				switch (type) {
+				case SIMPLE:
+					List<HColumn<Composite, Object>> hColumns = executorImpl.findColumns(sliceQuery, context);
+					executorImpl.removeColumns(hColumns, sliceQuery.getConsistencyLevel(), context);
+					break;
+				case COUNTER:
+					List<HCounterColumn<Composite>> hCounterColumns = executorImpl.findCounterColumns(sliceQuery,
+							context);
+					executorImpl.removeCounterColumns(hCounterColumns, sliceQuery.getConsistencyLevel(), context);
+					break;
+				default:
+					throw new AchillesException("Cannot remove clustered value of type '" + type.name()
+							+ "' and clustered entity class '" + sliceQuery.getEntityClass().getCanonicalName()
+							+ "'");
+				}
 			}
+		} finally {
+			stopOperation(sliceQuery, start);
 		}
 	}
 
@@ -0,0 +1,93 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import info.archinnov.achilles.context.ThriftDaoContext;
+import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
+import info.archinnov.achilles.dao.ThriftGenericEntityDao;
+import info.archinnov.achilles.entity.ThriftEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.query.scan.ScanQuery;
+import info.archinnov.achilles.query.scan.TokenPartitioner;
+import info.archinnov.achilles.query.scan.TokenRange;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Iterables;
+
+public class ThriftTableScanExecutor extends TableScanExecutor<ThriftPersistenceContext> {
+
+	private ThriftEntityMapper mapper = new ThriftEntityMapper();
+	private ThriftDaoContext daoContext;
+	private ThriftPersistenceContextFactory contextFactory;
+
+	public ThriftTableScanExecutor(ThriftPersistenceContextFactory contextFactory, ThriftDaoContext daoContext) {
+		super(new ThriftEntityProxifier());
+		this.contextFactory = contextFactory;
+		this.daoContext = daoContext;
+	}
+
+	@Override
+	protected <T> void scanRange(ScanQuery<T> query, TokenPartitioner partitioner, TokenRange range,
+			ScanConsumer<T> consumer) {
+		EntityMeta meta = query.getMeta();
+		ThriftGenericEntityDao entityDao = daoContext.findEntityDao(meta.getTableName());
+		Optional<ConsistencyLevel> readLevelO = Optional.fromNullable(query.getConsistencyLevel());
+		String endToken = range.getEnd().toString();
+
+		Object startKey = null;
+		int count;
+		Map<Object, List<Pair<Composite, String>>> rows;
+		do {
+			// Apart from the first batch, the start key is fetched again
+			count = startKey == null ? query.getBatchSize() : query.getBatchSize() + 1;
+			String startToken = startKey == null ? range.getStart().toString() : null;
+			rows = entityDao.eagerFetchEntitiesInTokenRange(startKey, startToken, endToken, count, readLevelO);
+
+			for (Entry<Object, List<Pair<Composite, String>>> row : rows.entrySet()) {
+				Object primaryKey = row.getKey();
+				if (primaryKey.equals(startKey) || row.getValue().isEmpty()) {
+					continue;
+				}
+				T entity = meta.<T> instanciate();
+				mapper.setEagerPropertiesToEntity(primaryKey, row.getValue(), meta, entity);
+				consumer.consume(proxify(query, entity));
+			}
+			startKey = Iterables.getLast(rows.keySet(), startKey);
+		} while (rows.size() == count && !Thread.currentThread().isInterrupted());
+	}
+
+	@Override
+	protected <T> String describePartitioner(ScanQuery<T> query) {
+		return daoContext.findEntityDao(query.getMeta().getTableName()).describePartitioner();
+	}
+
+	@Override
+	protected <T> ThriftPersistenceContext buildNewContext(ScanQuery<T> query, T entity) {
+		return contextFactory.newContext(entity);
+	}
+}
@@ -16,6 +16,7 @@
  */
 package info.archinnov.achilles.entity.operations.impl;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.multiValuesNonProxyTypes;
 import static info.archinnov.achilles.logger.ThriftLoggerHelper.*;
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.*;
@@ -25,6 +26,7 @@ import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.ThriftEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -41,6 +43,8 @@ import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Optional;
+
 public class ThriftLoaderImpl {
 	private static final Logger log = LoggerFactory.getLogger(ThriftLoaderImpl.class);
 
@@ -57,18 +61,50 @@ public class ThriftLoaderImpl {
 		if (entityMeta.isClusteredEntity()) {
 			entity = loadClusteredEntity(context, entityClass, entityMeta, primaryKey);
 		} else {
+			entity = context.<T> loadFromCache();
+			if (entity != null) {
+				return entity;
+			}
 			Object rowKey = buildRowKey(context);
-			List<Pair<Composite, String>> columns = context.getEntityDao().eagerFetchEntity(rowKey);
+			List<Pair<Composite, String>> columns = context.getEntityDao().eagerFetchEntity(rowKey,
+					context.getConsistencyLevel());
 			if (columns.size() > 0) {
 				log.trace("Mapping data from Cassandra columns to entity");
 
 				entity = entityMeta.<T> instanciate();
 				mapper.setEagerPropertiesToEntity(primaryKey, columns, entityMeta, entity);
+				context.putInCache(entity);
 			}
 		}
 		return entity;
 	}
 
+	public <T> List<T> load(List<ThriftPersistenceContext> contexts, Class<T> entityClass) {
+		EntityMeta entityMeta = contexts.get(0).getEntityMeta();
+		log.trace("Loading {} entities of class {} with a single multiget", contexts.size(),
+				entityMeta.getClassName());
+
+		List<Object> rowKeys = new ArrayList<Object>(contexts.size());
+		for (ThriftPersistenceContext context : contexts) {
+			rowKeys.add(buildRowKey(context));
+		}
+
+		Map<Object, List<Pair<Composite, String>>> columnsByRowKey = contexts.get(0).getEntityDao()
+				.eagerFetchEntities(rowKeys, contexts.get(0).getConsistencyLevel());
+
+		List<T> entities = new ArrayList<T>(contexts.size());
+		for (int i = 0; i < contexts.size(); i++) {
+			T entity = null;
+			List<Pair<Composite, String>> columns = columnsByRowKey.get(rowKeys.get(i));
+			if (columns != null && columns.size() > 0) {
+				entity = entityMeta.<T> instanciate();
+				mapper.setEagerPropertiesToEntity(contexts.get(i).getPrimaryKey(), columns, entityMeta, entity);
+			}
+			entities.add(entity);
+		}
+		return entities;
+	}
+
 	public Object loadSimpleProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		Object rowKey = buildRowKey(context);
 
@@ -82,7 +118,7 @@ public class ThriftLoaderImpl {
 						propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta()
 								.getTableName(), context.getPrimaryKey(), format(composite));
 			}
-			Object value = context.getWideRowDao().getValue(rowKey, composite);
+			Object value = context.getWideRowDao().getValue(rowKey, composite, context.getConsistencyLevel());
 			return propertyMeta.decode(value);
 		} else {
 			Composite composite = compositeFactory.createBaseForGet(propertyMeta);
@@ -92,7 +128,8 @@ public class ThriftLoaderImpl {
 						propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta()
 								.getTableName(), context.getPrimaryKey(), format(composite));
 			}
-			return propertyMeta.forceDecodeFromJSON((String) context.getEntityDao().getValue(rowKey, composite));
+			String value = context.getEntityDao().getValue(rowKey, composite, context.getConsistencyLevel());
+			return propertyMeta.forceDecodeFromJSON(value);
 		}
 	}
 
@@ -100,7 +137,10 @@ public class ThriftLoaderImpl {
 		log.trace("Loading list property {} of class {} from column family {} with primary key {}", propertyMeta
 				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
 				.getPrimaryKey());
-		List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+		return decodeList(propertyMeta, fetchColumns(context, propertyMeta));
+	}
+
+	private List<Object> decodeList(PropertyMeta propertyMeta, List<Pair<Composite, String>> columns) {
 		List<Object> list = null;
 		if (columns.size() > 0) {
 			list = new ArrayList<Object>();
@@ -116,7 +156,10 @@ public class ThriftLoaderImpl {
 		log.trace("Loading set property {} of class {} from column family {} with primary key {}", propertyMeta
 				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
 				.getPrimaryKey());
-		List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+		return decodeSet(propertyMeta, fetchColumns(context, propertyMeta));
+	}
+
+	private Set<Object> decodeSet(PropertyMeta propertyMeta, List<Pair<Composite, String>> columns) {
 		Set<Object> set = null;
 		if (columns.size() > 0) {
 			set = new HashSet<Object>();
@@ -131,7 +174,10 @@ public class ThriftLoaderImpl {
 		log.trace("Loading map property {} of class {} from column family {} with primary key {}", propertyMeta
 				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
 				.getPrimaryKey());
-		List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+		return decodeMap(propertyMeta, fetchColumns(context, propertyMeta));
+	}
+
+	private Map<Object, Object> decodeMap(PropertyMeta propertyMeta, List<Pair<Composite, String>> columns) {
 		Map<Object, Object> map = null;
 		if (columns.size() > 0) {
 			map = new HashMap<Object, Object>();
@@ -144,6 +190,59 @@ public class ThriftLoaderImpl {
 		return map;
 	}
 
+	/**
+	 * Load several properties of a non clustered entity. Simple properties are read with one query by their exact
+	 * column names, each list, set or map property with one slice bounded to its own columns
+	 */
+	public Map<PropertyMeta, Object> loadProperties(ThriftPersistenceContext context,
+			List<PropertyMeta> propertyMetas) {
+		Map<PropertyMeta, Object> values = new HashMap<PropertyMeta, Object>();
+		List<PropertyMeta> simpleMetas = new ArrayList<PropertyMeta>();
+		List<Composite> columnNames = new ArrayList<Composite>();
+		for (PropertyMeta propertyMeta : propertyMetas) {
+			if (multiValuesNonProxyTypes.contains(propertyMeta.type())) {
+				values.put(propertyMeta, decode(propertyMeta, fetchColumns(context, propertyMeta)));
+			} else {
+				simpleMetas.add(propertyMeta);
+				columnNames.add(compositeFactory.createBaseForGet(propertyMeta));
+			}
+		}
+
+		if (!simpleMetas.isEmpty()) {
+			log.trace("Fetching columns of properties {} from Cassandra by name", simpleMetas);
+
+			Object rowKey = buildRowKey(context);
+			List<Pair<Composite, String>> columns = context.getEntityDao().findColumns(rowKey, columnNames,
+					context.getConsistencyLevel());
+
+			Map<String, String> valuesByProperty = new HashMap<String, String>();
+			for (Pair<Composite, String> pair : columns) {
+				valuesByProperty.put(pair.left.get(1, STRING_SRZ), pair.right);
+			}
+			for (PropertyMeta propertyMeta : simpleMetas) {
+				String value = valuesByProperty.get(propertyMeta.getPropertyName());
+				values.put(propertyMeta, value == null ? null : propertyMeta.forceDecodeFromJSON(value));
+			}
+		}
+		return values;
+	}
+
+	private Object decode(PropertyMeta propertyMeta, List<Pair<Composite, String>> columns) {
+		switch (propertyMeta.type()) {
+		case LIST:
+		case LAZY_LIST:
+			return decodeList(propertyMeta, columns);
+		case SET:
+		case LAZY_SET:
+			return decodeSet(propertyMeta, columns);
+		case MAP:
+		case LAZY_MAP:
+			return decodeMap(propertyMeta, columns);
+		default:
+			return columns.isEmpty() ? null : propertyMeta.forceDecodeFromJSON(columns.get(0).right);
+		}
+	}
+
 	protected List<Pair<Composite, String>> fetchColumns(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 
 		Composite start = compositeFactory.createBaseForQuery(propertyMeta, EQUAL);
@@ -155,7 +254,7 @@ public class ThriftLoaderImpl {
 		Object rowKey = buildRowKey(context);
 
 		List<Pair<Composite, String>> columns = context.getEntityDao().findColumnsRange(rowKey, start, end, false,
-				Integer.MAX_VALUE);
+				Integer.MAX_VALUE, context.getConsistencyLevel());
 		return columns;
 	}
 
@@ -167,21 +266,63 @@ public class ThriftLoaderImpl {
 
 		T clusteredEntity;
 		if (entityMeta.isValueless()) {
-			HColumn<Composite, Object> column = context.getWideRowDao().getColumn(rowKey, composite);
+			HColumn<Composite, Object> column = context.getWideRowDao().getColumn(rowKey, composite,
+					context.getConsistencyLevel());
 			clusteredEntity = column != null ? compositeTransformer.buildClusteredEntityWithIdOnly(entityClass,
 					context, column.getName().getComponents()) : null;
 		} else if (entityMeta.isClusteredCounter()) {
-			HCounterColumn<Composite> counterColumn = context.getWideRowDao().getCounterColumn(rowKey, composite);
+			HCounterColumn<Composite> counterColumn = context.getWideRowDao().getCounterColumn(rowKey, composite,
+					context.getConsistencyLevel());
 			clusteredEntity = counterColumn != null ? compositeTransformer.buildClusteredEntityWithIdOnly(entityClass,
 					context, counterColumn.getName().getComponents()) : null;
 		} else {
-			HColumn<Composite, Object> column = context.getWideRowDao().getColumn(rowKey, composite);
+			HColumn<Composite, Object> column = context.getWideRowDao().getColumn(rowKey, composite,
+					context.getConsistencyLevel());
 			clusteredEntity = column != null ? compositeTransformer.buildClusteredEntity(entityClass, context, column)
 					: null;
 		}
 		return clusteredEntity;
 	}
 
+	/**
+	 * Load all the counters of the entities with a single multiget on the
+	 * counter column family. Clustered counters are loaded one by one
+	 */
+	public void loadCounters(List<ThriftPersistenceContext> contexts, ConsistencyLevel readLevel) {
+		List<ThriftPersistenceContext> simpleCounterContexts = new ArrayList<ThriftPersistenceContext>();
+		List<Composite> rowKeys = new ArrayList<Composite>();
+		for (ThriftPersistenceContext context : contexts) {
+			Optional<ConsistencyLevel> readLevelO = readLevel != null ? Optional.of(readLevel) : context
+					.getConsistencyLevel();
+			EntityMeta entityMeta = context.getEntityMeta();
+			PropertyMeta idMeta = entityMeta.getIdMeta();
+			Object primaryKey = context.getPrimaryKey();
+			if (context.isClusteredEntity()) {
+				PropertyMeta counterMeta = entityMeta.getFirstMeta();
+				Composite comp = compositeFactory.createBaseForClusteredGet(primaryKey, idMeta);
+				Long counterValue = context.getWideRowDao().getCounterValue(idMeta.getPartitionKey(primaryKey),
+						comp, readLevelO);
+				Map<String, Long> counterValues = new HashMap<String, Long>();
+				counterValues.put(counterMeta.getPropertyName(), counterValue);
+				context.cacheCounterValues(counterValues);
+			} else {
+				simpleCounterContexts.add(context);
+				rowKeys.add(compositeFactory.createRowKeyForCounter(entityMeta.getClassName(), primaryKey, idMeta));
+			}
+		}
+
+		if (!simpleCounterContexts.isEmpty()) {
+			log.trace("Loading counters of {} entities with a single multiget", simpleCounterContexts.size());
+			ThriftPersistenceContext firstContext = simpleCounterContexts.get(0);
+			Optional<ConsistencyLevel> readLevelO = readLevel != null ? Optional.of(readLevel) : firstContext
+					.getConsistencyLevel();
+			List<Map<String, Long>> counters = firstContext.getCounterDao().fetchCounters(rowKeys, readLevelO);
+			for (int i = 0; i < simpleCounterContexts.size(); i++) {
+				simpleCounterContexts.get(i).cacheCounterValues(counters.get(i));
+			}
+		}
+	}
+
 	private Object buildRowKey(ThriftPersistenceContext context) {
 		return compositeFactory.buildRowKey(context);
 	}
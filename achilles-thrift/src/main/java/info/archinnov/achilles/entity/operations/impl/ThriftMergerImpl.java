@@ -21,6 +21,7 @@ import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -35,32 +36,40 @@ public class ThriftMergerImpl implements Merger<ThriftPersistenceContext> {
 	private ThriftEntityPersister persister = new ThriftEntityPersister();
 
 	@Override
-	public void merge(ThriftPersistenceContext context, Map<Method, PropertyMeta> dirtyMap) {
+	public void merge(ThriftPersistenceContext context, Map<Method, PropertyMeta> dirtyMap,
+			Map<Method, ElementChanges> changesMap) {
 		if (dirtyMap.size() > 0) {
 			EntityMeta meta = context.getEntityMeta();
 
 			if (meta.isClusteredEntity()) {
 				mergeClusteredEntity(context, dirtyMap);
 			} else {
-				mergeEntity(context, dirtyMap);
+				mergeEntity(context, dirtyMap, changesMap);
 			}
 		}
 
 		dirtyMap.clear();
-
+		changesMap.clear();
 	}
 
-	private void mergeEntity(ThriftPersistenceContext context, Map<Method, PropertyMeta> dirtyMap) {
+	private void mergeEntity(ThriftPersistenceContext context, Map<Method, PropertyMeta> dirtyMap,
+			Map<Method, ElementChanges> changesMap) {
 		Object entity = context.getEntity();
 		for (Entry<Method, PropertyMeta> entry : dirtyMap.entrySet()) {
 			PropertyMeta pm = entry.getValue();
+			ElementChanges changes = changesMap.get(entry.getKey());
 			boolean removeProperty = pm.getValueFromField(entity) == null;
 
 			if (removeProperty) {
 				log.debug("Removing property {}", pm.getPropertyName());
 				persister.removePropertyBatch(context, pm);
+			} else if (changes != null && changes.getPrependedElements().isEmpty()) {
+				// Prepending shifts the index of all list columns, hence a full rewrite
+				log.debug("Merging element changes of collection/map {}", pm.getPropertyName());
+				persister.persistElementChanges(context, pm, changes);
 			} else {
-				if (multiValuesNonProxyTypes.contains(pm.type())) {
+				// A list with recorded changes has only grown so the rewrite overwrites all its columns
+				if (changes == null && multiValuesNonProxyTypes.contains(pm.type())) {
 					log.debug("Removing dirty collection/map {} before merging", pm.getPropertyName());
 					persister.removePropertyBatch(context, pm);
 				}
@@ -16,16 +16,20 @@
  */
 package info.archinnov.achilles.entity.operations.impl;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.logger.ThriftLoggerHelper.*;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.*;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.wrapper.CounterBuilder.CounterImpl;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -83,7 +87,8 @@ public class ThriftPersisterImpl {
 					CounterImpl.class.getCanonicalName());
 
 			CounterImpl counterValue = (CounterImpl) counter;
-			context.getCounterDao().incrementCounter(rowKey, name, counterValue.get());
+			context.getCounterDao().incrementCounter(rowKey, name, counterValue.get(),
+					context.getConsistencyLevel());
 		}
 	}
 
@@ -146,6 +151,41 @@ public class ThriftPersisterImpl {
 		}
 	}
 
+	public void batchPersistListElements(Map<Integer, ?> elementsByIndex, ThriftPersistenceContext context,
+			PropertyMeta propertyMeta) {
+		for (Entry<Integer, ?> entry : elementsByIndex.entrySet()) {
+			String stringValue = propertyMeta.forceEncodeToJSON(entry.getValue());
+			if (stringValue != null) {
+				Composite name = compositeFactory.createForBatchInsertList(propertyMeta, entry.getKey());
+				if (log.isTraceEnabled()) {
+					log.trace(
+							"Batch persisting list element of property {} from entity of class {} and primary key {} with column name {}",
+							propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
+							context.getPrimaryKey(), format(name));
+				}
+				Object rowKey = buildRowKey(context);
+				context.getEntityDao().insertColumnBatch(rowKey, name, stringValue, context.getTtt(),
+						context.getTimestamp(), context.getEntityMutator(context.getTableName()));
+			}
+		}
+	}
+
+	public void batchRemoveSetOrMapElements(Collection<?> valuesOrKeys, ThriftPersistenceContext context,
+			PropertyMeta propertyMeta) {
+		for (Object valueOrKey : valuesOrKeys) {
+			String valueOrKeyAsString = propertyMeta.forceEncodeToJSON(valueOrKey);
+			Composite name = compositeFactory.createForBatchInsertSetOrMap(propertyMeta, valueOrKeyAsString);
+			if (log.isTraceEnabled()) {
+				log.trace(
+						"Batch removing set element or map entry of property {} from entity of class {} and primary key {} with column name {}",
+						propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
+						context.getPrimaryKey(), format(name));
+			}
+			Object rowKey = buildRowKey(context);
+			context.getEntityDao().removeColumnBatch(rowKey, name, context.getEntityMutator(context.getTableName()));
+		}
+	}
+
 	public void persistClusteredEntity(ThriftPersistenceContext context, Object clusteredValue) {
 		Object rowKey = buildRowKey(context);
 
@@ -166,7 +206,7 @@ public class ThriftPersisterImpl {
 						"Counter clustered entity '%s' value should be of type '%s'", className,
 						CounterImpl.class.getCanonicalName());
 				CounterImpl counterValue = (CounterImpl) clusteredValue;
-				dao.incrementCounter(rowKey, comp, counterValue.get());
+				dao.incrementCounter(rowKey, comp, counterValue.get(), context.getConsistencyLevel());
 			} else {
 				Object persistentValue = pm.encode(clusteredValue);
 				dao.setValueBatch(rowKey, comp, persistentValue, context.getTtt(), context.getTimestamp(), mutator);
@@ -210,11 +250,24 @@ public class ThriftPersisterImpl {
 
 		List<PropertyMeta> pms = FluentIterable.from(entityMeta.getAllMetasExceptIdMeta()).toImmutableList();
 
+		// All simple counters of an entity share the same counter row
+		Map<String, Composite> counterRowKeys = new HashMap<String, Composite>();
+		ThriftCounterDao counterDao = context.getCounterDao();
 		for (PropertyMeta propertyMeta : pms) {
 			if (propertyMeta.isCounter()) {
-				removeSimpleCounter(context, propertyMeta);
+				Composite keyComp = compositeFactory.createRowKeyForCounter(propertyMeta.fqcn(),
+						context.getPrimaryKey(), propertyMeta.counterIdMeta());
+				Composite com = compositeFactory.createForBatchInsertSingleCounter(propertyMeta);
+				context.discardPendingCounterDeltas(counterDao, keyComp, com);
+				counterRowKeys.put(propertyMeta.fqcn(), keyComp);
 			}
 		}
+
+		for (Composite keyComp : counterRowKeys.values()) {
+			log.trace("Batch removing counter row of class {} and primary key {}", context.getEntityClass()
+					.getCanonicalName(), context.getPrimaryKey());
+			counterDao.removeCounterRowBatch(keyComp, context.getCounterMutator());
+		}
 	}
 
 	public void removeClusteredEntity(ThriftPersistenceContext context) {
@@ -230,6 +283,7 @@ public class ThriftPersisterImpl {
 		Mutator<Object> mutator = context.getWideRowMutator(tableName);
 
 		if (isCounter) {
+			context.discardPendingCounterDeltas(dao, rowKey, comp);
 			dao.removeCounterBatch(rowKey, comp, mutator);
 		} else {
 			dao.removeColumnBatch(rowKey, comp, mutator);
@@ -238,6 +292,18 @@ public class ThriftPersisterImpl {
 	}
 
 	public void removePropertyBatch(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+		if (propertyMeta.type() == SIMPLE || propertyMeta.type() == LAZY_SIMPLE) {
+			Composite name = compositeFactory.createForBatchInsertSingleValue(propertyMeta);
+
+			log.trace("Batch removing simple property {} of class {} and primary key {}",
+					propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
+					context.getPrimaryKey());
+			context.getEntityDao().removeColumnBatch(context.getPrimaryKey(), name,
+					context.getEntityMutator(context.getTableName()));
+			return;
+		}
+
+		// Thrift deletions do not support slice ranges, the existing columns should be read first
 		Composite start = compositeFactory.createBaseForQuery(propertyMeta, ComponentEquality.EQUAL);
 		Composite end = compositeFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
 
@@ -250,17 +316,6 @@ public class ThriftPersisterImpl {
 				context.getEntityMutator(context.getTableName()));
 	}
 
-	private void removeSimpleCounter(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
-		Composite keyComp = compositeFactory.createRowKeyForCounter(propertyMeta.fqcn(), context.getPrimaryKey(),
-				propertyMeta.counterIdMeta());
-		Composite com = compositeFactory.createForBatchInsertSingleCounter(propertyMeta);
-
-		log.trace("Batch removing counter property {} of class {} and primary key {}", propertyMeta.getPropertyName(),
-				context.getEntityClass().getCanonicalName(), context.getPrimaryKey());
-
-		context.getCounterDao().removeCounterBatch(keyComp, com, context.getCounterMutator());
-	}
-
 	private Object buildRowKey(ThriftPersistenceContext context) {
 		return compositeFactory.buildRowKey(context);
 	}
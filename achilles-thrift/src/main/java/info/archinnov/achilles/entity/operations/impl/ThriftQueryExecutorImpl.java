@@ -18,7 +18,6 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -34,136 +33,96 @@ import me.prettyprint.hector.api.beans.HColumn;
 import me.prettyprint.hector.api.beans.HCounterColumn;
 import me.prettyprint.hector.api.mutation.Mutator;
 
+import com.google.common.base.Optional;
+
 public class ThriftQueryExecutorImpl {
 	private ThriftCompositeFactory compositeFactory = new ThriftCompositeFactory();
 
-	public <T> List<HColumn<Composite, Object>> findColumns(final SliceQuery<T> query, ThriftPersistenceContext context) {
+	public <T> List<HColumn<Composite, Object>> findColumns(SliceQuery<T> query, ThriftPersistenceContext context) {
 		EntityMeta meta = query.getMeta();
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
 
 		PropertyMeta idMeta = meta.getIdMeta();
 
-		final Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
+		Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
 				query.getClusteringsTo(), query.getBounding(), query.getOrdering());
-		final Object rowKey = compositeFactory.buildRowKey(context);
-
-		return context.executeWithReadConsistencyLevel(new SafeExecutionContext<List<HColumn<Composite, Object>>>() {
-			@Override
-			public List<HColumn<Composite, Object>> execute() {
-				return wideRowDao.findRawColumnsRange(rowKey, composites[0], composites[1], query.getLimit(), query
-						.getOrdering().isReverse());
-			}
-		}, query.getConsistencyLevel());
+		Object rowKey = compositeFactory.buildRowKey(context);
+
+		return wideRowDao.findRawColumnsRange(rowKey, composites[0], composites[1], query.getLimit(), query
+				.getOrdering().isReverse(), Optional.fromNullable(query.getConsistencyLevel()));
 	}
 
-	public <T> ThriftSliceIterator<Object, Object> getColumnsIterator(final SliceQuery<T> query,
+	public <T> ThriftSliceIterator<Object, Object> getColumnsIterator(SliceQuery<T> query,
 			ThriftPersistenceContext context) {
 		EntityMeta meta = query.getMeta();
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
 		PropertyMeta idMeta = meta.getIdMeta();
-		final Object rowKey = compositeFactory.buildRowKey(context);
+		Object rowKey = compositeFactory.buildRowKey(context);
 
-		final Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
+		Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
 				query.getClusteringsTo(), query.getBounding(), query.getOrdering());
 
-		return context.executeWithReadConsistencyLevel(new SafeExecutionContext<ThriftSliceIterator<Object, Object>>() {
-			@Override
-			public ThriftSliceIterator<Object, Object> execute() {
-				return wideRowDao.getColumnsIterator(rowKey, composites[0], composites[1], query.getOrdering()
-						.isReverse(), query.getBatchSize());
-			}
-		}, query.getConsistencyLevel());
+		return wideRowDao.getColumnsIterator(rowKey, composites[0], composites[1], query.getOrdering().isReverse(),
+				query.getBatchSize(), Optional.fromNullable(query.getConsistencyLevel()));
 	}
 
-	public void removeColumns(List<HColumn<Composite, Object>> columns, final ConsistencyLevel consistencyLevel,
-			final ThriftPersistenceContext context) {
-		final Object rowKey = compositeFactory.buildRowKey(context);
+	public void removeColumns(List<HColumn<Composite, Object>> columns, ConsistencyLevel consistencyLevel,
+			ThriftPersistenceContext context) {
+		Object rowKey = compositeFactory.buildRowKey(context);
 
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Mutator<Object> mutator = wideRowDao.buildMutator();
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Mutator<Object> mutator = wideRowDao.buildMutator(Optional.fromNullable(consistencyLevel));
 		for (HColumn<Composite, Object> column : columns) {
 			wideRowDao.removeColumnBatch(rowKey, column.getName(), mutator);
 		}
-
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				wideRowDao.executeMutator(mutator);
-				return null;
-			}
-		}, consistencyLevel);
-
+		wideRowDao.executeMutator(mutator);
 	}
 
-	public <T> List<HCounterColumn<Composite>> findCounterColumns(final SliceQuery<T> query,
+	public <T> List<HCounterColumn<Composite>> findCounterColumns(SliceQuery<T> query,
 			ThriftPersistenceContext context) {
 		EntityMeta meta = query.getMeta();
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
 		PropertyMeta idMeta = meta.getIdMeta();
-		final Object rowKey = compositeFactory.buildRowKey(context);
+		Object rowKey = compositeFactory.buildRowKey(context);
 
-		final Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
+		Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
 				query.getClusteringsTo(), query.getBounding(), query.getOrdering());
 
-		return context.executeWithReadConsistencyLevel(new SafeExecutionContext<List<HCounterColumn<Composite>>>() {
-			@Override
-			public List<HCounterColumn<Composite>> execute() {
-				return wideRowDao.findCounterColumnsRange(rowKey, composites[0], composites[1], query.getLimit(), query
-						.getOrdering().isReverse());
-			}
-		}, query.getConsistencyLevel());
+		return wideRowDao.findCounterColumnsRange(rowKey, composites[0], composites[1], query.getLimit(), query
+				.getOrdering().isReverse(), Optional.fromNullable(query.getConsistencyLevel()));
 	}
 
-	public <T> ThriftCounterSliceIterator<Object> getCounterColumnsIterator(final SliceQuery<T> query,
+	public <T> ThriftCounterSliceIterator<Object> getCounterColumnsIterator(SliceQuery<T> query,
 			ThriftPersistenceContext context) {
 		EntityMeta meta = query.getMeta();
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Object rowKey = compositeFactory.buildRowKey(context);
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Object rowKey = compositeFactory.buildRowKey(context);
 		PropertyMeta idMeta = meta.getIdMeta();
 
-		final Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
+		Composite[] composites = compositeFactory.createForClusteredQuery(idMeta, query.getClusteringsFrom(),
 				query.getClusteringsTo(), query.getBounding(), query.getOrdering());
 
-		return context.executeWithReadConsistencyLevel(new SafeExecutionContext<ThriftCounterSliceIterator<Object>>() {
-			@Override
-			public ThriftCounterSliceIterator<Object> execute() {
-				return wideRowDao.getCounterColumnsIterator(rowKey, composites[0], composites[1], query.getOrdering()
-						.isReverse(), query.getBatchSize());
-			}
-		}, query.getConsistencyLevel());
+		return wideRowDao.getCounterColumnsIterator(rowKey, composites[0], composites[1], query.getOrdering()
+				.isReverse(), query.getBatchSize(), Optional.fromNullable(query.getConsistencyLevel()));
 	}
 
 	public void removeCounterColumns(List<HCounterColumn<Composite>> counterColumns,
-			final ConsistencyLevel consistencyLevel, final ThriftPersistenceContext context) {
-		final Object rowKey = compositeFactory.buildRowKey(context);
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Mutator<Object> mutator = wideRowDao.buildMutator();
+			ConsistencyLevel consistencyLevel, ThriftPersistenceContext context) {
+		Object rowKey = compositeFactory.buildRowKey(context);
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Mutator<Object> mutator = wideRowDao.buildMutator(Optional.fromNullable(consistencyLevel));
 		for (HCounterColumn<Composite> counterColumn : counterColumns) {
 			wideRowDao.removeCounterBatch(rowKey, counterColumn.getName(), mutator);
 		}
-
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				wideRowDao.executeMutator(mutator);
-				return null;
-			}
-		}, consistencyLevel);
-
+		wideRowDao.executeMutator(mutator);
 	}
 
-	public void removeRow(final Object partitionKey, ThriftPersistenceContext context, ConsistencyLevel consistencyLevel) {
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Mutator<Object> mutator = wideRowDao.buildMutator();
-		final Object rowKey = compositeFactory.buildRowKey(context);
+	public void removeRow(Object partitionKey, ThriftPersistenceContext context, ConsistencyLevel consistencyLevel) {
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Mutator<Object> mutator = wideRowDao.buildMutator(Optional.fromNullable(consistencyLevel));
+		Object rowKey = compositeFactory.buildRowKey(context);
 		wideRowDao.removeRowBatch(rowKey, mutator);
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				wideRowDao.executeMutator(mutator);
-				return null;
-			}
-		}, consistencyLevel);
+		wideRowDao.executeMutator(mutator);
 	}
 
 }
@@ -53,6 +53,8 @@ public class ThriftPersistenceManagerFactoryBean extends AbstractFactoryBean<Thr
 
 	private boolean forceColumnFamilyCreation = false;
 
+	private Integer bulkFindChunkSize;
+
 	protected void initialize() {
 		Map<String, Object> configMap = new HashMap<String, Object>();
 
@@ -66,6 +68,10 @@ public class ThriftPersistenceManagerFactoryBean extends AbstractFactoryBean<Thr
 
 		configMap.put(FORCE_CF_CREATION_PARAM, forceColumnFamilyCreation);
 
+		if (bulkFindChunkSize != null) {
+			configMap.put(BULK_FIND_CHUNK_SIZE_PARAM, bulkFindChunkSize);
+		}
+
 		ThriftPersistenceManagerFactory pmf = new ThriftPersistenceManagerFactory(configMap);
 		manager = pmf.createPersistenceManager();
 	}
@@ -152,6 +158,10 @@ public class ThriftPersistenceManagerFactoryBean extends AbstractFactoryBean<Thr
 		this.forceColumnFamilyCreation = forceColumnFamilyCreation;
 	}
 
+	public void setBulkFindChunkSize(Integer bulkFindChunkSize) {
+		this.bulkFindChunkSize = bulkFindChunkSize;
+	}
+
 	public void setObjectMapperFactory(ObjectMapperFactory objectMapperFactory) {
 		this.objectMapperFactory = objectMapperFactory;
 	}
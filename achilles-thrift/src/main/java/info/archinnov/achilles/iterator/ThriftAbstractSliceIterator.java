@@ -17,12 +17,15 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.ThriftAbstractDao.*;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.exception.AchillesException;
-import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
@@ -30,44 +33,67 @@ import me.prettyprint.hector.api.beans.Composite;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+
 public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<HCOLUMN> {
 	private static final Logger log = LoggerFactory.getLogger(ThriftAbstractSliceIterator.class);
 
 	protected boolean reversed;
 	protected int count = DEFAULT_LENGTH;
 	protected int columns = 0;
-	protected AchillesConsistencyLevelPolicy policy;
 	protected String columnFamily;
-	protected ConsistencyLevel readConsistencyLevelAtInitialization;
 	protected Iterator<HCOLUMN> iterator;
 	protected Composite start;
 	protected ColumnSliceFinish finish;
 
-	protected ThriftAbstractSliceIterator(AchillesConsistencyLevelPolicy policy, String columnFamily, Composite start,
-			ColumnSliceFinish finish, boolean reversed, int count) {
-		this.policy = policy;
+	private int prefetchDepth = 0;
+	private ExecutorService prefetchExecutor;
+	private List<HCOLUMN> currentPage;
+	private LinkedList<Future<List<HCOLUMN>>> prefetchedPages = new LinkedList<Future<List<HCOLUMN>>>();
+
+	protected ThriftAbstractSliceIterator(String columnFamily, Composite start, ColumnSliceFinish finish,
+			boolean reversed, int count) {
 		this.columnFamily = columnFamily;
 		this.start = start;
 		this.finish = finish;
 		this.reversed = reversed;
 		this.count = count;
-		this.readConsistencyLevelAtInitialization = policy.getCurrentReadLevel();
 	}
 
 	public interface ColumnSliceFinish {
 		Composite function();
 	}
 
+	/**
+	 * Request up to prefetchDepth next batches on the given executor while
+	 * the current batch is being consumed
+	 */
+	public void prefetch(ExecutorService prefetchExecutor, int prefetchDepth) {
+		this.prefetchExecutor = prefetchExecutor;
+		this.prefetchDepth = prefetchDepth;
+	}
+
+	/**
+	 * Stop the iteration and cancel all the batches prefetched so far
+	 */
+	public void cancel() {
+		for (Future<List<HCOLUMN>> page : prefetchedPages) {
+			page.cancel(true);
+		}
+		prefetchedPages.clear();
+		currentPage = Lists.newArrayList();
+		iterator = currentPage.iterator();
+		columns = 0;
+	}
+
 	@Override
 	public boolean hasNext() {
+		if (prefetchDepth > 0) {
+			return hasNextWithPrefetch();
+		}
 		if (iterator == null) {
-			iterator = executeSafely(new SafeExecutionContext<Iterator<HCOLUMN>>() {
-				@Override
-				public Iterator<HCOLUMN> execute() {
-					return fetchData();
-				}
-
-			});
+			iterator = fetchDataSafely();
 		} else if (!iterator.hasNext() && columns == count) { // only need to do
 																// another query
 																// if maximum
@@ -82,13 +108,7 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
 				start.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
 			}
 			changeQueryRange();
-			iterator = executeSafely(new SafeExecutionContext<Iterator<HCOLUMN>>() {
-				@Override
-				public Iterator<HCOLUMN> execute() {
-					return fetchData();
-				}
-
-			});
+			iterator = fetchDataSafely();
 
 			columns = 0;
 		}
@@ -100,7 +120,9 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
 	public HCOLUMN next() {
 		log.trace("Fetching next column from {}", count, type());
 		HCOLUMN column = iterator.next();
-		resetStartColumn(column);
+		if (prefetchDepth == 0) {
+			resetStartColumn(column);
+		}
 		columns++;
 		return column;
 	}
@@ -118,45 +140,75 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
 
 	public abstract IteratorType type();
 
-	protected <T> T executeWithInitialConsistencyLevel(SafeExecutionContext<T> context) {
-		log.trace("Fetching next {} elements with consistency level {} from {}", count,
-				readConsistencyLevelAtInitialization != null ? readConsistencyLevelAtInitialization.name() : "QUORUM",
-				type());
-
-		T result = null;
-		if (readConsistencyLevelAtInitialization != null) {
-			log.trace("Save current consistency level {} by {}", policy.getCurrentReadLevel(), type());
-			ConsistencyLevel currentReadLevel = policy.getCurrentReadLevel();
-			policy.setCurrentReadLevel(readConsistencyLevelAtInitialization);
-			policy.loadConsistencyLevelForRead(columnFamily);
+	private boolean hasNextWithPrefetch() {
+		if (iterator == null) {
+			currentPage = Lists.newArrayList(fetchDataSafely());
+			iterator = currentPage.iterator();
+		}
+		prefetchNextPages();
+		while (!iterator.hasNext() && !prefetchedPages.isEmpty()) {
+			currentPage = waitForPage(prefetchedPages.poll());
+			iterator = currentPage.iterator();
+			prefetchNextPages();
+		}
+		return iterator.hasNext();
+	}
+
+	private void prefetchNextPages() {
+		while (prefetchedPages.size() < prefetchDepth) {
+			List<HCOLUMN> lastPage = prefetchedPages.isEmpty() ? currentPage : pageIfDone(prefetchedPages.getLast());
+			if (lastPage == null || lastPage.size() < count) {
+				// Either the last requested batch is still in flight or the
+				// slice is exhausted
+				return;
+			}
+
+			log.trace("Prefetch another batch of {} elements for {}", count, type());
+			// The query is only modified once the previous batch has been
+			// fetched, it is never shared between two running fetches
+			resetStartColumn(lastPage.get(lastPage.size() - 1));
+			if (reversed) {
+				start.setEquality(ComponentEquality.LESS_THAN_EQUAL);
+			} else {
+				start.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
+			}
+			changeQueryRange();
+			prefetchedPages.add(prefetchExecutor.submit(new Callable<List<HCOLUMN>>() {
+				@Override
+				public List<HCOLUMN> call() throws Exception {
+					return Lists.newArrayList(fetchData());
+				}
+			}));
+		}
+	}
+
+	private List<HCOLUMN> pageIfDone(Future<List<HCOLUMN>> page) {
+		if (page.isDone() && !page.isCancelled()) {
 			try {
-				result = context.execute();
-				policy.setCurrentReadLevel(currentReadLevel);
-				log.trace("Restore current consistency level {} by {}", currentReadLevel, type());
-			} catch (Throwable throwable) {
-				policy.reinitCurrentConsistencyLevels();
-				policy.reinitDefaultConsistencyLevels();
-				log.trace(
-						"Exception occurred while fetching next {} elements with consistency level {} in {}. Reset consistency levels",
-						count, readConsistencyLevelAtInitialization.name(), type());
-				throw new AchillesException(throwable);
+				return page.get();
+			} catch (Exception e) {
+				// Raised to the caller when the batch is consumed
+				return null;
 			}
-		} else {
-			result = context.execute();
 		}
-		return result;
+		return null;
+	}
 
+	private List<HCOLUMN> waitForPage(Future<List<HCOLUMN>> page) {
+		try {
+			return Uninterruptibles.getUninterruptibly(page);
+		} catch (ExecutionException e) {
+			log.trace("Exception occurred while prefetching next {} elements in {}", count, type());
+			throw new AchillesException(e.getCause());
+		}
 	}
 
-	private <T> T executeSafely(SafeExecutionContext<T> context) {
+	private Iterator<HCOLUMN> fetchDataSafely() {
+		log.trace("Fetching next {} elements from column family {} by {}", count, columnFamily, type());
 		try {
-			return context.execute();
+			return fetchData();
 		} catch (Exception e) {
-			policy.reinitCurrentConsistencyLevels();
-			policy.reinitDefaultConsistencyLevels();
-			log.trace(
-					"Exception occurred while fetching next {} elements with consistency level {} in {}. Reset consistency levels",
-					count, readConsistencyLevelAtInitialization.name(), type());
+			log.trace("Exception occurred while fetching next {} elements in {}", count, type());
 			throw new AchillesException(e);
 		}
 	}
@@ -18,8 +18,6 @@ package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.ThriftAbstractDao.DEFAULT_LENGTH;
 import static info.archinnov.achilles.iterator.ThriftAbstractSliceIterator.IteratorType.THRIFT_COUNTER_SLICE_ITERATOR;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 
 import java.util.Iterator;
 
@@ -35,14 +33,14 @@ public class ThriftCounterSliceIterator<K> extends ThriftAbstractSliceIterator<H
 
 	private SliceCounterQuery<K, Composite> query;
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, final Composite finish, boolean reversed) {
-		this(policy, cf, query, start, finish, reversed, DEFAULT_LENGTH);
+	public ThriftCounterSliceIterator(String cf, SliceCounterQuery<K, Composite> query, Composite start,
+			final Composite finish, boolean reversed) {
+		this(cf, query, start, finish, reversed, DEFAULT_LENGTH);
 	}
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, final Composite finish, boolean reversed, int count) {
-		this(policy, cf, query, start, new ColumnSliceFinish() {
+	public ThriftCounterSliceIterator(String cf, SliceCounterQuery<K, Composite> query, Composite start,
+			final Composite finish, boolean reversed, int count) {
+		this(cf, query, start, new ColumnSliceFinish() {
 
 			@Override
 			public Composite function() {
@@ -51,15 +49,14 @@ public class ThriftCounterSliceIterator<K> extends ThriftAbstractSliceIterator<H
 		}, reversed, count);
 	}
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, ColumnSliceFinish finish, boolean reversed) {
-		this(policy, cf, query, start, finish, reversed, DEFAULT_LENGTH);
+	public ThriftCounterSliceIterator(String cf, SliceCounterQuery<K, Composite> query, Composite start,
+			ColumnSliceFinish finish, boolean reversed) {
+		this(cf, query, start, finish, reversed, DEFAULT_LENGTH);
 	}
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, ColumnSliceFinish finish, boolean reversed,
-			int count) {
-		super(policy, cf, start, finish, reversed, count);
+	public ThriftCounterSliceIterator(String cf, SliceCounterQuery<K, Composite> query, Composite start,
+			ColumnSliceFinish finish, boolean reversed, int count) {
+		super(cf, start, finish, reversed, count);
 		this.query = query;
 		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
 	}
@@ -72,13 +69,8 @@ public class ThriftCounterSliceIterator<K> extends ThriftAbstractSliceIterator<H
 
 	@Override
 	protected Iterator<HCounterColumn<Composite>> fetchData() {
-		return executeWithInitialConsistencyLevel(new SafeExecutionContext<Iterator<HCounterColumn<Composite>>>() {
-			@Override
-			public Iterator<HCounterColumn<Composite>> execute() {
-				log.trace("Fetching next {} counter columns", count);
-				return query.execute().get().getColumns().iterator();
-			}
-		});
+		log.trace("Fetching next {} counter columns", count);
+		return query.execute().get().getColumns().iterator();
 	}
 
 	@Override
@@ -62,7 +62,8 @@ public class ThriftEntityInterceptor<T> extends EntityInterceptor<ThriftPersiste
 
 		result = ThriftCounterWrapperBuilder.builder(context)
 		//
-				.counterDao(counterDao).columnName(comp).consistencyLevel(consistencyLevel).key(rowKey).build();
+				.counterDao(counterDao).columnName(comp).consistencyLevel(consistencyLevel).key(rowKey)
+				.counterCoalescer(context.getCounterCoalescer()).counterMeta(propertyMeta).build();
 		return result;
 	}
 }
@@ -18,8 +18,12 @@ package info.archinnov.achilles.proxy.wrapper;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.metrics.EntityMetrics;
+import info.archinnov.achilles.metrics.OperationType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.validation.Validator;
@@ -28,6 +32,8 @@ import me.prettyprint.hector.api.beans.Composite;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Optional;
+
 public class ThriftCounterWrapper implements Counter {
 	private static final Logger log = LoggerFactory.getLogger(ThriftCounterWrapper.class);
 
@@ -36,6 +42,8 @@ public class ThriftCounterWrapper implements Counter {
 	private ThriftAbstractDao counterDao;
 	private ThriftPersistenceContext context;
 	private ConsistencyLevel consistencyLevel;
+	private ThriftCounterCoalescer counterCoalescer;
+	private PropertyMeta counterMeta;
 
 	public ThriftCounterWrapper(ThriftPersistenceContext context) {
 		this.context = context;
@@ -45,12 +53,10 @@ public class ThriftCounterWrapper implements Counter {
 	public Long get() {
 		log.trace("Get counter value for property {} of entity {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName());
-		return context.executeWithReadConsistencyLevel(new SafeExecutionContext<Long>() {
-			@Override
-			public Long execute() {
-				return counterDao.getCounterValue(key, columnName);
-			}
-		}, consistencyLevel);
+		if (context.hasCachedCounterValue(counterMeta)) {
+			return context.getCachedCounterValue(counterMeta);
+		}
+		return getCounterValue(Optional.fromNullable(consistencyLevel));
 	}
 
 	@Override
@@ -60,12 +66,25 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Get counter value for property {} of entity {} with consistency {}", columnName.get(0, STRING_SRZ),
 				context.getEntityClass().getCanonicalName(), readLevel.name());
 
-		return context.executeWithReadConsistencyLevel(new SafeExecutionContext<Long>() {
-			@Override
-			public Long execute() {
-				return counterDao.getCounterValue(key, columnName);
-			}
-		}, readLevel);
+		return getCounterValue(Optional.of(readLevel));
+	}
+
+	@Override
+	public Long getWithPendingDeltas() {
+		Long value = get();
+		if (counterCoalescer == null) {
+			return value;
+		}
+		long pendingDelta = counterCoalescer.getPendingDelta(counterDao, key, columnName);
+		if (value == null) {
+			return pendingDelta != 0L ? pendingDelta : null;
+		}
+		return value + pendingDelta;
+	}
+
+	@Override
+	public void refresh() {
+		context.evictCachedCounterValue(counterMeta);
 	}
 
 	@Override
@@ -73,14 +92,7 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Increment counter value for property {} of entity {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName());
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.incrementCounter(key, columnName, 1L);
-				return null;
-			}
-		}, consistencyLevel);
-
+		increment(1L, Optional.fromNullable(consistencyLevel));
 	}
 
 	public void incr(ConsistencyLevel writeLevel) {
@@ -89,44 +101,25 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Increment counter value for property {} of entity {} with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), writeLevel);
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.incrementCounter(key, columnName, 1L);
-				return null;
-			}
-		}, writeLevel);
-
+		increment(1L, Optional.fromNullable(writeLevel));
 	}
 
 	@Override
-	public void incr(final Long increment) {
+	public void incr(Long increment) {
 		log.trace("Increment counter value for property {} of entity {} of {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName(), increment);
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.incrementCounter(key, columnName, increment);
-				return null;
-			}
-		}, consistencyLevel);
+		increment(increment, Optional.fromNullable(consistencyLevel));
 	}
 
 	@Override
-	public void incr(final Long increment, ConsistencyLevel writeLevel) {
+	public void incr(Long increment, ConsistencyLevel writeLevel) {
 		Validator.validateNotNull(consistencyLevel, "Write consistency level for counter incr should not be null");
 
 		log.trace("Increment counter value for property {} of entity {} of {}  with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), increment, writeLevel);
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.incrementCounter(key, columnName, increment);
-				return null;
-			}
-		}, writeLevel);
+		increment(increment, Optional.fromNullable(writeLevel));
 	}
 
 	@Override
@@ -134,14 +127,7 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Decrement counter value for property {} of entity {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName());
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.decrementCounter(key, columnName, 1L);
-				return null;
-			}
-		}, consistencyLevel);
-
+		decrement(1L, Optional.fromNullable(consistencyLevel));
 	}
 
 	@Override
@@ -151,43 +137,81 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Decrement counter value for property {} of entity {} with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), writeLevel);
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.decrementCounter(key, columnName, 1L);
-				return null;
-			}
-		}, writeLevel);
+		decrement(1L, Optional.fromNullable(writeLevel));
 	}
 
 	@Override
-	public void decr(final Long decrement) {
+	public void decr(Long decrement) {
 		log.trace("Decrement counter value for property {} of entity {} of {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName(), decrement);
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.decrementCounter(key, columnName, decrement);
-				return null;
-			}
-		}, consistencyLevel);
+		decrement(decrement, Optional.fromNullable(consistencyLevel));
 	}
 
 	@Override
-	public void decr(final Long decrement, ConsistencyLevel writeLevel) {
+	public void decr(Long decrement, ConsistencyLevel writeLevel) {
 		Validator.validateNotNull(consistencyLevel, "Write consistency level for counter decr should not be null");
 
 		log.trace("Decrement counter value for property {} of entity {} pof {} with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), decrement, writeLevel);
 
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				counterDao.decrementCounter(key, columnName, decrement);
-				return null;
+		decrement(decrement, Optional.fromNullable(writeLevel));
+	}
+
+	private void increment(Long increment, Optional<ConsistencyLevel> writeLevelO) {
+		if (counterCoalescer != null) {
+			counterCoalescer.add(counterDao, key, columnName, writeLevelO, increment);
+			context.evictCachedCounterValue(counterMeta);
+		} else {
+			long start = startOperation();
+			try {
+				counterDao.incrementCounter(key, columnName, increment, writeLevelO);
+			} finally {
+				stopOperation(start);
 			}
-		}, writeLevel);
+			context.updateCachedCounterValue(counterMeta, increment);
+		}
+	}
+
+	private void decrement(Long decrement, Optional<ConsistencyLevel> writeLevelO) {
+		if (counterCoalescer != null) {
+			counterCoalescer.add(counterDao, key, columnName, writeLevelO, -decrement);
+			context.evictCachedCounterValue(counterMeta);
+		} else {
+			long start = startOperation();
+			try {
+				counterDao.decrementCounter(key, columnName, decrement, writeLevelO);
+			} finally {
+				stopOperation(start);
+			}
+			context.updateCachedCounterValue(counterMeta, -decrement);
+		}
+	}
+
+	private Long getCounterValue(Optional<ConsistencyLevel> readLevelO) {
+		long start = startOperation();
+		try {
+			return counterDao.getCounterValue(key, columnName, readLevelO);
+		} finally {
+			stopOperation(start);
+		}
+	}
+
+	private long startOperation() {
+		EntityMetrics metrics = getEntityMetrics();
+		return metrics == null ? 0L : metrics.startOperation();
+	}
+
+	private void stopOperation(long start) {
+		EntityMetrics metrics = getEntityMetrics();
+		if (metrics != null) {
+			metrics.stopOperation(OperationType.COUNTER, start);
+		}
+	}
+
+	private EntityMetrics getEntityMetrics() {
+		EntityMeta entityMeta = context.getEntityMeta();
+		return entityMeta == null ? null : entityMeta.getEntityMetrics();
 	}
 
 	public void setCounterDao(ThriftAbstractDao counterDao) {
@@ -205,4 +229,12 @@ public class ThriftCounterWrapper implements Counter {
 	public void setKey(Object key) {
 		this.key = key;
 	}
+
+	public void setCounterCoalescer(ThriftCounterCoalescer counterCoalescer) {
+		this.counterCoalescer = counterCoalescer;
+	}
+
+	public void setCounterMeta(PropertyMeta counterMeta) {
+		this.counterMeta = counterMeta;
+	}
 }
@@ -17,7 +17,9 @@
 package info.archinnov.achilles.proxy.wrapper.builder;
 
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.wrapper.ThriftCounterWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import me.prettyprint.hector.api.beans.Composite;
@@ -28,6 +30,8 @@ public class ThriftCounterWrapperBuilder {
 	private ThriftAbstractDao counterDao;
 	private ThriftPersistenceContext context;
 	private ConsistencyLevel consistencyLevel;
+	private ThriftCounterCoalescer counterCoalescer;
+	private PropertyMeta counterMeta;
 
 	public static ThriftCounterWrapperBuilder builder(ThriftPersistenceContext context) {
 		return new ThriftCounterWrapperBuilder(context);
@@ -57,12 +61,24 @@ public class ThriftCounterWrapperBuilder {
 		return this;
 	}
 
+	public ThriftCounterWrapperBuilder counterCoalescer(ThriftCounterCoalescer counterCoalescer) {
+		this.counterCoalescer = counterCoalescer;
+		return this;
+	}
+
+	public ThriftCounterWrapperBuilder counterMeta(PropertyMeta counterMeta) {
+		this.counterMeta = counterMeta;
+		return this;
+	}
+
 	public ThriftCounterWrapper build() {
 		ThriftCounterWrapper wrapper = new ThriftCounterWrapper(context);
 		wrapper.setCounterDao(counterDao);
 		wrapper.setColumnName(columnName);
 		wrapper.setConsistencyLevel(consistencyLevel);
 		wrapper.setKey(key);
+		wrapper.setCounterCoalescer(counterCoalescer);
+		wrapper.setCounterMeta(counterMeta);
 		return wrapper;
 	}
 }
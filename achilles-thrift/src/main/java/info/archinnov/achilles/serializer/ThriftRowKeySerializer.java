@@ -0,0 +1,50 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.serializer;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.cassandra.serializers.AbstractSerializer;
+import me.prettyprint.hector.api.Serializer;
+
+/**
+ * Row key serializer resolving the actual serializer from the runtime type of
+ * each key, so that a single mutator can carry mutations for column families
+ * having different row key types.
+ */
+public class ThriftRowKeySerializer extends AbstractSerializer<Object> {
+
+	private static final ThriftRowKeySerializer instance = new ThriftRowKeySerializer();
+
+	public static ThriftRowKeySerializer get() {
+		return instance;
+	}
+
+	@Override
+	public ByteBuffer toByteBuffer(Object key) {
+		if (key == null) {
+			return null;
+		}
+		Serializer<Object> serializer = ThriftSerializerTypeInferer.getSerializer(key);
+		return serializer.toByteBuffer(key);
+	}
+
+	@Override
+	public Object fromByteBuffer(ByteBuffer byteBuffer) {
+		throw new UnsupportedOperationException("Row keys cannot be deserialized without their type");
+	}
+}
@@ -132,4 +132,26 @@ public class ThriftArgumentExtractorTest {
 				+ "' property should be provided for Achilles ThrifPersistenceManagerFactory bootstraping");
 		extractor.initKeyspace(null, policy, configMap);
 	}
+
+	@Test
+	public void should_init_default_batch_max_size() throws Exception {
+		assertThat(extractor.initBatchMaxSize(configMap)).isEqualTo(DEFAULT_BATCH_MAX_SIZE);
+	}
+
+	@Test
+	public void should_init_batch_max_size() throws Exception {
+		configMap.put(BATCH_MAX_SIZE_PARAM, 50);
+
+		assertThat(extractor.initBatchMaxSize(configMap)).isEqualTo(50);
+	}
+
+	@Test
+	public void should_exception_when_batch_max_size_not_positive() throws Exception {
+		configMap.put(BATCH_MAX_SIZE_PARAM, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(BATCH_MAX_SIZE_PARAM + " property should be strictly positive");
+
+		extractor.initBatchMaxSize(configMap);
+	}
 }
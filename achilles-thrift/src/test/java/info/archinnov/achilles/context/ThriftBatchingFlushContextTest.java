@@ -16,91 +16,122 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.context.FlushContext.FlushType;
-import info.archinnov.achilles.dao.ThriftAbstractDao;
-import info.archinnov.achilles.dao.ThriftCounterDao;
-import info.archinnov.achilles.dao.ThriftGenericEntityDao;
-import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.mutation.Mutator;
 
-import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.powermock.reflect.Whitebox;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftBatchingFlushContextTest {
 	private ThriftBatchingFlushContext context;
 
 	@Mock
-	private ThriftCounterDao thriftCounterDao;
+	private Mutator<Object> mutator;
 
 	@Mock
-	private ThriftGenericEntityDao entityDao;
+	private ThriftDaoContext thriftDaoContext;
 
-	@Mock
-	private ThriftGenericWideRowDao cfDao;
+	private Map<ConsistencyLevel, Mutator<Object>> mutatorMap = new HashMap<ConsistencyLevel, Mutator<Object>>();
 
-	@Mock
-	private Mutator<Long> mutator;
+	private List<Mutator<Object>> mutators = new ArrayList<Mutator<Object>>();
 
-	@Mock
-	private Mutator<Composite> counterMutator;
+	private Map<ConsistencyLevel, Mutator<Object>> counterMutatorMap = new HashMap<ConsistencyLevel, Mutator<Object>>();
 
-	@Mock
-	private ThriftConsistencyContext consistencyContext;
+	private List<Mutator<Object>> counterMutators = new ArrayList<Mutator<Object>>();
 
-	@Mock
-	private ThriftDaoContext thriftDaoContext;
-
-	private Map<String, Pair<Mutator<?>, ThriftAbstractDao>> mutatorMap = new HashMap<String, Pair<Mutator<?>, ThriftAbstractDao>>();
-
-	private Boolean hasCustomConsistencyLevels = false;
+	private SetMultimap<EntityCache, Object> pendingEvictions = HashMultimap.create();
 
 	@Before
 	public void setUp() {
-		context = new ThriftBatchingFlushContext(thriftDaoContext, consistencyContext,
-				new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(), hasCustomConsistencyLevels);
-
-		Whitebox.setInternalState(context, ThriftConsistencyContext.class, consistencyContext);
-		Whitebox.setInternalState(context, "mutatorMap", mutatorMap);
-		Whitebox.setInternalState(context, ThriftDaoContext.class, thriftDaoContext);
+		context = new ThriftBatchingFlushContext(thriftDaoContext, null, mutatorMap, mutators, counterMutatorMap,
+				counterMutators, pendingEvictions, null);
 		mutatorMap.clear();
+		mutators.clear();
+		pendingEvictions.clear();
 	}
 
 	@Test
 	public void should_start_batch() throws Exception {
+		mutatorMap.put(EACH_QUORUM, mutator);
+		mutators.add(mutator);
+		context.setConsistencyLevel(EACH_QUORUM);
+
 		context.startBatch();
-		verify(consistencyContext).reinitConsistencyLevels();
+
 		assertThat(mutatorMap).isEmpty();
+		assertThat(mutators).isEmpty();
+		assertThat(context.consistencyLevel).isNull();
 	}
 
 	@Test
 	public void should_do_nothing_when_flush_called() throws Exception {
+		mutators.add(mutator);
+
 		context.flush();
-		verifyZeroInteractions(entityDao, consistencyContext);
+
+		verifyZeroInteractions(mutator);
 	}
 
 	@Test
 	public void should_end_batch() throws Exception {
-		Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao);
-		mutatorMap.put("cf", pair);
+		when(mutator.getPendingMutationCount()).thenReturn(5);
+		mutatorMap.put(EACH_QUORUM, mutator);
+		mutators.add(mutator);
+
+		context.setConsistencyLevel(EACH_QUORUM);
 
 		context.endBatch();
 
-		verify(entityDao).executeMutator(mutator);
-		verify(consistencyContext).reinitConsistencyLevels();
+		verify(mutator).execute();
 		assertThat(mutatorMap).isEmpty();
+		assertThat(mutators).isEmpty();
+		assertThat(context.consistencyLevel).isNull();
+	}
+
+	@Test
+	public void should_evict_written_entities_from_cache_at_end_of_batch() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		when(mutator.getPendingMutationCount()).thenReturn(5);
+		mutators.add(mutator);
+
+		context.evictFromCacheOnFlush(entityCache, 10L);
+		context.flush();
+		verifyZeroInteractions(entityCache);
+
+		context.endBatch();
+
+		verify(entityCache).invalidate(10L);
+		assertThat(pendingEvictions.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void should_evict_written_entities_from_cache_on_clean_up() throws Exception {
+		EntityCache entityCache = mock(EntityCache.class);
+		mutators.add(mutator);
+
+		context.evictFromCacheOnFlush(entityCache, 10L);
+		context.cleanUp();
+
+		verify(entityCache).invalidate(10L);
+		verify(mutator, never()).execute();
 	}
 
 	@Test
@@ -110,12 +141,14 @@ public class ThriftBatchingFlushContextTest {
 
 	@Test
 	public void should_duplicate_without_ttl() throws Exception {
-		context = new ThriftBatchingFlushContext(thriftDaoContext, consistencyContext,
-				new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(), true);
+		context = new ThriftBatchingFlushContext(thriftDaoContext, null, mutatorMap, mutators, counterMutatorMap,
+				counterMutators, pendingEvictions, EACH_QUORUM);
 		ThriftBatchingFlushContext actual = context.duplicate();
 
 		assertThat(actual).isNotNull();
-		assertThat(actual.consistencyLevel).isNull();
+		assertThat(actual.consistencyLevel).isSameAs(EACH_QUORUM);
+		assertThat(actual.mutators).isSameAs(mutators);
+		assertThat(actual.pendingEvictions).isSameAs(pendingEvictions);
 	}
 
 }
@@ -29,6 +29,7 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
@@ -61,6 +62,9 @@ public class ThriftDaoContextBuilderTest {
 	@Mock
 	private ThriftCounterDao counterDao;
 
+	@Mock
+	private ExecutorService flushExecutor;
+
 	private ConfigurationContext configContext = new ConfigurationContext();
 
 	private Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
@@ -74,10 +78,13 @@ public class ThriftDaoContextBuilderTest {
 	@Test
 	public void should_build_counter_dao() throws Exception {
 		when(daoFactory.createCounterDao(cluster, keyspace, configContext)).thenReturn(counterDao);
-		ThriftDaoContext context = builder.buildDao(cluster, keyspace, entityMetaMap, configContext, true);
+		ThriftDaoContext context = builder.buildDao(cluster, keyspace, entityMetaMap, configContext, true, 10,
+				flushExecutor);
 
 		ThriftCounterDao counterDao = context.getCounterDao();
 		assertThat(counterDao).isSameAs(this.counterDao);
+		assertThat(context.getBatchMaxSize()).isEqualTo(10);
+		assertThat(context.getFlushExecutor()).isSameAs(flushExecutor);
 	}
 
 	@Test
@@ -94,7 +101,7 @@ public class ThriftDaoContextBuilderTest {
 
 		entityMetaMap.put(CompleteBean.class, entityMeta);
 
-		builder.buildDao(cluster, keyspace, entityMetaMap, configContext, false);
+		builder.buildDao(cluster, keyspace, entityMetaMap, configContext, false, 10, flushExecutor);
 		verify(daoFactory).createDaosForEntity(eq(cluster), eq(keyspace), eq(configContext), eq(entityMeta),
 				any(Map.class), any(Map.class));
 
@@ -114,7 +121,7 @@ public class ThriftDaoContextBuilderTest {
 
 		entityMetaMap.put(CompleteBean.class, entityMeta);
 
-		builder.buildDao(cluster, keyspace, entityMetaMap, configContext, false);
+		builder.buildDao(cluster, keyspace, entityMetaMap, configContext, false, 10, flushExecutor);
 		verify(daoFactory).createClusteredEntityDao(eq(cluster), eq(keyspace), eq(configContext), eq(entityMeta),
 				any(Map.class));
 
@@ -16,30 +16,37 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.cache.EntityCache;
 import info.archinnov.achilles.context.FlushContext.FlushType;
-import info.archinnov.achilles.counter.AchillesCounter;
-import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import me.prettyprint.hector.api.exceptions.HectorException;
 import me.prettyprint.hector.api.mutation.Mutator;
 
-import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.powermock.reflect.Whitebox;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.HashMultimap;
+import com.google.common.util.concurrent.MoreExecutors;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftImmediateFlushContextTest {
@@ -48,9 +55,6 @@ public class ThriftImmediateFlushContextTest {
 
 	private ThriftImmediateFlushContext context;
 
-	@Mock
-	private AchillesConsistencyLevelPolicy policy;
-
 	@Mock
 	private ThriftCounterDao thriftCounterDao;
 
@@ -67,24 +71,32 @@ public class ThriftImmediateFlushContextTest {
 	private Mutator<Object> counterMutator;
 
 	@Mock
-	private ThriftConsistencyContext thriftConsistencyContext;
+	private ThriftDaoContext thriftDaoContext;
 
 	@Mock
-	private ThriftDaoContext thriftDaoContext;
+	private AchillesMetrics metrics;
+
+	private Map<ConsistencyLevel, Mutator<Object>> mutatorMap = new HashMap<ConsistencyLevel, Mutator<Object>>();
 
-	private Map<String, Pair<Mutator<?>, ThriftAbstractDao>> mutatorMap = new HashMap<String, Pair<Mutator<?>, ThriftAbstractDao>>();
+	private List<Mutator<Object>> mutators = new ArrayList<Mutator<Object>>();
 
-	private Boolean hasCustomConsistencyLevels = false;
+	private Map<ConsistencyLevel, Mutator<Object>> counterMutatorMap = new HashMap<ConsistencyLevel, Mutator<Object>>();
+
+	private List<Mutator<Object>> counterMutators = new ArrayList<Mutator<Object>>();
 
 	@Before
 	public void setUp() {
-		context = new ThriftImmediateFlushContext(thriftDaoContext, thriftConsistencyContext,
-				new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(), hasCustomConsistencyLevels);
-
-		Whitebox.setInternalState(context, ThriftConsistencyContext.class, thriftConsistencyContext);
-		Whitebox.setInternalState(context, "mutatorMap", mutatorMap);
-		Whitebox.setInternalState(context, ThriftDaoContext.class, thriftDaoContext);
+		context = new ThriftImmediateFlushContext(thriftDaoContext, metrics, mutatorMap, mutators,
+				counterMutatorMap, counterMutators, HashMultimap.<EntityCache, Object> create(), null);
+		when(thriftDaoContext.getBatchMaxSize()).thenReturn(10);
+		when(thriftDaoContext.getFlushExecutor()).thenReturn(MoreExecutors.sameThreadExecutor());
+		when(entityDao.getWriteLevel(Optional.<ConsistencyLevel> absent())).thenReturn(ONE);
+		when(cfDao.getWriteLevel(Optional.<ConsistencyLevel> absent())).thenReturn(ONE);
+		when(thriftCounterDao.getWriteLevel(Optional.<ConsistencyLevel> absent())).thenReturn(QUORUM);
 		mutatorMap.clear();
+		mutators.clear();
+		counterMutatorMap.clear();
+		counterMutators.clear();
 	}
 
 	@Test
@@ -97,14 +109,106 @@ public class ThriftImmediateFlushContextTest {
 
 	@Test
 	public void should_flush() throws Exception {
-		Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao);
-		mutatorMap.put("cf", pair);
+		when(mutator.getPendingMutationCount()).thenReturn(3);
+		mutatorMap.put(ONE, mutator);
+		mutators.add(mutator);
 
 		context.flush();
 
-		verify(entityDao).executeMutator(mutator);
-		verify(thriftConsistencyContext).reinitConsistencyLevels();
+		verify(mutator).execute();
+		verify(metrics).recordStatements(1);
+		verifyZeroInteractions(thriftDaoContext);
 		assertThat(mutatorMap).isEmpty();
+		assertThat(mutators).isEmpty();
+	}
+
+	@Test
+	public void should_flush_mutators_in_parallel() throws Exception {
+		when(mutator.getPendingMutationCount()).thenReturn(3);
+		when(counterMutator.getPendingMutationCount()).thenReturn(1);
+		mutators.add(mutator);
+		mutators.add(counterMutator);
+
+		context.flush();
+
+		verify(thriftDaoContext, times(2)).getFlushExecutor();
+		verify(mutator).execute();
+		verify(counterMutator).execute();
+		assertThat(mutators).isEmpty();
+	}
+
+	@Test
+	public void should_flush_counter_mutators_in_order_after_other_mutators() throws Exception {
+		Mutator<Object> otherMutator = mock(Mutator.class);
+		Mutator<Object> otherCounterMutator = mock(Mutator.class);
+		when(mutator.getPendingMutationCount()).thenReturn(3);
+		when(otherMutator.getPendingMutationCount()).thenReturn(2);
+		when(counterMutator.getPendingMutationCount()).thenReturn(1);
+		when(otherCounterMutator.getPendingMutationCount()).thenReturn(1);
+		mutators.add(mutator);
+		mutators.add(otherMutator);
+		counterMutators.add(counterMutator);
+		counterMutators.add(otherCounterMutator);
+
+		context.flush();
+
+		InOrder inOrder = inOrder(mutator, otherMutator, counterMutator, otherCounterMutator);
+		inOrder.verify(mutator).execute();
+		inOrder.verify(counterMutator).execute();
+		inOrder.verify(otherCounterMutator).execute();
+		verify(otherMutator).execute();
+		verify(thriftDaoContext, times(2)).getFlushExecutor();
+		verify(metrics).recordStatements(4);
+		assertThat(counterMutators).isEmpty();
+	}
+
+	@Test
+	public void should_not_flush_counter_mutators_when_other_mutators_fail() throws Exception {
+		when(mutator.getPendingMutationCount()).thenReturn(3);
+		when(counterMutator.getPendingMutationCount()).thenReturn(1);
+		when(mutator.execute()).thenThrow(new HectorException("timeout"));
+		mutators.add(mutator);
+		counterMutators.add(counterMutator);
+
+		exception.expect(HectorException.class);
+		exception.expectMessage("timeout");
+
+		try {
+			context.flush();
+		} finally {
+			verify(counterMutator, never()).execute();
+			assertThat(counterMutators).isEmpty();
+		}
+	}
+
+	@Test
+	public void should_not_execute_mutator_without_pending_mutation() throws Exception {
+		when(mutator.getPendingMutationCount()).thenReturn(0);
+		mutators.add(mutator);
+
+		context.flush();
+
+		verify(mutator, never()).execute();
+		assertThat(mutators).isEmpty();
+	}
+
+	@Test
+	public void should_execute_all_mutators_before_throwing_failure() throws Exception {
+		when(mutator.getPendingMutationCount()).thenReturn(3);
+		when(counterMutator.getPendingMutationCount()).thenReturn(1);
+		when(mutator.execute()).thenThrow(new HectorException("timeout"));
+		mutators.add(mutator);
+		mutators.add(counterMutator);
+
+		exception.expect(HectorException.class);
+		exception.expectMessage("timeout");
+
+		try {
+			context.flush();
+		} finally {
+			verify(counterMutator).execute();
+			assertThat(mutators).isEmpty();
+		}
 	}
 
 	@Test
@@ -117,36 +221,76 @@ public class ThriftImmediateFlushContextTest {
 	}
 
 	@Test
-	public void should_reinit_consistency_levels() throws Exception {
-		Whitebox.setInternalState(context, "hasCustomConsistencyLevels", false);
-		context.reinitConsistencyLevels();
-		verify(thriftConsistencyContext).reinitConsistencyLevels();
+	public void should_get_existing_entity_mutator() throws Exception {
+		when(thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
+		mutatorMap.put(ONE, mutator);
+
+		Mutator<Object> actual = context.getEntityMutator("cf");
+		assertThat(actual).isSameAs(mutator);
+		verify(entityDao, never()).buildSharedMutator(any(Optional.class));
 	}
 
 	@Test
-	public void should_get_existing_entity_mutator() throws Exception {
-		Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao);
-		mutatorMap.put("cf", pair);
+	public void should_get_new_entity_mutator() throws Exception {
+		when(thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
+		when(entityDao.buildSharedMutator(Optional.of(ONE))).thenReturn(mutator);
 
 		Mutator<Object> actual = context.getEntityMutator("cf");
 		assertThat(actual).isSameAs(mutator);
+		assertThat(mutatorMap.get(ONE)).isSameAs(mutator);
+		assertThat(mutators).containsExactly(mutator);
 	}
 
 	@Test
-	public void should_get_new_entity_mutator() throws Exception {
+	public void should_get_null_entity_mutator_for_unknown_table() throws Exception {
+		assertThat(context.getEntityMutator("cf")).isNull();
+		assertThat(mutators).isEmpty();
+	}
+
+	@Test
+	public void should_get_new_entity_mutator_with_consistency_level() throws Exception {
+		context.setConsistencyLevel(EACH_QUORUM);
 		when(thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
-		when(entityDao.buildMutator()).thenReturn(mutator);
+		when(entityDao.getWriteLevel(Optional.of(EACH_QUORUM))).thenReturn(EACH_QUORUM);
+		when(entityDao.buildSharedMutator(Optional.of(EACH_QUORUM))).thenReturn(mutator);
 
 		Mutator<Object> actual = context.getEntityMutator("cf");
 		assertThat(actual).isSameAs(mutator);
-		assertThat((Mutator<Object>) mutatorMap.get("cf").left).isSameAs(mutator);
-		assertThat(mutatorMap.get("cf").right).isSameAs(entityDao);
+		assertThat(mutatorMap.get(EACH_QUORUM)).isSameAs(mutator);
+	}
+
+	@Test
+	public void should_share_mutator_between_column_families_with_same_consistency_level() throws Exception {
+		when(thriftDaoContext.findEntityDao("entity")).thenReturn(entityDao);
+		when(thriftDaoContext.findWideRowDao("wide_row")).thenReturn(cfDao);
+		when(entityDao.buildSharedMutator(Optional.of(ONE))).thenReturn(mutator);
+
+		assertThat(context.getEntityMutator("entity")).isSameAs(mutator);
+		assertThat(context.getWideRowMutator("wide_row")).isSameAs(mutator);
+		verify(cfDao, never()).buildSharedMutator(any(Optional.class));
+		assertThat(mutators).containsExactly(mutator);
+	}
+
+	@Test
+	public void should_create_new_mutator_when_batch_max_size_reached() throws Exception {
+		Mutator<Object> fullMutator = mock(Mutator.class);
+		when(fullMutator.getPendingMutationCount()).thenReturn(10);
+		mutatorMap.put(ONE, fullMutator);
+		mutators.add(fullMutator);
+		when(thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
+		when(entityDao.buildSharedMutator(Optional.of(ONE))).thenReturn(mutator);
+
+		Mutator<Object> actual = context.getEntityMutator("cf");
+
+		assertThat(actual).isSameAs(mutator);
+		assertThat(mutatorMap.get(ONE)).isSameAs(mutator);
+		assertThat(mutators).containsExactly(fullMutator, mutator);
 	}
 
 	@Test
 	public void should_get_existing_cf_mutator() throws Exception {
-		Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao);
-		mutatorMap.put("cf", pair);
+		when(thriftDaoContext.findWideRowDao("cf")).thenReturn(cfDao);
+		mutatorMap.put(ONE, mutator);
 
 		Mutator<Object> actual = context.getWideRowMutator("cf");
 		assertThat(actual).isSameAs(mutator);
@@ -155,19 +299,17 @@ public class ThriftImmediateFlushContextTest {
 	@Test
 	public void should_get_new_cf_mutator() throws Exception {
 		when(thriftDaoContext.findWideRowDao("cf")).thenReturn(cfDao);
-		when(cfDao.buildMutator()).thenReturn(mutator);
+		when(cfDao.buildSharedMutator(Optional.of(ONE))).thenReturn(mutator);
 
 		Mutator<Object> actual = context.getWideRowMutator("cf");
 		assertThat(actual).isSameAs(mutator);
-		assertThat((Mutator<Object>) mutatorMap.get("cf").left).isSameAs(mutator);
-		assertThat(mutatorMap.get("cf").right).isSameAs(cfDao);
+		assertThat(mutatorMap.get(ONE)).isSameAs(mutator);
 	}
 
 	@Test
 	public void should_get_existing_counter_mutator() throws Exception {
-		Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(counterMutator,
-				thriftCounterDao);
-		mutatorMap.put(AchillesCounter.THRIFT_COUNTER_CF, pair);
+		when(thriftDaoContext.getCounterDao()).thenReturn(thriftCounterDao);
+		counterMutatorMap.put(QUORUM, counterMutator);
 
 		Mutator<Object> actual = context.getCounterMutator();
 		assertThat(actual).isSameAs(counterMutator);
@@ -176,13 +318,15 @@ public class ThriftImmediateFlushContextTest {
 	@Test
 	public void should_get_new_counter_mutator() throws Exception {
 		when(thriftDaoContext.getCounterDao()).thenReturn(thriftCounterDao);
-		when(thriftCounterDao.buildMutator()).thenReturn(counterMutator);
+		when(thriftCounterDao.buildSharedMutator(Optional.of(QUORUM))).thenReturn(counterMutator);
 
 		Mutator<Object> actual = context.getCounterMutator();
 
 		assertThat(actual).isSameAs(counterMutator);
-		assertThat((Mutator<Object>) mutatorMap.get(AchillesCounter.THRIFT_COUNTER_CF).left).isSameAs(counterMutator);
-		assertThat(mutatorMap.get(AchillesCounter.THRIFT_COUNTER_CF).right).isSameAs(thriftCounterDao);
+		assertThat(counterMutatorMap.get(QUORUM)).isSameAs(counterMutator);
+		assertThat(counterMutators).containsExactly(counterMutator);
+		assertThat(mutatorMap).isEmpty();
+		assertThat(mutators).isEmpty();
 	}
 
 	@Test
@@ -192,11 +336,15 @@ public class ThriftImmediateFlushContextTest {
 
 	@Test
 	public void should_duplicate() throws Exception {
-		context = new ThriftImmediateFlushContext(thriftDaoContext, thriftConsistencyContext,
-				new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(), true);
+		context = new ThriftImmediateFlushContext(thriftDaoContext, null, mutatorMap, mutators,
+				counterMutatorMap, counterMutators, HashMultimap.<EntityCache, Object> create(), EACH_QUORUM);
 		ThriftImmediateFlushContext actual = context.duplicate();
 
 		assertThat(actual).isNotNull();
-		assertThat(actual.consistencyLevel).isNull();
+		assertThat(actual.consistencyLevel).isSameAs(EACH_QUORUM);
+		assertThat(actual.mutatorMap).isSameAs(mutatorMap);
+		assertThat(actual.mutators).isSameAs(mutators);
+		assertThat(actual.counterMutatorMap).isSameAs(counterMutatorMap);
+		assertThat(actual.counterMutators).isSameAs(counterMutators);
 	}
 }
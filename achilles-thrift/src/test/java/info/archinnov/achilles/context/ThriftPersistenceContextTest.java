@@ -17,11 +17,9 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
-import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -48,8 +46,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
@@ -85,9 +81,6 @@ public class ThriftPersistenceContextTest {
 	@Mock
 	private ThriftImmediateFlushContext flushContext;
 
-	@Mock
-	private ThriftConsistencyContext consistencyContext;
-
 	@Mock
 	private ThriftEntityProxifier proxifier;
 
@@ -112,12 +105,6 @@ public class ThriftPersistenceContextTest {
 	@Mock
 	private ReflectionInvoker invoker;
 
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<Void>> voidExecCaptor;
-
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<CompleteBean>> execCaptor;
-
 	private ConfigurationContext configContext = new ConfigurationContext();
 
 	private Long id = RandomUtils.nextLong();
@@ -142,7 +129,6 @@ public class ThriftPersistenceContextTest {
 		entityMeta.setIdMeta(idMeta);
 		entityMeta.setEntityClass(CompleteBean.class);
 
-		when(flushContext.getConsistencyContext()).thenReturn(consistencyContext);
 		when(thriftDaoContext.findEntityDao("table")).thenReturn(entityDao);
 		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(id);
 
@@ -192,8 +178,6 @@ public class ThriftPersistenceContextTest {
 
 		context.persist();
 
-		verify(consistencyContext).executeWithWriteConsistencyLevel(voidExecCaptor.capture());
-		voidExecCaptor.getValue().execute();
 		verify(persister).persist(context);
 		verify(flushContext).flush();
 	}
@@ -203,10 +187,7 @@ public class ThriftPersistenceContextTest {
 		Whitebox.setInternalState(context, ThriftEntityMerger.class, merger);
 		when(merger.merge(context, entity)).thenReturn(entity);
 
-		context.merge(entity);
-
-		verify(consistencyContext).executeWithWriteConsistencyLevel(execCaptor.capture());
-		CompleteBean merged = execCaptor.getValue().execute();
+		CompleteBean merged = context.merge(entity);
 
 		assertThat(merged).isSameAs(entity);
 		verify(flushContext).flush();
@@ -218,9 +199,6 @@ public class ThriftPersistenceContextTest {
 
 		context.remove();
 
-		verify(consistencyContext).executeWithWriteConsistencyLevel(voidExecCaptor.capture());
-		voidExecCaptor.getValue().execute();
-
 		verify(persister).remove(context);
 		verify(flushContext).flush();
 	}
@@ -232,14 +210,10 @@ public class ThriftPersistenceContextTest {
 
 		when(loader.load(context, CompleteBean.class)).thenReturn(entity);
 		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
-		when(consistencyContext.executeWithReadConsistencyLevel(execCaptor.capture())).thenReturn(entity);
 
 		CompleteBean actual = context.find(CompleteBean.class);
 
-		CompleteBean actual2 = execCaptor.getValue().execute();
-
 		assertThat(actual).isSameAs(entity);
-		assertThat(actual2).isSameAs(entity);
 	}
 
 	@Test
@@ -250,12 +224,10 @@ public class ThriftPersistenceContextTest {
 		when(loader.load(context, CompleteBean.class)).thenReturn(null);
 		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
 
-		context.find(CompleteBean.class);
-
-		verify(consistencyContext).executeWithReadConsistencyLevel(execCaptor.capture());
-		CompleteBean actual = execCaptor.getValue().execute();
+		CompleteBean actual = context.find(CompleteBean.class);
 
 		assertThat(actual).isNull();
+		verifyZeroInteractions(proxifier);
 	}
 
 	@Test
@@ -269,10 +241,7 @@ public class ThriftPersistenceContextTest {
 		when(loader.load(context, CompleteBean.class)).thenReturn(entity);
 		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
 
-		context.getReference(CompleteBean.class);
-
-		verify(consistencyContext).executeWithReadConsistencyLevel(execCaptor.capture());
-		CompleteBean actual = execCaptor.getValue().execute();
+		CompleteBean actual = context.getReference(CompleteBean.class);
 
 		assertThat(context.isLoadEagerFields()).isFalse();
 		assertThat(actual).isSameAs(entity);
@@ -284,9 +253,6 @@ public class ThriftPersistenceContextTest {
 
 		context.refresh();
 
-		verify(consistencyContext).executeWithReadConsistencyLevel(voidExecCaptor.capture());
-		voidExecCaptor.getValue().execute();
-
 		verify(refresher).refresh(context);
 	}
 
@@ -300,9 +266,6 @@ public class ThriftPersistenceContextTest {
 		CompleteBean actual = context.initialize(entity);
 		assertThat(actual).isSameAs(entity);
 
-		verify(consistencyContext).executeWithReadConsistencyLevel(voidExecCaptor.capture());
-		voidExecCaptor.getValue().execute();
-
 		verify(initializer).initializeEntity(entity, entityMeta, interceptor);
 	}
 
@@ -348,28 +311,4 @@ public class ThriftPersistenceContextTest {
 		when(flushContext.getCounterMutator()).thenReturn(mutator);
 		assertThat(context.getCounterMutator()).isSameAs(mutator);
 	}
-
-	@Test
-	public void should_execute_with_read_consistency_level() throws Exception {
-		SafeExecutionContext<CompleteBean> execContext = mock(SafeExecutionContext.class);
-
-		when(consistencyContext.executeWithReadConsistencyLevel(execContext, LOCAL_QUORUM)).thenReturn(entity);
-
-		CompleteBean actual = context.executeWithReadConsistencyLevel(execContext, LOCAL_QUORUM);
-
-		assertThat(actual).isSameAs(entity);
-
-	}
-
-	@Test
-	public void should_execute_with_write_consistency_level() throws Exception {
-		SafeExecutionContext<CompleteBean> execContext = mock(SafeExecutionContext.class);
-
-		when(consistencyContext.executeWithWriteConsistencyLevel(execContext, LOCAL_QUORUM)).thenReturn(entity);
-
-		CompleteBean actual = context.executeWithWriteConsistencyLevel(execContext, LOCAL_QUORUM);
-
-		assertThat(actual).isSameAs(entity);
-	}
-
 }
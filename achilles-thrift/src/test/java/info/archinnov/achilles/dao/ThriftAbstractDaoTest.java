@@ -17,13 +17,24 @@
 package info.archinnov.achilles.dao;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
-import static org.mockito.Mockito.verify;
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.junit.AchillesInternalThriftResource;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import me.prettyprint.cassandra.model.ExecutingKeyspace;
+import me.prettyprint.cassandra.service.FailoverPolicy;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
 
 import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
@@ -31,8 +42,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
-import org.mockito.internal.util.reflection.Whitebox;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+import com.google.common.base.Optional;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftAbstractDaoTest {
@@ -42,7 +55,6 @@ public class ThriftAbstractDaoTest {
 
 	private ThriftGenericEntityDao abstractDao;
 
-	@Mock
 	private Cluster cluster = resource.getCluster();
 
 	private Keyspace keyspace = resource.getKeyspace();
@@ -59,28 +71,108 @@ public class ThriftAbstractDaoTest {
 	}
 
 	@Test
-	public void should_reinit_consistency_level() throws Exception {
+	public void should_use_shared_keyspace_when_no_consistency_level() throws Exception {
+		assertThat(abstractDao.keyspaceFor(Optional.<ConsistencyLevel> absent())).isSameAs(keyspace);
+	}
+
+	@Test
+	public void should_create_one_keyspace_per_consistency_level() throws Exception {
+		Keyspace quorumKeyspace = abstractDao.keyspaceFor(Optional.of(QUORUM));
+
+		assertThat(quorumKeyspace).isNotSameAs(keyspace);
+		assertThat(quorumKeyspace.getKeyspaceName()).isEqualTo(keyspace.getKeyspaceName());
+		assertThat(abstractDao.keyspaceFor(Optional.of(QUORUM))).isSameAs(quorumKeyspace);
+		assertThat(abstractDao.keyspaceFor(Optional.of(ONE))).isNotSameAs(quorumKeyspace);
+	}
+
+	@Test
+	public void should_keep_failover_policy_and_credentials_of_shared_keyspace() throws Exception {
+		FailoverPolicy failoverPolicy = new FailoverPolicy(7, 10);
+		FailoverPolicy originalPolicy = Whitebox.getInternalState(keyspace, "failoverPolicy", ExecutingKeyspace.class);
+		Map<String, String> credentials = Whitebox.getInternalState(keyspace, "credentials",
+				ExecutingKeyspace.class);
+		Whitebox.setInternalState(keyspace, "failoverPolicy", failoverPolicy, ExecutingKeyspace.class);
+		try {
+			Keyspace quorumKeyspace = abstractDao.keyspaceFor(Optional.of(QUORUM));
+
+			assertThat(Whitebox.getInternalState(quorumKeyspace, "failoverPolicy", ExecutingKeyspace.class))
+					.isSameAs(failoverPolicy);
+			assertThat(Whitebox.getInternalState(quorumKeyspace, "credentials", ExecutingKeyspace.class)).isSameAs(
+					credentials);
+		} finally {
+			Whitebox.setInternalState(keyspace, "failoverPolicy", originalPolicy, ExecutingKeyspace.class);
+		}
+	}
+
+	@Test
+	public void should_find_columns_by_name() throws Exception {
+		Composite name = new Composite();
+		name.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
+		name.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
+		name.setComponent(2, "0", ThriftSerializerUtils.STRING_SRZ);
+		Composite label = new Composite();
+		label.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
+		label.setComponent(1, "label", ThriftSerializerUtils.STRING_SRZ);
+		label.setComponent(2, "0", ThriftSerializerUtils.STRING_SRZ);
+		Composite age = new Composite();
+		age.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
+		age.setComponent(1, "age", ThriftSerializerUtils.STRING_SRZ);
+		age.setComponent(2, "0", ThriftSerializerUtils.STRING_SRZ);
+		abstractDao.setValue(456L, name, "John", Optional.of(ONE));
+		abstractDao.setValue(456L, label, "label", Optional.of(ONE));
+		abstractDao.setValue(456L, age, "30", Optional.of(ONE));
+
+		List<Pair<Composite, String>> columns = abstractDao.findColumns(456L, Arrays.asList(name, age),
+				Optional.of(ONE));
+
+		assertThat(columns).hasSize(2);
+		assertThat(columns.get(0).left.get(1, ThriftSerializerUtils.STRING_SRZ)).isEqualTo("age");
+		assertThat(columns.get(0).right).isEqualTo("30");
+		assertThat(columns.get(1).left.get(1, ThriftSerializerUtils.STRING_SRZ)).isEqualTo("name");
+		assertThat(columns.get(1).right).isEqualTo("John");
+	}
+
+	@Test
+	public void should_read_with_consistency_level() throws Exception {
+		Composite composite = new Composite();
+		composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
+		composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
+		abstractDao.setValue(123L, composite, "value", Optional.of(ONE));
+
+		String value = abstractDao.getValue(123L, composite, Optional.of(ONE));
 
+		assertThat(value).isEqualTo("value");
+	}
+
+	@Test
+	public void should_resolve_write_level_from_policy_when_absent() throws Exception {
+		when(policy.getConsistencyLevelForWrite(columnFamily)).thenReturn(QUORUM);
+
+		assertThat(abstractDao.getWriteLevel(Optional.<ConsistencyLevel> absent())).isSameAs(QUORUM);
+		assertThat(abstractDao.getWriteLevel(Optional.of(ONE))).isSameAs(ONE);
+	}
+
+	@Test
+	public void should_write_with_shared_mutator() throws Exception {
 		Composite composite = new Composite();
 		composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
 		composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
-		abstractDao.getValue(123L, composite);
-		verify(policy).loadConsistencyLevelForRead(columnFamily);
-		verify(policy).reinitDefaultConsistencyLevels();
+
+		Mutator<Object> mutator = abstractDao.buildSharedMutator(Optional.of(ONE));
+		abstractDao.insertColumnBatch((Object) 456L, composite, "shared", Optional.<Integer> absent(),
+				Optional.<Long> absent(), mutator);
+		mutator.execute();
+
+		assertThat(abstractDao.<Long, String> getValue(456L, composite)).isEqualTo("shared");
 	}
 
 	@Test
-	public void should_reinit_consistency_level_after_exception() throws Exception {
-		Whitebox.setInternalState(abstractDao, "columnFamily", "xxx");
-		try {
-			Composite composite = new Composite();
-			composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
-			composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
-			abstractDao.getValue(123L, composite);
-		} catch (RuntimeException e) {
-			verify(policy).loadConsistencyLevelForRead("xxx");
-			verify(policy).reinitDefaultConsistencyLevels();
-		}
+	public void should_remove_counter_row_without_reading() throws Exception {
+		Mutator<Object> mutator = mock(Mutator.class);
+
+		abstractDao.removeCounterRowBatch((Object) 123L, mutator);
 
+		verify(mutator).addCounterDeletion(123L, columnFamily);
+		verifyNoMoreInteractions(mutator);
 	}
 }
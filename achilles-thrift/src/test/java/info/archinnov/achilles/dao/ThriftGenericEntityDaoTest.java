@@ -18,6 +18,7 @@ package info.archinnov.achilles.dao;
 
 import static info.archinnov.achilles.dao.ThriftGenericEntityDao.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
 import me.prettyprint.cassandra.model.ExecutingKeyspace;
 import me.prettyprint.hector.api.Serializer;
@@ -42,12 +43,16 @@ public class ThriftGenericEntityDaoTest {
 	@Mock
 	private ExecutingKeyspace keyspace;
 
+	@Mock
+	private AchillesConsistencyLevelPolicy policy;
+
 	@Mock
 	private final Serializer<Long> serializer = ThriftSerializerUtils.LONG_SRZ;
 
 	@Test
 	public void should_build_mutator() throws Exception {
 		dao = new ThriftGenericEntityDao(Pair.create(Long.class, String.class));
+		Whitebox.setInternalState(dao, "policy", policy);
 		Mutator<Long> mutator = dao.buildMutator();
 		assertThat(mutator).isNotNull();
 	}
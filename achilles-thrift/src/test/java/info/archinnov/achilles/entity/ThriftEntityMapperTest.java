@@ -126,11 +126,11 @@ public class ThriftEntityMapperTest {
 		columns.add(Pair.create(buildMapPropertyComposite("preferences", 2), "Paris"));
 		columns.add(Pair.create(buildMapPropertyComposite("preferences", 3), "75014"));
 
-		doNothing().when(invoker).setValueToField(eq(entity), eq(idMeta.getSetter()), idCaptor.capture());
-		doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()), simpleCaptor.capture());
-		doNothing().when(invoker).setValueToField(eq(entity), eq(setPropertyMeta.getSetter()), setCaptor.capture());
-		doNothing().when(invoker).setValueToField(eq(entity), eq(listPropertyMeta.getSetter()), listCaptor.capture());
-		doNothing().when(invoker).setValueToField(eq(entity), eq(mapPropertyMeta.getSetter()), mapCaptor.capture());
+		doNothing().when(invoker).setValueToField(eq(entity), eq(idMeta), idCaptor.capture());
+		doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta), simpleCaptor.capture());
+		doNothing().when(invoker).setValueToField(eq(entity), eq(setPropertyMeta), setCaptor.capture());
+		doNothing().when(invoker).setValueToField(eq(entity), eq(listPropertyMeta), listCaptor.capture());
+		doNothing().when(invoker).setValueToField(eq(entity), eq(mapPropertyMeta), mapCaptor.capture());
 
 		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
 
@@ -164,11 +164,11 @@ public class ThriftEntityMapperTest {
 		columns.add(Pair.create(buildSimplePropertyComposite("name"), "name"));
 		columns.add(Pair.create(buildSimplePropertyComposite("unmapped"), "unmapped property"));
 
-		doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()), simpleCaptor.capture());
+		doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta), simpleCaptor.capture());
 
 		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
 
-		verify(invoker).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()), any(List.class));
+		verify(invoker).setValueToField(eq(entity), eq(namePropertyMeta), any(List.class));
 
 		assertThat(simpleCaptor.getValue()).isEqualTo("name");
 
@@ -192,7 +192,7 @@ public class ThriftEntityMapperTest {
 
 		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
 
-		verify(invoker, never()).setValueToField(entity, lazyNamePropertyMeta.getSetter(), "name");
+		verify(invoker, never()).setValueToField(entity, lazyNamePropertyMeta, "name");
 
 	}
 
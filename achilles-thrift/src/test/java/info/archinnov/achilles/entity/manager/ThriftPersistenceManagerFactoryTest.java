@@ -25,16 +25,19 @@ import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.ThriftDaoContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -103,4 +106,27 @@ public class ThriftPersistenceManagerFactoryTest {
 		assertThat(policy.getConsistencyLevelForWrite("cf")).isEqualTo(QUORUM);
 	}
 
+	@Test
+	public void should_flush_counters_and_shutdown_executors_on_close() throws Exception {
+		ThriftDaoContext daoContext = mock(ThriftDaoContext.class);
+		ThriftCounterCoalescer coalescer = mock(ThriftCounterCoalescer.class);
+		ExecutorService flushExecutor = mock(ExecutorService.class);
+		ExecutorService prefetchExecutor = mock(ExecutorService.class);
+		when(daoContext.getFlushExecutor()).thenReturn(flushExecutor);
+		when(daoContext.getSlicePrefetchExecutor()).thenReturn(prefetchExecutor);
+
+		doCallRealMethod().when(pmf).setThriftDaoContext(any(ThriftDaoContext.class));
+		doCallRealMethod().when(pmf).releaseResources();
+		doCallRealMethod().when(pmf).close();
+		pmf.setThriftDaoContext(daoContext);
+		Whitebox.setInternalState(pmf, "counterCoalescer", coalescer);
+
+		pmf.close();
+
+		InOrder inOrder = inOrder(coalescer, flushExecutor);
+		inOrder.verify(coalescer).shutdown();
+		inOrder.verify(flushExecutor).shutdown();
+		verify(prefetchExecutor).shutdown();
+	}
+
 }
@@ -25,6 +25,7 @@ import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.operations.ThriftEntityLoader;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
 import info.archinnov.achilles.entity.operations.ThriftSliceQueryExecutor;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
@@ -33,6 +34,8 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.OptionsBuilder;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -137,4 +140,18 @@ public class ThriftPersistenceManagerTest {
 		assertThat(Whitebox.getInternalState(builder, "meta")).isSameAs(entityMeta);
 		assertThat(Whitebox.getInternalState(builder, "entityClass")).isEqualTo(CompleteBean.class);
 	}
+
+	@Test
+	public void should_load_entities() throws Exception {
+		ThriftEntityLoader loader = mock(ThriftEntityLoader.class);
+		Whitebox.setInternalState(manager, ThriftEntityLoader.class, loader);
+
+		ThriftPersistenceContext context = mock(ThriftPersistenceContext.class);
+		List<ThriftPersistenceContext> contexts = Arrays.asList(context);
+		List<CompleteBean> entities = Arrays.asList(entity);
+
+		when(loader.load(contexts, CompleteBean.class)).thenReturn(entities);
+
+		assertThat(manager.loadEntities(CompleteBean.class, contexts)).isSameAs(entities);
+	}
 }
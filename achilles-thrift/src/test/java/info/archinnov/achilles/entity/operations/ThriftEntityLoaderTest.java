@@ -116,6 +116,27 @@ public class ThriftEntityLoaderTest {
 		assertThat(actual).isSameAs(bean);
 	}
 
+	@Test
+	public void should_load_many_entities_with_multiget() throws Exception {
+		List<ThriftPersistenceContext> contexts = Arrays.asList(context);
+		List<CompleteBean> beans = Arrays.asList(bean);
+		when(entityMeta.isClusteredEntity()).thenReturn(false);
+		when(loaderImpl.load(contexts, CompleteBean.class)).thenReturn(beans);
+
+		assertThat(loader.load(contexts, CompleteBean.class)).isSameAs(beans);
+	}
+
+	@Test
+	public void should_load_many_clustered_entities_one_by_one() throws Exception {
+		when(entityMeta.isClusteredEntity()).thenReturn(true);
+		when(loaderImpl.load(context, CompleteBean.class)).thenReturn(bean);
+
+		List<CompleteBean> actual = loader.load(Arrays.asList(context, context), CompleteBean.class);
+
+		assertThat(actual).containsExactly(bean, bean);
+		verify(loaderImpl, never()).load(anyListOf(ThriftPersistenceContext.class), eq(CompleteBean.class));
+	}
+
 	@Test
 	public void should_not_load_entity() throws Exception {
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
@@ -237,4 +258,33 @@ public class ThriftEntityLoaderTest {
 
 		verify(loaderImpl).loadSimpleProperty(context, propertyMeta);
 	}
+
+	@Test
+	public void should_load_properties_with_one_query() throws Exception {
+		PropertyMeta counterMeta = mock(PropertyMeta.class);
+		when(counterMeta.type()).thenReturn(COUNTER);
+		when(propertyMeta.type()).thenReturn(LAZY_SIMPLE);
+		when(entityMeta.isClusteredEntity()).thenReturn(false);
+		List<PropertyMeta> columnMetas = Arrays.asList(propertyMeta);
+		Map<PropertyMeta, Object> values = ImmutableMap.<PropertyMeta, Object> of(propertyMeta, "val");
+		when(loaderImpl.loadProperties(context, columnMetas)).thenReturn(values);
+
+		loader.loadPropertiesIntoObject(context, bean, Arrays.asList(propertyMeta, counterMeta));
+
+		verify(propertyMeta).setValueToField(bean, "val");
+		verify(loaderImpl).loadProperties(context, columnMetas);
+		verifyNoMoreInteractions(loaderImpl);
+	}
+
+	@Test
+	public void should_load_properties_one_by_one_for_clustered_entity() throws Exception {
+		when(propertyMeta.type()).thenReturn(LAZY_SIMPLE);
+		when(entityMeta.isClusteredEntity()).thenReturn(true);
+		when(loaderImpl.loadSimpleProperty(context, propertyMeta)).thenReturn("val");
+
+		loader.loadPropertiesIntoObject(context, bean, Arrays.asList(propertyMeta));
+
+		verify(propertyMeta).setValueToField(bean, "val");
+		verify(loaderImpl, never()).loadProperties(any(ThriftPersistenceContext.class), anyListOf(PropertyMeta.class));
+	}
 }
@@ -28,6 +28,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.ThriftPersisterImpl;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -153,7 +154,7 @@ public class ThriftEntityPersisterTest {
 
 		entityMeta.setPropertyMetas(ImmutableMap.of("listMeta", listMeta));
 
-		when(invoker.getValueFromField(entity, listMeta.getGetter())).thenReturn(list);
+		when(invoker.getValueFromField(entity, listMeta)).thenReturn(list);
 		persister.persist(context);
 
 		verify(persisterImpl).removeEntityBatch(context);
@@ -169,13 +170,49 @@ public class ThriftEntityPersisterTest {
 
 		entityMeta.setPropertyMetas(ImmutableMap.of("setMeta", setMeta));
 
-		when(invoker.getValueFromField(entity, setMeta.getGetter())).thenReturn(set);
+		when(invoker.getValueFromField(entity, setMeta)).thenReturn(set);
 		persister.persist(context);
 
 		verify(persisterImpl).removeEntityBatch(context);
 		verify(persisterImpl).batchPersistSet(set, context, setMeta);
 	}
 
+	@Test
+	public void should_persist_list_element_changes() throws Exception {
+		PropertyMeta listMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.accessors().type(LIST).invoker(invoker).build();
+
+		ElementChanges changes = new ElementChanges();
+		changes.setElementAtIndex(0, "a");
+		changes.appendElement("c");
+		changes.appendElement("d");
+
+		doReturn(Arrays.asList("a", "b", "c", "d")).when(invoker).getListValueFromField(entity, listMeta);
+
+		persister.persistElementChanges(context, listMeta, changes);
+
+		Map<Integer, Object> expected = new HashMap<Integer, Object>();
+		expected.put(0, "a");
+		expected.put(2, "c");
+		expected.put(3, "d");
+		verify(persisterImpl).batchPersistListElements(expected, context, listMeta);
+	}
+
+	@Test
+	public void should_persist_set_element_changes() throws Exception {
+		PropertyMeta setMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
+				.accessors().type(SET).invoker(invoker).build();
+
+		ElementChanges changes = new ElementChanges();
+		changes.addElement("a");
+		changes.removeElement("b");
+
+		persister.persistElementChanges(context, setMeta, changes);
+
+		verify(persisterImpl).batchPersistSet(changes.getAddedElements(), context, setMeta);
+		verify(persisterImpl).batchRemoveSetOrMapElements(changes.getRemovedElements(), context, setMeta);
+	}
+
 	@Test
 	public void should_persist_map() throws Exception {
 		Map<Integer, String> map = new HashMap<Integer, String>();
@@ -185,7 +222,7 @@ public class ThriftEntityPersisterTest {
 
 		entityMeta.setPropertyMetas(ImmutableMap.of("mapMeta", mapMeta));
 
-		when(invoker.getValueFromField(entity, mapMeta.getGetter())).thenReturn(map);
+		when(invoker.getValueFromField(entity, mapMeta)).thenReturn(map);
 		persister.persist(context);
 
 		verify(persisterImpl).removeEntityBatch(context);
@@ -209,7 +246,7 @@ public class ThriftEntityPersisterTest {
 		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(pm));
 
 		when(invoker.getPartitionKey(entity.getId(), idMeta)).thenReturn(partitionKey);
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(clusteredValue);
+		when(invoker.getValueFromField(entity, pm)).thenReturn(clusteredValue);
 
 		persister.persist(context);
 
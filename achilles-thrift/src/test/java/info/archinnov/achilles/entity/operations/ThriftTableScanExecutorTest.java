@@ -0,0 +1,211 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import static info.archinnov.achilles.query.scan.TokenPartitioner.RANDOM;
+import static info.archinnov.achilles.type.ConsistencyLevel.ONE;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.ThriftDaoContext;
+import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
+import info.archinnov.achilles.dao.ThriftGenericEntityDao;
+import info.archinnov.achilles.entity.ThriftEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.query.scan.ScanConsumer;
+import info.archinnov.achilles.query.scan.ScanQuery;
+import info.archinnov.achilles.query.scan.TokenRange;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.powermock.reflect.Whitebox;
+
+import com.google.common.base.Optional;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ThriftTableScanExecutorTest {
+
+	private ThriftTableScanExecutor executor;
+
+	@Mock
+	private ThriftPersistenceContextFactory contextFactory;
+
+	@Mock
+	private ThriftDaoContext daoContext;
+
+	@Mock
+	private ThriftGenericEntityDao entityDao;
+
+	@Mock
+	private ThriftEntityMapper mapper;
+
+	@Mock
+	private ThriftEntityProxifier proxifier;
+
+	@Mock
+	private EntityMeta meta;
+
+	private List<Object> consumedIds = new ArrayList<Object>();
+
+	private ScanConsumer<CompleteBean> consumer = new ScanConsumer<CompleteBean>() {
+		@Override
+		public void consume(CompleteBean entity) {
+			consumedIds.add(entity.getId());
+		}
+	};
+
+	private TokenRange range = new TokenRange(BigInteger.valueOf(-100), BigInteger.valueOf(100));
+
+	private Optional<ConsistencyLevel> readLevelO = Optional.fromNullable(ONE);
+
+	private ScanQuery<CompleteBean> rawQuery;
+
+	@Before
+	public void setUp() {
+		executor = new ThriftTableScanExecutor(contextFactory, daoContext);
+		Whitebox.setInternalState(executor, ThriftEntityMapper.class, mapper);
+		Whitebox.setInternalState(executor, "proxifier", proxifier);
+
+		when(meta.getTableName()).thenReturn("table");
+		when(daoContext.findEntityDao("table")).thenReturn(entityDao);
+		when(meta.instanciate()).thenAnswer(new Answer<CompleteBean>() {
+			@Override
+			public CompleteBean answer(InvocationOnMock invocation) {
+				return new CompleteBean();
+			}
+		});
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				Object[] args = invocation.getArguments();
+				((CompleteBean) args[3]).setId((Long) args[0]);
+				return null;
+			}
+		}).when(mapper).setEagerPropertiesToEntity(any(), Mockito.<List<Pair<Composite, String>>> any(), eq(meta), any());
+
+		rawQuery = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 4, 2, ONE, false);
+	}
+
+	@Test
+	public void should_scan_range_over_several_pages_skipping_repeated_start_key() throws Exception {
+		Map<Object, List<Pair<Composite, String>>> page1 = rows(1L, 2L);
+		Map<Object, List<Pair<Composite, String>>> page2 = rows(2L, 3L, 4L);
+		Map<Object, List<Pair<Composite, String>>> page3 = rows(4L);
+		when(entityDao.eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO)).thenReturn(page1);
+		when(entityDao.<Object> eagerFetchEntitiesInTokenRange(2L, null, "100", 3, readLevelO)).thenReturn(page2);
+		when(entityDao.<Object> eagerFetchEntitiesInTokenRange(4L, null, "100", 3, readLevelO)).thenReturn(page3);
+
+		executor.scanRange(rawQuery, RANDOM, range, consumer);
+
+		assertThat(consumedIds).containsExactly(1L, 2L, 3L, 4L);
+		InOrder inOrder = inOrder(entityDao);
+		inOrder.verify(entityDao).eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO);
+		inOrder.verify(entityDao).eagerFetchEntitiesInTokenRange(2L, null, "100", 3, readLevelO);
+		inOrder.verify(entityDao).eagerFetchEntitiesInTokenRange(4L, null, "100", 3, readLevelO);
+		verifyNoMoreInteractions(entityDao);
+	}
+
+	@Test
+	public void should_stop_when_page_is_full_of_start_key_only() throws Exception {
+		Map<Object, List<Pair<Composite, String>>> page1 = rows(1L, 2L);
+		Map<Object, List<Pair<Composite, String>>> page2 = rows(2L);
+		when(entityDao.eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO)).thenReturn(page1);
+		when(entityDao.<Object> eagerFetchEntitiesInTokenRange(2L, null, "100", 3, readLevelO)).thenReturn(page2);
+
+		executor.scanRange(rawQuery, RANDOM, range, consumer);
+
+		assertThat(consumedIds).containsExactly(1L, 2L);
+		verify(entityDao, times(2)).eagerFetchEntitiesInTokenRange(any(), anyString(), anyString(), anyInt(),
+				eq(readLevelO));
+	}
+
+	@Test
+	public void should_skip_ghost_rows() throws Exception {
+		Map<Object, List<Pair<Composite, String>>> page = rows(1L);
+		page.put(2L, Collections.<Pair<Composite, String>> emptyList());
+		when(entityDao.eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO)).thenReturn(page);
+		Map<Object, List<Pair<Composite, String>>> page2 = rows();
+		when(entityDao.<Object> eagerFetchEntitiesInTokenRange(2L, null, "100", 3, readLevelO)).thenReturn(page2);
+
+		executor.scanRange(rawQuery, RANDOM, range, consumer);
+
+		assertThat(consumedIds).containsExactly(1L);
+		verify(meta, times(1)).instanciate();
+	}
+
+	@Test
+	public void should_scan_empty_range_with_one_query() throws Exception {
+		Map<Object, List<Pair<Composite, String>>> page = rows();
+		when(entityDao.eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO)).thenReturn(page);
+
+		executor.scanRange(rawQuery, RANDOM, range, consumer);
+
+		assertThat(consumedIds).isEmpty();
+		verify(entityDao).eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO);
+		verifyNoMoreInteractions(entityDao);
+		verifyZeroInteractions(mapper);
+	}
+
+	@Test
+	public void should_pass_proxified_entities_when_managed() throws Exception {
+		ScanQuery<CompleteBean> managedQuery = new ScanQuery<CompleteBean>(CompleteBean.class, meta, 4, 2, ONE, true);
+		ThriftPersistenceContext context = mock(ThriftPersistenceContext.class);
+		CompleteBean proxy = new CompleteBean();
+		proxy.setId(10L);
+		List<Method> eagerGetters = Collections.emptyList();
+		Map<Object, List<Pair<Composite, String>>> page = rows(1L);
+		when(meta.getEagerGetters()).thenReturn(eagerGetters);
+		when(entityDao.eagerFetchEntitiesInTokenRange(null, "-100", "100", 2, readLevelO)).thenReturn(page);
+		when(contextFactory.newContext(any(CompleteBean.class))).thenReturn(context);
+		when(proxifier.buildProxy(any(CompleteBean.class), eq(context), any(Set.class))).thenReturn(proxy);
+
+		executor.scanRange(managedQuery, RANDOM, range, consumer);
+
+		assertThat(consumedIds).containsExactly(10L);
+	}
+
+	private Map<Object, List<Pair<Composite, String>>> rows(Long... keys) {
+		Map<Object, List<Pair<Composite, String>>> rows = new LinkedHashMap<Object, List<Pair<Composite, String>>>();
+		for (Long key : keys) {
+			List<Pair<Composite, String>> columns = Arrays.asList(Pair.create(new Composite(), "value"));
+			rows.put(key, columns);
+		}
+		return rows;
+	}
+}
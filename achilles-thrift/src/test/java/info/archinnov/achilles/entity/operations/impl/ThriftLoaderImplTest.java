@@ -19,6 +19,7 @@ package info.archinnov.achilles.entity.operations.impl;
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.*;
+import static info.archinnov.achilles.type.ConsistencyLevel.LOCAL_QUORUM;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
@@ -30,8 +31,11 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.test.parser.entity.BeanWithClusteredId;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +55,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.base.Optional;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftLoaderImplTest {
 
@@ -87,6 +93,8 @@ public class ThriftLoaderImplTest {
 	@Mock
 	private CompleteBean entity;
 
+	private Optional<ConsistencyLevel> readLevelO = Optional.of(LOCAL_QUORUM);
+
 	@Before
 	public void setUp() {
 		when(compositeFactory.buildRowKey(context)).thenReturn(rowKey);
@@ -94,7 +102,54 @@ public class ThriftLoaderImplTest {
 		when(context.getIdMeta()).thenReturn(idMeta);
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
 		when(context.getPrimaryKey()).thenReturn(primaryKey);
+		when(context.getConsistencyLevel()).thenReturn(readLevelO);
 		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.loadFromCache()).thenReturn(null);
+	}
+
+	@Test
+	public void should_load_counters_with_single_multiget() throws Exception {
+		ThriftPersistenceContext context2 = mock(ThriftPersistenceContext.class);
+		Object primaryKey2 = new Object();
+		Composite rowKey1 = new Composite();
+		Composite rowKey2 = new Composite();
+		Map<String, Long> counters1 = new HashMap<String, Long>();
+		counters1.put("count", 10L);
+		Map<String, Long> counters2 = new HashMap<String, Long>();
+
+		when(context.isClusteredEntity()).thenReturn(false);
+		when(context2.isClusteredEntity()).thenReturn(false);
+		when(context2.getEntityMeta()).thenReturn(entityMeta);
+		when(context2.getPrimaryKey()).thenReturn(primaryKey2);
+		when(entityMeta.getClassName()).thenReturn("fqcn");
+		when(compositeFactory.createRowKeyForCounter("fqcn", primaryKey, idMeta)).thenReturn(rowKey1);
+		when(compositeFactory.createRowKeyForCounter("fqcn", primaryKey2, idMeta)).thenReturn(rowKey2);
+		when(context.getCounterDao().fetchCounters(Arrays.asList(rowKey1, rowKey2), Optional.of(ConsistencyLevel.ONE)))
+				.thenReturn(Arrays.asList(counters1, counters2));
+
+		loaderImpl.loadCounters(Arrays.asList(context, context2), ConsistencyLevel.ONE);
+
+		verify(context).cacheCounterValues(counters1);
+		verify(context2).cacheCounterValues(counters2);
+	}
+
+	@Test
+	public void should_load_clustered_counter() throws Exception {
+		Composite comp = new Composite();
+		Object partitionKey = new Object();
+		when(context.isClusteredEntity()).thenReturn(true);
+		when(entityMeta.getFirstMeta()).thenReturn(pm);
+		when(pm.getPropertyName()).thenReturn("count");
+		when(idMeta.getPartitionKey(primaryKey)).thenReturn(partitionKey);
+		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
+		when(context.getWideRowDao().getCounterValue(partitionKey, comp, readLevelO)).thenReturn(5L);
+
+		loaderImpl.loadCounters(Arrays.asList(context), null);
+
+		Map<String, Long> expected = new HashMap<String, Long>();
+		expected.put("count", 5L);
+		verify(context).cacheCounterValues(expected);
+		verify(context, never()).getCounterDao();
 	}
 
 	@Test
@@ -104,13 +159,46 @@ public class ThriftLoaderImplTest {
 		List<Pair<Composite, String>> values = new ArrayList<Pair<Composite, String>>();
 		values.add(Pair.create(comp, "value"));
 
-		when(context.getEntityDao().eagerFetchEntity(rowKey)).thenReturn(values);
+		when(context.getEntityDao().eagerFetchEntity(rowKey, readLevelO)).thenReturn(values);
 		when(entityMeta.instanciate()).thenReturn(entity);
 
 		CompleteBean actual = loaderImpl.load(context, CompleteBean.class);
 
 		assertThat(actual).isSameAs(entity);
 		verify(mapper).setEagerPropertiesToEntity(primaryKey, values, entityMeta, entity);
+		verify(context).putInCache(entity);
+	}
+
+	@Test
+	public void should_load_from_cache() throws Exception {
+		when(context.loadFromCache()).thenReturn(entity);
+
+		CompleteBean actual = loaderImpl.load(context, CompleteBean.class);
+
+		assertThat(actual).isSameAs(entity);
+		verify(context, never()).getEntityDao();
+		verifyZeroInteractions(mapper);
+	}
+
+	@Test
+	public void should_load_many_entities_with_multiget() throws Exception {
+		ThriftPersistenceContext context2 = mock(ThriftPersistenceContext.class);
+		Long rowKey2 = 12L;
+		when(compositeFactory.buildRowKey(context2)).thenReturn(rowKey2);
+
+		List<Pair<Composite, String>> values = new ArrayList<Pair<Composite, String>>();
+		values.add(Pair.create(new Composite(), "value"));
+		Map<Object, List<Pair<Composite, String>>> columnsByRowKey = new HashMap<Object, List<Pair<Composite, String>>>();
+		columnsByRowKey.put(rowKey, values);
+
+		when(context.getEntityDao().eagerFetchEntities(Arrays.<Object> asList(rowKey, rowKey2), readLevelO))
+				.thenReturn(columnsByRowKey);
+		when(entityMeta.instanciate()).thenReturn(entity);
+
+		List<CompleteBean> actual = loaderImpl.load(Arrays.asList(context, context2), CompleteBean.class);
+
+		assertThat(actual).containsExactly(entity, null);
+		verify(mapper).setEagerPropertiesToEntity(primaryKey, values, entityMeta, entity);
 	}
 
 	@Test
@@ -122,7 +210,7 @@ public class ThriftLoaderImplTest {
 
 		when(entityMeta.isClusteredEntity()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getColumn(rowKey, comp)).thenReturn(hCol);
+		when(context.getWideRowDao().getColumn(rowKey, comp, readLevelO)).thenReturn(hCol);
 		when(compositeTransformer.buildClusteredEntity(BeanWithClusteredId.class, context, hCol)).thenReturn(expected);
 
 		BeanWithClusteredId actual = loaderImpl.load(context, BeanWithClusteredId.class);
@@ -136,7 +224,7 @@ public class ThriftLoaderImplTest {
 
 		when(entityMeta.isClusteredEntity()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getColumn(rowKey, comp)).thenReturn(null);
+		when(context.getWideRowDao().getColumn(rowKey, comp, readLevelO)).thenReturn(null);
 
 		assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -153,7 +241,7 @@ public class ThriftLoaderImplTest {
 		when(entityMeta.isClusteredEntity()).thenReturn(true);
 		when(entityMeta.isClusteredCounter()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getCounterColumn(rowKey, comp)).thenReturn(hCounterCol);
+		when(context.getWideRowDao().getCounterColumn(rowKey, comp, readLevelO)).thenReturn(hCounterCol);
 		when(
 				compositeTransformer.buildClusteredEntityWithIdOnly(BeanWithClusteredId.class, context, hCounterCol
 						.getName().getComponents())).thenReturn(expected);
@@ -170,7 +258,7 @@ public class ThriftLoaderImplTest {
 		when(entityMeta.isClusteredEntity()).thenReturn(true);
 		when(entityMeta.isClusteredCounter()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getCounterColumn(rowKey, comp)).thenReturn(null);
+		when(context.getWideRowDao().getCounterColumn(rowKey, comp, readLevelO)).thenReturn(null);
 
 		assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -186,7 +274,7 @@ public class ThriftLoaderImplTest {
 		when(entityMeta.isClusteredEntity()).thenReturn(true);
 		when(entityMeta.isValueless()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getColumn(rowKey, comp)).thenReturn(hCol);
+		when(context.getWideRowDao().getColumn(rowKey, comp, readLevelO)).thenReturn(hCol);
 		when(
 				compositeTransformer.buildClusteredEntityWithIdOnly(BeanWithClusteredId.class, context, hCol.getName()
 						.getComponents())).thenReturn(expected);
@@ -203,7 +291,7 @@ public class ThriftLoaderImplTest {
 		when(entityMeta.isClusteredEntity()).thenReturn(true);
 		when(entityMeta.isValueless()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getColumn(rowKey, comp)).thenReturn(null);
+		when(context.getWideRowDao().getColumn(rowKey, comp, readLevelO)).thenReturn(null);
 
 		assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -216,7 +304,7 @@ public class ThriftLoaderImplTest {
 		String value = "value";
 		Composite comp = new Composite();
 		when(compositeFactory.createBaseForGet(pm)).thenReturn(comp);
-		when(context.getEntityDao().getValue(rowKey, comp)).thenReturn(value);
+		when(context.getEntityDao().getValue(rowKey, comp, readLevelO)).thenReturn(value);
 		when(pm.forceDecodeFromJSON(value)).thenReturn(value);
 
 		Object actual = loaderImpl.loadSimpleProperty(context, pm);
@@ -230,7 +318,7 @@ public class ThriftLoaderImplTest {
 		Composite comp = new Composite();
 		when(context.isClusteredEntity()).thenReturn(true);
 		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
-		when(context.getWideRowDao().getValue(rowKey, comp)).thenReturn(value);
+		when(context.getWideRowDao().getValue(rowKey, comp, readLevelO)).thenReturn(value);
 		when(pm.decode(value)).thenReturn(value);
 
 		Object actual = loaderImpl.loadSimpleProperty(context, pm);
@@ -256,7 +344,8 @@ public class ThriftLoaderImplTest {
 
 		when(compositeFactory.createBaseForQuery(pm, EQUAL)).thenReturn(start);
 		when(compositeFactory.createBaseForQuery(pm, GREATER_THAN_EQUAL)).thenReturn(end);
-		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE)).thenReturn(columns);
+		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE, readLevelO))
+				.thenReturn(columns);
 		when(pm.decode("foo")).thenReturn("foo");
 		when(pm.decode("bar")).thenReturn("bar");
 
@@ -282,7 +371,8 @@ public class ThriftLoaderImplTest {
 
 		when(compositeFactory.createBaseForQuery(pm, EQUAL)).thenReturn(start);
 		when(compositeFactory.createBaseForQuery(pm, GREATER_THAN_EQUAL)).thenReturn(end);
-		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE)).thenReturn(columns);
+		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE, readLevelO))
+				.thenReturn(columns);
 		when(pm.decode("John")).thenReturn("John");
 		when(pm.decode("Helen")).thenReturn("Helen");
 
@@ -313,7 +403,8 @@ public class ThriftLoaderImplTest {
 
 		when(compositeFactory.createBaseForQuery(pm, EQUAL)).thenReturn(start);
 		when(compositeFactory.createBaseForQuery(pm, GREATER_THAN_EQUAL)).thenReturn(end);
-		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE)).thenReturn(columns);
+		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE, readLevelO))
+				.thenReturn(columns);
 		when((Class) pm.getKeyClass()).thenReturn(Integer.class);
 		when(pm.forceDecodeFromJSON("1", Integer.class)).thenReturn(1);
 		when(pm.forceDecodeFromJSON("2", Integer.class)).thenReturn(2);
@@ -325,4 +416,80 @@ public class ThriftLoaderImplTest {
 		assertThat(((UserBean) actual.get(1)).getName()).isEqualTo("user1");
 		assertThat(((UserBean) actual.get(2)).getName()).isEqualTo("user2");
 	}
+
+	@Test
+	public void should_load_simple_properties_by_name_and_collections_by_slice() throws Exception {
+		PropertyMeta nameMeta = mock(PropertyMeta.class);
+		when(nameMeta.type()).thenReturn(LAZY_SIMPLE);
+		when(nameMeta.getPropertyName()).thenReturn("name");
+		PropertyMeta labelMeta = mock(PropertyMeta.class);
+		when(labelMeta.type()).thenReturn(LAZY_SIMPLE);
+		when(labelMeta.getPropertyName()).thenReturn("label");
+		PropertyMeta friendsMeta = mock(PropertyMeta.class);
+		when(friendsMeta.type()).thenReturn(LAZY_LIST);
+		when(friendsMeta.getPropertyName()).thenReturn("friends");
+
+		Composite nameColumn = buildComposite(LAZY_SIMPLE.flag(), "name", "0");
+		Composite labelColumn = buildComposite(LAZY_SIMPLE.flag(), "label", "0");
+		Composite start = new Composite(), end = new Composite();
+		Composite friend0 = buildComposite(LAZY_LIST.flag(), "friends", "0");
+		Composite friend1 = buildComposite(LAZY_LIST.flag(), "friends", "1");
+
+		List<Pair<Composite, Object>> friendColumns = new ArrayList<Pair<Composite, Object>>();
+		friendColumns.add(Pair.<Composite, Object> create(friend0, "foo"));
+		friendColumns.add(Pair.<Composite, Object> create(friend1, "bar"));
+		List<Pair<Composite, Object>> simpleColumns = new ArrayList<Pair<Composite, Object>>();
+		simpleColumns.add(Pair.<Composite, Object> create(nameColumn, "John"));
+
+		when(compositeFactory.createBaseForGet(nameMeta)).thenReturn(nameColumn);
+		when(compositeFactory.createBaseForGet(labelMeta)).thenReturn(labelColumn);
+		when(compositeFactory.createBaseForQuery(friendsMeta, EQUAL)).thenReturn(start);
+		when(compositeFactory.createBaseForQuery(friendsMeta, GREATER_THAN_EQUAL)).thenReturn(end);
+		when(context.getEntityDao().findColumns(rowKey, Arrays.asList(nameColumn, labelColumn), readLevelO))
+				.thenReturn(simpleColumns);
+		when(context.getEntityDao().findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE, readLevelO))
+				.thenReturn(friendColumns);
+		when(nameMeta.forceDecodeFromJSON("John")).thenReturn("John");
+		when(friendsMeta.decode("foo")).thenReturn("foo");
+		when(friendsMeta.decode("bar")).thenReturn("bar");
+
+		Map<PropertyMeta, Object> actual = loaderImpl.loadProperties(context,
+				Arrays.asList(nameMeta, friendsMeta, labelMeta));
+
+		assertThat(actual).hasSize(3);
+		assertThat(actual.get(nameMeta)).isEqualTo("John");
+		assertThat(actual.get(labelMeta)).isNull();
+		assertThat((List<Object>) actual.get(friendsMeta)).containsExactly("foo", "bar");
+		verify(context.getEntityDao(), times(1)).findColumns(rowKey, Arrays.asList(nameColumn, labelColumn),
+				readLevelO);
+		verify(context.getEntityDao(), times(1)).findColumnsRange(rowKey, start, end, false, Integer.MAX_VALUE,
+				readLevelO);
+	}
+
+	@Test
+	public void should_load_null_for_properties_without_columns() throws Exception {
+		PropertyMeta nameMeta = mock(PropertyMeta.class);
+		when(nameMeta.type()).thenReturn(LAZY_SIMPLE);
+		when(nameMeta.getPropertyName()).thenReturn("name");
+
+		Composite nameColumn = buildComposite(LAZY_SIMPLE.flag(), "name", "0");
+		when(compositeFactory.createBaseForGet(nameMeta)).thenReturn(nameColumn);
+		when(context.getEntityDao().findColumns(rowKey, Arrays.asList(nameColumn), readLevelO)).thenReturn(
+				new ArrayList<Pair<Composite, Object>>());
+
+		Map<PropertyMeta, Object> actual = loaderImpl.loadProperties(context, Arrays.asList(nameMeta));
+
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(nameMeta)).isNull();
+		verify(context.getEntityDao(), never()).findColumnsRange(any(), any(Composite.class), any(Composite.class),
+				anyBoolean(), anyInt(), any(Optional.class));
+	}
+
+	private Composite buildComposite(byte[] flag, String propertyName, String index) {
+		Composite composite = new Composite();
+		composite.addComponent(flag, BYTE_SRZ);
+		composite.addComponent(propertyName, STRING_SRZ);
+		composite.addComponent(index, STRING_SRZ);
+		return composite;
+	}
 }
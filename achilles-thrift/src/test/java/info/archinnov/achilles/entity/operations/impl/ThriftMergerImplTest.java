@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.operations.impl;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
@@ -24,6 +25,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftEntityMerger;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.ElementChanges;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -40,6 +42,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.collect.Sets;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftMergerImplTest {
 
@@ -64,6 +68,8 @@ public class ThriftMergerImplTest {
 
 	private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
 
+	private Map<Method, ElementChanges> changesMap = new HashMap<Method, ElementChanges>();
+
 	@Before
 	public void setUp() {
 		when(context.getEntity()).thenReturn(entity);
@@ -71,6 +77,7 @@ public class ThriftMergerImplTest {
 
 		meta.setClusteredEntity(false);
 		dirtyMap.clear();
+		changesMap.clear();
 	}
 
 	@Test
@@ -80,9 +87,9 @@ public class ThriftMergerImplTest {
 
 		dirtyMap.put(pm.getSetter(), pm);
 
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn("name");
+		when(invoker.getValueFromField(entity, pm)).thenReturn("name");
 
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verify(persister).persistPropertyBatch(context, pm);
 	}
@@ -94,14 +101,53 @@ public class ThriftMergerImplTest {
 
 		dirtyMap.put(pm.getSetter(), pm);
 
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(Arrays.asList("friends"));
+		when(invoker.getValueFromField(entity, pm)).thenReturn(Arrays.asList("friends"));
 
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verify(persister).removePropertyBatch(context, pm);
 		verify(persister).persistPropertyBatch(context, pm);
 	}
 
+	@Test
+	public void should_merge_element_changes_of_multi_values_property() throws Exception {
+		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
+				.accessors().type(SET).invoker(invoker).build();
+
+		ElementChanges changes = new ElementChanges();
+		changes.addElement("George");
+		dirtyMap.put(pm.getSetter(), pm);
+		changesMap.put(pm.getSetter(), changes);
+
+		when(invoker.getValueFromField(entity, pm)).thenReturn(Sets.newHashSet("George"));
+
+		mergerImpl.merge(context, dirtyMap, changesMap);
+
+		verify(persister).persistElementChanges(context, pm, changes);
+		verify(persister, never()).removePropertyBatch(context, pm);
+		verify(persister, never()).persistPropertyBatch(context, pm);
+		assertThat(changesMap).isEmpty();
+	}
+
+	@Test
+	public void should_rewrite_list_property_when_elements_prepended() throws Exception {
+		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends").accessors()
+				.type(LIST).invoker(invoker).build();
+
+		ElementChanges changes = new ElementChanges();
+		changes.prependElement("George");
+		dirtyMap.put(pm.getSetter(), pm);
+		changesMap.put(pm.getSetter(), changes);
+
+		when(invoker.getValueFromField(entity, pm)).thenReturn(Arrays.asList("George", "friend"));
+
+		mergerImpl.merge(context, dirtyMap, changesMap);
+
+		verify(persister, never()).removePropertyBatch(context, pm);
+		verify(persister).persistPropertyBatch(context, pm);
+		verify(persister, never()).persistElementChanges(context, pm, changes);
+	}
+
 	@Test
 	public void should_remove_property_when_null() throws Exception {
 		PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name").accessors()
@@ -109,9 +155,9 @@ public class ThriftMergerImplTest {
 
 		dirtyMap.put(pm.getSetter(), pm);
 
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(null);
+		when(invoker.getValueFromField(entity, pm)).thenReturn(null);
 
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verify(persister).removePropertyBatch(context, pm);
 		verify(persister, never()).persistPropertyBatch(context, pm);
@@ -124,9 +170,9 @@ public class ThriftMergerImplTest {
 
 		dirtyMap.put(pm.getSetter(), pm);
 		meta.setClusteredEntity(true);
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(null);
+		when(invoker.getValueFromField(entity, pm)).thenReturn(null);
 
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verify(persister).remove(context);
 	}
@@ -139,9 +185,9 @@ public class ThriftMergerImplTest {
 
 		dirtyMap.put(pm.getSetter(), pm);
 		meta.setClusteredEntity(true);
-		when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(clusteredValue);
+		when(invoker.getValueFromField(entity, pm)).thenReturn(clusteredValue);
 
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verify(persister).persistClusteredValue(context, clusteredValue);
 
@@ -149,7 +195,7 @@ public class ThriftMergerImplTest {
 
 	@Test
 	public void should_do_nothing_when_not_dirty() throws Exception {
-		mergerImpl.merge(context, dirtyMap);
+		mergerImpl.merge(context, dirtyMap, changesMap);
 
 		verifyZeroInteractions(context, invoker, persister);
 	}
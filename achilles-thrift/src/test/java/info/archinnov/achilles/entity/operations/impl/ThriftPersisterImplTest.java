@@ -24,6 +24,8 @@ import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
+import info.archinnov.achilles.context.ThriftDaoContext;
 import info.archinnov.achilles.context.ThriftImmediateFlushContext;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.dao.ThriftCounterDao;
@@ -49,6 +51,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
@@ -66,6 +69,7 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
@@ -114,6 +118,9 @@ public class ThriftPersisterImplTest {
 	@Mock
 	private ThriftConsistencyLevelPolicy policy;
 
+	@Mock
+	private ThriftCounterCoalescer counterCoalescer;
+
 	private Map<String, ThriftGenericEntityDao> entityDaosMap = new HashMap<String, ThriftGenericEntityDao>();
 
 	private Map<String, ThriftGenericWideRowDao> wideRowDaosMap = new HashMap<String, ThriftGenericWideRowDao>();
@@ -198,7 +205,7 @@ public class ThriftPersisterImplTest {
 
 		persisterImpl.persistClusteredEntity(context, clusteredValue);
 
-		verify(wideRowDao).incrementCounter(partitionKey, comp, 10L);
+		verify(wideRowDao).incrementCounter(partitionKey, comp, 10L, Optional.of(EACH_QUORUM));
 	}
 
 	@Test
@@ -258,7 +265,7 @@ public class ThriftPersisterImplTest {
 		Composite comp = new Composite();
 		when(compositeFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(comp);
 
-		when(invoker.getValueFromField(entity, propertyMeta.getGetter())).thenReturn("testValue");
+		when(invoker.getValueFromField(entity, propertyMeta)).thenReturn("testValue");
 
 		when(transcoder.forceEncodeToJSON("testValue")).thenReturn("testValue");
 		persisterImpl.batchPersistSimpleProperty(context, propertyMeta);
@@ -279,7 +286,7 @@ public class ThriftPersisterImplTest {
 				.fqcn("fqcn").accessors().invoker(invoker).build();
 
 		Counter counterValue = CounterBuilder.incr(10L);
-		when(invoker.getValueFromField(entity, propertyMeta.getGetter())).thenReturn(counterValue);
+		when(invoker.getValueFromField(entity, propertyMeta)).thenReturn(counterValue);
 
 		Composite rowKey = new Composite();
 		Composite name = new Composite();
@@ -288,7 +295,7 @@ public class ThriftPersisterImplTest {
 
 		persisterImpl.persistCounter(context, propertyMeta);
 
-		verify(counterDao).incrementCounter(rowKey, name, 10L);
+		verify(counterDao).incrementCounter(rowKey, name, 10L, Optional.of(EACH_QUORUM));
 
 	}
 
@@ -313,6 +320,43 @@ public class ThriftPersisterImplTest {
 
 	}
 
+	@Test
+	public void should_batch_list_elements_at_index() throws Exception {
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.transcoder(transcoder).accessors().invoker(invoker).build();
+
+		Composite comp1 = new Composite();
+		Composite comp3 = new Composite();
+		when(compositeFactory.createForBatchInsertList(propertyMeta, 1)).thenReturn(comp1);
+		when(compositeFactory.createForBatchInsertList(propertyMeta, 3)).thenReturn(comp3);
+
+		when(transcoder.forceEncodeToJSON("foo")).thenReturn("foo");
+		when(transcoder.forceEncodeToJSON("bar")).thenReturn("bar");
+
+		Map<Integer, String> elementsByIndex = new TreeMap<Integer, String>();
+		elementsByIndex.put(1, "foo");
+		elementsByIndex.put(3, "bar");
+		persisterImpl.batchPersistListElements(elementsByIndex, context, propertyMeta);
+
+		InOrder inOrder = inOrder(entityDao);
+		inOrder.verify(entityDao).insertColumnBatch(entity.getId(), comp1, "foo", ttlO, timestampO, entityMutator);
+		inOrder.verify(entityDao).insertColumnBatch(entity.getId(), comp3, "bar", ttlO, timestampO, entityMutator);
+	}
+
+	@Test
+	public void should_batch_remove_set_elements() throws Exception {
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
+				.transcoder(transcoder).accessors().invoker(invoker).build();
+
+		Composite comp = new Composite();
+		when(transcoder.forceEncodeToJSON("John")).thenReturn("John");
+		when(compositeFactory.createForBatchInsertSetOrMap(propertyMeta, "John")).thenReturn(comp);
+
+		persisterImpl.batchRemoveSetOrMapElements(Arrays.asList("John"), context, propertyMeta);
+
+		verify(entityDao).removeColumnBatch(entity.getId(), comp, entityMutator);
+	}
+
 	@Test
 	public void should_batch_set_property() throws Exception {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
@@ -414,10 +458,73 @@ public class ThriftPersisterImplTest {
 
 		persisterImpl.remove(context);
 
-		verify(counterDao).removeCounterBatch(keyComp, comp, counterMutator);
+		verify(counterDao).removeCounterRowBatch(keyComp, counterMutator);
+		verify(counterDao, never()).removeCounterBatch(keyComp, comp, counterMutator);
 
 	}
 
+	@Test
+	public void should_remove_counter_row_once_for_several_simple_counters() throws Exception {
+		String fqcn = CompleteBean.class.getCanonicalName();
+
+		PropertyMeta counterIdMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.accessors().invoker(invoker).build();
+
+		PropertyMeta countMeta = PropertyMetaTestBuilder.completeBean(Void.class, Counter.class).field("count")
+				.type(PropertyType.COUNTER).accessors().counterIdMeta(counterIdMeta).fqcn(fqcn)
+				.consistencyLevels(Pair.create(ONE, ALL)).invoker(invoker).build();
+
+		PropertyMeta otherCountMeta = PropertyMetaTestBuilder.completeBean(Void.class, Counter.class).field("count")
+				.type(PropertyType.COUNTER).accessors().counterIdMeta(counterIdMeta).fqcn(fqcn)
+				.consistencyLevels(Pair.create(ONE, ALL)).invoker(invoker).build();
+
+		entityMeta.setClusteredEntity(false);
+		entityMeta.setPropertyMetas(ImmutableMap.of("count", countMeta, "otherCount", otherCountMeta));
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(countMeta, otherCountMeta));
+		entityMeta.setFirstMeta(countMeta);
+
+		Composite keyComp = new Composite();
+		when(compositeFactory.createRowKeyForCounter(fqcn, entity.getId(), counterIdMeta)).thenReturn(keyComp);
+		when(compositeFactory.createForBatchInsertSingleCounter(any(PropertyMeta.class))).thenReturn(
+				new Composite());
+		when(flushContext.getCounterMutator()).thenReturn(counterMutator);
+
+		persisterImpl.remove(context);
+
+		verify(counterDao, times(1)).removeCounterRowBatch(keyComp, counterMutator);
+		verify(counterDao, never()).removeCounterBatch(any(), any(Composite.class), any(Mutator.class));
+	}
+
+	@Test
+	public void should_discard_pending_counter_deltas_before_removing_simple_counter() throws Exception {
+		String fqcn = CompleteBean.class.getCanonicalName();
+
+		PropertyMeta counterIdMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.accessors().invoker(invoker).build();
+
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, Counter.class).field("count")
+				.type(PropertyType.COUNTER).accessors().counterIdMeta(counterIdMeta).fqcn(fqcn)
+				.consistencyLevels(Pair.create(ONE, ALL)).invoker(invoker).build();
+
+		entityMeta.setClusteredEntity(false);
+		entityMeta.setPropertyMetas(ImmutableMap.of("pm", propertyMeta));
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(propertyMeta));
+		entityMeta.setFirstMeta(propertyMeta);
+
+		Composite keyComp = new Composite();
+		Composite comp = new Composite();
+		when(compositeFactory.createRowKeyForCounter(fqcn, entity.getId(), counterIdMeta)).thenReturn(keyComp);
+		when(compositeFactory.createForBatchInsertSingleCounter(propertyMeta)).thenReturn(comp);
+		when(flushContext.getCounterMutator()).thenReturn(counterMutator);
+		Whitebox.<ThriftDaoContext> getInternalState(context, "daoContext").setCounterCoalescer(counterCoalescer);
+
+		persisterImpl.remove(context);
+
+		InOrder inOrder = inOrder(counterCoalescer, counterDao);
+		inOrder.verify(counterCoalescer).discardPendingDeltas(counterDao, keyComp, comp);
+		inOrder.verify(counterDao).removeCounterRowBatch(keyComp, counterMutator);
+	}
+
 	@Test
 	public void should_remove_entity_batch() throws Exception {
 		Object primaryKey = entity.getId();
@@ -500,10 +607,54 @@ public class ThriftPersisterImplTest {
 	}
 
 	@Test
-	public void should_batch_remove_property() throws Exception {
+	public void should_discard_pending_counter_deltas_before_removing_counter_clustered_entity() throws Exception {
+		Object partitionKey = 10L;
+
+		PropertyMeta idMeta = PropertyMetaTestBuilder.valueClass(EmbeddedKey.class).field("id").type(EMBEDDED_ID)
+				.invoker(invoker).build();
+
+		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(Long.class).type(COUNTER).invoker(invoker).build();
+
+		entityMeta.setIdMeta(idMeta);
+		entityMeta.setPropertyMetas(ImmutableMap.of("id", idMeta, "pm", pm));
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(pm));
+		entityMeta.setFirstMeta(pm);
+
+		Composite comp = new Composite();
+
+		when(compositeFactory.createCompositeForClusteringComponents(context)).thenReturn(comp);
+		wideRowDaosMap.put("cf", wideRowDao);
+		when(flushContext.getWideRowMutator("cf")).thenReturn(wideRowMutator);
+		when(compositeFactory.buildRowKey(context)).thenReturn(partitionKey);
+		Whitebox.<ThriftDaoContext> getInternalState(context, "daoContext").setCounterCoalescer(counterCoalescer);
+
+		persisterImpl.removeClusteredEntity(context);
+
+		InOrder inOrder = inOrder(counterCoalescer, wideRowDao);
+		inOrder.verify(counterCoalescer).discardPendingDeltas(wideRowDao, partitionKey, comp);
+		inOrder.verify(wideRowDao).removeCounterBatch(partitionKey, comp, wideRowMutator);
+	}
+
+	@Test
+	public void should_batch_remove_simple_property_without_reading() throws Exception {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
 				.type(PropertyType.SIMPLE).accessors().invoker(invoker).build();
 
+		Composite name = new Composite();
+		when(compositeFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(name);
+
+		persisterImpl.removePropertyBatch(context, propertyMeta);
+
+		verify(entityDao).removeColumnBatch(entity.getId(), name, entityMutator);
+		verify(entityDao, never()).removeColumnRangeBatch(any(), any(Composite.class), any(Composite.class),
+				any(Mutator.class));
+	}
+
+	@Test
+	public void should_batch_remove_property() throws Exception {
+		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(PropertyType.LIST).accessors().invoker(invoker).build();
+
 		Composite start = new Composite(), end = new Composite();
 		when(compositeFactory.createBaseForQuery(propertyMeta, ComponentEquality.EQUAL)).thenReturn(start);
 		when(compositeFactory.createBaseForQuery(propertyMeta, ComponentEquality.GREATER_THAN_EQUAL)).thenReturn(end);
@@ -17,12 +17,9 @@
 package info.archinnov.achilles.entity.operations.impl;
 
 import static org.fest.assertions.api.Assertions.*;
-import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
-import info.archinnov.achilles.context.ThriftConsistencyContext;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
@@ -48,12 +45,11 @@ import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -68,9 +64,6 @@ public class ThriftQueryExecutorImplTest {
 	@Mock
 	private ThriftPersistenceContext context;
 
-	@Mock
-	private ThriftConsistencyContext consistencyContext;
-
 	@Mock
 	private ThriftGenericWideRowDao wideRowDao;
 
@@ -89,21 +82,6 @@ public class ThriftQueryExecutorImplTest {
 	@Mock
 	private Mutator<Object> mutator;
 
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<List<HCounterColumn<Composite>>>> counterColumnsCaptor;
-
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<List<HColumn<Composite, Object>>>> columnsCaptor;
-
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<Void>> removeCaptor;
-
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<ThriftSliceIterator<Long, Object>>> iteratorCaptor;
-
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<ThriftCounterSliceIterator<Long>>> counterIteratorCaptor;
-
 	private EntityMeta meta;
 
 	private Long partitionKey = RandomUtils.nextLong();
@@ -139,7 +117,7 @@ public class ThriftQueryExecutorImplTest {
 		when(query.getBatchSize()).thenReturn(batchSize);
 
 		when(context.getWideRowDao()).thenReturn(wideRowDao);
-		when(wideRowDao.buildMutator()).thenReturn(mutator);
+		when(wideRowDao.buildMutator(Optional.of(consistencyLevel))).thenReturn(mutator);
 		when(compositeFactory.buildRowKey(context)).thenReturn(partitionKey);
 	}
 
@@ -154,14 +132,11 @@ public class ThriftQueryExecutorImplTest {
 
 		List<HCounterColumn<Composite>> hCounterColumns = new ArrayList<HCounterColumn<Composite>>();
 
-		when(wideRowDao.findCounterColumnsRange(partitionKey, comp1, comp2, limit, ordering.isReverse())).thenReturn(
-				hCounterColumns);
-
-		executor.findCounterColumns(query, context);
-
-		verify(context).executeWithReadConsistencyLevel(counterColumnsCaptor.capture(), eq(consistencyLevel));
+		when(
+				wideRowDao.findCounterColumnsRange(partitionKey, comp1, comp2, limit, ordering.isReverse(),
+						Optional.of(consistencyLevel))).thenReturn(hCounterColumns);
 
-		List<HCounterColumn<Composite>> actual = counterColumnsCaptor.getValue().execute();
+		List<HCounterColumn<Composite>> actual = executor.findCounterColumns(query, context);
 
 		assertThat(actual).isSameAs(hCounterColumns);
 	}
@@ -177,14 +152,11 @@ public class ThriftQueryExecutorImplTest {
 
 		List<HColumn<Composite, Object>> hColumns = new ArrayList<HColumn<Composite, Object>>();
 
-		when(wideRowDao.findRawColumnsRange(partitionKey, comp1, comp2, limit, ordering.isReverse())).thenReturn(
-				hColumns);
-
-		executor.findColumns(query, context);
-
-		verify(context).executeWithReadConsistencyLevel(columnsCaptor.capture(), eq(consistencyLevel));
+		when(
+				wideRowDao.findRawColumnsRange(partitionKey, comp1, comp2, limit, ordering.isReverse(),
+						Optional.of(consistencyLevel))).thenReturn(hColumns);
 
-		List<HColumn<Composite, Object>> actual = columnsCaptor.getValue().execute();
+		List<HColumn<Composite, Object>> actual = executor.findColumns(query, context);
 
 		assertThat(actual).isSameAs(hColumns);
 	}
@@ -201,14 +173,11 @@ public class ThriftQueryExecutorImplTest {
 		@SuppressWarnings("unchecked")
 		ThriftSliceIterator<Long, Object> iterator = mock(ThriftSliceIterator.class);
 
-		when(wideRowDao.getColumnsIterator(partitionKey, comp1, comp2, ordering.isReverse(), batchSize)).thenReturn(
-				iterator);
+		when(
+				wideRowDao.getColumnsIterator(partitionKey, comp1, comp2, ordering.isReverse(), batchSize,
+						Optional.of(consistencyLevel))).thenReturn(iterator);
 
-		executor.getColumnsIterator(query, context);
-
-		verify(context).executeWithReadConsistencyLevel(iteratorCaptor.capture(), eq(consistencyLevel));
-
-		ThriftSliceIterator<Long, Object> actual = iteratorCaptor.getValue().execute();
+		Object actual = executor.getColumnsIterator(query, context);
 
 		assertThat(actual).isSameAs(iterator);
 	}
@@ -225,14 +194,11 @@ public class ThriftQueryExecutorImplTest {
 		@SuppressWarnings("unchecked")
 		ThriftCounterSliceIterator<Long> iterator = mock(ThriftCounterSliceIterator.class);
 
-		when(wideRowDao.getCounterColumnsIterator(partitionKey, comp1, comp2, ordering.isReverse(), batchSize))
-				.thenReturn(iterator);
-
-		executor.getCounterColumnsIterator(query, context);
+		when(
+				wideRowDao.getCounterColumnsIterator(partitionKey, comp1, comp2, ordering.isReverse(), batchSize,
+						Optional.of(consistencyLevel))).thenReturn(iterator);
 
-		verify(context).executeWithReadConsistencyLevel(counterIteratorCaptor.capture(), eq(consistencyLevel));
-
-		ThriftCounterSliceIterator<Long> actual = counterIteratorCaptor.getValue().execute();
+		Object actual = executor.getCounterColumnsIterator(query, context);
 
 		assertThat(actual).isSameAs(iterator);
 	}
@@ -251,10 +217,6 @@ public class ThriftQueryExecutorImplTest {
 		executor.removeColumns(columns, consistencyLevel, context);
 
 		verify(wideRowDao).removeColumnBatch(partitionKey, name, mutator);
-		verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(), eq(consistencyLevel));
-
-		removeCaptor.getValue().execute();
-
 		verify(wideRowDao).executeMutator(mutator);
 	}
 
@@ -272,10 +234,6 @@ public class ThriftQueryExecutorImplTest {
 		executor.removeCounterColumns(counterColumns, consistencyLevel, context);
 
 		verify(wideRowDao).removeCounterBatch(partitionKey, name, mutator);
-		verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(), eq(consistencyLevel));
-
-		removeCaptor.getValue().execute();
-
 		verify(wideRowDao).executeMutator(mutator);
 	}
 
@@ -284,10 +242,6 @@ public class ThriftQueryExecutorImplTest {
 		executor.removeRow(partitionKey, context, consistencyLevel);
 
 		verify(wideRowDao).removeRowBatch(partitionKey, mutator);
-		verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(), eq(consistencyLevel));
-
-		removeCaptor.getValue().execute();
-
 		verify(wideRowDao).executeMutator(mutator);
 	}
 }
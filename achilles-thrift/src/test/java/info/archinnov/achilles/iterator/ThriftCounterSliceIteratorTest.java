@@ -17,10 +17,8 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
-import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 
 import java.util.Iterator;
@@ -62,9 +60,6 @@ public class ThriftCounterSliceIteratorTest {
 
 	private ThriftCounterSliceIterator<Long> iterator;
 
-	@Mock
-	private ThriftConsistencyLevelPolicy policy;
-
 	private String columnFamily = "cf";
 
 	@Before
@@ -98,9 +93,8 @@ public class ThriftCounterSliceIteratorTest {
 		when(counterColumnsIterator.hasNext()).thenReturn(true, true, true, true, true, false);
 		when(counterColumnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-		when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
-		iterator = new ThriftCounterSliceIterator<Long>(policy, columnFamily, query, start, end, false, 10);
+		iterator = new ThriftCounterSliceIterator<Long>(columnFamily, query, start, end, false, 10);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
 		HCounterColumn<Composite> h1 = iterator.next();
@@ -121,10 +115,6 @@ public class ThriftCounterSliceIteratorTest {
 		assertThat(h3.getValue()).isEqualTo(val3);
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
-
-		verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-		verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-		verify(policy).loadConsistencyLevelForRead(columnFamily);
 	}
 
 	@Test
@@ -149,9 +139,8 @@ public class ThriftCounterSliceIteratorTest {
 		when(counterColumnsIterator.hasNext()).thenReturn(true, true, true, false, true, false, false);
 		when(counterColumnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-		when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
-		iterator = new ThriftCounterSliceIterator<Long>(policy, columnFamily, query, start, end, false, count);
+		iterator = new ThriftCounterSliceIterator<Long>(columnFamily, query, start, end, false, count);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
 		HCounterColumn<Composite> h1 = iterator.next();
@@ -172,16 +161,12 @@ public class ThriftCounterSliceIteratorTest {
 		assertThat(h3.getValue()).isEqualTo(val3);
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
-
-		verify(policy, times(2)).setCurrentReadLevel(LOCAL_QUORUM);
-		verify(policy, times(2)).setCurrentReadLevel(ONE);
-		verify(policy, times(2)).loadConsistencyLevelForRead(columnFamily);
 	}
 
 	@Test(expected = UnsupportedOperationException.class)
 	public void should_exception_when_remove() throws Exception {
 		Composite start = new Composite(), end = new Composite();
-		iterator = new ThriftCounterSliceIterator<Long>(policy, columnFamily, query, start, end, false, 10);
+		iterator = new ThriftCounterSliceIterator<Long>(columnFamily, query, start, end, false, 10);
 
 		iterator.remove();
 	}
@@ -17,18 +17,20 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
-import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.test.builders.HColumnTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
-import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import me.prettyprint.hector.api.beans.ColumnSlice;
 import me.prettyprint.hector.api.beans.Composite;
@@ -39,9 +41,12 @@ import me.prettyprint.hector.api.query.SliceQuery;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftSliceIteratorTest {
 
@@ -65,9 +70,6 @@ public class ThriftSliceIteratorTest {
 
 	private ThriftSliceIterator<Long, String> iterator;
 
-	@Mock
-	private ThriftConsistencyLevelPolicy policy;
-
 	private String columnFamily = "cf";
 
 	@Before
@@ -103,9 +105,8 @@ public class ThriftSliceIteratorTest {
 		when(columnsIterator.hasNext()).thenReturn(true, true, true, true, true, false);
 		when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-		when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
-		iterator = new ThriftSliceIterator<Long, String>(policy, columnFamily, query, start, end, false, 10);
+		iterator = new ThriftSliceIterator<Long, String>(columnFamily, query, start, end, false, 10);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
 		HColumn<Composite, String> h1 = iterator.next();
@@ -126,11 +127,6 @@ public class ThriftSliceIteratorTest {
 		assertThat(h3.getValue()).isEqualTo(val3);
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
-
-		verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-		verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-		verify(policy).loadConsistencyLevelForRead(columnFamily);
-
 	}
 
 	@SuppressWarnings("unchecked")
@@ -157,7 +153,7 @@ public class ThriftSliceIteratorTest {
 		when(columnsIterator.hasNext()).thenReturn(true, true, true, false, true, false, false);
 		when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-		iterator = new ThriftSliceIterator<Long, String>(policy, columnFamily, query, start, end, false, count);
+		iterator = new ThriftSliceIterator<Long, String>(columnFamily, query, start, end, false, count);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
 		HColumn<Composite, String> h1 = iterator.next();
@@ -178,9 +174,64 @@ public class ThriftSliceIteratorTest {
 		assertThat(h3.getValue()).isEqualTo(val3);
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_prefetch_next_batch() throws Exception {
+		Composite start = new Composite(), //
+		end = new Composite(), //
+		name1 = new Composite(), //
+		name2 = new Composite(), //
+		name3 = new Composite();
+		int count = 2;
+
+		name1.addComponent("name1", STRING_SRZ);
+		name2.addComponent("name2", STRING_SRZ);
+		name3.addComponent("name3", STRING_SRZ);
+
+		HColumn<Composite, String> hCol1 = HColumnTestBuilder.simple(name1, "val1", 10);
+		HColumn<Composite, String> hCol2 = HColumnTestBuilder.simple(name2, "val2", 10);
+		HColumn<Composite, String> hCol3 = HColumnTestBuilder.simple(name3, "val3", 10);
+
+		when(columnSlice.getColumns()).thenReturn(Arrays.asList(hCol1, hCol2), Arrays.asList(hCol3));
+
+		iterator = new ThriftSliceIterator<Long, String>(columnFamily, query, start, end, false, count);
+		iterator.prefetch(MoreExecutors.sameThreadExecutor(), 2);
+
+		assertThat(iterator.hasNext()).isTrue();
+		verify(query, times(2)).execute();
+		ArgumentCaptor<Composite> startCaptor = ArgumentCaptor.forClass(Composite.class);
+		verify(query, times(2)).setRange(startCaptor.capture(), eq(end), eq(false), eq(count));
+		assertThat(startCaptor.getAllValues().get(1).getComponent(0).getValue(STRING_SRZ)).isEqualTo("name2");
+
+		assertThat(iterator.next().getValue()).isEqualTo("val1");
+		assertThat(iterator.next().getValue()).isEqualTo("val2");
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(iterator.next().getValue()).isEqualTo("val3");
+		assertThat(iterator.hasNext()).isFalse();
+		verify(query, times(2)).execute();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_cancel_prefetched_batches() throws Exception {
+		Composite start = new Composite(), end = new Composite(), name1 = new Composite();
+		name1.addComponent("name1", STRING_SRZ);
+		ExecutorService executor = mock(ExecutorService.class);
+		Future<Object> future = mock(Future.class);
+		HColumn<Composite, String> hCol1 = HColumnTestBuilder.simple(name1, "val1", 10);
+
+		when(columnSlice.getColumns()).thenReturn(Arrays.asList(hCol1));
+		when(executor.submit(any(Callable.class))).thenReturn(future);
+
+		iterator = new ThriftSliceIterator<Long, String>(columnFamily, query, start, end, false, 1);
+		iterator.prefetch(executor, 1);
 
-		verify(policy).getCurrentReadLevel();
-		verify(policy, never()).setCurrentReadLevel(any(ConsistencyLevel.class));
+		assertThat(iterator.hasNext()).isTrue();
+		iterator.cancel();
 
+		verify(future).cancel(true);
+		assertThat(iterator.hasNext()).isFalse();
 	}
 }
@@ -16,28 +16,39 @@
  */
 package info.archinnov.achilles.proxy.wrapper;
 
-import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.entity.context.ThriftPersistenceContextTestBuilder;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Counter;
+
+import java.util.Arrays;
+
 import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+import me.prettyprint.hector.api.mutation.Mutator;
 
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftCounterWrapperTest {
 	@InjectMocks
@@ -54,15 +65,6 @@ public class ThriftCounterWrapperTest {
 	@Mock
 	private ThriftPersistenceContext context;
 
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<Void>> voidExecCaptor;
-
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<Long>> longExecCaptor;
-
-	@Mock
-	private SafeExecutionContext<Long> execContext;
-
 	private ConsistencyLevel consistencyLevel = EACH_QUORUM;
 
 	@Before
@@ -75,104 +77,128 @@ public class ThriftCounterWrapperTest {
 		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_not_lose_coalesced_increment_of_loaded_counter_once_flushed() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Counter.class).field("count")
+				.type(PropertyType.COUNTER).build();
+		EntityMeta entityMeta = new EntityMeta();
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(counterMeta));
+		ThriftPersistenceContext realContext = ThriftPersistenceContextTestBuilder
+				.mockAll(entityMeta, CompleteBean.class, key).build();
+		ThriftCounterCoalescer coalescer = new ThriftCounterCoalescer(1000, 1000, 10);
+		Mutator<Object> mutator = mock(Mutator.class);
+		when(counterDao.getWriteLevel(Optional.of(consistencyLevel))).thenReturn(consistencyLevel);
+		when(counterDao.buildSharedMutator(Optional.of(consistencyLevel))).thenReturn(mutator);
+
+		wrapper = new ThriftCounterWrapper(realContext);
+		Whitebox.setInternalState(wrapper, "key", key);
+		wrapper.setColumnName(columnName);
+		wrapper.setCounterDao(counterDao);
+		wrapper.setConsistencyLevel(consistencyLevel);
+		wrapper.setCounterMeta(counterMeta);
+		wrapper.setCounterCoalescer(coalescer);
+
+		realContext.cacheCounterValues(ImmutableMap.<String, Long> of("count", 10L));
+		when(counterDao.getCounterValue(key, columnName, Optional.of(consistencyLevel))).thenReturn(10L);
+
+		wrapper.incr(5L);
+
+		assertThat(wrapper.get()).isEqualTo(10L);
+		assertThat(wrapper.getWithPendingDeltas()).isEqualTo(15L);
+
+		coalescer.flush();
+		when(counterDao.getCounterValue(key, columnName, Optional.of(consistencyLevel))).thenReturn(15L);
+
+		verify(mutator).addCounter(eq(key), anyString(), any(HCounterColumn.class));
+		assertThat(wrapper.get()).isEqualTo(15L);
+		assertThat(wrapper.getWithPendingDeltas()).isEqualTo(15L);
+	}
+
+	@Test
+	public void should_sum_pending_deltas_over_consistency_levels() throws Exception {
+		ThriftCounterCoalescer coalescer = new ThriftCounterCoalescer(1000, 1000, 10);
+		when(counterDao.getWriteLevel(Optional.<ConsistencyLevel> absent())).thenReturn(ONE);
+		when(counterDao.getWriteLevel(Optional.of(QUORUM))).thenReturn(QUORUM);
+		when(counterDao.getCounterValue(key, columnName, Optional.of(consistencyLevel))).thenReturn(10L);
+		wrapper.setCounterCoalescer(coalescer);
+
+		coalescer.add(counterDao, key, columnName, Optional.<ConsistencyLevel> absent(), 2L);
+		coalescer.add(counterDao, key, columnName, Optional.of(QUORUM), 3L);
+
+		assertThat(coalescer.getPendingDelta(counterDao, key, columnName)).isEqualTo(5L);
+		assertThat(wrapper.getWithPendingDeltas()).isEqualTo(15L);
+	}
+
 	@Test
 	public void should_get_counter() throws Exception {
-		when(counterDao.getCounterValue(key, columnName)).thenReturn(10L);
-		when(context.executeWithReadConsistencyLevel(longExecCaptor.capture(), eq(consistencyLevel))).thenReturn(10L);
+		when(counterDao.getCounterValue(key, columnName, Optional.of(consistencyLevel))).thenReturn(10L);
 		Long value = wrapper.get();
 
 		assertThat(value).isEqualTo(10L);
-		assertThat(longExecCaptor.getValue().execute()).isEqualTo(10L);
 	}
 
 	@Test
 	public void should_get_counter_with_consistency_level() throws Exception {
-		when(counterDao.getCounterValue(key, columnName)).thenReturn(10L);
-		when(context.executeWithReadConsistencyLevel(longExecCaptor.capture(), eq(EACH_QUORUM))).thenReturn(10L);
-		Long value = wrapper.get(EACH_QUORUM);
+		when(counterDao.getCounterValue(key, columnName, Optional.of(LOCAL_QUORUM))).thenReturn(10L);
+		Long value = wrapper.get(LOCAL_QUORUM);
 
 		assertThat(value).isEqualTo(10L);
-		assertThat(longExecCaptor.getValue().execute()).isEqualTo(10L);
 	}
 
 	@Test
 	public void should_incr() throws Exception {
 		wrapper.incr();
 
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).incrementCounter(key, columnName, 1L);
-
+		verify(counterDao).incrementCounter(key, columnName, 1L, Optional.of(consistencyLevel));
 	}
 
 	@Test
 	public void should_incr_with_consistency() throws Exception {
-		wrapper.incr(EACH_QUORUM);
+		wrapper.incr(LOCAL_QUORUM);
 
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).incrementCounter(key, columnName, 1L);
+		verify(counterDao).incrementCounter(key, columnName, 1L, Optional.of(LOCAL_QUORUM));
 	}
 
 	@Test
 	public void should_incr_with_value() throws Exception {
 		wrapper.incr(10L);
 
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).incrementCounter(key, columnName, 10L);
+		verify(counterDao).incrementCounter(key, columnName, 10L, Optional.of(consistencyLevel));
 	}
 
 	@Test
 	public void should_incr_with_value_and_consistency() throws Exception {
-		wrapper.incr(10L, EACH_QUORUM);
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).incrementCounter(key, columnName, 10L);
+		wrapper.incr(10L, LOCAL_QUORUM);
 
+		verify(counterDao).incrementCounter(key, columnName, 10L, Optional.of(LOCAL_QUORUM));
 	}
 
 	@Test
 	public void should_decr() throws Exception {
 		wrapper.decr();
 
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).decrementCounter(key, columnName, 1L);
+		verify(counterDao).decrementCounter(key, columnName, 1L, Optional.of(consistencyLevel));
 	}
 
 	@Test
 	public void should_decr_with_consistency() throws Exception {
-		wrapper.decr(EACH_QUORUM);
+		wrapper.decr(LOCAL_QUORUM);
 
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).decrementCounter(key, columnName, 1L);
+		verify(counterDao).decrementCounter(key, columnName, 1L, Optional.of(LOCAL_QUORUM));
 	}
 
 	@Test
 	public void should_decr_with_value() throws Exception {
 		wrapper.decr(10L);
 
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-		voidExecCaptor.getValue().execute();
-
-		verify(counterDao).decrementCounter(key, columnName, 10L);
+		verify(counterDao).decrementCounter(key, columnName, 10L, Optional.of(consistencyLevel));
 	}
 
 	@Test
 	public void should_decr_with_value_and_consistency() throws Exception {
-		wrapper.decr(10L, EACH_QUORUM);
-
-		verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-		voidExecCaptor.getValue().execute();
+		wrapper.decr(10L, LOCAL_QUORUM);
 
-		verify(counterDao).decrementCounter(key, columnName, 10L);
+		verify(counterDao).decrementCounter(key, columnName, 10L, Optional.of(LOCAL_QUORUM));
 	}
 }
@@ -0,0 +1,52 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.junit.Test;
+
+public class ThriftRowKeySerializerTest {
+
+	private ThriftRowKeySerializer serializer = ThriftRowKeySerializer.get();
+
+	@Test
+	public void should_serialize_keys_with_their_runtime_type() throws Exception {
+		Composite composite = new Composite();
+		composite.addComponent("fqcn", STRING_SRZ);
+		composite.addComponent("10", STRING_SRZ);
+
+		assertThat(serializer.toByteBuffer(10L)).isEqualTo(LONG_SRZ.toByteBuffer(10L));
+		assertThat(serializer.toByteBuffer("key")).isEqualTo(STRING_SRZ.toByteBuffer("key"));
+		assertThat(serializer.toByteBuffer(composite)).isEqualTo(COMPOSITE_SRZ.toByteBuffer(composite));
+	}
+
+	@Test
+	public void should_return_null_for_null_key() throws Exception {
+		assertThat(serializer.toByteBuffer(null)).isNull();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void should_exception_when_deserializing() throws Exception {
+		serializer.fromByteBuffer(ByteBuffer.allocate(8));
+	}
+}
@@ -22,12 +22,9 @@ import static info.archinnov.achilles.table.TableNameNormalizer.normalizerAndVal
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
 import static org.fest.assertions.api.Assertions.assertThat;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ThriftBatchingFlushContext;
-import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
-import info.archinnov.achilles.embedded.ThriftEmbeddedServer;
 import info.archinnov.achilles.entity.manager.ThriftBatchingPersistenceManager;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManager;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManagerFactory;
@@ -41,16 +38,16 @@ import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.integration.entity.Tweet;
 import info.archinnov.achilles.test.integration.entity.User;
 import info.archinnov.achilles.test.integration.utils.CassandraLogAsserter;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.List;
 import java.util.Map;
 
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.mutation.Mutator;
 
-import org.apache.cassandra.utils.Pair;
 import org.apache.commons.lang.math.RandomUtils;
-import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -72,8 +69,6 @@ public class BatchModeIT {
 
 	private ThriftCounterDao thriftCounterDao = resource.getCounterDao();
 
-	private ThriftConsistencyLevelPolicy policy = resource.getConsistencyPolicy();
-
 	private ThriftGenericEntityDao completeBeanDao = resource.getEntityDao(
 			normalizerAndValidateColumnFamilyName(CompleteBean.class.getCanonicalName()), Long.class);
 
@@ -166,7 +161,6 @@ public class BatchModeIT {
 		assertThat(foundUser.getFirstname()).isEqualTo("fn");
 		assertThat(foundUser.getLastname()).isEqualTo("ln");
 		assertThatBatchContextHasBeenReset(batchEm);
-		assertThatConsistencyLevelHasBeenReset();
 	}
 
 	@Test
@@ -183,7 +177,6 @@ public class BatchModeIT {
 		} catch (AchillesException e) {
 			batchEm.cleanBatch();
 			assertThatBatchContextHasBeenReset(batchEm);
-			assertThatConsistencyLevelHasBeenReset();
 
 			assertThat(batchEm.find(Tweet.class, tweet.getId())).isNull();
 		}
@@ -234,7 +227,6 @@ public class BatchModeIT {
 
 		logAsserter.assertConsistencyLevels(QUORUM, QUORUM);
 		assertThatBatchContextHasBeenReset(batchEm);
-		assertThatConsistencyLevelHasBeenReset();
 	}
 
 	@Test
@@ -255,30 +247,23 @@ public class BatchModeIT {
 			batchEm.endBatch();
 		} catch (Exception e) {
 			assertThatBatchContextHasBeenReset(batchEm);
-			assertThatConsistencyLevelHasBeenReset();
 		}
 
 		Thread.sleep(1000);
 		logAsserter.prepareLogLevel();
 		batchEm.persist(tweet2);
 		logAsserter.assertConsistencyLevels(QUORUM, QUORUM);
-		assertThatConsistencyLevelHasBeenReset();
-	}
-
-	private void assertThatConsistencyLevelHasBeenReset() {
-		assertThat(policy.getCurrentReadLevel()).isNull();
-		assertThat(policy.getCurrentWriteLevel()).isNull();
 	}
 
 	private void assertThatBatchContextHasBeenReset(ThriftBatchingPersistenceManager batchEm) {
 		ThriftBatchingFlushContext flushContext = Whitebox.getInternalState(batchEm, "flushContext");
-		Map<String, Pair<Mutator<?>, ThriftAbstractDao>> mutatorMap = Whitebox.getInternalState(flushContext,
-				"mutatorMap");
-		boolean hasCustomConsistencyLevels = (Boolean) Whitebox.getInternalState(flushContext,
-				"hasCustomConsistencyLevels");
+		Map<ConsistencyLevel, Mutator<Object>> mutatorMap = Whitebox.getInternalState(flushContext, "mutatorMap");
+		List<Mutator<Object>> mutators = Whitebox.getInternalState(flushContext, "mutators");
+		ConsistencyLevel consistencyLevel = Whitebox.getInternalState(flushContext, "consistencyLevel");
 
 		assertThat(mutatorMap).isEmpty();
-		assertThat(hasCustomConsistencyLevels).isFalse();
+		assertThat(mutators).isEmpty();
+		assertThat(consistencyLevel).isNull();
 
 	}
 
@@ -294,10 +279,4 @@ public class BatchModeIT {
 		composite.addComponent(0, propertyName, ComponentEquality.EQUAL);
 		return composite;
 	}
-
-	@AfterClass
-	public static void cleanUp() {
-		ThriftEmbeddedServer.policy().reinitCurrentConsistencyLevels();
-		ThriftEmbeddedServer.policy().reinitDefaultConsistencyLevels();
-	}
 }
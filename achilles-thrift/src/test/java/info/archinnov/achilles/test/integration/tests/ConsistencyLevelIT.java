@@ -18,8 +18,6 @@ package info.archinnov.achilles.test.integration.tests;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
-import info.archinnov.achilles.embedded.ThriftEmbeddedServer;
 import info.archinnov.achilles.entity.manager.ThriftBatchingPersistenceManager;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManager;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManagerFactory;
@@ -38,8 +36,6 @@ import info.archinnov.achilles.type.OptionsBuilder;
 import me.prettyprint.hector.api.exceptions.HInvalidRequestException;
 
 import org.apache.commons.lang.math.RandomUtils;
-import org.junit.After;
-import org.junit.AfterClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -58,8 +54,6 @@ public class ConsistencyLevelIT {
 
 	private ThriftPersistenceManager manager = resource.getPersistenceManager();
 
-	private ThriftConsistencyLevelPolicy policy = resource.getConsistencyPolicy();
-
 	private CassandraLogAsserter logAsserter = new CassandraLogAsserter();
 
 	private Long id = RandomUtils.nextLong();
@@ -75,7 +69,6 @@ public class ConsistencyLevelIT {
 				.expectMessage("InvalidRequestException(why:consistency level LOCAL_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 
 		manager.persist(bean);
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -94,7 +87,6 @@ public class ConsistencyLevelIT {
 						+ "'. Cause : InvalidRequestException(why:consistency level LOCAL_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy)");
 
 		manager.find(EntityWithWriteOneAndReadLocalQuorumConsistency.class, id);
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -118,7 +110,6 @@ public class ConsistencyLevelIT {
 
 		assertThat(newBean).isNotNull();
 		assertThat(newBean.getName()).isEqualTo("name");
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -133,8 +124,6 @@ public class ConsistencyLevelIT {
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
 
-		assertThatConsistencyLevelsAreReinitialized();
-
 		logAsserter.prepareLogLevel();
 		manager.persist(entity, OptionsBuilder.withConsistency(ALL));
 		CompleteBean found = manager.find(CompleteBean.class, entity.getId());
@@ -153,7 +142,6 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 
 		logAsserter.prepareLogLevel();
 		manager.merge(entity, OptionsBuilder.withConsistency(ALL));
@@ -178,7 +166,6 @@ public class ConsistencyLevelIT {
 									+ entity.getId()
 									+ "'. Cause : InvalidRequestException(why:EACH_QUORUM ConsistencyLevel is only supported for writes)");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 		logAsserter.prepareLogLevel();
 		CompleteBean found = manager.find(CompleteBean.class, entity.getId(), ConsistencyLevel.ALL);
 		assertThat(found.getName()).isEqualTo("name rtprt");
@@ -201,7 +188,6 @@ public class ConsistencyLevelIT {
 									+ entity.getId()
 									+ "'. Cause : InvalidRequestException(why:EACH_QUORUM ConsistencyLevel is only supported for writes)");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 		logAsserter.prepareLogLevel();
 		manager.refresh(entity, ConsistencyLevel.ALL);
 		logAsserter.assertConsistencyLevels(ConsistencyLevel.ALL, ConsistencyLevel.QUORUM);
@@ -219,7 +205,6 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 		logAsserter.prepareLogLevel();
 		manager.remove(entity, ConsistencyLevel.ALL);
 		assertThat(manager.find(CompleteBean.class, entity.getId())).isNull();
@@ -236,7 +221,6 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 		logAsserter.prepareLogLevel();
 		manager.merge(entity, OptionsBuilder.withConsistency(ALL));
 		CompleteBean found = manager.find(CompleteBean.class, entity.getId());
@@ -269,7 +253,6 @@ public class ConsistencyLevelIT {
 			assertThat(e).hasMessage(
 					"InvalidRequestException(why:EACH_QUORUM ConsistencyLevel is only supported for writes)");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -283,7 +266,6 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -297,7 +279,6 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -311,7 +292,6 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -325,23 +305,5 @@ public class ConsistencyLevelIT {
 					.hasMessage(
 							"InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 		}
-		assertThatConsistencyLevelsAreReinitialized();
-	}
-
-	private void assertThatConsistencyLevelsAreReinitialized() {
-		assertThat(policy.getCurrentReadLevel()).isNull();
-		assertThat(policy.getCurrentWriteLevel()).isNull();
-	}
-
-	@After
-	public void cleanThreadLocals() {
-		policy.reinitCurrentConsistencyLevels();
-		policy.reinitDefaultConsistencyLevels();
-	}
-
-	@AfterClass
-	public static void cleanUp() {
-		ThriftEmbeddedServer.policy().reinitCurrentConsistencyLevels();
-		ThriftEmbeddedServer.policy().reinitDefaultConsistencyLevels();
 	}
 }
@@ -19,7 +19,6 @@ package info.archinnov.achilles.test.integration.tests;
 import static info.archinnov.achilles.test.integration.entity.ClusteredEntity.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.manager.ThriftBatchingPersistenceManager;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManager;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManagerFactory;
@@ -48,8 +47,6 @@ public class ConsistencyLevelPriorityOrderingIT {
 
 	private ThriftPersistenceManager manager = resource.getPersistenceManager();
 
-	private ThriftConsistencyLevelPolicy policy = resource.getConsistencyPolicy();
-
 	private CassandraLogAsserter logAsserter = new CassandraLogAsserter();
 
 	// Normal type
@@ -71,7 +68,6 @@ public class ConsistencyLevelPriorityOrderingIT {
 		logAsserter.assertConsistencyLevels(ONE, ONE);
 		batchEm.endBatch();
 
-		assertThatConsistencyLevelsAreReinitialized();
 		assertThat(entity.getName()).isEqualTo("name");
 
 		expectedEx.expect(AchillesException.class);
@@ -116,7 +112,6 @@ public class ConsistencyLevelPriorityOrderingIT {
 		logAsserter.prepareLogLevel();
 		assertThat(counter.get()).isEqualTo(10L);
 		logAsserter.assertConsistencyLevels(ONE, ONE);
-		assertThatConsistencyLevelsAreReinitialized();
 	}
 
 	@Test
@@ -189,10 +184,4 @@ public class ConsistencyLevelPriorityOrderingIT {
 
 		batchEm.sliceQuery(ClusteredEntity.class).partitionKey(11L).consistencyLevel(EACH_QUORUM).get(10);
 	}
-
-	private void assertThatConsistencyLevelsAreReinitialized() {
-		assertThat(policy.getCurrentReadLevel()).isNull();
-		assertThat(policy.getCurrentWriteLevel()).isNull();
-	}
-
 }
@@ -26,6 +26,7 @@ import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.manager.ThriftPersistenceManager;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.junit.AchillesInternalThriftResource;
 import info.archinnov.achilles.junit.AchillesTestResource.Steps;
 import info.archinnov.achilles.proxy.ThriftEntityInterceptor;
@@ -36,6 +37,7 @@ import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.integration.entity.Tweet;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
@@ -206,6 +208,25 @@ public class EmOperationsIT {
 		assertThat(found).isInstanceOf(Factory.class);
 	}
 
+	@Test
+	public void should_find_many_by_primary_keys() throws Exception {
+		CompleteBean bean1 = CompleteBeanTestBuilder.builder().randomId().name("John").buid();
+		CompleteBean bean2 = CompleteBeanTestBuilder.builder().randomId().name("Helen").buid();
+
+		manager.persist(bean1);
+		manager.persist(bean2);
+
+		List<CompleteBean> found = manager.find(CompleteBean.class,
+				Arrays.asList(bean2.getId(), RandomUtils.nextLong(), bean1.getId()));
+
+		assertThat(found).hasSize(2);
+		assertThat(found.get(0)).isInstanceOf(Factory.class);
+		assertThat(found.get(0).getId()).isEqualTo(bean2.getId());
+		assertThat(found.get(0).getName()).isEqualTo("Helen");
+		assertThat(found.get(1).getId()).isEqualTo(bean1.getId());
+		assertThat(found.get(1).getName()).isEqualTo("John");
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Test
 	public void should_find_lazy_simple() throws Exception {
@@ -516,7 +537,7 @@ public class EmOperationsIT {
 
 	}
 
-	@Test(expected = RuntimeException.class)
+	@Test(expected = AchillesStaleObjectStateException.class)
 	public void should_exception_when_staled_object_during_refresh() throws Exception {
 
 		CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();